@@ -31,6 +31,7 @@ import com.google.api.services.storage.Storage.Objects.Get;
 import com.google.api.services.storage.model.StorageObject;
 import com.google.cloud.storage.Conversions.Decoder;
 import com.google.cloud.storage.Retrying.Retrier;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
 import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
 import com.google.cloud.storage.spi.v1.StorageRpc;
 import com.google.common.annotations.VisibleForTesting;
@@ -68,6 +69,8 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
   private final SettableApiFuture<StorageObject> result;
   private final ResultRetryAlgorithm<?> resultRetryAlgorithm;
   private final Retrier retrier;
+  private final TransferPhaseListener phaseListener;
+  private final boolean phaseTimingEnabled;
 
   private long position;
   private ScatteringByteChannel sbc;
@@ -77,12 +80,34 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
   // returned X-Goog-Generation header value
   private Long xGoogGeneration;
 
+  // phase timing, only read or written when phaseTimingEnabled. 0 means "not yet observed"
+  private long readBeginNanos;
+  private long firstByteNanos;
+  private long retryBeginNanos;
+  private boolean transferRecorded;
+
   ApiaryUnbufferedReadableByteChannel(
       ApiaryReadRequest apiaryReadRequest,
       Storage storage,
       SettableApiFuture<StorageObject> result,
       Retrier retrier,
       ResultRetryAlgorithm<?> resultRetryAlgorithm) {
+    this(
+        apiaryReadRequest,
+        storage,
+        result,
+        retrier,
+        resultRetryAlgorithm,
+        TransferPhaseListener.noop());
+  }
+
+  ApiaryUnbufferedReadableByteChannel(
+      ApiaryReadRequest apiaryReadRequest,
+      Storage storage,
+      SettableApiFuture<StorageObject> result,
+      Retrier retrier,
+      ResultRetryAlgorithm<?> resultRetryAlgorithm,
+      TransferPhaseListener phaseListener) {
     this.apiaryReadRequest = apiaryReadRequest;
     this.storage = storage;
     this.result = result;
@@ -101,6 +126,8 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
     this.open = true;
     this.returnEOF = false;
     this.position = apiaryReadRequest.getByteRangeSpec().beginOffset();
+    this.phaseListener = phaseListener;
+    this.phaseTimingEnabled = TransferPhaseListeners.isEnabled(phaseListener);
   }
 
   @Override
@@ -111,10 +138,17 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
     } else if (!open) {
       throw new ClosedChannelException();
     }
+    if (phaseTimingEnabled && readBeginNanos == 0) {
+      readBeginNanos = System.nanoTime();
+    }
     long totalRead = 0;
     do {
       if (sbc == null) {
         sbc = retrier.run(resultRetryAlgorithm, this::open, Decoder.identity());
+        if (phaseTimingEnabled && retryBeginNanos != 0) {
+          phaseListener.onPhase(Phase.READ_RETRY, System.nanoTime() - retryBeginNanos);
+          retryBeginNanos = 0;
+        }
       }
 
       long totalRemaining = Buffers.totalRemaining(dsts, offset, length);
@@ -126,6 +160,9 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
         long read = sbc.read(dsts, offset, length);
         if (read == -1) {
           returnEOF = true;
+          if (phaseTimingEnabled) {
+            recordTransferEnd();
+          }
         } else {
           totalRead += read;
         }
@@ -135,10 +172,12 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
           // if our retry algorithm COULD allow a retry, continue the loop and allow trying to
           // open the stream again.
           sbc = null;
+          markRetryBegin();
         } else if (t instanceof IOException) {
           IOException ioE = (IOException) t;
           if (resultRetryAlgorithm.shouldRetry(StorageException.translate(ioE), null)) {
             sbc = null;
+            markRetryBegin();
           } else {
             throw ioE;
           }
@@ -151,6 +190,10 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
         if (delta > 0) {
           position += delta;
           totalRead += delta;
+          if (phaseTimingEnabled && firstByteNanos == 0) {
+            firstByteNanos = System.nanoTime();
+            phaseListener.onPhase(Phase.READ_FIRST_BYTE, firstByteNanos - readBeginNanos);
+          }
         }
       }
     } while (true);
@@ -164,11 +207,27 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
   @Override
   public void close() throws IOException {
     open = false;
+    if (phaseTimingEnabled) {
+      recordTransferEnd();
+    }
     if (sbc != null) {
       sbc.close();
     }
   }
 
+  private void markRetryBegin() {
+    if (phaseTimingEnabled && retryBeginNanos == 0) {
+      retryBeginNanos = System.nanoTime();
+    }
+  }
+
+  private void recordTransferEnd() {
+    if (!transferRecorded && firstByteNanos != 0) {
+      transferRecorded = true;
+      phaseListener.onPhase(Phase.READ_TRANSFER, System.nanoTime() - firstByteNanos);
+    }
+  }
+
   private void setXGoogGeneration(long xGoogGeneration) {
     this.xGoogGeneration = xGoogGeneration;
   }
@@ -178,7 +237,11 @@ class ApiaryUnbufferedReadableByteChannel implements UnbufferedReadableByteChann
       ApiaryReadRequest request = apiaryReadRequest.withNewBeginOffset(position);
       Get get = createGetRequest(request, storage.objects(), xGoogGeneration);
 
+      long openBegin = phaseTimingEnabled ? System.nanoTime() : 0L;
       HttpResponse media = get.executeMedia();
+      if (phaseTimingEnabled) {
+        phaseListener.onPhase(Phase.READ_OPEN, System.nanoTime() - openBegin);
+      }
       InputStream content = media.getContent();
       if (xGoogGeneration == null) {
         HttpHeaders responseHeaders = media.getHeaders();
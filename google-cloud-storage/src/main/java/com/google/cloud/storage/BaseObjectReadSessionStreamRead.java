@@ -17,6 +17,7 @@
 package com.google.cloud.storage;
 
 import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
 import com.google.api.core.InternalApi;
 import com.google.api.core.InternalExtensionOnly;
 import com.google.api.core.SettableApiFuture;
@@ -32,10 +33,12 @@ import com.google.storage.v2.ReadRange;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ScatteringByteChannel;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -45,7 +48,10 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 @InternalApi
@@ -505,6 +511,299 @@ abstract class BaseObjectReadSessionStreamRead<Projection>
     }
   }
 
+  /**
+   * A read which publishes each message to a {@link ReadPublisher.Subscriber} as it is demanded.
+   *
+   * <p>Messages are buffered until they can be delivered, and {@link #demandsMore()} only returns
+   * true while the number of buffered messages is less than the outstanding demand, allowing the
+   * stream to stop requesting messages from gRPC until the subscriber catches up.
+   */
+  static final class PublishingRead extends BaseObjectReadSessionStreamRead<ReadPublisher>
+      implements ReadPublisher, ReadPublisher.Subscription {
+
+    private final Hasher hasher;
+    private final AtomicLong readId;
+    private final ReentrantLock lock;
+    private final AtomicInteger wip;
+    private final AtomicBoolean subscribed;
+
+    // all guarded by lock
+    private final ArrayDeque<ChildRef> buffer;
+    private long requested;
+    private boolean eof;
+    @Nullable private Throwable failure;
+    @Nullable private Runnable onDemand;
+
+    @Nullable private volatile Subscriber subscriber;
+
+    PublishingRead(
+        long readId,
+        RangeSpec rangeSpec,
+        Hasher hasher,
+        RetryContext retryContext,
+        IOAutoCloseable onCloseCallback) {
+      super(rangeSpec, retryContext, onCloseCallback);
+      this.readId = new AtomicLong(readId);
+      this.hasher = hasher;
+      this.lock = new ReentrantLock();
+      this.wip = new AtomicInteger(0);
+      this.subscribed = new AtomicBoolean(false);
+      this.buffer = new ArrayDeque<>();
+      this.requested = 0;
+      this.eof = false;
+      this.failure = null;
+      this.onDemand = null;
+    }
+
+    @Override
+    long readId() {
+      return readId.get();
+    }
+
+    @Override
+    public Hasher hasher() {
+      return hasher;
+    }
+
+    @Override
+    public ReadPublisher project() {
+      return this;
+    }
+
+    @Override
+    public void subscribe(Subscriber subscriber) {
+      Preconditions.checkNotNull(subscriber, "subscriber must be non null");
+      if (!subscribed.compareAndSet(false, true)) {
+        subscriber.onSubscribe(ReadChannelPublisher.NoopSubscription.INSTANCE);
+        subscriber.onError(new IllegalStateException("ReadPublisher already subscribed to"));
+        return;
+      }
+      this.subscriber = subscriber;
+      subscriber.onSubscribe(this);
+      drain();
+    }
+
+    @Override
+    public void request(long n) {
+      Runnable toRun = null;
+      lock.lock();
+      try {
+        if (closed) {
+          return;
+        }
+        if (n <= 0) {
+          if (failure == null) {
+            failure =
+                new IllegalArgumentException(
+                    String.format("request(n) must be positive (n = %d)", n));
+          }
+        } else {
+          long sum = requested + n;
+          // saturate rather than overflow, Long.MAX_VALUE is treated as unbounded
+          requested = sum < 0 ? Long.MAX_VALUE : sum;
+        }
+        if (onDemand != null && demandsMoreLocked()) {
+          toRun = onDemand;
+          onDemand = null;
+        }
+      } finally {
+        lock.unlock();
+      }
+      drain();
+      if (toRun != null) {
+        toRun.run();
+      }
+    }
+
+    @Override
+    public void cancel() {
+      try {
+        close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    public boolean acceptingBytes() {
+      return !closed && !tombstoned;
+    }
+
+    @Override
+    public boolean demandsMore() {
+      lock.lock();
+      try {
+        return demandsMoreLocked();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void whenDemandsMore(Runnable runnable) {
+      lock.lock();
+      try {
+        if (!demandsMoreLocked()) {
+          onDemand = runnable;
+          return;
+        }
+      } finally {
+        lock.unlock();
+      }
+      runnable.run();
+    }
+
+    @Override
+    public void accept(ChildRef childRef) throws IOException {
+      retryContext.reset();
+      int size = childRef.byteString().size();
+      lock.lock();
+      try {
+        if (closed) {
+          childRef.close();
+          return;
+        }
+        buffer.addLast(childRef);
+        readOffset.addAndGet(size);
+      } finally {
+        lock.unlock();
+      }
+      drain();
+    }
+
+    @Override
+    public void eof() throws IOException {
+      retryContext.reset();
+      lock.lock();
+      try {
+        eof = true;
+      } finally {
+        lock.unlock();
+      }
+      drain();
+    }
+
+    @Override
+    public ApiFuture<?> fail(Throwable t) {
+      lock.lock();
+      try {
+        if (failure == null) {
+          failure = StorageException.coalesce(t);
+        }
+      } finally {
+        lock.unlock();
+      }
+      drain();
+      return ApiFutures.immediateFuture(null);
+    }
+
+    @Override
+    public PublishingRead withNewReadId(long newReadId) {
+      readId.set(newReadId);
+      return this;
+    }
+
+    @Override
+    public boolean canShareStreamWith(ObjectReadSessionStreamRead<?> other) {
+      return false;
+    }
+
+    @Override
+    public void internalClose() throws IOException {
+      List<ChildRef> toClose;
+      Runnable toRun;
+      lock.lock();
+      try {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        toClose = new ArrayList<>(buffer);
+        buffer.clear();
+        toRun = onDemand;
+        onDemand = null;
+      } finally {
+        lock.unlock();
+      }
+      retryContext.reset();
+      try {
+        GrpcUtils.closeAll(toClose);
+      } finally {
+        // a closed read no longer holds back its stream
+        if (toRun != null) {
+          toRun.run();
+        }
+      }
+    }
+
+    private boolean demandsMoreLocked() {
+      return closed || buffer.size() < requested;
+    }
+
+    /**
+     * Deliver as many signals to the subscriber as demand allows. Only a single thread will ever be
+     * delivering signals, any thread which arrives while another is delivering will leave the work
+     * to that thread.
+     */
+    private void drain() {
+      if (wip.getAndIncrement() != 0) {
+        return;
+      }
+      int missed = 1;
+      do {
+        Subscriber s = subscriber;
+        if (s != null) {
+          drainTo(s);
+        }
+        missed = wip.addAndGet(-missed);
+      } while (missed != 0);
+    }
+
+    private void drainTo(Subscriber s) {
+      while (true) {
+        ChildRef next = null;
+        Throwable terminalFailure = null;
+        boolean complete = false;
+        lock.lock();
+        try {
+          if (closed) {
+            return;
+          } else if (failure != null) {
+            terminalFailure = failure;
+          } else if (!buffer.isEmpty() && requested > 0) {
+            next = buffer.pollFirst();
+            if (requested != Long.MAX_VALUE) {
+              requested--;
+            }
+          } else if (eof && buffer.isEmpty()) {
+            complete = true;
+          } else {
+            return;
+          }
+        } finally {
+          lock.unlock();
+        }
+
+        if (next != null) {
+          try {
+            s.onNext(next);
+          } catch (RuntimeException e) {
+            cancel();
+            throw e;
+          }
+        } else {
+          cancel();
+          if (terminalFailure != null) {
+            s.onError(terminalFailure);
+          } else if (complete) {
+            s.onComplete();
+          }
+          return;
+        }
+      }
+    }
+  }
+
   static final class ByteArrayAccumulatingRead extends AccumulatingRead<byte[]> {
 
     ByteArrayAccumulatingRead(
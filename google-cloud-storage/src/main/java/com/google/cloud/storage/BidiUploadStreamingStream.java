@@ -326,7 +326,8 @@ final class BidiUploadStreamingStream {
   }
 
   private StreamTuple initStreamTuple() {
-    GrpcCallContext grpcCallContext = state.enqueueFirstMessageAndGetGrpcCallContext();
+    GrpcCallContext grpcCallContext =
+        StorageChannelPool.registerStream(state.enqueueFirstMessageAndGetGrpcCallContext());
     StreamingResponseObserver streamResponseObserver =
         new StreamingResponseObserver(state, retryContext, onSuccess, onFailure);
     RedirectHandlingResponseObserver responseObserver =
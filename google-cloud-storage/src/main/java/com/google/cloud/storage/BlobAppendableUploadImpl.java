@@ -29,20 +29,25 @@ import java.util.concurrent.locks.ReentrantLock;
 final class BlobAppendableUploadImpl implements BlobAppendableUpload {
   private final WritableByteChannelSession<AppendableObjectBufferedWritableByteChannel, BlobInfo>
       delegate;
+  private final ReentrantLock lock;
   private boolean open;
 
   BlobAppendableUploadImpl(
       WritableByteChannelSession<AppendableObjectBufferedWritableByteChannel, BlobInfo> delegate) {
     this.delegate = delegate;
+    this.lock = new ReentrantLock();
     this.open = false;
   }
 
   @Override
   public AppendableUploadWriteableByteChannel open() throws IOException {
-    synchronized (this) {
+    lock.lock();
+    try {
       Preconditions.checkState(!open, "already open");
       open = true;
       return delegate.open();
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -860,7 +860,7 @@ public class BlobInfo implements Serializable {
     @Override
     public Builder setBlobId(BlobId blobId) {
       checkNotNull(blobId);
-      if (!Objects.equals(this.blobId, blobId)) {
+      if (this.blobId != null && !Objects.equals(this.blobId, blobId)) {
         if (!Objects.equals(this.blobId.getBucket(), blobId.getBucket())) {
           modifiedFields.add(BlobField.BUCKET);
         }
@@ -213,7 +213,7 @@ final class BlobReadChannelV2 extends BaseStorageReadChannel<StorageObject> {
       return new BlobReadChannelContext(
           options,
           options.getRetryAlgorithmManager(),
-          HttpClientContext.from(options.getStorageRpcV1()),
+          HttpClientContext.from(options.getStorageRpcV1()).withPhaseListener(s.phaseListener),
           options.getStorageRpcV1().getStorage(),
           s.retrier);
     }
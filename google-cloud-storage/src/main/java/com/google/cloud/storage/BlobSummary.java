@@ -0,0 +1,369 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.Storage.BlobField;
+import com.google.cloud.storage.UnifiedOpts.NamedField;
+import com.google.cloud.storage.UnifiedOpts.ObjectListOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableSet;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.stream.Stream;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A compact summary of an object returned from {@link Storage#listSummaries(String,
+ * Storage.BlobListOption...)}.
+ *
+ * <p>Unlike {@link BlobInfo}, a summary only carries the identity, size, checksums and update time
+ * of an object, and does not hold a reference to a {@link Storage} instance. Listing summaries
+ * requests only these fields from Cloud Storage, which greatly reduces the amount of data
+ * transferred and decoded when scanning large numbers of objects.
+ *
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class BlobSummary {
+
+  /** The fields requested from Cloud Storage when listing summaries. */
+  static final Opts<ObjectListOpt> FIELDS =
+      Opts.from(
+          UnifiedOpts.fields(
+              Stream.concat(
+                      Stream.of(
+                          NamedField.literal("nextPageToken"), NamedField.literal("prefixes")),
+                      Stream.of(
+                              BlobField.BUCKET,
+                              BlobField.NAME,
+                              BlobField.GENERATION,
+                              BlobField.METAGENERATION,
+                              BlobField.SIZE,
+                              BlobField.CRC32C,
+                              BlobField.MD5HASH,
+                              BlobField.UPDATED)
+                          .map(f -> NamedField.prefixed("items/", f)))
+                  .collect(ImmutableSet.toImmutableSet())));
+
+  private static final long NO_VALUE = Long.MIN_VALUE;
+
+  @NonNull private final String bucket;
+  @NonNull private final String name;
+  private final long generation;
+  private final long metageneration;
+  private final long size;
+  @Nullable private final String crc32c;
+  @Nullable private final String md5;
+  private final long updateTimeSeconds;
+  private final int updateTimeNanos;
+  private final boolean directory;
+
+  private BlobSummary(
+      @NonNull String bucket,
+      @NonNull String name,
+      long generation,
+      long metageneration,
+      long size,
+      @Nullable String crc32c,
+      @Nullable String md5,
+      long updateTimeSeconds,
+      int updateTimeNanos,
+      boolean directory) {
+    this.bucket = requireNonNull(bucket, "bucket must be non null");
+    this.name = requireNonNull(name, "name must be non null");
+    this.generation = generation;
+    this.metageneration = metageneration;
+    this.size = size;
+    this.crc32c = crc32c;
+    this.md5 = md5;
+    this.updateTimeSeconds = updateTimeSeconds;
+    this.updateTimeNanos = updateTimeNanos;
+    this.directory = directory;
+  }
+
+  /**
+   * The name of the bucket containing the object.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getBucket() {
+    return bucket;
+  }
+
+  /**
+   * The name of the object.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getName() {
+    return name;
+  }
+
+  /**
+   * The generation of the object, or {@code null} if not available.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Long getGeneration() {
+    return generation == NO_VALUE ? null : generation;
+  }
+
+  /**
+   * The metageneration of the object, or {@code null} if not available.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Long getMetageneration() {
+    return metageneration == NO_VALUE ? null : metageneration;
+  }
+
+  /**
+   * The size of the object in bytes, or {@code null} if not available.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Long getSize() {
+    return size == NO_VALUE ? null : size;
+  }
+
+  /**
+   * The CRC32C checksum of the object, encoded in base64 in big-endian order, or {@code null} if
+   * not available.
+   *
+   * @see BlobInfo#getCrc32c()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable String getCrc32c() {
+    return crc32c;
+  }
+
+  /**
+   * The MD5 hash of the object, encoded in base64, or {@code null} if not available.
+   *
+   * @see BlobInfo#getMd5()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable String getMd5() {
+    return md5;
+  }
+
+  /**
+   * The last time the object's metadata was modified, or {@code null} if not available.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable OffsetDateTime getUpdateTime() {
+    if (updateTimeSeconds == NO_VALUE) {
+      return null;
+    }
+    return Instant.ofEpochSecond(updateTimeSeconds, updateTimeNanos).atOffset(ZoneOffset.UTC);
+  }
+
+  /**
+   * Whether this summary represents a synthetic directory, produced when listing with a delimiter.
+   *
+   * @see Storage.BlobListOption#currentDirectory()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isDirectory() {
+    return directory;
+  }
+
+  /**
+   * The {@link BlobId} of the object, including its generation if available.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull BlobId getBlobId() {
+    return BlobId.of(bucket, name, getGeneration());
+  }
+
+  /**
+   * Create a {@link BlobInfo} populated with the values of this summary.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull BlobInfo asBlobInfo() {
+    BlobInfo.Builder b = BlobInfo.newBuilder(getBlobId());
+    if (metageneration != NO_VALUE) {
+      b.setMetageneration(metageneration);
+    }
+    if (size != NO_VALUE) {
+      b.setSize(size);
+    }
+    if (crc32c != null) {
+      b.setCrc32c(crc32c);
+    }
+    if (md5 != null) {
+      b.setMd5(md5);
+    }
+    OffsetDateTime updateTime = getUpdateTime();
+    if (updateTime != null) {
+      b.setUpdateTimeOffsetDateTime(updateTime);
+    }
+    if (directory) {
+      b.setIsDirectory(true);
+    }
+    return b.build();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BlobSummary)) {
+      return false;
+    }
+    BlobSummary that = (BlobSummary) o;
+    return generation == that.generation
+        && metageneration == that.metageneration
+        && size == that.size
+        && updateTimeSeconds == that.updateTimeSeconds
+        && updateTimeNanos == that.updateTimeNanos
+        && directory == that.directory
+        && bucket.equals(that.bucket)
+        && name.equals(that.name)
+        && Objects.equals(crc32c, that.crc32c)
+        && Objects.equals(md5, that.md5);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        bucket,
+        name,
+        generation,
+        metageneration,
+        size,
+        crc32c,
+        md5,
+        updateTimeSeconds,
+        updateTimeNanos,
+        directory);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("bucket", bucket)
+        .add("name", name)
+        .add("generation", getGeneration())
+        .add("metageneration", getMetageneration())
+        .add("size", getSize())
+        .add("crc32c", crc32c)
+        .add("md5", md5)
+        .add("updateTime", getUpdateTime())
+        .add("directory", directory)
+        .toString();
+  }
+
+  static Builder newBuilder(@NonNull String bucket, @NonNull String name) {
+    return new Builder(bucket, name);
+  }
+
+  static BlobSummary directory(@NonNull String bucket, @NonNull String prefix) {
+    return new Builder(bucket, prefix).setSize(0L).setDirectory(true).build();
+  }
+
+  /** Package private builder used by the transport specific decoders. */
+  static final class Builder {
+    private final String bucket;
+    private final String name;
+    private long generation = NO_VALUE;
+    private long metageneration = NO_VALUE;
+    private long size = NO_VALUE;
+    @Nullable private String crc32c;
+    @Nullable private String md5;
+    private long updateTimeSeconds = NO_VALUE;
+    private int updateTimeNanos;
+    private boolean directory;
+
+    private Builder(String bucket, String name) {
+      this.bucket = bucket;
+      this.name = name;
+    }
+
+    Builder setGeneration(long generation) {
+      this.generation = generation;
+      return this;
+    }
+
+    Builder setMetageneration(long metageneration) {
+      this.metageneration = metageneration;
+      return this;
+    }
+
+    Builder setSize(long size) {
+      this.size = size;
+      return this;
+    }
+
+    Builder setCrc32c(@Nullable String crc32c) {
+      this.crc32c = crc32c;
+      return this;
+    }
+
+    Builder setMd5(@Nullable String md5) {
+      this.md5 = md5;
+      return this;
+    }
+
+    Builder setUpdateTime(long epochSeconds, int nanos) {
+      this.updateTimeSeconds = epochSeconds;
+      this.updateTimeNanos = nanos;
+      return this;
+    }
+
+    Builder setDirectory(boolean directory) {
+      this.directory = directory;
+      return this;
+    }
+
+    BlobSummary build() {
+      return new BlobSummary(
+          bucket,
+          name,
+          generation,
+          metageneration,
+          size,
+          crc32c,
+          md5,
+          updateTimeSeconds,
+          updateTimeNanos,
+          directory);
+    }
+  }
+}
@@ -28,6 +28,7 @@ import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.zip.Deflater;
 
 /**
  * Factory class to select and construct {@link BlobWriteSessionConfig}s.
@@ -103,6 +104,36 @@ import java.util.Collection;
  *     <td><a href="https://cloud.google.com/storage/docs/resumable-uploads">Resumable Upload</a></td>
  *   </tr>
  *   <tr>
+ *     <td>Spill to disk while uploading</td>
+ *     <td>
+ *       <ul>
+ *         <li>{@link #spillToDisk(Path)}</li>
+ *         <li>{@link #spillToDisk(Collection) spillToDisk(Collection&lt;Path>)}</li>
+ *       </ul>
+ *     </td>
+ *     <td>
+ *       Upload bytes in the background as they are written, buffering up to a configurable
+ *       amount of bytes in memory. If the upload falls behind and memory is full, bytes are
+ *       appended to a temporary file on disk and uploaded from there. Writes never wait on the
+ *       network. Delete the temporary file on {@link WritableByteChannel#close() close()}.
+ *     </td>
+ *     <td>gRPC, HTTP</td>
+ *     <td>
+ *       <ol>
+ *         <li>A Resumable Upload Session will be used to upload the bytes.</li>
+ *         <li>
+ *           Memory usage is bounded by the in-memory buffer, disk usage is bounded by how far
+ *           the upload falls behind the producer.
+ *         </li>
+ *       </ol>
+ *     </td>
+ *     <td>
+ *       Each chunk is retried up to the limitations specified in
+ *       {@link StorageOptions#getRetrySettings()}
+ *     </td>
+ *     <td><a href="https://cloud.google.com/storage/docs/resumable-uploads">Resumable Upload</a></td>
+ *   </tr>
+ *   <tr>
  *     <td>Journal to disk while uploading</td>
  *     <td>{@link #journaling(Collection) journaling(Collection&lt;Path>)}</td>
  *     <td>
@@ -314,6 +345,42 @@ public final class BlobWriteSessionConfigs {
     return new BufferToDiskThenUpload(ImmutableList.copyOf(paths), false);
   }
 
+  /**
+   * Create a new {@link BlobWriteSessionConfig} which will upload the object concurrently with it
+   * being written, buffering bytes in memory and overflowing to a temporary file under {@code path}
+   * whenever the network is slower than the producer.
+   *
+   * @see SpillToDiskBlobWriteSessionConfig
+   * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.GRPC, Transport.HTTP})
+  public static SpillToDiskBlobWriteSessionConfig spillToDisk(Path path) {
+    return spillToDisk(ImmutableList.of(path));
+  }
+
+  /**
+   * Create a new {@link BlobWriteSessionConfig} which will upload the object concurrently with it
+   * being written, buffering bytes in memory and overflowing to a temporary file under one of the
+   * specified {@code paths} whenever the network is slower than the producer.
+   *
+   * <p>The specifics of how the work is spread across multiple paths is undefined and subject to
+   * change.
+   *
+   * @see SpillToDiskBlobWriteSessionConfig
+   * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.GRPC, Transport.HTTP})
+  public static SpillToDiskBlobWriteSessionConfig spillToDisk(Collection<Path> paths) {
+    return new SpillToDiskBlobWriteSessionConfig(
+        ImmutableList.copyOf(paths),
+        SpillToDiskBlobWriteSessionConfig.DEFAULT_MEMORY_BUFFER_SIZE,
+        ByteSizeConstants._16MiB);
+  }
+
   /**
    * Create a new {@link BlobWriteSessionConfig} which will journal writes to a temporary file under
    * one of the specified {@code paths} before transmitting the bytes to Cloud Storage.
@@ -346,4 +413,23 @@ public final class BlobWriteSessionConfigs {
   public static ParallelCompositeUploadBlobWriteSessionConfig parallelCompositeUpload() {
     return ParallelCompositeUploadBlobWriteSessionConfig.withDefaults();
   }
+
+  /**
+   * Factory to produce a config which gzip compresses the bytes of an object as they are written,
+   * uploading the compressed bytes using {@code delegate} and storing the object with {@code
+   * Content-Encoding: gzip}.
+   *
+   * <p>Configuration of the compression level can be performed via {@link
+   * CompressingBlobWriteSessionConfig#withCompressionLevel(int)}.
+   *
+   * @param delegate The config used to upload the compressed bytes, for example {@link
+   *     #getDefault()} or {@link #bidiWrite()}
+   * @see CompressingBlobWriteSessionConfig
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.GRPC, Transport.HTTP})
+  public static CompressingBlobWriteSessionConfig gzip(BlobWriteSessionConfig delegate) {
+    return new CompressingBlobWriteSessionConfig(delegate, Deflater.DEFAULT_COMPRESSION);
+  }
 }
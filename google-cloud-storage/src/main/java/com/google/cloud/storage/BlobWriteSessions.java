@@ -20,6 +20,7 @@ import com.google.api.core.ApiFuture;
 import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.locks.ReentrantLock;
 
 final class BlobWriteSessions {
 
@@ -29,21 +30,42 @@ final class BlobWriteSessions {
     return new WritableByteChannelSessionAdapter(s);
   }
 
-  static final class WritableByteChannelSessionAdapter implements BlobWriteSession {
+  /**
+   * Cancel the upload of {@code session} without finalizing the object, if it supports it.
+   *
+   * @see WritableByteChannelSession#cancel()
+   */
+  static void cancel(BlobWriteSession session) throws IOException {
+    if (session instanceof CancellableBlobWriteSession) {
+      ((CancellableBlobWriteSession) session).cancel();
+    }
+  }
+
+  /** A {@link BlobWriteSession} whose upload can be cancelled without finalizing the object */
+  interface CancellableBlobWriteSession extends BlobWriteSession {
+    void cancel() throws IOException;
+  }
+
+  static final class WritableByteChannelSessionAdapter implements CancellableBlobWriteSession {
     private final WritableByteChannelSession<?, BlobInfo> delegate;
+    private final ReentrantLock lock;
     private boolean open;
 
     private WritableByteChannelSessionAdapter(WritableByteChannelSession<?, BlobInfo> delegate) {
       this.delegate = delegate;
+      this.lock = new ReentrantLock();
       open = false;
     }
 
     @Override
     public WritableByteChannel open() throws IOException {
-      synchronized (this) {
+      lock.lock();
+      try {
         Preconditions.checkState(!open, "already open");
         open = true;
         return delegate.open();
+      } finally {
+        lock.unlock();
       }
     }
 
@@ -51,5 +73,10 @@ final class BlobWriteSessions {
     public ApiFuture<BlobInfo> getResult() {
       return delegate.getResult();
     }
+
+    @Override
+    public void cancel() throws IOException {
+      delegate.cancel();
+    }
   }
 }
@@ -21,6 +21,7 @@ import com.google.api.core.ApiFutures;
 import com.google.api.core.BetaApi;
 import com.google.api.core.InternalApi;
 import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ParallelCompositeUploadWriterFactory;
 import com.google.cloud.storage.RecoveryFileManager.RecoveryVolumeSinkFactory;
 import com.google.cloud.storage.Storage.BlobWriteOption;
 import com.google.cloud.storage.TransportCompatibility.Transport;
@@ -48,6 +49,7 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collector;
 import javax.annotation.concurrent.Immutable;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * There are scenarios in which disk space is more plentiful than memory space. This new {@link
@@ -56,6 +58,11 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
  *
  * <p>Once the file on disk is closed, the entire file will then be uploaded to GCS.
  *
+ * <p>By default, the file is uploaded using a single stream. For large objects, the upload can
+ * instead be performed as a parallel composite upload via {@link
+ * #withParallelCompositeUpload(ParallelCompositeUploadBlobWriteSessionConfig)}, where ranges of the
+ * file are concurrently uploaded as individual parts before being composed into the final object.
+ *
  * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
  * @see GrpcStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
  * @see BlobWriteSessionConfigs#bufferToDiskThenUpload(Path)
@@ -80,10 +87,59 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
   /** Used for {@link java.io.Serializable} */
   @MonotonicNonNull private volatile ArrayList<String> absolutePaths;
 
+  private final @Nullable ParallelCompositeUploadBlobWriteSessionConfig parallelCompositeUpload;
+
   @InternalApi
   BufferToDiskThenUpload(ImmutableList<Path> paths, boolean includeLoggingSink) throws IOException {
+    this(paths, includeLoggingSink, null);
+  }
+
+  private BufferToDiskThenUpload(
+      ImmutableList<Path> paths,
+      boolean includeLoggingSink,
+      @Nullable ParallelCompositeUploadBlobWriteSessionConfig parallelCompositeUpload) {
     this.paths = paths;
     this.includeLoggingSink = includeLoggingSink;
+    this.parallelCompositeUpload = parallelCompositeUpload;
+  }
+
+  /**
+   * The config used to upload the file as a parallel composite upload once it is closed, if any.
+   *
+   * <p><i>Default:</i> {@code null}
+   *
+   * @see #withParallelCompositeUpload(ParallelCompositeUploadBlobWriteSessionConfig)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable ParallelCompositeUploadBlobWriteSessionConfig getParallelCompositeUpload() {
+    return parallelCompositeUpload;
+  }
+
+  /**
+   * Returns a new config instance which will upload the file as a parallel composite upload once it
+   * is closed, rather than as a single stream.
+   *
+   * <p>Once the file is complete, it is split into ranges each the size of a buffer from {@code
+   * config}'s {@link
+   * ParallelCompositeUploadBlobWriteSessionConfig#withBufferAllocationStrategy(ParallelCompositeUploadBlobWriteSessionConfig.BufferAllocationStrategy)
+   * BufferAllocationStrategy}. Each range is read from the file into one of those buffers and
+   * uploaded as a part using the executor, naming, cleanup and metadata strategies of {@code
+   * config}, then all parts are composed into the final object. A bounded number of parts are
+   * uploaded at once. The composed object is validated against the CRC32C of the bytes as they were
+   * written to the file. Files no larger than a single part are uploaded using a single stream.
+   *
+   * <p>All the caveats of {@link ParallelCompositeUploadBlobWriteSessionConfig} apply. The file on
+   * disk is not deleted until the final object has been created, or the upload has failed.
+   *
+   * @param config The config to use to perform the parallel composite upload, or {@code null} to
+   *     upload using a single stream.
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BufferToDiskThenUpload withParallelCompositeUpload(
+      @Nullable ParallelCompositeUploadBlobWriteSessionConfig config) {
+    return new BufferToDiskThenUpload(paths, includeLoggingSink, config);
   }
 
   @Override
@@ -97,18 +153,19 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
     BufferToDiskThenUpload that = (BufferToDiskThenUpload) o;
     return includeLoggingSink == that.includeLoggingSink
         && Objects.equals(paths, that.paths)
-        && Objects.equals(absolutePaths, that.absolutePaths);
+        && Objects.equals(absolutePaths, that.absolutePaths)
+        && Objects.equals(parallelCompositeUpload, that.parallelCompositeUpload);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(paths, includeLoggingSink, absolutePaths);
+    return Objects.hash(paths, includeLoggingSink, absolutePaths, parallelCompositeUpload);
   }
 
   @VisibleForTesting
   @InternalApi
   BufferToDiskThenUpload withIncludeLoggingSink() throws IOException {
-    return new BufferToDiskThenUpload(paths, true);
+    return new BufferToDiskThenUpload(paths, true, parallelCompositeUpload);
   }
 
   @InternalApi
@@ -119,7 +176,11 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
         RecoveryFileManager.of(paths, getRecoverVolumeSinkFactory(clock, window));
     ThroughputSink gcs = ThroughputSink.windowed(ThroughputMovingWindow.of(window), clock);
     gcs = includeLoggingSink ? ThroughputSink.tee(ThroughputSink.logged("gcs", clock), gcs) : gcs;
-    return new Factory(recoveryFileManager, clock, gcs);
+    ParallelCompositeUploadWriterFactory pcu =
+        parallelCompositeUpload == null
+            ? null
+            : parallelCompositeUpload.createParallelCompositeUploadFactory(clock);
+    return new Factory(recoveryFileManager, clock, gcs, pcu);
   }
 
   private RecoveryVolumeSinkFactory getRecoverVolumeSinkFactory(Clock clock, Duration window) {
@@ -166,19 +227,28 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
     private final RecoveryFileManager recoveryFileManager;
     private final Clock clock;
     private final ThroughputSink gcs;
+    private final @Nullable ParallelCompositeUploadWriterFactory pcu;
 
-    private Factory(RecoveryFileManager recoveryFileManager, Clock clock, ThroughputSink gcs) {
+    private Factory(
+        RecoveryFileManager recoveryFileManager,
+        Clock clock,
+        ThroughputSink gcs,
+        @Nullable ParallelCompositeUploadWriterFactory pcu) {
       this.recoveryFileManager = recoveryFileManager;
       this.clock = clock;
       this.gcs = gcs;
+      this.pcu = pcu;
     }
 
     @InternalApi
     @Override
     public WritableByteChannelSession<?, BlobInfo> writeSession(
         StorageInternal storage, BlobInfo info, Opts<ObjectTargetOpt> opts) {
+      ThroughputSink sink =
+          ThroughputSink.tee(
+              gcs, storage.getStorageMetrics().throughputSink("buffer_to_disk_then_upload", clock));
       return new Factory.WriteToFileThenUpload(
-          storage, info, opts, recoveryFileManager.newRecoveryFile(info));
+          storage, info, opts, recoveryFileManager.newRecoveryFile(info), sink);
     }
 
     private final class WriteToFileThenUpload
@@ -189,13 +259,19 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
       private final Opts<ObjectTargetOpt> opts;
       private final RecoveryFile rf;
       private final SettableApiFuture<BlobInfo> result;
+      private final ThroughputSink gcs;
 
       private WriteToFileThenUpload(
-          StorageInternal storage, BlobInfo info, Opts<ObjectTargetOpt> opts, RecoveryFile rf) {
+          StorageInternal storage,
+          BlobInfo info,
+          Opts<ObjectTargetOpt> opts,
+          RecoveryFile rf,
+          ThroughputSink gcs) {
         this.info = info;
         this.opts = opts;
         this.rf = rf;
         this.storage = storage;
+        this.gcs = gcs;
         this.result = SettableApiFuture.create();
       }
 
@@ -266,6 +342,12 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
                   gcs,
                   size,
                   () -> {
+                    if (pcu != null && size > pcu.getPartSize()) {
+                      Integer expectedCrc32c =
+                          cumulativeCrc32c == null ? null : cumulativeCrc32c.hash().asInt();
+                      result.set(pcu.uploadFrom(storage, path, info, opts, expectedCrc32c));
+                      return;
+                    }
                     BlobInfo pendingInfo = info;
                     Opts<ObjectTargetOpt> pendingOpts = opts;
                     if (cumulativeCrc32c != null) {
@@ -281,7 +363,7 @@ public final class BufferToDiskThenUpload extends BlobWriteSessionConfig
                     BlobInfo blob = storage.internalCreateFrom(path, pendingInfo, pendingOpts);
                     result.set(blob);
                   });
-            } catch (StorageException | IOException e) {
+            } catch (IOException | RuntimeException e) {
               result.setException(e);
               throw e;
             }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.BetaApi;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.Objects;
+import javax.annotation.concurrent.Immutable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The outcome of a single item of a {@link BulkOperations} operation.
+ *
+ * @param <I> The type of the input item
+ * @param <R> The type of the result of a successful operation
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@Immutable
+@BetaApi
+public final class BulkOperationResult<I, R> {
+
+  private final I input;
+  private final @Nullable R result;
+  private final @Nullable StorageException exception;
+
+  private BulkOperationResult(I input, @Nullable R result, @Nullable StorageException exception) {
+    this.input = input;
+    this.result = result;
+    this.exception = exception;
+  }
+
+  /**
+   * The item this result is for.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public I getInput() {
+    return input;
+  }
+
+  /**
+   * Whether the operation succeeded for this item.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isSuccess() {
+    return exception == null;
+  }
+
+  /**
+   * The result of the operation, if successful. Depending on the operation a successful result may
+   * be {@code null}, for example {@link BulkOperations#get} for an object which does not exist.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable R getResult() {
+    return result;
+  }
+
+  /**
+   * The exception which caused the operation to fail for this item, after any retries were
+   * exhausted. {@code null} if successful.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable StorageException getException() {
+    return exception;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BulkOperationResult)) {
+      return false;
+    }
+    BulkOperationResult<?, ?> that = (BulkOperationResult<?, ?>) o;
+    return Objects.equals(input, that.input)
+        && Objects.equals(result, that.result)
+        && Objects.equals(exception, that.exception);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(input, result, exception);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("input", input)
+        .add("result", result)
+        .add("exception", exception)
+        .toString();
+  }
+
+  static <I, R> BulkOperationResult<I, R> success(I input, @Nullable R result) {
+    return new BulkOperationResult<>(input, result, null);
+  }
+
+  static <I, R> BulkOperationResult<I, R> failure(I input, StorageException exception) {
+    Preconditions.checkNotNull(exception, "exception must be non null");
+    return new BulkOperationResult<>(input, null, exception);
+  }
+}
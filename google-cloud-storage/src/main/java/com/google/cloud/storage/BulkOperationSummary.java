@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.BetaApi;
+import com.google.common.base.MoreObjects;
+import java.time.Duration;
+import java.util.Objects;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Aggregate statistics of a completed {@link BulkOperations} operation.
+ *
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@Immutable
+@BetaApi
+public final class BulkOperationSummary {
+
+  private final long succeeded;
+  private final long failed;
+  private final Duration elapsed;
+
+  BulkOperationSummary(long succeeded, long failed, Duration elapsed) {
+    this.succeeded = succeeded;
+    this.failed = failed;
+    this.elapsed = elapsed;
+  }
+
+  /**
+   * The number of items the operation succeeded for.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getSucceeded() {
+    return succeeded;
+  }
+
+  /**
+   * The number of items the operation failed for.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getFailed() {
+    return failed;
+  }
+
+  /**
+   * The total number of items processed.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getTotal() {
+    return succeeded + failed;
+  }
+
+  /**
+   * The wall clock time between the operation starting and the last item completing.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Duration getElapsed() {
+    return elapsed;
+  }
+
+  /**
+   * The average number of items processed per second over {@link #getElapsed()}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public double getItemsPerSecond() {
+    long nanos = elapsed.toNanos();
+    if (nanos <= 0) {
+      return 0;
+    }
+    return getTotal() * 1_000_000_000d / nanos;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BulkOperationSummary)) {
+      return false;
+    }
+    BulkOperationSummary that = (BulkOperationSummary) o;
+    return succeeded == that.succeeded
+        && failed == that.failed
+        && Objects.equals(elapsed, that.elapsed);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(succeeded, failed, elapsed);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("succeeded", succeeded)
+        .add("failed", failed)
+        .add("elapsed", elapsed)
+        .add("itemsPerSecond", getItemsPerSecond())
+        .toString();
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.Storage.BlobGetOption;
+import com.google.cloud.storage.Storage.BlobRestoreOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * Perform an operation against a large number of objects, keeping a bounded number of requests in
+ * flight at all times.
+ *
+ * <p>Items are pulled from the provided {@link Iterator} only as capacity to perform them becomes
+ * available, allowing the iterator to be lazy (for example, the results of a {@link
+ * Storage#list(String, Storage.BlobListOption...) list} call). The iterator is only ever accessed
+ * by a single thread at a time.
+ *
+ * <p>Each item is retried according to the retry strategy of the {@link Storage} instance
+ * independently of all other items, and the failure of one item does not stop the operation. The
+ * outcome of each item is delivered to the provided listener as soon as it is known, listener
+ * invocations are never concurrent but are not necessarily in the same order as the items were
+ * provided. If the listener throws an exception, no further items will be started and the returned
+ * future will fail with that exception once all in flight items are complete.
+ *
+ * <p>The returned future resolves once all items have been processed, to a {@link
+ * BulkOperationSummary} of the whole operation. Cancelling the future stops any further items from
+ * being started.
+ *
+ * <p>When using the JSON transport, items are grouped into batch requests of up to {@link
+ * BulkOperationsConfig#getBatchSize()} items, and up to {@link
+ * BulkOperationsConfig#getMaxConcurrency()} batch requests are in flight at once. When using gRPC,
+ * each item is its own request and up to {@link BulkOperationsConfig#getMaxConcurrency()} requests
+ * are in flight at once.
+ *
+ * @see Storage#bulk()
+ * @see Storage#bulk(BulkOperationsConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@TransportCompatibility({Transport.HTTP, Transport.GRPC})
+public interface BulkOperations {
+
+  /**
+   * Delete all the objects identified by {@code blobs}.
+   *
+   * <p>The result for each item has the same meaning as {@link Storage#delete(BlobId,
+   * BlobSourceOption...)}, {@code false} if the object was not found.
+   *
+   * @param blobs the objects to delete
+   * @param listener receives the outcome of each item as soon as it is complete
+   * @param options options applied to each item
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ApiFuture<BulkOperationSummary> delete(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Boolean>> listener,
+      BlobSourceOption... options);
+
+  /**
+   * Delete all the objects identified by {@code blobs}, without observing the outcome of individual
+   * items.
+   *
+   * @see #delete(Iterator, Consumer, BlobSourceOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  default ApiFuture<BulkOperationSummary> delete(
+      Iterator<BlobId> blobs, BlobSourceOption... options) {
+    return delete(blobs, r -> {}, options);
+  }
+
+  /**
+   * Get the metadata of all the objects identified by {@code blobs}.
+   *
+   * <p>The result for each item has the same meaning as {@link Storage#get(BlobId,
+   * BlobGetOption...)}, {@code null} if the object was not found.
+   *
+   * @param blobs the objects to get
+   * @param listener receives the outcome of each item as soon as it is complete
+   * @param options options applied to each item
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ApiFuture<BulkOperationSummary> get(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Blob>> listener,
+      BlobGetOption... options);
+
+  /**
+   * Update the metadata of all the objects described by {@code blobInfos}.
+   *
+   * <p>The result for each item has the same meaning as {@link Storage#update(BlobInfo,
+   * BlobTargetOption...)}.
+   *
+   * @param blobInfos the objects to update
+   * @param listener receives the outcome of each item as soon as it is complete
+   * @param options options applied to each item
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ApiFuture<BulkOperationSummary> update(
+      Iterator<BlobInfo> blobInfos,
+      Consumer<BulkOperationResult<BlobInfo, Blob>> listener,
+      BlobTargetOption... options);
+
+  /**
+   * Restore all the soft-deleted objects identified by {@code blobs}.
+   *
+   * <p>The result for each item has the same meaning as {@link Storage#restore(BlobId,
+   * BlobRestoreOption...)}. The JSON transport does not support restore in a batch request, each
+   * item is its own request.
+   *
+   * @param blobs the objects to restore, each must specify a generation
+   * @param listener receives the outcome of each item as soon as it is complete
+   * @param options options applied to each item
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ApiFuture<BulkOperationSummary> restore(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Blob>> listener,
+      BlobRestoreOption... options);
+}
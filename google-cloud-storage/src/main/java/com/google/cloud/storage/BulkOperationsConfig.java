@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.BetaApi;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import javax.annotation.concurrent.Immutable;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Configuration for a {@link BulkOperations} instance.
+ *
+ * <p>Instances are immutable, use {@link #of()} and the {@code with*} methods to create a new
+ * instance with the desired values.
+ *
+ * @see Storage#bulk(BulkOperationsConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@Immutable
+@BetaApi
+public final class BulkOperationsConfig {
+
+  private static final int DEFAULT_MAX_CONCURRENCY = 64;
+  // the maximum number of requests allowed in a single JSON batch request
+  private static final int MAX_BATCH_SIZE = 100;
+
+  private static final BulkOperationsConfig INSTANCE =
+      new BulkOperationsConfig(DEFAULT_MAX_CONCURRENCY, MAX_BATCH_SIZE, null);
+
+  private final int maxConcurrency;
+  private final int batchSize;
+  private final @Nullable Executor executor;
+
+  private BulkOperationsConfig(int maxConcurrency, int batchSize, @Nullable Executor executor) {
+    this.maxConcurrency = maxConcurrency;
+    this.batchSize = batchSize;
+    this.executor = executor;
+  }
+
+  /**
+   * The maximum number of requests which will be in flight at any point in time. When using the
+   * JSON transport a batch request counts as a single request.
+   *
+   * <p><i>Default:</i> {@code 64}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  /**
+   * @see #getMaxConcurrency()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BulkOperationsConfig withMaxConcurrency(int maxConcurrency) {
+    Preconditions.checkArgument(maxConcurrency > 0, "maxConcurrency > 0 (%s > 0)", maxConcurrency);
+    return new BulkOperationsConfig(maxConcurrency, batchSize, executor);
+  }
+
+  /**
+   * The number of items to include in each batch request when using the JSON transport. Ignored for
+   * gRPC, where each item is its own request.
+   *
+   * <p><i>Default:</i> {@code 100}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * @see #getBatchSize()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BulkOperationsConfig withBatchSize(int batchSize) {
+    Preconditions.checkArgument(
+        0 < batchSize && batchSize <= MAX_BATCH_SIZE,
+        "0 < batchSize <= %s (0 < %s <= %s)",
+        MAX_BATCH_SIZE,
+        batchSize,
+        MAX_BATCH_SIZE);
+    return new BulkOperationsConfig(maxConcurrency, batchSize, executor);
+  }
+
+  /**
+   * The executor requests will be performed on. Requests block while in flight, so the executor
+   * must allow blocking. An executor with fewer than {@link #getMaxConcurrency()} threads will
+   * effectively lower the concurrency.
+   *
+   * <p>If {@code null}, a new thread pool sized to {@link #getMaxConcurrency()} will be created for
+   * each operation and shutdown once the operation completes.
+   *
+   * <p><i>Default:</i> {@code null}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Executor getExecutor() {
+    return executor;
+  }
+
+  /**
+   * @see #getExecutor()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BulkOperationsConfig withExecutor(@Nullable Executor executor) {
+    return new BulkOperationsConfig(maxConcurrency, batchSize, executor);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof BulkOperationsConfig)) {
+      return false;
+    }
+    BulkOperationsConfig that = (BulkOperationsConfig) o;
+    return maxConcurrency == that.maxConcurrency
+        && batchSize == that.batchSize
+        && Objects.equals(executor, that.executor);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(maxConcurrency, batchSize, executor);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("maxConcurrency", maxConcurrency)
+        .add("batchSize", batchSize)
+        .add("executor", executor)
+        .toString();
+  }
+
+  /**
+   * Default instance
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static BulkOperationsConfig of() {
+    return INSTANCE;
+  }
+}
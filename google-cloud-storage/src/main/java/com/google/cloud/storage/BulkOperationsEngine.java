@@ -0,0 +1,277 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.BaseServiceException;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Drive a {@link BulkOperations} operation.
+ *
+ * <p>Items are pulled from the input iterator in units of up to {@code unitSize} items, and each
+ * unit is performed by a worker on the executor. A new worker is only started while there are more
+ * items available, up to {@link BulkOperationsConfig#getMaxConcurrency()} workers, meaning at most
+ * that many units are ever in flight and small operations do not spin up more threads than they can
+ * use.
+ */
+final class BulkOperationsEngine {
+
+  private BulkOperationsEngine() {}
+
+  /** Perform an operation for a unit of items. */
+  @FunctionalInterface
+  interface Unit<I, R> {
+
+    /**
+     * Perform the operation for every item of {@code inputs}, returning exactly one result per
+     * item. Failures of individual items must be reported as a failed result rather than thrown.
+     */
+    List<BulkOperationResult<I, R>> apply(List<I> inputs);
+  }
+
+  /** Perform each item of a unit independently, using {@code f}. */
+  static <I, R> Unit<I, R> perItem(Function<I, R> f) {
+    return inputs -> {
+      List<BulkOperationResult<I, R>> results = new ArrayList<>(inputs.size());
+      for (I input : inputs) {
+        results.add(attempt(input, f));
+      }
+      return results;
+    };
+  }
+
+  static <I, R> BulkOperationResult<I, R> attempt(I input, Function<I, R> f) {
+    try {
+      return BulkOperationResult.success(input, f.apply(input));
+    } catch (RuntimeException e) {
+      return BulkOperationResult.failure(input, asStorageException(e));
+    }
+  }
+
+  static StorageException asStorageException(Throwable t) {
+    BaseServiceException e = StorageException.coalesce(t);
+    if (e instanceof StorageException) {
+      return (StorageException) e;
+    }
+    return new StorageException(e.getCode(), e.getMessage(), e);
+  }
+
+  static <I, R> ApiFuture<BulkOperationSummary> run(
+      Iterator<I> inputs,
+      int unitSize,
+      BulkOperationsConfig config,
+      Unit<I, R> unit,
+      Consumer<BulkOperationResult<I, R>> listener) {
+    requireNonNull(inputs, "inputs must be non null");
+    requireNonNull(listener, "listener must be non null");
+    Executor executor = config.getExecutor();
+    ExecutorService owned = null;
+    if (executor == null) {
+      owned =
+          Executors.newFixedThreadPool(
+              config.getMaxConcurrency(),
+              new ThreadFactoryBuilder()
+                  .setDaemon(true)
+                  .setNameFormat("bulk-operations-%d")
+                  .build());
+      executor = owned;
+    }
+    Run<I, R> run =
+        new Run<>(inputs, unitSize, config.getMaxConcurrency(), executor, owned, unit, listener);
+    run.start();
+    return run.result;
+  }
+
+  private static final class Run<I, R> {
+    private final Iterator<I> inputs;
+    private final int unitSize;
+    private final int maxWorkers;
+    private final Executor executor;
+    private final @Nullable ExecutorService owned;
+    private final Unit<I, R> unit;
+    private final Consumer<BulkOperationResult<I, R>> listener;
+    private final SettableApiFuture<BulkOperationSummary> result;
+    private final long beginNanos;
+
+    private final Object dispatchLock = new Object();
+    private final Object resultLock = new Object();
+
+    // guarded by dispatchLock
+    private boolean exhausted;
+    private int activeWorkers;
+    private int startedWorkers;
+
+    // guarded by resultLock
+    private long succeeded;
+    private long failed;
+
+    private volatile @Nullable Throwable failure;
+
+    private Run(
+        Iterator<I> inputs,
+        int unitSize,
+        int maxWorkers,
+        Executor executor,
+        @Nullable ExecutorService owned,
+        Unit<I, R> unit,
+        Consumer<BulkOperationResult<I, R>> listener) {
+      this.inputs = inputs;
+      this.unitSize = unitSize;
+      this.maxWorkers = maxWorkers;
+      this.executor = executor;
+      this.owned = owned;
+      this.unit = unit;
+      this.listener = listener;
+      this.result = SettableApiFuture.create();
+      this.beginNanos = System.nanoTime();
+    }
+
+    private void start() {
+      synchronized (dispatchLock) {
+        activeWorkers++;
+        startedWorkers++;
+      }
+      try {
+        executor.execute(this::work);
+      } catch (RejectedExecutionException e) {
+        fail(e);
+        workerDone();
+      }
+    }
+
+    private void work() {
+      try {
+        List<I> next;
+        while (!(next = next()).isEmpty()) {
+          deliver(unit.apply(next));
+        }
+      } catch (Throwable t) {
+        fail(t);
+      } finally {
+        workerDone();
+      }
+    }
+
+    /**
+     * Pull the next unit of items, starting an additional worker if more items remain and we are
+     * not yet at capacity.
+     */
+    private List<I> next() {
+      synchronized (dispatchLock) {
+        if (exhausted || isStopped()) {
+          return Collections.emptyList();
+        }
+        List<I> next = new ArrayList<>(unitSize);
+        while (next.size() < unitSize && inputs.hasNext()) {
+          next.add(requireNonNull(inputs.next(), "inputs must not contain null"));
+        }
+        exhausted = !inputs.hasNext();
+        if (!exhausted && startedWorkers < maxWorkers) {
+          activeWorkers++;
+          startedWorkers++;
+          try {
+            executor.execute(this::work);
+          } catch (RejectedExecutionException e) {
+            // the executor is saturated, carry on with the workers we already have
+            activeWorkers--;
+            startedWorkers = maxWorkers;
+          }
+        }
+        return next;
+      }
+    }
+
+    private void deliver(List<BulkOperationResult<I, R>> results) {
+      synchronized (resultLock) {
+        for (BulkOperationResult<I, R> r : results) {
+          if (r.isSuccess()) {
+            succeeded++;
+          } else {
+            failed++;
+          }
+          if (failure == null) {
+            try {
+              listener.accept(r);
+            } catch (Throwable t) {
+              fail(t);
+            }
+          }
+        }
+      }
+    }
+
+    private boolean isStopped() {
+      return failure != null || result.isCancelled();
+    }
+
+    private void fail(Throwable t) {
+      synchronized (this) {
+        if (failure == null) {
+          failure = t;
+        }
+      }
+    }
+
+    private void workerDone() {
+      synchronized (dispatchLock) {
+        if (--activeWorkers > 0) {
+          return;
+        }
+      }
+      if (owned != null) {
+        owned.shutdown();
+      }
+      Throwable t = failure;
+      if (t != null) {
+        result.setException(t);
+      } else {
+        synchronized (resultLock) {
+          result.set(
+              new BulkOperationSummary(
+                  succeeded, failed, Duration.ofNanos(System.nanoTime() - beginNanos)));
+        }
+      }
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("unitSize", unitSize)
+          .add("maxWorkers", maxWorkers)
+          .add("exhausted", exhausted)
+          .add("failure", failure)
+          .toString();
+    }
+  }
+}
@@ -16,11 +16,8 @@
 
 package com.google.cloud.storage;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Canonical extension header serializer.
@@ -54,25 +51,16 @@ public class CanonicalExtensionHeadersSerializer {
       return serializedHeaders;
     }
 
-    Map<String, String> lowercaseHeaders = getLowercaseHeaders(canonicalizedExtensionHeaders);
-
     // Sort all custom headers by header name using a lexicographical sort by code point value.
-    List<String> sortedHeaderNames = new ArrayList<>(lowercaseHeaders.keySet());
-    Collections.sort(sortedHeaderNames);
-
-    for (String headerName : sortedHeaderNames) {
-      serializedHeaders
-          .append(headerName)
-          .append(HEADER_SEPARATOR)
-          .append(
-              lowercaseHeaders
-                  .get(headerName)
-                  // Remove any whitespace around the colon that appears after the header name.
-                  .trim()
-                  // Replace any sequence of whitespace with a single space.
-                  .replaceAll("\\s+", " "))
-          // Append a newline (U+000A) to each custom header.
-          .append(SignatureInfo.COMPONENT_SEPARATOR);
+    TreeMap<String, String> lowercaseHeaders = getLowercaseHeaders(canonicalizedExtensionHeaders);
+
+    for (Map.Entry<String, String> header : lowercaseHeaders.entrySet()) {
+      serializedHeaders.append(header.getKey()).append(HEADER_SEPARATOR);
+      // Remove any whitespace around the colon that appears after the header name.
+      // Replace any sequence of whitespace with a single space.
+      appendCollapsingWhitespace(serializedHeaders, header.getValue().trim());
+      // Append a newline (U+000A) to each custom header.
+      serializedHeaders.append(SignatureInfo.COMPONENT_SEPARATOR);
     }
 
     // Concatenate all custom headers
@@ -85,12 +73,9 @@ public class CanonicalExtensionHeadersSerializer {
     if (canonicalizedExtensionHeaders == null || canonicalizedExtensionHeaders.isEmpty()) {
       return serializedHeaders;
     }
-    Map<String, String> lowercaseHeaders = getLowercaseHeaders(canonicalizedExtensionHeaders);
-
-    List<String> sortedHeaderNames = new ArrayList<>(lowercaseHeaders.keySet());
-    Collections.sort(sortedHeaderNames);
+    TreeMap<String, String> lowercaseHeaders = getLowercaseHeaders(canonicalizedExtensionHeaders);
 
-    for (String headerName : sortedHeaderNames) {
+    for (String headerName : lowercaseHeaders.keySet()) {
       serializedHeaders.append(headerName).append(HEADER_NAME_SEPARATOR);
     }
 
@@ -99,13 +84,13 @@ public class CanonicalExtensionHeadersSerializer {
     return serializedHeaders;
   }
 
-  private Map<String, String> getLowercaseHeaders(
+  private TreeMap<String, String> getLowercaseHeaders(
       Map<String, String> canonicalizedExtensionHeaders) {
     // Make all custom header names lowercase.
-    Map<String, String> lowercaseHeaders = new HashMap<>();
-    for (String headerName : new ArrayList<>(canonicalizedExtensionHeaders.keySet())) {
+    TreeMap<String, String> lowercaseHeaders = new TreeMap<>();
+    for (Map.Entry<String, String> header : canonicalizedExtensionHeaders.entrySet()) {
 
-      String lowercaseHeaderName = headerName.toLowerCase();
+      String lowercaseHeaderName = header.getKey().toLowerCase();
 
       // If present and we're V2, remove the x-goog-encryption-key and x-goog-encryption-key-sha256
       // headers. (CSEK headers are allowed for V4)
@@ -116,9 +101,34 @@ public class CanonicalExtensionHeadersSerializer {
         continue;
       }
 
-      lowercaseHeaders.put(lowercaseHeaderName, canonicalizedExtensionHeaders.get(headerName));
+      lowercaseHeaders.put(lowercaseHeaderName, header.getValue());
     }
 
     return lowercaseHeaders;
   }
+
+  /**
+   * Append {@code value} to {@code sb} replacing every run of whitespace with a single space. This
+   * is equivalent to {@code value.replaceAll("\\s+", " ")} without compiling a pattern per header.
+   */
+  private static void appendCollapsingWhitespace(StringBuilder sb, String value) {
+    boolean inWhitespace = false;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (isRegexWhitespace(c)) {
+        if (!inWhitespace) {
+          sb.append(' ');
+          inWhitespace = true;
+        }
+      } else {
+        sb.append(c);
+        inWhitespace = false;
+      }
+    }
+  }
+
+  /** The characters matched by {@code \s} in a {@link java.util.regex.Pattern} */
+  private static boolean isRegexWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+  }
 }
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.BaseServiceException;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * {@link UploadSubscriber} which writes each buffer to the channel of an upload session.
+ *
+ * <p>All writes happen on the provided {@link Executor} as individual tasks, rather than requiring
+ * a thread be dedicated to the upload. A new buffer is only requested from upstream once a previous
+ * buffer has been fully accepted by the channel, for a resumable upload that means buffered or
+ * flushed, for an appendable upload that means fit within its max pending bytes.
+ *
+ * <p>If upstream fails, or a write fails, the channel is aborted rather than closed, closing would
+ * finalize the object with partial content.
+ */
+final class ChannelUploadSubscriber implements UploadSubscriber {
+  /** The number of buffers initially requested from upstream */
+  static final int PREFETCH = 2;
+
+  private final ChannelOpener opener;
+  private final ChannelAborter aborter;
+  private final Executor executor;
+  private final SettableApiFuture<BlobInfo> result;
+  private final ApiFuture<BlobInfo> sessionResult;
+  private final Queue<ByteBuffer> queue;
+  private final AtomicInteger wip;
+  private final AtomicBoolean subscribed;
+
+  @Nullable private volatile Subscription upstream;
+  @Nullable private volatile Throwable upstreamFailure;
+  private volatile boolean upstreamComplete;
+
+  // only accessed from within #pump()
+  @Nullable private WritableByteChannel channel;
+  private boolean done;
+
+  ChannelUploadSubscriber(
+      ChannelOpener opener,
+      ChannelAborter aborter,
+      ApiFuture<BlobInfo> sessionResult,
+      Executor executor) {
+    this.opener = opener;
+    this.aborter = aborter;
+    this.sessionResult = sessionResult;
+    this.executor = executor;
+    this.result = SettableApiFuture.create();
+    this.queue = new ConcurrentLinkedQueue<>();
+    this.wip = new AtomicInteger(0);
+    this.subscribed = new AtomicBoolean(false);
+    this.upstreamComplete = false;
+    this.done = false;
+  }
+
+  @Override
+  public void onSubscribe(Subscription subscription) {
+    Preconditions.checkNotNull(subscription, "subscription must be non null");
+    if (!subscribed.compareAndSet(false, true)) {
+      subscription.cancel();
+      return;
+    }
+    upstream = subscription;
+    subscription.request(PREFETCH);
+  }
+
+  @Override
+  public void onNext(ByteBuffer item) {
+    Preconditions.checkNotNull(item, "item must be non null");
+    queue.offer(item);
+    schedule();
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    Preconditions.checkNotNull(throwable, "throwable must be non null");
+    upstreamFailure = throwable;
+    schedule();
+  }
+
+  @Override
+  public void onComplete() {
+    upstreamComplete = true;
+    schedule();
+  }
+
+  @Override
+  public ApiFuture<BlobInfo> getResult() {
+    return result;
+  }
+
+  private void schedule() {
+    if (wip.getAndIncrement() == 0) {
+      executor.execute(this::pump);
+    }
+  }
+
+  private void pump() {
+    int missed = 1;
+    do {
+      while (!done) {
+        Throwable failure = upstreamFailure;
+        if (failure != null) {
+          done = true;
+          queue.clear();
+          abort(failure);
+          result.setException(failure);
+          break;
+        }
+        // read complete before polling, any buffer offered before completion is then visible
+        boolean complete = upstreamComplete;
+        ByteBuffer buf = queue.poll();
+        if (buf != null) {
+          try {
+            StorageChannelUtils.blockingEmptyTo(buf, channel());
+          } catch (Exception e) {
+            fail(e);
+            break;
+          }
+          Subscription s = upstream;
+          if (s != null) {
+            s.request(1);
+          }
+        } else if (complete) {
+          done = true;
+          try {
+            channel().close();
+          } catch (Exception e) {
+            fail(e);
+            break;
+          }
+          ApiFutures.addCallback(
+              sessionResult,
+              new ApiFutureCallback<BlobInfo>() {
+                @Override
+                public void onFailure(Throwable t) {
+                  result.setException(t);
+                }
+
+                @Override
+                public void onSuccess(BlobInfo blobInfo) {
+                  result.set(blobInfo);
+                }
+              },
+              MoreExecutors.directExecutor());
+        } else {
+          break;
+        }
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private WritableByteChannel channel() throws Exception {
+    if (channel == null) {
+      channel = opener.open();
+    }
+    return channel;
+  }
+
+  private void fail(Exception e) {
+    done = true;
+    queue.clear();
+    Subscription s = upstream;
+    if (s != null) {
+      s.cancel();
+    }
+    BaseServiceException se = StorageException.coalesce(e);
+    abort(se);
+    result.setException(se);
+  }
+
+  /** Release the channel, if one was opened, without finalizing the object */
+  private void abort(Throwable cause) {
+    WritableByteChannel ch = channel;
+    channel = null;
+    if (ch != null) {
+      try {
+        aborter.abort(ch);
+      } catch (Exception e) {
+        cause.addSuppressed(e);
+      }
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("upstreamComplete", upstreamComplete)
+        .add("upstreamFailure", upstreamFailure)
+        .add("result", result)
+        .toString();
+  }
+
+  @FunctionalInterface
+  interface ChannelOpener {
+    WritableByteChannel open() throws Exception;
+  }
+
+  @FunctionalInterface
+  interface ChannelAborter {
+    /** Release {@code channel} and any resources it holds without finalizing the object */
+    void abort(WritableByteChannel channel) throws Exception;
+  }
+}
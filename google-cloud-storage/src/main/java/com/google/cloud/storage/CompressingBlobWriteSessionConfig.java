@@ -0,0 +1,247 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.client.http.HttpStatusCodes;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
+import com.google.api.core.InternalApi;
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Status.Code;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.Deflater;
+import javax.annotation.concurrent.Immutable;
+
+/**
+ * Compress the bytes of an object on the fly as they are written, storing the object with {@code
+ * Content-Encoding: gzip}.
+ *
+ * <p>Compression is layered on top of another {@link BlobWriteSessionConfig}, which is responsible
+ * for uploading the compressed bytes. This allows compression to be used along with resumable
+ * uploads ({@link BlobWriteSessionConfigs#getDefault()}) or bidi uploads ({@link
+ * BlobWriteSessionConfigs#bidiWrite()}). The delegate must be compatible with the transport of the
+ * {@link Storage} instance this config is used with.
+ *
+ * <p>Any checksum computed by the delegate is computed over the compressed bytes, as those are the
+ * bytes which are stored in Cloud Storage. In addition, the CRC32C of the compressed bytes is
+ * computed as they are produced and compared against the CRC32C of the finalized object, if the two
+ * do not match the result of the session will fail with a {@link StorageException}.
+ *
+ * <p>Objects stored with {@code Content-Encoding: gzip} are subject to <a target="_blank"
+ * href="https://cloud.google.com/storage/docs/transcoding">decompressive transcoding</a> when read.
+ *
+ * @see BlobWriteSessionConfigs#gzip(BlobWriteSessionConfig)
+ * @see GrpcStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
+ * @see HttpStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
+ * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@Immutable
+@BetaApi
+@TransportCompatibility({Transport.GRPC, Transport.HTTP})
+public final class CompressingBlobWriteSessionConfig extends BlobWriteSessionConfig
+    implements BlobWriteSessionConfig.HttpCompatible, BlobWriteSessionConfig.GrpcCompatible {
+  private static final long serialVersionUID = 4906519707264405781L;
+
+  static final String CONTENT_ENCODING_GZIP = "gzip";
+
+  private final BlobWriteSessionConfig delegate;
+  private final int compressionLevel;
+
+  @InternalApi
+  CompressingBlobWriteSessionConfig(BlobWriteSessionConfig delegate, int compressionLevel) {
+    this.delegate = requireNonNull(delegate, "delegate must be non null");
+    this.compressionLevel = compressionLevel;
+  }
+
+  /**
+   * The config which will be used to upload the compressed bytes.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public BlobWriteSessionConfig getDelegate() {
+    return delegate;
+  }
+
+  /**
+   * The {@link Deflater} compression level which will be used.
+   *
+   * <p><i>Default:</i> {@link Deflater#DEFAULT_COMPRESSION}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getCompressionLevel() {
+    return compressionLevel;
+  }
+
+  /**
+   * Create a new instance with the specified compression level.
+   *
+   * @param compressionLevel Either {@link Deflater#DEFAULT_COMPRESSION}, or a value between {@link
+   *     Deflater#NO_COMPRESSION} (0) and {@link Deflater#BEST_COMPRESSION} (9) inclusive
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public CompressingBlobWriteSessionConfig withCompressionLevel(int compressionLevel) {
+    Preconditions.checkArgument(
+        compressionLevel == Deflater.DEFAULT_COMPRESSION
+            || (Deflater.NO_COMPRESSION <= compressionLevel
+                && compressionLevel <= Deflater.BEST_COMPRESSION),
+        "compressionLevel must be -1 or between 0 and 9 inclusive, but was %s",
+        compressionLevel);
+    return new CompressingBlobWriteSessionConfig(delegate, compressionLevel);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CompressingBlobWriteSessionConfig)) {
+      return false;
+    }
+    CompressingBlobWriteSessionConfig that = (CompressingBlobWriteSessionConfig) o;
+    return compressionLevel == that.compressionLevel && Objects.equals(delegate, that.delegate);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(delegate, compressionLevel);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("delegate", delegate)
+        .add("compressionLevel", compressionLevel)
+        .toString();
+  }
+
+  @Override
+  WriterFactory createFactory(Clock clock) throws IOException {
+    return new Factory(delegate.createFactory(clock), compressionLevel);
+  }
+
+  private static final class Factory implements WriterFactory {
+    private final WriterFactory delegate;
+    private final int compressionLevel;
+
+    private Factory(WriterFactory delegate, int compressionLevel) {
+      this.delegate = delegate;
+      this.compressionLevel = compressionLevel;
+    }
+
+    @Override
+    public WritableByteChannelSession<?, BlobInfo> writeSession(
+        StorageInternal s, BlobInfo info, Opts<ObjectTargetOpt> opts) {
+      String contentEncoding = info.getContentEncoding();
+      Preconditions.checkArgument(
+          contentEncoding == null || CONTENT_ENCODING_GZIP.equals(contentEncoding),
+          "Unable to compress an object with contentEncoding '%s'",
+          contentEncoding);
+      BlobInfo compressedInfo = info.toBuilder().setContentEncoding(CONTENT_ENCODING_GZIP).build();
+      return new CompressingSession<>(
+          delegate.writeSession(s, compressedInfo, opts),
+          compressionLevel,
+          s instanceof GrpcStorageImpl);
+    }
+  }
+
+  static final class CompressingSession<WBC extends WritableByteChannel>
+      implements WritableByteChannelSession<GzipWritableByteChannel, BlobInfo> {
+    private final WritableByteChannelSession<WBC, BlobInfo> delegate;
+    private final int compressionLevel;
+    private final boolean grpc;
+
+    private volatile GzipWritableByteChannel channel;
+
+    CompressingSession(
+        WritableByteChannelSession<WBC, BlobInfo> delegate, int compressionLevel, boolean grpc) {
+      this.delegate = delegate;
+      this.compressionLevel = compressionLevel;
+      this.grpc = grpc;
+    }
+
+    @Override
+    public ApiFuture<GzipWritableByteChannel> openAsync() {
+      return ApiFutures.transform(
+          delegate.openAsync(),
+          c -> {
+            GzipWritableByteChannel gzip =
+                new GzipWritableByteChannel(c, compressionLevel, delegate::cancel);
+            channel = gzip;
+            return gzip;
+          },
+          MoreExecutors.directExecutor());
+    }
+
+    @Override
+    public void cancel() throws IOException {
+      delegate.cancel();
+    }
+
+    @Override
+    public ApiFuture<BlobInfo> getResult() {
+      return ApiFutures.transformAsync(
+          delegate.getResult(), this::validate, MoreExecutors.directExecutor());
+    }
+
+    private ApiFuture<BlobInfo> validate(BlobInfo info) {
+      GzipWritableByteChannel c = channel;
+      String actual = info.getCrc32c();
+      if (c == null || actual == null) {
+        return ApiFutures.immediateFuture(info);
+      }
+      String expected = Utils.crc32cCodec.encode(c.getStoredCrc32c().getValue());
+      if (expected.equals(actual)) {
+        return ApiFutures.immediateFuture(info);
+      }
+      String message =
+          String.format(
+              Locale.US,
+              "CRC32C Checksum mismatch. expected: [%s] but was: [%s]",
+              expected,
+              actual);
+      if (grpc) {
+        return ApiFutures.immediateFailedFuture(
+            StorageException.coalesce(
+                ApiExceptionFactory.createException(
+                    message, null, GrpcStatusCode.of(Code.DATA_LOSS), false)));
+      }
+      // the same status the JSON api responds with when a provided checksum does not match
+      return ApiFutures.immediateFailedFuture(
+          new StorageException(HttpStatusCodes.STATUS_CODE_BAD_REQUEST, message));
+    }
+  }
+}
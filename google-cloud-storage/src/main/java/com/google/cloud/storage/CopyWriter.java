@@ -18,6 +18,7 @@ package com.google.cloud.storage;
 
 import com.google.cloud.Restorable;
 import com.google.cloud.RestorableState;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Google Storage blob copy writer. A {@code CopyWriter} object allows to copy both blob's data and
@@ -73,4 +74,12 @@ public abstract class CopyWriter implements Restorable<CopyWriter> {
 
   @Override
   public abstract RestorableState<CopyWriter> capture();
+
+  /**
+   * The token of the most recent rewrite call, from which the rewrite can be continued, or {@code
+   * null} if it is not known.
+   */
+  @Nullable String getRewriteToken() {
+    return null;
+  }
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.InternalApi;
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import java.nio.ByteBuffer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * The crc32c of a sequence of bytes which are hashed a buffer at a time, using the same {@link
+ * Hasher} as the rest of the library. When hashing is disabled no value is accumulated, and {@link
+ * #mismatches(String)} is always {@code false}.
+ *
+ * <p>Public only so that it can be shared with {@code transfermanager}, not intended for use
+ * outside of this library.
+ */
+@InternalApi
+public final class Crc32cAccumulator {
+  private final Hasher hasher;
+  private final @Nullable Crc32cLengthKnown value;
+
+  private Crc32cAccumulator(Hasher hasher, @Nullable Crc32cLengthKnown value) {
+    this.hasher = hasher;
+    this.value = value;
+  }
+
+  /** An accumulator which has not yet hashed any bytes */
+  public static Crc32cAccumulator create() {
+    Hasher hasher = Hasher.defaultHasher();
+    return new Crc32cAccumulator(hasher, hasher.initialValue());
+  }
+
+  /** Append the remaining bytes of {@code buf}, without modifying its position */
+  public Crc32cAccumulator update(ByteBuffer buf) {
+    return new Crc32cAccumulator(
+        hasher, hasher.nullSafeConcat(value, hasher.hash(buf.duplicate())));
+  }
+
+  /** Append the bytes accumulated by {@code next}, which immediately follow those of this value */
+  public Crc32cAccumulator concat(Crc32cAccumulator next) {
+    return new Crc32cAccumulator(hasher, hasher.nullSafeConcat(value, next.value));
+  }
+
+  /**
+   * Whether the accumulated value differs from {@code expectedCrc32c}, the base64 encoded crc32c of
+   * an object.
+   */
+  public boolean mismatches(String expectedCrc32c) {
+    if (value == null) {
+      return false;
+    }
+    Crc32cValue<?> expected = Crc32cValue.of(Utils.crc32cCodec.decode(expectedCrc32c));
+    return !expected.eqValue(value);
+  }
+
+  /** The base64 encoded accumulated value, the same encoding as {@link BlobInfo#getCrc32c()} */
+  @Override
+  public String toString() {
+    return value == null ? "disabled" : Utils.crc32cCodec.encode(value.getValue());
+  }
+}
@@ -16,6 +16,9 @@
 
 package com.google.cloud.storage;
 
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
 import com.google.api.core.BetaApi;
@@ -30,6 +33,7 @@ import com.google.cloud.storage.UnifiedOpts.Opts;
 import com.google.cloud.storage.spi.v1.StorageRpc;
 import com.google.common.base.Preconditions;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.storage.v2.CancelResumableWriteRequest;
 import com.google.storage.v2.WriteObjectRequest;
 import com.google.storage.v2.WriteObjectResponse;
 import java.io.IOException;
@@ -38,6 +42,7 @@ import java.nio.channels.WritableByteChannel;
 import java.time.Clock;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import javax.annotation.concurrent.Immutable;
 
@@ -143,17 +148,19 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
     public WritableByteChannelSession<?, BlobInfo> writeSession(
         StorageInternal s, BlobInfo info, Opts<ObjectTargetOpt> opts) {
       if (s instanceof GrpcStorageImpl) {
+        GrpcStorageImpl grpc = (GrpcStorageImpl) s;
+        GrpcCallContext grpcCallContext =
+            opts.grpcMetadataMapper().apply(GrpcCallContext.createDefault());
+        AtomicReference<ApiFuture<ResumableWrite>> started = new AtomicReference<>();
         return new DecoratedWritableByteChannelSession<>(
             new LazySession<>(
                 new LazyWriteChannel<>(
                     () -> {
-                      GrpcStorageImpl grpc = (GrpcStorageImpl) s;
-                      GrpcCallContext grpcCallContext =
-                          opts.grpcMetadataMapper().apply(GrpcCallContext.createDefault());
                       WriteObjectRequest req = grpc.getWriteObjectRequest(info, opts);
 
                       ApiFuture<ResumableWrite> startResumableWrite =
                           grpc.startResumableWrite(grpcCallContext, req, opts);
+                      started.set(startResumableWrite);
                       return ResumableMedia.gapic()
                           .write()
                           .byteChannel(
@@ -168,10 +175,23 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
                           .buffered(BufferHandle.allocate(chunkSize))
                           .setStartAsync(startResumableWrite)
                           .build();
-                    })),
+                    }),
+                () -> {
+                  ApiFuture<ResumableWrite> startResumableWrite = started.get();
+                  if (startResumableWrite != null) {
+                    String uploadId =
+                        ApiFutureUtils.await(startResumableWrite).getRes().getUploadId();
+                    grpc.storageClient
+                        .cancelResumableWriteCallable()
+                        .call(
+                            CancelResumableWriteRequest.newBuilder().setUploadId(uploadId).build(),
+                            grpcCallContext);
+                  }
+                }),
             Conversions.grpc().blobInfo().compose(WriteObjectResponse::getResource));
       } else if (s instanceof StorageImpl) {
         StorageImpl json = (StorageImpl) s;
+        AtomicReference<String> started = new AtomicReference<>();
 
         return new DecoratedWritableByteChannelSession<>(
             new LazySession<>(
@@ -190,24 +210,34 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
                               json.retrier.withAlg(
                                   json.retryAlgorithmManager.getForResumableUploadSessionCreate(
                                       optionsMap)));
+                      String uploadId = uploadIdSupplier.get();
+                      started.set(uploadId);
                       ApiFuture<JsonResumableWrite> startAsync =
                           ApiFutures.immediateFuture(
                               JsonResumableWrite.of(
                                   encode,
                                   optionsMap,
-                                  uploadIdSupplier.get(),
+                                  uploadId,
                                   0L,
                                   opts.getHasher(),
                                   opts.getHasher().initialValue()));
 
                       return ResumableMedia.http()
                           .write()
-                          .byteChannel(HttpClientContext.from(json.storageRpc))
+                          .byteChannel(
+                              HttpClientContext.from(json.storageRpc)
+                                  .withPhaseListener(json.phaseListener))
                           .resumable()
                           .buffered(BufferHandle.allocate(chunkSize))
                           .setStartAsync(startAsync)
                           .build();
-                    })),
+                    }),
+                () -> {
+                  String uploadId = started.get();
+                  if (uploadId != null) {
+                    cancelJsonResumableUpload(json, uploadId);
+                  }
+                }),
             Conversions.json().blobInfo());
       } else {
         throw new IllegalStateException(
@@ -216,6 +246,29 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
     }
   }
 
+  /**
+   * Cancel a resumable upload session. A successfully cancelled session responds with {@code 499},
+   * one which no longer exists with {@code 404} or {@code 410}.
+   */
+  private static void cancelJsonResumableUpload(StorageImpl json, String uploadId)
+      throws IOException {
+    HttpRequest req =
+        json.storageRpc
+            .getStorage()
+            .getRequestFactory()
+            .buildDeleteRequest(new GenericUrl(uploadId));
+    req.setThrowExceptionOnExecuteError(false);
+    HttpResponse resp = req.execute();
+    try {
+      int code = resp.getStatusCode();
+      if (code != 499 && code != 404 && code != 410 && !UploadFailureScenario.isOk(code)) {
+        throw new StorageException(code, "Unable to cancel resumable upload session");
+      }
+    } finally {
+      resp.disconnect();
+    }
+  }
+
   static final class DecoratedWritableByteChannelSession<WBC extends WritableByteChannel, T>
       implements WritableByteChannelSession<WBC, BlobInfo> {
 
@@ -248,14 +301,25 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
           throwable -> ApiFutures.immediateFailedFuture(StorageException.coalesce(throwable)),
           MoreExecutors.directExecutor());
     }
+
+    @Override
+    public void cancel() throws IOException {
+      delegate.cancel();
+    }
   }
 
   static final class LazySession<R>
       implements WritableByteChannelSession<BufferedWritableByteChannel, R> {
     private final LazyWriteChannel<R> lazy;
+    private final Canceller canceller;
 
     LazySession(LazyWriteChannel<R> lazy) {
+      this(lazy, () -> {});
+    }
+
+    LazySession(LazyWriteChannel<R> lazy, Canceller canceller) {
       this.lazy = lazy;
+      this.canceller = canceller;
     }
 
     @Override
@@ -315,5 +379,16 @@ public final class DefaultBlobWriteSessionConfig extends BlobWriteSessionConfig
     public ApiFuture<R> getResult() {
       return lazy.getSession().getResult();
     }
+
+    @Override
+    public void cancel() throws IOException {
+      canceller.cancel();
+    }
+
+    /** Cancel the upload session, if it has been started */
+    @FunctionalInterface
+    interface Canceller {
+      void cancel() throws IOException;
+    }
   }
 }
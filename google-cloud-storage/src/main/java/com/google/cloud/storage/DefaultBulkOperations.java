@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.storage.Storage.BlobGetOption;
+import com.google.cloud.storage.Storage.BlobRestoreOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.common.base.MoreObjects;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+/**
+ * {@link BulkOperations} which performs each item as its own request via the corresponding unary
+ * method of {@link Storage}, keeping up to {@link BulkOperationsConfig#getMaxConcurrency()}
+ * requests in flight. Each request is retried by {@code storage} according to its retry strategy.
+ */
+final class DefaultBulkOperations implements BulkOperations {
+
+  private final Storage storage;
+  private final BulkOperationsConfig config;
+
+  DefaultBulkOperations(Storage storage, BulkOperationsConfig config) {
+    this.storage = storage;
+    this.config = config;
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> delete(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Boolean>> listener,
+      BlobSourceOption... options) {
+    return BulkOperationsEngine.run(
+        blobs,
+        1,
+        config,
+        BulkOperationsEngine.perItem(id -> storage.delete(id, options)),
+        listener);
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> get(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Blob>> listener,
+      BlobGetOption... options) {
+    return BulkOperationsEngine.run(
+        blobs, 1, config, BulkOperationsEngine.perItem(id -> storage.get(id, options)), listener);
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> update(
+      Iterator<BlobInfo> blobInfos,
+      Consumer<BulkOperationResult<BlobInfo, Blob>> listener,
+      BlobTargetOption... options) {
+    return BulkOperationsEngine.run(
+        blobInfos,
+        1,
+        config,
+        BulkOperationsEngine.perItem(info -> storage.update(info, options)),
+        listener);
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> restore(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Blob>> listener,
+      BlobRestoreOption... options) {
+    return BulkOperationsEngine.run(
+        blobs,
+        1,
+        config,
+        BulkOperationsEngine.perItem(id -> storage.restore(id, options)),
+        listener);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("config", config).toString();
+  }
+}
@@ -83,6 +83,12 @@ final class GapicCopyWriter extends CopyWriter {
     }
   }
 
+  @Override
+  String getRewriteToken() {
+    String token = mostRecentResponse.getRewriteToken();
+    return token.isEmpty() ? null : token;
+  }
+
   @Override
   public RestorableState<CopyWriter> capture() {
     return CrossTransportUtils.throwHttpJsonOnly(CopyWriter.class, "capture");
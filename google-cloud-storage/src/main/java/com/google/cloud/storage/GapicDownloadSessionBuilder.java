@@ -59,6 +59,7 @@ final class GapicDownloadSessionBuilder {
     private final ResultRetryAlgorithm<?> resultRetryAlgorithm;
     private boolean autoGzipDecompression;
     private Hasher hasher;
+    private TransferPhaseListener phaseListener;
 
     private ReadableByteChannelSessionBuilder(
         ZeroCopyServerStreamingCallable<ReadObjectRequest, ReadObjectResponse> read,
@@ -69,6 +70,7 @@ final class GapicDownloadSessionBuilder {
       this.resultRetryAlgorithm = resultRetryAlgorithm;
       this.hasher = Hasher.defaultHasher();
       this.autoGzipDecompression = false;
+      this.phaseListener = TransferPhaseListener.noop();
     }
 
     public BufferedReadableByteChannelSessionBuilder buffered() {
@@ -80,6 +82,11 @@ final class GapicDownloadSessionBuilder {
       return this;
     }
 
+    public ReadableByteChannelSessionBuilder setPhaseListener(TransferPhaseListener phaseListener) {
+      this.phaseListener = requireNonNull(phaseListener, "phaseListener must be non null");
+      return this;
+    }
+
     public ReadableByteChannelSessionBuilder setAutoGzipDecompression(
         boolean autoGzipDecompression) {
       this.autoGzipDecompression = autoGzipDecompression;
@@ -103,16 +110,18 @@ final class GapicDownloadSessionBuilder {
       // for any non-final value, create a reference to the value at this point in time
       Hasher hasher = this.hasher;
       boolean autoGzipDecompression = this.autoGzipDecompression;
+      TransferPhaseListener phaseListener = this.phaseListener;
       return (object, resultFuture) -> {
         if (autoGzipDecompression) {
           return new GzipReadableByteChannel(
               new GapicUnbufferedReadableByteChannel(
-                  resultFuture, read, object, hasher, retrier, resultRetryAlgorithm),
+                  resultFuture, read, object, hasher, retrier, resultRetryAlgorithm, phaseListener),
               ApiFutures.transform(
-                  resultFuture, Object::getContentEncoding, MoreExecutors.directExecutor()));
+                  resultFuture, Object::getContentEncoding, MoreExecutors.directExecutor()),
+              phaseListener);
         } else {
           return new GapicUnbufferedReadableByteChannel(
-              resultFuture, read, object, hasher, retrier, resultRetryAlgorithm);
+              resultFuture, read, object, hasher, retrier, resultRetryAlgorithm, phaseListener);
         }
       };
     }
@@ -33,6 +33,7 @@ import com.google.cloud.storage.GrpcUtils.ZeroCopyServerStreamingCallable;
 import com.google.cloud.storage.Hasher.UncheckedChecksumMismatchException;
 import com.google.cloud.storage.ResponseContentLifecycleHandle.ChildRef;
 import com.google.cloud.storage.Retrying.Retrier;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
 import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
 import com.google.common.base.Suppliers;
 import com.google.protobuf.ByteString;
@@ -46,7 +47,9 @@ import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.ArrayBlockingQueue;
@@ -70,6 +73,8 @@ final class GapicUnbufferedReadableByteChannel
   private final Retrier retrier;
   private final ResultRetryAlgorithm<?> alg;
   private final SimpleBlockingQueue<java.lang.Object> queue;
+  private final TransferPhaseListener phaseListener;
+  private final boolean phaseTimingEnabled;
 
   private final AtomicLong fetchOffset;
   private volatile ReadObjectObserver readObjectObserver;
@@ -81,6 +86,13 @@ final class GapicUnbufferedReadableByteChannel
 
   private ReadObjectResponseChildRef leftovers;
 
+  // phase timing, only read or written when phaseTimingEnabled. 0 means "not yet observed"
+  private long readBeginNanos;
+  private long firstByteNanos;
+  private long retryBeginNanos;
+  private boolean transferRecorded;
+  private final AtomicLong checksumNanos;
+
   GapicUnbufferedReadableByteChannel(
       SettableApiFuture<Object> result,
       ZeroCopyServerStreamingCallable<ReadObjectRequest, ReadObjectResponse> read,
@@ -88,6 +100,17 @@ final class GapicUnbufferedReadableByteChannel
       Hasher hasher,
       Retrier retrier,
       ResultRetryAlgorithm<?> alg) {
+    this(result, read, req, hasher, retrier, alg, TransferPhaseListener.noop());
+  }
+
+  GapicUnbufferedReadableByteChannel(
+      SettableApiFuture<Object> result,
+      ZeroCopyServerStreamingCallable<ReadObjectRequest, ReadObjectResponse> read,
+      ReadObjectRequest req,
+      Hasher hasher,
+      Retrier retrier,
+      ResultRetryAlgorithm<?> alg,
+      TransferPhaseListener phaseListener) {
     this.result = result;
     this.read = read;
     this.req = req;
@@ -119,6 +142,9 @@ final class GapicUnbufferedReadableByteChannel
     // The reasoning for 2 elements below allow for a single response and the EOF/error signal
     // from onComplete or onError. Same thing com.google.api.gax.rpc.QueuingResponseObserver does.
     this.queue = new SimpleBlockingQueue<>(2);
+    this.phaseListener = phaseListener;
+    this.phaseTimingEnabled = TransferPhaseListeners.isEnabled(phaseListener);
+    this.checksumNanos = new AtomicLong();
   }
 
   @Override
@@ -130,6 +156,9 @@ final class GapicUnbufferedReadableByteChannel
     if (!open) {
       throw new ClosedChannelException();
     }
+    if (phaseTimingEnabled && readBeginNanos == 0) {
+      readBeginNanos = System.nanoTime();
+    }
 
     long totalBufferCapacity = Buffers.totalRemaining(dsts, offset, length);
     ReadCursor c = new ReadCursor(blobOffset, blobOffset + totalBufferCapacity);
@@ -143,6 +172,90 @@ final class GapicUnbufferedReadableByteChannel
         continue;
       }
 
+      ReadObjectResponseChildRef ref = next();
+      if (ref == null) {
+        complete = true;
+        if (phaseTimingEnabled) {
+          recordFirstByte(c.read());
+          recordTransferEnd();
+        }
+        break;
+      }
+
+      ref.copy(c, dsts, offset, length);
+      if (ref.hasRemaining()) {
+        leftovers = ref;
+      } else {
+        ref.close();
+      }
+    }
+    long read = c.read();
+
+    blobOffset += read;
+    if (phaseTimingEnabled) {
+      recordFirstByte(read);
+    }
+
+    return read;
+  }
+
+  /**
+   * Write all remaining bytes to {@code dst} directly from the buffers of each response message,
+   * rather than copying them into an intermediate buffer first. Each response message is released
+   * as soon as its bytes have been written.
+   */
+  @Override
+  public long writeTo(WritableByteChannel dst) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    if (phaseTimingEnabled && readBeginNanos == 0) {
+      readBeginNanos = System.nanoTime();
+    }
+
+    long total = 0;
+    if (leftovers != null) {
+      try {
+        long written = leftovers.writeTo(dst);
+        total += written;
+        blobOffset += written;
+      } finally {
+        leftovers.close();
+        leftovers = null;
+      }
+    }
+    while (!complete) {
+      ReadObjectResponseChildRef ref = next();
+      if (ref == null) {
+        complete = true;
+        break;
+      }
+      try {
+        long written = ref.writeTo(dst);
+        total += written;
+        blobOffset += written;
+        if (phaseTimingEnabled) {
+          recordFirstByte(written);
+        }
+      } finally {
+        ref.close();
+      }
+    }
+    if (phaseTimingEnabled) {
+      recordTransferEnd();
+    }
+    return total;
+  }
+
+  /**
+   * Take the next response message from the stream, transparently retrying if the stream fails in a
+   * retryable way.
+   *
+   * @return the next message, or {@code null} if the end of the object has been reached.
+   */
+  @Nullable
+  private ReadObjectResponseChildRef next() throws IOException {
+    while (true) {
       ensureStreamOpen();
       java.lang.Object take;
       try {
@@ -155,6 +268,7 @@ final class GapicUnbufferedReadableByteChannel
         IOException ioe = (IOException) take;
         if (alg.shouldRetry(ioe, null)) {
           readObjectObserver = null;
+          markRetryBegin();
           continue;
         } else {
           ioe.addSuppressed(new AsyncStorageTaskException());
@@ -166,6 +280,7 @@ final class GapicUnbufferedReadableByteChannel
         BaseServiceException coalesce = StorageException.coalesce(throwable);
         if (alg.shouldRetry(coalesce, null)) {
           readObjectObserver = null;
+          markRetryBegin();
           continue;
         } else {
           close();
@@ -173,23 +288,10 @@ final class GapicUnbufferedReadableByteChannel
         }
       }
       if (take == EOF_MARKER) {
-        complete = true;
-        break;
-      }
-
-      ReadObjectResponseChildRef ref = (ReadObjectResponseChildRef) take;
-      ref.copy(c, dsts, offset, length);
-      if (ref.hasRemaining()) {
-        leftovers = ref;
-      } else {
-        ref.close();
+        return null;
       }
+      return (ReadObjectResponseChildRef) take;
     }
-    long read = c.read();
-
-    blobOffset += read;
-
-    return read;
   }
 
   @Override
@@ -200,6 +302,9 @@ final class GapicUnbufferedReadableByteChannel
   @Override
   public void close() throws IOException {
     open = false;
+    if (phaseTimingEnabled) {
+      recordTransferEnd();
+    }
     try {
       if (leftovers != null) {
         leftovers.close();
@@ -277,6 +382,33 @@ final class GapicUnbufferedReadableByteChannel
     return result;
   }
 
+  private void markRetryBegin() {
+    if (phaseTimingEnabled && retryBeginNanos == 0) {
+      retryBeginNanos = System.nanoTime();
+    }
+  }
+
+  private void recordFirstByte(long read) {
+    if (read > 0 && firstByteNanos == 0) {
+      firstByteNanos = System.nanoTime();
+      phaseListener.onPhase(Phase.READ_FIRST_BYTE, firstByteNanos - readBeginNanos);
+    }
+  }
+
+  private void recordTransferEnd() {
+    if (transferRecorded) {
+      return;
+    }
+    transferRecorded = true;
+    if (firstByteNanos != 0) {
+      phaseListener.onPhase(Phase.READ_TRANSFER, System.nanoTime() - firstByteNanos);
+    }
+    long checksum = checksumNanos.get();
+    if (checksum > 0) {
+      phaseListener.onPhase(Phase.READ_CHECKSUM, checksum);
+    }
+  }
+
   private void ensureStreamOpen() {
     if (readObjectObserver == null) {
       java.lang.Object peek = queue.peek();
@@ -302,6 +434,10 @@ final class GapicUnbufferedReadableByteChannel
                 return tmp;
               },
               Decoder.identity());
+      if (phaseTimingEnabled && retryBeginNanos != 0) {
+        phaseListener.onPhase(Phase.READ_RETRY, System.nanoTime() - retryBeginNanos);
+        retryBeginNanos = 0;
+      }
     }
   }
 
@@ -315,6 +451,7 @@ final class GapicUnbufferedReadableByteChannel
 
     private final SettableApiFuture<Void> open = SettableApiFuture.create();
     private final SettableApiFuture<Throwable> cancellation = SettableApiFuture.create();
+    private final long openBeginNanos = phaseTimingEnabled ? System.nanoTime() : 0L;
 
     private volatile StreamController controller;
 
@@ -332,6 +469,9 @@ final class GapicUnbufferedReadableByteChannel
     @Override
     protected void onResponseImpl(ReadObjectResponse response) {
       controller.request(1);
+      if (phaseTimingEnabled && !open.isDone()) {
+        phaseListener.onPhase(Phase.READ_OPEN, System.nanoTime() - openBeginNanos);
+      }
       open.set(null);
       try (ResponseContentLifecycleHandle<ReadObjectResponse> handle =
           read.getResponseContentLifecycleManager().get(response)) {
@@ -343,7 +483,11 @@ final class GapicUnbufferedReadableByteChannel
         if (checksummedData.hasCrc32C()) {
           Crc32cLengthKnown expected = Crc32cValue.of(checksummedData.getCrc32C(), contentSize);
           try {
+            long checksumBegin = phaseTimingEnabled ? System.nanoTime() : 0L;
             hasher.validateUnchecked(expected, content);
+            if (phaseTimingEnabled) {
+              checksumNanos.addAndGet(System.nanoTime() - checksumBegin);
+            }
           } catch (UncheckedChecksumMismatchException e) {
             queue.offer(e);
             return;
@@ -470,6 +614,25 @@ final class GapicUnbufferedReadableByteChannel
       }
     }
 
+    long writeTo(WritableByteChannel dst) throws IOException {
+      List<ByteBuffer> buffers = lazyBuffers.get();
+      long written = 0;
+      if (dst instanceof GatheringByteChannel) {
+        ByteBuffer[] srcs = buffers.toArray(new ByteBuffer[0]);
+        GatheringByteChannel gathering = (GatheringByteChannel) dst;
+        while (Buffers.totalRemaining(srcs, 0, srcs.length) > 0) {
+          written += gathering.write(srcs);
+        }
+      } else {
+        for (ByteBuffer b : buffers) {
+          while (b.hasRemaining()) {
+            written += dst.write(b);
+          }
+        }
+      }
+      return written;
+    }
+
     boolean hasRemaining() {
       List<ByteBuffer> buffers = lazyBuffers.get();
       for (ByteBuffer b : buffers) {
@@ -34,19 +34,22 @@ final class GrpcBlobReadChannel extends BaseStorageReadChannel<Object> {
   private final ResultRetryAlgorithm<?> resultRetryAlgorithm;
   private final ReadObjectRequest request;
   private final boolean autoGzipDecompression;
+  private final TransferPhaseListener phaseListener;
 
   GrpcBlobReadChannel(
       ZeroCopyServerStreamingCallable<ReadObjectRequest, ReadObjectResponse> read,
       Retrier retrier,
       ResultRetryAlgorithm<?> resultRetryAlgorithm,
       ReadObjectRequest request,
-      boolean autoGzipDecompression) {
+      boolean autoGzipDecompression,
+      TransferPhaseListener phaseListener) {
     super(Conversions.grpc().blobInfo());
     this.read = read;
     this.retrier = retrier;
     this.resultRetryAlgorithm = resultRetryAlgorithm;
     this.request = request;
     this.autoGzipDecompression = autoGzipDecompression;
+    this.phaseListener = phaseListener;
   }
 
   @Override
@@ -63,7 +66,8 @@ final class GrpcBlobReadChannel extends BaseStorageReadChannel<Object> {
                   .read()
                   .byteChannel(read, retrier, resultRetryAlgorithm)
                   .setHasher(Hasher.defaultHasher())
-                  .setAutoGzipDecompression(autoGzipDecompression);
+                  .setAutoGzipDecompression(autoGzipDecompression)
+                  .setPhaseListener(phaseListener);
           BufferHandle bufferHandle = getBufferHandle();
           // because we're erasing the specific type of channel, we need to declare it here.
           // If we don't, the compiler complains we're not returning a compliant type.
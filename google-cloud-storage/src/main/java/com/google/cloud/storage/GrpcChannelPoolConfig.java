@@ -0,0 +1,335 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.core.BetaApi;
+import com.google.common.base.MoreObjects;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Configuration of the stream-aware channel pool used by the gRPC transport.
+ *
+ * <p>By default, all RPCs are spread round-robin over a fixed number of channels. Long-lived
+ * streams such as those backing {@link Storage#blobReadSession(BlobId, Storage.BlobSourceOption...)
+ * read sessions} and {@link Storage#blobAppendableUpload(BlobInfo, BlobAppendableUploadConfig,
+ * Storage.BlobWriteOption...) appendable uploads} can then accumulate on a single connection, where
+ * they are limited by the flow-control window and maximum number of concurrent streams of that
+ * connection.
+ *
+ * <p>When configured via {@link
+ * GrpcStorageOptions.Builder#setChannelPoolConfig(GrpcChannelPoolConfig)}, each new RPC is instead
+ * routed to the least loaded channel according to the {@link SelectionStrategy}. Whenever every
+ * channel is already carrying {@link #getMaxStreamsPerChannel()} long-lived streams, a new channel
+ * is opened, up to {@link #getMaxChannelCount()}. Channels opened beyond {@link
+ * #getInitialChannelCount()} are closed again after being idle for {@link
+ * #getIdleChannelTimeout()}.
+ *
+ * <p>Instances of this class are immutable and thread safe.
+ *
+ * @see GrpcStorageOptions.Builder#setChannelPoolConfig(GrpcChannelPoolConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class GrpcChannelPoolConfig implements Serializable {
+
+  private static final long serialVersionUID = 2893106415578164216L;
+
+  private static final GrpcChannelPoolConfig DEFAULT =
+      new GrpcChannelPoolConfig(
+          1, 8, 16, SelectionStrategy.LEAST_OUTSTANDING_STREAMS, Duration.ofMinutes(1));
+
+  private final int initialChannelCount;
+  private final int maxChannelCount;
+  private final int maxStreamsPerChannel;
+  @NonNull private final SelectionStrategy selectionStrategy;
+  @NonNull private final Duration idleChannelTimeout;
+
+  private GrpcChannelPoolConfig(
+      int initialChannelCount,
+      int maxChannelCount,
+      int maxStreamsPerChannel,
+      @NonNull SelectionStrategy selectionStrategy,
+      @NonNull Duration idleChannelTimeout) {
+    this.initialChannelCount = initialChannelCount;
+    this.maxChannelCount = maxChannelCount;
+    this.maxStreamsPerChannel = maxStreamsPerChannel;
+    this.selectionStrategy = selectionStrategy;
+    this.idleChannelTimeout = idleChannelTimeout;
+  }
+
+  /**
+   * The number of channels opened when the client is created. The pool never shrinks below this
+   * number of channels.
+   *
+   * <p><i>Default:</i> {@code 1}
+   *
+   * @see #withInitialChannelCount(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getInitialChannelCount() {
+    return initialChannelCount;
+  }
+
+  /**
+   * Create a new instance with the initial channel count set to the specified value.
+   *
+   * <p>The value must be greater than zero. If {@link #getMaxChannelCount()} is lower, it is raised
+   * to the same value.
+   *
+   * @see #getInitialChannelCount()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public GrpcChannelPoolConfig withInitialChannelCount(int initialChannelCount) {
+    checkArgument(initialChannelCount > 0, "initialChannelCount > 0 (%s > 0)", initialChannelCount);
+    if (this.initialChannelCount == initialChannelCount) {
+      return this;
+    }
+    return new GrpcChannelPoolConfig(
+        initialChannelCount,
+        Math.max(initialChannelCount, maxChannelCount),
+        maxStreamsPerChannel,
+        selectionStrategy,
+        idleChannelTimeout);
+  }
+
+  /**
+   * The maximum number of channels the pool will grow to.
+   *
+   * <p><i>Default:</i> {@code 8}
+   *
+   * @see #withMaxChannelCount(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getMaxChannelCount() {
+    return maxChannelCount;
+  }
+
+  /**
+   * Create a new instance with the max channel count set to the specified value.
+   *
+   * <p>The value must be greater than or equal to {@link #getInitialChannelCount()}.
+   *
+   * @see #getMaxChannelCount()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public GrpcChannelPoolConfig withMaxChannelCount(int maxChannelCount) {
+    checkArgument(
+        maxChannelCount >= initialChannelCount,
+        "maxChannelCount >= initialChannelCount (%s >= %s)",
+        maxChannelCount,
+        initialChannelCount);
+    if (this.maxChannelCount == maxChannelCount) {
+      return this;
+    }
+    return new GrpcChannelPoolConfig(
+        initialChannelCount,
+        maxChannelCount,
+        maxStreamsPerChannel,
+        selectionStrategy,
+        idleChannelTimeout);
+  }
+
+  /**
+   * The number of concurrent long-lived streams a channel should carry before the pool opens an
+   * additional channel.
+   *
+   * <p><i>Default:</i> {@code 16}
+   *
+   * @see #withMaxStreamsPerChannel(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getMaxStreamsPerChannel() {
+    return maxStreamsPerChannel;
+  }
+
+  /**
+   * Create a new instance with the max streams per channel set to the specified value.
+   *
+   * @see #getMaxStreamsPerChannel()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public GrpcChannelPoolConfig withMaxStreamsPerChannel(int maxStreamsPerChannel) {
+    checkArgument(
+        maxStreamsPerChannel > 0, "maxStreamsPerChannel > 0 (%s > 0)", maxStreamsPerChannel);
+    if (this.maxStreamsPerChannel == maxStreamsPerChannel) {
+      return this;
+    }
+    return new GrpcChannelPoolConfig(
+        initialChannelCount,
+        maxChannelCount,
+        maxStreamsPerChannel,
+        selectionStrategy,
+        idleChannelTimeout);
+  }
+
+  /**
+   * How a channel is chosen for each new RPC.
+   *
+   * <p><i>Default:</i> {@link SelectionStrategy#LEAST_OUTSTANDING_STREAMS}
+   *
+   * @see #withSelectionStrategy(SelectionStrategy)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull SelectionStrategy getSelectionStrategy() {
+    return selectionStrategy;
+  }
+
+  /**
+   * Create a new instance with the selection strategy set to the specified value.
+   *
+   * @see #getSelectionStrategy()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public GrpcChannelPoolConfig withSelectionStrategy(@NonNull SelectionStrategy selectionStrategy) {
+    requireNonNull(selectionStrategy, "selectionStrategy must be non null");
+    if (this.selectionStrategy == selectionStrategy) {
+      return this;
+    }
+    return new GrpcChannelPoolConfig(
+        initialChannelCount,
+        maxChannelCount,
+        maxStreamsPerChannel,
+        selectionStrategy,
+        idleChannelTimeout);
+  }
+
+  /**
+   * How long a channel opened beyond {@link #getInitialChannelCount()} must be without any
+   * outstanding RPCs before it is closed.
+   *
+   * <p><i>Default:</i> {@code 1 minute}
+   *
+   * @see #withIdleChannelTimeout(Duration)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull Duration getIdleChannelTimeout() {
+    return idleChannelTimeout;
+  }
+
+  /**
+   * Create a new instance with the idle channel timeout set to the specified value.
+   *
+   * @see #getIdleChannelTimeout()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public GrpcChannelPoolConfig withIdleChannelTimeout(@NonNull Duration idleChannelTimeout) {
+    requireNonNull(idleChannelTimeout, "idleChannelTimeout must be non null");
+    checkArgument(
+        !idleChannelTimeout.isNegative(),
+        "idleChannelTimeout must be >= 0 (%s >= 0)",
+        idleChannelTimeout);
+    if (this.idleChannelTimeout.equals(idleChannelTimeout)) {
+      return this;
+    }
+    return new GrpcChannelPoolConfig(
+        initialChannelCount,
+        maxChannelCount,
+        maxStreamsPerChannel,
+        selectionStrategy,
+        idleChannelTimeout);
+  }
+
+  /**
+   * The default configuration.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static GrpcChannelPoolConfig of() {
+    return DEFAULT;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GrpcChannelPoolConfig)) {
+      return false;
+    }
+    GrpcChannelPoolConfig that = (GrpcChannelPoolConfig) o;
+    return initialChannelCount == that.initialChannelCount
+        && maxChannelCount == that.maxChannelCount
+        && maxStreamsPerChannel == that.maxStreamsPerChannel
+        && selectionStrategy == that.selectionStrategy
+        && idleChannelTimeout.equals(that.idleChannelTimeout);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        initialChannelCount,
+        maxChannelCount,
+        maxStreamsPerChannel,
+        selectionStrategy,
+        idleChannelTimeout);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("initialChannelCount", initialChannelCount)
+        .add("maxChannelCount", maxChannelCount)
+        .add("maxStreamsPerChannel", maxStreamsPerChannel)
+        .add("selectionStrategy", selectionStrategy)
+        .add("idleChannelTimeout", idleChannelTimeout)
+        .toString();
+  }
+
+  /**
+   * How the channel pool chooses a channel for each new RPC.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public enum SelectionStrategy {
+    /**
+     * Choose the channel carrying the fewest long-lived streams, breaking ties by the fewest
+     * outstanding RPCs.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    LEAST_OUTSTANDING_STREAMS,
+    /**
+     * Choose the channel with the fewest bytes in flight, breaking ties by the fewest long-lived
+     * streams. Bytes are in flight from when a message is read from the network until the
+     * application receives it, and from when the application sends a message until it is written to
+     * the network. This favours channels which are keeping up with the data they carry.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    LEAST_BYTES_IN_FLIGHT
+  }
+}
@@ -41,12 +41,14 @@ import com.google.cloud.storage.BucketInfo.LifecycleRule.AbortIncompleteMPUActio
 import com.google.cloud.storage.BucketInfo.Logging;
 import com.google.cloud.storage.BucketInfo.PublicAccessPrevention;
 import com.google.cloud.storage.Conversions.Codec;
+import com.google.cloud.storage.Conversions.Decoder;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import com.google.common.io.BaseEncoding;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.FieldMask;
 import com.google.protobuf.ProtocolStringList;
 import com.google.protobuf.Timestamp;
 import com.google.storage.v2.Bucket;
@@ -314,6 +316,24 @@ final class GrpcConversions {
     return blobInfoCodec;
   }
 
+  Decoder<Object, BlobSummary> blobSummary() {
+    return blobSummary(FieldMask.getDefaultInstance());
+  }
+
+  /**
+   * Generation, metageneration and size have no presence in proto3, if they were not part of the
+   * {@code readMask} they decode as 0. Only carry those which were requested, so a summary is the
+   * same as one decoded from JSON, where a field which was not requested is absent.
+   */
+  Decoder<Object, BlobSummary> blobSummary(FieldMask readMask) {
+    List<String> paths = readMask.getPathsList();
+    boolean all = paths.isEmpty() || paths.contains("*");
+    boolean generation = all || paths.contains("generation");
+    boolean metageneration = all || paths.contains("metageneration");
+    boolean size = all || paths.contains("size");
+    return from -> blobSummaryDecode(from, generation, metageneration, size);
+  }
+
   Codec<Policy, com.google.iam.v1.Policy> policyCodec() {
     return policyCodec;
   }
@@ -1020,6 +1040,36 @@ final class GrpcConversions {
     return toBuilder.build();
   }
 
+  private BlobSummary blobSummaryDecode(
+      Object from, boolean generation, boolean metageneration, boolean size) {
+    BlobSummary.Builder to =
+        BlobSummary.newBuilder(bucketNameCodec.decode(from.getBucket()), from.getName());
+    if (generation) {
+      to.setGeneration(from.getGeneration());
+    }
+    if (metageneration) {
+      to.setMetageneration(from.getMetageneration());
+    }
+    if (size) {
+      to.setSize(from.getSize());
+    }
+    if (from.hasChecksums()) {
+      ObjectChecksums checksums = from.getChecksums();
+      if (checksums.hasCrc32C()) {
+        to.setCrc32c(Utils.crc32cCodec.encode(checksums.getCrc32C()));
+      }
+      ByteString md5Hash = checksums.getMd5Hash();
+      if (!md5Hash.isEmpty()) {
+        to.setMd5(BaseEncoding.base64().encode(md5Hash.toByteArray()));
+      }
+    }
+    if (from.hasUpdateTime()) {
+      Timestamp updateTime = from.getUpdateTime();
+      to.setUpdateTime(updateTime.getSeconds(), updateTime.getNanos());
+    }
+    return to.build();
+  }
+
   private BlobInfo blobInfoDecode(Object from) {
     BlobInfo.Builder toBuilder =
         BlobInfo.newBuilder(
@@ -23,12 +23,16 @@ import com.google.api.gax.rpc.UnaryCallable;
 import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWritableByteChannel;
 import com.google.cloud.storage.Conversions.Decoder;
 import com.google.cloud.storage.Retrying.RetrierWithAlg;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
+import com.google.cloud.storage.UnbufferedWritableByteChannelSession.UnbufferedWritableByteChannel;
+import com.google.protobuf.ByteString;
 import com.google.storage.v2.Object;
 import com.google.storage.v2.QueryWriteStatusRequest;
 import com.google.storage.v2.QueryWriteStatusResponse;
 import com.google.storage.v2.WriteObjectRequest;
 import com.google.storage.v2.WriteObjectResponse;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class GrpcResumableSession {
@@ -39,18 +43,23 @@ final class GrpcResumableSession {
       queryWriteStatusCallable;
   private final ResumableWrite resumableWrite;
   private final Hasher hasher;
+  private final TransferPhaseListener phaseListener;
+  private final boolean phaseTimingEnabled;
 
   GrpcResumableSession(
       RetrierWithAlg retrier,
       ClientStreamingCallable<WriteObjectRequest, WriteObjectResponse> writeCallable,
       UnaryCallable<QueryWriteStatusRequest, QueryWriteStatusResponse> queryWriteStatusCallable,
       ResumableWrite resumableWrite,
-      Hasher hasher) {
+      Hasher hasher,
+      TransferPhaseListener phaseListener) {
     this.retrier = retrier;
     this.writeCallable = writeCallable;
     this.queryWriteStatusCallable = queryWriteStatusCallable;
     this.resumableWrite = resumableWrite;
     this.hasher = hasher;
+    this.phaseListener = phaseListener;
+    this.phaseTimingEnabled = TransferPhaseListeners.isEnabled(phaseListener);
   }
 
   ResumableOperationResult<@Nullable Object> query() {
@@ -61,7 +70,11 @@ final class GrpcResumableSession {
     }
     QueryWriteStatusRequest req = b.build();
     try {
+      long begin = phaseTimingEnabled ? System.nanoTime() : 0L;
       QueryWriteStatusResponse response = queryWriteStatusCallable.call(req);
+      if (phaseTimingEnabled) {
+        phaseListener.onPhase(Phase.UPLOAD_QUERY, System.nanoTime() - begin);
+      }
       if (response.hasResource()) {
         return ResumableOperationResult.complete(
             response.getResource(), response.getResource().getSize());
@@ -77,10 +90,14 @@ final class GrpcResumableSession {
     AtomicBoolean dirty = new AtomicBoolean(false);
     GrpcCallContext retryingCallContext = Retrying.newCallContext();
     BufferHandle handle = BufferHandle.allocate(ByteSizeConstants._2MiB);
+    AtomicLong attemptEndNanos = new AtomicLong();
 
     return retrier.run(
         () -> {
           if (dirty.getAndSet(true)) {
+            if (phaseTimingEnabled) {
+              phaseListener.onPhase(Phase.UPLOAD_RETRY, System.nanoTime() - attemptEndNanos.get());
+            }
             ResumableOperationResult<@Nullable Object> query = query();
             if (query.getObject() != null) {
               return query;
@@ -89,23 +106,24 @@ final class GrpcResumableSession {
               content.rewindTo(query.getPersistedSize());
             }
           }
-          WritableByteChannelSession<BufferedWritableByteChannel, WriteObjectResponse> session =
-              ResumableMedia.gapic()
-                  .write()
-                  .byteChannel(writeCallable.withDefaultCallContext(retryingCallContext))
-                  .setByteStringStrategy(ByteStringStrategy.copy())
-                  .setHasher(hasher)
-                  .resumable()
-                  .setFsyncEvery(false)
-                  .buffered(handle)
-                  .setStartAsync(ApiFutures.immediateFuture(resumableWrite))
-                  .build();
-
-          try (BufferedWritableByteChannel channel = session.open()) {
-            content.writeTo(channel);
+          long begin = phaseTimingEnabled ? System.nanoTime() : 0L;
+          WriteObjectResponse response;
+          try {
+            if (content.supportsMappedWrites()) {
+              response = putMapped(content, retryingCallContext);
+            } else {
+              response = putBuffered(content, retryingCallContext, handle);
+            }
+          } finally {
+            if (phaseTimingEnabled) {
+              attemptEndNanos.set(System.nanoTime());
+            }
+          }
+          if (phaseTimingEnabled) {
+            phaseListener.onPhase(
+                response.hasResource() ? Phase.UPLOAD_FINALIZE : Phase.UPLOAD_CHUNK,
+                attemptEndNanos.get() - begin);
           }
-
-          WriteObjectResponse response = session.getResult().get();
           if (response.hasResource()) {
             return ResumableOperationResult.complete(
                 response.getResource(), response.getResource().getSize());
@@ -115,4 +133,49 @@ final class GrpcResumableSession {
         },
         Decoder.identity());
   }
+
+  /**
+   * Each region of {@code content} is memory mapped and sent without any intermediate buffering,
+   * the {@link ByteString}s of each message reference the mapped region directly rather than a copy
+   * of it. Mapped regions are read-only and never reused, making it safe to hand them to gRPC
+   * without copying.
+   */
+  private WriteObjectResponse putMapped(
+      RewindableContent content, GrpcCallContext retryingCallContext) throws Exception {
+    UnbufferedWritableByteChannelSession<WriteObjectResponse> session =
+        ResumableMedia.gapic()
+            .write()
+            .byteChannel(writeCallable.withDefaultCallContext(retryingCallContext))
+            .setByteStringStrategy(ByteStringStrategy.noCopy())
+            .setHasher(hasher)
+            .resumable()
+            .setFsyncEvery(false)
+            .unbuffered()
+            .setStartAsync(ApiFutures.immediateFuture(resumableWrite))
+            .build();
+    try (UnbufferedWritableByteChannel channel = session.open()) {
+      content.writeMappedTo(channel);
+    }
+    return session.getResult().get();
+  }
+
+  private WriteObjectResponse putBuffered(
+      RewindableContent content, GrpcCallContext retryingCallContext, BufferHandle handle)
+      throws Exception {
+    WritableByteChannelSession<BufferedWritableByteChannel, WriteObjectResponse> session =
+        ResumableMedia.gapic()
+            .write()
+            .byteChannel(writeCallable.withDefaultCallContext(retryingCallContext))
+            .setByteStringStrategy(ByteStringStrategy.copy())
+            .setHasher(hasher)
+            .resumable()
+            .setFsyncEvery(false)
+            .buffered(handle)
+            .setStartAsync(ApiFutures.immediateFuture(resumableWrite))
+            .build();
+    try (BufferedWritableByteChannel channel = session.open()) {
+      content.writeTo(channel);
+    }
+    return session.getResult().get();
+  }
 }
@@ -58,6 +58,7 @@ import com.google.cloud.storage.PostPolicyV4.PostFieldsV4;
 import com.google.cloud.storage.Retrying.Retrier;
 import com.google.cloud.storage.Retrying.RetrierWithAlg;
 import com.google.cloud.storage.Storage.ComposeRequest.SourceBlob;
+import com.google.cloud.storage.TransportCompatibility.Transport;
 import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
 import com.google.cloud.storage.UnbufferedWritableByteChannelSession.UnbufferedWritableByteChannel;
 import com.google.cloud.storage.UnifiedOpts.BucketListOpt;
@@ -70,6 +71,7 @@ import com.google.cloud.storage.UnifiedOpts.ObjectListOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.UnifiedOpts.ParallelDownload;
 import com.google.cloud.storage.UnifiedOpts.ProjectId;
 import com.google.cloud.storage.UnifiedOpts.UserProject;
 import com.google.common.annotations.VisibleForTesting;
@@ -120,6 +122,7 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
@@ -136,6 +139,7 @@ import java.util.Spliterator;
 import java.util.Spliterators.AbstractSpliterator;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -176,10 +180,13 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
   final GrpcRetryAlgorithmManager retryAlgorithmManager;
   final SyntaxDecoders syntaxDecoders;
   final Retrier retrier;
+  final StorageMetrics storageMetrics;
+  final TransferPhaseListener phaseListener;
 
   // workaround for https://github.com/googleapis/java-storage/issues/1736
   private final Opts<UserProject> defaultOpts;
   @Deprecated private final Supplier<ProjectId> defaultProjectId;
+  private final ExecutorService parallelDownloadExecutor;
 
   GrpcStorageImpl(
       GrpcStorageOptions options,
@@ -199,11 +206,16 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
     this.codecs = Conversions.grpc();
     this.retryAlgorithmManager = options.getRetryAlgorithmManager();
     this.syntaxDecoders = new SyntaxDecoders();
+    this.storageMetrics = StorageMetrics.create(options.getOpenTelemetry(), Transport.GRPC);
+    this.phaseListener = storageMetrics.phaseListener(options.getTransferPhaseListener());
     this.defaultProjectId = Suppliers.memoize(() -> UnifiedOpts.projectId(options.getProjectId()));
+    this.parallelDownloadExecutor =
+        ParallelSlicedDownload.newExecutor(options.isUseVirtualThreads());
   }
 
   @Override
   public void close() throws Exception {
+    parallelDownloadExecutor.shutdownNow();
     try (StorageClient s = storageClient;
         StorageDataClient ignore = storageDataClient) {
       s.shutdownNow();
@@ -324,7 +336,8 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
                     write,
                     storageClient.queryWriteStatusCallable(),
                     rw,
-                    opts.getHasher()),
+                    opts.getHasher(),
+                    phaseListener),
             MoreExecutors.directExecutor());
     try {
       GrpcResumableSession got = session2.get();
@@ -507,6 +520,38 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
     }
   }
 
+  @Override
+  public Stream<BlobSummary> listSummaries(String bucket, BlobListOption... options) {
+    Opts<ObjectListOpt> opts =
+        Opts.unwrap(options).prepend(defaultOpts).prepend(BlobSummary.FIELDS);
+    GrpcCallContext grpcCallContext =
+        opts.grpcMetadataMapper().apply(GrpcCallContext.createDefault());
+    ListObjectsRequest.Builder builder =
+        ListObjectsRequest.newBuilder().setParent(bucketNameCodec.encode(bucket));
+    ListObjectsRequest req = opts.listObjectsRequest().apply(builder).build();
+    Decoder<Object, BlobSummary> decoder = codecs.blobSummary(req.getReadMask());
+    return Utils.pagedStream(
+        pageToken -> {
+          ListObjectsRequest pageReq =
+              pageToken == null ? req : req.toBuilder().setPageToken(pageToken).build();
+          try {
+            GrpcCallContext merge = Utils.merge(grpcCallContext, Retrying.newCallContext());
+            return retrier.run(
+                retryAlgorithmManager.getFor(pageReq),
+                () -> storageClient.listObjectsCallable().call(pageReq, merge),
+                Decoder.identity());
+          } catch (Exception e) {
+            throw StorageException.coalesce(e);
+          }
+        },
+        ListObjectsResponse::getNextPageToken,
+        resp ->
+            Stream.concat(
+                resp.getObjectsList().stream().map(decoder::decode),
+                resp.getPrefixesList().stream()
+                    .map(prefix -> BlobSummary.directory(bucket, prefix))));
+  }
+
   @Override
   public Bucket update(BucketInfo bucketInfo, BucketTargetOption... options) {
     Opts<BucketTargetOpt> unwrap = Opts.unwrap(options);
@@ -655,6 +700,15 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
 
   @Override
   public CopyWriter copy(CopyRequest copyRequest) {
+    return copy(copyRequest, null);
+  }
+
+  @Override
+  public CopyWriter internalResumeCopy(CopyRequest copyRequest, String rewriteToken) {
+    return copy(copyRequest, rewriteToken);
+  }
+
+  private CopyWriter copy(CopyRequest copyRequest, @Nullable String rewriteToken) {
     BlobId src = copyRequest.getSource();
     BlobInfo dst = copyRequest.getTarget();
     Opts<ObjectSourceOpt> srcOpts =
@@ -703,6 +757,10 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
       b.setMaxBytesRewrittenPerCall(copyRequest.getMegabytesCopiedPerChunk() * _1MiB);
     }
 
+    if (rewriteToken != null) {
+      b.setRewriteToken(rewriteToken);
+    }
+
     RewriteObjectRequest req = requestBuilderMapper.apply(b).build();
     GrpcCallContext grpcCallContext = grpcCallContextMapper.apply(GrpcCallContext.createDefault());
     UnaryCallable<RewriteObjectRequest, RewriteResponse> callable =
@@ -722,12 +780,25 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
 
   @Override
   public byte[] readAllBytes(BlobId blob, BlobSourceOption... options) {
+    Opts<ObjectSourceOpt> opts = Opts.unwrap(options).resolveFrom(blob).prepend(defaultOpts);
+    ParallelDownload parallel = opts.parallelDownload();
+    if (parallel != null) {
+      try (BlobReadSession readSession = ApiFutureUtils.await(blobReadSession(blob, options))) {
+        ParallelSlicedDownload download =
+            parallelSlicedDownload(readSession, parallel, !opts.autoGzipDecompression());
+        if (download != null) {
+          return download.readAllBytes();
+        }
+      } catch (IOException e) {
+        throw StorageException.coalesce(e);
+      }
+    }
     UnbufferedReadableByteChannelSession<Object> session = unbufferedReadSession(blob, options);
 
     ByteArrayOutputStream baos = new ByteArrayOutputStream();
     try (UnbufferedReadableByteChannel r = session.open();
         WritableByteChannel w = Channels.newChannel(baos)) {
-      ByteStreams.copy(r, w);
+      r.writeTo(w);
     } catch (ApiException | IOException e) {
       throw StorageException.coalesce(e);
     }
@@ -755,17 +826,34 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
         retrier,
         retryAlgorithmManager.getFor(request),
         request,
-        !opts.autoGzipDecompression());
+        !opts.autoGzipDecompression(),
+        phaseListener);
   }
 
   @Override
   public void downloadTo(BlobId blob, Path path, BlobSourceOption... options) {
+    Opts<ObjectSourceOpt> opts = Opts.unwrap(options).resolveFrom(blob).prepend(defaultOpts);
+    ParallelDownload parallel = opts.parallelDownload();
+    if (parallel != null) {
+      try (BlobReadSession readSession = ApiFutureUtils.await(blobReadSession(blob, options))) {
+        ParallelSlicedDownload download =
+            parallelSlicedDownload(readSession, parallel, !opts.autoGzipDecompression());
+        if (download != null) {
+          download.downloadTo(path);
+          return;
+        }
+      } catch (IOException e) {
+        throw StorageException.coalesce(e);
+      }
+    }
 
     UnbufferedReadableByteChannelSession<Object> session = unbufferedReadSession(blob, options);
 
+    // write each response's buffers directly to the file, rather than through an intermediate
+    // buffer
     try (UnbufferedReadableByteChannel r = session.open();
-        WritableByteChannel w = Files.newByteChannel(path, WRITE_OPS)) {
-      ByteStreams.copy(r, w);
+        FileChannel w = FileChannel.open(path, WRITE_OPS)) {
+      r.writeTo(w);
     } catch (ApiException | IOException e) {
       throw StorageException.coalesce(e);
     }
@@ -778,7 +866,7 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
 
     try (UnbufferedReadableByteChannel r = session.open();
         WritableByteChannel w = Channels.newChannel(outputStream)) {
-      ByteStreams.copy(r, w);
+      r.writeTo(w);
     } catch (ApiException | IOException e) {
       throw StorageException.coalesce(e);
     }
@@ -852,6 +940,13 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
         fmtMethodName("signUrl", BlobInfo.class, long.class, TimeUnit.class, SignUrlOption.class));
   }
 
+  @Override
+  public List<URL> signUrls(
+      List<BlobInfo> blobInfos, long duration, TimeUnit unit, SignUrlOption... options) {
+    return throwHttpJsonOnly(
+        fmtMethodName("signUrls", List.class, long.class, TimeUnit.class, SignUrlOption.class));
+  }
+
   @Override
   public PostPolicyV4 generateSignedPostPolicyV4(
       BlobInfo blobInfo,
@@ -1891,6 +1986,28 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
     return opts.bidiWriteObjectRequest().apply(requestBuilder).build();
   }
 
+  /**
+   * Each slice is read as a range of the generation resolved by {@code readSession}, all ranges are
+   * multiplexed over the session's stream.
+   *
+   * @return null if the object can not be downloaded in slices
+   */
+  private @Nullable ParallelSlicedDownload parallelSlicedDownload(
+      BlobReadSession readSession, ParallelDownload config, boolean decompress) {
+    BlobInfo info = readSession.getBlobInfo();
+    if (!ParallelSlicedDownload.isApplicable(info, decompress)) {
+      return null;
+    }
+    return new ParallelSlicedDownload(
+        info,
+        config,
+        (begin, length) ->
+            readSession.readAs(
+                ReadProjectionConfigs.asChannel().withRangeSpec(RangeSpec.of(begin, length))),
+        Hasher.defaultHasher(),
+        parallelDownloadExecutor);
+  }
+
   private UnbufferedReadableByteChannelSession<Object> unbufferedReadSession(
       BlobId blob, BlobSourceOption[] options) {
 
@@ -1904,6 +2021,7 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
             retrier,
             retryAlgorithmManager.getFor(readObjectRequest))
         .setAutoGzipDecompression(!opts.autoGzipDecompression())
+        .setPhaseListener(phaseListener)
         .unbuffered()
         .setReadObjectRequest(readObjectRequest)
         .build();
@@ -2103,6 +2221,16 @@ final class GrpcStorageImpl extends BaseService<StorageOptions>
         });
   }
 
+  @Override
+  public StorageMetrics getStorageMetrics() {
+    return storageMetrics;
+  }
+
+  @Override
+  public TransferPhaseListener getTransferPhaseListener() {
+    return phaseListener;
+  }
+
   @Nullable
   private Blob internalBlobGet(BlobId blob, Opts<ObjectSourceOpt> unwrap) {
     Opts<ObjectSourceOpt> opts = unwrap.resolveFrom(blob);
@@ -28,6 +28,7 @@ import com.google.api.core.ObsoleteApi;
 import com.google.api.gax.core.CredentialsProvider;
 import com.google.api.gax.core.FixedCredentialsProvider;
 import com.google.api.gax.core.NoCredentialsProvider;
+import com.google.api.gax.grpc.ChannelPoolSettings;
 import com.google.api.gax.grpc.GrpcCallSettings;
 import com.google.api.gax.grpc.GrpcInterceptorProvider;
 import com.google.api.gax.grpc.GrpcStubCallableFactory;
@@ -122,6 +123,7 @@ import java.util.Set;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.logging.Logger;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * @since 2.14.0
@@ -147,7 +149,10 @@ public final class GrpcStorageOptions extends StorageOptions
   private final boolean grpcClientMetricsManuallyEnabled;
   private final GrpcInterceptorProvider grpcInterceptorProvider;
   private final BlobWriteSessionConfig blobWriteSessionConfig;
+  @Nullable private final GrpcChannelPoolConfig channelPoolConfig;
   private transient OpenTelemetry openTelemetry;
+  private transient TransferPhaseListener transferPhaseListener;
+  private final boolean useVirtualThreads;
 
   private GrpcStorageOptions(Builder builder, GrpcStorageDefaults serviceDefaults) {
     super(builder, serviceDefaults);
@@ -164,7 +169,10 @@ public final class GrpcStorageOptions extends StorageOptions
     this.grpcClientMetricsManuallyEnabled = builder.grpcMetricsManuallyEnabled;
     this.grpcInterceptorProvider = builder.grpcInterceptorProvider;
     this.blobWriteSessionConfig = builder.blobWriteSessionConfig;
+    this.channelPoolConfig = builder.channelPoolConfig;
     this.openTelemetry = builder.openTelemetry;
+    this.transferPhaseListener = builder.transferPhaseListener;
+    this.useVirtualThreads = builder.useVirtualThreads;
   }
 
   @Override
@@ -187,6 +195,18 @@ public final class GrpcStorageOptions extends StorageOptions
     return resolveSettingsAndOpts().x();
   }
 
+  /**
+   * The configuration of the stream-aware channel pool, or {@code null} if the default channel pool
+   * is used.
+   *
+   * @see Builder#setChannelPoolConfig(GrpcChannelPoolConfig)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable GrpcChannelPoolConfig getChannelPoolConfig() {
+    return channelPoolConfig;
+  }
+
   @InternalApi
   GrpcInterceptorProvider getGrpcInterceptorProvider() {
     return grpcInterceptorProvider;
@@ -195,6 +215,7 @@ public final class GrpcStorageOptions extends StorageOptions
   private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     this.openTelemetry = HttpStorageOptions.getDefaultInstance().getOpenTelemetry();
+    this.transferPhaseListener = TransferPhaseListener.noop();
   }
 
   /**
@@ -352,7 +373,14 @@ public final class GrpcStorageOptions extends StorageOptions
       channelProviderBuilder.setChannelConfigurator(channelConfigurator);
     }
 
-    builder.setTransportChannelProvider(channelProviderBuilder.build());
+    if (channelPoolConfig != null) {
+      // each channel of the pool is a distinct channel from the provider
+      channelProviderBuilder.setChannelPoolSettings(ChannelPoolSettings.staticallySized(1));
+      builder.setTransportChannelProvider(
+          new StorageChannelPool.Provider(channelProviderBuilder.build(), channelPoolConfig));
+    } else {
+      builder.setTransportChannelProvider(channelProviderBuilder.build());
+    }
     RetrySettings baseRetrySettings = getRetrySettings();
     RetrySettings readRetrySettings =
         baseRetrySettings.toBuilder()
@@ -414,6 +442,23 @@ public final class GrpcStorageOptions extends StorageOptions
     return openTelemetry;
   }
 
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public TransferPhaseListener getTransferPhaseListener() {
+    return transferPhaseListener;
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public boolean isUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
   /**
    * @since 2.14.0
    */
@@ -431,7 +476,10 @@ public final class GrpcStorageOptions extends StorageOptions
         enableGrpcClientMetrics,
         grpcInterceptorProvider,
         blobWriteSessionConfig,
+        channelPoolConfig,
         openTelemetry,
+        transferPhaseListener,
+        useVirtualThreads,
         baseHashCode());
   }
 
@@ -450,7 +498,10 @@ public final class GrpcStorageOptions extends StorageOptions
         && Objects.equals(terminationAwaitDuration, that.terminationAwaitDuration)
         && Objects.equals(grpcInterceptorProvider, that.grpcInterceptorProvider)
         && Objects.equals(blobWriteSessionConfig, that.blobWriteSessionConfig)
+        && Objects.equals(channelPoolConfig, that.channelPoolConfig)
         && Objects.equals(openTelemetry, that.openTelemetry)
+        && Objects.equals(transferPhaseListener, that.transferPhaseListener)
+        && useVirtualThreads == that.useVirtualThreads
         && this.baseEquals(that);
   }
 
@@ -500,7 +551,10 @@ public final class GrpcStorageOptions extends StorageOptions
         GrpcStorageDefaults.INSTANCE.grpcInterceptorProvider();
     private BlobWriteSessionConfig blobWriteSessionConfig =
         GrpcStorageDefaults.INSTANCE.getDefaultStorageWriterConfig();
+    @Nullable private GrpcChannelPoolConfig channelPoolConfig;
     private OpenTelemetry openTelemetry = GrpcStorageDefaults.INSTANCE.getDefaultOpenTelemetry();
+    private TransferPhaseListener transferPhaseListener = TransferPhaseListener.noop();
+    private boolean useVirtualThreads = false;
 
     private boolean grpcMetricsManuallyEnabled = false;
 
@@ -515,7 +569,10 @@ public final class GrpcStorageOptions extends StorageOptions
       this.enableGrpcClientMetrics = gso.enableGrpcClientMetrics;
       this.grpcInterceptorProvider = gso.grpcInterceptorProvider;
       this.blobWriteSessionConfig = gso.blobWriteSessionConfig;
+      this.channelPoolConfig = gso.channelPoolConfig;
       this.openTelemetry = gso.openTelemetry;
+      this.transferPhaseListener = gso.transferPhaseListener;
+      this.useVirtualThreads = gso.useVirtualThreads;
     }
 
     /**
@@ -723,6 +780,25 @@ public final class GrpcStorageOptions extends StorageOptions
       return this;
     }
 
+    /**
+     * Route RPCs over a stream-aware pool of channels, which spreads long-lived read and write
+     * streams across connections and grows with the number of concurrent streams.
+     *
+     * <p>Setting {@code null} restores the default behavior, a fixed size pool of channels which
+     * are selected round-robin.
+     *
+     * <p><i>Default:</i> {@code null}
+     *
+     * @see GrpcChannelPoolConfig
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public GrpcStorageOptions.Builder setChannelPoolConfig(
+        @Nullable GrpcChannelPoolConfig channelPoolConfig) {
+      this.channelPoolConfig = channelPoolConfig;
+      return this;
+    }
+
     @BetaApi
     @Override
     public GrpcStorageOptions.Builder setUniverseDomain(String universeDomain) {
@@ -750,6 +826,48 @@ public final class GrpcStorageOptions extends StorageOptions
       return this;
     }
 
+    /**
+     * Provide a listener which will be notified of the time spent in each phase of object reads and
+     * resumable uploads, for example time to first byte or time to finalize.
+     *
+     * <p>If OpenTelemetry is also enabled, phase timings are additionally recorded as metrics and
+     * as span events.
+     *
+     * <p><i>Default:</i> {@link TransferPhaseListener#noop()}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     * @see TransferPhaseListener
+     */
+    @BetaApi
+    public GrpcStorageOptions.Builder setTransferPhaseListener(
+        TransferPhaseListener transferPhaseListener) {
+      requireNonNull(transferPhaseListener, "transferPhaseListener must be non null");
+      this.transferPhaseListener = transferPhaseListener;
+      return this;
+    }
+
+    /**
+     * Whether blocking work the client runs on its own threads, for example the slices of a {@link
+     * Storage.BlobSourceOption#parallelDownload(long, int) parallel download}, should use a new
+     * virtual thread per task rather than a pool of platform threads. A {@link
+     * com.google.cloud.storage.transfermanager.TransferManager} using these options will also run
+     * its workers on virtual threads.
+     *
+     * <p>Virtual threads require Java 21 or newer, if they are not available {@link
+     * StorageOptions#getService()} will throw an {@link UnsupportedOperationException}.
+     *
+     * <p><i>Default:</i> {@code false}
+     *
+     * @see StorageOptions#isUseVirtualThreads()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    @Override
+    public GrpcStorageOptions.Builder setUseVirtualThreads(boolean useVirtualThreads) {
+      this.useVirtualThreads = useVirtualThreads;
+      return this;
+    }
+
     /**
      * @since 2.14.0
      */
@@ -914,9 +1032,13 @@ public final class GrpcStorageOptions extends StorageOptions
                       grpcStorageOptions.getRetryAlgorithmManager().idempotent()));
 
           OpenTelemetry otel = options.getOpenTelemetry();
+          TransferPhaseListener phaseListener =
+              StorageMetrics.create(otel, Transport.GRPC)
+                  .phaseListener(grpcStorageOptions.getTransferPhaseListener());
           DefaultRetrier retrier =
               new DefaultRetrier(
-                  OtelStorageDecorator.retryContextDecorator(otel), grpcStorageOptions);
+                  OtelStorageDecorator.retryContextDecorator(otel, Transport.GRPC),
+                  grpcStorageOptions);
           if (ZeroCopyReadinessChecker.isReady()) {
             LOGGER.config("zero-copy protobuf deserialization available, using it");
             StorageStubSettings baseSettings =
@@ -937,6 +1059,7 @@ public final class GrpcStorageOptions extends StorageOptions
                     new ZeroCopyBidiStreamingCallable<>(
                         stub.bidiReadObjectCallable(), stub.bidiReadObjectResponseMarshaller),
                     retryContextProvider,
+                    phaseListener,
                     IOAutoCloseable.noOp());
             GrpcStorageImpl grpcStorage =
                 new GrpcStorageImpl(
@@ -960,6 +1083,7 @@ public final class GrpcStorageOptions extends StorageOptions
                         client.bidiReadObjectCallable(),
                         ResponseContentLifecycleManager.noopBidiReadObjectResponse()),
                     retryContextProvider,
+                    phaseListener,
                     IOAutoCloseable.noOp());
             GrpcStorageImpl grpcStorage =
                 new GrpcStorageImpl(
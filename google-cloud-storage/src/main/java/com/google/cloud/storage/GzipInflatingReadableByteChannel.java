@@ -0,0 +1,342 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.TransferPhaseListener.Phase;
+import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
+import com.google.common.base.MoreObjects;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompress a gzip stream read from {@code source}, inflating directly into the buffers provided
+ * to {@link #read(ByteBuffer[], int, int)}.
+ *
+ * <p>Compressed bytes are read from {@code source} into a single input buffer which is handed to
+ * the {@link Inflater} as is, and whenever a destination buffer is array backed the inflater writes
+ * directly into it. This avoids the small intermediate buffers and copies of layering a {@link
+ * java.util.zip.GZIPInputStream} over an {@link java.io.InputStream} adapter of a channel.
+ *
+ * <p>Like {@code GZIPInputStream}, multiple concatenated gzip members are decompressed as a single
+ * stream, and any trailing bytes after a member which are not a gzip header are ignored.
+ *
+ * <p>The number of compressed and decompressed bytes are tracked, and the cumulative time spent
+ * inflating is reported to the {@link TransferPhaseListener} as {@link Phase#READ_DECOMPRESS} when
+ * the channel is closed. The byte counts are reported at the same time, to the read bytes counter
+ * of {@link StorageMetrics} when metrics are enabled.
+ */
+final class GzipInflatingReadableByteChannel implements UnbufferedReadableByteChannel {
+  private static final int GZIP_MAGIC = 0x8b1f;
+  private static final int HEADER_SIZE = 10;
+  private static final int TRAILER_SIZE = 8;
+  private static final int FHCRC = 2;
+  private static final int FEXTRA = 4;
+  private static final int FNAME = 8;
+  private static final int FCOMMENT = 16;
+
+  private static final int DEFAULT_INPUT_BUFFER_SIZE = ByteSizeConstants._256KiB;
+  private static final int SCRATCH_SIZE = 64 * 1024;
+
+  private final ReadableByteChannel source;
+  private final TransferPhaseListener phaseListener;
+  private final boolean phaseTimingEnabled;
+  private final ByteBuffer in;
+  private final Inflater inflater;
+  private final CRC32 crc32;
+
+  private State state;
+  private boolean sourceEOF;
+  private byte[] scratch;
+  private long compressedBytes;
+  private long decompressedBytes;
+  private long inflateNanos;
+  private boolean open;
+
+  /**
+   * @param source The channel to read compressed bytes from
+   * @param prefix Any compressed bytes which have already been read from {@code source}
+   */
+  GzipInflatingReadableByteChannel(
+      ReadableByteChannel source, ByteBuffer prefix, TransferPhaseListener phaseListener) {
+    this(source, prefix, phaseListener, DEFAULT_INPUT_BUFFER_SIZE);
+  }
+
+  GzipInflatingReadableByteChannel(
+      ReadableByteChannel source,
+      ByteBuffer prefix,
+      TransferPhaseListener phaseListener,
+      int inputBufferSize) {
+    this.source = source;
+    this.phaseListener = phaseListener;
+    this.phaseTimingEnabled = TransferPhaseListeners.isEnabled(phaseListener);
+    this.in = ByteBuffer.allocate(Math.max(inputBufferSize, prefix.remaining() + HEADER_SIZE));
+    this.in.order(ByteOrder.LITTLE_ENDIAN);
+    this.compressedBytes = prefix.remaining();
+    this.in.put(prefix);
+    Buffers.flip(this.in);
+    // raw inflate, the gzip header and trailer are parsed by this class
+    this.inflater = new Inflater(true);
+    this.crc32 = new CRC32();
+    this.state = State.FIRST_HEADER;
+    this.open = true;
+  }
+
+  @Override
+  public long read(ByteBuffer[] dsts, int offset, int length) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    long total = 0;
+    for (int i = offset; i < offset + length && state != State.EOF; i++) {
+      ByteBuffer dst = dsts[i];
+      while (dst.hasRemaining() && state != State.EOF) {
+        switch (state) {
+          case FIRST_HEADER:
+          case NEXT_HEADER:
+            readHeader();
+            break;
+          case DATA:
+            total += inflateTo(dst);
+            break;
+          case TRAILER:
+            readTrailer();
+            break;
+          default:
+            throw new IllegalStateException("Unexpected state: " + state);
+        }
+      }
+    }
+    if (total == 0 && state == State.EOF) {
+      return -1;
+    }
+    return total;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!open) {
+      return;
+    }
+    open = false;
+    inflater.end();
+    if (phaseTimingEnabled && inflateNanos > 0) {
+      phaseListener.onPhase(Phase.READ_DECOMPRESS, inflateNanos);
+    }
+    TransferPhaseListeners.gzipInflated(phaseListener, compressedBytes, decompressedBytes);
+    source.close();
+  }
+
+  /** The number of compressed bytes read from the source */
+  long getCompressedBytes() {
+    return compressedBytes;
+  }
+
+  /** The number of decompressed bytes produced */
+  long getDecompressedBytes() {
+    return decompressedBytes;
+  }
+
+  /** The cumulative number of nanoseconds spent inflating, if phase timing is enabled */
+  long getInflateNanos() {
+    return inflateNanos;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("state", state)
+        .add("compressedBytes", compressedBytes)
+        .add("decompressedBytes", decompressedBytes)
+        .add("inflateNanos", inflateNanos)
+        .add("open", open)
+        .toString();
+  }
+
+  private long inflateTo(ByteBuffer dst) throws IOException {
+    if (inflater.needsInput()) {
+      if (!in.hasRemaining() && !ensure(1)) {
+        throw new EOFException("Unexpected end of gzip stream");
+      }
+      inflater.setInput(in.array(), in.arrayOffset() + in.position(), in.remaining());
+      // the inflater now owns all remaining input, any unconsumed bytes are returned to `in` when
+      // the member is finished
+      Buffers.position(in, in.limit());
+    }
+
+    long begin = phaseTimingEnabled ? System.nanoTime() : 0L;
+    int inflated;
+    try {
+      if (dst.hasArray()) {
+        int off = dst.arrayOffset() + dst.position();
+        inflated = inflater.inflate(dst.array(), off, dst.remaining());
+        crc32.update(dst.array(), off, inflated);
+        Buffers.position(dst, dst.position() + inflated);
+      } else {
+        if (scratch == null) {
+          scratch = new byte[SCRATCH_SIZE];
+        }
+        inflated = inflater.inflate(scratch, 0, Math.min(scratch.length, dst.remaining()));
+        crc32.update(scratch, 0, inflated);
+        dst.put(scratch, 0, inflated);
+      }
+    } catch (DataFormatException e) {
+      throw new ZipException(e.getMessage());
+    } finally {
+      if (phaseTimingEnabled) {
+        inflateNanos += System.nanoTime() - begin;
+      }
+    }
+    decompressedBytes += inflated;
+
+    if (inflater.finished()) {
+      // return any bytes the inflater did not consume, they are the trailer and possibly the
+      // next member
+      Buffers.position(in, in.limit() - inflater.getRemaining());
+      state = State.TRAILER;
+    } else if (inflater.needsDictionary()) {
+      throw new ZipException("Unsupported gzip stream, preset dictionary required");
+    }
+    return inflated;
+  }
+
+  private void readHeader() throws IOException {
+    boolean first = state == State.FIRST_HEADER;
+    if (!ensure(HEADER_SIZE)) {
+      if (first) {
+        throw new EOFException("Unexpected end of gzip stream");
+      }
+      // trailing bytes which can not possibly be a gzip member are ignored
+      state = State.EOF;
+      return;
+    }
+    int magic = in.getShort(in.position()) & 0xffff;
+    if (magic != GZIP_MAGIC) {
+      if (first) {
+        throw new ZipException("Not in GZIP format");
+      }
+      state = State.EOF;
+      return;
+    }
+    Buffers.position(in, in.position() + 2);
+    int method = in.get() & 0xff;
+    if (method != 8) {
+      throw new ZipException("Unsupported compression method");
+    }
+    int flags = in.get() & 0xff;
+    // MTIME (4), XFL (1), OS (1)
+    Buffers.position(in, in.position() + 6);
+    if ((flags & FEXTRA) == FEXTRA) {
+      requireBytes(2);
+      skip(in.getShort() & 0xffff);
+    }
+    if ((flags & FNAME) == FNAME) {
+      skipZeroTerminated();
+    }
+    if ((flags & FCOMMENT) == FCOMMENT) {
+      skipZeroTerminated();
+    }
+    if ((flags & FHCRC) == FHCRC) {
+      skip(2);
+    }
+    inflater.reset();
+    crc32.reset();
+    state = State.DATA;
+  }
+
+  private void readTrailer() throws IOException {
+    requireBytes(TRAILER_SIZE);
+    long expectedCrc32 = in.getInt() & 0xffffffffL;
+    long expectedSize = in.getInt() & 0xffffffffL;
+    if (expectedCrc32 != crc32.getValue()) {
+      throw new ZipException("Corrupt GZIP trailer, crc32 mismatch");
+    }
+    if (expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+      throw new ZipException("Corrupt GZIP trailer, size mismatch");
+    }
+    state = ensure(1) ? State.NEXT_HEADER : State.EOF;
+  }
+
+  private void requireBytes(int n) throws IOException {
+    if (!ensure(n)) {
+      throw new EOFException("Unexpected end of gzip stream");
+    }
+  }
+
+  private void skip(int n) throws IOException {
+    int remaining = n;
+    while (remaining > 0) {
+      requireBytes(1);
+      int skip = Math.min(remaining, in.remaining());
+      Buffers.position(in, in.position() + skip);
+      remaining -= skip;
+    }
+  }
+
+  private void skipZeroTerminated() throws IOException {
+    do {
+      requireBytes(1);
+    } while (in.get() != 0);
+  }
+
+  /**
+   * Ensure at least {@code n} bytes are available in {@code in}, reading from {@code source} as
+   * necessary.
+   *
+   * @return false if {@code source} reached EOF before {@code n} bytes were available
+   */
+  private boolean ensure(int n) throws IOException {
+    while (in.remaining() < n) {
+      if (sourceEOF) {
+        return false;
+      }
+      Buffers.compact(in);
+      int read;
+      try {
+        read = source.read(in);
+      } finally {
+        Buffers.flip(in);
+      }
+      if (read == -1) {
+        sourceEOF = true;
+      } else {
+        compressedBytes += read;
+      }
+    }
+    return true;
+  }
+
+  private enum State {
+    FIRST_HEADER,
+    DATA,
+    TRAILER,
+    NEXT_HEADER,
+    EOF
+  }
+}
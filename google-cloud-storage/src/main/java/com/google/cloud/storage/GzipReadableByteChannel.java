@@ -18,29 +18,30 @@ package com.google.cloud.storage;
 
 import com.google.api.core.ApiFuture;
 import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
-import java.io.ByteArrayInputStream;
-import java.io.FilterInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.SequenceInputStream;
 import java.nio.ByteBuffer;
-import java.nio.channels.Channels;
-import java.nio.channels.ReadableByteChannel;
-import java.nio.channels.ScatteringByteChannel;
 import java.util.concurrent.ExecutionException;
-import java.util.zip.GZIPInputStream;
 
 final class GzipReadableByteChannel implements UnbufferedReadableByteChannel {
   private final UnbufferedReadableByteChannel source;
   private final ApiFuture<String> contentEncoding;
+  private final TransferPhaseListener phaseListener;
 
   private boolean retEOF = false;
-  private ScatteringByteChannel delegate;
+  private UnbufferedReadableByteChannel delegate;
   private ByteBuffer leftovers;
 
   GzipReadableByteChannel(UnbufferedReadableByteChannel source, ApiFuture<String> contentEncoding) {
+    this(source, contentEncoding, TransferPhaseListener.noop());
+  }
+
+  GzipReadableByteChannel(
+      UnbufferedReadableByteChannel source,
+      ApiFuture<String> contentEncoding,
+      TransferPhaseListener phaseListener) {
     this.source = source;
     this.contentEncoding = contentEncoding;
+    this.phaseListener = phaseListener;
   }
 
   @Override
@@ -63,27 +64,16 @@ final class GzipReadableByteChannel implements UnbufferedReadableByteChannel {
         // Step 2: wait for the object metadata, this is populated in the first message from GCS
         String contentEncoding = this.contentEncoding.get();
         // if the Content-Encoding is gzip, Step 3: wire gzip decompression into the byte path
-        //   this will have a copy impact as we are no longer controlling all the buffers
+        //   bytes are inflated directly into dsts, no intermediate streams are involved
         if ("gzip".equals(contentEncoding) || "x-gzip".equals(contentEncoding)) {
-          // to wire gzip decompression into the byte path:
-          // Create an input stream of the firstByte bytes we already read
-          ByteArrayInputStream firstByteAgain = new ByteArrayInputStream(firstByte);
-          // Create an InputStream facade of source
-          InputStream sourceInputStream = Channels.newInputStream(source);
-          // create a new InputStream with the firstByte bytes prepended to source
-          SequenceInputStream first4AndSource =
-              new SequenceInputStream(firstByteAgain, sourceInputStream);
-          // add gzip decompression
-          GZIPInputStream decompress =
-              new GZIPInputStream(new OptimisticAvailabilityInputStream(first4AndSource));
-          // create a channel from our GZIPInputStream
-          ReadableByteChannel decompressedChannel = Channels.newChannel(decompress);
-          // turn our ReadableByteChannel into a ScatteringByteChannel
-          delegate = StorageByteChannels.readable().asScatteringByteChannel(decompressedChannel);
+          // to wire gzip decompression into the byte path, inflate directly from source
+          //   starting with the byte we already read
+          Buffers.flip(wrap);
+          delegate = new GzipInflatingReadableByteChannel(source, wrap, phaseListener);
         } else {
           // if content encoding isn't gzip, copy the bytes we read into the dsts and set delegate
           // to source
-          wrap.flip();
+          Buffers.flip(wrap);
           bytesRead += Buffers.copy(wrap, dsts, offset, length);
           if (wrap.hasRemaining()) {
             leftovers = wrap;
@@ -131,46 +121,4 @@ final class GzipReadableByteChannel implements UnbufferedReadableByteChannel {
       throw new IOException("Error while attempting to close channel.", e);
     }
   }
-
-  /**
-   * There is an edge-case in the JDK's {@link GZIPInputStream} where it will prematurely terminate
-   * reading from the underlying InputStream.
-   *
-   * <p>This class decorates an InputStream to be optimistic about the number of available bytes
-   * when reading data to encourage GzipInputStream to consume the entire stream.
-   *
-   * <p>For a more in-depth write up see <a target="_blank"
-   * href="https://github.com/googleapis/google-http-java-client/pull/1608">google-http-java-client/pull/1608</a>
-   *
-   * <p><i>NOTE</i> This class is a copy of the private class from {@code
-   * com.google.api.client.http.GzipSupport}. This class should not be made public, as it is not
-   * general purpose and so is reproduced here.
-   */
-  private static final class OptimisticAvailabilityInputStream extends FilterInputStream {
-    private int lastRead = 0;
-
-    OptimisticAvailabilityInputStream(InputStream delegate) {
-      super(delegate);
-    }
-
-    @Override
-    public int available() throws IOException {
-      return lastRead > -1 ? Integer.MAX_VALUE : 0;
-    }
-
-    @Override
-    public int read() throws IOException {
-      return lastRead = super.read();
-    }
-
-    @Override
-    public int read(byte[] b) throws IOException {
-      return lastRead = super.read(b);
-    }
-
-    @Override
-    public int read(byte[] b, int off, int len) throws IOException {
-      return lastRead = super.read(b, off, len);
-    }
-  }
 }
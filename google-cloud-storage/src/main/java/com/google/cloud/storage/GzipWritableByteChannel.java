@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.Hasher.GuavaHasher;
+import com.google.common.base.MoreObjects;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Gzip compress all bytes written to this channel before writing them to {@code delegate}.
+ *
+ * <p>A single {@link Deflater} along with its input and output buffers is used for the lifetime of
+ * the channel, rather than layering a {@link java.util.zip.GZIPOutputStream} over a channel adapter
+ * and paying for the intermediate copies that would entail.
+ *
+ * <p>The CRC32C of the compressed bytes (the bytes which will actually be stored in GCS) is
+ * accumulated as they are written to {@code delegate}, and available from {@link
+ * #getStoredCrc32c()}.
+ *
+ * <p>{@code delegate} is always closed by {@link #close()}. If the trailer can not be written, the
+ * upload is first cancelled via the provided {@link UploadCanceller} so closing {@code delegate}
+ * does not finalize a truncated object.
+ */
+final class GzipWritableByteChannel implements WritableByteChannel {
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final byte[] HEADER = {
+    (byte) 0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff
+  };
+  private static final int TRAILER_SIZE = 8;
+
+  private final WritableByteChannel delegate;
+  private final UploadCanceller canceller;
+  private final GuavaHasher hasher;
+  private final Deflater deflater;
+  private final CRC32 crc32;
+  private final ByteBuffer out;
+
+  private byte[] scratch;
+  private Crc32cLengthKnown storedCrc32c;
+  private boolean open;
+
+  GzipWritableByteChannel(WritableByteChannel delegate, int compressionLevel) {
+    this(delegate, compressionLevel, () -> {});
+  }
+
+  GzipWritableByteChannel(
+      WritableByteChannel delegate, int compressionLevel, UploadCanceller canceller) {
+    this.delegate = delegate;
+    this.canceller = canceller;
+    this.hasher = Hasher.enabled();
+    // raw deflate, the gzip header and trailer are written by this class
+    this.deflater = new Deflater(compressionLevel, true);
+    this.crc32 = new CRC32();
+    this.out = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    this.out.put(HEADER);
+    this.storedCrc32c = Crc32cValue.zero();
+    this.open = true;
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    int consumed = src.remaining();
+    while (src.hasRemaining()) {
+      if (src.hasArray()) {
+        int off = src.arrayOffset() + src.position();
+        int len = src.remaining();
+        crc32.update(src.array(), off, len);
+        deflater.setInput(src.array(), off, len);
+        Buffers.position(src, src.limit());
+      } else {
+        if (scratch == null) {
+          scratch = new byte[BUFFER_SIZE];
+        }
+        int len = Math.min(scratch.length, src.remaining());
+        src.get(scratch, 0, len);
+        crc32.update(scratch, 0, len);
+        deflater.setInput(scratch, 0, len);
+      }
+      // fully drain the input before returning, the deflater holds a reference to the array
+      while (!deflater.needsInput()) {
+        deflateToOut();
+      }
+    }
+    return consumed;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!open) {
+      return;
+    }
+    open = false;
+    Throwable failure = null;
+    try {
+      deflater.finish();
+      while (!deflater.finished()) {
+        deflateToOut();
+      }
+      if (out.remaining() < TRAILER_SIZE) {
+        flushOut();
+      }
+      out.putInt((int) crc32.getValue());
+      // ISIZE is the uncompressed length modulo 2^32
+      out.putInt((int) deflater.getBytesRead());
+      flushOut();
+    } catch (Throwable t) {
+      failure = t;
+      // cancel before closing delegate, otherwise closing would finalize a truncated object
+      try {
+        canceller.cancel();
+      } catch (Throwable t2) {
+        failure.addSuppressed(t2);
+      }
+      throw t;
+    } finally {
+      deflater.end();
+      try {
+        delegate.close();
+      } catch (Throwable t) {
+        if (failure == null) {
+          throw t;
+        }
+        failure.addSuppressed(t);
+      }
+    }
+  }
+
+  Crc32cLengthKnown getStoredCrc32c() {
+    return storedCrc32c;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("delegate", delegate)
+        .add("storedCrc32c", storedCrc32c)
+        .add("open", open)
+        .toString();
+  }
+
+  private void deflateToOut() throws IOException {
+    int deflated =
+        deflater.deflate(out.array(), out.arrayOffset() + out.position(), out.remaining());
+    Buffers.position(out, out.position() + deflated);
+    if (!out.hasRemaining()) {
+      flushOut();
+    }
+  }
+
+  private void flushOut() throws IOException {
+    Buffers.flip(out);
+    storedCrc32c = storedCrc32c.concat(hasher.hash(out.duplicate()));
+    StorageChannelUtils.blockingEmptyTo(out, delegate);
+    Buffers.clear(out);
+  }
+
+  /** Cancel the upload {@code delegate} writes to, without finalizing the object */
+  @FunctionalInterface
+  interface UploadCanceller {
+    void cancel() throws IOException;
+  }
+}
@@ -33,12 +33,17 @@ final class HttpClientContext {
   private final HttpRequestFactory requestFactory;
   private final ObjectParser objectParser;
   private final Tracer tracer;
+  private final TransferPhaseListener phaseListener;
 
   private HttpClientContext(
-      HttpRequestFactory requestFactory, ObjectParser objectParser, Tracer tracer) {
+      HttpRequestFactory requestFactory,
+      ObjectParser objectParser,
+      Tracer tracer,
+      TransferPhaseListener phaseListener) {
     this.requestFactory = requestFactory;
     this.objectParser = objectParser;
     this.tracer = tracer;
+    this.phaseListener = phaseListener;
   }
 
   @SuppressWarnings({"unchecked", "SameParameterValue"})
@@ -66,6 +71,14 @@ final class HttpClientContext {
     return tracer;
   }
 
+  public TransferPhaseListener getPhaseListener() {
+    return phaseListener;
+  }
+
+  HttpClientContext withPhaseListener(TransferPhaseListener phaseListener) {
+    return new HttpClientContext(requestFactory, objectParser, tracer, phaseListener);
+  }
+
   public Span startSpan(String name) {
     // record events is hardcoded to true in HttpStorageRpc, preserve it here
     return tracer.spanBuilder(name).setRecordEvents(true).startSpan();
@@ -75,11 +88,13 @@ final class HttpClientContext {
     return new HttpClientContext(
         storageRpc.getStorage().getRequestFactory(),
         storageRpc.getStorage().getObjectParser(),
-        Tracing.getTracer());
+        Tracing.getTracer(),
+        TransferPhaseListener.noop());
   }
 
   public static HttpClientContext of(
       HttpRequestFactory requestFactory, JsonObjectParser jsonObjectParser) {
-    return new HttpClientContext(requestFactory, jsonObjectParser, Tracing.getTracer());
+    return new HttpClientContext(
+        requestFactory, jsonObjectParser, Tracing.getTracer(), TransferPhaseListener.noop());
   }
 }
@@ -82,6 +82,11 @@ public class HttpCopyWriter extends CopyWriter {
     }
   }
 
+  @Override
+  String getRewriteToken() {
+    return rewriteResponse.rewriteToken;
+  }
+
   @Override
   public RestorableState<CopyWriter> capture() {
     return StateImpl.newBuilder(
@@ -96,16 +96,19 @@ final class HttpDownloadSessionBuilder {
                   blobReadChannelContext.getApiaryClient(),
                   resultFuture,
                   blobReadChannelContext.getRetrier(),
-                  blobReadChannelContext.getRetryAlgorithmManager().idempotent()),
+                  blobReadChannelContext.getRetryAlgorithmManager().idempotent(),
+                  blobReadChannelContext.getHttpClientContext().getPhaseListener()),
               ApiFutures.transform(
-                  resultFuture, StorageObject::getContentEncoding, MoreExecutors.directExecutor()));
+                  resultFuture, StorageObject::getContentEncoding, MoreExecutors.directExecutor()),
+              blobReadChannelContext.getHttpClientContext().getPhaseListener());
         } else {
           return new ApiaryUnbufferedReadableByteChannel(
               request,
               blobReadChannelContext.getApiaryClient(),
               resultFuture,
               blobReadChannelContext.getRetrier(),
-              blobReadChannelContext.getRetryAlgorithmManager().idempotent());
+              blobReadChannelContext.getRetryAlgorithmManager().idempotent(),
+              blobReadChannelContext.getHttpClientContext().getPhaseListener());
         }
       };
     }
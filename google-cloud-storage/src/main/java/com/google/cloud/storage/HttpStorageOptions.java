@@ -26,6 +26,7 @@ import com.google.api.gax.retrying.RetrySettings;
 import com.google.api.gax.rpc.HeaderProvider;
 import com.google.api.gax.tracing.ApiTracerFactory;
 import com.google.auth.Credentials;
+import com.google.auth.http.HttpTransportFactory;
 import com.google.cloud.ServiceFactory;
 import com.google.cloud.ServiceRpc;
 import com.google.cloud.TransportOptions;
@@ -49,6 +50,7 @@ import java.time.Clock;
 import java.util.Objects;
 import java.util.Set;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * @since 2.14.0
@@ -66,6 +68,16 @@ public class HttpStorageOptions extends StorageOptions {
   private final BlobWriteSessionConfig blobWriteSessionConfig;
 
   private transient OpenTelemetry openTelemetry;
+  private transient TransferPhaseListener transferPhaseListener;
+  private final boolean useVirtualThreads;
+
+  /**
+   * {@link HttpTransportOptions} only retains the class name of its factory when serialized, retain
+   * the factory itself so its values are not replaced by defaults upon deserialization.
+   */
+  private final @Nullable JavaNetHttpTransportFactory javaNetHttpTransportFactory;
+
+  private transient @Nullable HttpTransportOptions deserializedTransportOptions;
 
   private HttpStorageOptions(Builder builder, StorageDefaults serviceDefaults) {
     super(builder, serviceDefaults);
@@ -76,6 +88,17 @@ public class HttpStorageOptions extends StorageOptions {
     retryDepsAdapter = new RetryDependenciesAdapter();
     blobWriteSessionConfig = builder.blobWriteSessionConfig;
     openTelemetry = builder.openTelemetry;
+    transferPhaseListener = builder.transferPhaseListener;
+    useVirtualThreads = builder.useVirtualThreads;
+    javaNetHttpTransportFactory = javaNetHttpTransportFactory(getTransportOptions());
+  }
+
+  @Override
+  public TransportOptions getTransportOptions() {
+    if (deserializedTransportOptions != null) {
+      return deserializedTransportOptions;
+    }
+    return super.getTransportOptions();
   }
 
   @Override
@@ -102,6 +125,23 @@ public class HttpStorageOptions extends StorageOptions {
     return openTelemetry;
   }
 
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public TransferPhaseListener getTransferPhaseListener() {
+    return transferPhaseListener;
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public boolean isUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
   @Override
   public HttpStorageOptions.Builder toBuilder() {
     return new HttpStorageOptions.Builder(this);
@@ -110,7 +150,13 @@ public class HttpStorageOptions extends StorageOptions {
   @Override
   public int hashCode() {
     return Objects.hash(
-        retryAlgorithmManager, blobWriteSessionConfig, openTelemetry, baseHashCode());
+        retryAlgorithmManager,
+        blobWriteSessionConfig,
+        openTelemetry,
+        transferPhaseListener,
+        useVirtualThreads,
+        javaNetHttpTransportFactory,
+        baseHashCode());
   }
 
   @Override
@@ -125,6 +171,9 @@ public class HttpStorageOptions extends StorageOptions {
     return Objects.equals(retryAlgorithmManager, that.retryAlgorithmManager)
         && Objects.equals(blobWriteSessionConfig, that.blobWriteSessionConfig)
         && Objects.equals(openTelemetry, that.openTelemetry)
+        && Objects.equals(transferPhaseListener, that.transferPhaseListener)
+        && useVirtualThreads == that.useVirtualThreads
+        && Objects.equals(javaNetHttpTransportFactory, that.javaNetHttpTransportFactory)
         && this.baseEquals(that);
   }
 
@@ -132,6 +181,24 @@ public class HttpStorageOptions extends StorageOptions {
     in.defaultReadObject();
     this.retryDepsAdapter = new RetryDependenciesAdapter();
     this.openTelemetry = HttpStorageOptions.getDefaultInstance().getOpenTelemetry();
+    this.transferPhaseListener = TransferPhaseListener.noop();
+    if (javaNetHttpTransportFactory != null) {
+      this.deserializedTransportOptions =
+          ((HttpTransportOptions) super.getTransportOptions())
+              .toBuilder().setHttpTransportFactory(javaNetHttpTransportFactory).build();
+    }
+  }
+
+  private static @Nullable JavaNetHttpTransportFactory javaNetHttpTransportFactory(
+      TransportOptions transportOptions) {
+    if (transportOptions instanceof HttpTransportOptions) {
+      HttpTransportFactory factory =
+          ((HttpTransportOptions) transportOptions).getHttpTransportFactory();
+      if (factory instanceof JavaNetHttpTransportFactory) {
+        return (JavaNetHttpTransportFactory) factory;
+      }
+    }
+    return null;
   }
 
   public static HttpStorageOptions.Builder newBuilder() {
@@ -157,15 +224,21 @@ public class HttpStorageOptions extends StorageOptions {
     private BlobWriteSessionConfig blobWriteSessionConfig =
         HttpStorageDefaults.INSTANCE.getDefaultStorageWriterConfig();
     private OpenTelemetry openTelemetry = HttpStorageDefaults.INSTANCE.getDefaultOpenTelemetry();
+    private TransferPhaseListener transferPhaseListener = TransferPhaseListener.noop();
+    private boolean useVirtualThreads = false;
 
     Builder() {}
 
     Builder(StorageOptions options) {
       super(options);
       HttpStorageOptions hso = (HttpStorageOptions) options;
+      // super copies the field, which lacks the factory of deserialized options
+      setTransportOptions(hso.getTransportOptions());
       this.storageRetryStrategy = hso.retryAlgorithmManager.retryStrategy;
       this.blobWriteSessionConfig = hso.blobWriteSessionConfig;
       this.openTelemetry = hso.getOpenTelemetry();
+      this.transferPhaseListener = hso.getTransferPhaseListener();
+      this.useVirtualThreads = hso.useVirtualThreads;
     }
 
     @Override
@@ -317,6 +390,48 @@ public class HttpStorageOptions extends StorageOptions {
       this.openTelemetry = openTelemetry;
       return this;
     }
+
+    /**
+     * Provide a listener which will be notified of the time spent in each phase of object reads and
+     * resumable uploads, for example time to first byte or time to finalize.
+     *
+     * <p>If OpenTelemetry is also enabled, phase timings are additionally recorded as metrics and
+     * as span events.
+     *
+     * <p><i>Default:</i> {@link TransferPhaseListener#noop()}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     * @see TransferPhaseListener
+     */
+    @BetaApi
+    public HttpStorageOptions.Builder setTransferPhaseListener(
+        TransferPhaseListener transferPhaseListener) {
+      requireNonNull(transferPhaseListener, "transferPhaseListener must be non null");
+      this.transferPhaseListener = transferPhaseListener;
+      return this;
+    }
+
+    /**
+     * Whether blocking work the client runs on its own threads, for example the slices of a {@link
+     * Storage.BlobSourceOption#parallelDownload(long, int) parallel download}, should use a new
+     * virtual thread per task rather than a pool of platform threads. A {@link
+     * com.google.cloud.storage.transfermanager.TransferManager} using these options will also run
+     * its workers on virtual threads.
+     *
+     * <p>Virtual threads require Java 21 or newer, if they are not available {@link
+     * StorageOptions#getService()} will throw an {@link UnsupportedOperationException}.
+     *
+     * <p><i>Default:</i> {@code false}
+     *
+     * @see StorageOptions#isUseVirtualThreads()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    @Override
+    public HttpStorageOptions.Builder setUseVirtualThreads(boolean useVirtualThreads) {
+      this.useVirtualThreads = useVirtualThreads;
+      return this;
+    }
   }
 
   public static final class HttpStorageDefaults extends StorageDefaults {
@@ -408,7 +523,9 @@ public class HttpStorageOptions extends StorageOptions {
           WriterFactory factory = blobWriteSessionConfig.createFactory(clock);
           StorageImpl storage =
               new StorageImpl(
-                  httpStorageOptions, factory, new HttpRetrier(options.createRetrier()));
+                  httpStorageOptions,
+                  factory,
+                  new HttpRetrier(options.createRetrier(Transport.HTTP)));
           return OtelStorageDecorator.decorate(storage, otel, Transport.HTTP);
         } catch (IOException e) {
           throw new IllegalStateException(
@@ -0,0 +1,1089 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.collect.ImmutableSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * An {@link HttpTransport} which sends requests with {@code java.net.http.HttpClient} (JDK 11+)
+ * while still targeting Java 8.
+ *
+ * <p>The {@code java.net.http} api is resolved reflectively once, the same as {@link
+ * VirtualThreads}. A single client is shared by every request of the transport, which allows
+ * concurrent requests to the same host to be multiplexed over a small number of HTTP/2 connections
+ * rather than each occupying its own HTTP/1.1 connection.
+ *
+ * <p>Requests are sent with {@code sendAsync}. Request bodies are handed to the client as they are
+ * written, waiting on the client's demand, and response bodies are received as {@code ByteBuffer}s
+ * with the next requested only once the previous has been read. At most {@code
+ * maxConcurrentRequests} requests may be in flight at a time, a request holds its permit until its
+ * response body has completed, failed or been disconnected. Waiting for a permit is bounded by the
+ * connect timeout.
+ */
+final class JavaNetHttpTransport extends HttpTransport {
+
+  /** Headers {@code java.net.http} computes itself and refuses to accept from a caller. */
+  private static final ImmutableSet<String> RESTRICTED_HEADERS =
+      ImmutableSet.of("connection", "content-length", "expect", "host", "upgrade");
+
+  private static final int REQUEST_BODY_BUFFER_SIZE = ByteSizeConstants._128KiB;
+
+  private final Object client;
+  private final boolean http2;
+  private final Duration connectTimeout;
+  private final int maxConcurrentRequests;
+  private final Semaphore permits;
+
+  JavaNetHttpTransport(boolean http2, Duration connectTimeout, int maxConcurrentRequests) {
+    this.client = Jdk.newClient(http2, connectTimeout);
+    this.http2 = http2;
+    this.connectTimeout = connectTimeout;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.permits = new Semaphore(maxConcurrentRequests);
+  }
+
+  static boolean isSupported() {
+    return Jdk.SUPPORTED;
+  }
+
+  @Override
+  public boolean supportsMethod(String method) {
+    return true;
+  }
+
+  @Override
+  protected LowLevelHttpRequest buildRequest(String method, String url) {
+    return new Request(method, URI.create(url));
+  }
+
+  /** The number of requests which may currently be started without waiting */
+  int availablePermits() {
+    return permits.availablePermits();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("http2", http2)
+        .add("connectTimeout", connectTimeout)
+        .add("maxConcurrentRequests", maxConcurrentRequests)
+        .toString();
+  }
+
+  private void acquirePermit() throws IOException {
+    boolean acquired;
+    try {
+      acquired = permits.tryAcquire(connectTimeout.toNanos(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+    }
+    if (!acquired) {
+      throw new SocketTimeoutException(
+          String.format(
+              Locale.US,
+              "Timed out after %s waiting for one of %d in flight requests to complete",
+              connectTimeout,
+              maxConcurrentRequests));
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> response) throws IOException {
+    try {
+      return response.get();
+    } catch (InterruptedException e) {
+      response.cancel(true);
+      Thread.currentThread().interrupt();
+      InterruptedIOException ioe = new InterruptedIOException(e.getMessage());
+      ioe.initCause(e);
+      throw ioe;
+    } catch (ExecutionException e) {
+      throw Jdk.unwrap(e.getCause());
+    }
+  }
+
+  private final class Request extends LowLevelHttpRequest {
+    private final String method;
+    private final URI uri;
+    private final List<Entry<String, String>> headers;
+    private @Nullable Duration timeout;
+
+    private Request(String method, URI uri) {
+      this.method = method;
+      this.uri = uri;
+      this.headers = new ArrayList<>();
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+      if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.US))) {
+        headers.add(new java.util.AbstractMap.SimpleImmutableEntry<>(name, value));
+      }
+    }
+
+    @Override
+    public void setTimeout(int connectTimeout, int readTimeout) {
+      // the connect timeout belongs to the client. The read timeout bounds the time until the
+      // response headers are received, there is no per read timeout for the body.
+      timeout = readTimeout > 0 ? Duration.ofMillis(readTimeout) : null;
+    }
+
+    @Override
+    public LowLevelHttpResponse execute() throws IOException {
+      if (getContentType() != null) {
+        addHeader("Content-Type", getContentType());
+      }
+      if (getContentEncoding() != null) {
+        addHeader("Content-Encoding", getContentEncoding());
+      }
+      boolean hasContent = getStreamingContent() != null;
+      long contentLength = getContentLength();
+      // java.net.http only accepts a positive length for a streamed body, an empty body is sent
+      // as no body at all
+      RequestBody body =
+          hasContent && contentLength != 0
+              ? new RequestBody(
+                  contentLength > 0
+                      ? (int) Math.min(contentLength, REQUEST_BODY_BUFFER_SIZE)
+                      : REQUEST_BODY_BUFFER_SIZE)
+              : null;
+
+      acquirePermit();
+      AtomicBoolean released = new AtomicBoolean(false);
+      Runnable release =
+          () -> {
+            if (released.compareAndSet(false, true)) {
+              permits.release();
+            }
+          };
+      try {
+        Object request = Jdk.newRequest(uri, method, headers, body, contentLength, timeout);
+        CompletableFuture<Object> response = Jdk.sendAsync(client, request);
+        if (body != null) {
+          // once the exchange has an outcome, a response or a failure, the remainder of the body
+          // will never be sent
+          response.whenComplete((r, t) -> body.abort());
+          try {
+            getStreamingContent().writeTo(body);
+            body.close();
+          } catch (IOException | RuntimeException | Error e) {
+            body.fail(e);
+            throw e;
+          }
+        }
+        return new Response(await(response), release);
+      } catch (IOException | RuntimeException | Error e) {
+        release.run();
+        throw e;
+      }
+    }
+  }
+
+  private static final class Response extends LowLevelHttpResponse {
+    private final int statusCode;
+    private final String version;
+    private final List<String> headerNames;
+    private final List<String> headerValues;
+    private final @Nullable String contentType;
+    private final @Nullable String contentEncoding;
+    private final long contentLength;
+    private final ResponseBody content;
+
+    private Response(Object response, Runnable release) {
+      this.statusCode = Jdk.statusCode(response);
+      this.version = Jdk.version(response);
+      this.headerNames = new ArrayList<>();
+      this.headerValues = new ArrayList<>();
+      String contentType = null;
+      String contentEncoding = null;
+      long contentLength = -1;
+      for (Entry<String, List<String>> e : Jdk.headers(response).entrySet()) {
+        String name = e.getKey();
+        for (String value : e.getValue()) {
+          headerNames.add(name);
+          headerValues.add(value);
+          if (name.equalsIgnoreCase("Content-Type")) {
+            contentType = value;
+          } else if (name.equalsIgnoreCase("Content-Encoding")) {
+            contentEncoding = value;
+          } else if (name.equalsIgnoreCase("Content-Length")) {
+            contentLength = Long.parseLong(value.trim());
+          }
+        }
+      }
+      this.contentType = contentType;
+      this.contentEncoding = contentEncoding;
+      this.contentLength = contentLength;
+      this.content = new ResponseBody(release);
+      Jdk.subscribe(Jdk.body(response), content);
+    }
+
+    @Override
+    public InputStream getContent() {
+      return content;
+    }
+
+    @Override
+    public @Nullable String getContentEncoding() {
+      return contentEncoding;
+    }
+
+    @Override
+    public long getContentLength() {
+      return contentLength;
+    }
+
+    @Override
+    public @Nullable String getContentType() {
+      return contentType;
+    }
+
+    @Override
+    public String getStatusLine() {
+      return version + " " + statusCode;
+    }
+
+    @Override
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    @Override
+    public @Nullable String getReasonPhrase() {
+      // not available from java.net.http
+      return null;
+    }
+
+    @Override
+    public int getHeaderCount() {
+      return headerNames.size();
+    }
+
+    @Override
+    public String getHeaderName(int index) {
+      return headerNames.get(index);
+    }
+
+    @Override
+    public String getHeaderValue(int index) {
+      return headerValues.get(index);
+    }
+
+    @Override
+    public void disconnect() {
+      // cancelling the body before it has completed cancels the exchange, releasing its stream or
+      // connection
+      content.close();
+    }
+  }
+
+  /**
+   * Publishes the bytes written to it by the streaming content of a request to the client. A full
+   * buffer is only handed over once the client has requested it, until then the writing thread
+   * waits, so at most one buffer of the body is held at a time.
+   *
+   * <p>The bytes are only available as they are written, a second subscriber receives an error.
+   */
+  private static final class RequestBody extends OutputStream implements Publisher<ByteBuffer> {
+    private static final Subscription NOOP_SUBSCRIPTION =
+        new Subscription() {
+          @Override
+          public void request(long n) {}
+
+          @Override
+          public void cancel() {}
+        };
+
+    private final int bufferSize;
+    private final ReentrantLock lock;
+    private final Condition changed;
+
+    private @Nullable Subscriber<? super ByteBuffer> subscriber;
+    private boolean subscribed;
+    private long demand;
+    private boolean done;
+    private @Nullable Throwable failure;
+
+    private ByteBuffer buffer;
+    private boolean closed;
+
+    private RequestBody(int bufferSize) {
+      this.bufferSize = bufferSize;
+      this.lock = new ReentrantLock();
+      this.changed = lock.newCondition();
+      this.buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> s) {
+      boolean first;
+      Throwable failed;
+      lock.lock();
+      try {
+        first = subscriber == null;
+        if (first) {
+          subscriber = s;
+        }
+        failed = failure;
+      } finally {
+        lock.unlock();
+      }
+      if (!first) {
+        s.onSubscribe(NOOP_SUBSCRIPTION);
+        s.onError(new IllegalStateException("The request body can only be sent once"));
+        return;
+      } else if (failed != null) {
+        s.onSubscribe(NOOP_SUBSCRIPTION);
+        s.onError(failed);
+        return;
+      }
+      s.onSubscribe(
+          new Subscription() {
+            @Override
+            public void request(long n) {
+              RequestBody.this.request(n);
+            }
+
+            @Override
+            public void cancel() {
+              abort();
+            }
+          });
+      lock.lock();
+      try {
+        subscribed = true;
+        failed = failure;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      // producing the body failed while the subscriber was being subscribed
+      if (failed != null) {
+        s.onError(failed);
+      }
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      Preconditions.checkPositionIndexes(off, off + len, b.length);
+      while (len > 0) {
+        int n = Math.min(len, buffer.remaining());
+        buffer.put(b, off, n);
+        off += n;
+        len -= n;
+        if (!buffer.hasRemaining()) {
+          publish();
+        }
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (closed) {
+        return;
+      }
+      closed = true;
+      if (buffer.position() > 0) {
+        publish();
+      }
+      Subscriber<? super ByteBuffer> s = await(false);
+      if (s != null) {
+        s.onComplete();
+      }
+    }
+
+    /** Failing to produce the body fails the request rather than sending it incomplete. */
+    private void fail(Throwable t) {
+      Subscriber<? super ByteBuffer> s;
+      lock.lock();
+      try {
+        s = subscribed && !done ? subscriber : null;
+        if (!done) {
+          failure = t;
+        }
+        done = true;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      if (s != null) {
+        s.onError(t);
+      }
+    }
+
+    /** Any further bytes written are discarded. */
+    private void abort() {
+      lock.lock();
+      try {
+        done = true;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void request(long n) {
+      lock.lock();
+      try {
+        if (n > 0) {
+          demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+          changed.signalAll();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void publish() throws IOException {
+      buffer.flip();
+      Subscriber<? super ByteBuffer> s = await(true);
+      if (s != null) {
+        s.onNext(buffer);
+      }
+      // the client may still hold the previous buffer, it can not be reused
+      buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * Wait until the subscriber may be signalled, returning {@code null} if the body is no longer
+     * wanted.
+     */
+    private @Nullable Subscriber<? super ByteBuffer> await(boolean needDemand)
+        throws InterruptedIOException {
+      lock.lock();
+      try {
+        while (!done && !(subscribed && (!needDemand || demand > 0))) {
+          changed.await();
+        }
+        if (done) {
+          return null;
+        }
+        if (needDemand) {
+          demand--;
+        }
+        return subscriber;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException(e.getMessage());
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Receives the {@code ByteBuffer}s of a response body and exposes them as an {@link InputStream}.
+   * The next list of buffers is requested once the previous has been read, and the permit of the
+   * request is released as soon as the body completes or fails.
+   */
+  private static final class ResponseBody extends InputStream
+      implements Subscriber<List<ByteBuffer>> {
+    private final Runnable release;
+    private final ReentrantLock lock;
+    private final Condition changed;
+    private final Deque<ByteBuffer> buffers;
+
+    private @Nullable Subscription subscription;
+    private boolean requested;
+    private boolean complete;
+    private @Nullable Throwable error;
+    private boolean closed;
+
+    private ResponseBody(Runnable release) {
+      this.release = release;
+      this.lock = new ReentrantLock();
+      this.changed = lock.newCondition();
+      this.buffers = new ArrayDeque<>();
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+      boolean cancel;
+      lock.lock();
+      try {
+        cancel = closed;
+        if (!cancel) {
+          subscription = s;
+          requested = true;
+        }
+      } finally {
+        lock.unlock();
+      }
+      if (cancel) {
+        s.cancel();
+      } else {
+        s.request(1);
+      }
+    }
+
+    @Override
+    public void onNext(List<ByteBuffer> items) {
+      lock.lock();
+      try {
+        requested = false;
+        if (!closed) {
+          for (ByteBuffer item : items) {
+            if (item.hasRemaining()) {
+              buffers.add(item);
+            }
+          }
+        }
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void onError(Throwable t) {
+      lock.lock();
+      try {
+        error = t;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      release.run();
+    }
+
+    @Override
+    public void onComplete() {
+      lock.lock();
+      try {
+        complete = true;
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      release.run();
+    }
+
+    @Override
+    public int read() throws IOException {
+      byte[] b = new byte[1];
+      int read = read(b, 0, 1);
+      return read == -1 ? -1 : b[0] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      Preconditions.checkPositionIndexes(off, off + len, b.length);
+      if (len == 0) {
+        return 0;
+      }
+      int read;
+      Subscription toRequest = null;
+      lock.lock();
+      try {
+        while (true) {
+          if (closed) {
+            throw new IOException("Stream closed");
+          }
+          ByteBuffer head = buffers.peek();
+          if (head != null) {
+            read = Math.min(len, head.remaining());
+            head.get(b, off, read);
+            if (!head.hasRemaining()) {
+              buffers.poll();
+            }
+            break;
+          } else if (error != null) {
+            throw error instanceof IOException ? (IOException) error : new IOException(error);
+          } else if (complete) {
+            return -1;
+          }
+          changed.await();
+        }
+        if (buffers.isEmpty() && !requested && !complete && error == null) {
+          requested = true;
+          toRequest = subscription;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException(e.getMessage());
+      } finally {
+        lock.unlock();
+      }
+      if (toRequest != null) {
+        toRequest.request(1);
+      }
+      return read;
+    }
+
+    @Override
+    public int available() {
+      lock.lock();
+      try {
+        ByteBuffer head = buffers.peek();
+        return head == null ? 0 : head.remaining();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void close() {
+      Subscription toCancel;
+      lock.lock();
+      try {
+        if (closed) {
+          return;
+        }
+        closed = true;
+        toCancel = complete || error != null ? null : subscription;
+        buffers.clear();
+        changed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+      if (toCancel != null) {
+        toCancel.cancel();
+      }
+      release.run();
+    }
+  }
+
+  /** Mirrors {@code java.util.concurrent.Flow.Publisher}, which is not available in Java 8. */
+  private interface Publisher<T> {
+    void subscribe(Subscriber<? super T> s);
+  }
+
+  /** Mirrors {@code java.util.concurrent.Flow.Subscriber}, which is not available in Java 8. */
+  private interface Subscriber<T> {
+    void onSubscribe(Subscription s);
+
+    void onNext(T item);
+
+    void onError(Throwable t);
+
+    void onComplete();
+  }
+
+  /** Mirrors {@code java.util.concurrent.Flow.Subscription}, which is not available in Java 8. */
+  private interface Subscription {
+    void request(long n);
+
+    void cancel();
+  }
+
+  /**
+   * Reflective access to the parts of {@code java.net.http} used by this transport, along with
+   * adapters between {@code java.util.concurrent.Flow} and its mirrors above.
+   */
+  private static final class Jdk {
+    private static final boolean SUPPORTED;
+    private static final @Nullable Class<?> FLOW_PUBLISHER;
+    private static final @Nullable Class<?> FLOW_SUBSCRIBER;
+    private static final @Nullable Class<?> FLOW_SUBSCRIPTION;
+    private static final @Nullable Method FLOW_PUBLISHER_SUBSCRIBE;
+    private static final @Nullable Method FLOW_SUBSCRIBER_ON_SUBSCRIBE;
+    private static final @Nullable Method FLOW_SUBSCRIBER_ON_NEXT;
+    private static final @Nullable Method FLOW_SUBSCRIBER_ON_ERROR;
+    private static final @Nullable Method FLOW_SUBSCRIBER_ON_COMPLETE;
+    private static final @Nullable Method FLOW_SUBSCRIPTION_REQUEST;
+    private static final @Nullable Method FLOW_SUBSCRIPTION_CANCEL;
+    private static final @Nullable Method CLIENT_NEW_BUILDER;
+    private static final @Nullable Method CLIENT_BUILDER_VERSION;
+    private static final @Nullable Method CLIENT_BUILDER_CONNECT_TIMEOUT;
+    private static final @Nullable Method CLIENT_BUILDER_BUILD;
+    private static final @Nullable Object VERSION_HTTP_2;
+    private static final @Nullable Object VERSION_HTTP_1_1;
+    private static final @Nullable Method CLIENT_SEND_ASYNC;
+    private static final @Nullable Method REQUEST_NEW_BUILDER;
+    private static final @Nullable Method REQUEST_BUILDER_METHOD;
+    private static final @Nullable Method REQUEST_BUILDER_HEADER;
+    private static final @Nullable Method REQUEST_BUILDER_TIMEOUT;
+    private static final @Nullable Method REQUEST_BUILDER_BUILD;
+    private static final @Nullable Method PUBLISHERS_NO_BODY;
+    private static final @Nullable Method PUBLISHERS_FROM_PUBLISHER;
+    private static final @Nullable Method PUBLISHERS_FROM_PUBLISHER_WITH_LENGTH;
+    private static final @Nullable Object BODY_HANDLER_OF_PUBLISHER;
+    private static final @Nullable Method RESPONSE_STATUS_CODE;
+    private static final @Nullable Method RESPONSE_VERSION;
+    private static final @Nullable Method RESPONSE_HEADERS;
+    private static final @Nullable Method RESPONSE_BODY;
+    private static final @Nullable Method HEADERS_MAP;
+
+    static {
+      boolean supported = false;
+      Class<?> flowPublisher = null;
+      Class<?> flowSubscriber = null;
+      Class<?> flowSubscription = null;
+      Method flowPublisherSubscribe = null;
+      Method flowSubscriberOnSubscribe = null;
+      Method flowSubscriberOnNext = null;
+      Method flowSubscriberOnError = null;
+      Method flowSubscriberOnComplete = null;
+      Method flowSubscriptionRequest = null;
+      Method flowSubscriptionCancel = null;
+      Method clientNewBuilder = null;
+      Method clientBuilderVersion = null;
+      Method clientBuilderConnectTimeout = null;
+      Method clientBuilderBuild = null;
+      Object versionHttp2 = null;
+      Object versionHttp11 = null;
+      Method clientSendAsync = null;
+      Method requestNewBuilder = null;
+      Method requestBuilderMethod = null;
+      Method requestBuilderHeader = null;
+      Method requestBuilderTimeout = null;
+      Method requestBuilderBuild = null;
+      Method publishersNoBody = null;
+      Method publishersFromPublisher = null;
+      Method publishersFromPublisherWithLength = null;
+      Object bodyHandlerOfPublisher = null;
+      Method responseStatusCode = null;
+      Method responseVersion = null;
+      Method responseHeaders = null;
+      Method responseBody = null;
+      Method headersMap = null;
+      try {
+        flowPublisher = Class.forName("java.util.concurrent.Flow$Publisher");
+        flowSubscriber = Class.forName("java.util.concurrent.Flow$Subscriber");
+        flowSubscription = Class.forName("java.util.concurrent.Flow$Subscription");
+        Class<?> client = Class.forName("java.net.http.HttpClient");
+        Class<?> clientBuilder = Class.forName("java.net.http.HttpClient$Builder");
+        Class<?> version = Class.forName("java.net.http.HttpClient$Version");
+        Class<?> request = Class.forName("java.net.http.HttpRequest");
+        Class<?> requestBuilder = Class.forName("java.net.http.HttpRequest$Builder");
+        Class<?> publisher = Class.forName("java.net.http.HttpRequest$BodyPublisher");
+        Class<?> publishers = Class.forName("java.net.http.HttpRequest$BodyPublishers");
+        Class<?> handler = Class.forName("java.net.http.HttpResponse$BodyHandler");
+        Class<?> handlers = Class.forName("java.net.http.HttpResponse$BodyHandlers");
+        Class<?> response = Class.forName("java.net.http.HttpResponse");
+        Class<?> headers = Class.forName("java.net.http.HttpHeaders");
+
+        flowPublisherSubscribe = flowPublisher.getMethod("subscribe", flowSubscriber);
+        flowSubscriberOnSubscribe = flowSubscriber.getMethod("onSubscribe", flowSubscription);
+        flowSubscriberOnNext = flowSubscriber.getMethod("onNext", Object.class);
+        flowSubscriberOnError = flowSubscriber.getMethod("onError", Throwable.class);
+        flowSubscriberOnComplete = flowSubscriber.getMethod("onComplete");
+        flowSubscriptionRequest = flowSubscription.getMethod("request", long.class);
+        flowSubscriptionCancel = flowSubscription.getMethod("cancel");
+        clientNewBuilder = client.getMethod("newBuilder");
+        clientBuilderVersion = clientBuilder.getMethod("version", version);
+        clientBuilderConnectTimeout = clientBuilder.getMethod("connectTimeout", Duration.class);
+        clientBuilderBuild = clientBuilder.getMethod("build");
+        versionHttp2 = version.getField("HTTP_2").get(null);
+        versionHttp11 = version.getField("HTTP_1_1").get(null);
+        clientSendAsync = client.getMethod("sendAsync", request, handler);
+        requestNewBuilder = request.getMethod("newBuilder", URI.class);
+        requestBuilderMethod = requestBuilder.getMethod("method", String.class, publisher);
+        requestBuilderHeader = requestBuilder.getMethod("header", String.class, String.class);
+        requestBuilderTimeout = requestBuilder.getMethod("timeout", Duration.class);
+        requestBuilderBuild = requestBuilder.getMethod("build");
+        publishersNoBody = publishers.getMethod("noBody");
+        publishersFromPublisher = publishers.getMethod("fromPublisher", flowPublisher);
+        publishersFromPublisherWithLength =
+            publishers.getMethod("fromPublisher", flowPublisher, long.class);
+        bodyHandlerOfPublisher = handlers.getMethod("ofPublisher").invoke(null);
+        responseStatusCode = response.getMethod("statusCode");
+        responseVersion = response.getMethod("version");
+        responseHeaders = response.getMethod("headers");
+        responseBody = response.getMethod("body");
+        headersMap = headers.getMethod("map");
+        supported = true;
+      } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+        supported = false;
+      }
+      SUPPORTED = supported;
+      FLOW_PUBLISHER = flowPublisher;
+      FLOW_SUBSCRIBER = flowSubscriber;
+      FLOW_SUBSCRIPTION = flowSubscription;
+      FLOW_PUBLISHER_SUBSCRIBE = flowPublisherSubscribe;
+      FLOW_SUBSCRIBER_ON_SUBSCRIBE = flowSubscriberOnSubscribe;
+      FLOW_SUBSCRIBER_ON_NEXT = flowSubscriberOnNext;
+      FLOW_SUBSCRIBER_ON_ERROR = flowSubscriberOnError;
+      FLOW_SUBSCRIBER_ON_COMPLETE = flowSubscriberOnComplete;
+      FLOW_SUBSCRIPTION_REQUEST = flowSubscriptionRequest;
+      FLOW_SUBSCRIPTION_CANCEL = flowSubscriptionCancel;
+      CLIENT_NEW_BUILDER = clientNewBuilder;
+      CLIENT_BUILDER_VERSION = clientBuilderVersion;
+      CLIENT_BUILDER_CONNECT_TIMEOUT = clientBuilderConnectTimeout;
+      CLIENT_BUILDER_BUILD = clientBuilderBuild;
+      VERSION_HTTP_2 = versionHttp2;
+      VERSION_HTTP_1_1 = versionHttp11;
+      CLIENT_SEND_ASYNC = clientSendAsync;
+      REQUEST_NEW_BUILDER = requestNewBuilder;
+      REQUEST_BUILDER_METHOD = requestBuilderMethod;
+      REQUEST_BUILDER_HEADER = requestBuilderHeader;
+      REQUEST_BUILDER_TIMEOUT = requestBuilderTimeout;
+      REQUEST_BUILDER_BUILD = requestBuilderBuild;
+      PUBLISHERS_NO_BODY = publishersNoBody;
+      PUBLISHERS_FROM_PUBLISHER = publishersFromPublisher;
+      PUBLISHERS_FROM_PUBLISHER_WITH_LENGTH = publishersFromPublisherWithLength;
+      BODY_HANDLER_OF_PUBLISHER = bodyHandlerOfPublisher;
+      RESPONSE_STATUS_CODE = responseStatusCode;
+      RESPONSE_VERSION = responseVersion;
+      RESPONSE_HEADERS = responseHeaders;
+      RESPONSE_BODY = responseBody;
+      HEADERS_MAP = headersMap;
+    }
+
+    private Jdk() {}
+
+    private static Object newClient(boolean http2, Duration connectTimeout) {
+      checkSupported();
+      Object builder = invoke(CLIENT_NEW_BUILDER, null);
+      invoke(CLIENT_BUILDER_VERSION, builder, http2 ? VERSION_HTTP_2 : VERSION_HTTP_1_1);
+      invoke(CLIENT_BUILDER_CONNECT_TIMEOUT, builder, connectTimeout);
+      return invoke(CLIENT_BUILDER_BUILD, builder);
+    }
+
+    private static Object newRequest(
+        URI uri,
+        String method,
+        List<Entry<String, String>> headers,
+        @Nullable Publisher<ByteBuffer> body,
+        long contentLength,
+        @Nullable Duration timeout) {
+      Object builder = invoke(REQUEST_NEW_BUILDER, null, uri);
+      Object publisher;
+      if (body == null) {
+        publisher = invoke(PUBLISHERS_NO_BODY, null);
+      } else if (contentLength > 0) {
+        publisher =
+            invoke(PUBLISHERS_FROM_PUBLISHER_WITH_LENGTH, null, flowPublisher(body), contentLength);
+      } else {
+        publisher = invoke(PUBLISHERS_FROM_PUBLISHER, null, flowPublisher(body));
+      }
+      invoke(REQUEST_BUILDER_METHOD, builder, method, publisher);
+      for (Entry<String, String> header : headers) {
+        invoke(REQUEST_BUILDER_HEADER, builder, header.getKey(), header.getValue());
+      }
+      if (timeout != null) {
+        invoke(REQUEST_BUILDER_TIMEOUT, builder, timeout);
+      }
+      return invoke(REQUEST_BUILDER_BUILD, builder);
+    }
+
+    /** The returned future completes once the response headers have been received. */
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> sendAsync(Object client, Object request) {
+      return (CompletableFuture<Object>)
+          invoke(CLIENT_SEND_ASYNC, client, request, BODY_HANDLER_OF_PUBLISHER);
+    }
+
+    private static int statusCode(Object response) {
+      return (int) invoke(RESPONSE_STATUS_CODE, response);
+    }
+
+    private static String version(Object response) {
+      return invoke(RESPONSE_VERSION, response)
+          .toString()
+          .replace("HTTP_1_1", "HTTP/1.1")
+          .replace("HTTP_2", "HTTP/2");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, List<String>> headers(Object response) {
+      return (Map<String, List<String>>) invoke(HEADERS_MAP, invoke(RESPONSE_HEADERS, response));
+    }
+
+    /** The {@code Flow.Publisher<List<ByteBuffer>>} of the response body */
+    private static Object body(Object response) {
+      return invoke(RESPONSE_BODY, response);
+    }
+
+    private static <T> void subscribe(Object flowPublisher, Subscriber<T> subscriber) {
+      invoke(FLOW_PUBLISHER_SUBSCRIBE, flowPublisher, flowSubscriber(subscriber));
+    }
+
+    private static <T> Object flowPublisher(Publisher<T> publisher) {
+      return proxy(
+          FLOW_PUBLISHER,
+          (name, args) -> {
+            if (name.equals("subscribe")) {
+              publisher.subscribe(subscriber(args[0]));
+            }
+          });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Object flowSubscriber(Subscriber<T> subscriber) {
+      return proxy(
+          FLOW_SUBSCRIBER,
+          (name, args) -> {
+            switch (name) {
+              case "onSubscribe":
+                subscriber.onSubscribe(subscription(args[0]));
+                break;
+              case "onNext":
+                subscriber.onNext((T) args[0]);
+                break;
+              case "onError":
+                subscriber.onError((Throwable) args[0]);
+                break;
+              case "onComplete":
+                subscriber.onComplete();
+                break;
+              default:
+                break;
+            }
+          });
+    }
+
+    private static Object flowSubscription(Subscription subscription) {
+      return proxy(
+          FLOW_SUBSCRIPTION,
+          (name, args) -> {
+            if (name.equals("request")) {
+              subscription.request((long) args[0]);
+            } else if (name.equals("cancel")) {
+              subscription.cancel();
+            }
+          });
+    }
+
+    private static <T> Subscriber<T> subscriber(Object flowSubscriber) {
+      return new Subscriber<T>() {
+        @Override
+        public void onSubscribe(Subscription s) {
+          invoke(FLOW_SUBSCRIBER_ON_SUBSCRIBE, flowSubscriber, flowSubscription(s));
+        }
+
+        @Override
+        public void onNext(T item) {
+          invoke(FLOW_SUBSCRIBER_ON_NEXT, flowSubscriber, item);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+          invoke(FLOW_SUBSCRIBER_ON_ERROR, flowSubscriber, t);
+        }
+
+        @Override
+        public void onComplete() {
+          invoke(FLOW_SUBSCRIBER_ON_COMPLETE, flowSubscriber);
+        }
+      };
+    }
+
+    private static Subscription subscription(Object flowSubscription) {
+      return new Subscription() {
+        @Override
+        public void request(long n) {
+          invoke(FLOW_SUBSCRIPTION_REQUEST, flowSubscription, n);
+        }
+
+        @Override
+        public void cancel() {
+          invoke(FLOW_SUBSCRIPTION_CANCEL, flowSubscription);
+        }
+      };
+    }
+
+    /**
+     * Implement {@code iface}, whose methods all return void, by passing the name and arguments of
+     * each call to {@code handler}.
+     */
+    private static Object proxy(Class<?> iface, BiConsumer<String, Object[]> handler) {
+      return Proxy.newProxyInstance(
+          Jdk.class.getClassLoader(),
+          new Class<?>[] {iface},
+          (proxy, method, args) -> {
+            switch (method.getName()) {
+              case "equals":
+                return proxy == args[0];
+              case "hashCode":
+                return System.identityHashCode(proxy);
+              case "toString":
+                return iface.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+              default:
+                handler.accept(method.getName(), args);
+                return null;
+            }
+          });
+    }
+
+    private static Object invoke(Method method, @Nullable Object target, Object... args) {
+      try {
+        return method.invoke(target, args);
+      } catch (InvocationTargetException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw new IllegalStateException(e.getCause());
+      } catch (IllegalAccessException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+
+    private static IOException unwrap(Throwable cause) {
+      if (cause instanceof CompletionException && cause.getCause() != null) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof IOException) {
+        return (IOException) cause;
+      } else if (cause instanceof InterruptedException) {
+        Thread.currentThread().interrupt();
+        InterruptedIOException ioe = new InterruptedIOException(cause.getMessage());
+        ioe.initCause(cause);
+        return ioe;
+      } else if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      return new IOException(cause);
+    }
+
+    private static void checkSupported() {
+      if (!SUPPORTED) {
+        throw new UnsupportedOperationException(
+            "java.net.http is not available, it requires Java 11 or newer");
+      }
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.core.BetaApi;
+import com.google.auth.http.HttpTransportFactory;
+import com.google.cloud.http.HttpTransportOptions;
+import com.google.common.base.MoreObjects;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * An {@link HttpTransportFactory} which creates transports backed by {@code
+ * java.net.http.HttpClient}, allowing the HTTP transport to use HTTP/2.
+ *
+ * <p>With HTTP/2 enabled, concurrent requests to Cloud Storage are multiplexed over a small number
+ * of connections, rather than each in flight request requiring its own connection as with the
+ * default HTTP/1.1 transport. JSON requests, object reads and resumable uploads are all supported.
+ *
+ * <p>To use, provide an instance to {@link HttpTransportOptions.Builder#setHttpTransportFactory}
+ *
+ * <pre>{@code
+ * Storage storage =
+ *     StorageOptions.http()
+ *         .setTransportOptions(
+ *             HttpTransportOptions.newBuilder()
+ *                 .setHttpTransportFactory(
+ *                     new JavaNetHttpTransportFactory().withMaxConcurrentRequests(64))
+ *                 .build())
+ *         .build()
+ *         .getService();
+ * }</pre>
+ *
+ * <p>Requirements and limitations:
+ *
+ * <ol>
+ *   <li>{@code java.net.http} is part of Java 11 and newer. When running on an older JVM, {@link
+ *       #isSupported()} returns false and {@link #create()} will throw {@link
+ *       UnsupportedOperationException}.
+ *   <li>The connection pool size and idle connection keep-alive of {@code java.net.http} are not
+ *       configurable per client, they are controlled by the JVM wide system properties {@code
+ *       jdk.httpclient.connectionPoolSize} and {@code jdk.httpclient.keepalive.timeout}. {@link
+ *       #withMaxConcurrentRequests(int)} bounds the number of requests in flight at a time for a
+ *       transport, which for HTTP/1.1 also bounds the number of connections in use.
+ *   <li>Once {@link #getMaxConcurrentRequests()} requests are in flight, a new request waits at
+ *       most {@link #getConnectTimeout()} for one of them to complete before failing with a {@link
+ *       java.net.SocketTimeoutException}.
+ *   <li>The read timeout of {@link HttpTransportOptions} bounds the time until response headers are
+ *       received; it is not applied to each read of a response body.
+ *   <li>{@link HttpTransportOptions} only retains the class name of its factory when serialized.
+ *       {@link HttpStorageOptions} retains the factory itself, so its values are preserved when
+ *       {@link HttpStorageOptions} are serialized.
+ * </ol>
+ *
+ * <p>Instances of this class are immutable and thread safe. Each call to {@link #create()} creates
+ * a new {@code HttpClient}.
+ *
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class JavaNetHttpTransportFactory implements HttpTransportFactory, Serializable {
+  private static final long serialVersionUID = 2283465742911562396L;
+
+  private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(20);
+  private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 256;
+
+  private final boolean http2Enabled;
+  private final Duration connectTimeout;
+  private final int maxConcurrentRequests;
+
+  /**
+   * Create a new factory with default values.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public JavaNetHttpTransportFactory() {
+    this(true, DEFAULT_CONNECT_TIMEOUT, DEFAULT_MAX_CONCURRENT_REQUESTS);
+  }
+
+  private JavaNetHttpTransportFactory(
+      boolean http2Enabled, Duration connectTimeout, int maxConcurrentRequests) {
+    this.http2Enabled = http2Enabled;
+    this.connectTimeout = connectTimeout;
+    this.maxConcurrentRequests = maxConcurrentRequests;
+  }
+
+  /**
+   * Whether {@code java.net.http} is available in the current JVM.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static boolean isSupported() {
+    return JavaNetHttpTransport.isSupported();
+  }
+
+  /**
+   * Whether HTTP/2 should be negotiated with the server. When disabled, only HTTP/1.1 will be used.
+   *
+   * <p><i>Default:</i> {@code true}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isHttp2Enabled() {
+    return http2Enabled;
+  }
+
+  /**
+   * @see #isHttp2Enabled()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public JavaNetHttpTransportFactory withHttp2Enabled(boolean http2Enabled) {
+    if (http2Enabled == this.http2Enabled) {
+      return this;
+    }
+    return new JavaNetHttpTransportFactory(http2Enabled, connectTimeout, maxConcurrentRequests);
+  }
+
+  /**
+   * The maximum amount of time to wait while establishing a new connection, or for a prior request
+   * to complete once {@link #getMaxConcurrentRequests()} requests are in flight.
+   *
+   * <p><i>Default:</i> {@code 20s}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public Duration getConnectTimeout() {
+    return connectTimeout;
+  }
+
+  /**
+   * @see #getConnectTimeout()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public JavaNetHttpTransportFactory withConnectTimeout(Duration connectTimeout) {
+    requireNonNull(connectTimeout, "connectTimeout must be non null");
+    checkArgument(
+        !connectTimeout.isNegative() && !connectTimeout.isZero(),
+        "connectTimeout must be > 0 (connectTimeout = %s)",
+        connectTimeout);
+    if (connectTimeout.equals(this.connectTimeout)) {
+      return this;
+    }
+    return new JavaNetHttpTransportFactory(http2Enabled, connectTimeout, maxConcurrentRequests);
+  }
+
+  /**
+   * The maximum number of requests a transport will have in flight at a time. Once reached,
+   * additional requests will wait, up to {@link #getConnectTimeout()}, for a prior request to
+   * complete before being sent. A request is complete once its response body has been fully
+   * received, has failed or has been disconnected.
+   *
+   * <p><i>Default:</i> {@code 256}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getMaxConcurrentRequests() {
+    return maxConcurrentRequests;
+  }
+
+  /**
+   * @see #getMaxConcurrentRequests()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public JavaNetHttpTransportFactory withMaxConcurrentRequests(int maxConcurrentRequests) {
+    checkArgument(
+        maxConcurrentRequests > 0,
+        "maxConcurrentRequests must be > 0 (maxConcurrentRequests = %s)",
+        maxConcurrentRequests);
+    if (maxConcurrentRequests == this.maxConcurrentRequests) {
+      return this;
+    }
+    return new JavaNetHttpTransportFactory(http2Enabled, connectTimeout, maxConcurrentRequests);
+  }
+
+  /**
+   * @throws UnsupportedOperationException if {@code java.net.http} is not available
+   * @see #isSupported()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public HttpTransport create() {
+    return new JavaNetHttpTransport(http2Enabled, connectTimeout, maxConcurrentRequests);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof JavaNetHttpTransportFactory)) {
+      return false;
+    }
+    JavaNetHttpTransportFactory that = (JavaNetHttpTransportFactory) o;
+    return http2Enabled == that.http2Enabled
+        && maxConcurrentRequests == that.maxConcurrentRequests
+        && Objects.equals(connectTimeout, that.connectTimeout);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(http2Enabled, connectTimeout, maxConcurrentRequests);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("http2Enabled", http2Enabled)
+        .add("connectTimeout", connectTimeout)
+        .add("maxConcurrentRequests", maxConcurrentRequests)
+        .toString();
+  }
+}
@@ -16,6 +16,9 @@
 
 package com.google.cloud.storage;
 
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.util.Objects.requireNonNull;
+
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutureCallback;
 import com.google.api.core.ApiFutures;
@@ -32,6 +35,7 @@ import com.google.cloud.storage.TransportCompatibility.Transport;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.storage.v2.ServiceConstants.Values;
@@ -40,6 +44,7 @@ import com.google.storage.v2.WriteObjectResponse;
 import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -51,6 +56,7 @@ import java.util.Objects;
 import java.util.stream.Collector;
 import javax.annotation.concurrent.Immutable;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * There are scenarios in which disk space is more plentiful than memory space. This new {@link
@@ -65,6 +71,10 @@ import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
  * is possible. However, this approach will not work with the HTTP transports Resumable Upload
  * Session spec.
  *
+ * <p>By default, the journal file is synced to disk after every write. A {@link SyncPolicy} can be
+ * specified via {@link #withSyncPolicy(SyncPolicy)} to trade some durability of the journal in the
+ * event of a crash of the host for fewer fsyncs.
+ *
  * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
  * @see GrpcStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
  */
@@ -86,10 +96,50 @@ public final class JournalingBlobWriteSessionConfig extends BlobWriteSessionConf
   /** Used for {@link java.io.Serializable} */
   @MonotonicNonNull private volatile ArrayList<String> absolutePaths;
 
+  /**
+   * non-final because of {@link java.io.Serializable}, instances serialized before this field was
+   * added will have it resolved to {@link SyncPolicy#everyWrite()} when deserialized.
+   */
+  @MonotonicNonNull private SyncPolicy syncPolicy;
+
   @InternalApi
   JournalingBlobWriteSessionConfig(ImmutableList<Path> paths, boolean includeLoggingSink) {
+    this(paths, includeLoggingSink, SyncPolicy.everyWrite());
+  }
+
+  private JournalingBlobWriteSessionConfig(
+      ImmutableList<Path> paths, boolean includeLoggingSink, SyncPolicy syncPolicy) {
     this.paths = paths;
     this.includeLoggingSink = includeLoggingSink;
+    this.syncPolicy = syncPolicy;
+  }
+
+  /**
+   * The {@link SyncPolicy} which will be used to determine when the journal file is synced to disk.
+   *
+   * <p><i>Default:</i> {@link SyncPolicy#everyWrite()}
+   *
+   * @see #withSyncPolicy(SyncPolicy)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public SyncPolicy getSyncPolicy() {
+    return syncPolicy;
+  }
+
+  /**
+   * Returns a new config instance which will use the provided {@link SyncPolicy} to determine when
+   * the journal file is synced to disk.
+   *
+   * <p><i>Default:</i> {@link SyncPolicy#everyWrite()}
+   *
+   * @see #getSyncPolicy()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public JournalingBlobWriteSessionConfig withSyncPolicy(SyncPolicy syncPolicy) {
+    requireNonNull(syncPolicy, "syncPolicy must be non null");
+    return new JournalingBlobWriteSessionConfig(paths, includeLoggingSink, syncPolicy);
   }
 
   @Override
@@ -103,18 +153,19 @@ public final class JournalingBlobWriteSessionConfig extends BlobWriteSessionConf
     JournalingBlobWriteSessionConfig that = (JournalingBlobWriteSessionConfig) o;
     return includeLoggingSink == that.includeLoggingSink
         && Objects.equals(paths, that.paths)
-        && Objects.equals(absolutePaths, that.absolutePaths);
+        && Objects.equals(absolutePaths, that.absolutePaths)
+        && Objects.equals(syncPolicy, that.syncPolicy);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(paths, includeLoggingSink, absolutePaths);
+    return Objects.hash(paths, includeLoggingSink, absolutePaths, syncPolicy);
   }
 
   @VisibleForTesting
   @InternalApi
   JournalingBlobWriteSessionConfig withIncludeLoggingSink() {
-    return new JournalingBlobWriteSessionConfig(paths, true);
+    return new JournalingBlobWriteSessionConfig(paths, true, syncPolicy);
   }
 
   @InternalApi
@@ -122,7 +173,8 @@ public final class JournalingBlobWriteSessionConfig extends BlobWriteSessionConf
   WriterFactory createFactory(Clock clock) throws IOException {
     Duration window = Duration.ofMinutes(10);
     RecoveryFileManager recoveryFileManager =
-        RecoveryFileManager.of(paths, getRecoverVolumeSinkFactory(clock, window));
+        RecoveryFileManager.of(
+            paths, getRecoverVolumeSinkFactory(clock, window), syncPolicy, clock);
     ThroughputSink gcs = ThroughputSink.windowed(ThroughputMovingWindow.of(window), clock);
     gcs = includeLoggingSink ? ThroughputSink.tee(ThroughputSink.logged("gcs", clock), gcs) : gcs;
     return new Factory(recoveryFileManager, clock, gcs);
@@ -165,6 +217,127 @@ public final class JournalingBlobWriteSessionConfig extends BlobWriteSessionConf
   private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
     in.defaultReadObject();
     this.paths = absolutePaths.stream().map(Paths::get).collect(ImmutableList.toImmutableList());
+    if (this.syncPolicy == null) {
+      this.syncPolicy = SyncPolicy.everyWrite();
+    }
+  }
+
+  /**
+   * A policy which dictates when the bytes written to a journal file are synced (fsync) to disk.
+   *
+   * <p>Syncing after every write provides the strongest durability, but each fsync can take
+   * milliseconds on some disks. Syncing less often means fewer, larger fsyncs at the cost of the
+   * most recent bytes not being durable if the host crashes. Regardless of the policy, any bytes
+   * not yet synced are synced when the journal is closed, and an upload can always be recovered
+   * from the journal up to the last synced offset.
+   *
+   * @see #withSyncPolicy(SyncPolicy)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Immutable
+  public static final class SyncPolicy implements Serializable {
+    private static final long serialVersionUID = -2683911468640521358L;
+
+    private static final SyncPolicy EVERY_WRITE = new SyncPolicy(1, null);
+    private static final SyncPolicy ON_CLOSE = new SyncPolicy(Long.MAX_VALUE, null);
+
+    private final long syncEveryBytes;
+    private final @Nullable Duration syncInterval;
+
+    private SyncPolicy(long syncEveryBytes, @Nullable Duration syncInterval) {
+      this.syncEveryBytes = syncEveryBytes;
+      this.syncInterval = syncInterval;
+    }
+
+    long getSyncEveryBytes() {
+      return syncEveryBytes;
+    }
+
+    boolean hasInterval() {
+      return syncInterval != null;
+    }
+
+    @Nullable Duration getSyncInterval() {
+      return syncInterval;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof SyncPolicy)) {
+        return false;
+      }
+      SyncPolicy that = (SyncPolicy) o;
+      return syncEveryBytes == that.syncEveryBytes
+          && Objects.equals(syncInterval, that.syncInterval);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(syncEveryBytes, syncInterval);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("syncEveryBytes", syncEveryBytes)
+          .add("syncInterval", syncInterval)
+          .toString();
+    }
+
+    /**
+     * Sync the journal after every write. This is the default.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static SyncPolicy everyWrite() {
+      return EVERY_WRITE;
+    }
+
+    /**
+     * Sync the journal once at least {@code bytes} have been written since the last sync.
+     *
+     * @param bytes the number of bytes which can be written before a sync is performed, must be
+     *     &gt; 0
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static SyncPolicy everyBytes(long bytes) {
+      checkArgument(bytes > 0, "bytes must be > 0");
+      return new SyncPolicy(bytes, null);
+    }
+
+    /**
+     * Sync the journal on the first write after at least {@code interval} has elapsed since the
+     * last sync.
+     *
+     * @param interval the minimum amount of time between syncs, must be &gt; 0
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static SyncPolicy interval(Duration interval) {
+      requireNonNull(interval, "interval must be non null");
+      checkArgument(
+          !interval.isNegative() && !interval.isZero(),
+          "interval must be > 0 but was %s",
+          interval);
+      return new SyncPolicy(Long.MAX_VALUE, interval);
+    }
+
+    /**
+     * Only sync the journal when it is explicitly flushed, which happens when the upload is closed
+     * or before the journal is read to recover from an interrupted upload.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static SyncPolicy onClose() {
+      return ON_CLOSE;
+    }
   }
 
   private static final class Factory implements WriterFactory {
@@ -214,7 +387,10 @@ public final class JournalingBlobWriteSessionConfig extends BlobWriteSessionConf
                 .setStartAsync(start)
                 .build();
 
-        return new JournalingUpload<>(session, start);
+        ThroughputSink sink =
+            ThroughputSink.tee(
+                gcs, grpcStorage.getStorageMetrics().throughputSink("journaling", clock));
+        return new JournalingUpload<>(session, start, sink);
       } else {
         return CrossTransportUtils.throwGrpcOnly(BlobWriteSessionConfigs.class, "journaling");
       }
@@ -226,12 +402,15 @@ public final class JournalingBlobWriteSessionConfig extends BlobWriteSessionConf
       private final WritableByteChannelSession<WBC, WriteObjectResponse> session;
       private final ApiFuture<WriteCtx<ResumableWrite>> start;
       private final Decoder<WriteObjectResponse, BlobInfo> decoder;
+      private final ThroughputSink gcs;
 
       public JournalingUpload(
           WritableByteChannelSession<WBC, WriteObjectResponse> session,
-          ApiFuture<WriteCtx<ResumableWrite>> start) {
+          ApiFuture<WriteCtx<ResumableWrite>> start,
+          ThroughputSink gcs) {
         this.session = session;
         this.start = start;
+        this.gcs = gcs;
         this.decoder = Conversions.grpc().blobInfo().compose(WriteObjectResponse::getResource);
       }
 
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.cloud.storage.BulkOperationsEngine.Unit;
+import com.google.cloud.storage.Storage.BlobGetOption;
+import com.google.cloud.storage.Storage.BlobRestoreOption;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.common.base.MoreObjects;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * {@link BulkOperations} for the JSON transport, which pipelines multiple {@link StorageBatch}
+ * requests of up to {@link BulkOperationsConfig#getBatchSize()} items each.
+ *
+ * <p>Batch requests are not themselves retried. Instead, any item which fails with an error the
+ * retry strategy of {@code storage} considers retryable for that item is performed again as its own
+ * request via the corresponding unary method of {@link StorageImpl}, where it is subject to the
+ * full retry strategy.
+ */
+final class JsonBulkOperations implements BulkOperations {
+  private static final JsonConversions codecs = Conversions.json();
+
+  private final StorageImpl storage;
+  private final BulkOperationsConfig config;
+
+  JsonBulkOperations(StorageImpl storage, BulkOperationsConfig config) {
+    this.storage = storage;
+    this.config = config;
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> delete(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Boolean>> listener,
+      BlobSourceOption... options) {
+    return BulkOperationsEngine.run(
+        blobs,
+        config.getBatchSize(),
+        config,
+        batched(
+            (batch, id) -> batch.delete(id, options),
+            (id, e) ->
+                storage
+                    .retryAlgorithmManager
+                    .getForObjectsDelete(
+                        codecs.blobId().encode(id),
+                        Opts.unwrap(options).resolveFrom(id).getRpcOptions())
+                    .shouldRetry(e, null),
+            id -> storage.delete(id, options)),
+        listener);
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> get(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Blob>> listener,
+      BlobGetOption... options) {
+    return BulkOperationsEngine.run(
+        blobs,
+        config.getBatchSize(),
+        config,
+        batched(
+            (batch, id) -> batch.get(id, options),
+            (id, e) ->
+                storage
+                    .retryAlgorithmManager
+                    .getForObjectsGet(
+                        codecs.blobId().encode(id),
+                        Opts.unwrap(options).resolveFrom(id).getRpcOptions())
+                    .shouldRetry(e, null),
+            id -> storage.get(id, options)),
+        listener);
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> update(
+      Iterator<BlobInfo> blobInfos,
+      Consumer<BulkOperationResult<BlobInfo, Blob>> listener,
+      BlobTargetOption... options) {
+    return BulkOperationsEngine.run(
+        blobInfos,
+        config.getBatchSize(),
+        config,
+        batched(
+            (batch, info) -> batch.update(info, options),
+            (info, e) ->
+                storage
+                    .retryAlgorithmManager
+                    .getForObjectsUpdate(
+                        codecs.blobInfo().encode(info),
+                        Opts.unwrap(options).resolveFrom(info).getRpcOptions())
+                    .shouldRetry(e, null),
+            info -> storage.update(info, options)),
+        listener);
+  }
+
+  @Override
+  public ApiFuture<BulkOperationSummary> restore(
+      Iterator<BlobId> blobs,
+      Consumer<BulkOperationResult<BlobId, Blob>> listener,
+      BlobRestoreOption... options) {
+    // restore is not available in a batch request
+    return BulkOperationsEngine.run(
+        blobs,
+        1,
+        config,
+        BulkOperationsEngine.perItem(id -> storage.restore(id, options)),
+        listener);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("config", config).toString();
+  }
+
+  /**
+   * @param add add the request for an item to a batch
+   * @param retryable whether an item which failed with the provided exception should be retried
+   * @param single perform an item as its own request, with retries
+   */
+  private <I, R> Unit<I, R> batched(
+      BiFunction<StorageBatch, I, StorageBatchResult<R>> add,
+      BiPredicate<I, StorageException> retryable,
+      Function<I, R> single) {
+    return inputs -> {
+      if (inputs.size() == 1) {
+        // the overhead of a batch request isn't worth it for a single item
+        return BulkOperationsEngine.perItem(single).apply(inputs);
+      }
+      StorageBatch batch = storage.batch();
+      List<StorageBatchResult<R>> pending = new ArrayList<>(inputs.size());
+      for (I input : inputs) {
+        pending.add(add.apply(batch, input));
+      }
+      StorageException batchFailure = null;
+      try {
+        batch.submit();
+      } catch (RuntimeException e) {
+        batchFailure = BulkOperationsEngine.asStorageException(e);
+      }
+
+      List<BulkOperationResult<I, R>> results = new ArrayList<>(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        I input = inputs.get(i);
+        StorageException failure = batchFailure;
+        if (failure == null) {
+          try {
+            results.add(BulkOperationResult.success(input, pending.get(i).get()));
+            continue;
+          } catch (StorageException e) {
+            failure = e;
+          }
+        }
+        if (retryable.test(input, failure)) {
+          results.add(BulkOperationsEngine.attempt(input, single));
+        } else {
+          results.add(BulkOperationResult.failure(input, failure));
+        }
+      }
+      return results;
+    };
+  }
+}
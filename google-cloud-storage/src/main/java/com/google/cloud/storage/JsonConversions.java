@@ -78,6 +78,7 @@ import com.google.cloud.storage.BucketInfo.ObjectRetention;
 import com.google.cloud.storage.BucketInfo.PublicAccessPrevention;
 import com.google.cloud.storage.BucketInfo.SoftDeletePolicy;
 import com.google.cloud.storage.Conversions.Codec;
+import com.google.cloud.storage.Conversions.Decoder;
 import com.google.cloud.storage.Cors.Origin;
 import com.google.cloud.storage.HmacKey.HmacKeyMetadata;
 import com.google.cloud.storage.HmacKey.HmacKeyState;
@@ -314,6 +315,14 @@ final class JsonConversions {
     return customerEncryptionCodec;
   }
 
+  Codec<Retention, StorageObject.Retention> retention() {
+    return retentionCodec;
+  }
+
+  Codec<BlobInfo.ObjectContexts, Contexts> objectContexts() {
+    return objectContextsCodec;
+  }
+
   Codec<BlobId, StorageObject> blobId() {
     return blobIdCodec;
   }
@@ -322,6 +331,10 @@ final class JsonConversions {
     return blobInfoCodec;
   }
 
+  Decoder<StorageObject, BlobSummary> blobSummary() {
+    return this::blobSummaryDecode;
+  }
+
   Codec<NotificationInfo, com.google.api.services.storage.model.Notification> notificationInfo() {
     return notificationInfoCodec;
   }
@@ -406,6 +419,25 @@ final class JsonConversions {
     return to;
   }
 
+  private BlobSummary blobSummaryDecode(StorageObject from) {
+    if (from.containsKey("isDirectory")) {
+      return BlobSummary.directory(from.getBucket(), from.getName());
+    }
+    BlobSummary.Builder to = BlobSummary.newBuilder(from.getBucket(), from.getName());
+    ifNonNull(from.getGeneration(), to::setGeneration);
+    ifNonNull(from.getMetageneration(), to::setMetageneration);
+    ifNonNull(from.getSize(), BigInteger::longValue, to::setSize);
+    ifNonNull(from.getCrc32c(), to::setCrc32c);
+    ifNonNull(from.getMd5Hash(), to::setMd5);
+    DateTime updated = from.getUpdated();
+    if (updated != null) {
+      long millis = updated.getValue();
+      to.setUpdateTime(
+          Math.floorDiv(millis, 1_000L), (int) Math.floorMod(millis, 1_000L) * 1_000_000);
+    }
+    return to.build();
+  }
+
   private BlobInfo blobInfoDecode(StorageObject from) {
     BlobInfo.Builder to = BlobInfo.newBuilder(blobIdDecode(from));
     ifNonNull(from.getCacheControl(), to::setCacheControl);
@@ -21,6 +21,7 @@ import com.google.cloud.storage.Conversions.Decoder;
 import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
 import com.google.cloud.storage.HttpContentRange.HasRange;
 import com.google.cloud.storage.Retrying.RetrierWithAlg;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
 import com.google.cloud.storage.spi.v1.HttpRpcContext;
 import com.google.cloud.storage.spi.v1.HttpStorageRpc;
 import io.opencensus.trace.EndSpanOptions;
@@ -28,6 +29,7 @@ import java.nio.ByteBuffer;
 import java.nio.channels.GatheringByteChannel;
 import java.util.Locale;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class JsonResumableSession {
@@ -40,12 +42,16 @@ final class JsonResumableSession {
   private final HttpClientContext context;
   private final RetrierWithAlg retrier;
   private final JsonResumableWrite resumableWrite;
+  private final TransferPhaseListener phaseListener;
+  private final boolean phaseTimingEnabled;
 
   JsonResumableSession(
       HttpClientContext context, RetrierWithAlg retrier, JsonResumableWrite resumableWrite) {
     this.context = context;
     this.retrier = retrier;
     this.resumableWrite = resumableWrite;
+    this.phaseListener = context.getPhaseListener();
+    this.phaseTimingEnabled = TransferPhaseListeners.isEnabled(phaseListener);
   }
 
   /**
@@ -53,7 +59,13 @@ final class JsonResumableSession {
    * have the concept of nested retry handling.
    */
   ResumableOperationResult<@Nullable StorageObject> query() {
-    return new JsonResumableSessionQueryTask(context, resumableWrite).call();
+    long begin = phaseTimingEnabled ? System.nanoTime() : 0L;
+    ResumableOperationResult<@Nullable StorageObject> result =
+        new JsonResumableSessionQueryTask(context, resumableWrite).call();
+    if (phaseTimingEnabled) {
+      phaseListener.onPhase(Phase.UPLOAD_QUERY, System.nanoTime() - begin);
+    }
+    return result;
   }
 
   ResumableOperationResult<@Nullable StorageObject> put(
@@ -66,14 +78,20 @@ final class JsonResumableSession {
     JsonResumableSessionPutTask task =
         new JsonResumableSessionPutTask(
             context, resumableWrite, content, contentRange, finalChecksum);
+    Phase phase = contentRange.isFinalizing() ? Phase.UPLOAD_FINALIZE : Phase.UPLOAD_CHUNK;
     HttpRpcContext httpRpcContext = HttpRpcContext.getInstance();
     try {
       httpRpcContext.newInvocationId();
       AtomicBoolean dirty = new AtomicBoolean(false);
+      AtomicLong attemptEndNanos = new AtomicLong();
       ResumableOperationResult<@Nullable StorageObject> result =
           retrier.run(
               () -> {
                 if (dirty.getAndSet(true)) {
+                  if (phaseTimingEnabled) {
+                    phaseListener.onPhase(
+                        Phase.UPLOAD_RETRY, System.nanoTime() - attemptEndNanos.get());
+                  }
                   ResumableOperationResult<@Nullable StorageObject> query = query();
                   long persistedSize = query.getPersistedSize();
                   if (contentRange.endOffsetEquals(persistedSize) || query.getObject() != null) {
@@ -82,7 +100,18 @@ final class JsonResumableSession {
                     task.rewindTo(persistedSize);
                   }
                 }
-                return task.call();
+                long begin = phaseTimingEnabled ? System.nanoTime() : 0L;
+                try {
+                  ResumableOperationResult<@Nullable StorageObject> call = task.call();
+                  if (phaseTimingEnabled) {
+                    phaseListener.onPhase(phase, System.nanoTime() - begin);
+                  }
+                  return call;
+                } finally {
+                  if (phaseTimingEnabled) {
+                    attemptEndNanos.set(System.nanoTime());
+                  }
+                }
               },
               Decoder.identity());
 
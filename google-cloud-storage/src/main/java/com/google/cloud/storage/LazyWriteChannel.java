@@ -17,6 +17,7 @@
 package com.google.cloud.storage;
 
 import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWritableByteChannel;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -30,6 +31,10 @@ final class LazyWriteChannel<T> {
 
   private boolean open = false;
 
+  // opening a channel can block on an RPC, use a lock rather than a monitor to avoid pinning the
+  // carrier of a virtual thread
+  private final ReentrantLock lock = new ReentrantLock();
+
   LazyWriteChannel(Supplier<BufferedWritableByteChannelSession<T>> sessionSupplier) {
     this.sessionSupplier = sessionSupplier;
   }
@@ -38,12 +43,15 @@ final class LazyWriteChannel<T> {
     if (channel != null) {
       return channel;
     } else {
-      synchronized (this) {
+      lock.lock();
+      try {
         if (channel == null) {
           open = true;
           channel = getSession().open();
         }
         return channel;
+      } finally {
+        lock.unlock();
       }
     }
   }
@@ -52,11 +60,14 @@ final class LazyWriteChannel<T> {
     if (session != null) {
       return session;
     } else {
-      synchronized (this) {
+      lock.lock();
+      try {
         if (session == null) {
           session = sessionSupplier.get();
         }
         return session;
+      } finally {
+        lock.unlock();
       }
     }
   }
@@ -115,7 +115,7 @@ public abstract class MultipartUploadClient {
     HttpStorageOptions options = config.getOptions();
     MultipartUploadClient client =
         new MultipartUploadClientImpl(
-            options.createRetrier(),
+            options.createRetrier(Transport.HTTP),
             MultipartUploadHttpRequestManager.createFrom(options),
             options.getRetryAlgorithmManager());
     return OtelMultipartUploadClientDecorator.decorate(
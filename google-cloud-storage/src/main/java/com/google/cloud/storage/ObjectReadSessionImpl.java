@@ -125,7 +125,8 @@ final class ObjectReadSessionImpl implements ObjectReadSession {
     } else {
       ObjectReadSessionState child = state.forkChild();
       ObjectReadSessionStream newStream =
-          ObjectReadSessionStream.create(executor, callable, child, retryContextProvider.create());
+          ObjectReadSessionStream.create(
+              executor, callable, child, retryContextProvider.create(), stream.getPhaseListener());
       children.put(newStream, child);
       read.setOnCloseCallback(
           () -> {
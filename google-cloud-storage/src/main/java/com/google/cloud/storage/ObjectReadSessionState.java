@@ -184,6 +184,21 @@ final class ObjectReadSessionState {
     }
   }
 
+  /** Find an outstanding read which is not currently able to receive more messages, if any */
+  @Nullable ObjectReadSessionStreamRead<?> getSaturatedRead() {
+    lock.lock();
+    try {
+      for (ObjectReadSessionStreamRead<?> read : outstandingReads.values()) {
+        if (!read.demandsMore()) {
+          return read;
+        }
+      }
+      return null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
   void removeOutstandingRead(long key) {
     lock.lock();
     try {
@@ -32,6 +32,7 @@ import com.google.cloud.storage.ObjectReadSessionState.OpenArguments;
 import com.google.cloud.storage.ResponseContentLifecycleHandle.ChildRef;
 import com.google.cloud.storage.RetryContext.OnSuccess;
 import com.google.cloud.storage.StorageDataClient.Borrowable;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.protobuf.ByteString;
@@ -53,6 +54,7 @@ import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -68,6 +70,8 @@ final class ObjectReadSessionStream
       callable;
   private final RetryContext streamRetryContext;
   private final int maxRedirectsAllowed;
+  private final TransferPhaseListener phaseListener;
+  private final boolean phaseTimingEnabled;
 
   private final AtomicInteger openLeases;
   private volatile MonitoringResponseObserver monitoringResponseObserver;
@@ -76,12 +80,19 @@ final class ObjectReadSessionStream
   private volatile StreamController controller;
   private final AtomicInteger redirectCounter;
 
+  // phase timing, only read or written when phaseTimingEnabled. 0 means "not currently timing"
+  private volatile long streamOpenNanos;
+  private volatile long retryStartNanos;
+  // only accessed from the response observer of the current stream
+  private long checksumNanos;
+
   private ObjectReadSessionStream(
       ObjectReadSessionState state,
       ScheduledExecutorService executor,
       ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> callable,
       int maxRedirectsAllowed,
-      RetryContext backoff) {
+      RetryContext backoff,
+      TransferPhaseListener phaseListener) {
     this.state = state;
     this.executor = executor;
     this.callable = callable;
@@ -90,6 +101,12 @@ final class ObjectReadSessionStream
     this.maxRedirectsAllowed = maxRedirectsAllowed;
     this.openLeases = new AtomicInteger(1);
     this.redirectCounter = new AtomicInteger();
+    this.phaseListener = phaseListener;
+    this.phaseTimingEnabled = TransferPhaseListeners.isEnabled(phaseListener);
+  }
+
+  TransferPhaseListener getPhaseListener() {
+    return phaseListener;
   }
 
   // TODO: make this more elegant
@@ -99,12 +116,16 @@ final class ObjectReadSessionStream
     } else {
       synchronized (this) {
         if (requestStream == null) {
+          if (phaseTimingEnabled) {
+            streamOpenNanos = System.nanoTime();
+          }
           monitoringResponseObserver =
               new MonitoringResponseObserver(new BidiReadObjectResponseObserver());
           responseObserver =
               GrpcUtils.decorateAsStateChecking(
                   new RedirectHandlingResponseObserver(monitoringResponseObserver));
-          requestStream = callable.splitCall(responseObserver, context);
+          requestStream =
+              callable.splitCall(responseObserver, StorageChannelPool.registerStream(context));
         }
         return requestStream;
       }
@@ -260,10 +281,29 @@ final class ObjectReadSessionStream
       controller.request(1);
     }
 
+    /**
+     * Request the next message from gRPC, unless one of the reads is unable to receive more
+     * messages, in which case the request is deferred until it is.
+     */
+    private void requestNextMessage(StreamController c) {
+      ObjectReadSessionStreamRead<?> saturated = state.getSaturatedRead();
+      if (saturated == null) {
+        c.request(1);
+      } else {
+        AtomicBoolean resumed = new AtomicBoolean(false);
+        saturated.whenDemandsMore(
+            () -> {
+              if (resumed.compareAndSet(false, true)) {
+                requestNextMessage(c);
+              }
+            });
+      }
+    }
+
     @SuppressWarnings("rawtypes")
     @Override
     public void onResponse(BidiReadObjectResponse response) {
-      controller.request(1);
+      requestNextMessage(controller);
       try (ResponseContentLifecycleHandle<BidiReadObjectResponse> handle =
           callable.getResponseContentLifecycleManager().get(response)) {
         if (response.hasMetadata()) {
@@ -293,7 +333,11 @@ final class ObjectReadSessionStream
             // java11+ calculating the crc32c of a 2MiB segment is ~70us
             // java8 the same calculation is ~1600us
             // not something to worry about offloading to another thread at this time.
+            long checksumBegin = phaseTimingEnabled ? System.nanoTime() : 0L;
             read.hasher().validateUnchecked(Crc32cValue.of(crc32C), content);
+            if (phaseTimingEnabled) {
+              checksumNanos += System.nanoTime() - checksumBegin;
+            }
           } catch (UncheckedChecksumMismatchException e) {
             read.recordError(
                 e,
@@ -458,6 +502,9 @@ final class ObjectReadSessionStream
 
     @Override
     public void onResponse(BidiReadObjectResponse response) {
+      if (phaseTimingEnabled) {
+        recordOpen();
+      }
       delegate.onResponse(response);
       openSignal.set(null);
       objectReadSessionResolveFuture.set(null);
@@ -465,6 +512,12 @@ final class ObjectReadSessionStream
 
     @Override
     public void onError(Throwable t) {
+      if (phaseTimingEnabled) {
+        recordChecksum();
+        if (retryStartNanos == 0) {
+          retryStartNanos = System.nanoTime();
+        }
+      }
       delegate.onError(t);
       openSignal.setException(t);
       closeSignal.setException(t);
@@ -472,6 +525,9 @@ final class ObjectReadSessionStream
 
     @Override
     public void onComplete() {
+      if (phaseTimingEnabled) {
+        recordChecksum();
+      }
       delegate.onComplete();
       if (state.getMetadata() == null) {
         StatusRuntimeException cause =
@@ -493,6 +549,28 @@ final class ObjectReadSessionStream
     }
   }
 
+  private void recordOpen() {
+    long openBegin = streamOpenNanos;
+    if (openBegin == 0) {
+      return;
+    }
+    streamOpenNanos = 0;
+    long now = System.nanoTime();
+    phaseListener.onPhase(Phase.READ_OPEN, now - openBegin);
+    long retryBegin = retryStartNanos;
+    if (retryBegin != 0) {
+      retryStartNanos = 0;
+      phaseListener.onPhase(Phase.READ_RETRY, now - retryBegin);
+    }
+  }
+
+  private void recordChecksum() {
+    if (checksumNanos > 0) {
+      phaseListener.onPhase(Phase.READ_CHECKSUM, checksumNanos);
+      checksumNanos = 0;
+    }
+  }
+
   private final class RedirectHandlingResponseObserver
       implements ResponseObserver<BidiReadObjectResponse> {
     private final ResponseObserver<BidiReadObjectResponse> delegate;
@@ -550,9 +628,18 @@ final class ObjectReadSessionStream
       ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> callable,
       ObjectReadSessionState state,
       RetryContext retryContext) {
+    return create(executor, callable, state, retryContext, TransferPhaseListener.noop());
+  }
+
+  static ObjectReadSessionStream create(
+      ScheduledExecutorService executor,
+      ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> callable,
+      ObjectReadSessionState state,
+      RetryContext retryContext,
+      TransferPhaseListener phaseListener) {
 
     int maxRedirectsAllowed = 3; // TODO: make this configurable in the ultimate public surface
     return new ObjectReadSessionStream(
-        state, executor, callable, maxRedirectsAllowed, retryContext);
+        state, executor, callable, maxRedirectsAllowed, retryContext, phaseListener);
   }
 }
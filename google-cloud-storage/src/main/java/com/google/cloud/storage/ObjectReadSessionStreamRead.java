@@ -21,6 +21,7 @@ import com.google.api.core.InternalApi;
 import com.google.api.core.InternalExtensionOnly;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.AccumulatingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.ByteArrayAccumulatingRead;
+import com.google.cloud.storage.BaseObjectReadSessionStreamRead.PublishingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.StreamingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.ZeroCopyByteStringAccumulatingRead;
 import com.google.cloud.storage.ResponseContentLifecycleHandle.ChildRef;
@@ -63,6 +64,22 @@ interface ObjectReadSessionStreamRead<Projection> extends IOAutoCloseable {
 
   void internalClose() throws IOException;
 
+  /**
+   * Whether this read is able to receive more messages. A stream will stop requesting messages
+   * while any of its reads return false.
+   */
+  default boolean demandsMore() {
+    return true;
+  }
+
+  /**
+   * Invoke {@code runnable} once {@link #demandsMore()} would return true. If it already would,
+   * {@code runnable} is invoked immediately.
+   */
+  default void whenDemandsMore(Runnable runnable) {
+    runnable.run();
+  }
+
   static AccumulatingRead<byte[]> createByteArrayAccumulatingRead(
       long readId, RangeSpec rangeSpec, Hasher hasher, RetryContext retryContext) {
     return new ByteArrayAccumulatingRead(
@@ -79,4 +96,9 @@ interface ObjectReadSessionStreamRead<Projection> extends IOAutoCloseable {
       long readId, RangeSpec rangeSpec, Hasher hasher, RetryContext retryContext) {
     return new StreamingRead(readId, rangeSpec, hasher, retryContext, IOAutoCloseable.noOp());
   }
+
+  static PublishingRead publishingRead(
+      long readId, RangeSpec rangeSpec, Hasher hasher, RetryContext retryContext) {
+    return new PublishingRead(readId, rangeSpec, hasher, retryContext, IOAutoCloseable.noOp());
+  }
 }
@@ -28,6 +28,7 @@ import com.google.cloud.RestorableState;
 import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Acl.Entity;
 import com.google.cloud.storage.ApiFutureUtils.OnFailureApiFutureCallback;
+import com.google.cloud.storage.BlobWriteSessions.CancellableBlobWriteSession;
 import com.google.cloud.storage.HmacKey.HmacKeyMetadata;
 import com.google.cloud.storage.HmacKey.HmacKeyState;
 import com.google.cloud.storage.PostPolicyV4.PostConditionsV4;
@@ -39,6 +40,7 @@ import com.google.cloud.storage.RetryContext.OnSuccess;
 import com.google.cloud.storage.TransportCompatibility.Transport;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
+import com.google.common.io.CountingOutputStream;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.storage.v2.ReadRange;
 import io.opentelemetry.api.OpenTelemetry;
@@ -55,11 +57,17 @@ import java.io.OutputStream;
 import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Locale;
+import java.util.Spliterator;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import org.checkerframework.checker.nullness.qual.NonNull;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
@@ -67,7 +75,7 @@ import org.checkerframework.checker.nullness.qual.Nullable;
 final class OtelStorageDecorator implements Storage {
 
   /** Becomes the {@code otel.scope.name} attribute in a span */
-  private static final String OTEL_SCOPE_NAME = "cloud.google.com/java/storage";
+  static final String OTEL_SCOPE_NAME = "cloud.google.com/java/storage";
 
   private static final String BLOB_READ_SESSION = "blobReadSession";
 
@@ -75,11 +83,14 @@ final class OtelStorageDecorator implements Storage {
   private final OpenTelemetry otel;
   private final Attributes baseAttributes;
   private final Tracer tracer;
+  private final StorageMetrics metrics;
 
-  private OtelStorageDecorator(Storage delegate, OpenTelemetry otel, Attributes baseAttributes) {
+  private OtelStorageDecorator(
+      Storage delegate, OpenTelemetry otel, Attributes baseAttributes, StorageMetrics metrics) {
     this.delegate = delegate;
     this.otel = otel;
     this.baseAttributes = baseAttributes;
+    this.metrics = metrics;
     this.tracer =
         TracerDecorator.decorate(null, otel, baseAttributes, Storage.class.getName() + "/");
   }
@@ -185,7 +196,9 @@ final class OtelStorageDecorator implements Storage {
             .setAttribute("gsutil.uri", blobInfo.getBlobId().toGsUtilUriWithGeneration())
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
-      return delegate.createFrom(blobInfo, path, options);
+      Blob created = delegate.createFrom(blobInfo, path, options);
+      recordBytesWritten(created);
+      return created;
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -204,7 +217,9 @@ final class OtelStorageDecorator implements Storage {
             .setAttribute("gsutil.uri", blobInfo.getBlobId().toGsUtilUriWithGeneration())
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
-      return delegate.createFrom(blobInfo, path, bufferSize, options);
+      Blob created = delegate.createFrom(blobInfo, path, bufferSize, options);
+      recordBytesWritten(created);
+      return created;
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -223,7 +238,9 @@ final class OtelStorageDecorator implements Storage {
             .setAttribute("gsutil.uri", blobInfo.getBlobId().toGsUtilUriWithGeneration())
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
-      return delegate.createFrom(blobInfo, content, options);
+      Blob created = delegate.createFrom(blobInfo, content, options);
+      recordBytesWritten(created);
+      return created;
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -243,7 +260,9 @@ final class OtelStorageDecorator implements Storage {
             .setAttribute("gsutil.uri", blobInfo.getBlobId().toGsUtilUriWithGeneration())
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
-      return delegate.createFrom(blobInfo, content, bufferSize, options);
+      Blob created = delegate.createFrom(blobInfo, content, bufferSize, options);
+      recordBytesWritten(created);
+      return created;
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -386,6 +405,35 @@ final class OtelStorageDecorator implements Storage {
     }
   }
 
+  @Override
+  public Stream<BlobSummary> listSummaries(String bucket, BlobListOption... options) {
+    Span span =
+        tracer
+            .spanBuilder("listSummaries")
+            .setAttribute("gsutil.uri", fmtBucket(bucket))
+            .startSpan();
+    try (Scope ignore = span.makeCurrent()) {
+      Stream<BlobSummary> stream = delegate.listSummaries(bucket, options);
+      // pages are fetched lazily as the stream is consumed, keep the span open until then
+      OtelDecoratedSpliterator<BlobSummary> spliterator =
+          new OtelDecoratedSpliterator<>(stream.spliterator(), span);
+      return StreamSupport.stream(spliterator, false)
+          .onClose(
+              () -> {
+                try {
+                  stream.close();
+                } finally {
+                  spliterator.end();
+                }
+              });
+    } catch (Throwable t) {
+      span.recordException(t);
+      span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
+      span.end();
+      throw t;
+    }
+  }
+
   @Override
   public Bucket update(BucketInfo bucketInfo, BucketTargetOption... options) {
     Span span =
@@ -550,7 +598,9 @@ final class OtelStorageDecorator implements Storage {
             .setAttribute("gsutil.uri", BlobId.of(bucket, blob).toGsUtilUri())
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
-      return delegate.readAllBytes(bucket, blob, options);
+      byte[] bytes = delegate.readAllBytes(bucket, blob, options);
+      metrics.recordBytesRead(bytes.length);
+      return bytes;
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -568,7 +618,9 @@ final class OtelStorageDecorator implements Storage {
             .setAttribute("gsutil.uri", blob.toGsUtilUriWithGeneration())
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
-      return delegate.readAllBytes(blob, options);
+      byte[] bytes = delegate.readAllBytes(blob, options);
+      metrics.recordBytesRead(bytes.length);
+      return bytes;
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -583,6 +635,11 @@ final class OtelStorageDecorator implements Storage {
     return delegate.batch();
   }
 
+  @Override
+  public BulkOperations bulk(BulkOperationsConfig config) {
+    return delegate.bulk(config);
+  }
+
   @Override
   public ReadChannel reader(String bucket, String blob, BlobSourceOption... options) {
     Span span =
@@ -592,7 +649,7 @@ final class OtelStorageDecorator implements Storage {
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
       ReadChannel reader = delegate.reader(bucket, blob, options);
-      return new OtelDecoratedReadChannel(reader, span);
+      return new OtelDecoratedReadChannel(reader, span, metrics);
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -610,7 +667,7 @@ final class OtelStorageDecorator implements Storage {
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
       ReadChannel reader = delegate.reader(blob, options);
-      return new OtelDecoratedReadChannel(reader, span);
+      return new OtelDecoratedReadChannel(reader, span, metrics);
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -628,6 +685,7 @@ final class OtelStorageDecorator implements Storage {
             .startSpan();
     try (Scope ignore = span.makeCurrent()) {
       delegate.downloadTo(blob, path, options);
+      recordBytesRead(path);
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -644,13 +702,18 @@ final class OtelStorageDecorator implements Storage {
             .spanBuilder("downloadTo")
             .setAttribute("gsutil.uri", blob.toGsUtilUriWithGeneration())
             .startSpan();
+    CountingOutputStream counting =
+        metrics.isEnabled() ? new CountingOutputStream(outputStream) : null;
     try (Scope ignore = span.makeCurrent()) {
-      delegate.downloadTo(blob, outputStream, options);
+      delegate.downloadTo(blob, counting != null ? counting : outputStream, options);
     } catch (Throwable t) {
       span.recordException(t);
       span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
       throw t;
     } finally {
+      if (counting != null) {
+        metrics.recordBytesRead(counting.getCount());
+      }
       span.end();
     }
   }
@@ -664,7 +727,7 @@ final class OtelStorageDecorator implements Storage {
             .startSpan();
     try (Scope ignore = sessionSpan.makeCurrent()) {
       WriteChannel writer = delegate.writer(blobInfo, options);
-      return new OtelDecoratedWriteChannel(writer, sessionSpan);
+      return new OtelDecoratedWriteChannel(writer, sessionSpan, metrics);
     } catch (Throwable t) {
       sessionSpan.recordException(t);
       sessionSpan.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -678,7 +741,7 @@ final class OtelStorageDecorator implements Storage {
     Span sessionSpan = tracer.spanBuilder("writer").startSpan();
     try (Scope ignore = sessionSpan.makeCurrent()) {
       WriteChannel writer = delegate.writer(signedURL);
-      return new OtelDecoratedWriteChannel(writer, sessionSpan);
+      return new OtelDecoratedWriteChannel(writer, sessionSpan, metrics);
     } catch (Throwable t) {
       sessionSpan.recordException(t);
       sessionSpan.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
@@ -705,6 +768,21 @@ final class OtelStorageDecorator implements Storage {
     }
   }
 
+  @Override
+  public List<URL> signUrls(
+      List<BlobInfo> blobInfos, long duration, TimeUnit unit, SignUrlOption... options) {
+    Span span = tracer.spanBuilder("signUrls").startSpan();
+    try (Scope ignore = span.makeCurrent()) {
+      return delegate.signUrls(blobInfos, duration, unit, options);
+    } catch (Throwable t) {
+      span.recordException(t);
+      span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
+      throw t;
+    } finally {
+      span.end();
+    }
+  }
+
   @Override
   public PostPolicyV4 generateSignedPostPolicyV4(
       BlobInfo blobInfo,
@@ -1546,21 +1624,107 @@ final class OtelStorageDecorator implements Storage {
             .put("rpc.system", transport.toString().toLowerCase(Locale.ROOT))
             .put("service.name", "storage.googleapis.com")
             .build();
-    return new OtelStorageDecorator(delegate, otel, baseAttributes);
+    return new OtelStorageDecorator(
+        delegate, otel, baseAttributes, StorageMetrics.create(otel, transport));
   }
 
-  static UnaryOperator<RetryContext> retryContextDecorator(OpenTelemetry otel) {
+  static UnaryOperator<RetryContext> retryContextDecorator(
+      OpenTelemetry otel, Transport transport) {
     requireNonNull(otel, "otel must be non null");
     if (otel == OpenTelemetry.noop()) {
       return UnaryOperator.identity();
     }
-    return ctx -> new OtelRetryContextDecorator(ctx, Span.current());
+    StorageMetrics metrics = StorageMetrics.create(otel, transport);
+    return ctx -> new OtelRetryContextDecorator(ctx, Span.current(), metrics);
   }
 
   private static @NonNull String fmtBucket(String bucket) {
     return String.format(Locale.US, "gs://%s/", bucket);
   }
 
+  private void recordBytesWritten(Blob created) {
+    Long size = created.getSize();
+    if (size != null) {
+      metrics.recordBytesWritten(size);
+    }
+  }
+
+  private void recordBytesRead(Path downloaded) {
+    if (metrics.isEnabled()) {
+      try {
+        metrics.recordBytesRead(Files.size(downloaded));
+      } catch (IOException e) {
+        // the download succeeded, only its size is unknown
+      }
+    }
+  }
+
+  /**
+   * Keep {@code span} current while each element is fetched from {@code delegate}, ending it once
+   * the stream is exhausted, fails or is closed.
+   */
+  private static final class OtelDecoratedSpliterator<T> implements Spliterator<T>, Consumer<T> {
+    private final Spliterator<T> delegate;
+    private final Span span;
+    private final AtomicBoolean ended;
+    private @Nullable T next;
+
+    private OtelDecoratedSpliterator(Spliterator<T> delegate, Span span) {
+      this.delegate = delegate;
+      this.span = span;
+      this.ended = new AtomicBoolean(false);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+      boolean advanced;
+      try (Scope ignore = span.makeCurrent()) {
+        advanced = delegate.tryAdvance(this);
+      } catch (Throwable t) {
+        span.recordException(t);
+        span.setStatus(StatusCode.ERROR, t.getClass().getSimpleName());
+        end();
+        throw t;
+      }
+      if (!advanced) {
+        end();
+        return false;
+      }
+      T tmp = next;
+      next = null;
+      // the action is invoked outside the span, failures of the caller are not failures of the
+      // listing
+      action.accept(tmp);
+      return true;
+    }
+
+    @Override
+    public void accept(T t) {
+      next = t;
+    }
+
+    @Override
+    public @Nullable Spliterator<T> trySplit() {
+      return null;
+    }
+
+    @Override
+    public long estimateSize() {
+      return delegate.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+      return delegate.characteristics();
+    }
+
+    private void end() {
+      if (ended.compareAndSet(false, true)) {
+        span.end();
+      }
+    }
+  }
+
   static final class TracerDecorator implements Tracer {
     @Nullable private final Context parentContextOverride;
     private final Tracer delegate;
@@ -1607,10 +1771,16 @@ final class OtelStorageDecorator implements Storage {
 
     @VisibleForTesting final ReadChannel reader;
     private final Span span;
+    private final StorageMetrics metrics;
+    private final long openNanos;
+    private boolean firstByteRecorded;
 
-    private OtelDecoratedReadChannel(ReadChannel reader, Span span) {
+    private OtelDecoratedReadChannel(ReadChannel reader, Span span, StorageMetrics metrics) {
       this.reader = reader;
       this.span = span;
+      this.metrics = metrics;
+      this.openNanos = System.nanoTime();
+      this.firstByteRecorded = false;
     }
 
     @Override
@@ -1641,7 +1811,15 @@ final class OtelStorageDecorator implements Storage {
     @Override
     public int read(ByteBuffer dst) throws IOException {
       try (Scope ignore = span.makeCurrent()) {
-        return reader.read(dst);
+        int read = reader.read(dst);
+        if (read > 0) {
+          if (!firstByteRecorded) {
+            firstByteRecorded = true;
+            metrics.recordTimeToFirstByte(System.nanoTime() - openNanos);
+          }
+          metrics.recordBytesRead(read);
+        }
+        return read;
       }
     }
 
@@ -1660,7 +1838,7 @@ final class OtelStorageDecorator implements Storage {
     }
   }
 
-  private final class OtelDecoratedBlobWriteSession implements BlobWriteSession {
+  private final class OtelDecoratedBlobWriteSession implements CancellableBlobWriteSession {
 
     private final BlobWriteSession delegate;
     private final Span sessionSpan;
@@ -1695,6 +1873,11 @@ final class OtelStorageDecorator implements Storage {
       return delegate.getResult();
     }
 
+    @Override
+    public void cancel() throws IOException {
+      BlobWriteSessions.cancel(delegate);
+    }
+
     private class OtelDecoratingWritableByteChannel implements WritableByteChannel {
 
       private final WritableByteChannel delegate;
@@ -1708,7 +1891,9 @@ final class OtelStorageDecorator implements Storage {
       @Override
       public int write(ByteBuffer src) throws IOException {
         try (Scope ignore = openSpan.makeCurrent()) {
-          return delegate.write(src);
+          int written = delegate.write(src);
+          metrics.recordBytesWritten(written);
+          return written;
         }
       }
 
@@ -1719,15 +1904,19 @@ final class OtelStorageDecorator implements Storage {
 
       @Override
       public void close() throws IOException {
+        boolean error = false;
+        long begin = System.nanoTime();
         try (Scope ignore = openSpan.makeCurrent()) {
           delegate.close();
         } catch (IOException | RuntimeException e) {
+          error = true;
           openSpan.recordException(e);
           openSpan.setStatus(StatusCode.ERROR, e.getClass().getSimpleName());
           sessionSpan.recordException(e);
           sessionSpan.setStatus(StatusCode.ERROR, e.getClass().getSimpleName());
           throw e;
         } finally {
+          metrics.recordUploadFinalize(System.nanoTime() - begin, error);
           openSpan.end();
           sessionSpan.end();
         }
@@ -1739,10 +1928,13 @@ final class OtelStorageDecorator implements Storage {
   static final class OtelDecoratedWriteChannel implements WriteChannel {
     @VisibleForTesting final WriteChannel delegate;
     private final Span openSpan;
+    private final StorageMetrics metrics;
 
-    private OtelDecoratedWriteChannel(WriteChannel delegate, Span openSpan) {
+    private OtelDecoratedWriteChannel(
+        WriteChannel delegate, Span openSpan, StorageMetrics metrics) {
       this.delegate = delegate;
       this.openSpan = openSpan;
+      this.metrics = metrics;
     }
 
     @Override
@@ -1758,7 +1950,9 @@ final class OtelStorageDecorator implements Storage {
     @Override
     public int write(ByteBuffer src) throws IOException {
       try (Scope ignore = openSpan.makeCurrent()) {
-        return delegate.write(src);
+        int written = delegate.write(src);
+        metrics.recordBytesWritten(written);
+        return written;
       }
     }
 
@@ -1769,13 +1963,17 @@ final class OtelStorageDecorator implements Storage {
 
     @Override
     public void close() throws IOException {
+      boolean error = false;
+      long begin = System.nanoTime();
       try (Scope ignore = openSpan.makeCurrent()) {
         delegate.close();
       } catch (IOException | RuntimeException e) {
+        error = true;
         openSpan.recordException(e);
         openSpan.setStatus(StatusCode.ERROR, e.getClass().getSimpleName());
         throw e;
       } finally {
+        metrics.recordUploadFinalize(System.nanoTime() - begin, error);
         openSpan.end();
       }
     }
@@ -1837,6 +2035,11 @@ final class OtelStorageDecorator implements Storage {
       return copyWriter.capture();
     }
 
+    @Override
+    String getRewriteToken() {
+      return copyWriter.getRewriteToken();
+    }
+
     @Override
     public void copyChunk() {
       Span copyChunkSpan = tracer.spanBuilder("copyChunk").setParent(parentContext).startSpan();
@@ -1857,10 +2060,13 @@ final class OtelStorageDecorator implements Storage {
       extends ReadProjectionConfig<Projection> {
     private final ReadProjectionConfig<Projection> delegate;
     private final Span parentSpan;
+    private final StorageMetrics metrics;
 
-    private OtelReadProjectionConfig(ReadProjectionConfig<Projection> delegate, Span parentSpan) {
+    private OtelReadProjectionConfig(
+        ReadProjectionConfig<Projection> delegate, Span parentSpan, StorageMetrics metrics) {
       this.delegate = delegate;
       this.parentSpan = parentSpan;
+      this.metrics = metrics;
     }
 
     @Override
@@ -1896,7 +2102,7 @@ final class OtelStorageDecorator implements Storage {
       @Override
       ObjectReadSessionStreamRead<Projection> newRead(long readId, RetryContext retryContext) {
         OtelRetryContextDecorator otelRetryContext =
-            new OtelRetryContextDecorator(retryContext, parentSpan);
+            new OtelRetryContextDecorator(retryContext, parentSpan, metrics);
         ObjectReadSessionStreamRead<Projection> read = delegate.newRead(readId, otelRetryContext);
         read.setOnCloseCallback(parentSpan::end);
         return new OtelDecoratingObjectReadSessionStreamRead<>(read, parentSpan);
@@ -1912,10 +2118,12 @@ final class OtelStorageDecorator implements Storage {
   private static final class OtelRetryContextDecorator implements RetryContext {
     private final RetryContext delegate;
     private final Span span;
+    private final StorageMetrics metrics;
 
-    private OtelRetryContextDecorator(RetryContext delegate, Span span) {
+    private OtelRetryContextDecorator(RetryContext delegate, Span span, StorageMetrics metrics) {
       this.delegate = delegate;
       this.span = span;
+      this.metrics = metrics;
     }
 
     @Override
@@ -1932,13 +2140,17 @@ final class OtelStorageDecorator implements Storage {
     public <T extends Throwable> void recordError(
         T t, OnSuccess onSuccess, OnFailure<T> onFailure) {
       span.recordException(t);
+      long recordedAt = System.nanoTime();
       delegate.recordError(
           t,
           () -> {
+            // onSuccess is invoked once the backoff has elapsed
+            metrics.recordRetry(System.nanoTime() - recordedAt);
             span.addEvent("retrying");
             onSuccess.onSuccess();
           },
           (tt) -> {
+            metrics.recordRetryExhausted();
             span.addEvent("terminal_failure");
             onFailure.onFailure(tt);
           });
@@ -1979,7 +2191,7 @@ final class OtelStorageDecorator implements Storage {
               .startSpan();
       try (Scope ignore2 = readRangeSpan.makeCurrent()) {
         OtelReadProjectionConfig<Projection> c =
-            new OtelReadProjectionConfig<>(config, readRangeSpan);
+            new OtelReadProjectionConfig<>(config, readRangeSpan, metrics);
         return delegate.readAs(c);
       } catch (Throwable t) {
         readRangeSpan.recordException(t);
@@ -2103,6 +2315,16 @@ final class OtelStorageDecorator implements Storage {
       delegate.internalClose();
     }
 
+    @Override
+    public boolean demandsMore() {
+      return delegate.demandsMore();
+    }
+
+    @Override
+    public void whenDemandsMore(Runnable runnable) {
+      delegate.whenDemandsMore(runnable);
+    }
+
     @Override
     public void close() throws IOException {
       delegate.close();
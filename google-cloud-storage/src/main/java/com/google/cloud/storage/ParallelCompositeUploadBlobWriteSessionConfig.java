@@ -20,11 +20,15 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Objects.requireNonNull;
 
+import com.google.api.client.http.HttpStatusCodes;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
 import com.google.api.core.BetaApi;
 import com.google.api.core.InternalApi;
 import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.grpc.GrpcStatusCode;
+import com.google.api.gax.rpc.ApiExceptionFactory;
+import com.google.cloud.BaseServiceException;
 import com.google.cloud.storage.BufferedWritableByteChannelSession.BufferedWritableByteChannel;
 import com.google.cloud.storage.MetadataField.PartRange;
 import com.google.cloud.storage.Storage.BlobWriteOption;
@@ -35,25 +39,34 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.grpc.Status.Code;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.SecureRandom;
 import java.time.Clock;
 import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Base64;
 import java.util.Base64.Encoder;
+import java.util.Locale;
 import java.util.Objects;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 import javax.annotation.concurrent.Immutable;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Immutable config builder to configure BlobWriteSession instances to perform Parallel Composite
@@ -124,12 +137,14 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
     implements BlobWriteSessionConfig.HttpCompatible, BlobWriteSessionConfig.GrpcCompatible {
 
   private static final int MAX_PARTS_PER_COMPOSE = 32;
+  private static final int MAX_IN_FLIGHT_FILE_PARTS = 16;
   private final int maxPartsPerCompose;
   private final ExecutorSupplier executorSupplier;
   private final BufferAllocationStrategy bufferAllocationStrategy;
   private final PartNamingStrategy partNamingStrategy;
   private final PartCleanupStrategy partCleanupStrategy;
   private final PartMetadataFieldDecorator partMetadataFieldDecorator;
+  private final int maxInFlightFileParts;
 
   private ParallelCompositeUploadBlobWriteSessionConfig(
       int maxPartsPerCompose,
@@ -137,13 +152,15 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
       BufferAllocationStrategy bufferAllocationStrategy,
       PartNamingStrategy partNamingStrategy,
       PartCleanupStrategy partCleanupStrategy,
-      PartMetadataFieldDecorator partMetadataFieldDecorator) {
+      PartMetadataFieldDecorator partMetadataFieldDecorator,
+      int maxInFlightFileParts) {
     this.maxPartsPerCompose = maxPartsPerCompose;
     this.executorSupplier = executorSupplier;
     this.bufferAllocationStrategy = bufferAllocationStrategy;
     this.partNamingStrategy = partNamingStrategy;
     this.partCleanupStrategy = partCleanupStrategy;
     this.partMetadataFieldDecorator = partMetadataFieldDecorator;
+    this.maxInFlightFileParts = maxInFlightFileParts;
   }
 
   @InternalApi
@@ -158,7 +175,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   /**
@@ -179,7 +197,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   /**
@@ -201,7 +220,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   /**
@@ -222,7 +242,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   /**
@@ -243,7 +264,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   /**
@@ -264,7 +286,35 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
+  }
+
+  /**
+   * Specify the maximum number of parts which will be uploading at once when uploading an object
+   * which has already been written in full to a file, as is the case when used with {@link
+   * BufferToDiskThenUpload#withParallelCompositeUpload(ParallelCompositeUploadBlobWriteSessionConfig)}.
+   * Fewer parts will be in flight if the {@link BufferAllocationStrategy} provides fewer buffers.
+   *
+   * <p><i>Default: </i> {@code 16}
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public ParallelCompositeUploadBlobWriteSessionConfig withMaxInFlightFileParts(
+      int maxInFlightFileParts) {
+    checkArgument(
+        maxInFlightFileParts > 0,
+        "maxInFlightFileParts must be > 0 (maxInFlightFileParts = %s)",
+        maxInFlightFileParts);
+    return new ParallelCompositeUploadBlobWriteSessionConfig(
+        maxPartsPerCompose,
+        executorSupplier,
+        bufferAllocationStrategy,
+        partNamingStrategy,
+        partCleanupStrategy,
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   @BetaApi
@@ -275,7 +325,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         BufferAllocationStrategy.simple(ByteSizeConstants._16MiB),
         PartNamingStrategy.noPrefix(),
         PartCleanupStrategy.always(),
-        PartMetadataFieldDecorator.noOp());
+        PartMetadataFieldDecorator.noOp(),
+        MAX_IN_FLIGHT_FILE_PARTS);
   }
 
   @Override
@@ -293,7 +344,8 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         && Objects.equals(bufferAllocationStrategy, that.bufferAllocationStrategy)
         && Objects.equals(partNamingStrategy, that.partNamingStrategy)
         && Objects.equals(partCleanupStrategy, that.partCleanupStrategy)
-        && Objects.equals(partMetadataFieldDecorator, that.partMetadataFieldDecorator);
+        && Objects.equals(partMetadataFieldDecorator, that.partMetadataFieldDecorator)
+        && maxInFlightFileParts == that.maxInFlightFileParts;
   }
 
   @Override
@@ -304,12 +356,17 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         bufferAllocationStrategy,
         partNamingStrategy,
         partCleanupStrategy,
-        partMetadataFieldDecorator);
+        partMetadataFieldDecorator,
+        maxInFlightFileParts);
   }
 
   @InternalApi
   @Override
   WriterFactory createFactory(Clock clock) throws IOException {
+    return createParallelCompositeUploadFactory(clock);
+  }
+
+  ParallelCompositeUploadWriterFactory createParallelCompositeUploadFactory(Clock clock) {
     Executor executor = executorSupplier.get();
     BufferHandlePool bufferHandlePool = bufferAllocationStrategy.get();
     PartMetadataFieldDecoratorInstance partMetadataFieldDecoratorInstance =
@@ -333,6 +390,9 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
 
     private BufferAllocationStrategy() {}
 
+    /** The capacity of each buffer which will be allocated */
+    abstract int getBufferCapacity();
+
     /**
      * Create a buffer strategy which will rely upon standard garbage collection. Each buffer will
      * be used once and then garbage collected.
@@ -377,6 +437,11 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         return BufferHandlePool.simple(capacity);
       }
 
+      @Override
+      int getBufferCapacity() {
+        return capacity;
+      }
+
       @Override
       public boolean equals(Object o) {
         if (this == o) {
@@ -411,6 +476,11 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
         return BufferHandlePool.fixedPool(bufferCount, bufferCapacity);
       }
 
+      @Override
+      int getBufferCapacity() {
+        return bufferCapacity;
+      }
+
       @Override
       public boolean equals(Object o) {
         if (this == o) {
@@ -468,6 +538,20 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
       return new FixedSupplier(poolSize);
     }
 
+    /**
+     * Create an executor which starts a new virtual thread for each task submitted.
+     *
+     * <p>Virtual threads require Java 21 or newer, if not available when the executor is created an
+     * {@link UnsupportedOperationException} will be thrown.
+     *
+     * @see #withExecutorSupplier(ExecutorSupplier)
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public static ExecutorSupplier virtualThreads() {
+      return VirtualThreadSupplier.INSTANCE;
+    }
+
     /**
      * Wrap an existing executor instance which will be used for submitting work
      *
@@ -543,6 +627,22 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
       }
     }
 
+    private static class VirtualThreadSupplier extends ExecutorSupplier implements Serializable {
+      private static final long serialVersionUID = -3092651409466425722L;
+      private static final VirtualThreadSupplier INSTANCE = new VirtualThreadSupplier();
+
+      @Override
+      Executor get() {
+        return VirtualThreads.newThreadPerTaskExecutor(
+            "c.g.c:g-c-s:pcu-" + INSTANCE_COUNTER.getAndIncrement() + "-");
+      }
+
+      /** prevent java serialization from using a new instance */
+      private Object readResolve() {
+        return INSTANCE;
+      }
+    }
+
     private static class FixedSupplier extends ExecutorSupplier implements Serializable {
       private static final long serialVersionUID = 7771825977551614347L;
 
@@ -1004,7 +1104,7 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
     abstract T get();
   }
 
-  private class ParallelCompositeUploadWriterFactory implements WriterFactory {
+  final class ParallelCompositeUploadWriterFactory implements WriterFactory {
 
     private final Clock clock;
     private final Executor executor;
@@ -1030,6 +1130,99 @@ public final class ParallelCompositeUploadBlobWriteSessionConfig extends BlobWri
       return new PCUSession(s, trimmed, opts);
     }
 
+    /** The maximum number of bytes each part will contain */
+    int getPartSize() {
+      return bufferAllocationStrategy.getBufferCapacity();
+    }
+
+    /**
+     * Upload the already complete file at {@code path} as a parallel composite upload. Each part is
+     * read from the file into a buffer from the {@link BufferAllocationStrategy}, and at most
+     * {@link #withMaxInFlightFileParts(int)} parts (fewer if the pool is smaller) are uploading at
+     * once. The file is read into memory rather than mapped, so it is closed, and may be deleted,
+     * as soon as the last part has been read.
+     *
+     * @param expectedCrc32c the crc32c of the bytes as they were written to the file, if known. The
+     *     bytes read back from the file must match it before the final object is composed, which
+     *     catches any corruption between writing the file and reading it back.
+     */
+    BlobInfo uploadFrom(
+        StorageInternal s,
+        Path path,
+        BlobInfo info,
+        Opts<ObjectTargetOpt> opts,
+        @Nullable Integer expectedCrc32c)
+        throws IOException {
+      BlobInfo trimmed = info.toBuilder().clearCrc32c().clearMd5().build();
+      SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+      ParallelCompositeUploadWritableByteChannel channel =
+          new ParallelCompositeUploadWritableByteChannel(
+              bufferHandlePool,
+              executor,
+              partNamingStrategy,
+              partCleanupStrategy,
+              maxPartsPerCompose,
+              partMetadataFieldDecoratorInstance,
+              result,
+              s,
+              trimmed,
+              opts);
+      Semaphore inFlight = new Semaphore(maxInFlightFileParts);
+      try (FileChannel fc = FileChannel.open(path, StandardOpenOption.READ)) {
+        while (true) {
+          inFlight.acquire();
+          ApiFuture<BlobInfo> part = channel.writePart(fc);
+          if (part == null) {
+            inFlight.release();
+            break;
+          }
+          part.addListener(inFlight::release, MoreExecutors.directExecutor());
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        InterruptedIOException ioe = new InterruptedIOException();
+        ioe.initCause(e);
+        channel.abort(ioe);
+        throw ioe;
+      } catch (IOException | RuntimeException e) {
+        // a no-op if the channel already failed and cleaned up after itself
+        channel.abort(e);
+        throw e;
+      }
+      // validate the bytes read back from the file before the final compose, so a corrupted file
+      // never becomes the object
+      if (expectedCrc32c != null && expectedCrc32c != channel.getCumulativeCrc32c()) {
+        String message =
+            String.format(
+                Locale.US,
+                "CRC32C Checksum mismatch. expected: [%s] but was: [%s]",
+                Utils.crc32cCodec.encode(expectedCrc32c),
+                Utils.crc32cCodec.encode(channel.getCumulativeCrc32c()));
+        BaseServiceException e;
+        if (s instanceof GrpcStorageImpl) {
+          e =
+              StorageException.coalesce(
+                  ApiExceptionFactory.createException(
+                      message, null, GrpcStatusCode.of(Code.DATA_LOSS), false));
+        } else {
+          e = new StorageException(HttpStatusCodes.STATUS_CODE_BAD_REQUEST, message);
+        }
+        channel.abort(e);
+        throw e;
+      }
+      try {
+        channel.close();
+      } catch (IOException e) {
+        // the failure which caused close to fail will also be used to fail result, prefer it as it
+        // will be a StorageException
+        if (!result.isDone()) {
+          throw e;
+        }
+      }
+      BlobInfo blob = ApiFutureUtils.await(result);
+      return blob;
+    }
+
     private final class PCUSession
         implements WritableByteChannelSession<BufferedWritableByteChannel, BlobInfo> {
 
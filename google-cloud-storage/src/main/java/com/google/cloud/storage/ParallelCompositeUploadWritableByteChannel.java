@@ -49,16 +49,19 @@ import com.google.cloud.storage.UnifiedOpts.SourceGenerationNotMatch;
 import com.google.cloud.storage.UnifiedOpts.SourceMetagenerationMatch;
 import com.google.cloud.storage.UnifiedOpts.SourceMetagenerationNotMatch;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.MoreExecutors;
 import io.grpc.Status.Code;
 import io.opentelemetry.context.Context;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.AsynchronousCloseException;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -68,6 +71,7 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -123,6 +127,7 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
   private final Opts<ObjectTargetOpt> opts;
 
   // immutable bootstrapped state
+  private final StorageMetrics metrics;
   private final Opts<ObjectTargetOpt> partOpts;
   private final Opts<ObjectSourceOpt> srcOpts;
   private final AsyncAppendingQueue<BlobInfo> queue;
@@ -146,7 +151,8 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
       StorageInternal storage,
       BlobInfo ultimateObject,
       Opts<ObjectTargetOpt> opts) {
-    this.bufferPool = bufferPool;
+    this.metrics = storage.getStorageMetrics();
+    this.bufferPool = metrics.meter(bufferPool);
     this.exec = Context.current().wrap(exec);
     this.partNamingStrategy = partNamingStrategy;
     this.partCleanupStrategy = partCleanupStrategy;
@@ -279,8 +285,80 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
     }
   }
 
+  /**
+   * Fill a buffer from the pool with the next bytes of {@code src}, and upload it as a single part.
+   * The buffer is returned to the pool once the part upload completes, so a fixed size pool bounds
+   * the number of parts in flight.
+   *
+   * <p>Can not be mixed with {@link #write(ByteBuffer)}.
+   *
+   * @return the future of the part upload, or {@code null} if {@code src} has reached end-of-stream
+   */
+  @Nullable ApiFuture<BlobInfo> writePart(ReadableByteChannel src) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    Preconditions.checkState(current == null, "writePart can not be mixed with write");
+    PooledBuffer pooled = bufferPool.getBuffer();
+    ByteBuffer buf = pooled.getBufferHandle().get();
+    int read;
+    try {
+      read = Buffers.fillFrom(buf, src);
+    } catch (IOException | RuntimeException e) {
+      bufferPool.returnBuffer(pooled);
+      throw e;
+    }
+    if (read == -1) {
+      bufferPool.returnBuffer(pooled);
+      return null;
+    }
+    current = pooled;
+    Buffers.flip(buf);
+    cumulativeHasher.putBytes(buf.duplicate());
+    return uploadPart(buf);
+  }
+
+  /** The crc32c of all bytes written to this channel so far */
+  int getCumulativeCrc32c() {
+    return cumulativeHasher.hash().asInt();
+  }
+
+  /**
+   * Abandon the upload without creating the final object, failing the result with {@code cause}.
+   *
+   * <p>Parts already uploading are allowed to complete, so that they are known when cleaning up.
+   * Cleanup is then performed according to the {@link PartCleanupStrategy}, any failure of which is
+   * added to {@code cause} as suppressed. If the channel is already closed, this method does
+   * nothing.
+   */
+  void abort(Throwable cause) {
+    if (!open) {
+      return;
+    }
+    open = false;
+
+    if (partCleanupStrategy.isDeleteAllOnError()) {
+      ApiFuture<BlobInfo> cleanupFuture = asyncCleanupAfterFailure(cause);
+      ApiFutures.addCallback(cleanupFuture, failureForwarder, exec);
+      try {
+        cleanupFuture.get();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        cause.addSuppressed(e);
+      } catch (ExecutionException e) {
+        // expected, cleanup always completes with cause
+      }
+    } else {
+      failureForwarder.onFailure(cause);
+    }
+  }
+
   private void internalFlush(ByteBuffer buf) {
     Buffers.flip(buf);
+    uploadPart(buf);
+  }
+
+  private ApiFuture<BlobInfo> uploadPart(ByteBuffer buf) {
     int pendingByteCount = buf.remaining();
     int partIndex = pendingParts.size() + 1;
     BlobInfo partInfo = definePart(ultimateObject, PartRange.of(partIndex), totalObjectOffset);
@@ -289,27 +367,36 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
             ApiFutures.immediateFuture(partInfo),
             info -> {
               try {
-                return storage.internalDirectUpload(info, partOpts, buf);
+                BlobInfo part = storage.internalDirectUpload(info, partOpts, buf);
+                metrics.recordPcuPart(pendingByteCount, false);
+                return part;
               } catch (StorageException e) {
                 // a precondition failure usually means the part was created, but we didn't get the
                 // response. And when we tried to retry the object already exists.
                 if (e.getCode() == 412) {
-                  return storage.internalObjectGet(info.getBlobId(), srcOpts);
+                  BlobInfo part = storage.internalObjectGet(info.getBlobId(), srcOpts);
+                  metrics.recordPcuPart(pendingByteCount, false);
+                  return part;
                 } else {
+                  metrics.recordPcuPart(pendingByteCount, true);
                   throw e;
                 }
               }
             },
             exec);
 
-    ApiFutures.addCallback(
-        partFuture,
-        new BufferHandleReleaser<>(
-            bufferPool,
-            current,
-            (OnSuccessApiFutureCallback<BlobInfo>)
-                result -> successfulParts.add(result.getBlobId())),
-        exec);
+    // run inline as the part completes, so it is recorded before the queue can compose it and
+    // cleanup reads successfulParts
+    OnSuccessApiFutureCallback<BlobInfo> onSuccess =
+        result -> successfulParts.add(result.getBlobId());
+    if (current != null) {
+      ApiFutures.addCallback(
+          partFuture,
+          new BufferHandleReleaser<>(bufferPool, current, onSuccess),
+          MoreExecutors.directExecutor());
+    } else {
+      ApiFutures.addCallback(partFuture, onSuccess, MoreExecutors.directExecutor());
+    }
 
     pendingParts.add(partFuture);
     try {
@@ -317,7 +404,9 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
       totalObjectOffset += pendingByteCount;
     } catch (ShortCircuitException e) {
       open = false;
-      bufferPool.returnBuffer(current);
+      if (current != null) {
+        bufferPool.returnBuffer(current);
+      }
 
       // attempt to cancel any pending requests which haven't started yet
       for (ApiFuture<BlobInfo> pendingPart : pendingParts) {
@@ -368,6 +457,7 @@ final class ParallelCompositeUploadWritableByteChannel implements BufferedWritab
     } finally {
       current = null;
     }
+    return partFuture;
   }
 
   @SuppressWarnings("DataFlowIssue")
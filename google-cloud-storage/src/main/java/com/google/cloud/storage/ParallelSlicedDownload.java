@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.UnifiedOpts.ParallelDownload;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Download a single generation of an object as a number of concurrent ranged reads, reassembling
+ * the slices into a byte array or a file.
+ *
+ * <p>The crc32c of each slice is computed as it is read. Once all slices have completed, the values
+ * are combined in order via {@link Crc32cUtility#concatCrc32c(int, int, long)} and compared against
+ * the crc32c of the object, validating the download end to end without a second pass over the
+ * bytes.
+ *
+ * <p>How a range is read is transport specific and provided by the {@link RangeReader}.
+ *
+ * @see UnifiedOpts.ParallelDownload
+ */
+final class ParallelSlicedDownload {
+  // arrays larger than this can not be allocated by most JVMs
+  private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+  private static final int COPY_BUFFER_SIZE = ByteSizeConstants._256KiB;
+  static final int DEFAULT_MAX_THREADS = 64;
+  private static final Duration THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+
+  private final BlobInfo info;
+  private final ParallelDownload config;
+  private final RangeReader reader;
+  private final Hasher hasher;
+  private final ExecutorService executor;
+
+  /**
+   * @param info The metadata of the generation to download, its size and crc32c must be present
+   * @param reader Open a read of a range of the generation described by {@code info}
+   * @param executor The executor slices are read on, at most {@link
+   *     ParallelDownload#getMaxConcurrency()} slices will be submitted to it at a time
+   */
+  ParallelSlicedDownload(
+      BlobInfo info,
+      ParallelDownload config,
+      RangeReader reader,
+      Hasher hasher,
+      ExecutorService executor) {
+    checkArgument(info.getSize() != null, "size must be non null");
+    this.info = info;
+    this.config = config;
+    this.reader = reader;
+    this.hasher = hasher;
+    this.executor = executor;
+  }
+
+  /**
+   * Create the executor a client uses for all of its sliced downloads. Its daemon threads exit once
+   * idle, as not every client is closed.
+   *
+   * @see StorageOptions.Builder#setUseVirtualThreads(boolean)
+   */
+  static ExecutorService newExecutor(boolean useVirtualThreads) {
+    if (useVirtualThreads) {
+      // the concurrency of each download is bounded by its own config
+      return VirtualThreads.newThreadPerTaskExecutor("c.g.c:g-c-s:parallel-download-");
+    }
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            DEFAULT_MAX_THREADS,
+            DEFAULT_MAX_THREADS,
+            THREAD_KEEP_ALIVE.toNanos(),
+            TimeUnit.NANOSECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("c.g.c:g-c-s:parallel-download-%d")
+                .build());
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  /**
+   * Whether an object described by {@code info} can be downloaded in slices. If the object will be
+   * transparently decompressed, a range of the stored bytes can not be mapped to a range of the
+   * decompressed bytes.
+   *
+   * @param decompress whether gzip content will be decompressed, that is the inverse of {@link
+   *     Storage.BlobSourceOption#shouldReturnRawInputStream(boolean)}
+   */
+  static boolean isApplicable(BlobInfo info, boolean decompress) {
+    return info.getSize() != null
+        && !(decompress && "gzip".equalsIgnoreCase(info.getContentEncoding()));
+  }
+
+  byte[] readAllBytes() {
+    long size = info.getSize();
+    if (size > MAX_ARRAY_SIZE) {
+      throw new StorageException(
+          0,
+          String.format(
+              Locale.US,
+              "Object %s is too large (%d bytes) to be read into a byte[]",
+              info.getBlobId().toGsUtilUriWithGeneration(),
+              size));
+    }
+    byte[] bytes = new byte[(int) size];
+    List<@Nullable Crc32cLengthKnown> crc32cs =
+        readSlices(s -> readSlice(s, ByteBuffer.wrap(bytes, (int) s.begin, (int) s.length)));
+    validate(crc32cs);
+    return bytes;
+  }
+
+  void downloadTo(Path path) {
+    try (FileChannel file =
+        FileChannel.open(
+            path,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE)) {
+      List<@Nullable Crc32cLengthKnown> crc32cs = readSlices(s -> readSlice(s, file));
+      validate(crc32cs);
+    } catch (IOException e) {
+      throw StorageException.coalesce(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("blobId", info.getBlobId().toGsUtilUriWithGeneration())
+        .add("size", info.getSize())
+        .add("config", config)
+        .toString();
+  }
+
+  List<Slice> slices() {
+    long size = info.getSize();
+    long sliceSize = config.getSliceSize();
+    ImmutableList.Builder<Slice> slices = ImmutableList.builder();
+    for (long begin = 0; begin < size; begin += sliceSize) {
+      slices.add(new Slice(begin, Math.min(sliceSize, size - begin)));
+    }
+    return slices.build();
+  }
+
+  /**
+   * Read every slice on the executor, with at most {@code maxConcurrency} in progress at a time.
+   * After the first failure no new slices are started, and the failure is thrown once all in
+   * progress slices have completed.
+   *
+   * @return the crc32c of each slice, in the same order as {@link #slices()}
+   */
+  private List<@Nullable Crc32cLengthKnown> readSlices(
+      Function<Slice, @Nullable Crc32cLengthKnown> read) {
+    List<Slice> slices = slices();
+    Semaphore permits = new Semaphore(config.getMaxConcurrency());
+    AtomicBoolean failed = new AtomicBoolean(false);
+    List<Future<@Nullable Crc32cLengthKnown>> futures = new ArrayList<>(slices.size());
+    RejectedExecutionException rejected = null;
+    try {
+      for (Slice slice : slices) {
+        permits.acquire();
+        if (failed.get()) {
+          permits.release();
+          break;
+        }
+        try {
+          futures.add(
+              executor.submit(
+                  () -> {
+                    try {
+                      return read.apply(slice);
+                    } catch (RuntimeException e) {
+                      failed.set(true);
+                      throw e;
+                    } finally {
+                      permits.release();
+                    }
+                  }));
+        } catch (RejectedExecutionException e) {
+          permits.release();
+          rejected = e;
+          break;
+        }
+      }
+      // wait for all in progress slices, even after a failure, none may write to the destination
+      // once we have returned
+      permits.acquire(config.getMaxConcurrency());
+      if (rejected != null) {
+        throw StorageException.coalesce(rejected);
+      }
+      List<@Nullable Crc32cLengthKnown> crc32cs = new ArrayList<>(futures.size());
+      for (Future<@Nullable Crc32cLengthKnown> f : futures) {
+        crc32cs.add(f.get());
+      }
+      return crc32cs;
+    } catch (InterruptedException e) {
+      futures.forEach(f -> f.cancel(true));
+      Thread.currentThread().interrupt();
+      throw StorageException.coalesce(e);
+    } catch (ExecutionException e) {
+      throw StorageException.coalesce(e.getCause());
+    }
+  }
+
+  /** Read {@code slice} into {@code dst}, which has exactly {@code slice.length} remaining */
+  private @Nullable Crc32cLengthKnown readSlice(Slice slice, ByteBuffer dst) {
+    try (ReadableByteChannel src = reader.open(slice.begin, slice.length)) {
+      Crc32cLengthKnown crc32c = hasher.initialValue();
+      while (dst.hasRemaining()) {
+        int position = dst.position();
+        int read = src.read(dst);
+        if (read == -1) {
+          throw unexpectedEndOfStream(slice, dst.position() - slice.begin);
+        }
+        crc32c = hasher.nullSafeConcat(crc32c, hash(dst, position, read));
+      }
+      return crc32c;
+    } catch (IOException e) {
+      throw StorageException.coalesce(e);
+    }
+  }
+
+  /** Read {@code slice} into {@code file} at the same offset it has in the object */
+  private @Nullable Crc32cLengthKnown readSlice(Slice slice, FileChannel file) {
+    ByteBuffer buf = ByteBuffer.allocate((int) Math.min(COPY_BUFFER_SIZE, slice.length));
+    long position = slice.begin;
+    long end = slice.begin + slice.length;
+    try (ReadableByteChannel src = reader.open(slice.begin, slice.length)) {
+      Crc32cLengthKnown crc32c = hasher.initialValue();
+      while (position < end) {
+        Buffers.clear(buf);
+        Buffers.limit(buf, (int) Math.min(buf.capacity(), end - position));
+        int read = src.read(buf);
+        if (read == -1) {
+          throw unexpectedEndOfStream(slice, position - slice.begin);
+        }
+        crc32c = hasher.nullSafeConcat(crc32c, hash(buf, 0, read));
+        Buffers.flip(buf);
+        while (buf.hasRemaining()) {
+          // positional writes do not modify the position of the channel, allowing all slices to
+          // share it
+          position += file.write(buf, position);
+        }
+      }
+      return crc32c;
+    } catch (IOException e) {
+      throw StorageException.coalesce(e);
+    }
+  }
+
+  private @Nullable Crc32cLengthKnown hash(ByteBuffer buf, int position, int length) {
+    ByteBuffer read = buf.duplicate();
+    Buffers.position(read, position);
+    Buffers.limit(read, position + length);
+    return hasher.hash(read);
+  }
+
+  private void validate(List<@Nullable Crc32cLengthKnown> crc32cs) {
+    String crc32c = info.getCrc32c();
+    if (crc32c == null) {
+      return;
+    }
+    Crc32cLengthKnown actual = hasher.initialValue();
+    for (Crc32cLengthKnown c : crc32cs) {
+      actual = hasher.nullSafeConcat(actual, c);
+    }
+    if (actual == null) {
+      // hashing is disabled
+      return;
+    }
+    Crc32cValue<?> expected = Crc32cValue.of(Utils.crc32cCodec.decode(crc32c));
+    if (!expected.eqValue(actual)) {
+      throw new StorageException(
+          0,
+          String.format(
+              Locale.US,
+              "Mismatch checksum value. Expected %s actual %s for object %s",
+              expected.debugString(),
+              actual.debugString(),
+              info.getBlobId().toGsUtilUriWithGeneration()));
+    }
+  }
+
+  private StorageException unexpectedEndOfStream(Slice slice, long read) {
+    return new StorageException(
+        0,
+        "Unexpected end of stream, read "
+            + read
+            + " expected "
+            + slice.length
+            + " from object "
+            + info.getBlobId().toGsUtilUriWithGeneration()
+            + " at offset "
+            + slice.begin);
+  }
+
+  @FunctionalInterface
+  interface RangeReader {
+    /** Open a channel which will produce the {@code length} bytes starting at {@code begin} */
+    ReadableByteChannel open(long begin, long length) throws IOException;
+  }
+
+  static final class Slice {
+    private final long begin;
+    private final long length;
+
+    private Slice(long begin, long length) {
+      this.begin = begin;
+      this.length = length;
+    }
+
+    long getBegin() {
+      return begin;
+    }
+
+    long getLength() {
+      return length;
+    }
+
+    @Override
+    public String toString() {
+      return "Slice{begin=" + begin + ", length=" + length + "}";
+    }
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Transport agnostic {@link ReadPublisher} which reads from a {@link ReadChannel}.
+ *
+ * <p>Reading from a {@link ReadChannel} blocks, so all reads, and therefore all signals to the
+ * subscriber, happen on the provided {@link Executor}. A chunk is read from the channel when the
+ * subscriber has outstanding demand for it, and after each delivered chunk at most one further
+ * chunk is read ahead so that end of stream can be observed without waiting for more demand.
+ * Terminal signals ({@code onComplete} and {@code onError}) are delivered regardless of demand.
+ */
+final class ReadChannelPublisher implements ReadPublisher, ReadPublisher.Subscription {
+  static final int DEFAULT_CHUNK_SIZE = 2 * 1024 * 1024;
+
+  private final ReadChannel channel;
+  private final Executor executor;
+  private final int chunkSize;
+  private final AtomicBoolean subscribed;
+  private final AtomicLong requested;
+  private final AtomicInteger wip;
+
+  @Nullable private volatile Subscriber subscriber;
+  @Nullable private volatile Throwable invalidRequest;
+  private volatile boolean cancelled;
+  // only accessed from within #pump()
+  private boolean done;
+  private boolean eof;
+  private boolean readAhead;
+  @Nullable private ByteBuffer buffered;
+
+  ReadChannelPublisher(ReadChannel channel, Executor executor, int chunkSize) {
+    Preconditions.checkArgument(chunkSize > 0, "chunkSize > 0 (%s > 0)", chunkSize);
+    this.channel = channel;
+    this.executor = executor;
+    this.chunkSize = chunkSize;
+    this.subscribed = new AtomicBoolean(false);
+    this.requested = new AtomicLong(0);
+    this.wip = new AtomicInteger(0);
+    this.cancelled = false;
+    this.done = false;
+    this.eof = false;
+    this.readAhead = false;
+  }
+
+  @Override
+  public void subscribe(Subscriber subscriber) {
+    Preconditions.checkNotNull(subscriber, "subscriber must be non null");
+    if (!subscribed.compareAndSet(false, true)) {
+      subscriber.onSubscribe(NoopSubscription.INSTANCE);
+      subscriber.onError(new IllegalStateException("ReadPublisher already subscribed to"));
+      return;
+    }
+    this.subscriber = subscriber;
+    subscriber.onSubscribe(this);
+  }
+
+  @Override
+  public void request(long n) {
+    if (n <= 0) {
+      invalidRequest =
+          new IllegalArgumentException(
+              String.format(Locale.US, "request(n) must be positive (n = %d)", n));
+    } else {
+      // saturate rather than overflow, Long.MAX_VALUE is treated as unbounded
+      requested.accumulateAndGet(n, (a, b) -> a + b < 0 ? Long.MAX_VALUE : a + b);
+    }
+    schedule();
+  }
+
+  @Override
+  public void cancel() {
+    cancelled = true;
+    schedule();
+  }
+
+  private void schedule() {
+    if (wip.getAndIncrement() == 0) {
+      executor.execute(this::pump);
+    }
+  }
+
+  private void pump() {
+    int missed = 1;
+    do {
+      Subscriber s = subscriber;
+      while (s != null && !done) {
+        if (cancelled) {
+          terminate();
+        } else if (invalidRequest != null) {
+          terminate();
+          s.onError(invalidRequest);
+        } else if (buffered == null && eof) {
+          terminate();
+          s.onComplete();
+        } else if (buffered != null && requested.get() > 0) {
+          ByteBuffer buf = buffered;
+          buffered = null;
+          readAhead = true;
+          requested.updateAndGet(r -> r == Long.MAX_VALUE ? r : r - 1);
+          s.onNext(new Chunk(UnsafeByteOperations.unsafeWrap(buf)));
+          continue;
+        } else if (buffered == null && (readAhead || requested.get() > 0)) {
+          readAhead = false;
+          readNext(s);
+          continue;
+        }
+        break;
+      }
+      missed = wip.addAndGet(-missed);
+    } while (missed != 0);
+  }
+
+  private void readNext(Subscriber s) {
+    ByteBuffer buf = ByteBuffer.allocate(chunkSize);
+    try {
+      while (buf.hasRemaining()) {
+        if (channel.read(buf) == -1) {
+          eof = true;
+          break;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      terminate();
+      s.onError(e);
+      return;
+    }
+    Buffers.flip(buf);
+    if (buf.hasRemaining()) {
+      buffered = buf;
+    }
+  }
+
+  private void terminate() {
+    done = true;
+    buffered = null;
+    channel.close();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("channel", channel)
+        .add("chunkSize", chunkSize)
+        .add("requested", requested.get())
+        .add("cancelled", cancelled)
+        .toString();
+  }
+
+  /** Each chunk is a freshly allocated heap buffer, there is nothing to release on close */
+  private static final class Chunk implements DisposableByteString {
+    private final ByteString byteString;
+
+    private Chunk(ByteString byteString) {
+      this.byteString = byteString;
+    }
+
+    @Override
+    public ByteString byteString() {
+      return byteString;
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  /** Handed to any subscriber after the first, which is immediately signaled an error */
+  static final class NoopSubscription implements Subscription {
+    static final NoopSubscription INSTANCE = new NoopSubscription();
+
+    private NoopSubscription() {}
+
+    @Override
+    public void request(long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
@@ -125,4 +125,22 @@ public final class ReadProjectionConfigs {
   public static ReadAsSeekableChannel asSeekableChannel() {
     return ReadAsSeekableChannel.INSTANCE;
   }
+
+  /**
+   * Read a range of {@code byte}s as a {@link ReadPublisher} of {@link DisposableByteString}s
+   *
+   * <p>Subscriber demand is mapped onto gRPC flow control, messages will only be requested from
+   * Google Cloud Storage while the subscriber has outstanding demand.
+   *
+   * <p>Each {@link DisposableByteString} delivered to the subscriber MUST be {@link
+   * DisposableByteString#close() close()}ed to avoid leaking memory
+   *
+   * @see ReadAsPublisher
+   * @see ReadPublisher
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static ReadAsPublisher asPublisher() {
+    return ReadAsPublisher.INSTANCE;
+  }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+
+/**
+ * A demand driven publisher of the bytes of a read.
+ *
+ * <p>The shape of this interface and its nested {@link Subscriber} and {@link Subscription}
+ * intentionally mirror {@code java.util.concurrent.Flow} (and the Reactive Streams specification),
+ * allowing a trivial adapter to be written for whichever reactive library an application uses,
+ * while this library continues to support Java 8.
+ *
+ * <p>Bytes are only requested from Google Cloud Storage as the subscriber signals demand via {@link
+ * Subscription#request(long)}, the amount of memory held for a read is bounded by the outstanding
+ * demand (plus one message already in flight) multiplied by the size of an individual message.
+ *
+ * <p>Each {@link DisposableByteString} delivered to {@link Subscriber#onNext(DisposableByteString)}
+ * MUST be {@link DisposableByteString#close() close()}ed to avoid leaking memory.
+ *
+ * <p>A {@code ReadPublisher} can only be subscribed to once.
+ *
+ * @see ReadProjectionConfigs#asPublisher()
+ * @see Storage#readAsPublisher(BlobId, java.util.concurrent.Executor, Storage.BlobSourceOption...)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public interface ReadPublisher {
+
+  /**
+   * Subscribe to the bytes of this read. If this publisher has already been subscribed to, {@code
+   * subscriber} will be signaled {@link Subscriber#onError(Throwable)} with an {@link
+   * IllegalStateException}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void subscribe(Subscriber subscriber);
+
+  /**
+   * Receiver of the bytes of a read. Mirrors {@code java.util.concurrent.Flow.Subscriber}.
+   *
+   * <p>Methods of an individual subscriber will never be invoked concurrently.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  interface Subscriber {
+
+    /**
+     * Invoked exactly once before any other method.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void onSubscribe(Subscription subscription);
+
+    /**
+     * Invoked with the next chunk of bytes, at most as many times as have been requested.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void onNext(DisposableByteString item);
+
+    /**
+     * Invoked when the read has failed, no other methods will be invoked after this one.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void onError(Throwable throwable);
+
+    /**
+     * Invoked when all bytes of the read have been delivered, no other methods will be invoked
+     * after this one.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void onComplete();
+  }
+
+  /**
+   * Link between a {@link ReadPublisher} and its {@link Subscriber}. Mirrors {@code
+   * java.util.concurrent.Flow.Subscription}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  interface Subscription {
+
+    /**
+     * Add {@code n} to the number of chunks the subscriber is prepared to receive. A non-positive
+     * value will result in the subscriber being signaled {@link Subscriber#onError(Throwable)} with
+     * an {@link IllegalArgumentException}.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void request(long n);
+
+    /**
+     * Stop receiving bytes, releasing any which have been received but not yet delivered.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void cancel();
+  }
+}
@@ -16,6 +16,7 @@
 
 package com.google.cloud.storage;
 
+import com.google.cloud.storage.JournalingBlobWriteSessionConfig.SyncPolicy;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableSet;
 import java.io.IOException;
@@ -27,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.time.Clock;
 import java.util.Set;
 
 /**
@@ -44,17 +46,36 @@ final class RecoveryFile implements AutoCloseable {
       ImmutableSet.of(
           StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
   private static final Set<OpenOption> readOps = ImmutableSet.of(StandardOpenOption.READ);
+  private static final Set<OpenOption> readWriteOps =
+      ImmutableSet.of(
+          StandardOpenOption.CREATE,
+          StandardOpenOption.READ,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.TRUNCATE_EXISTING);
 
   private final Path path;
   private final ThroughputSink throughputSink;
   private final Runnable onCloseCallback;
+  private final SyncPolicy syncPolicy;
+  private final Clock clock;
 
   private boolean newFile;
 
   RecoveryFile(Path path, ThroughputSink throughputSink, Runnable onCloseCallback) {
+    this(path, throughputSink, onCloseCallback, SyncPolicy.everyWrite(), Clock.systemUTC());
+  }
+
+  RecoveryFile(
+      Path path,
+      ThroughputSink throughputSink,
+      Runnable onCloseCallback,
+      SyncPolicy syncPolicy,
+      Clock clock) {
     this.path = path;
     this.throughputSink = throughputSink;
     this.onCloseCallback = onCloseCallback;
+    this.syncPolicy = syncPolicy;
+    this.clock = clock;
     this.newFile = true;
   }
 
@@ -83,7 +104,22 @@ final class RecoveryFile implements AutoCloseable {
   public GatheringByteChannel syncingChannel() throws IOException {
     try {
       return throughputSink.decorate(
-          new SyncingFileChannel(FileChannel.open(path, newFile ? writeOpsNew : writeOpsExisting)));
+          new SyncingFileChannel(
+              FileChannel.open(path, newFile ? writeOpsNew : writeOpsExisting), syncPolicy, clock));
+    } finally {
+      newFile = false;
+    }
+  }
+
+  /**
+   * Open a channel which can be used to both read and write at arbitrary positions of the file. Any
+   * existing content of the file is discarded.
+   *
+   * <p>Positional reads and writes bypass the volume's {@link ThroughputSink}.
+   */
+  public FileChannel randomAccess() throws IOException {
+    try {
+      return FileChannel.open(path, readWriteOps);
     } finally {
       newFile = false;
     }
@@ -101,6 +137,7 @@ final class RecoveryFile implements AutoCloseable {
         .add("path", path)
         .add("throughputSink", throughputSink)
         .add("onCloseCallback", onCloseCallback)
+        .add("syncPolicy", syncPolicy)
         .toString();
   }
 
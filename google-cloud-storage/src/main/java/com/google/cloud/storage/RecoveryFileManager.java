@@ -18,6 +18,7 @@ package com.google.cloud.storage;
 
 import static com.google.common.base.Preconditions.checkArgument;
 
+import com.google.cloud.storage.JournalingBlobWriteSessionConfig.SyncPolicy;
 import com.google.common.collect.ImmutableList;
 import com.google.common.hash.HashCode;
 import com.google.common.hash.HashFunction;
@@ -27,6 +28,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
@@ -42,6 +44,8 @@ final class RecoveryFileManager {
   private final Map<BlobInfo, RecoveryFile> files;
 
   private final HashFunction hashFunction;
+  private final SyncPolicy syncPolicy;
+  private final Clock clock;
 
   /**
    * Round-robin assign recovery files to the configured volumes. Use this index to keep track of
@@ -49,8 +53,10 @@ final class RecoveryFileManager {
    */
   private int nextVolumeIndex;
 
-  private RecoveryFileManager(List<RecoveryVolume> volumes) {
+  private RecoveryFileManager(List<RecoveryVolume> volumes, SyncPolicy syncPolicy, Clock clock) {
     this.volumes = ImmutableList.copyOf(volumes);
+    this.syncPolicy = syncPolicy;
+    this.clock = clock;
     this.files = Collections.synchronizedMap(new HashMap<>());
     this.nextVolumeIndex = 0;
     this.hashFunction = Hashing.goodFastHash(64);
@@ -66,7 +72,8 @@ final class RecoveryFileManager {
     HashCode hash = hasher.putString(string, StandardCharsets.UTF_8).hash();
     String fileName = Base64.getUrlEncoder().encodeToString(hash.asBytes());
     Path path = v.basePath.resolve(fileName);
-    RecoveryFile recoveryFile = new RecoveryFile(path, v.sink, () -> files.remove(info));
+    RecoveryFile recoveryFile =
+        new RecoveryFile(path, v.sink, () -> files.remove(info), syncPolicy, clock);
     files.put(info, recoveryFile);
     return recoveryFile;
   }
@@ -81,6 +88,12 @@ final class RecoveryFileManager {
 
   static RecoveryFileManager of(List<Path> volumes, RecoveryVolumeSinkFactory factory)
       throws IOException {
+    return of(volumes, factory, SyncPolicy.everyWrite(), Clock.systemUTC());
+  }
+
+  static RecoveryFileManager of(
+      List<Path> volumes, RecoveryVolumeSinkFactory factory, SyncPolicy syncPolicy, Clock clock)
+      throws IOException {
     checkArgument(!volumes.isEmpty(), "At least one volume must be specified");
     checkArgument(
         volumes.stream().allMatch(p -> !Files.exists(p) || Files.isDirectory(p)),
@@ -95,7 +108,7 @@ final class RecoveryFileManager {
         volumes.stream()
             .map(p -> RecoveryVolume.of(p, factory.apply(p)))
             .collect(ImmutableList.toImmutableList());
-    return new RecoveryFileManager(recoveryVolumes);
+    return new RecoveryFileManager(recoveryVolumes, syncPolicy, clock);
   }
 
   @FunctionalInterface
@@ -38,8 +38,9 @@ final class ResumableSession {
       ClientStreamingCallable<WriteObjectRequest, WriteObjectResponse> writeCallable,
       UnaryCallable<QueryWriteStatusRequest, QueryWriteStatusResponse> queryWriteStatusCallable,
       ResumableWrite resumableWrite,
-      Hasher hasher) {
+      Hasher hasher,
+      TransferPhaseListener phaseListener) {
     return new GrpcResumableSession(
-        retrier, writeCallable, queryWriteStatusCallable, resumableWrite, hasher);
+        retrier, writeCallable, queryWriteStatusCallable, resumableWrite, hasher, phaseListener);
   }
 }
@@ -26,7 +26,10 @@ import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
 import java.nio.channels.GatheringByteChannel;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.channels.WritableByteChannel;
@@ -54,6 +57,22 @@ abstract class RewindableContent extends AbstractHttpContent {
 
   abstract void flagDirty();
 
+  /** Whether this content supports {@link #writeMappedTo(WritableByteChannel)} */
+  boolean supportsMappedWrites() {
+    return false;
+  }
+
+  /**
+   * Write this content to {@code c} as read-only memory mapped regions. The regions are never
+   * modified or reused, allowing {@code c} to reference them rather than copying their bytes.
+   *
+   * <p>If {@link #supportsMappedWrites()} returns false, this content is instead written the same
+   * as {@link #writeTo(WritableByteChannel)}, and {@code c} must copy any bytes it retains.
+   */
+  long writeMappedTo(WritableByteChannel c) throws IOException {
+    return writeTo(c);
+  }
+
   @Override
   public final boolean retrySupported() {
     return false;
@@ -126,6 +145,8 @@ abstract class RewindableContent extends AbstractHttpContent {
   }
 
   private static final class PathRewindableContent extends RewindableContent {
+    // a multiple of 256KiB, keeping each region aligned with GCS's resumable upload block size
+    private static final long MAPPED_REGION_SIZE = ByteSizeConstants._16MiB;
 
     private final Path path;
     private final long size;
@@ -178,6 +199,26 @@ abstract class RewindableContent extends AbstractHttpContent {
     @Override
     void flagDirty() {}
 
+    @Override
+    boolean supportsMappedWrites() {
+      return true;
+    }
+
+    @Override
+    long writeMappedTo(WritableByteChannel c) throws IOException {
+      long total = 0;
+      try (FileChannel in = FileChannel.open(path, StandardOpenOption.READ)) {
+        for (long position = readOffset; position < size; position += MAPPED_REGION_SIZE) {
+          long length = Math.min(MAPPED_REGION_SIZE, size - position);
+          MappedByteBuffer region = in.map(MapMode.READ_ONLY, position, length);
+          while (region.hasRemaining()) {
+            total += c.write(region);
+          }
+        }
+      }
+      return total;
+    }
+
     @Override
     @Nullable Crc32cLengthKnown getCrc32c() {
       GuavaHasher hasher;
@@ -191,16 +232,12 @@ abstract class RewindableContent extends AbstractHttpContent {
       }
       Crc32cLengthKnown cumulative = Crc32cValue.zero();
 
-      int bufferSize = 8192; // 8KiB buffer for reading chunks
-      ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
-
-      try (SeekableByteChannel channel = Files.newByteChannel(path, StandardOpenOption.READ)) {
-        while (channel.read(buffer) != -1) {
-          buffer.flip();
-          if (buffer.hasRemaining()) {
-            cumulative = cumulative.concat(hasher.hash(buffer::duplicate));
-          }
-          buffer.clear();
+      // hash the mapped regions directly, rather than reading the file into a heap buffer first
+      try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+        for (long position = 0; position < size; position += MAPPED_REGION_SIZE) {
+          long length = Math.min(MAPPED_REGION_SIZE, size - position);
+          MappedByteBuffer region = channel.map(MapMode.READ_ONLY, position, length);
+          cumulative = cumulative.concat(hasher.hash(region));
         }
       } catch (IOException e) {
         throw new RuntimeException("Failed to read file for CRC32C calculation: " + path, e);
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.InternalApi;
+import com.google.cloud.storage.Storage.CopyRequest;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Access to the rewrite token of a {@link CopyWriter}, allowing a rewrite to be continued later
+ * without capturing the writer, whose {@link CopyWriter#capture() state} embeds the client options
+ * and therefore its credentials.
+ *
+ * <p>Public only so that it can be shared with {@code transfermanager}, not intended for use
+ * outside of this library.
+ */
+@InternalApi
+public final class RewriteTokens {
+
+  private RewriteTokens() {}
+
+  /** The token of the most recent rewrite call of {@code writer}, if one is known */
+  public static @Nullable String get(CopyWriter writer) {
+    return writer.getRewriteToken();
+  }
+
+  /**
+   * Continue the rewrite described by {@code copyRequest} from {@code rewriteToken}, issuing the
+   * next rewrite call. {@code copyRequest} must be equivalent to the request which produced the
+   * token.
+   *
+   * @return the writer of the continued rewrite, or {@code null} if {@code storage} does not
+   *     support continuing a rewrite
+   * @throws StorageException if the rewrite call fails, for example if the token has expired
+   */
+  public static @Nullable CopyWriter resume(
+      Storage storage, CopyRequest copyRequest, String rewriteToken) {
+    Storage s = storage;
+    if (s instanceof OtelStorageDecorator) {
+      s = ((OtelStorageDecorator) s).delegate;
+    }
+    if (s instanceof StorageInternal) {
+      return ((StorageInternal) s).internalResumeCopy(copyRequest, rewriteToken);
+    }
+    return null;
+  }
+}
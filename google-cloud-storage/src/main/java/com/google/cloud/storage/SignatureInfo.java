@@ -21,15 +21,14 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.hash.Hashing;
 import java.net.URI;
-import java.nio.charset.StandardCharsets;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
-import java.util.TimeZone;
 import java.util.TreeMap;
 
 /**
@@ -56,6 +55,11 @@ public class SignatureInfo {
           "x-goog-expires",
           "x-goog-signedheaders");
 
+  private static final DateTimeFormatter YEAR_MONTH_DAY_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd", Locale.US).withZone(ZoneOffset.UTC);
+  private static final DateTimeFormatter EXACT_DATE_FORMAT =
+      DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'", Locale.US).withZone(ZoneOffset.UTC);
+
   private final HttpMethod httpVerb;
   private final String contentMd5;
   private final String contentType;
@@ -70,6 +74,9 @@ public class SignatureInfo {
   private final String yearMonthDay;
   private final String exactDate;
 
+  // lazily computed by #v4SigningContext()
+  private V4SigningContext v4SigningContext;
+
   private SignatureInfo(Builder builder) {
     this.httpVerb = builder.httpVerb;
     this.contentMd5 = builder.contentMd5;
@@ -91,16 +98,9 @@ public class SignatureInfo {
 
     queryParams = ImmutableMap.<String, String>copyOf(builder.queryParams);
 
-    Date date = new Date(timestamp);
-
-    SimpleDateFormat yearMonthDayFormat = new SimpleDateFormat("yyyyMMdd");
-    SimpleDateFormat exactDateFormat = new SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'");
-
-    yearMonthDayFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-    exactDateFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-
-    yearMonthDay = yearMonthDayFormat.format(date);
-    exactDate = exactDateFormat.format(date);
+    Instant instant = Instant.ofEpochMilli(timestamp);
+    yearMonthDay = YEAR_MONTH_DAY_FORMAT.format(instant);
+    exactDate = EXACT_DATE_FORMAT.format(instant);
   }
 
   /**
@@ -144,50 +144,26 @@ public class SignatureInfo {
   }
 
   private String constructV4UnsignedPayload() {
-    StringBuilder payload = new StringBuilder();
-
-    payload.append(GOOG4_RSA_SHA256).append(COMPONENT_SEPARATOR);
-    payload.append(exactDate).append(COMPONENT_SEPARATOR);
-    payload.append(yearMonthDay).append(SCOPE).append(COMPONENT_SEPARATOR);
-    payload.append(constructV4CanonicalRequestHash());
-
-    return payload.toString();
+    return v4SigningContext().constructUnsignedPayload(canonicalizedResource);
   }
 
-  private String constructV4CanonicalRequestHash() {
-    StringBuilder canonicalRequest = new StringBuilder();
-
-    CanonicalExtensionHeadersSerializer serializer =
-        new CanonicalExtensionHeadersSerializer(Storage.SignUrlOption.SignatureVersion.V4);
-
-    canonicalRequest.append(httpVerb.name()).append(COMPONENT_SEPARATOR);
-    canonicalRequest.append(canonicalizedResource).append(COMPONENT_SEPARATOR);
-    canonicalRequest.append(constructV4QueryString()).append(COMPONENT_SEPARATOR);
-    canonicalRequest
-        .append(serializer.serialize(canonicalizedExtensionHeaders))
-        .append(COMPONENT_SEPARATOR);
-    canonicalRequest
-        .append(serializer.serializeHeaderNames(canonicalizedExtensionHeaders))
-        .append(COMPONENT_SEPARATOR);
-
-    String userProvidedHash = null;
-    for (Map.Entry<String, String> entry : canonicalizedExtensionHeaders.entrySet()) {
-      if ("X-Goog-Content-SHA256".equalsIgnoreCase(entry.getKey())) {
-        userProvidedHash = entry.getValue();
-        break;
-      }
+  /**
+   * The parts of the V4 canonical request and payload of this signature info which do not depend on
+   * {@link #getCanonicalizedResource()}.
+   */
+  V4SigningContext v4SigningContext() {
+    V4SigningContext ctx = v4SigningContext;
+    if (ctx == null) {
+      ctx = V4SigningContext.of(this);
+      v4SigningContext = ctx;
     }
-    canonicalRequest.append(userProvidedHash == null ? "UNSIGNED-PAYLOAD" : userProvidedHash);
-
-    return Hashing.sha256()
-        .hashString(canonicalRequest.toString(), StandardCharsets.UTF_8)
-        .toString();
+    return ctx;
   }
 
   /**
    * Returns a TreeMap containing the user-supplied query parameters that do not have reserved keys.
    */
-  private TreeMap<String, String> getNonReservedUserQueryParams() {
+  static TreeMap<String, String> getNonReservedUserQueryParams(Map<String, String> queryParams) {
     TreeMap<String, String> sortedParamMap = new TreeMap<String, String>();
 
     // Skip any instances of well-known required headers that might have been supplied by the
@@ -206,7 +182,7 @@ public class SignatureInfo {
     return sortedParamMap;
   }
 
-  private String queryStringFromParamMap(Map<String, String> map) {
+  static String queryStringFromParamMap(Map<String, String> map) {
     StringBuilder queryStringBuilder = new StringBuilder();
 
     String sep = "";
@@ -228,7 +204,7 @@ public class SignatureInfo {
    * @return A URI query string. Returns an empty string if the user supplied no query parameters.
    */
   public String constructV2QueryString() {
-    TreeMap<String, String> sortedParamMap = getNonReservedUserQueryParams();
+    TreeMap<String, String> sortedParamMap = getNonReservedUserQueryParams(queryParams);
     // The "GoogleAccessId", "Expires", and "Signature" params are not included here.
     return queryStringFromParamMap(sortedParamMap);
   }
@@ -242,22 +218,7 @@ public class SignatureInfo {
    *     Canonical Requests</a>
    */
   public String constructV4QueryString() {
-    TreeMap<String, String> sortedParamMap = getNonReservedUserQueryParams();
-
-    // Add in the reserved auth-specific query params.
-    sortedParamMap.put("X-Goog-Algorithm", Rfc3986UriEncode(GOOG4_RSA_SHA256, true));
-    sortedParamMap.put(
-        "X-Goog-Credential", Rfc3986UriEncode(accountEmail + "/" + yearMonthDay + SCOPE, true));
-    sortedParamMap.put("X-Goog-Date", Rfc3986UriEncode(exactDate, true));
-    sortedParamMap.put("X-Goog-Expires", Rfc3986UriEncode(Long.toString(expiration), true));
-    StringBuilder signedHeadersBuilder =
-        new CanonicalExtensionHeadersSerializer(Storage.SignUrlOption.SignatureVersion.V4)
-            .serializeHeaderNames(canonicalizedExtensionHeaders);
-    sortedParamMap.put(
-        "X-Goog-SignedHeaders", Rfc3986UriEncode(signedHeadersBuilder.toString(), true));
-
-    // The "X-Goog-Signature" param is not included here.
-    return queryStringFromParamMap(sortedParamMap);
+    return v4SigningContext().getQueryString();
   }
 
   public HttpMethod getHttpVerb() {
@@ -300,6 +261,14 @@ public class SignatureInfo {
     return accountEmail;
   }
 
+  String getYearMonthDay() {
+    return yearMonthDay;
+  }
+
+  String getExactDate() {
+    return exactDate;
+  }
+
   public static final class Builder {
 
     private final HttpMethod httpVerb;
@@ -16,31 +16,70 @@
 
 package com.google.cloud.storage;
 
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /** Helper for encoding URI segments appropriately when creating a Signed URL. */
 class SignedUrlEncodingHelper {
 
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  /**
+   * Percent encode {@code segment} as described by RFC 3986, leaving only unreserved characters
+   * ({@code A-Z a-z 0-9 - . _ ~}) and optionally forward slashes as is.
+   *
+   * <p>This produces the same output as {@link java.net.URLEncoder#encode(String, String)} with
+   * asterisks and spaces encoded and tildes left as is, but in a single pass and returning {@code
+   * segment} itself when nothing needs to be encoded, which is the common case for object names.
+   */
   static String Rfc3986UriEncode(final String segment, final boolean encodeForwardSlash) {
-    String encodedSegment;
-    try {
-      encodedSegment = URLEncoder.encode(segment, "UTF-8");
-    } catch (UnsupportedEncodingException exception) {
-      throw new RuntimeException(exception);
+    int length = segment.length();
+    int i = 0;
+    while (i < length && isUnencoded(segment.charAt(i), encodeForwardSlash)) {
+      i++;
+    }
+    if (i == length) {
+      return segment;
     }
-    // URLEncoder.encode() does mostly what we want, with the exception of a few characters that
-    // we fix in a second phase:
-    encodedSegment =
-        encodedSegment
-            .replace("*", "%2A") // Asterisks should be encoded.
-            .replace("+", "%20") // Spaces should be encoded as %20 instead of a plus sign.
-            .replace("%7E", "~"); // Tildes should not be encoded.
-    // Forward slashes should NOT be encoded in the segment of the URI that represents the
-    // object's name, but should be encoded for all other segments.
-    if (!encodeForwardSlash) {
-      encodedSegment = encodedSegment.replace("%2F", "/");
+
+    StringBuilder sb = new StringBuilder(length + 16);
+    sb.append(segment, 0, i);
+    while (i < length) {
+      char c = segment.charAt(i);
+      if (isUnencoded(c, encodeForwardSlash)) {
+        sb.append(c);
+        i++;
+      } else if (c < 0x80) {
+        appendEscaped(sb, c);
+        i++;
+      } else {
+        // encode the whole run of non-ascii characters at once, keeping surrogate pairs together
+        int end = i + 1;
+        while (end < length && segment.charAt(end) >= 0x80) {
+          end++;
+        }
+        for (byte b : segment.substring(i, end).getBytes(UTF_8)) {
+          appendEscaped(sb, b & 0xff);
+        }
+        i = end;
+      }
     }
-    return encodedSegment;
+    return sb.toString();
+  }
+
+  private static boolean isUnencoded(char c, boolean encodeForwardSlash) {
+    return (c >= 'a' && c <= 'z')
+        || (c >= 'A' && c <= 'Z')
+        || (c >= '0' && c <= '9')
+        || c == '-'
+        || c == '.'
+        || c == '_'
+        || c == '~'
+        // Forward slashes should NOT be encoded in the segment of the URI that represents the
+        // object's name, but should be encoded for all other segments.
+        || (c == '/' && !encodeForwardSlash);
+  }
+
+  private static void appendEscaped(StringBuilder sb, int b) {
+    sb.append('%').append(HEX_DIGITS[b >> 4]).append(HEX_DIGITS[b & 0xf]);
   }
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
+import com.google.api.core.InternalApi;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.RecoveryFileManager.RecoveryVolumeSinkFactory;
+import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.common.base.MoreObjects;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import javax.annotation.concurrent.Immutable;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+
+/**
+ * A {@link BlobWriteSessionConfig} which uploads an object concurrently with it being written,
+ * buffering in memory and overflowing to local disk whenever the network is slower than the
+ * producer.
+ *
+ * <p>Bytes written to the channel are copied into a fixed size in-memory buffer, from which they
+ * are uploaded in the background using a Resumable Upload Session. If the in-memory buffer is full,
+ * bytes are instead appended to a temporary file under one of the configured paths and uploaded
+ * from there once the bytes before them have been uploaded. Writes never wait on the network, and
+ * memory usage stays bounded by {@link #getMemoryBufferSize()} plus {@link #getChunkSize()}.
+ *
+ * <p>Closing the channel waits for all remaining bytes to be uploaded and the object finalized, and
+ * then deletes the temporary file.
+ *
+ * <p>Upload throughput is recorded for each segment of bytes uploaded, rather than once for the
+ * whole object, so the moving window of throughput reflects an upload in progress.
+ *
+ * @see BlobWriteSessionConfigs#spillToDisk(Collection)
+ * @see Storage#blobWriteSession(BlobInfo, BlobWriteOption...)
+ * @see GrpcStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
+ * @see HttpStorageOptions.Builder#setBlobWriteSessionConfig(BlobWriteSessionConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@Immutable
+@BetaApi
+@TransportCompatibility({Transport.GRPC, Transport.HTTP})
+public final class SpillToDiskBlobWriteSessionConfig extends BlobWriteSessionConfig
+    implements BlobWriteSessionConfig.HttpCompatible, BlobWriteSessionConfig.GrpcCompatible {
+  private static final long serialVersionUID = -3415729466052380143L;
+
+  static final int DEFAULT_MEMORY_BUFFER_SIZE = ByteSizeConstants._16MiB;
+
+  /**
+   * non-final because of {@link java.io.Serializable}, however this field is effectively final as
+   * it is immutable and there is not reference mutator method.
+   */
+  @MonotonicNonNull private transient ImmutableList<Path> paths;
+
+  private final int memoryBufferSize;
+  private final int chunkSize;
+
+  /** Used for {@link java.io.Serializable} */
+  @MonotonicNonNull private volatile ArrayList<String> absolutePaths;
+
+  @InternalApi
+  SpillToDiskBlobWriteSessionConfig(
+      ImmutableList<Path> paths, int memoryBufferSize, int chunkSize) {
+    this.paths = paths;
+    this.memoryBufferSize = memoryBufferSize;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * The number of bytes which can be buffered in memory before overflowing to disk.
+   *
+   * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+   *
+   * @see #withMemoryBufferSize(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getMemoryBufferSize() {
+    return memoryBufferSize;
+  }
+
+  /**
+   * Create a new instance with the {@code memoryBufferSize} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+   *
+   * @param memoryBufferSize The number of bytes which can be buffered in memory before overflowing
+   *     to disk. Must be &gt; 0
+   * @see #getMemoryBufferSize()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public SpillToDiskBlobWriteSessionConfig withMemoryBufferSize(int memoryBufferSize) {
+    Preconditions.checkArgument(memoryBufferSize > 0, "memoryBufferSize must be > 0");
+    return new SpillToDiskBlobWriteSessionConfig(paths, memoryBufferSize, chunkSize);
+  }
+
+  /**
+   * The number of bytes each chunk of the Resumable Upload Session can be.
+   *
+   * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+   *
+   * @see #withChunkSize(int)
+   * @see DefaultBlobWriteSessionConfig#getChunkSize()
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Create a new instance with the {@code chunkSize} set to the specified value.
+   *
+   * <p><i>Default:</i> {@code 16777216 (16 MiB)}
+   *
+   * @param chunkSize The number of bytes each chunk should be. Must be &gt;= {@code 262144 (256
+   *     KiB)}
+   * @see #getChunkSize()
+   * @see DefaultBlobWriteSessionConfig#withChunkSize(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public SpillToDiskBlobWriteSessionConfig withChunkSize(int chunkSize) {
+    Preconditions.checkArgument(
+        chunkSize >= ByteSizeConstants._256KiB,
+        "chunkSize must be >= %d",
+        ByteSizeConstants._256KiB);
+    return new SpillToDiskBlobWriteSessionConfig(paths, memoryBufferSize, chunkSize);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof SpillToDiskBlobWriteSessionConfig)) {
+      return false;
+    }
+    SpillToDiskBlobWriteSessionConfig that = (SpillToDiskBlobWriteSessionConfig) o;
+    return memoryBufferSize == that.memoryBufferSize
+        && chunkSize == that.chunkSize
+        && Objects.equals(paths, that.paths)
+        && Objects.equals(absolutePaths, that.absolutePaths);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(paths, memoryBufferSize, chunkSize, absolutePaths);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("paths", paths)
+        .add("memoryBufferSize", memoryBufferSize)
+        .add("chunkSize", chunkSize)
+        .toString();
+  }
+
+  @InternalApi
+  @Override
+  WriterFactory createFactory(Clock clock) throws IOException {
+    Duration window = Duration.ofMinutes(10);
+    RecoveryFileManager recoveryFileManager =
+        RecoveryFileManager.of(paths, getRecoverVolumeSinkFactory(clock, window));
+    ThroughputSink gcs = ThroughputSink.windowed(ThroughputMovingWindow.of(window), clock);
+    return new Factory(
+        new DefaultBlobWriteSessionConfig(chunkSize).createFactory(clock),
+        recoveryFileManager,
+        DrainExecutorHolder.INSTANCE,
+        clock,
+        gcs);
+  }
+
+  private RecoveryVolumeSinkFactory getRecoverVolumeSinkFactory(Clock clock, Duration window) {
+    return path -> ThroughputSink.windowed(ThroughputMovingWindow.of(window), clock);
+  }
+
+  private void writeObject(ObjectOutputStream out) throws IOException {
+    if (absolutePaths == null) {
+      synchronized (this) {
+        if (absolutePaths == null) {
+          absolutePaths =
+              paths.stream()
+                  .map(Path::toAbsolutePath)
+                  .map(Path::toString)
+                  .collect(Collectors.toCollection(ArrayList::new));
+        }
+      }
+    }
+    out.defaultWriteObject();
+  }
+
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    this.paths = absolutePaths.stream().map(Paths::get).collect(ImmutableList.toImmutableList());
+  }
+
+  /**
+   * Factories are never closed, so rather than each owning a pool which could never be shut down,
+   * all of them share a single pool of daemon threads which are released after being idle for 60
+   * seconds.
+   */
+  private static final class DrainExecutorHolder {
+    private static final ExecutorService INSTANCE =
+        Executors.newCachedThreadPool(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("c.g.c:g-c-s:spill-to-disk-%d")
+                .build());
+  }
+
+  private final class Factory implements WriterFactory {
+
+    private final WriterFactory upload;
+    private final RecoveryFileManager recoveryFileManager;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final ThroughputSink gcs;
+
+    private Factory(
+        WriterFactory upload,
+        RecoveryFileManager recoveryFileManager,
+        ExecutorService executor,
+        Clock clock,
+        ThroughputSink gcs) {
+      this.upload = upload;
+      this.recoveryFileManager = recoveryFileManager;
+      this.executor = executor;
+      this.clock = clock;
+      this.gcs = gcs;
+    }
+
+    @InternalApi
+    @Override
+    public WritableByteChannelSession<?, BlobInfo> writeSession(
+        StorageInternal storage, BlobInfo info, Opts<ObjectTargetOpt> opts) {
+      ThroughputSink sink =
+          ThroughputSink.tee(
+              gcs, storage.getStorageMetrics().throughputSink("spill_to_disk", clock));
+      return new SpillToDiskUpload(
+          upload.writeSession(storage, info, opts),
+          recoveryFileManager.newRecoveryFile(info),
+          sink);
+    }
+
+    private final class SpillToDiskUpload
+        implements WritableByteChannelSession<WritableByteChannel, BlobInfo> {
+
+      private final WritableByteChannelSession<?, BlobInfo> upload;
+      private final RecoveryFile rf;
+      private final ThroughputSink sink;
+      private final SettableApiFuture<BlobInfo> result;
+      private final AtomicBoolean open;
+
+      private SpillToDiskUpload(
+          WritableByteChannelSession<?, BlobInfo> upload, RecoveryFile rf, ThroughputSink sink) {
+        this.upload = upload;
+        this.rf = rf;
+        this.sink = sink;
+        this.result = SettableApiFuture.create();
+        this.open = new AtomicBoolean(false);
+      }
+
+      @Override
+      public ApiFuture<WritableByteChannel> openAsync() {
+        Preconditions.checkState(open.compareAndSet(false, true), "already open");
+        try {
+          return ApiFutures.immediateFuture(
+              new SpillingWritableByteChannel(
+                  memoryBufferSize, rf, upload, executor, sink, clock, result));
+        } catch (IOException e) {
+          throw StorageException.coalesce(e);
+        }
+      }
+
+      @Override
+      public ApiFuture<BlobInfo> getResult() {
+        return result;
+      }
+
+      @Override
+      public void cancel() throws IOException {
+        upload.cancel();
+      }
+    }
+  }
+}
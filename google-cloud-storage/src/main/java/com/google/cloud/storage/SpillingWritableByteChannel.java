@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.ThroughputSink.Record;
+import com.google.common.base.MoreObjects;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A channel which uploads bytes concurrently with them being written, without ever blocking the
+ * producer on the network.
+ *
+ * <p>Bytes written to this channel are copied into a fixed size in-memory ring. If the ring does
+ * not have room for the bytes (because the upload is slower than the producer) they are instead
+ * appended to a spill file on disk. Each write is queued as a segment in the order it was written,
+ * and a single consumer running on {@code executor} drains the segments in order to the upload
+ * channel, reading spilled segments back from the spill file. Once every spilled segment has been
+ * uploaded, the spill file is reused from its beginning. The spill file is deleted when this
+ * channel is closed.
+ *
+ * <p>The number of bytes uploaded for each segment is recorded to the provided {@link
+ * ThroughputSink}.
+ */
+final class SpillingWritableByteChannel implements WritableByteChannel {
+  private static final int TRANSFER_BUFFER_SIZE = ByteSizeConstants._256KiB;
+
+  private final ByteBuffer ring;
+  private final int capacity;
+  private final RecoveryFile spillFile;
+  private final FileChannel spill;
+  private final WritableByteChannelSession<?, BlobInfo> upload;
+  private final ThroughputSink sink;
+  private final Clock clock;
+  private final SettableApiFuture<BlobInfo> result;
+  private final SettableApiFuture<Void> drained;
+
+  private final ReentrantLock lock;
+  private final Condition notEmpty;
+  private final ArrayDeque<Segment> segments;
+
+  // guarded by lock
+  private int ringUsed;
+  private int pendingFileSegments;
+  private boolean closing;
+  private @Nullable Throwable failure;
+
+  // only accessed by the producer
+  private int ringTail;
+  private long spillTail;
+  private long spilledBytes;
+  private boolean open;
+
+  // only accessed by the consumer
+  private int ringHead;
+
+  SpillingWritableByteChannel(
+      int memoryBufferSize,
+      RecoveryFile spillFile,
+      WritableByteChannelSession<?, BlobInfo> upload,
+      Executor executor,
+      ThroughputSink sink,
+      Clock clock,
+      SettableApiFuture<BlobInfo> result)
+      throws IOException {
+    this.ring = ByteBuffer.allocate(memoryBufferSize);
+    this.capacity = memoryBufferSize;
+    this.spillFile = spillFile;
+    this.spill = spillFile.randomAccess();
+    this.upload = upload;
+    this.sink = sink;
+    this.clock = clock;
+    this.result = result;
+    this.drained = SettableApiFuture.create();
+    this.lock = new ReentrantLock();
+    this.notEmpty = lock.newCondition();
+    this.segments = new ArrayDeque<>();
+    this.open = true;
+    executor.execute(this::drain);
+  }
+
+  @Override
+  public int write(ByteBuffer src) throws IOException {
+    if (!open) {
+      throw new ClosedChannelException();
+    }
+    int written = src.remaining();
+    if (written == 0) {
+      return 0;
+    }
+    boolean spillNeeded;
+    lock.lock();
+    try {
+      checkNotFailed();
+      int toRing = Math.min(src.remaining(), capacity - ringUsed);
+      if (toRing > 0) {
+        copyIntoRing(src, toRing);
+        ringUsed += toRing;
+        enqueue(Segment.memory(toRing));
+      }
+      spillNeeded = src.hasRemaining();
+      if (spillNeeded && pendingFileSegments == 0) {
+        // everything previously spilled has been uploaded, start from the beginning of the file
+        spillTail = 0;
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (spillNeeded) {
+      long begin = spillTail;
+      while (src.hasRemaining()) {
+        spillTail += spill.write(src, spillTail);
+      }
+      spilledBytes += spillTail - begin;
+      lock.lock();
+      try {
+        checkNotFailed();
+        pendingFileSegments++;
+        enqueue(Segment.file(begin, spillTail));
+      } finally {
+        lock.unlock();
+      }
+    }
+    return written;
+  }
+
+  @Override
+  public boolean isOpen() {
+    return open;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!open) {
+      return;
+    }
+    open = false;
+    lock.lock();
+    try {
+      closing = true;
+      notEmpty.signalAll();
+    } finally {
+      lock.unlock();
+    }
+    try {
+      ApiFutureUtils.await(drained);
+    } catch (RuntimeException e) {
+      throw new IOException("Upload failed", e);
+    } finally {
+      // the spill file is only deleted once the upload has completed or failed
+      try (RecoveryFile ignore = spillFile) {
+        spill.close();
+      }
+    }
+  }
+
+  /** The total number of bytes which have been written to the spill file */
+  long getSpilledBytes() {
+    return spilledBytes;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("capacity", capacity)
+        .add("spilledBytes", spilledBytes)
+        .add("open", open)
+        .toString();
+  }
+
+  private void checkNotFailed() throws IOException {
+    if (failure != null) {
+      throw new IOException("Upload failed", failure);
+    }
+  }
+
+  private void enqueue(Segment segment) {
+    segments.addLast(segment);
+    notEmpty.signalAll();
+  }
+
+  private void copyIntoRing(ByteBuffer src, int length) {
+    int first = Math.min(length, capacity - ringTail);
+    Buffers.sliceAndConsume(src, first, slice -> ringView(ringTail, first).put(slice));
+    if (first < length) {
+      int second = length - first;
+      Buffers.sliceAndConsume(src, second, slice -> ringView(0, second).put(slice));
+    }
+    ringTail = (ringTail + length) % capacity;
+  }
+
+  private ByteBuffer ringView(int position, int length) {
+    ByteBuffer view = ring.duplicate();
+    Buffers.limit(view, position + length);
+    Buffers.position(view, position);
+    return view;
+  }
+
+  /** Consumer loop, upload each segment in order until the producer has closed */
+  private void drain() {
+    boolean opened = false;
+    try {
+      WritableByteChannel c = upload.open();
+      opened = true;
+      ByteBuffer transfer = null;
+      while (true) {
+        Segment segment;
+        lock.lock();
+        try {
+          while (segments.isEmpty() && !closing) {
+            notEmpty.awaitUninterruptibly();
+          }
+          segment = segments.peekFirst();
+        } finally {
+          lock.unlock();
+        }
+        if (segment == null) {
+          break;
+        }
+
+        Instant begin = clock.instant();
+        if (segment.isMemory()) {
+          int first = Math.min(segment.length, capacity - ringHead);
+          StorageChannelUtils.blockingEmptyTo(ringView(ringHead, first), c);
+          if (first < segment.length) {
+            StorageChannelUtils.blockingEmptyTo(ringView(0, segment.length - first), c);
+          }
+          ringHead = (ringHead + segment.length) % capacity;
+        } else {
+          if (transfer == null) {
+            transfer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+          }
+          long position = segment.begin;
+          while (position < segment.end) {
+            Buffers.clear(transfer);
+            Buffers.limit(transfer, (int) Math.min(transfer.capacity(), segment.end - position));
+            int read = spill.read(transfer, position);
+            if (read < 0) {
+              throw new IOException("Unexpected end of spill file");
+            }
+            position += read;
+            Buffers.flip(transfer);
+            StorageChannelUtils.blockingEmptyTo(transfer, c);
+          }
+        }
+        sink.recordThroughput(Record.of(segment.length, begin, clock.instant(), false));
+
+        lock.lock();
+        try {
+          segments.pollFirst();
+          if (segment.isMemory()) {
+            ringUsed -= segment.length;
+          } else {
+            pendingFileSegments--;
+          }
+        } finally {
+          lock.unlock();
+        }
+      }
+      c.close();
+      ApiFutures.addCallback(
+          upload.getResult(),
+          new ApiFutureCallback<BlobInfo>() {
+            @Override
+            public void onFailure(Throwable t) {
+              result.setException(t);
+            }
+
+            @Override
+            public void onSuccess(BlobInfo info) {
+              result.set(info);
+            }
+          },
+          MoreExecutors.directExecutor());
+      drained.set(null);
+    } catch (Throwable t) {
+      lock.lock();
+      try {
+        failure = t;
+      } finally {
+        lock.unlock();
+      }
+      if (opened) {
+        // closing the upload channel would finalize the object with partial content, cancel the
+        // upload instead
+        try {
+          upload.cancel();
+        } catch (Throwable t2) {
+          t.addSuppressed(t2);
+        }
+      }
+      result.setException(t);
+      drained.setException(t);
+    }
+  }
+
+  private static final class Segment {
+    private final int length;
+    // the range of the spill file for a file segment, -1 for a memory segment
+    private final long begin;
+    private final long end;
+
+    private Segment(int length, long begin, long end) {
+      this.length = length;
+      this.begin = begin;
+      this.end = end;
+    }
+
+    boolean isMemory() {
+      return begin < 0;
+    }
+
+    static Segment memory(int length) {
+      return new Segment(length, -1, -1);
+    }
+
+    static Segment file(long begin, long end) {
+      return new Segment(Math.toIntExact(end - begin), begin, end);
+    }
+  }
+}
@@ -35,6 +35,7 @@ import com.google.cloud.ReadChannel;
 import com.google.cloud.Service;
 import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Acl.Entity;
+import com.google.cloud.storage.BlobAppendableUpload.AppendableUploadWriteableByteChannel;
 import com.google.cloud.storage.HmacKey.HmacKeyMetadata;
 import com.google.cloud.storage.PostPolicyV4.PostConditionsV4;
 import com.google.cloud.storage.PostPolicyV4.PostFieldsV4;
@@ -78,6 +79,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -2095,6 +2097,36 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
       return new BlobSourceOption(UnifiedOpts.extraHeaders(extraHeaders));
     }
 
+    /**
+     * Returns an option to download an object as multiple concurrent ranged reads, each of at most
+     * {@code sliceSize} bytes, with up to {@code maxConcurrency} reads in flight at a time.
+     *
+     * <p>Only {@link Storage#readAllBytes(BlobId, BlobSourceOption...)} and {@link
+     * Storage#downloadTo(BlobId, Path, BlobSourceOption...)} honor this option, all other methods
+     * ignore it.
+     *
+     * <p>All slices read the same generation of the object, and are reassembled in place into the
+     * returned {@code byte[]} or the destination file. The crc32c of each slice is combined and
+     * validated against the crc32c of the object once all slices have been read. If validation
+     * fails a {@link StorageException} is thrown, and the destination file should be considered
+     * corrupt.
+     *
+     * <p>When using gRPC, the slices are read via a single {@link BlobReadSession}. When using
+     * HTTP, each slice is read via its own ranged {@code GET} request after the generation of the
+     * object is resolved.
+     *
+     * <p>If the object will be transparently decompressed (stored with {@code Content-Encoding:
+     * gzip} and {@link #shouldReturnRawInputStream(boolean) raw input stream} not requested), it is
+     * downloaded as a single stream.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    @TransportCompatibility({Transport.HTTP, Transport.GRPC})
+    public static BlobSourceOption parallelDownload(long sliceSize, int maxConcurrency) {
+      return new BlobSourceOption(UnifiedOpts.parallelDownload(sliceSize, maxConcurrency));
+    }
+
     /**
      * Deduplicate any options which are the same parameter. The value which comes last in {@code
      * os} will be the value included in the return.
@@ -2979,7 +3011,8 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
       PATH_STYLE,
       VIRTUAL_HOSTED_STYLE,
       BUCKET_BOUND_HOST_NAME,
-      QUERY_PARAMS
+      QUERY_PARAMS,
+      SIGNING_CONCURRENCY
     }
 
     @TransportCompatibility(Transport.HTTP)
@@ -3169,6 +3202,25 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
     public static SignUrlOption withQueryParams(Map<String, String> queryParams) {
       return new SignUrlOption(Option.QUERY_PARAMS, queryParams);
     }
+
+    /**
+     * The maximum number of URLs {@link Storage#signUrls(List, long, TimeUnit, SignUrlOption...)}
+     * will sign concurrently. Ignored by {@link Storage#signUrl(BlobInfo, long, TimeUnit,
+     * SignUrlOption...)}.
+     *
+     * <p>Signing runs on a pool of up to 64 threads shared by all calls made with the same {@link
+     * Storage} instance, which also bounds the effective concurrency.
+     *
+     * <p><i>Default:</i> {@code 16}
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    @TransportCompatibility(Transport.HTTP)
+    public static SignUrlOption withSigningConcurrency(int signingConcurrency) {
+      checkArgument(signingConcurrency > 0, "signingConcurrency > 0 (%s > 0)", signingConcurrency);
+      return new SignUrlOption(Option.SIGNING_CONCURRENCY, signingConcurrency);
+    }
   }
 
   /**
@@ -4224,6 +4276,36 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
   @TransportCompatibility({Transport.HTTP, Transport.GRPC})
   Page<Blob> list(String bucket, BlobListOption... options);
 
+  /**
+   * Lists the bucket's blobs as a stream of compact {@link BlobSummary summaries}.
+   *
+   * <p>Only the fields needed to populate a {@link BlobSummary} are requested from Cloud Storage
+   * and each result is decoded directly into a summary, without constructing a full {@link Blob}.
+   * This makes this method well suited to inventory style scans over large numbers of objects. If
+   * {@link BlobListOption#fields(BlobField...)} is provided it takes precedence over the default
+   * set of fields, which can be used to further reduce the data returned.
+   *
+   * <p>Pages are fetched lazily as the stream is consumed. The returned stream is sequential.
+   *
+   * <p>Example of summing the size of all blobs with a prefix. Directories, and any object whose
+   * size was not requested, do not have a size.
+   *
+   * <pre>{@code
+   * String bucketName = "my-unique-bucket";
+   * long totalBytes = storage.listSummaries(bucketName, BlobListOption.prefix("logs/"))
+   *     .map(BlobSummary::getSize)
+   *     .filter(Objects::nonNull)
+   *     .mapToLong(Long::longValue)
+   *     .sum();
+   * }</pre>
+   *
+   * @throws StorageException upon failure
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.HTTP, Transport.GRPC})
+  Stream<BlobSummary> listSummaries(String bucket, BlobListOption... options);
+
   /**
    * Updates bucket information.
    *
@@ -4858,6 +4940,60 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
   @TransportCompatibility(Transport.HTTP)
   URL signUrl(BlobInfo blobInfo, long duration, TimeUnit unit, SignUrlOption... options);
 
+  /**
+   * Generates a signed URL for every blob of {@code blobInfos}, using the same {@code duration},
+   * {@code unit} and {@code options} for each. The returned list contains the URL of each blob in
+   * the same order as {@code blobInfos}.
+   *
+   * <p>This method is intended for signing a large number of URLs at once. All URLs are signed with
+   * the same timestamp, and up to {@link SignUrlOption#withSigningConcurrency(int)} URLs are signed
+   * concurrently, which is beneficial when the {@link ServiceAccountSigner} performs a remote
+   * request to sign, as {@code ImpersonatedCredentials} and {@code ComputeEngineCredentials} do.
+   * When the signer is a {@code ServiceAccountCredentials} with a private key, URLs are signed
+   * locally without any request. Identical URLs signed within a few seconds of each other will
+   * share a single signature.
+   *
+   * <p>Example of signing a URL for each of a list of blobs:
+   *
+   * <pre>{@code
+   * List<BlobInfo> blobs = ImmutableList.of(
+   *     BlobInfo.newBuilder(bucketName, "blob-1").build(),
+   *     BlobInfo.newBuilder(bucketName, "blob-2").build());
+   * List<URL> signedUrls = storage.signUrls(
+   *     blobs,
+   *     1, TimeUnit.HOURS,
+   *     SignUrlOption.withV4Signature(),
+   *     SignUrlOption.withSigningConcurrency(32));
+   * }</pre>
+   *
+   * @param blobInfos the blobs to generate a signed URL for
+   * @param duration time until the signed URLs expire, expressed in {@code unit}. The finest
+   *     granularity supported is 1 second, finer granularities will be truncated
+   * @param unit time unit of the {@code duration} parameter
+   * @param options optional URL signing options, applied to every URL
+   * @throws IllegalStateException if {@link SignUrlOption#signWith(ServiceAccountSigner)} was not
+   *     used and no implementation of {@link ServiceAccountSigner} was provided to {@link
+   *     StorageOptions}
+   * @throws IllegalArgumentException if {@code SignUrlOption.withMd5()} option is used and {@code
+   *     md5()} is {@code null} for any blob
+   * @throws IllegalArgumentException if {@code SignUrlOption.withContentType()} option is used and
+   *     {@code contentType()} is {@code null} for any blob
+   * @throws SigningException if the attempt to sign any URL failed
+   * @see #signUrl(BlobInfo, long, TimeUnit, SignUrlOption...)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility(Transport.HTTP)
+  default List<URL> signUrls(
+      List<BlobInfo> blobInfos, long duration, TimeUnit unit, SignUrlOption... options) {
+    requireNonNull(blobInfos, "blobInfos must be non null");
+    ImmutableList.Builder<URL> urls = ImmutableList.builderWithExpectedSize(blobInfos.size());
+    for (BlobInfo blobInfo : blobInfos) {
+      urls.add(signUrl(blobInfo, duration, unit, options));
+    }
+    return urls.build();
+  }
+
   /**
    * Generates a URL and a map of fields that can be specified in an HTML form to submit a POST
    * request. The returned map includes a signature which must be provided with the request.
@@ -5987,4 +6123,126 @@ public interface Storage extends Service<StorageOptions>, AutoCloseable {
     return throwGrpcOnly(
         fmtMethodName("appendableBlobUpload", BlobId.class, BlobWriteOption.class));
   }
+
+  /**
+   * Read the content of {@code blob} as a {@link ReadPublisher}, for either transport.
+   *
+   * <p>The object is read using {@link #reader(BlobId, BlobSourceOption...)}, one chunk at a time
+   * and only while the subscriber has outstanding demand. Reading from a {@link ReadChannel} blocks
+   * so all reads, and all signals to the subscriber, happen on {@code executor}.
+   *
+   * <p>When using gRPC, {@link #blobReadSession(BlobId, BlobSourceOption...)} along with {@link
+   * ReadProjectionConfigs#asPublisher()} avoids the need for a blocking thread entirely.
+   *
+   * @param blob the blob to read
+   * @param executor the executor reads will be performed on, must allow blocking
+   * @param options blob read options
+   * @see ReadPublisher
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.HTTP, Transport.GRPC})
+  default ReadPublisher readAsPublisher(
+      BlobId blob, Executor executor, BlobSourceOption... options) {
+    return new ReadChannelPublisher(
+        reader(blob, options), executor, ReadChannelPublisher.DEFAULT_CHUNK_SIZE);
+  }
+
+  /**
+   * Create a new {@link UploadSubscriber} which uploads the {@link java.nio.ByteBuffer}s it is sent
+   * to a new object, using {@link #blobWriteSession(BlobInfo, BlobWriteOption...)}.
+   *
+   * <p>Buffers are only requested from upstream as the upload accepts previous ones. Writes are
+   * performed as individual tasks on {@code executor}, rather than requiring a thread be dedicated
+   * to the upload. A write may block while a chunk is flushed, so {@code executor} must allow
+   * blocking.
+   *
+   * <p>If upstream fails, or a write fails, the object is not finalized. When using {@link
+   * BlobWriteSessionConfigs#getDefault()} the resumable upload session is cancelled, other {@link
+   * BlobWriteSessionConfig}s leave any partial upload to be cleaned up as they would for an
+   * abandoned {@link BlobWriteSession}.
+   *
+   * @param blobInfo blob to create
+   * @param executor the executor writes will be performed on, must allow blocking
+   * @param options blob write options
+   * @see UploadSubscriber
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.GRPC, Transport.HTTP})
+  default UploadSubscriber uploadSubscriber(
+      BlobInfo blobInfo, Executor executor, BlobWriteOption... options) {
+    BlobWriteSession session = blobWriteSession(blobInfo, options);
+    // a write session can not be closed without finalizing, the channel is dropped and the
+    // session cancelled instead
+    return new ChannelUploadSubscriber(
+        session::open, ch -> BlobWriteSessions.cancel(session), session.getResult(), executor);
+  }
+
+  /**
+   * Create a new {@link UploadSubscriber} which uploads the {@link java.nio.ByteBuffer}s it is sent
+   * to an appendable object, using {@link #blobAppendableUpload(BlobInfo,
+   * BlobAppendableUploadConfig, BlobWriteOption...)}.
+   *
+   * <p>Buffers are only requested from upstream once previous ones fit within {@link
+   * BlobAppendableUploadConfig#getFlushPolicy()}{@code .}{@link FlushPolicy#getMaxPendingBytes()
+   * getMaxPendingBytes()}, meaning demand follows the bytes acknowledged by Google Cloud Storage.
+   * Upon completion the upload is closed according to {@link
+   * BlobAppendableUploadConfig#getCloseAction()}.
+   *
+   * @param blobInfo blob to create
+   * @param uploadConfig the configuration parameters for the upload
+   * @param executor the executor writes will be performed on, must allow blocking
+   * @param options blob write options
+   * @see UploadSubscriber
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.GRPC})
+  default UploadSubscriber uploadSubscriber(
+      BlobInfo blobInfo,
+      BlobAppendableUploadConfig uploadConfig,
+      Executor executor,
+      BlobWriteOption... options) {
+    BlobAppendableUpload upload = blobAppendableUpload(blobInfo, uploadConfig, options);
+    return new ChannelUploadSubscriber(
+        upload::open,
+        ch -> ((AppendableUploadWriteableByteChannel) ch).closeWithoutFinalizing(),
+        upload.getResult(),
+        executor);
+  }
+
+  /**
+   * Create a new {@link BulkOperations} instance using the default {@link BulkOperationsConfig}.
+   *
+   * <h4>Example of deleting all objects with a prefix</h4>
+   *
+   * <pre>{@code
+   * Iterator<BlobId> ids =
+   *     Iterators.transform(
+   *         storage.list(bucketName, BlobListOption.prefix(prefix)).iterateAll().iterator(),
+   *         BlobInfo::getBlobId);
+   * BulkOperationSummary summary = storage.bulk().delete(ids).get();
+   * }</pre>
+   *
+   * @see #bulk(BulkOperationsConfig)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.HTTP, Transport.GRPC})
+  default BulkOperations bulk() {
+    return bulk(BulkOperationsConfig.of());
+  }
+
+  /**
+   * Create a new {@link BulkOperations} instance using the provided {@code config}.
+   *
+   * @see BulkOperations
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @TransportCompatibility({Transport.HTTP, Transport.GRPC})
+  default BulkOperations bulk(BulkOperationsConfig config) {
+    return new DefaultBulkOperations(this, requireNonNull(config, "config must be non null"));
+  }
 }
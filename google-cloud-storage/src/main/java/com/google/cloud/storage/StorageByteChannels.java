@@ -26,6 +26,7 @@ import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ScatteringByteChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.concurrent.locks.ReentrantLock;
 
 final class StorageByteChannels {
@@ -211,6 +212,16 @@ final class StorageByteChannels {
       }
     }
 
+    @Override
+    public long writeTo(WritableByteChannel dst) throws IOException {
+      lock.lock();
+      try {
+        return delegate.writeTo(dst);
+      } finally {
+        lock.unlock();
+      }
+    }
+
     @Override
     public boolean isOpen() {
       lock.lock();
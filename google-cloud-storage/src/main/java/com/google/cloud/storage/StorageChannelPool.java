@@ -0,0 +1,623 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.api.core.ApiClock;
+import com.google.api.core.NanoClock;
+import com.google.api.gax.grpc.GrpcCallContext;
+import com.google.api.gax.grpc.GrpcTransportChannel;
+import com.google.api.gax.rpc.TransportChannel;
+import com.google.api.gax.rpc.TransportChannelProvider;
+import com.google.auth.Credentials;
+import com.google.cloud.storage.GrpcChannelPoolConfig.SelectionStrategy;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.MessageLite;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A pool of channels which routes each new call to the least loaded channel, growing and shrinking
+ * with the number of long-lived streams.
+ *
+ * <p>Long-lived streams register themselves by running their call with a context produced by {@link
+ * #registerStream(GrpcCallContext)}. The pool counts every outstanding call, every outstanding
+ * registered stream and the number of bytes in flight on each channel. A message is in flight from
+ * when it has been read from the wire until it is delivered to the application, or from when the
+ * application sends it until it has been written to the transport. Inbound sizes are the wire sizes
+ * reported to a {@link ClientStreamTracer}, while outbound sizes are the serialized size of each
+ * protobuf message, which is memoized by the message and needed by its marshaller anyway.
+ *
+ * <p>Channels beyond the initial count are retired once they have been idle for the configured
+ * timeout. A channel is only retired when its outstanding count can be atomically moved from zero
+ * to a negative value, which prevents any new call being started on a channel which is shutting
+ * down.
+ *
+ * @see GrpcChannelPoolConfig
+ */
+final class StorageChannelPool extends ManagedChannel {
+
+  /** Call option marking a call as a long-lived stream. */
+  static final CallOptions.Key<Boolean> LONG_LIVED_STREAM =
+      CallOptions.Key.createWithDefault("gcs-long-lived-stream", false);
+
+  private final ChannelFactory channelFactory;
+  private final GrpcChannelPoolConfig config;
+  private final ApiClock clock;
+  private final long idleTimeoutNanos;
+  private final Object lock;
+
+  private volatile ImmutableList<Entry> entries;
+  private volatile boolean shutdown;
+
+  @VisibleForTesting
+  StorageChannelPool(ChannelFactory channelFactory, GrpcChannelPoolConfig config, ApiClock clock)
+      throws IOException {
+    this.channelFactory = channelFactory;
+    this.config = config;
+    this.clock = clock;
+    this.idleTimeoutNanos = config.getIdleChannelTimeout().toNanos();
+    this.lock = new Object();
+    ImmutableList.Builder<Entry> b = ImmutableList.builder();
+    for (int i = 0; i < config.getInitialChannelCount(); i++) {
+      b.add(new Entry(channelFactory.create(), clock.nanoTime()));
+    }
+    this.entries = b.build();
+  }
+
+  /**
+   * Mark calls made with the returned context as long-lived streams, allowing the pool to spread
+   * them across channels.
+   */
+  static GrpcCallContext registerStream(@Nullable GrpcCallContext context) {
+    GrpcCallContext ctx = context == null ? GrpcCallContext.createDefault() : context;
+    return ctx.withCallOptions(ctx.getCallOptions().withOption(LONG_LIVED_STREAM, true));
+  }
+
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+    boolean stream = callOptions.getOption(LONG_LIVED_STREAM);
+    Entry entry = acquire(stream);
+    retireIdle();
+    CallTracker tracker = new CallTracker(entry, stream);
+    ClientCall<ReqT, RespT> call;
+    try {
+      call = entry.channel.newCall(methodDescriptor, callOptions.withStreamTracerFactory(tracker));
+    } catch (RuntimeException e) {
+      tracker.release();
+      throw e;
+    }
+    return new TrackedCall<>(call, tracker);
+  }
+
+  @Override
+  public String authority() {
+    return entries.get(0).channel.authority();
+  }
+
+  @Override
+  public ManagedChannel shutdown() {
+    synchronized (lock) {
+      shutdown = true;
+      for (Entry e : entries) {
+        e.channel.shutdown();
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    for (Entry e : entries) {
+      if (!e.channel.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ManagedChannel shutdownNow() {
+    synchronized (lock) {
+      shutdown = true;
+      for (Entry e : entries) {
+        e.channel.shutdownNow();
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (Entry e : entries) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !e.channel.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @VisibleForTesting
+  int getChannelCount() {
+    return entries.size();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("config", config)
+        .add("entries", entries)
+        .add("shutdown", shutdown)
+        .toString();
+  }
+
+  private Entry acquire(boolean stream) {
+    while (true) {
+      Entry best = select(entries);
+      if (stream
+          && best.streams.get() >= config.getMaxStreamsPerChannel()
+          && entries.size() < config.getMaxChannelCount()) {
+        best = grow();
+      }
+      if (best.tryAcquire(stream)) {
+        return best;
+      }
+      // the selected channel was retired concurrently, select again
+    }
+  }
+
+  private Entry select(ImmutableList<Entry> candidates) {
+    Entry best = null;
+    for (Entry e : candidates) {
+      if (e.outstanding.get() < 0) {
+        continue;
+      }
+      if (best == null || isLessLoaded(e, best)) {
+        best = e;
+      }
+    }
+    // only channels beyond the initial count are ever retired, so there is always a candidate
+    checkState(best != null, "no channel available");
+    return best;
+  }
+
+  private boolean isLessLoaded(Entry a, Entry b) {
+    if (config.getSelectionStrategy() == SelectionStrategy.LEAST_BYTES_IN_FLIGHT) {
+      int cmp = Long.compare(a.bytes.get(), b.bytes.get());
+      if (cmp != 0) {
+        return cmp < 0;
+      }
+    }
+    int cmp = Integer.compare(a.streams.get(), b.streams.get());
+    if (cmp != 0) {
+      return cmp < 0;
+    }
+    return a.outstanding.get() < b.outstanding.get();
+  }
+
+  /**
+   * Add a channel to the pool if all channels are still saturated once we hold the lock, otherwise
+   * return the least loaded channel. If a new channel can not be created, fall back to the existing
+   * channels rather than failing the call.
+   */
+  private Entry grow() {
+    synchronized (lock) {
+      ImmutableList<Entry> current = entries;
+      Entry best = select(current);
+      if (shutdown
+          || best.streams.get() < config.getMaxStreamsPerChannel()
+          || current.size() >= config.getMaxChannelCount()) {
+        return best;
+      }
+      Entry e;
+      try {
+        e = new Entry(channelFactory.create(), clock.nanoTime());
+      } catch (IOException | RuntimeException ignore) {
+        return best;
+      }
+      entries = ImmutableList.<Entry>builder().addAll(current).add(e).build();
+      return e;
+    }
+  }
+
+  private void retireIdle() {
+    ImmutableList<Entry> snapshot = entries;
+    int initial = config.getInitialChannelCount();
+    if (snapshot.size() <= initial) {
+      return;
+    }
+    long now = clock.nanoTime();
+    for (int i = initial; i < snapshot.size(); i++) {
+      Entry e = snapshot.get(i);
+      if (e.outstanding.get() == 0 && now - e.lastActiveNanos >= idleTimeoutNanos) {
+        synchronized (lock) {
+          if (!shutdown && entries.contains(e) && e.outstanding.compareAndSet(0, -1)) {
+            entries = entries.stream().filter(x -> x != e).collect(ImmutableList.toImmutableList());
+            e.channel.shutdown();
+          }
+        }
+      }
+    }
+  }
+
+  /** Create a new channel to add to the pool. */
+  @FunctionalInterface
+  interface ChannelFactory {
+    ManagedChannel create() throws IOException;
+  }
+
+  private static final class Entry {
+    private final ManagedChannel channel;
+
+    /** The number of outstanding calls, or -1 once the channel has been retired. */
+    private final AtomicInteger outstanding;
+
+    private final AtomicInteger streams;
+
+    /** The number of bytes in flight across all outstanding calls. */
+    private final AtomicLong bytes;
+
+    private volatile long lastActiveNanos;
+
+    private Entry(ManagedChannel channel, long nowNanos) {
+      this.channel = channel;
+      this.outstanding = new AtomicInteger();
+      this.streams = new AtomicInteger();
+      this.bytes = new AtomicLong();
+      this.lastActiveNanos = nowNanos;
+    }
+
+    private boolean tryAcquire(boolean stream) {
+      int v;
+      do {
+        v = outstanding.get();
+        if (v < 0) {
+          return false;
+        }
+      } while (!outstanding.compareAndSet(v, v + 1));
+      if (stream) {
+        streams.incrementAndGet();
+      }
+      return true;
+    }
+
+    private void release(boolean stream, long inFlight, long nowNanos) {
+      if (stream) {
+        streams.decrementAndGet();
+      }
+      bytes.addAndGet(-inFlight);
+      // update the timestamp before the count, so that a channel observed to be idle also has a
+      // timestamp from its last call
+      lastActiveNanos = nowNanos;
+      outstanding.decrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("outstanding", outstanding.get())
+          .add("streams", streams.get())
+          .add("bytes", bytes.get())
+          .toString();
+    }
+  }
+
+  /**
+   * Tracks the bytes in flight for a single call, across all of its attempts, and releases the call
+   * from its channel once closed.
+   *
+   * <p>Messages are delivered and written in order, so the size of each message in flight is queued
+   * per direction and removed from the head as each message completes. Messages replayed by a retry
+   * attempt find the queue empty and are ignored.
+   */
+  private final class CallTracker extends ClientStreamTracer.Factory {
+    private final Entry entry;
+    private final boolean stream;
+    private final ArrayDeque<Long> inbound;
+    private final ArrayDeque<Long> outbound;
+    private long inFlight;
+    private boolean released;
+
+    private CallTracker(Entry entry, boolean stream) {
+      this.entry = entry;
+      this.stream = stream;
+      this.inbound = new ArrayDeque<>();
+      this.outbound = new ArrayDeque<>();
+    }
+
+    @Override
+    public ClientStreamTracer newClientStreamTracer(
+        ClientStreamTracer.StreamInfo info, Metadata headers) {
+      return new ClientStreamTracer() {
+        @Override
+        public void inboundMessageRead(
+            int seqNo, long optionalWireSize, long optionalUncompressedSize) {
+          push(inbound, Math.max(0, optionalWireSize));
+        }
+
+        @Override
+        public void outboundMessageSent(
+            int seqNo, long optionalWireSize, long optionalUncompressedSize) {
+          pop(outbound);
+        }
+      };
+    }
+
+    private void sent(Object message) {
+      push(
+          outbound,
+          message instanceof MessageLite ? ((MessageLite) message).getSerializedSize() : 0);
+    }
+
+    private void delivered() {
+      pop(inbound);
+    }
+
+    private synchronized void push(ArrayDeque<Long> queue, long n) {
+      if (!released) {
+        queue.addLast(n);
+        inFlight += n;
+        entry.bytes.addAndGet(n);
+      }
+    }
+
+    private synchronized void pop(ArrayDeque<Long> queue) {
+      if (!released) {
+        Long n = queue.pollFirst();
+        if (n != null) {
+          inFlight -= n;
+          entry.bytes.addAndGet(-n);
+        }
+      }
+    }
+
+    private void release() {
+      long remaining;
+      synchronized (this) {
+        if (released) {
+          return;
+        }
+        released = true;
+        remaining = inFlight;
+        inbound.clear();
+        outbound.clear();
+      }
+      entry.release(stream, remaining, clock.nanoTime());
+    }
+  }
+
+  private static final class TrackedCall<ReqT, RespT>
+      extends SimpleForwardingClientCall<ReqT, RespT> {
+    private final CallTracker tracker;
+    private volatile boolean started;
+
+    private TrackedCall(ClientCall<ReqT, RespT> delegate, CallTracker tracker) {
+      super(delegate);
+      this.tracker = tracker;
+    }
+
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      started = true;
+      try {
+        super.start(
+            new SimpleForwardingClientCallListener<RespT>(responseListener) {
+              @Override
+              public void onMessage(RespT message) {
+                tracker.delivered();
+                super.onMessage(message);
+              }
+
+              @Override
+              public void onClose(Status status, Metadata trailers) {
+                tracker.release();
+                super.onClose(status, trailers);
+              }
+            },
+            headers);
+      } catch (RuntimeException e) {
+        tracker.release();
+        throw e;
+      }
+    }
+
+    @Override
+    public void sendMessage(ReqT message) {
+      tracker.sent(message);
+      super.sendMessage(message);
+    }
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {
+      try {
+        super.cancel(message, cause);
+      } finally {
+        // a call cancelled before it is started never has its listener closed
+        if (!started) {
+          tracker.release();
+        }
+      }
+    }
+  }
+
+  /**
+   * Wraps the {@link TransportChannelProvider} built for the client, using it to create each
+   * channel of a {@link StorageChannelPool}.
+   */
+  static final class Provider implements TransportChannelProvider {
+    private final TransportChannelProvider delegate;
+    private final GrpcChannelPoolConfig config;
+
+    Provider(TransportChannelProvider delegate, GrpcChannelPoolConfig config) {
+      this.delegate = delegate;
+      this.config = config;
+    }
+
+    @Override
+    public boolean shouldAutoClose() {
+      return delegate.shouldAutoClose();
+    }
+
+    @Override
+    public boolean needsExecutor() {
+      return delegate.needsExecutor();
+    }
+
+    @Override
+    public TransportChannelProvider withExecutor(Executor executor) {
+      return new Provider(delegate.withExecutor(executor), config);
+    }
+
+    @SuppressWarnings("deprecation")
+    @Override
+    public TransportChannelProvider withExecutor(ScheduledExecutorService executor) {
+      return new Provider(delegate.withExecutor(executor), config);
+    }
+
+    @Override
+    public boolean needsBackgroundExecutor() {
+      return delegate.needsBackgroundExecutor();
+    }
+
+    @Override
+    public TransportChannelProvider withBackgroundExecutor(
+        ScheduledExecutorService backgroundExecutor) {
+      return new Provider(delegate.withBackgroundExecutor(backgroundExecutor), config);
+    }
+
+    @Override
+    public boolean needsHeaders() {
+      return delegate.needsHeaders();
+    }
+
+    @Override
+    public TransportChannelProvider withHeaders(Map<String, String> headers) {
+      return new Provider(delegate.withHeaders(headers), config);
+    }
+
+    @Override
+    public boolean needsEndpoint() {
+      return delegate.needsEndpoint();
+    }
+
+    @Override
+    public TransportChannelProvider withEndpoint(String endpoint) {
+      return new Provider(delegate.withEndpoint(endpoint), config);
+    }
+
+    @Override
+    public boolean needsMtlsEndpoint() {
+      return delegate.needsMtlsEndpoint();
+    }
+
+    @Override
+    public TransportChannelProvider withMtlsEndpoint(String mtlsEndpoint) {
+      return new Provider(delegate.withMtlsEndpoint(mtlsEndpoint), config);
+    }
+
+    @Override
+    public TransportChannelProvider withUseS2A(boolean useS2A) {
+      return new Provider(delegate.withUseS2A(useS2A), config);
+    }
+
+    /** The size of the pool is managed by {@link GrpcChannelPoolConfig}. */
+    @Override
+    public boolean acceptsPoolSize() {
+      return false;
+    }
+
+    /** Use {@code size} as the initial channel count of the pool. */
+    @SuppressWarnings("deprecation")
+    @Override
+    public TransportChannelProvider withPoolSize(int size) {
+      return new Provider(delegate, config.withInitialChannelCount(size));
+    }
+
+    @Override
+    public boolean needsCredentials() {
+      return delegate.needsCredentials();
+    }
+
+    @Override
+    public TransportChannelProvider withCredentials(Credentials credentials) {
+      return new Provider(delegate.withCredentials(credentials), config);
+    }
+
+    @Override
+    public TransportChannel getTransportChannel() throws IOException {
+      StorageChannelPool pool =
+          new StorageChannelPool(this::newChannel, config, NanoClock.getDefaultClock());
+      return GrpcTransportChannel.create(pool);
+    }
+
+    @Override
+    public String getTransportName() {
+      return delegate.getTransportName();
+    }
+
+    @Override
+    public String getEndpoint() {
+      return delegate.getEndpoint();
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("delegate", delegate)
+          .add("config", config)
+          .toString();
+    }
+
+    private ManagedChannel newChannel() throws IOException {
+      TransportChannel transportChannel = delegate.getTransportChannel();
+      Channel channel = ((GrpcTransportChannel) transportChannel).getChannel();
+      checkState(
+          channel instanceof ManagedChannel,
+          "Expected a ManagedChannel but was %s",
+          channel.getClass().getName());
+      return (ManagedChannel) channel;
+    }
+  }
+}
@@ -41,6 +41,7 @@ final class StorageDataClient implements AutoCloseable {
   private final ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse>
       bidiReadObject;
   final RetryContextProvider retryContextProvider;
+  private final TransferPhaseListener phaseListener;
   private final IOAutoCloseable onClose;
 
   private StorageDataClient(
@@ -48,11 +49,13 @@ final class StorageDataClient implements AutoCloseable {
       Duration terminationAwaitDuration,
       ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> bidiReadObject,
       RetryContextProvider retryContextProvider,
+      TransferPhaseListener phaseListener,
       IOAutoCloseable onClose) {
     this.executor = executor;
     this.terminationAwaitDuration = terminationAwaitDuration;
     this.bidiReadObject = bidiReadObject;
     this.retryContextProvider = retryContextProvider;
+    this.phaseListener = phaseListener;
     this.onClose = onClose;
   }
 
@@ -65,7 +68,8 @@ final class StorageDataClient implements AutoCloseable {
     ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> callable =
         getCallable();
     ObjectReadSessionStream stream =
-        ObjectReadSessionStream.create(executor, callable, state, retryContextProvider.create());
+        ObjectReadSessionStream.create(
+            executor, callable, state, retryContextProvider.create(), phaseListener);
 
     ApiFuture<ObjectReadSession> objectReadSessionFuture =
         ApiFutures.transform(
@@ -93,7 +97,8 @@ final class StorageDataClient implements AutoCloseable {
     ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> callable =
         getCallable();
     ObjectReadSessionStream stream =
-        ObjectReadSessionStream.create(executor, callable, state, retryContextProvider.create());
+        ObjectReadSessionStream.create(
+            executor, callable, state, retryContextProvider.create(), phaseListener);
 
     long readId = state.newReadId();
     ObjectReadSessionStreamRead<Projection> read =
@@ -139,8 +144,24 @@ final class StorageDataClient implements AutoCloseable {
       ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> read,
       RetryContextProvider retryContextProvider,
       IOAutoCloseable onClose) {
+    return create(
+        executor,
+        terminationAwaitDuration,
+        read,
+        retryContextProvider,
+        TransferPhaseListener.noop(),
+        onClose);
+  }
+
+  static StorageDataClient create(
+      ScheduledExecutorService executor,
+      Duration terminationAwaitDuration,
+      ZeroCopyBidiStreamingCallable<BidiReadObjectRequest, BidiReadObjectResponse> read,
+      RetryContextProvider retryContextProvider,
+      TransferPhaseListener phaseListener,
+      IOAutoCloseable onClose) {
     return new StorageDataClient(
-        executor, terminationAwaitDuration, read, retryContextProvider, onClose);
+        executor, terminationAwaitDuration, read, retryContextProvider, phaseListener, onClose);
   }
 
   @FunctionalInterface
@@ -21,6 +21,7 @@ import static com.google.common.base.MoreObjects.firstNonNull;
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkState;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.Executors.callable;
 
 import com.google.api.client.util.Data;
@@ -36,6 +37,7 @@ import com.google.cloud.BatchResult;
 import com.google.cloud.PageImpl;
 import com.google.cloud.PageImpl.NextPageFetcher;
 import com.google.cloud.Policy;
+import com.google.cloud.Tuple;
 import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Acl.Entity;
 import com.google.cloud.storage.BlobReadChannelV2.BlobReadChannelContext;
@@ -48,13 +50,17 @@ import com.google.cloud.storage.PostPolicyV4.PostConditionsV4;
 import com.google.cloud.storage.PostPolicyV4.PostFieldsV4;
 import com.google.cloud.storage.PostPolicyV4.PostPolicyV4Document;
 import com.google.cloud.storage.Retrying.Retrier;
+import com.google.cloud.storage.TransportCompatibility.Transport;
 import com.google.cloud.storage.UnifiedOpts.NamedField;
 import com.google.cloud.storage.UnifiedOpts.NestedNamedField;
 import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.cloud.storage.UnifiedOpts.ParallelDownload;
+import com.google.cloud.storage.spi.v1.HttpStorageRpc;
 import com.google.cloud.storage.spi.v1.StorageRpc;
 import com.google.cloud.storage.spi.v1.StorageRpc.RewriteRequest;
+import com.google.cloud.storage.spi.v1.StorageRpc.RewriteResponse;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
@@ -63,6 +69,7 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Streams;
 import com.google.common.io.BaseEncoding;
 import com.google.common.io.CountingOutputStream;
 import java.io.ByteArrayInputStream;
@@ -91,9 +98,12 @@ import java.util.Map;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import org.checkerframework.checker.nullness.qual.Nullable;
@@ -117,6 +127,10 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
   final StorageRpc storageRpc;
   final WriterFactory writerFactory;
   final Retrier retrier;
+  final StorageMetrics storageMetrics;
+  final TransferPhaseListener phaseListener;
+  private final UrlSigner urlSigner;
+  private final ExecutorService parallelDownloadExecutor;
 
   StorageImpl(HttpStorageOptions options, WriterFactory writerFactory, Retrier retrier) {
     super(options);
@@ -132,6 +146,16 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
       throw StorageException.coalesce(e);
     }
     this.retrier = retrier;
+    this.storageMetrics = StorageMetrics.create(options.getOpenTelemetry(), Transport.HTTP);
+    this.phaseListener = storageMetrics.phaseListener(options.getTransferPhaseListener());
+    this.urlSigner = UrlSigner.create();
+    this.parallelDownloadExecutor =
+        ParallelSlicedDownload.newExecutor(options.isUseVirtualThreads());
+  }
+
+  @Override
+  public void close() throws Exception {
+    parallelDownloadExecutor.shutdownNow();
   }
 
   @Override
@@ -226,7 +250,7 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
     JsonResumableSession session =
         ResumableSession.json(
-            HttpClientContext.from(storageRpc),
+            HttpClientContext.from(storageRpc).withPhaseListener(phaseListener),
             retrier.withAlg(retryAlgorithmManager.idempotent()),
             jsonResumableWrite);
     HttpContentRange contentRange = HttpContentRange.of(ByteRangeSpec.explicit(0L, size), size);
@@ -415,6 +439,47 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     return listBlobs(bucket, getOptions(), optionsMap, retrier);
   }
 
+  @Override
+  public Stream<BlobSummary> listSummaries(String bucket, BlobListOption... options) {
+    ImmutableMap<StorageRpc.Option, ?> optionsMap =
+        Opts.unwrap(options).prepend(BlobSummary.FIELDS).getRpcOptions();
+    ResultRetryAlgorithm<?> algorithm = retryAlgorithmManager.getForObjectsList(bucket, optionsMap);
+    if (storageRpc instanceof HttpStorageRpc) {
+      // decode each summary directly from the response rather than materializing the whole page
+      HttpStorageRpc httpStorageRpc = (HttpStorageRpc) storageRpc;
+      return Utils.pagedStream(
+          pageToken -> {
+            Map<StorageRpc.Option, ?> pageOptions =
+                pageToken == null
+                    ? optionsMap
+                    : PageImpl.nextRequestOptions(
+                        StorageRpc.Option.PAGE_TOKEN, pageToken, optionsMap);
+            return retrier.run(
+                algorithm,
+                () ->
+                    httpStorageRpc.list(bucket, pageOptions, StreamingBlobSummaryDecoder.INSTANCE),
+                Decoder.identity());
+          },
+          Tuple::x,
+          page -> page.y().stream());
+    }
+    return Utils.pagedStream(
+        pageToken -> {
+          Map<StorageRpc.Option, ?> pageOptions =
+              pageToken == null
+                  ? optionsMap
+                  : PageImpl.nextRequestOptions(
+                      StorageRpc.Option.PAGE_TOKEN, pageToken, optionsMap);
+          return retrier.run(
+              algorithm, () -> storageRpc.list(bucket, pageOptions), Decoder.identity());
+        },
+        Tuple::x,
+        page ->
+            page.y() == null
+                ? Stream.empty()
+                : Streams.stream(page.y()).map(codecs.blobSummary()::decode));
+  }
+
   private static Page<Bucket> listBuckets(
       final HttpStorageOptions serviceOptions,
       final Map<StorageRpc.Option, ?> optionsMap,
@@ -448,9 +513,26 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
       Retrier retrier) {
     ResultRetryAlgorithm<?> algorithm =
         serviceOptions.getRetryAlgorithmManager().getForObjectsList(bucket, optionsMap);
+    StorageRpc storageRpc = serviceOptions.getStorageRpcV1();
+    if (storageRpc instanceof HttpStorageRpc) {
+      // decode each object directly from the response rather than materializing the whole page
+      HttpStorageRpc httpStorageRpc = (HttpStorageRpc) storageRpc;
+      return retrier.run(
+          algorithm,
+          () -> httpStorageRpc.list(bucket, optionsMap, StreamingBlobInfoDecoder.INSTANCE),
+          (result) -> {
+            String cursor = result.x();
+            List<Blob> blobs =
+                Lists.transform(result.y(), info -> info.asBlob(serviceOptions.getService()));
+            return new PageImpl<>(
+                new BlobPageFetcher(bucket, serviceOptions, cursor, optionsMap, retrier),
+                cursor,
+                blobs);
+          });
+    }
     return retrier.run(
         algorithm,
-        () -> serviceOptions.getStorageRpcV1().list(bucket, optionsMap),
+        () -> storageRpc.list(bucket, optionsMap),
         (result) -> {
           String cursor = result.x();
           Iterable<Blob> blobs =
@@ -665,6 +747,15 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
   @Override
   public CopyWriter copy(final CopyRequest copyRequest) {
+    return copy(copyRequest, null);
+  }
+
+  @Override
+  public CopyWriter internalResumeCopy(CopyRequest copyRequest, String rewriteToken) {
+    return copy(copyRequest, rewriteToken);
+  }
+
+  private CopyWriter copy(CopyRequest copyRequest, @Nullable String rewriteToken) {
     BlobId source = copyRequest.getSource();
     BlobInfo target = copyRequest.getTarget();
     Opts<ObjectSourceOpt> sourceOpts =
@@ -687,7 +778,13 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     ResultRetryAlgorithm<?> algorithm = retryAlgorithmManager.getForObjectsRewrite(rewriteRequest);
     return run(
         algorithm,
-        () -> storageRpc.openRewrite(rewriteRequest),
+        () -> {
+          if (rewriteToken == null) {
+            return storageRpc.openRewrite(rewriteRequest);
+          }
+          return storageRpc.continueRewrite(
+              new RewriteResponse(rewriteRequest, null, 0, false, rewriteToken, 0));
+        },
         (r) -> new HttpCopyWriter(getOptions(), r, retrier));
   }
 
@@ -702,16 +799,56 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     Opts<ObjectSourceOpt> unwrap = Opts.unwrap(options);
     Opts<ObjectSourceOpt> resolve = unwrap.resolveFrom(blob);
     ImmutableMap<StorageRpc.Option, ?> optionsMap = resolve.getRpcOptions();
+    ParallelSlicedDownload parallel = parallelSlicedDownload(blob, resolve, options);
+    if (parallel != null) {
+      return parallel.readAllBytes();
+    }
     ResultRetryAlgorithm<?> algorithm =
         retryAlgorithmManager.getForObjectsGet(storageObject, optionsMap);
     return run(algorithm, () -> storageRpc.load(storageObject, optionsMap), Decoder.identity());
   }
 
+  /**
+   * If {@link BlobSourceOption#parallelDownload(long, int)} is specified, and the object can be
+   * downloaded in slices, resolve the generation to download. Each slice is then read as a ranged
+   * {@code GET} of that generation.
+   */
+  private @Nullable ParallelSlicedDownload parallelSlicedDownload(
+      BlobId blob, Opts<ObjectSourceOpt> opts, BlobSourceOption[] options) {
+    ParallelDownload config = opts.parallelDownload();
+    if (config == null) {
+      return null;
+    }
+    Blob info = internalGetBlob(blob, opts.getRpcOptions());
+    // when not found, or not sliceable, fall back to a single read which will surface any error
+    if (info == null || !ParallelSlicedDownload.isApplicable(info, !opts.autoGzipDecompression())) {
+      return null;
+    }
+    BlobId pinned = info.getBlobId();
+    return new ParallelSlicedDownload(
+        info,
+        config,
+        (begin, length) -> {
+          StorageReadChannel reader = reader(pinned, options);
+          reader.setChunkSize(0);
+          reader.seek(begin);
+          reader.limit(begin + length);
+          return reader;
+        },
+        Hasher.defaultHasher(),
+        parallelDownloadExecutor);
+  }
+
   @Override
   public StorageBatch batch() {
     return new StorageBatch(this.getOptions());
   }
 
+  @Override
+  public BulkOperations bulk(BulkOperationsConfig config) {
+    return new JsonBulkOperations(this, requireNonNull(config, "config must be non null"));
+  }
+
   @Override
   public StorageReadChannel reader(String bucket, String blob, BlobSourceOption... options) {
     return reader(BlobId.of(bucket, blob), options);
@@ -727,6 +864,12 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
   @Override
   public void downloadTo(BlobId blob, Path path, BlobSourceOption... options) {
+    ParallelSlicedDownload parallel =
+        parallelSlicedDownload(blob, Opts.unwrap(options).resolveFrom(blob), options);
+    if (parallel != null) {
+      parallel.downloadTo(path);
+      return;
+    }
     try (OutputStream outputStream = Files.newOutputStream(path)) {
       downloadTo(blob, outputStream, options);
     } catch (IOException e) {
@@ -797,6 +940,29 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
   @Override
   public URL signUrl(BlobInfo blobInfo, long duration, TimeUnit unit, SignUrlOption... options) {
+    SignUrlRequest request = newSignUrlRequest(duration, unit, options);
+    return signUrl(request, blobInfo, (signer, payload) -> signer.sign(payload.getBytes(UTF_8)));
+  }
+
+  @Override
+  public List<URL> signUrls(
+      List<BlobInfo> blobInfos, long duration, TimeUnit unit, SignUrlOption... options) {
+    requireNonNull(blobInfos, "blobInfos must be non null");
+    SignUrlRequest request = newSignUrlRequest(duration, unit, options);
+    int concurrency =
+        firstNonNull(
+            (Integer) request.optionMap.get(SignUrlOption.Option.SIGNING_CONCURRENCY),
+            UrlSigner.DEFAULT_CONCURRENCY);
+    return urlSigner.mapConcurrently(
+        blobInfos, concurrency, blobInfo -> signUrl(request, blobInfo, urlSigner::sign));
+  }
+
+  /**
+   * Resolve everything about signing a url which is independent of the object being signed,
+   * allowing it to be reused for every object of {@link #signUrls(List, long, TimeUnit,
+   * SignUrlOption...)}.
+   */
+  private SignUrlRequest newSignUrlRequest(long duration, TimeUnit unit, SignUrlOption... options) {
     EnumMap<SignUrlOption.Option, Object> optionMap = Maps.newEnumMap(SignUrlOption.Option.class);
     for (SignUrlOption option : options) {
       optionMap.put(option.getOption(), option.getValue());
@@ -816,12 +982,11 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
       credentials = (ServiceAccountSigner) this.getOptions().getCredentials();
     }
 
+    long timestamp = getOptions().getClock().millisTime();
     long expiration =
         isV4
             ? TimeUnit.SECONDS.convert(unit.toMillis(duration), TimeUnit.MILLISECONDS)
-            : TimeUnit.SECONDS.convert(
-                getOptions().getClock().millisTime() + unit.toMillis(duration),
-                TimeUnit.MILLISECONDS);
+            : TimeUnit.SECONDS.convert(timestamp + unit.toMillis(duration), TimeUnit.MILLISECONDS);
 
     checkArgument(
         !(optionMap.containsKey(SignUrlOption.Option.VIRTUAL_HOSTED_STYLE)
@@ -830,18 +995,66 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
         "Only one of VIRTUAL_HOSTED_STYLE, PATH_STYLE, or BUCKET_BOUND_HOST_NAME SignUrlOptions can"
             + " be specified.");
 
+    String baseStorageHostName = getBaseStorageHostName(optionMap);
+
+    ImmutableMap<String, String> userExtHeaders = ImmutableMap.of();
+    if (optionMap.containsKey(SignUrlOption.Option.EXT_HEADERS)) {
+      userExtHeaders =
+          ImmutableMap.copyOf(
+              (Map<String, String>) optionMap.get(SignUrlOption.Option.EXT_HEADERS));
+    }
+    ImmutableMap.Builder<String, String> extHeadersBuilder = new ImmutableMap.Builder<>();
+    if (isV4 // We don't sign the host header for V2 signed URLs; only do this for V4.
+        && !optionMap.containsKey(SignUrlOption.Option.VIRTUAL_HOSTED_STYLE)
+        && (optionMap.containsKey(SignUrlOption.Option.HOST_NAME)
+            || optionMap.containsKey(SignUrlOption.Option.BUCKET_BOUND_HOST_NAME)
+            || getOptions().getUniverseDomain() != null)) {
+      // Add the host here first, allowing it to be overridden in the EXT_HEADERS option below.
+      extHeadersBuilder.put("host", baseStorageHostName);
+    }
+    extHeadersBuilder.putAll(userExtHeaders);
+
+    ImmutableMap<String, String> queryParams = ImmutableMap.of();
+    if (optionMap.containsKey(SignUrlOption.Option.QUERY_PARAMS)) {
+      queryParams =
+          ImmutableMap.copyOf(
+              (Map<String, String>) optionMap.get(SignUrlOption.Option.QUERY_PARAMS));
+    }
+
+    return new SignUrlRequest(
+        optionMap,
+        isV2,
+        isV4,
+        credentials,
+        expiration,
+        timestamp,
+        shouldUsePathStyleForSignedUrl(optionMap),
+        baseStorageHostName,
+        userExtHeaders,
+        extHeadersBuilder.build(),
+        queryParams);
+  }
+
+  private URL signUrl(
+      SignUrlRequest request,
+      BlobInfo blobInfo,
+      BiFunction<ServiceAccountSigner, String, byte[]> signer) {
+    EnumMap<SignUrlOption.Option, Object> optionMap = request.optionMap;
+    ServiceAccountSigner credentials = request.credentials;
+    long expiration = request.expiration;
+
     String bucketName = slashlessBucketNameFromBlobInfo(blobInfo);
     String escapedBlobName = "";
     if (!Strings.isNullOrEmpty(blobInfo.getName())) {
       escapedBlobName = Rfc3986UriEncode(blobInfo.getName(), false);
     }
 
-    boolean usePathStyle = shouldUsePathStyleForSignedUrl(optionMap);
+    boolean usePathStyle = request.usePathStyle;
 
     String storageXmlHostName =
         usePathStyle
-            ? STORAGE_XML_URI_SCHEME + "://" + getBaseStorageHostName(optionMap)
-            : STORAGE_XML_URI_SCHEME + "://" + bucketName + "." + getBaseStorageHostName(optionMap);
+            ? STORAGE_XML_URI_SCHEME + "://" + request.baseStorageHostName
+            : STORAGE_XML_URI_SCHEME + "://" + bucketName + "." + request.baseStorageHostName;
 
     if (optionMap.containsKey(SignUrlOption.Option.BUCKET_BOUND_HOST_NAME)) {
       storageXmlHostName = (String) optionMap.get(SignUrlOption.Option.BUCKET_BOUND_HOST_NAME);
@@ -856,35 +1069,44 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
     // For V2 signing, even if we don't specify the bucket in the URI path, we still need the
     // canonical resource string that we'll sign to include the bucket.
     URI pathForSigning =
-        isV2 ? URI.create(constructResourceUriPath(bucketName, escapedBlobName, optionMap)) : path;
+        request.isV2
+            ? URI.create(constructResourceUriPath(bucketName, escapedBlobName, optionMap))
+            : path;
 
     try {
-      SignatureInfo signatureInfo =
-          buildSignatureInfo(
-              optionMap, blobInfo, expiration, pathForSigning, credentials.getAccount());
-      String unsignedPayload = signatureInfo.constructUnsignedPayload();
-      byte[] signatureBytes = credentials.sign(unsignedPayload.getBytes(UTF_8));
+      String unsignedPayload;
+      String queryString;
+      if (request.isV4) {
+        V4SigningContext ctx =
+            getV4SigningContext(request, blobInfo, pathForSigning, credentials.getAccount());
+        unsignedPayload = ctx.constructUnsignedPayload(pathForSigning);
+        queryString = ctx.getQueryString();
+      } else {
+        SignatureInfo signatureInfo =
+            buildSignatureInfo(request, blobInfo, pathForSigning, credentials.getAccount());
+        unsignedPayload = signatureInfo.constructUnsignedPayload();
+        queryString = signatureInfo.constructV2QueryString();
+      }
+      byte[] signatureBytes = signer.apply(credentials, unsignedPayload);
       StringBuilder stBuilder = new StringBuilder();
       stBuilder.append(storageXmlHostName).append(path);
 
-      if (isV4) {
+      if (request.isV4) {
         BaseEncoding encoding = BaseEncoding.base16().lowerCase();
         String signature = URLEncoder.encode(encoding.encode(signatureBytes), UTF_8.name());
-        String v4QueryString = signatureInfo.constructV4QueryString();
 
         stBuilder.append('?');
-        if (!Strings.isNullOrEmpty(v4QueryString)) {
-          stBuilder.append(v4QueryString).append('&');
+        if (!Strings.isNullOrEmpty(queryString)) {
+          stBuilder.append(queryString).append('&');
         }
         stBuilder.append("X-Goog-Signature=").append(signature);
       } else {
         BaseEncoding encoding = BaseEncoding.base64();
         String signature = URLEncoder.encode(encoding.encode(signatureBytes), UTF_8.name());
-        String v2QueryString = signatureInfo.constructV2QueryString();
 
         stBuilder.append('?');
-        if (!Strings.isNullOrEmpty(v2QueryString)) {
-          stBuilder.append(v2QueryString).append('&');
+        if (!Strings.isNullOrEmpty(queryString)) {
+          stBuilder.append(queryString).append('&');
         }
         stBuilder.append("GoogleAccessId=").append(credentials.getAccount());
         stBuilder.append("&Expires=").append(expiration);
@@ -1088,19 +1310,15 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
   /**
    * Builds signature info.
    *
-   * @param optionMap the option map
+   * @param request the resolved options of the signed url request
    * @param blobInfo the blob info
-   * @param expiration the expiration in seconds
    * @param path the resource URI
    * @param accountEmail the account email
    * @return signature info
    */
   private SignatureInfo buildSignatureInfo(
-      Map<SignUrlOption.Option, Object> optionMap,
-      BlobInfo blobInfo,
-      long expiration,
-      URI path,
-      String accountEmail) {
+      SignUrlRequest request, BlobInfo blobInfo, URI path, String accountEmail) {
+    Map<SignUrlOption.Option, Object> optionMap = request.optionMap;
 
     HttpMethod httpVerb =
         optionMap.containsKey(SignUrlOption.Option.HTTP_METHOD)
@@ -1108,15 +1326,14 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
             : HttpMethod.GET;
 
     SignatureInfo.Builder signatureInfoBuilder =
-        new SignatureInfo.Builder(httpVerb, expiration, path);
+        new SignatureInfo.Builder(httpVerb, request.expiration, path);
 
+    checkSignedBlobFields(optionMap, blobInfo);
     if (firstNonNull((Boolean) optionMap.get(SignUrlOption.Option.MD5), false)) {
-      checkArgument(blobInfo.getMd5() != null, "Blob is missing a value for md5");
       signatureInfoBuilder.setContentMd5(blobInfo.getMd5());
     }
 
     if (firstNonNull((Boolean) optionMap.get(SignUrlOption.Option.CONTENT_TYPE), false)) {
-      checkArgument(blobInfo.getContentType() != null, "Blob is missing a value for content-type");
       signatureInfoBuilder.setContentType(blobInfo.getContentType());
     }
 
@@ -1125,41 +1342,96 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
     signatureInfoBuilder.setAccountEmail(accountEmail);
 
-    signatureInfoBuilder.setTimestamp(getOptions().getClock().millisTime());
-
-    ImmutableMap.Builder<String, String> extHeadersBuilder = new ImmutableMap.Builder<>();
+    signatureInfoBuilder.setTimestamp(request.timestamp);
 
+    Map<String, String> extHeaders = request.extHeaders;
     boolean isV4 =
         SignUrlOption.SignatureVersion.V4.equals(
             optionMap.get(SignUrlOption.Option.SIGNATURE_VERSION));
-    if (isV4) { // We don't sign the host header for V2 signed URLs; only do this for V4.
-      // Add the host here first, allowing it to be overridden in the EXT_HEADERS option below.
-      if (optionMap.containsKey(SignUrlOption.Option.VIRTUAL_HOSTED_STYLE)) {
-        extHeadersBuilder.put(
-            "host",
-            slashlessBucketNameFromBlobInfo(blobInfo) + "." + getBaseStorageHostName(optionMap));
-      } else if (optionMap.containsKey(SignUrlOption.Option.HOST_NAME)
-          || optionMap.containsKey(SignUrlOption.Option.BUCKET_BOUND_HOST_NAME)
-          || getOptions().getUniverseDomain() != null) {
-        extHeadersBuilder.put("host", getBaseStorageHostName(optionMap));
-      }
+    // We don't sign the host header for V2 signed URLs; only do this for V4. The host is added
+    // first, allowing it to be overridden by the EXT_HEADERS option.
+    if (isV4 && optionMap.containsKey(SignUrlOption.Option.VIRTUAL_HOSTED_STYLE)) {
+      extHeaders =
+          new ImmutableMap.Builder<String, String>()
+              .put(
+                  "host",
+                  slashlessBucketNameFromBlobInfo(blobInfo) + "." + request.baseStorageHostName)
+              .putAll(request.userExtHeaders)
+              .build();
     }
 
-    if (optionMap.containsKey(SignUrlOption.Option.EXT_HEADERS)) {
-      extHeadersBuilder.putAll(
-          (Map<String, String>) optionMap.get(SignUrlOption.Option.EXT_HEADERS));
-    }
+    return signatureInfoBuilder
+        .setCanonicalizedExtensionHeaders(extHeaders)
+        .setCanonicalizedQueryParams(request.queryParams)
+        .build();
+  }
 
-    ImmutableMap.Builder<String, String> queryParamsBuilder = new ImmutableMap.Builder<>();
-    if (optionMap.containsKey(SignUrlOption.Option.QUERY_PARAMS)) {
-      queryParamsBuilder.putAll(
-          (Map<String, String>) optionMap.get(SignUrlOption.Option.QUERY_PARAMS));
+  /**
+   * The V4 signing context to use for {@code blobInfo}. Every object of a request shares a single
+   * context, except for virtual hosted-style urls where the signed host header includes the bucket.
+   */
+  private V4SigningContext getV4SigningContext(
+      SignUrlRequest request, BlobInfo blobInfo, URI path, String accountEmail) {
+    checkSignedBlobFields(request.optionMap, blobInfo);
+    String key =
+        request.optionMap.containsKey(SignUrlOption.Option.VIRTUAL_HOSTED_STYLE)
+            ? slashlessBucketNameFromBlobInfo(blobInfo)
+            : "";
+    return request.v4SigningContexts.computeIfAbsent(
+        key, k -> buildSignatureInfo(request, blobInfo, path, accountEmail).v4SigningContext());
+  }
+
+  private static void checkSignedBlobFields(
+      Map<SignUrlOption.Option, Object> optionMap, BlobInfo blobInfo) {
+    if (firstNonNull((Boolean) optionMap.get(SignUrlOption.Option.MD5), false)) {
+      checkArgument(blobInfo.getMd5() != null, "Blob is missing a value for md5");
+    }
+    if (firstNonNull((Boolean) optionMap.get(SignUrlOption.Option.CONTENT_TYPE), false)) {
+      checkArgument(blobInfo.getContentType() != null, "Blob is missing a value for content-type");
     }
+  }
 
-    return signatureInfoBuilder
-        .setCanonicalizedExtensionHeaders(extHeadersBuilder.build())
-        .setCanonicalizedQueryParams(queryParamsBuilder.build())
-        .build();
+  /** The resolved options of a signed url request which do not depend on the object. */
+  private static final class SignUrlRequest {
+    private final EnumMap<SignUrlOption.Option, Object> optionMap;
+    private final boolean isV2;
+    private final boolean isV4;
+    private final ServiceAccountSigner credentials;
+    private final long expiration;
+    private final long timestamp;
+    private final boolean usePathStyle;
+    private final String baseStorageHostName;
+    private final ImmutableMap<String, String> userExtHeaders;
+    // the extension headers to sign, unless they depend on the bucket of the object
+    private final ImmutableMap<String, String> extHeaders;
+    private final ImmutableMap<String, String> queryParams;
+    private final ConcurrentHashMap<String, V4SigningContext> v4SigningContexts;
+
+    private SignUrlRequest(
+        EnumMap<SignUrlOption.Option, Object> optionMap,
+        boolean isV2,
+        boolean isV4,
+        ServiceAccountSigner credentials,
+        long expiration,
+        long timestamp,
+        boolean usePathStyle,
+        String baseStorageHostName,
+        ImmutableMap<String, String> userExtHeaders,
+        ImmutableMap<String, String> extHeaders,
+        ImmutableMap<String, String> queryParams) {
+      this.optionMap = optionMap;
+      this.isV2 = isV2;
+      this.isV4 = isV4;
+      this.credentials = credentials;
+      this.expiration = expiration;
+      this.timestamp = timestamp;
+      this.usePathStyle = usePathStyle;
+      this.baseStorageHostName = baseStorageHostName;
+      this.userExtHeaders = userExtHeaders;
+      this.extHeaders = extHeaders;
+      this.queryParams = queryParams;
+      this.v4SigningContexts = new ConcurrentHashMap<>();
+    }
   }
 
   private String slashlessBucketNameFromBlobInfo(BlobInfo blobInfo) {
@@ -1746,7 +2018,7 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
 
     JsonResumableSession session =
         ResumableSession.json(
-            HttpClientContext.from(storageRpc),
+            HttpClientContext.from(storageRpc).withPhaseListener(phaseListener),
             retrier.withAlg(retryAlgorithmManager.idempotent()),
             jsonResumableWrite);
     HttpContentRange contentRange = HttpContentRange.of(ByteRangeSpec.explicit(0L, size), size);
@@ -1827,4 +2099,14 @@ final class StorageImpl extends BaseService<StorageOptions> implements Storage,
         },
         codecs.blobInfo());
   }
+
+  @Override
+  public StorageMetrics getStorageMetrics() {
+    return storageMetrics;
+  }
+
+  @Override
+  public TransferPhaseListener getTransferPhaseListener() {
+    return phaseListener;
+  }
 }
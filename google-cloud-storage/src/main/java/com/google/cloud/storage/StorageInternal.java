@@ -17,6 +17,7 @@
 package com.google.cloud.storage;
 
 import com.google.cloud.storage.Storage.ComposeRequest;
+import com.google.cloud.storage.Storage.CopyRequest;
 import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
@@ -45,7 +46,20 @@ interface StorageInternal {
     throw new UnsupportedOperationException("not implemented");
   }
 
+  /** Continue a rewrite from the {@code rewriteToken} returned by a previous rewrite call */
+  default CopyWriter internalResumeCopy(CopyRequest copyRequest, String rewriteToken) {
+    throw new UnsupportedOperationException("not implemented");
+  }
+
   default BlobInfo internalObjectGet(BlobId blobId, Opts<ObjectSourceOpt> opts) {
     throw new UnsupportedOperationException("not implemented");
   }
+
+  default StorageMetrics getStorageMetrics() {
+    return StorageMetrics.noop();
+  }
+
+  default TransferPhaseListener getTransferPhaseListener() {
+    return TransferPhaseListener.noop();
+  }
 }
@@ -0,0 +1,437 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
+import com.google.cloud.storage.TransferPhaseListeners.GzipBytesListener;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Clock;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Client level OpenTelemetry metrics.
+ *
+ * <p>All instruments are created once per instance, and all {@link Attributes} used when recording
+ * are computed ahead of time so that recording a value on a hot path does not allocate.
+ *
+ * <p>When the provided {@link OpenTelemetry} instance is {@link OpenTelemetry#noop()} (the default)
+ * {@link #noop()} is returned, in which case all recording methods are effectively free and
+ * decoration methods return their argument unchanged.
+ */
+final class StorageMetrics {
+
+  private static final String METRIC_PREFIX = "storage.client.";
+
+  private static final AttributeKey<String> OPERATION = AttributeKey.stringKey("gcs.operation");
+  private static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("gcs.outcome");
+  private static final AttributeKey<String> PHASE = AttributeKey.stringKey("gcs.phase");
+  private static final AttributeKey<String> GZIP = AttributeKey.stringKey("gcs.gzip");
+  private static final AttributeKey<Long> ELAPSED_NANOS =
+      AttributeKey.longKey("gcs.phase.elapsed_nanos");
+
+  // seconds
+  private static final List<Double> LATENCY_BOUNDARIES =
+      ImmutableList.of(
+          0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1d, 2.5, 5d, 10d, 30d, 60d, 120d,
+          300d);
+  // bytes per second
+  private static final List<Double> THROUGHPUT_BOUNDARIES =
+      ImmutableList.of(
+          64d * 1024,
+          256d * 1024,
+          1024d * 1024,
+          4d * 1024 * 1024,
+          16d * 1024 * 1024,
+          64d * 1024 * 1024,
+          128d * 1024 * 1024,
+          256d * 1024 * 1024,
+          512d * 1024 * 1024,
+          1024d * 1024 * 1024);
+  // bytes
+  private static final List<Double> SIZE_BOUNDARIES =
+      ImmutableList.of(
+          256d * 1024,
+          1024d * 1024,
+          4d * 1024 * 1024,
+          16d * 1024 * 1024,
+          64d * 1024 * 1024,
+          256d * 1024 * 1024,
+          1024d * 1024 * 1024);
+
+  private static final StorageMetrics NOOP =
+      new StorageMetrics(false, OpenTelemetry.noop(), Attributes.empty());
+
+  private final boolean enabled;
+  private final Attributes baseAttributes;
+  private final Attributes okAttributes;
+  private final Attributes errorAttributes;
+  private final Attributes gzipCompressedAttributes;
+  private final Attributes gzipDecompressedAttributes;
+
+  private final LongCounter bytesRead;
+  private final LongCounter bytesWritten;
+  private final DoubleHistogram timeToFirstByte;
+  private final DoubleHistogram uploadFinalizeDuration;
+  private final DoubleHistogram throughput;
+  private final LongCounter retries;
+  private final DoubleHistogram backoffDuration;
+  private final LongCounter pcuParts;
+  private final DoubleHistogram pcuPartSize;
+  private final LongUpDownCounter bufferUsage;
+  private final DoubleHistogram phaseDuration;
+  // indexed by Phase#ordinal
+  private final Attributes[] phaseAttributes;
+  private final String[] phaseEventNames;
+
+  private StorageMetrics(boolean enabled, OpenTelemetry otel, Attributes baseAttributes) {
+    this.enabled = enabled;
+    this.baseAttributes = baseAttributes;
+    this.okAttributes = baseAttributes.toBuilder().put(OUTCOME, "ok").build();
+    this.errorAttributes = baseAttributes.toBuilder().put(OUTCOME, "error").build();
+    this.gzipCompressedAttributes = baseAttributes.toBuilder().put(GZIP, "compressed").build();
+    this.gzipDecompressedAttributes = baseAttributes.toBuilder().put(GZIP, "decompressed").build();
+
+    Meter meter =
+        otel.meterBuilder(OtelStorageDecorator.OTEL_SCOPE_NAME)
+            .setInstrumentationVersion(StorageOptions.version())
+            .build();
+    this.bytesRead =
+        meter
+            .counterBuilder(METRIC_PREFIX + "read.bytes")
+            .setDescription("Number of object bytes read by the client")
+            .setUnit("By")
+            .build();
+    this.bytesWritten =
+        meter
+            .counterBuilder(METRIC_PREFIX + "write.bytes")
+            .setDescription("Number of object bytes written by the client")
+            .setUnit("By")
+            .build();
+    this.timeToFirstByte =
+        meter
+            .histogramBuilder(METRIC_PREFIX + "read.time_to_first_byte")
+            .setDescription("Time from opening a read until the first object byte is available")
+            .setUnit("s")
+            .setExplicitBucketBoundariesAdvice(LATENCY_BOUNDARIES)
+            .build();
+    this.uploadFinalizeDuration =
+        meter
+            .histogramBuilder(METRIC_PREFIX + "write.finalize.duration")
+            .setDescription("Time taken to finalize an upload when its channel is closed")
+            .setUnit("s")
+            .setExplicitBucketBoundariesAdvice(LATENCY_BOUNDARIES)
+            .build();
+    this.throughput =
+        meter
+            .histogramBuilder(METRIC_PREFIX + "throughput")
+            .setDescription("Observed throughput of individual byte movements")
+            .setUnit("By/s")
+            .setExplicitBucketBoundariesAdvice(THROUGHPUT_BOUNDARIES)
+            .build();
+    this.retries =
+        meter
+            .counterBuilder(METRIC_PREFIX + "retry.count")
+            .setDescription(
+                "Number of errors evaluated for retry, by whether they were retried or terminal")
+            .setUnit("{error}")
+            .build();
+    this.backoffDuration =
+        meter
+            .histogramBuilder(METRIC_PREFIX + "retry.backoff.duration")
+            .setDescription("Time spent in backoff before a retry was attempted")
+            .setUnit("s")
+            .setExplicitBucketBoundariesAdvice(LATENCY_BOUNDARIES)
+            .build();
+    this.pcuParts =
+        meter
+            .counterBuilder(METRIC_PREFIX + "pcu.parts")
+            .setDescription("Number of parts created by parallel composite uploads")
+            .setUnit("{part}")
+            .build();
+    this.pcuPartSize =
+        meter
+            .histogramBuilder(METRIC_PREFIX + "pcu.part.size")
+            .setDescription("Size of parts created by parallel composite uploads")
+            .setUnit("By")
+            .setExplicitBucketBoundariesAdvice(SIZE_BOUNDARIES)
+            .build();
+    this.bufferUsage =
+        meter
+            .upDownCounterBuilder(METRIC_PREFIX + "buffer.usage")
+            .setDescription("Number of bytes of pooled buffers currently checked out")
+            .setUnit("By")
+            .build();
+    this.phaseDuration =
+        meter
+            .histogramBuilder(METRIC_PREFIX + "phase.duration")
+            .setDescription("Time spent in each phase of reading or uploading an object")
+            .setUnit("s")
+            .setExplicitBucketBoundariesAdvice(LATENCY_BOUNDARIES)
+            .build();
+    Phase[] phases = Phase.values();
+    this.phaseAttributes = new Attributes[phases.length];
+    this.phaseEventNames = new String[phases.length];
+    for (Phase phase : phases) {
+      String name = phase.name().toLowerCase(Locale.ROOT);
+      phaseAttributes[phase.ordinal()] = baseAttributes.toBuilder().put(PHASE, name).build();
+      phaseEventNames[phase.ordinal()] = "gcs.phase." + name;
+    }
+  }
+
+  boolean isEnabled() {
+    return enabled;
+  }
+
+  void recordBytesRead(long numBytes) {
+    if (enabled && numBytes > 0) {
+      bytesRead.add(numBytes, baseAttributes);
+    }
+  }
+
+  /**
+   * Record the bytes of a read which was transparently gzip decompressed to the read bytes counter,
+   * attributed by {@code gcs.gzip} as the {@code compressed} bytes received or the {@code
+   * decompressed} bytes produced. These are in addition to the bytes recorded for the read itself.
+   */
+  void recordGzipBytesRead(long compressedBytes, long decompressedBytes) {
+    if (enabled) {
+      if (compressedBytes > 0) {
+        bytesRead.add(compressedBytes, gzipCompressedAttributes);
+      }
+      if (decompressedBytes > 0) {
+        bytesRead.add(decompressedBytes, gzipDecompressedAttributes);
+      }
+    }
+  }
+
+  void recordBytesWritten(long numBytes) {
+    if (enabled && numBytes > 0) {
+      bytesWritten.add(numBytes, baseAttributes);
+    }
+  }
+
+  void recordTimeToFirstByte(long nanos) {
+    if (enabled) {
+      timeToFirstByte.record(nanosToSeconds(nanos), baseAttributes);
+    }
+  }
+
+  void recordUploadFinalize(long nanos, boolean error) {
+    if (enabled) {
+      uploadFinalizeDuration.record(nanosToSeconds(nanos), error ? errorAttributes : okAttributes);
+    }
+  }
+
+  void recordRetry(long backoffNanos) {
+    if (enabled) {
+      retries.add(1, okAttributes);
+      backoffDuration.record(nanosToSeconds(backoffNanos), baseAttributes);
+    }
+  }
+
+  void recordRetryExhausted() {
+    if (enabled) {
+      retries.add(1, errorAttributes);
+    }
+  }
+
+  void recordPcuPart(long numBytes, boolean error) {
+    if (enabled) {
+      Attributes attributes = error ? errorAttributes : okAttributes;
+      pcuParts.add(1, attributes);
+      pcuPartSize.record(numBytes, attributes);
+    }
+  }
+
+  /**
+   * Resolve the {@link TransferPhaseListener} instrumented I/O should notify. The returned listener
+   * forwards to {@code userListener} and, if metrics are enabled, records each phase to the phase
+   * duration histogram and as an event on the current span if it is recording.
+   *
+   * <p>If neither a user listener is provided nor are metrics enabled, {@link
+   * TransferPhaseListener#noop()} is returned.
+   */
+  TransferPhaseListener phaseListener(@Nullable TransferPhaseListener userListener) {
+    if (!enabled) {
+      return TransferPhaseListeners.tee(userListener, null);
+    }
+    return TransferPhaseListeners.tee(userListener, new MeteredTransferPhaseListener());
+  }
+
+  /**
+   * Create a {@link ThroughputSink} which will record each {@link ThroughputSink.Record} to the
+   * throughput histogram attributed to {@code operation}.
+   *
+   * <p>If metrics are not enabled {@link ThroughputSink#nullSink()} is returned.
+   */
+  ThroughputSink throughputSink(String operation, Clock clock) {
+    if (!enabled) {
+      return ThroughputSink.nullSink();
+    }
+    Attributes attributes = baseAttributes.toBuilder().put(OPERATION, operation).build();
+    return new MeteredThroughputSink(clock, attributes);
+  }
+
+  /**
+   * Decorate {@code pool} such that the number of bytes of buffers currently checked out of it is
+   * reported to the buffer usage instrument.
+   *
+   * <p>If metrics are not enabled {@code pool} is returned as is.
+   */
+  BufferHandlePool meter(BufferHandlePool pool) {
+    if (!enabled) {
+      return pool;
+    }
+    return new MeteredBufferHandlePool(pool);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("enabled", enabled)
+        .add("baseAttributes", baseAttributes)
+        .toString();
+  }
+
+  static StorageMetrics noop() {
+    return NOOP;
+  }
+
+  static StorageMetrics create(@Nullable OpenTelemetry otel) {
+    return create(otel, null);
+  }
+
+  static StorageMetrics create(@Nullable OpenTelemetry otel, @Nullable Transport transport) {
+    if (otel == null || otel == OpenTelemetry.noop()) {
+      return NOOP;
+    }
+    Attributes baseAttributes = Attributes.empty();
+    if (transport != null) {
+      baseAttributes =
+          Attributes.of(
+              AttributeKey.stringKey("rpc.system"), transport.toString().toLowerCase(Locale.ROOT));
+    }
+    return new StorageMetrics(true, otel, baseAttributes);
+  }
+
+  private static double nanosToSeconds(long nanos) {
+    return nanos / 1_000_000_000d;
+  }
+
+  private final class MeteredThroughputSink implements ThroughputSink {
+    private final Clock clock;
+    private final Attributes attributes;
+
+    private MeteredThroughputSink(Clock clock, Attributes attributes) {
+      this.clock = clock;
+      this.attributes = attributes;
+    }
+
+    @Override
+    public void recordThroughput(Record r) {
+      long nanos = r.getDuration().toNanos();
+      if (r.isException() || nanos <= 0) {
+        return;
+      }
+      throughput.record(r.getNumBytes() / nanosToSeconds(nanos), attributes);
+    }
+
+    @Override
+    public WritableByteChannel decorate(WritableByteChannel wbc) {
+      return ThroughputSink.recording(wbc, this, clock);
+    }
+
+    @Override
+    public GatheringByteChannel decorate(GatheringByteChannel gbc) {
+      return ThroughputSink.recording(gbc, this, clock);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this).add("attributes", attributes).toString();
+    }
+  }
+
+  private final class MeteredTransferPhaseListener
+      implements TransferPhaseListener, GzipBytesListener {
+
+    @Override
+    public void onPhase(Phase phase, long elapsedNanos) {
+      int idx = phase.ordinal();
+      phaseDuration.record(nanosToSeconds(elapsedNanos), phaseAttributes[idx]);
+      Span span = Span.current();
+      if (span.isRecording()) {
+        span.addEvent(phaseEventNames[idx], Attributes.of(ELAPSED_NANOS, elapsedNanos));
+      }
+    }
+
+    @Override
+    public void onGzipInflated(long compressedBytes, long decompressedBytes) {
+      recordGzipBytesRead(compressedBytes, decompressedBytes);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this).add("baseAttributes", baseAttributes).toString();
+    }
+  }
+
+  private final class MeteredBufferHandlePool implements BufferHandlePool {
+    private final BufferHandlePool delegate;
+    // buffers can be returned more than once, only count the first return of a checked out buffer
+    private final Set<PooledBuffer> checkedOut;
+
+    private MeteredBufferHandlePool(BufferHandlePool delegate) {
+      this.delegate = delegate;
+      this.checkedOut = ConcurrentHashMap.newKeySet();
+    }
+
+    @Override
+    public PooledBuffer getBuffer() {
+      PooledBuffer buffer = delegate.getBuffer();
+      if (checkedOut.add(buffer)) {
+        bufferUsage.add(buffer.getBufferHandle().capacity(), baseAttributes);
+      }
+      return buffer;
+    }
+
+    @Override
+    public void returnBuffer(PooledBuffer handle) {
+      if (checkedOut.remove(handle)) {
+        bufferUsage.add(-handle.getBufferHandle().capacity(), baseAttributes);
+      }
+      delegate.returnBuffer(handle);
+    }
+  }
+}
@@ -71,9 +71,9 @@ public abstract class StorageOptions extends ServiceOptions<Storage, StorageOpti
     VERSION = tmp;
   }
 
-  Retrier createRetrier() {
+  Retrier createRetrier(Transport transport) {
     return new DefaultRetrier(
-        OtelStorageDecorator.retryContextDecorator(getOpenTelemetry()),
+        OtelStorageDecorator.retryContextDecorator(getOpenTelemetry(), transport),
         RetryingDependencies.simple(getClock(), getRetrySettings()));
   }
 
@@ -141,6 +141,24 @@ public abstract class StorageOptions extends ServiceOptions<Storage, StorageOpti
     @BetaApi
     public abstract StorageOptions.Builder setOpenTelemetry(OpenTelemetry openTelemetry);
 
+    /**
+     * Whether blocking work the client runs on its own threads, for example the slices of a {@link
+     * Storage.BlobSourceOption#parallelDownload(long, int) parallel download}, should use a new
+     * virtual thread per task rather than a pool of platform threads. A {@link
+     * com.google.cloud.storage.transfermanager.TransferManager} using these options will also run
+     * its workers on virtual threads.
+     *
+     * <p>Virtual threads require Java 21 or newer, if they are not available {@link
+     * StorageOptions#getService()} will throw an {@link UnsupportedOperationException}.
+     *
+     * <p><i>Default:</i> {@code false}
+     *
+     * @see StorageOptions#isUseVirtualThreads()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public abstract StorageOptions.Builder setUseVirtualThreads(boolean useVirtualThreads);
+
     @Override
     public abstract StorageOptions build();
   }
@@ -183,6 +201,15 @@ public abstract class StorageOptions extends ServiceOptions<Storage, StorageOpti
   @BetaApi
   public abstract OpenTelemetry getOpenTelemetry();
 
+  /**
+   * Whether blocking work the client runs on its own threads uses virtual threads
+   *
+   * @see Builder#setUseVirtualThreads(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public abstract boolean isUseVirtualThreads();
+
   @SuppressWarnings("unchecked")
   @Override
   public abstract StorageOptions.Builder toBuilder();
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.Utils.dateTimeCodec;
+
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.JsonToken;
+import com.google.api.client.util.Data;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.storage.model.ObjectAccessControl;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.api.services.storage.model.StorageObject.Contexts;
+import com.google.cloud.storage.BlobInfo.CustomerEncryption;
+import com.google.cloud.storage.spi.v1.ObjectListDecoder;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Decode the objects of a list response directly into {@link BlobInfo}s as the response is parsed.
+ *
+ * <p>The result is the same as parsing each object into a {@link StorageObject} and decoding it
+ * with {@link JsonConversions#blobInfo()}, without reflectively populating the intermediate model
+ * (and its backing maps) for every object of a page. Fields this decoder does not know about are
+ * skipped, and explicit {@code null} values are treated the same as an absent field.
+ */
+final class StreamingBlobInfoDecoder implements ObjectListDecoder<BlobInfo> {
+  static final StreamingBlobInfoDecoder INSTANCE = new StreamingBlobInfoDecoder();
+
+  private final JsonConversions json = Conversions.json();
+
+  private StreamingBlobInfoDecoder() {}
+
+  @Override
+  public BlobInfo decodeObject(JsonParser parser) throws IOException {
+    // the id is only known once the whole object has been read, it is set last without being
+    // recorded as a modification, the same as BlobInfo.newBuilder(BlobId)
+    BlobInfo.Builder to = new BlobInfo.BuilderImpl((BlobId) null);
+    String bucket = null;
+    String name = null;
+    Long generation = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (field.equals("isDirectory")) {
+        to.setIsDirectory(Boolean.TRUE);
+      }
+      if (value == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "bucket":
+          bucket = parser.getText();
+          break;
+        case "name":
+          name = parser.getText();
+          break;
+        case "generation":
+          generation = Long.parseLong(parser.getText());
+          break;
+        case "cacheControl":
+          to.setCacheControl(parser.getText());
+          break;
+        case "contentEncoding":
+          to.setContentEncoding(parser.getText());
+          break;
+        case "crc32c":
+          to.setCrc32c(parser.getText());
+          break;
+        case "contentType":
+          to.setContentType(parser.getText());
+          break;
+        case "md5Hash":
+          to.setMd5(parser.getText());
+          break;
+        case "mediaLink":
+          to.setMediaLink(parser.getText());
+          break;
+        case "metageneration":
+          to.setMetageneration(Long.parseLong(parser.getText()));
+          break;
+        case "contentDisposition":
+          to.setContentDisposition(parser.getText());
+          break;
+        case "componentCount":
+          to.setComponentCount(Integer.parseInt(parser.getText()));
+          break;
+        case "contentLanguage":
+          to.setContentLanguage(parser.getText());
+          break;
+        case "etag":
+          to.setEtag(parser.getText());
+          break;
+        case "id":
+          to.setGeneratedId(parser.getText());
+          break;
+        case "selfLink":
+          to.setSelfLink(parser.getText());
+          break;
+        case "metadata":
+          to.setMetadata(decodeMetadata(parser));
+          break;
+        case "timeDeleted":
+          to.setDeleteTimeOffsetDateTime(decodeDateTime(parser));
+          break;
+        case "updated":
+          to.setUpdateTimeOffsetDateTime(decodeDateTime(parser));
+          break;
+        case "timeCreated":
+          to.setCreateTimeOffsetDateTime(decodeDateTime(parser));
+          break;
+        case "customTime":
+          to.setCustomTimeOffsetDateTime(decodeDateTime(parser));
+          break;
+        case "size":
+          to.setSize(Long.parseLong(parser.getText()));
+          break;
+        case "owner":
+          String owner = decodeOwnerEntity(parser);
+          if (owner != null) {
+            to.setOwner(json.entity().decode(owner));
+          }
+          break;
+        case "acl":
+          to.setAcl(decodeAcl(parser));
+          break;
+        case "customerEncryption":
+          to.setCustomerEncryption(decodeCustomerEncryption(parser));
+          break;
+        case "storageClass":
+          to.setStorageClass(StorageClass.valueOf(parser.getText()));
+          break;
+        case "timeStorageClassUpdated":
+          to.setTimeStorageClassUpdatedOffsetDateTime(decodeDateTime(parser));
+          break;
+        case "kmsKeyName":
+          to.setKmsKeyName(parser.getText());
+          break;
+        case "eventBasedHold":
+          to.setEventBasedHold(value == JsonToken.VALUE_TRUE);
+          break;
+        case "temporaryHold":
+          to.setTemporaryHold(value == JsonToken.VALUE_TRUE);
+          break;
+        case "retentionExpirationTime":
+          to.setRetentionExpirationTimeOffsetDateTime(decodeDateTime(parser));
+          break;
+        case "retention":
+          to.setRetention(json.retention().decode(decodeRetention(parser)));
+          break;
+        case "softDeleteTime":
+          to.setSoftDeleteTime(decodeDateTime(parser));
+          break;
+        case "hardDeleteTime":
+          to.setHardDeleteTime(decodeDateTime(parser));
+          break;
+        case "contexts":
+          // rarely present, parse it with the model rather than duplicating its structure
+          to.setContexts(json.objectContexts().decode(parser.parse(Contexts.class)));
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    return to.setBlobId(BlobId.of(bucket, name, generation)).build();
+  }
+
+  @Override
+  public BlobInfo decodePrefix(String bucket, String prefix) {
+    return BlobInfo.newBuilder(BlobId.of(bucket, prefix)).setSize(0L).setIsDirectory(true).build();
+  }
+
+  private static OffsetDateTime decodeDateTime(JsonParser parser) throws IOException {
+    return dateTimeCodec.decode(DateTime.parseRfc3339(parser.getText()));
+  }
+
+  private static Map<String, String> decodeMetadata(JsonParser parser) throws IOException {
+    Map<String, String> metadata = new HashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String key = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.VALUE_NULL) {
+        metadata.put(key, Data.nullOf(String.class));
+      } else {
+        metadata.put(key, parser.getText());
+        parser.skipChildren();
+      }
+    }
+    return metadata;
+  }
+
+  private static String decodeOwnerEntity(JsonParser parser) throws IOException {
+    String entity = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (field.equals("entity") && value != JsonToken.VALUE_NULL) {
+        entity = parser.getText();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return entity;
+  }
+
+  private ImmutableList<Acl> decodeAcl(JsonParser parser) throws IOException {
+    ImmutableList.Builder<Acl> acl = ImmutableList.builder();
+    for (JsonToken t = parser.nextToken(); t != JsonToken.END_ARRAY; t = parser.nextToken()) {
+      if (t != JsonToken.START_OBJECT) {
+        continue;
+      }
+      ObjectAccessControl oac = new ObjectAccessControl();
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (value == JsonToken.VALUE_NULL) {
+          continue;
+        }
+        switch (field) {
+          case "entity":
+            oac.setEntity(parser.getText());
+            break;
+          case "role":
+            oac.setRole(parser.getText());
+            break;
+          case "etag":
+            oac.setEtag(parser.getText());
+            break;
+          case "id":
+            oac.setId(parser.getText());
+            break;
+          default:
+            parser.skipChildren();
+        }
+      }
+      acl.add(json.objectAcl().decode(oac));
+    }
+    return acl.build();
+  }
+
+  private static CustomerEncryption decodeCustomerEncryption(JsonParser parser) throws IOException {
+    String encryptionAlgorithm = null;
+    String keySha256 = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      if (field.equals("encryptionAlgorithm")) {
+        encryptionAlgorithm = parser.getText();
+      } else if (field.equals("keySha256")) {
+        keySha256 = parser.getText();
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return new CustomerEncryption(encryptionAlgorithm, keySha256);
+  }
+
+  private static StorageObject.Retention decodeRetention(JsonParser parser) throws IOException {
+    StorageObject.Retention retention = new StorageObject.Retention();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      if (field.equals("mode")) {
+        retention.setMode(parser.getText());
+      } else if (field.equals("retainUntilTime")) {
+        retention.setRetainUntilTime(DateTime.parseRfc3339(parser.getText()));
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return retention;
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.JsonToken;
+import com.google.api.client.util.DateTime;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.spi.v1.ObjectListDecoder;
+import java.io.IOException;
+
+/**
+ * Decode the objects of a list response directly into {@link BlobSummary}s as the response is
+ * parsed.
+ *
+ * <p>The result is the same as parsing each object into a {@link StorageObject} and decoding it
+ * with {@link JsonConversions#blobSummary()}, without populating the intermediate model for every
+ * object of a page. Fields which are not part of a summary are skipped, and explicit {@code null}
+ * values are treated the same as an absent field.
+ */
+final class StreamingBlobSummaryDecoder implements ObjectListDecoder<BlobSummary> {
+  static final StreamingBlobSummaryDecoder INSTANCE = new StreamingBlobSummaryDecoder();
+
+  private StreamingBlobSummaryDecoder() {}
+
+  @Override
+  public BlobSummary decodeObject(JsonParser parser) throws IOException {
+    String bucket = null;
+    String name = null;
+    Long generation = null;
+    Long metageneration = null;
+    Long size = null;
+    String crc32c = null;
+    String md5 = null;
+    DateTime updated = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "bucket":
+          bucket = parser.getText();
+          break;
+        case "name":
+          name = parser.getText();
+          break;
+        case "generation":
+          generation = Long.parseLong(parser.getText());
+          break;
+        case "metageneration":
+          metageneration = Long.parseLong(parser.getText());
+          break;
+        case "size":
+          size = Long.parseLong(parser.getText());
+          break;
+        case "crc32c":
+          crc32c = parser.getText();
+          break;
+        case "md5Hash":
+          md5 = parser.getText();
+          break;
+        case "updated":
+          updated = DateTime.parseRfc3339(parser.getText());
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    BlobSummary.Builder to = BlobSummary.newBuilder(bucket, name);
+    if (generation != null) {
+      to.setGeneration(generation);
+    }
+    if (metageneration != null) {
+      to.setMetageneration(metageneration);
+    }
+    if (size != null) {
+      to.setSize(size);
+    }
+    to.setCrc32c(crc32c);
+    to.setMd5(md5);
+    if (updated != null) {
+      long millis = updated.getValue();
+      to.setUpdateTime(
+          Math.floorDiv(millis, 1_000L), (int) Math.floorMod(millis, 1_000L) * 1_000_000);
+    }
+    return to.build();
+  }
+
+  @Override
+  public BlobSummary decodePrefix(String bucket, String prefix) {
+    return BlobSummary.directory(bucket, prefix);
+  }
+}
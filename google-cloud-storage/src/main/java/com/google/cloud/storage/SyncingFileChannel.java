@@ -16,26 +16,70 @@
 
 package com.google.cloud.storage;
 
+import com.google.cloud.storage.JournalingBlobWriteSessionConfig.SyncPolicy;
 import com.google.cloud.storage.UnbufferedWritableByteChannelSession.UnbufferedWritableByteChannel;
+import com.google.common.base.MoreObjects;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
-/** A FileChannel decorator that will fsync after every {@link #write(ByteBuffer)} */
+/**
+ * A FileChannel decorator that will fsync the bytes written to it according to a {@link
+ * SyncPolicy}. By default, fsync after every {@link #write(ByteBuffer)}.
+ *
+ * <p>All bytes written to this channel are guaranteed to be synced to disk up to {@link
+ * #getSyncedOffset()}. Any bytes which have not yet been synced will be synced when {@link #sync()}
+ * or {@link #close()} is called.
+ *
+ * <p>When multiple threads are writing to this channel concurrently, a single fsync is shared
+ * between them. A writer which needs to sync while another fsync is in progress will wait for that
+ * fsync to complete, and will only issue its own fsync if its bytes were not already covered.
+ */
 final class SyncingFileChannel implements UnbufferedWritableByteChannel {
 
   private final FileChannel fc;
+  private final SyncPolicy syncPolicy;
+  private final Clock clock;
+  private final ReentrantLock syncLock;
+
+  /** The number of bytes written to {@link #fc} by this channel */
+  private final AtomicLong writtenOffset;
+
+  /**
+   * The number of bytes known to be synced to disk, only modified while holding {@link #syncLock}
+   */
+  private volatile long syncedOffset;
+
+  private volatile Instant lastSync;
+  private volatile long syncCount;
 
   SyncingFileChannel(FileChannel fc) {
+    this(fc, SyncPolicy.everyWrite(), Clock.systemUTC());
+  }
+
+  SyncingFileChannel(FileChannel fc, SyncPolicy syncPolicy, Clock clock) {
     this.fc = fc;
+    this.syncPolicy = syncPolicy;
+    this.clock = clock;
+    this.syncLock = new ReentrantLock();
+    this.writtenOffset = new AtomicLong(0);
+    this.syncedOffset = 0;
+    this.lastSync = syncPolicy.hasInterval() ? clock.instant() : Instant.EPOCH;
+    this.syncCount = 0;
   }
 
   @Override
   public long write(ByteBuffer[] srcs, int offset, int length) throws IOException {
     long written = fc.write(srcs, offset, length);
-    // metadata in this case are things like mtime, atime etc. Those are not important to our needs
-    // simply force the file contents to by synced.
-    fc.force(/* includeMetaData= */ false);
+    long end = writtenOffset.addAndGet(written);
+    if (shouldSync(end)) {
+      syncTo(end);
+    }
     return written;
   }
 
@@ -46,6 +90,74 @@ final class SyncingFileChannel implements UnbufferedWritableByteChannel {
 
   @Override
   public void close() throws IOException {
-    fc.close();
+    try {
+      if (fc.isOpen()) {
+        sync();
+      }
+    } finally {
+      fc.close();
+    }
+  }
+
+  /** Sync all bytes written so far to disk, if they are not already synced. */
+  void sync() throws IOException {
+    syncTo(writtenOffset.get());
+  }
+
+  /** The number of bytes written to this channel which are known to be synced to disk */
+  long getSyncedOffset() {
+    return syncedOffset;
+  }
+
+  /** The number of times the file has been fsync'd */
+  long getSyncCount() {
+    return syncCount;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("syncPolicy", syncPolicy)
+        .add("writtenOffset", writtenOffset.get())
+        .add("syncedOffset", syncedOffset)
+        .add("syncCount", syncCount)
+        .toString();
+  }
+
+  private boolean shouldSync(long end) {
+    long unsynced = end - syncedOffset;
+    if (unsynced <= 0) {
+      return false;
+    }
+    if (unsynced >= syncPolicy.getSyncEveryBytes()) {
+      return true;
+    }
+    return syncPolicy.hasInterval()
+        && Duration.between(lastSync, clock.instant()).compareTo(syncPolicy.getSyncInterval()) >= 0;
+  }
+
+  private void syncTo(long offset) throws IOException {
+    if (syncedOffset >= offset) {
+      return;
+    }
+    syncLock.lock();
+    try {
+      // another writer may have synced our bytes while we were waiting for the lock
+      if (syncedOffset >= offset) {
+        return;
+      }
+      // any write which has returned before now is covered by the following force
+      long covered = writtenOffset.get();
+      // metadata in this case are things like mtime, atime etc. Those are not important to our
+      // needs simply force the file contents to by synced.
+      fc.force(/* includeMetaData= */ false);
+      syncedOffset = covered;
+      syncCount++;
+      if (syncPolicy.hasInterval()) {
+        lastSync = clock.instant();
+      }
+    } finally {
+      syncLock.unlock();
+    }
   }
 }
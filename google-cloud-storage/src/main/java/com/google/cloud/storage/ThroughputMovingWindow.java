@@ -16,51 +16,102 @@
 
 package com.google.cloud.storage;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
-import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * A simple moving window implementation which will keep a {@code window}s worth of Throughput
  * values and allow querying for the aggregate avg over that time window.
+ *
+ * <p>The window is divided into a fixed ring of time buckets, each of which holds a primitive count
+ * of the bytes recorded during its slice of time. Recording is lock-free and does not allocate
+ * except when a bucket is rolled over to a new slice of time, which happens at most once per bucket
+ * per bucket resolution. It is safe to record and query concurrently from multiple threads.
+ *
+ * <p>Bucket resolution is {@code window / }{@value #TARGET_BUCKET_COUNT} rounded up to the nearest
+ * millisecond. A value is included in the average from the time it is added until its bucket falls
+ * out of the window, meaning the trailing edge of the window is accurate to one bucket.
  */
 final class ThroughputMovingWindow {
 
-  private final Duration window;
+  @VisibleForTesting static final int TARGET_BUCKET_COUNT = 100;
 
-  private final PriorityQueue<Entry> values;
+  private final Duration window;
+  private final long resolutionMillis;
+  private final int bucketCount;
+  private final AtomicReferenceArray<Bucket> buckets;
 
   private ThroughputMovingWindow(Duration window) {
     this.window = window;
-    this.values = new PriorityQueue<>(Entry.COMP);
+    long windowMillis = Math.max(1, window.toMillis());
+    this.resolutionMillis = resolutionMillis(window);
+    this.bucketCount = Math.toIntExact(ceilDiv(windowMillis, resolutionMillis));
+    this.buckets = new AtomicReferenceArray<>(bucketCount);
+    for (int i = 0; i < bucketCount; i++) {
+      buckets.set(i, Bucket.EMPTY);
+    }
   }
 
   void add(Instant now, Throughput value) {
-    removeExpiredEntries(now);
-    values.add(new Entry(now, value));
+    add(now, value.getNumBytes());
+  }
+
+  void add(Instant now, long numBytes) {
+    long epoch = epoch(now);
+    int idx = index(epoch);
+    while (true) {
+      Bucket b = buckets.get(idx);
+      if (b.epoch == epoch) {
+        b.add(numBytes);
+        return;
+      } else if (b.epoch > epoch) {
+        // the bucket has already moved on to a newer slice of time, meaning the value being added
+        // is older than the window
+        return;
+      }
+      Bucket next = new Bucket(epoch);
+      if (buckets.compareAndSet(idx, b, next)) {
+        next.add(numBytes);
+        return;
+      }
+    }
   }
 
   Throughput avg(Instant now) {
-    removeExpiredEntries(now);
-    return values.stream()
-        .map(Entry::getValue)
-        .reduce(
-            Throughput.zero(),
-            (tp1, tp2) -> Throughput.of(tp1.getNumBytes() + tp2.getNumBytes(), window));
+    return Throughput.of(sum(now), window);
   }
 
-  private void removeExpiredEntries(Instant now) {
-    Instant newMin = now.minus(window);
-    values.removeIf(e -> lteq(e.getAt(), newMin));
+  private long sum(Instant now) {
+    long epoch = epoch(now);
+    long minEpochExclusive = epoch - bucketCount;
+    long sum = 0;
+    for (int i = 0; i < bucketCount; i++) {
+      Bucket b = buckets.get(i);
+      if (minEpochExclusive < b.epoch && b.epoch <= epoch) {
+        sum += b.bytes;
+      }
+    }
+    return sum;
+  }
+
+  private long epoch(Instant i) {
+    return Math.floorDiv(i.toEpochMilli(), resolutionMillis);
+  }
+
+  private int index(long epoch) {
+    return (int) Math.floorMod(epoch, (long) bucketCount);
   }
 
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this)
         .add("window", window)
-        .add("values.size()", values.size())
+        .add("resolutionMillis", resolutionMillis)
+        .add("bucketCount", bucketCount)
         .toString();
   }
 
@@ -68,31 +119,35 @@ final class ThroughputMovingWindow {
     return new ThroughputMovingWindow(window);
   }
 
-  private static boolean lteq(Instant a, Instant b) {
-    return a.equals(b) || a.isBefore(b);
+  @VisibleForTesting
+  static long resolutionMillis(Duration window) {
+    return ceilDiv(Math.max(1, window.toMillis()), TARGET_BUCKET_COUNT);
   }
 
-  private static final class Entry {
-    private static final Comparator<Entry> COMP = Comparator.comparing(e -> e.at);
-    private final Instant at;
-    private final Throughput value;
+  private static long ceilDiv(long x, long y) {
+    return -Math.floorDiv(-x, y);
+  }
 
-    private Entry(Instant at, Throughput value) {
-      this.at = at;
-      this.value = value;
-    }
+  private static final class Bucket {
+    private static final Bucket EMPTY = new Bucket(Long.MIN_VALUE);
+
+    private static final AtomicLongFieldUpdater<Bucket> BYTES =
+        AtomicLongFieldUpdater.newUpdater(Bucket.class, "bytes");
+
+    private final long epoch;
+    private volatile long bytes;
 
-    public Instant getAt() {
-      return at;
+    private Bucket(long epoch) {
+      this.epoch = epoch;
     }
 
-    public Throughput getValue() {
-      return value;
+    private void add(long numBytes) {
+      BYTES.addAndGet(this, numBytes);
     }
 
     @Override
     public String toString() {
-      return MoreObjects.toStringHelper(this).add("at", at).add("value", value).toString();
+      return MoreObjects.toStringHelper(this).add("epoch", epoch).add("bytes", bytes).toString();
     }
   }
 }
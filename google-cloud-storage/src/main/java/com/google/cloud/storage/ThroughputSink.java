@@ -26,7 +26,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.logging.Logger;
 
 /**
@@ -71,6 +70,11 @@ interface ThroughputSink {
   }
 
   static ThroughputSink tee(ThroughputSink a, ThroughputSink b) {
+    if (a == NullThroughputSink.INSTANCE) {
+      return b;
+    } else if (b == NullThroughputSink.INSTANCE) {
+      return a;
+    }
     return new TeeThroughputSink(a, b);
   }
 
@@ -78,6 +82,23 @@ interface ThroughputSink {
     return NullThroughputSink.INSTANCE;
   }
 
+  /**
+   * Decorate {@code wbc} such that each write will be recorded to {@code sink}. Intended for use by
+   * implementations of {@link #decorate(WritableByteChannel)}.
+   */
+  static WritableByteChannel recording(WritableByteChannel wbc, ThroughputSink sink, Clock clock) {
+    return new ThroughputRecordingWritableByteChannel(wbc, sink, clock);
+  }
+
+  /**
+   * Decorate {@code gbc} such that each write will be recorded to {@code sink}. Intended for use by
+   * implementations of {@link #decorate(GatheringByteChannel)}.
+   */
+  static GatheringByteChannel recording(
+      GatheringByteChannel gbc, ThroughputSink sink, Clock clock) {
+    return new ThroughputRecordingGatheringByteChannel(gbc, sink, clock);
+  }
+
   final class Record {
     private final long numBytes;
     private final Instant begin;
@@ -349,22 +370,15 @@ interface ThroughputSink {
   final class ThroughputMovingWindowThroughputSink implements ThroughputSink {
     private final ThroughputMovingWindow w;
     private final Clock clock;
-    private final ReentrantLock lock;
 
     private ThroughputMovingWindowThroughputSink(ThroughputMovingWindow w, Clock clock) {
       this.w = w;
       this.clock = clock;
-      this.lock = new ReentrantLock();
     }
 
     @Override
     public void recordThroughput(Record r) {
-      lock.lock();
-      try {
-        w.add(r.end, Throughput.of(r.getNumBytes(), r.getDuration()));
-      } finally {
-        lock.unlock();
-      }
+      w.add(r.end, r.getNumBytes());
     }
 
     @Override
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.BetaApi;
+
+/**
+ * Listener which is notified of the time spent in each {@link Phase phase} of reading or uploading
+ * an object.
+ *
+ * <p>Listeners are invoked synchronously from the thread performing the I/O, which may be a
+ * transport thread. Implementations must be thread safe, should not block and should not throw.
+ *
+ * <p>When no listener is configured (the default) and OpenTelemetry is not enabled, phase timing is
+ * not performed.
+ *
+ * @see HttpStorageOptions.Builder#setTransferPhaseListener(TransferPhaseListener)
+ * @see GrpcStorageOptions.Builder#setTransferPhaseListener(TransferPhaseListener)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@FunctionalInterface
+public interface TransferPhaseListener {
+
+  /**
+   * Invoked each time a phase completes.
+   *
+   * @param phase The phase which completed
+   * @param elapsedNanos The number of nanoseconds spent in {@code phase}
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void onPhase(Phase phase, long elapsedNanos);
+
+  /**
+   * A listener which ignores all phases.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  static TransferPhaseListener noop() {
+    return TransferPhaseListeners.NOOP;
+  }
+
+  /**
+   * The phases of a read or upload which are timed.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  enum Phase {
+    /**
+     * Time from sending a read request until the first response for it is received. The first
+     * response includes the resolved object metadata. Reported once per stream, including streams
+     * opened as part of a retry.
+     */
+    READ_OPEN,
+    /**
+     * Time from the first call to read on a channel until the first object bytes are returned to
+     * the caller. Reported at most once per channel.
+     */
+    READ_FIRST_BYTE,
+    /**
+     * Time from the first object bytes being returned to the caller until the end of the object is
+     * reached or the channel is closed. Reported at most once per channel.
+     */
+    READ_TRANSFER,
+    /**
+     * Cumulative time spent validating checksums of received content. Reported once when the
+     * channel or stream is closed, if any validation was performed.
+     */
+    READ_CHECKSUM,
+    /**
+     * Cumulative time spent decompressing gzip content of an object read with decompressive
+     * transcoding performed client side. Reported once when the channel is closed, if any content
+     * was decompressed.
+     */
+    READ_DECOMPRESS,
+    /**
+     * Time from a retryable failure being observed until a replacement stream has received its
+     * first response. Reported once per retry.
+     */
+    READ_RETRY,
+    /** Time taken by a single non-finalizing request to upload a chunk of bytes. */
+    UPLOAD_CHUNK,
+    /** Time taken to query the persisted size of a resumable upload. */
+    UPLOAD_QUERY,
+    /** Time taken by the request which uploads the final bytes and finalizes an upload. */
+    UPLOAD_FINALIZE,
+    /**
+     * Time from an upload request failing until its retry attempt begins, this includes any
+     * backoff.
+     */
+    UPLOAD_RETRY
+  }
+}
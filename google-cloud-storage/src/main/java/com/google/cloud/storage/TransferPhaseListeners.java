@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.cloud.storage.TransferPhaseListener.Phase;
+import com.google.common.base.MoreObjects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Internal utilities for {@link TransferPhaseListener}.
+ *
+ * <p>Instrumented code checks {@link #isEnabled(TransferPhaseListener)} once and only reads the
+ * clock when a listener is enabled, keeping the disabled path free of any timing overhead.
+ */
+final class TransferPhaseListeners {
+  private static final Logger LOGGER = Logger.getLogger(TransferPhaseListeners.class.getName());
+
+  static final TransferPhaseListener NOOP = new NoopTransferPhaseListener();
+
+  private TransferPhaseListeners() {}
+
+  static boolean isEnabled(@Nullable TransferPhaseListener listener) {
+    return listener != null && listener != NOOP;
+  }
+
+  static TransferPhaseListener nullSafe(@Nullable TransferPhaseListener listener) {
+    return listener == null ? NOOP : listener;
+  }
+
+  /**
+   * Create a listener which forwards each phase to both {@code a} and {@code b}. A failure of one
+   * listener does not prevent the other from being notified, nor does it propagate to the
+   * instrumented I/O.
+   */
+  static TransferPhaseListener tee(
+      @Nullable TransferPhaseListener a, @Nullable TransferPhaseListener b) {
+    if (!isEnabled(a) && !isEnabled(b)) {
+      return NOOP;
+    }
+    return new TeeTransferPhaseListener(nullSafe(a), nullSafe(b));
+  }
+
+  /**
+   * Notify {@code listener} of the bytes of a read which was transparently gzip decompressed, if it
+   * is a {@link GzipBytesListener}. A failure of the listener does not propagate to the
+   * instrumented I/O.
+   */
+  static void gzipInflated(
+      TransferPhaseListener listener, long compressedBytes, long decompressedBytes) {
+    if (listener instanceof GzipBytesListener) {
+      try {
+        ((GzipBytesListener) listener).onGzipInflated(compressedBytes, decompressedBytes);
+      } catch (RuntimeException e) {
+        LOGGER.log(Level.FINE, "TransferPhaseListener threw while handling gzip bytes", e);
+      }
+    }
+  }
+
+  private static void safeNotify(TransferPhaseListener l, Phase phase, long elapsedNanos) {
+    try {
+      l.onPhase(phase, elapsedNanos);
+    } catch (RuntimeException e) {
+      LOGGER.log(Level.FINE, "TransferPhaseListener threw while handling " + phase, e);
+    }
+  }
+
+  private static final class NoopTransferPhaseListener implements TransferPhaseListener {
+
+    @Override
+    public void onPhase(Phase phase, long elapsedNanos) {}
+
+    @Override
+    public String toString() {
+      return "TransferPhaseListener.noop()";
+    }
+  }
+
+  private static final class TeeTransferPhaseListener
+      implements TransferPhaseListener, GzipBytesListener {
+    private final TransferPhaseListener a;
+    private final TransferPhaseListener b;
+
+    private TeeTransferPhaseListener(TransferPhaseListener a, TransferPhaseListener b) {
+      this.a = a;
+      this.b = b;
+    }
+
+    @Override
+    public void onPhase(Phase phase, long elapsedNanos) {
+      safeNotify(a, phase, elapsedNanos);
+      safeNotify(b, phase, elapsedNanos);
+    }
+
+    @Override
+    public void onGzipInflated(long compressedBytes, long decompressedBytes) {
+      gzipInflated(a, compressedBytes, decompressedBytes);
+      gzipInflated(b, compressedBytes, decompressedBytes);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this).add("a", a).add("b", b).toString();
+    }
+  }
+
+  /**
+   * Internal listeners which also count the bytes of reads which were transparently gzip
+   * decompressed. User provided listeners are only notified of phases.
+   */
+  interface GzipBytesListener {
+    void onGzipInflated(long compressedBytes, long decompressedBytes);
+  }
+}
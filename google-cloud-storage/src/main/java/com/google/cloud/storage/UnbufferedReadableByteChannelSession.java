@@ -17,10 +17,12 @@
 package com.google.cloud.storage;
 
 import com.google.cloud.storage.UnbufferedReadableByteChannelSession.UnbufferedReadableByteChannel;
+import com.google.common.io.ByteStreams;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.ScatteringByteChannel;
+import java.nio.channels.WritableByteChannel;
 
 interface UnbufferedReadableByteChannelSession<ResultT>
     extends ReadableByteChannelSession<UnbufferedReadableByteChannel, ResultT> {
@@ -35,5 +37,16 @@ interface UnbufferedReadableByteChannelSession<ResultT>
     default long read(ByteBuffer[] dsts) throws IOException {
       return read(dsts, 0, dsts.length);
     }
+
+    /**
+     * Write all remaining bytes of this channel to {@code dst}, returning the number of bytes
+     * written.
+     *
+     * <p>Implementations which receive their bytes in buffers they own can write those buffers
+     * directly to {@code dst}, avoiding copying each byte through an intermediate buffer.
+     */
+    default long writeTo(WritableByteChannel dst) throws IOException {
+      return ByteStreams.copy(this, dst);
+    }
   }
 }
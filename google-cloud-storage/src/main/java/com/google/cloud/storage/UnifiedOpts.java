@@ -76,6 +76,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.crypto.spec.SecretKeySpec;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.checkerframework.checker.nullness.qual.RequiresNonNull;
 
 /**
@@ -467,6 +468,13 @@ final class UnifiedOpts {
     return new ReturnPartialSuccess(returnPartialSuccess);
   }
 
+  static ParallelDownload parallelDownload(long sliceSize, int maxConcurrency) {
+    checkArgument(sliceSize > 0, "sliceSize must be > 0 (sliceSize = %s)", sliceSize);
+    checkArgument(
+        maxConcurrency > 0, "maxConcurrency must be > 0 (maxConcurrency = %s)", maxConcurrency);
+    return new ParallelDownload(sliceSize, maxConcurrency);
+  }
+
   static PredefinedAcl predefinedAcl(Storage.@NonNull PredefinedAcl predefinedAcl) {
     requireNonNull(predefinedAcl, "predefinedAcl must be non null");
     return new PredefinedAcl(predefinedAcl.getEntry());
@@ -1903,6 +1911,53 @@ final class UnifiedOpts {
     }
   }
 
+  /**
+   * Not a request parameter, instead selects a download of the object as multiple concurrent ranged
+   * reads.
+   *
+   * @see ParallelSlicedDownload
+   */
+  static final class ParallelDownload implements ObjectSourceOpt {
+    private static final long serialVersionUID = 2417096317461744384L;
+    private final long sliceSize;
+    private final int maxConcurrency;
+
+    private ParallelDownload(long sliceSize, int maxConcurrency) {
+      this.sliceSize = sliceSize;
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    long getSliceSize() {
+      return sliceSize;
+    }
+
+    int getMaxConcurrency() {
+      return maxConcurrency;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ParallelDownload)) {
+        return false;
+      }
+      ParallelDownload that = (ParallelDownload) o;
+      return sliceSize == that.sliceSize && maxConcurrency == that.maxConcurrency;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sliceSize, maxConcurrency);
+    }
+
+    @Override
+    public String toString() {
+      return "ParallelDownload{sliceSize=" + sliceSize + ", maxConcurrency=" + maxConcurrency + "}";
+    }
+  }
+
   static final class ServiceAccount extends RpcOptVal<String> implements HmacKeyListOpt {
     private static final long serialVersionUID = 5617709092359745482L;
 
@@ -2907,6 +2962,10 @@ final class UnifiedOpts {
       return filterTo(ReturnRawInputStream.class).findFirst().map(r -> r.val).orElse(true);
     }
 
+    @Nullable ParallelDownload parallelDownload() {
+      return filterTo(ParallelDownload.class).findFirst().orElse(null);
+    }
+
     Decoder<BlobInfo, BlobInfo> clearBlobFields() {
       return filterTo(Fields.class)
           .findFirst()
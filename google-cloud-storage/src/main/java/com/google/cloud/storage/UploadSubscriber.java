@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.BetaApi;
+import com.google.api.core.InternalExtensionOnly;
+import com.google.cloud.storage.BlobAppendableUploadConfig.CloseAction;
+import java.nio.ByteBuffer;
+
+/**
+ * A demand driven sink which uploads each {@link ByteBuffer} it receives to a new object.
+ *
+ * <p>The shape of this interface and its nested {@link Subscription} intentionally mirror {@code
+ * java.util.concurrent.Flow.Subscriber<ByteBuffer>} (and the Reactive Streams specification),
+ * allowing a trivial adapter to be written for whichever reactive library an application uses,
+ * while this library continues to support Java 8.
+ *
+ * <p>Only a small number of buffers are requested from the upstream publisher at a time; further
+ * buffers are requested as previous ones have been accepted by the underlying upload. Ownership of
+ * each {@link ByteBuffer} passes to this subscriber, it must not be modified after being passed to
+ * {@link #onNext(ByteBuffer)}.
+ *
+ * <p>When the upstream publisher signals {@link #onComplete()} the upload is closed, and {@link
+ * #getResult()} will resolve with the resulting object. If the upstream publisher signals {@link
+ * #onError(Throwable)} the upload is abandoned without being finalized and {@link #getResult()}
+ * will resolve with the error.
+ *
+ * @see Storage#uploadSubscriber(BlobInfo, java.util.concurrent.Executor,
+ *     Storage.BlobWriteOption...)
+ * @see Storage#uploadSubscriber(BlobInfo, BlobAppendableUploadConfig,
+ *     java.util.concurrent.Executor, Storage.BlobWriteOption...)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@InternalExtensionOnly
+public interface UploadSubscriber {
+
+  /**
+   * Invoked by the upstream publisher exactly once before any other method. Subsequent invocations
+   * will have their {@code subscription} cancelled.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void onSubscribe(Subscription subscription);
+
+  /**
+   * Invoked by the upstream publisher with the next bytes to upload.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void onNext(ByteBuffer item);
+
+  /**
+   * Invoked by the upstream publisher when it has failed. The upload will be abandoned without
+   * being finalized.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void onError(Throwable throwable);
+
+  /**
+   * Invoked by the upstream publisher once all bytes have been passed to {@link
+   * #onNext(ByteBuffer)}. The upload will be closed once all bytes have been written.
+   *
+   * <p>For an appendable upload, whether the object is finalized is determined by the {@link
+   * CloseAction} of its {@link BlobAppendableUploadConfig}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void onComplete();
+
+  /**
+   * The future which will resolve with the resulting object once the upload completes, or with the
+   * failure which caused it to be abandoned.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  ApiFuture<BlobInfo> getResult();
+
+  /**
+   * Link between the upstream publisher and an {@link UploadSubscriber}. Mirrors {@code
+   * java.util.concurrent.Flow.Subscription}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  interface Subscription {
+
+    /**
+     * Request {@code n} more buffers be passed to {@link UploadSubscriber#onNext(ByteBuffer)}.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void request(long n);
+
+    /**
+     * Request the upstream publisher stop sending buffers.
+     *
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    void cancel();
+  }
+}
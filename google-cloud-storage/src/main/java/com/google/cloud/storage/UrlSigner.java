@@ -0,0 +1,273 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.auth.ServiceAccountSigner;
+import com.google.auth.ServiceAccountSigner.SigningException;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import com.google.common.base.MoreObjects;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Sign the payloads of signed URLs in bulk.
+ *
+ * <p>When the signer is a {@link ServiceAccountCredentials} with a private key, payloads are signed
+ * locally with a {@link Signature} which is initialized once per thread per key, rather than once
+ * per payload. Any other signer, for example {@code ImpersonatedCredentials} or {@code
+ * ComputeEngineCredentials}, is called directly which will perform a remote {@code signBlob}
+ * request.
+ *
+ * <p>Signatures are cached for a short window keyed by signer and payload. The timestamp and
+ * expiration of a payload have second granularity, so signing the same object with the same options
+ * more than once within a second produces an identical payload, and only the first will be signed.
+ *
+ * <p>Bulk signing runs on a bounded pool of daemon threads owned by the signer. Idle threads are
+ * kept for a while, so that the per thread {@link Signature} of consecutive calls is reused.
+ */
+final class UrlSigner {
+  static final Duration DEFAULT_CACHE_WINDOW = Duration.ofSeconds(5);
+  static final long DEFAULT_MAX_CACHED_SIGNATURES = 10_000;
+  static final int DEFAULT_CONCURRENCY = 16;
+  static final int DEFAULT_MAX_THREADS = 64;
+  private static final Duration THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+
+  private static final String SIGNATURE_ALGORITHM = "SHA256withRSA";
+
+  private final Cache<Key, byte[]> signatures;
+  private final Cache<ServiceAccountCredentials, LocalKeySigner> localSigners;
+  private final ExecutorService executor;
+
+  UrlSigner(Duration cacheWindow, long maxCachedSignatures, int maxThreads) {
+    this.signatures =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(cacheWindow.toNanos(), TimeUnit.NANOSECONDS)
+            .maximumSize(maxCachedSignatures)
+            .build();
+    // weakKeys compares keys by identity, and does not keep credentials alive
+    this.localSigners = CacheBuilder.newBuilder().weakKeys().build();
+    ThreadPoolExecutor executor =
+        new ThreadPoolExecutor(
+            maxThreads,
+            maxThreads,
+            THREAD_KEEP_ALIVE.toNanos(),
+            TimeUnit.NANOSECONDS,
+            new LinkedBlockingQueue<>(),
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("c.g.c:g-c-s:sign-urls-%d")
+                .build());
+    // the signer is not closed by its owner, let idle threads exit rather than leak them
+    executor.allowCoreThreadTimeOut(true);
+    this.executor = executor;
+  }
+
+  static UrlSigner create() {
+    return new UrlSigner(DEFAULT_CACHE_WINDOW, DEFAULT_MAX_CACHED_SIGNATURES, DEFAULT_MAX_THREADS);
+  }
+
+  /** Sign {@code payload} with {@code signer}, returning a cached signature if one is present. */
+  byte[] sign(ServiceAccountSigner signer, String payload) {
+    try {
+      return signatures.get(
+          new Key(signer, payload), () -> signUncached(signer, payload.getBytes(UTF_8)));
+    } catch (UncheckedExecutionException | ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      } else if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new SigningException("Failed to sign the provided bytes", (Exception) cause);
+    }
+  }
+
+  /** Sign {@code bytes} with {@code signer}, using its private key directly if available. */
+  byte[] signUncached(ServiceAccountSigner signer, byte[] bytes) {
+    if (signer instanceof ServiceAccountCredentials) {
+      ServiceAccountCredentials credentials = (ServiceAccountCredentials) signer;
+      PrivateKey privateKey = credentials.getPrivateKey();
+      if (privateKey != null) {
+        LocalKeySigner local = localSigners.getIfPresent(credentials);
+        if (local == null) {
+          local = new LocalKeySigner(privateKey);
+          localSigners.put(credentials, local);
+        }
+        return local.sign(bytes);
+      }
+    }
+    return signer.sign(bytes);
+  }
+
+  /**
+   * Apply {@code f} to every element of {@code items} using up to {@code concurrency} threads of
+   * this signer's pool, returning the results in the same order as {@code items}.
+   *
+   * @see #mapConcurrently(List, int, ExecutorService, Function)
+   */
+  <T, R> List<R> mapConcurrently(List<T> items, int concurrency, Function<T, R> f) {
+    return mapConcurrently(items, concurrency, executor, f);
+  }
+
+  /**
+   * Apply {@code f} to every element of {@code items} using up to {@code concurrency} tasks
+   * submitted to {@code executor}, returning the results in the same order as {@code items}.
+   *
+   * <p>If {@code f} throws for any item, no new items will be started and the first failure will be
+   * thrown once all in progress items have completed.
+   */
+  static <T, R> List<R> mapConcurrently(
+      List<T> items, int concurrency, ExecutorService executor, Function<T, R> f) {
+    int size = items.size();
+    int parallelism = Math.min(concurrency, size);
+    if (parallelism <= 1) {
+      List<R> results = new ArrayList<>(size);
+      for (T item : items) {
+        results.add(f.apply(item));
+      }
+      return Collections.unmodifiableList(results);
+    }
+
+    Object[] results = new Object[size];
+    AtomicInteger next = new AtomicInteger();
+    AtomicReference<RuntimeException> failure = new AtomicReference<>();
+    List<Future<?>> workers = new ArrayList<>(parallelism);
+    try {
+      for (int i = 0; i < parallelism; i++) {
+        workers.add(
+            executor.submit(
+                () -> {
+                  int idx;
+                  while (failure.get() == null && (idx = next.getAndIncrement()) < size) {
+                    try {
+                      results[idx] = f.apply(items.get(idx));
+                    } catch (RuntimeException e) {
+                      failure.compareAndSet(null, e);
+                    }
+                  }
+                }));
+      }
+      for (Future<?> worker : workers) {
+        worker.get();
+      }
+    } catch (InterruptedException e) {
+      workers.forEach(w -> w.cancel(true));
+      Thread.currentThread().interrupt();
+      throw StorageException.coalesce(e);
+    } catch (ExecutionException e) {
+      throw StorageException.coalesce(e.getCause());
+    }
+    RuntimeException e = failure.get();
+    if (e != null) {
+      throw e;
+    }
+    //noinspection unchecked
+    return (List<R>) Collections.unmodifiableList(Arrays.asList(results));
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("cachedSignatures", signatures.size())
+        .add("localSigners", localSigners.size())
+        .add("executor", executor)
+        .toString();
+  }
+
+  /**
+   * Sign with a private key, keeping an initialized {@link Signature} per thread. {@link
+   * Signature#sign()} resets the instance, allowing it to be reused for the next payload.
+   */
+  private static final class LocalKeySigner {
+    private final ThreadLocal<Signature> signature;
+
+    private LocalKeySigner(PrivateKey privateKey) {
+      this.signature =
+          ThreadLocal.withInitial(
+              () -> {
+                try {
+                  Signature s = Signature.getInstance(SIGNATURE_ALGORITHM);
+                  s.initSign(privateKey);
+                  return s;
+                } catch (GeneralSecurityException e) {
+                  throw new SigningException("Failed to initialize signature", e);
+                }
+              });
+    }
+
+    private byte[] sign(byte[] bytes) {
+      Signature s = signature.get();
+      try {
+        s.update(bytes);
+        return s.sign();
+      } catch (GeneralSecurityException e) {
+        // discard the instance, its state is unknown
+        signature.remove();
+        throw new SigningException("Failed to sign the provided bytes", e);
+      }
+    }
+  }
+
+  private static final class Key {
+    private final ServiceAccountSigner signer;
+    private final String payload;
+
+    private Key(ServiceAccountSigner signer, String payload) {
+      this.signer = signer;
+      this.payload = payload;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) o;
+      return signer == key.signer && payload.equals(key.payload);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(System.identityHashCode(signer), payload);
+    }
+  }
+}
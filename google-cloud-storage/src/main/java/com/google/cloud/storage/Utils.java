@@ -26,10 +26,12 @@ import com.google.cloud.storage.Conversions.Codec;
 import com.google.cloud.storage.UnifiedOpts.NamedField;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.MapDifference;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Streams;
 import com.google.common.io.BaseEncoding;
 import com.google.common.primitives.Ints;
 import com.google.storage.v2.BucketName;
@@ -44,6 +46,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -327,6 +330,36 @@ final class Utils {
     return BaseEncoding.base64().encode(Ints.toByteArray(from));
   }
 
+  /**
+   * Lazily produce a stream of values from a paginated listing.
+   *
+   * <p>{@code fetch} is invoked with a {@code null} page token for the first page, and then with
+   * each subsequent page token until {@code nextPageToken} returns {@code null} or the empty
+   * string. No page is fetched until the stream is consumed.
+   */
+  static <P, T> Stream<T> pagedStream(
+      Function<@Nullable String, P> fetch,
+      Function<P, @Nullable String> nextPageToken,
+      Function<P, Stream<T>> values) {
+    Iterator<P> pages =
+        new AbstractIterator<P>() {
+          private boolean first = true;
+          private @Nullable String pageToken;
+
+          @Override
+          protected P computeNext() {
+            if (!first && (pageToken == null || pageToken.isEmpty())) {
+              return endOfData();
+            }
+            first = false;
+            P page = fetch.apply(pageToken);
+            pageToken = nextPageToken.apply(page);
+            return page;
+          }
+        };
+    return Streams.stream(pages).flatMap(values);
+  }
+
   /**
    * Type preserving method for {@link GrpcCallContext#merge(ApiCallContext)}
    *
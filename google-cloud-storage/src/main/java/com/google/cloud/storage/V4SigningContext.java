@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.SignedUrlEncodingHelper.Rfc3986UriEncode;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.cloud.storage.Storage.SignUrlOption.SignatureVersion;
+import java.net.URI;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The parts of a V4 signed url which are the same for every object signed with the same {@link
+ * SignatureInfo}, everything except the canonical resource.
+ *
+ * <p>The query string, canonical headers, signed headers and credential scope are encoded once when
+ * the context is created. Producing the payload of a particular resource then only requires hashing
+ * the canonical request, which is fed to the digest directly rather than first being assembled into
+ * a string.
+ *
+ * <p>Instances are immutable and may be shared between threads. The digest and buffers used while
+ * producing a payload are confined to the calling thread and reused by each payload it produces.
+ *
+ * @see <a href="https://cloud.google.com/storage/docs/authentication/canonical-requests">Canonical
+ *     Requests</a>
+ */
+final class V4SigningContext {
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int SHA256_LENGTH = 32;
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private final String queryString;
+  // "<verb>\n"
+  private final byte[] canonicalRequestPrefix;
+  // "\n<query>\n<headers>\n<signed headers>\n<payload hash>"
+  private final byte[] canonicalRequestSuffix;
+  // "GOOG4-RSA-SHA256\n<date>\n<scope>\n"
+  private final char[] payloadPrefix;
+
+  private V4SigningContext(
+      String queryString,
+      byte[] canonicalRequestPrefix,
+      byte[] canonicalRequestSuffix,
+      char[] payloadPrefix) {
+    this.queryString = queryString;
+    this.canonicalRequestPrefix = canonicalRequestPrefix;
+    this.canonicalRequestSuffix = canonicalRequestSuffix;
+    this.payloadPrefix = payloadPrefix;
+  }
+
+  /**
+   * The V4 query string, without the leading {@code ?} and without {@code X-Goog-Signature}.
+   *
+   * @see SignatureInfo#constructV4QueryString()
+   */
+  String getQueryString() {
+    return queryString;
+  }
+
+  /**
+   * Construct the V4 string to sign for {@code canonicalizedResource}.
+   *
+   * @see SignatureInfo#constructUnsignedPayload()
+   */
+  String constructUnsignedPayload(URI canonicalizedResource) {
+    Scratch scratch = SCRATCH.get();
+    MessageDigest sha256 = scratch.sha256;
+    sha256.update(canonicalRequestPrefix);
+    scratch.updateUtf8(canonicalizedResource.toString());
+    sha256.update(canonicalRequestSuffix);
+    byte[] hash = scratch.hash;
+    try {
+      sha256.digest(hash, 0, SHA256_LENGTH);
+    } catch (DigestException e) {
+      throw new IllegalStateException(e);
+    }
+
+    char[] chars = scratch.chars(payloadPrefix.length + SHA256_LENGTH * 2);
+    System.arraycopy(payloadPrefix, 0, chars, 0, payloadPrefix.length);
+    int pos = payloadPrefix.length;
+    for (int i = 0; i < SHA256_LENGTH; i++) {
+      chars[pos++] = HEX_DIGITS[(hash[i] >> 4) & 0xf];
+      chars[pos++] = HEX_DIGITS[hash[i] & 0xf];
+    }
+    return new String(chars, 0, pos);
+  }
+
+  static V4SigningContext of(SignatureInfo info) {
+    Map<String, String> headers = info.getCanonicalizedExtensionHeaders();
+    CanonicalExtensionHeadersSerializer serializer =
+        new CanonicalExtensionHeadersSerializer(SignatureVersion.V4);
+    String signedHeaders = serializer.serializeHeaderNames(headers).toString();
+
+    TreeMap<String, String> sortedParamMap =
+        SignatureInfo.getNonReservedUserQueryParams(info.getQueryParams());
+    // Add in the reserved auth-specific query params.
+    sortedParamMap.put("X-Goog-Algorithm", Rfc3986UriEncode(SignatureInfo.GOOG4_RSA_SHA256, true));
+    sortedParamMap.put(
+        "X-Goog-Credential",
+        Rfc3986UriEncode(
+            info.getAccountEmail() + "/" + info.getYearMonthDay() + SignatureInfo.SCOPE, true));
+    sortedParamMap.put("X-Goog-Date", Rfc3986UriEncode(info.getExactDate(), true));
+    sortedParamMap.put(
+        "X-Goog-Expires", Rfc3986UriEncode(Long.toString(info.getExpiration()), true));
+    sortedParamMap.put("X-Goog-SignedHeaders", Rfc3986UriEncode(signedHeaders, true));
+    // The "X-Goog-Signature" param is not included here.
+    String queryString = SignatureInfo.queryStringFromParamMap(sortedParamMap);
+
+    String userProvidedHash = null;
+    for (Map.Entry<String, String> entry : headers.entrySet()) {
+      if ("X-Goog-Content-SHA256".equalsIgnoreCase(entry.getKey())) {
+        userProvidedHash = entry.getValue();
+        break;
+      }
+    }
+
+    char separator = SignatureInfo.COMPONENT_SEPARATOR;
+    String canonicalRequestPrefix = info.getHttpVerb().name() + separator;
+    String canonicalRequestSuffix =
+        new StringBuilder()
+            .append(separator)
+            .append(queryString)
+            .append(separator)
+            .append(serializer.serialize(headers))
+            .append(separator)
+            .append(signedHeaders)
+            .append(separator)
+            .append(userProvidedHash == null ? "UNSIGNED-PAYLOAD" : userProvidedHash)
+            .toString();
+    String payloadPrefix =
+        SignatureInfo.GOOG4_RSA_SHA256
+            + separator
+            + info.getExactDate()
+            + separator
+            + info.getYearMonthDay()
+            + SignatureInfo.SCOPE
+            + separator;
+
+    return new V4SigningContext(
+        queryString,
+        canonicalRequestPrefix.getBytes(UTF_8),
+        canonicalRequestSuffix.getBytes(UTF_8),
+        payloadPrefix.toCharArray());
+  }
+
+  /** Per thread state reused by every payload produced on that thread. */
+  private static final class Scratch {
+    private final MessageDigest sha256;
+    private final byte[] hash;
+    private byte[] bytes;
+    private char[] chars;
+
+    private Scratch() {
+      try {
+        this.sha256 = MessageDigest.getInstance("SHA-256");
+      } catch (NoSuchAlgorithmException e) {
+        throw new IllegalStateException(e);
+      }
+      this.hash = new byte[SHA256_LENGTH];
+      this.bytes = new byte[256];
+      this.chars = new char[256];
+    }
+
+    /**
+     * Update the digest with the UTF-8 encoding of {@code s}. Encoded resources are nearly always
+     * ascii, which is copied into a reused buffer, anything else is encoded by {@link
+     * String#getBytes}.
+     */
+    private void updateUtf8(String s) {
+      int length = s.length();
+      if (bytes.length < length) {
+        bytes = new byte[Math.max(length, bytes.length * 2)];
+      }
+      for (int i = 0; i < length; i++) {
+        char c = s.charAt(i);
+        if (c >= 0x80) {
+          sha256.update(s.getBytes(UTF_8));
+          return;
+        }
+        bytes[i] = (byte) c;
+      }
+      sha256.update(bytes, 0, length);
+    }
+
+    private char[] chars(int minLength) {
+      if (chars.length < minLength) {
+        chars = new char[minLength];
+      }
+      return chars;
+    }
+  }
+}
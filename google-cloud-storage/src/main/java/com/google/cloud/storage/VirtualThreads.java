@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import com.google.api.core.InternalApi;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Access to virtual threads (JDK 21+) while still targeting Java 8.
+ *
+ * <p>{@code Thread.ofVirtual()} and {@code Thread.Builder} are resolved reflectively once. If they
+ * are not present, or are present but not enabled (JDK 19 and 20 without {@code --enable-preview}),
+ * {@link #isSupported()} returns {@code false}.
+ *
+ * <p>Public only so that it can be shared with {@code transfermanager}, not intended for use
+ * outside of this library.
+ */
+@InternalApi
+public final class VirtualThreads {
+
+  private static final @Nullable Method OF_VIRTUAL;
+  private static final @Nullable Method NAME;
+  private static final @Nullable Method FACTORY;
+  private static final @Nullable Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+  static {
+    Method ofVirtual = null;
+    Method name = null;
+    Method factory = null;
+    Method newThreadPerTaskExecutor = null;
+    try {
+      Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      ofVirtual = Thread.class.getMethod("ofVirtual");
+      name = builderClass.getMethod("name", String.class, long.class);
+      factory = builderClass.getMethod("factory");
+      newThreadPerTaskExecutor =
+          Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+      // probe, the methods exist but throw when virtual threads are a disabled preview feature
+      factory.invoke(ofVirtual.invoke(null));
+    } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+      ofVirtual = null;
+      name = null;
+      factory = null;
+      newThreadPerTaskExecutor = null;
+    }
+    OF_VIRTUAL = ofVirtual;
+    NAME = name;
+    FACTORY = factory;
+    NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+  }
+
+  private VirtualThreads() {}
+
+  /** Whether virtual threads are available in the running JVM. */
+  public static boolean isSupported() {
+    return OF_VIRTUAL != null;
+  }
+
+  /**
+   * Create a factory of virtual threads named {@code namePrefix} followed by an increasing counter.
+   *
+   * @throws UnsupportedOperationException if virtual threads are not available in the running JVM
+   */
+  public static ThreadFactory newThreadFactory(String namePrefix) {
+    if (OF_VIRTUAL == null || NAME == null || FACTORY == null) {
+      throw new UnsupportedOperationException(
+          "Virtual threads are not available, they require Java 21 or newer");
+    }
+    try {
+      Object builder = OF_VIRTUAL.invoke(null);
+      builder = NAME.invoke(builder, namePrefix, 0L);
+      return (ThreadFactory) FACTORY.invoke(builder);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create virtual thread factory", e);
+    }
+  }
+
+  /**
+   * Create an executor which starts a new virtual thread, named as by {@link
+   * #newThreadFactory(String)}, for each task. Virtual threads are cheap to create and should not
+   * be pooled.
+   *
+   * @throws UnsupportedOperationException if virtual threads are not available in the running JVM
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix) {
+    ThreadFactory threadFactory = newThreadFactory(namePrefix);
+    try {
+      //noinspection DataFlowIssue
+      return (ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR.invoke(null, threadFactory);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("Unable to create virtual thread executor", e);
+    }
+  }
+
+  /**
+   * Create an executor which starts a new virtual thread for each task, of which at most {@code
+   * maxConcurrency} will run at a time. Rather than waiting in a queue, a task over the limit waits
+   * for a permit on its own virtual thread, which does not tie up a platform thread.
+   *
+   * @throws UnsupportedOperationException if virtual threads are not available in the running JVM
+   * @see #newThreadPerTaskExecutor(String)
+   */
+  public static ExecutorService newBoundedExecutor(String namePrefix, int maxConcurrency) {
+    return bounded(newThreadPerTaskExecutor(namePrefix), maxConcurrency);
+  }
+
+  /** Run at most {@code maxConcurrency} of the tasks started by {@code delegate} at a time */
+  static ExecutorService bounded(ExecutorService delegate, int maxConcurrency) {
+    return new BoundedExecutorService(delegate, maxConcurrency);
+  }
+
+  private static final class BoundedExecutorService extends AbstractExecutorService {
+    private final ExecutorService delegate;
+    private final Semaphore permits;
+
+    private BoundedExecutorService(ExecutorService delegate, int maxConcurrency) {
+      this.delegate = delegate;
+      this.permits = new Semaphore(maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      delegate.execute(
+          () -> {
+            try {
+              permits.acquire();
+            } catch (InterruptedException e) {
+              // shutdownNow interrupted us before we could start, the task will never run
+              if (command instanceof Future) {
+                ((Future<?>) command).cancel(false);
+              }
+              Thread.currentThread().interrupt();
+              return;
+            }
+            try {
+              command.run();
+            } finally {
+              permits.release();
+            }
+          });
+    }
+
+    @Override
+    public void shutdown() {
+      delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+      return delegate.awaitTermination(timeout, unit);
+    }
+  }
+}
@@ -18,6 +18,7 @@ package com.google.cloud.storage;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.gax.rpc.ApiExceptions;
+import java.io.IOException;
 import java.nio.channels.WritableByteChannel;
 
 interface WritableByteChannelSession<WBC extends WritableByteChannel, ResultT> {
@@ -29,4 +30,10 @@ interface WritableByteChannelSession<WBC extends WritableByteChannel, ResultT> {
   ApiFuture<WBC> openAsync();
 
   ApiFuture<ResultT> getResult();
+
+  /**
+   * Cancel the upload without finalizing the object, if the session supports it. Sessions which can
+   * not be cancelled leave any partial upload to expire.
+   */
+  default void cancel() throws IOException {}
 }
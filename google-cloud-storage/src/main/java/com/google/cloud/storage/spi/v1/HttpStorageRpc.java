@@ -40,8 +40,11 @@ import com.google.api.client.http.HttpTransport;
 import com.google.api.client.http.InputStreamContent;
 import com.google.api.client.http.json.JsonHttpContent;
 import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.JsonToken;
 import com.google.api.client.json.jackson2.JacksonFactory;
 import com.google.api.client.util.Data;
+import com.google.api.core.InternalApi;
 import com.google.api.services.storage.Storage;
 import com.google.api.services.storage.Storage.BucketAccessControls;
 import com.google.api.services.storage.Storage.Buckets;
@@ -487,27 +490,7 @@ public class HttpStorageRpc implements StorageRpc {
     Span span = startSpan(HttpStorageRpcSpans.SPAN_NAME_LIST_OBJECTS);
     Scope scope = tracer.withSpan(span);
     try {
-      Storage.Objects.List list =
-          storage
-              .objects()
-              .list(bucket)
-              .setProjection(DEFAULT_PROJECTION)
-              .setVersions(Option.VERSIONS.getBoolean(options))
-              .setDelimiter(Option.DELIMITER.getString(options))
-              .setStartOffset(Option.START_OFF_SET.getString(options))
-              .setEndOffset(Option.END_OFF_SET.getString(options))
-              .setMatchGlob(Option.MATCH_GLOB.getString(options))
-              .setPrefix(Option.PREFIX.getString(options))
-              .setMaxResults(Option.MAX_RESULTS.getLong(options))
-              .setPageToken(Option.PAGE_TOKEN.getString(options))
-              .setFields(Option.FIELDS.getString(options))
-              .setUserProject(Option.USER_PROJECT.getString(options))
-              .setSoftDeleted(Option.SOFT_DELETED.getBoolean(options))
-              .setIncludeFoldersAsPrefixes(Option.INCLUDE_FOLDERS_AS_PREFIXES.getBoolean(options))
-              .setIncludeTrailingDelimiter(Option.INCLUDE_TRAILING_DELIMITER.getBoolean(options))
-              .setFilter(Option.OBJECT_FILTER.getString(options));
-      setExtraHeaders(list, options);
-      Objects objects = list.execute();
+      Objects objects = listCall(bucket, options).execute();
       Iterable<StorageObject> storageObjects =
           Iterables.concat(
               firstNonNull(objects.getItems(), ImmutableList.<StorageObject>of()),
@@ -524,6 +507,106 @@ public class HttpStorageRpc implements StorageRpc {
     }
   }
 
+  /**
+   * Lists the bucket's blobs, decoding each object with {@code decoder} as the response body is
+   * read rather than first parsing the whole page into an {@link Objects} model.
+   *
+   * <p>Objects are returned in the same order as {@link #list(String, Map)}, all items followed by
+   * any prefixes.
+   *
+   * @throws StorageException upon failure
+   */
+  @InternalApi
+  public <T> Tuple<String, List<T>> list(
+      final String bucket, Map<Option, ?> options, ObjectListDecoder<T> decoder) {
+    Span span = startSpan(HttpStorageRpcSpans.SPAN_NAME_LIST_OBJECTS);
+    Scope scope = tracer.withSpan(span);
+    try {
+      HttpResponse response = listCall(bucket, options).executeUnparsed();
+      try (JsonParser parser =
+          storage
+              .getJsonFactory()
+              .createJsonParser(response.getContent(), response.getContentCharset())) {
+        return decodeObjectsPage(parser, bucket, decoder);
+      } finally {
+        response.disconnect();
+      }
+    } catch (IOException ex) {
+      span.setStatus(Status.UNKNOWN.withDescription(ex.getMessage()));
+      throw translate(ex);
+    } finally {
+      scope.close();
+      span.end(HttpStorageRpcSpans.END_SPAN_OPTIONS);
+    }
+  }
+
+  private Storage.Objects.List listCall(String bucket, Map<Option, ?> options) throws IOException {
+    Storage.Objects.List list =
+        storage
+            .objects()
+            .list(bucket)
+            .setProjection(DEFAULT_PROJECTION)
+            .setVersions(Option.VERSIONS.getBoolean(options))
+            .setDelimiter(Option.DELIMITER.getString(options))
+            .setStartOffset(Option.START_OFF_SET.getString(options))
+            .setEndOffset(Option.END_OFF_SET.getString(options))
+            .setMatchGlob(Option.MATCH_GLOB.getString(options))
+            .setPrefix(Option.PREFIX.getString(options))
+            .setMaxResults(Option.MAX_RESULTS.getLong(options))
+            .setPageToken(Option.PAGE_TOKEN.getString(options))
+            .setFields(Option.FIELDS.getString(options))
+            .setUserProject(Option.USER_PROJECT.getString(options))
+            .setSoftDeleted(Option.SOFT_DELETED.getBoolean(options))
+            .setIncludeFoldersAsPrefixes(Option.INCLUDE_FOLDERS_AS_PREFIXES.getBoolean(options))
+            .setIncludeTrailingDelimiter(Option.INCLUDE_TRAILING_DELIMITER.getBoolean(options))
+            .setFilter(Option.OBJECT_FILTER.getString(options));
+    setExtraHeaders(list, options);
+    return list;
+  }
+
+  private static <T> Tuple<String, List<T>> decodeObjectsPage(
+      JsonParser parser, String bucket, ObjectListDecoder<T> decoder) throws IOException {
+    if (parser.nextToken() != JsonToken.START_OBJECT) {
+      throw new IOException("Expected a JSON object in the list response");
+    }
+    String nextPageToken = null;
+    List<T> items = new ArrayList<>();
+    List<String> prefixes = ImmutableList.of();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String field = parser.getCurrentName();
+      JsonToken value = parser.nextToken();
+      if (value == JsonToken.VALUE_NULL) {
+        continue;
+      }
+      switch (field) {
+        case "nextPageToken":
+          nextPageToken = parser.getText();
+          break;
+        case "items":
+          for (JsonToken t = parser.nextToken(); t != JsonToken.END_ARRAY; t = parser.nextToken()) {
+            if (t == JsonToken.START_OBJECT) {
+              items.add(decoder.decodeObject(parser));
+            }
+          }
+          break;
+        case "prefixes":
+          prefixes = new ArrayList<>();
+          for (JsonToken t = parser.nextToken(); t != JsonToken.END_ARRAY; t = parser.nextToken()) {
+            if (t == JsonToken.VALUE_STRING) {
+              prefixes.add(parser.getText());
+            }
+          }
+          break;
+        default:
+          parser.skipChildren();
+      }
+    }
+    for (String prefix : prefixes) {
+      items.add(decoder.decodePrefix(bucket, prefix));
+    }
+    return Tuple.of(nextPageToken, items);
+  }
+
   private static String detectContentType(StorageObject object, Map<Option, ?> options) {
     String contentType = object.getContentType();
     if (contentType != null) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.spi.v1;
+
+import com.google.api.client.json.JsonParser;
+import com.google.api.core.InternalApi;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Decode the objects of a list response directly from the JSON token stream, rather than first
+ * parsing every object into a {@link com.google.api.services.storage.model.StorageObject}.
+ *
+ * @see HttpStorageRpc#list(String, Map, ObjectListDecoder)
+ */
+@InternalApi
+public interface ObjectListDecoder<T> {
+
+  /**
+   * Decode a single object. {@code parser} is positioned on the {@code START_OBJECT} token of the
+   * object, and must be left positioned on its matching {@code END_OBJECT} token.
+   */
+  T decodeObject(JsonParser parser) throws IOException;
+
+  /** Decode a prefix of a delimited listing, the same as it would be returned as a directory. */
+  T decodePrefix(String bucket, String prefix);
+}
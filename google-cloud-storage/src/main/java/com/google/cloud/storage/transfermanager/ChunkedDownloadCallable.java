@@ -18,16 +18,18 @@ package com.google.cloud.storage.transfermanager;
 
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Crc32cAccumulator;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.cloud.storage.StorageException;
-import com.google.common.io.ByteStreams;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.concurrent.Callable;
 
 final class ChunkedDownloadCallable implements Callable<DownloadSegment> {
+  private static final int COPY_BUFFER_SIZE = 64 * 1024;
 
   private final BlobInfo originalBlob;
 
@@ -39,6 +41,7 @@ final class ChunkedDownloadCallable implements Callable<DownloadSegment> {
 
   private final long endPosition;
   private final Path destPath;
+  private final TransferProgressTracker progressTracker;
 
   ChunkedDownloadCallable(
       Storage storage,
@@ -46,18 +49,21 @@ final class ChunkedDownloadCallable implements Callable<DownloadSegment> {
       BlobSourceOption[] opts,
       Path destPath,
       long startPosition,
-      long endPosition) {
+      long endPosition,
+      TransferProgressTracker progressTracker) {
     this.originalBlob = originalBlob;
     this.storage = storage;
     this.opts = opts;
     this.startPosition = startPosition;
     this.endPosition = endPosition;
     this.destPath = destPath;
+    this.progressTracker = progressTracker;
   }
 
   @Override
   public DownloadSegment call() {
     long bytesCopied = -1L;
+    Crc32cAccumulator crc32c = Crc32cAccumulator.create();
     try (ReadChannel rc = storage.reader(originalBlob.getBlobId(), opts);
         FileChannel wc =
             FileChannel.open(destPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE)) {
@@ -65,7 +71,21 @@ final class ChunkedDownloadCallable implements Callable<DownloadSegment> {
       rc.seek(startPosition);
       rc.limit(endPosition);
       wc.position(startPosition);
-      bytesCopied = ByteStreams.copy(rc, wc);
+      // hash each buffer as it is copied, allowing the object to be validated without reading the
+      // file a second time
+      ByteBuffer buf = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+      long copied = 0;
+      while (rc.read(buf) != -1) {
+        buf.flip();
+        crc32c = crc32c.update(buf);
+        while (buf.hasRemaining()) {
+          wc.write(buf);
+        }
+        copied += buf.limit();
+        progressTracker.addBytes(buf.limit());
+        buf.clear();
+      }
+      bytesCopied = copied;
       long bytesExpected = endPosition - startPosition;
       if (bytesCopied != bytesExpected) {
         return DownloadSegment.newBuilder(originalBlob, TransferStatus.FAILED_TO_FINISH)
@@ -93,6 +113,8 @@ final class ChunkedDownloadCallable implements Callable<DownloadSegment> {
     DownloadSegment result =
         DownloadSegment.newBuilder(originalBlob, TransferStatus.SUCCESS)
             .setOutputDestination(destPath)
+            .setCrc32c(crc32c)
+            .setLength(bytesCopied)
             .build();
     return result;
   }
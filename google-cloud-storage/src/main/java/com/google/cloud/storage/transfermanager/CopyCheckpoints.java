@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.common.base.MoreObjects;
+import com.google.common.hash.Hashing;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Records the progress of the copy of each source object as a file in a directory, allowing a
+ * {@link CopyJob} to be resumed.
+ *
+ * <p>Each file is named after a hash of the source object name, and is replaced atomically whenever
+ * progress is recorded so a crash can never leave a partially written checkpoint.
+ *
+ * <p>A checkpoint holds only the source generation, the destination and the most recent rewrite
+ * token. Nothing about the client, in particular its credentials, is ever written to disk.
+ */
+final class CopyCheckpoints {
+  private static final String SUFFIX = ".ckpt";
+  private static final int VERSION = 1;
+  // far larger than any object name or rewrite token, guards against allocating for a corrupt file
+  private static final int MAX_STRING_BYTES = 1024 * 1024;
+
+  private final Path directory;
+
+  CopyCheckpoints(Path directory) throws IOException {
+    this.directory = Files.createDirectories(directory);
+  }
+
+  /** Load the checkpoint of {@code source}, if one exists and is for the same generation. */
+  @Nullable Checkpoint load(BlobInfo source) {
+    Path path = pathFor(source);
+    try (InputStream in = Files.newInputStream(path);
+        DataInputStream dis = new DataInputStream(in)) {
+      Checkpoint checkpoint = Checkpoint.readFrom(dis);
+      if (checkpoint != null
+          && checkpoint.sourceName.equals(source.getName())
+          && Objects.equals(checkpoint.sourceGeneration, source.getGeneration())) {
+        return checkpoint;
+      }
+      return null;
+    } catch (NoSuchFileException e) {
+      return null;
+    } catch (IOException e) {
+      // an unreadable checkpoint is the same as no checkpoint, the object will be copied again
+      return null;
+    }
+  }
+
+  void save(Checkpoint checkpoint) throws IOException {
+    Path path = pathFor(checkpoint.sourceName);
+    Path tmp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+    try {
+      try (OutputStream out = Files.newOutputStream(tmp);
+          DataOutputStream dos = new DataOutputStream(out)) {
+        checkpoint.writeTo(dos);
+      }
+      try {
+        Files.move(tmp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      } catch (AtomicMoveNotSupportedException e) {
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+      }
+    } finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private Path pathFor(BlobInfo source) {
+    return pathFor(source.getName());
+  }
+
+  private Path pathFor(String sourceName) {
+    String hash = Hashing.sha256().hashString(sourceName, StandardCharsets.UTF_8).toString();
+    return directory.resolve(hash + SUFFIX);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this).add("directory", directory).toString();
+  }
+
+  static final class Checkpoint {
+    private final String sourceName;
+    private final @Nullable Long sourceGeneration;
+    private final @Nullable BlobId destination;
+    private final @Nullable String rewriteToken;
+    private final boolean done;
+
+    private Checkpoint(
+        String sourceName,
+        @Nullable Long sourceGeneration,
+        @Nullable BlobId destination,
+        @Nullable String rewriteToken,
+        boolean done) {
+      this.sourceName = sourceName;
+      this.sourceGeneration = sourceGeneration;
+      this.destination = destination;
+      this.rewriteToken = rewriteToken;
+      this.done = done;
+    }
+
+    /**
+     * The token of the most recent rewrite call, if the rewrite to {@code destination} is in
+     * progress. A token is only valid for the same source and destination.
+     */
+    @Nullable String getRewriteToken(BlobId destination) {
+      if (rewriteToken != null
+          && this.destination != null
+          && this.destination.getBucket().equals(destination.getBucket())
+          && this.destination.getName().equals(destination.getName())) {
+        return rewriteToken;
+      }
+      return null;
+    }
+
+    boolean isDone() {
+      return done;
+    }
+
+    static Checkpoint inProgress(BlobInfo source, BlobId destination, String rewriteToken) {
+      return new Checkpoint(
+          source.getName(), source.getGeneration(), destination, rewriteToken, false);
+    }
+
+    static Checkpoint done(BlobInfo source) {
+      return new Checkpoint(source.getName(), source.getGeneration(), null, null, true);
+    }
+
+    private void writeTo(DataOutputStream out) throws IOException {
+      out.writeInt(VERSION);
+      writeString(out, sourceName);
+      out.writeBoolean(sourceGeneration != null);
+      if (sourceGeneration != null) {
+        out.writeLong(sourceGeneration);
+      }
+      out.writeBoolean(done);
+      out.writeBoolean(rewriteToken != null && destination != null);
+      if (rewriteToken != null && destination != null) {
+        writeString(out, destination.getBucket());
+        writeString(out, destination.getName());
+        writeString(out, rewriteToken);
+      }
+    }
+
+    private static @Nullable Checkpoint readFrom(DataInputStream in) throws IOException {
+      if (in.readInt() != VERSION) {
+        return null;
+      }
+      String sourceName = readString(in);
+      Long sourceGeneration = in.readBoolean() ? in.readLong() : null;
+      boolean done = in.readBoolean();
+      BlobId destination = null;
+      String rewriteToken = null;
+      if (in.readBoolean()) {
+        destination = BlobId.of(readString(in), readString(in));
+        rewriteToken = readString(in);
+      }
+      return new Checkpoint(sourceName, sourceGeneration, destination, rewriteToken, done);
+    }
+
+    // writeUTF is limited to 64KiB, which a rewrite token is not guaranteed to fit within
+    private static void writeString(DataOutputStream out, String s) throws IOException {
+      byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+      out.writeInt(bytes.length);
+      out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+      int length = in.readInt();
+      if (length < 0 || length > MAX_STRING_BYTES) {
+        throw new IOException("Corrupt checkpoint, invalid string length " + length);
+      }
+      byte[] bytes = new byte[length];
+      in.readFully(bytes);
+      return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("sourceName", sourceName)
+          .add("sourceGeneration", sourceGeneration)
+          .add("destination", destination)
+          .add("rewriteToken", rewriteToken)
+          .add("done", done)
+          .toString();
+    }
+  }
+}
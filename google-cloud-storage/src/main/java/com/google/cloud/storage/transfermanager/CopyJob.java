@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.BetaApi;
+import com.google.api.gax.rpc.ApiExceptions;
+import com.google.cloud.storage.StorageException;
+import com.google.common.base.MoreObjects;
+import java.util.List;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parallel copy job sent to Transfer Manager.
+ *
+ * <p>Objects are listed from the source bucket as the job progresses, and are copied as they are
+ * listed. The result of every listed object is available from {@link #getCopyResults()} once the
+ * job is complete.
+ *
+ * <p>If listing the source bucket fails, no further objects are started and {@link
+ * #getCopyResults()} throws a {@link StorageException} once in flight copies complete.
+ *
+ * @see TransferManager#copyObjects(ParallelCopyConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class CopyJob {
+
+  @NonNull private final ApiFuture<List<CopyResult>> copyResults;
+  @NonNull private final ParallelCopyConfig parallelCopyConfig;
+
+  CopyJob(
+      @NonNull ApiFuture<List<CopyResult>> copyResults,
+      @NonNull ParallelCopyConfig parallelCopyConfig) {
+    this.copyResults = copyResults;
+    this.parallelCopyConfig = parallelCopyConfig;
+  }
+
+  /**
+   * The list of {@link CopyResult CopyResults} for each object Transfer Manager copied for this
+   * job. Note calling this method will block the invoking thread until all copies are complete.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull List<CopyResult> getCopyResults() {
+    return ApiExceptions.callAndTranslateApiException(copyResults);
+  }
+
+  /**
+   * The {@link ParallelCopyConfig} used for this CopyJob.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull ParallelCopyConfig getParallelCopyConfig() {
+    return parallelCopyConfig;
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("copyResults", copyResults)
+        .add("parallelCopyConfig", parallelCopyConfig)
+        .toString();
+  }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.BlobInfo;
+import com.google.common.base.MoreObjects;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Result for a single copy performed by Transfer Manager.
+ *
+ * @see Builder
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class CopyResult {
+
+  @NonNull private final BlobInfo input;
+  @MonotonicNonNull private final BlobInfo output;
+  @NonNull private final TransferStatus status;
+  @MonotonicNonNull private final Exception exception;
+
+  private CopyResult(
+      @NonNull BlobInfo input,
+      BlobInfo output,
+      @NonNull TransferStatus status,
+      Exception exception) {
+    this.input = input;
+    this.output = output;
+    this.status = status;
+    this.exception = exception;
+  }
+
+  /**
+   * The {@link BlobInfo} of the source object.
+   *
+   * @see Builder#setInput(BlobInfo)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull BlobInfo getInput() {
+    return input;
+  }
+
+  /**
+   * The {@link BlobInfo} of the destination object. This field will only be populated if the
+   * Transfer was a {@link TransferStatus#SUCCESS SUCCESS}.
+   *
+   * @see Builder#setOutput(BlobInfo)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull BlobInfo getOutput() {
+    checkState(
+        status == TransferStatus.SUCCESS,
+        "getOutput() is only valid when status is SUCCESS but status was %s",
+        status);
+    return output;
+  }
+
+  /**
+   * The status of the copy operation.
+   *
+   * @see TransferStatus
+   * @see Builder#setStatus(TransferStatus)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull TransferStatus getStatus() {
+    return status;
+  }
+
+  /**
+   * The exception produced by a failed copy operation. This field will only be populated if the
+   * Transfer was not {@link TransferStatus#SUCCESS success}ful or {@link TransferStatus#SKIPPED
+   * skipped}
+   *
+   * @see Builder#setException(Exception)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull Exception getException() {
+    checkState(
+        status == TransferStatus.FAILED_TO_FINISH || status == TransferStatus.FAILED_TO_START,
+        "getException() is only valid when an unexpected error has occurred but status was %s",
+        status);
+    return exception;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof CopyResult)) {
+      return false;
+    }
+    CopyResult that = (CopyResult) o;
+    return input.equals(that.input)
+        && Objects.equals(output, that.output)
+        && status == that.status
+        && Objects.equals(exception, that.exception);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(input, output, status, exception);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("input", input)
+        .add("output", output)
+        .add("status", status)
+        .add("exception", exception)
+        .toString();
+  }
+
+  /**
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder(@NonNull BlobInfo input, @NonNull TransferStatus status) {
+    return new Builder(input, status);
+  }
+
+  /**
+   * Builds an instance of CopyResult
+   *
+   * @see CopyResult
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+
+    private @NonNull BlobInfo input;
+    private @MonotonicNonNull BlobInfo output;
+    private @NonNull TransferStatus status;
+    private @MonotonicNonNull Exception exception;
+
+    private Builder(@NonNull BlobInfo input, @NonNull TransferStatus status) {
+      this.input = input;
+      this.status = status;
+    }
+
+    /**
+     * Sets the {@link BlobInfo} of the source object. This field is required.
+     *
+     * @see CopyResult#getInput()
+     * @return the instance of the Builder with the value for input modified.
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setInput(@NonNull BlobInfo input) {
+      this.input = input;
+      return this;
+    }
+
+    /**
+     * Sets the {@link BlobInfo} of the destination object. This field will only be populated if the
+     * Transfer was {@link TransferStatus#SUCCESS success}ful.
+     *
+     * @see CopyResult#getOutput()
+     * @return the instance of the Builder with the value for output modified.
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setOutput(@NonNull BlobInfo output) {
+      this.output = output;
+      return this;
+    }
+
+    /**
+     * Sets the status of the copy. This field is required.
+     *
+     * @see TransferStatus
+     * @return the instance of the Builder with the value for status modified.
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setStatus(@NonNull TransferStatus status) {
+      this.status = status;
+      return this;
+    }
+
+    /**
+     * Sets the Exception produced by a failed copy operation. This field will only be populated if
+     * the Transfer was not {@link TransferStatus#SUCCESS success}ful or {@link
+     * TransferStatus#SKIPPED skipped}
+     *
+     * @see CopyResult#getException()
+     * @return the instance of the Builder with the value for exception modified.
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setException(@NonNull Exception exception) {
+      this.exception = exception;
+      return this;
+    }
+
+    /**
+     * Creates a CopyResult object.
+     *
+     * @return {@link CopyResult}
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public CopyResult build() {
+      checkNotNull(input);
+      checkNotNull(status);
+      if (status == TransferStatus.SUCCESS) {
+        checkNotNull(output);
+      } else if (status == TransferStatus.FAILED_TO_START
+          || status == TransferStatus.FAILED_TO_FINISH) {
+        checkNotNull(exception);
+      }
+      return new CopyResult(input, output, status, exception);
+    }
+  }
+}
@@ -37,18 +37,21 @@ final class DirectDownloadCallable implements Callable<DownloadResult> {
   private final Storage.BlobSourceOption[] opts;
 
   private final Path destPath;
+  private final TransferProgressTracker progressTracker;
 
   DirectDownloadCallable(
       Storage storage,
       BlobInfo originalBlob,
       ParallelDownloadConfig parallelDownloadConfig,
       BlobSourceOption[] opts,
-      Path destPath) {
+      Path destPath,
+      TransferProgressTracker progressTracker) {
     this.originalBlob = originalBlob;
     this.parallelDownloadConfig = parallelDownloadConfig;
     this.storage = storage;
     this.opts = opts;
     this.destPath = destPath;
+    this.progressTracker = progressTracker;
   }
 
   @Override
@@ -64,7 +67,7 @@ final class DirectDownloadCallable implements Callable<DownloadResult> {
                 StandardOpenOption.CREATE,
                 StandardOpenOption.TRUNCATE_EXISTING)) {
       rc.setChunkSize(0);
-      bytesCopied = ByteStreams.copy(rc, wc);
+      bytesCopied = ByteStreams.copy(rc, progressTracker.track(wc));
       if (originalBlob.getSize() != null) {
         if (bytesCopied != originalBlob.getSize()) {
           return DownloadResult.newBuilder(originalBlob, TransferStatus.FAILED_TO_FINISH)
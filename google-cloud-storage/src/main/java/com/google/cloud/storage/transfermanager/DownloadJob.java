@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
 import com.google.api.gax.rpc.ApiExceptions;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
@@ -39,11 +40,15 @@ public final class DownloadJob {
 
   @NonNull private final ParallelDownloadConfig parallelDownloadConfig;
 
+  @NonNull private final TransferProgressTracker progressTracker;
+
   private DownloadJob(
       @NonNull List<ApiFuture<DownloadResult>> downloadResults,
-      @NonNull ParallelDownloadConfig parallelDownloadConfig) {
+      @NonNull ParallelDownloadConfig parallelDownloadConfig,
+      @NonNull TransferProgressTracker progressTracker) {
     this.downloadResults = downloadResults;
     this.parallelDownloadConfig = parallelDownloadConfig;
+    this.progressTracker = progressTracker;
   }
 
   /**
@@ -66,6 +71,18 @@ public final class DownloadJob {
     return parallelDownloadConfig;
   }
 
+  /**
+   * A snapshot of the progress of this job. This method does not block, and may be called as
+   * frequently as desired while the job is running.
+   *
+   * @see ParallelDownloadConfig.Builder#setProgressListener(TransferProgressListener)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull TransferProgress getProgress() {
+    return progressTracker.snapshot();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -105,6 +122,7 @@ public final class DownloadJob {
 
     private @NonNull List<ApiFuture<DownloadResult>> downloadResults;
     private @MonotonicNonNull ParallelDownloadConfig parallelDownloadConfig;
+    private @MonotonicNonNull TransferProgressTracker progressTracker;
 
     private Builder() {
       this.downloadResults = ImmutableList.of();
@@ -133,6 +151,11 @@ public final class DownloadJob {
       return this;
     }
 
+    Builder setProgressTracker(@NonNull TransferProgressTracker progressTracker) {
+      this.progressTracker = progressTracker;
+      return this;
+    }
+
     /**
      * Creates a DownloadJob object.
      *
@@ -141,7 +164,12 @@ public final class DownloadJob {
     public DownloadJob build() {
       checkNotNull(downloadResults);
       checkNotNull(parallelDownloadConfig);
-      return new DownloadJob(downloadResults, parallelDownloadConfig);
+      TransferProgressTracker tracker = progressTracker;
+      if (tracker == null) {
+        // a job assembled outside of TransferManager can only observe when its transfers complete
+        tracker = TransferProgressTracker.completionOf(downloadResults);
+      }
+      return new DownloadJob(downloadResults, parallelDownloadConfig, tracker);
     }
   }
 }
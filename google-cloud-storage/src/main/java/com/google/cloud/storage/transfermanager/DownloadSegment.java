@@ -17,8 +17,10 @@
 package com.google.cloud.storage.transfermanager;
 
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Crc32cAccumulator;
 import java.nio.file.Path;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class DownloadSegment {
   private final BlobInfo input;
@@ -31,17 +33,25 @@ final class DownloadSegment {
 
   private final Long generation;
 
+  private final @Nullable Crc32cAccumulator crc32c;
+
+  private final long length;
+
   private DownloadSegment(
       BlobInfo input,
       Path outputDestination,
       TransferStatus status,
       Exception exception,
-      Long generation) {
+      Long generation,
+      @Nullable Crc32cAccumulator crc32c,
+      long length) {
     this.input = input;
     this.outputDestination = outputDestination;
     this.status = status;
     this.exception = exception;
     this.generation = generation;
+    this.crc32c = crc32c;
+    this.length = length;
   }
 
   public BlobInfo getInput() {
@@ -68,6 +78,16 @@ final class DownloadSegment {
     return generation;
   }
 
+  /** The crc32c of the bytes of this segment, only meaningful when status is SUCCESS */
+  public @Nullable Crc32cAccumulator getCrc32c() {
+    return crc32c;
+  }
+
+  /** The number of bytes in this segment, only meaningful when status is SUCCESS */
+  public long getLength() {
+    return length;
+  }
+
   public DownloadResult toResult() {
     DownloadResult.Builder b = DownloadResult.newBuilder(input, status);
     if (exception != null) {
@@ -96,6 +116,8 @@ final class DownloadSegment {
     private TransferStatus status;
     private Exception exception;
     private Long generation;
+    private @Nullable Crc32cAccumulator crc32c;
+    private long length;
 
     private Builder(BlobInfo input, TransferStatus status) {
       this.input = input;
@@ -127,8 +149,19 @@ final class DownloadSegment {
       return this;
     }
 
+    public Builder setCrc32c(Crc32cAccumulator crc32c) {
+      this.crc32c = crc32c;
+      return this;
+    }
+
+    public Builder setLength(long length) {
+      this.length = length;
+      return this;
+    }
+
     public DownloadSegment build() {
-      return new DownloadSegment(input, outputDestination, status, exception, generation);
+      return new DownloadSegment(
+          input, outputDestination, status, exception, generation, crc32c, length);
     }
   }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Utilities for reasoning about ranges of object names.
+ *
+ * <p>Cloud Storage orders object names lexicographically by their UTF-8 bytes, which is equivalent
+ * to ordering by unicode code point. {@link String#compareTo(String)} orders by UTF-16 code unit,
+ * which differs for supplementary characters, so all comparisons here are performed on code points.
+ */
+final class KeyRanges {
+
+  /** Lowest code point we will synthesize when room allows, the ASCII space character. */
+  private static final int MIN_PRINTABLE = 0x20;
+
+  /**
+   * When a range has no upper bound, first attempt to split within printable ASCII, where the vast
+   * majority of object names live, rather than at the midpoint of the entire unicode space.
+   */
+  private static final int SOFT_LIMIT = 0x7F;
+
+  private static final int CODE_POINT_LIMIT = Character.MAX_CODE_POINT + 1;
+
+  private KeyRanges() {}
+
+  /** Compare two object names in the same order Cloud Storage lists them. */
+  static int compare(String a, String b) {
+    int i = 0;
+    int j = 0;
+    while (i < a.length() && j < b.length()) {
+      int ca = a.codePointAt(i);
+      int cb = b.codePointAt(j);
+      if (ca != cb) {
+        return Integer.compare(ca, cb);
+      }
+      i += Character.charCount(ca);
+      j += Character.charCount(cb);
+    }
+    return Integer.compare(a.length() - i, b.length() - j);
+  }
+
+  /**
+   * Compute the exclusive upper bound of all names which begin with {@code prefix}.
+   *
+   * @return the upper bound, or {@code null} if {@code prefix} is empty or there is no bound
+   */
+  static @Nullable String prefixUpperBound(String prefix) {
+    int[] cps = prefix.codePoints().toArray();
+    for (int i = cps.length - 1; i >= 0; i--) {
+      int next = cps[i] + 1;
+      if (next == Character.MIN_SURROGATE) {
+        next = Character.MAX_SURROGATE + 1;
+      }
+      if (next < CODE_POINT_LIMIT) {
+        cps[i] = next;
+        return new String(cps, 0, i + 1);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Compute a name {@code m} such that {@code lo < m < hi}, suitable for splitting the range {@code
+   * (lo, hi)} in two.
+   *
+   * <p>The split point is placed at the first code point where {@code lo} and {@code hi} differ,
+   * meaning it is coarse for wide ranges and becomes progressively finer as a range is repeatedly
+   * split.
+   *
+   * @param hi the exclusive upper bound of the range, {@code null} if the range is unbounded
+   * @return the split point, or {@code null} if no name exists between {@code lo} and {@code hi}
+   */
+  static @Nullable String midpoint(String lo, @Nullable String hi) {
+    int[] a = lo.codePoints().toArray();
+    int[] b = hi == null ? null : hi.codePoints().toArray();
+    StringBuilder sb = new StringBuilder();
+    for (int k = 0; ; k++) {
+      // -1 represents the end of a string, which sorts before any code point
+      int ca = k < a.length ? a[k] : -1;
+      int cb;
+      if (b == null) {
+        cb = ca < SOFT_LIMIT - 1 ? SOFT_LIMIT : CODE_POINT_LIMIT;
+      } else {
+        cb = k < b.length ? b[k] : -1;
+      }
+
+      if (ca == cb) {
+        if (ca == -1) {
+          return null;
+        }
+        sb.appendCodePoint(ca);
+        continue;
+      } else if (ca > cb) {
+        return null;
+      }
+
+      int low = ca < MIN_PRINTABLE - 1 && cb - (MIN_PRINTABLE - 1) >= 2 ? MIN_PRINTABLE - 1 : ca;
+      int c = between(low, cb);
+      if (c >= 0) {
+        return sb.appendCodePoint(c).toString();
+      } else if (ca == -1) {
+        return null;
+      }
+      // there is no code point strictly between ca and cb, however every name which begins with
+      // sb + ca sorts before hi. Continue searching for a point after the remainder of lo.
+      sb.appendCodePoint(ca);
+      b = null;
+    }
+  }
+
+  /** Select a valid code point strictly between {@code lo} and {@code hi}, or -1 if none exists. */
+  private static int between(int lo, int hi) {
+    if (hi - lo < 2) {
+      return -1;
+    }
+    int c = lo + (hi - lo) / 2;
+    if (Character.MIN_SURROGATE <= c && c <= Character.MAX_SURROGATE) {
+      if (Character.MAX_SURROGATE + 1 < hi) {
+        return Character.MAX_SURROGATE + 1;
+      } else if (lo < Character.MIN_SURROGATE - 1) {
+        return Character.MIN_SURROGATE - 1;
+      }
+      return -1;
+    }
+    return c;
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.StorageException;
+import com.google.common.base.MoreObjects;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * A parallel list job sent to Transfer Manager.
+ *
+ * <p>Results are produced by list requests running in the background and are consumed by iterating
+ * this job. A ListJob can only be iterated once, and is not safe for use by multiple consuming
+ * threads.
+ *
+ * <p>Once results are no longer needed, the job should be {@link #close() closed} to cancel any
+ * outstanding list requests.
+ *
+ * <p>If any list request fails, all outstanding list requests are cancelled and a {@link
+ * StorageException} is thrown from the iterator.
+ *
+ * @see TransferManager#listBlobs(ParallelListConfig)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class ListJob implements Iterable<BlobInfo>, AutoCloseable {
+
+  @NonNull private final ParallelListing listing;
+  @NonNull private final ParallelListConfig parallelListConfig;
+
+  ListJob(@NonNull ParallelListing listing, @NonNull ParallelListConfig parallelListConfig) {
+    this.listing = listing;
+    this.parallelListConfig = parallelListConfig;
+  }
+
+  /**
+   * The {@link ParallelListConfig} used for this ListJob.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull ParallelListConfig getParallelListConfig() {
+    return parallelListConfig;
+  }
+
+  /**
+   * An iterator over the listed objects. Calls to {@link Iterator#hasNext()} will block the
+   * invoking thread until the next result is available.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public @NonNull Iterator<BlobInfo> iterator() {
+    return listing;
+  }
+
+  /**
+   * A sequential stream of the listed objects. Closing the stream will close this job.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull Stream<BlobInfo> stream() {
+    int characteristics = Spliterator.NONNULL;
+    if (parallelListConfig.isOrdered()) {
+      characteristics |= Spliterator.ORDERED;
+    }
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(listing, characteristics), false)
+        .onClose(this::close);
+  }
+
+  /**
+   * Cancel any outstanding list requests and discard any buffered results.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @Override
+  public void close() {
+    listing.close();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("listing", listing)
+        .add("parallelListConfig", parallelListConfig)
+        .toString();
+  }
+}
@@ -41,18 +41,21 @@ final class ParallelCompositeUploadCallable implements Callable<UploadResult> {
   private final ParallelUploadConfig parallelUploadConfig;
 
   private final Storage.BlobWriteOption[] opts;
+  private final TransferProgressTracker progressTracker;
 
   public ParallelCompositeUploadCallable(
       Storage storage,
       BlobInfo originalBlob,
       Path sourceFile,
       ParallelUploadConfig parallelUploadConfig,
-      BlobWriteOption[] opts) {
+      BlobWriteOption[] opts,
+      TransferProgressTracker progressTracker) {
     this.storage = storage;
     this.originalBlob = originalBlob;
     this.sourceFile = sourceFile;
     this.parallelUploadConfig = parallelUploadConfig;
     this.opts = opts;
+    this.progressTracker = progressTracker;
   }
 
   public UploadResult call() {
@@ -63,7 +66,7 @@ final class ParallelCompositeUploadCallable implements Callable<UploadResult> {
     BlobWriteSession session = storage.blobWriteSession(originalBlob, opts);
     try (WritableByteChannel writableByteChannel = session.open();
         FileChannel fc = FileChannel.open(sourceFile, StandardOpenOption.READ)) {
-      ByteStreams.copy(fc, writableByteChannel);
+      ByteStreams.copy(fc, progressTracker.track(writableByteChannel));
     } catch (StorageException e) {
       if (parallelUploadConfig.isSkipIfExists() && e.getCode() == 412) {
         return UploadResult.newBuilder(originalBlob, TransferStatus.SKIPPED)
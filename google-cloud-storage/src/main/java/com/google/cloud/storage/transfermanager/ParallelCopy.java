@@ -0,0 +1,336 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.CopyWriter;
+import com.google.cloud.storage.RewriteTokens;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.cloud.storage.Storage.CopyRequest;
+import com.google.cloud.storage.StorageClass;
+import com.google.cloud.storage.StorageException;
+import com.google.cloud.storage.transfermanager.CopyCheckpoints.Checkpoint;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Copy all objects with a prefix from one bucket to another using RewriteObject.
+ *
+ * <p>The source bucket is listed lazily, page by page, by the workers performing the copies. A
+ * worker takes the next listed object, and while more objects remain starts another worker up to
+ * {@code maxWorkers}. When the current page is used up one worker fetches the next page, outside of
+ * the lock, while any other worker which runs out of objects exits rather than waiting on it. This
+ * bounds the number of concurrent rewrites without ever holding more than a page of the listing in
+ * memory, and without tying up executor threads waiting on the listing.
+ */
+final class ParallelCopy {
+  private static final long ONE_MIB = 1024 * 1024;
+
+  private final Storage storage;
+  private final ParallelCopyConfig config;
+  private final @Nullable CopyCheckpoints checkpoints;
+  private final Executor executor;
+  private final int maxWorkers;
+  private final SettableApiFuture<List<CopyResult>> result;
+
+  private final Object lock = new Object();
+  // guarded by lock
+  private final List<CopyResult> results;
+  private @Nullable Page<Blob> page;
+  private @Nullable Iterator<Blob> sources;
+  private boolean fetching;
+  private boolean exhausted;
+  private boolean rejected;
+  private int activeWorkers;
+
+  private volatile @Nullable Throwable failure;
+
+  private ParallelCopy(
+      Storage storage,
+      ParallelCopyConfig config,
+      @Nullable CopyCheckpoints checkpoints,
+      Executor executor,
+      int maxWorkers) {
+    this.storage = storage;
+    this.config = config;
+    this.checkpoints = checkpoints;
+    this.executor = executor;
+    this.maxWorkers = maxWorkers;
+    this.result = SettableApiFuture.create();
+    this.results = new ArrayList<>();
+  }
+
+  static ApiFuture<List<CopyResult>> start(
+      Storage storage, ParallelCopyConfig config, Executor executor, int maxWorkers) {
+    CopyCheckpoints checkpoints = null;
+    if (config.getCheckpointDirectory() != null) {
+      try {
+        checkpoints = new CopyCheckpoints(config.getCheckpointDirectory());
+      } catch (IOException e) {
+        return ApiFutures.immediateFailedFuture(StorageException.translate(e));
+      }
+    }
+    ParallelCopy copy = new ParallelCopy(storage, config, checkpoints, executor, maxWorkers);
+    synchronized (copy.lock) {
+      copy.activeWorkers++;
+    }
+    try {
+      executor.execute(copy::work);
+    } catch (RejectedExecutionException e) {
+      copy.fail(e);
+      copy.workerDone();
+    }
+    return copy.result;
+  }
+
+  private void work() {
+    try {
+      BlobInfo source;
+      while ((source = next()) != null) {
+        CopyResult r = copy(source);
+        synchronized (lock) {
+          results.add(r);
+        }
+      }
+    } catch (Throwable t) {
+      fail(t);
+    } finally {
+      workerDone();
+    }
+  }
+
+  /**
+   * Take the next object from the listing, starting another worker if more objects remain and we
+   * are not yet at capacity. If the current page is used up, either fetch the next page or, if
+   * another worker is already fetching it, return {@code null} so this worker exits.
+   */
+  private @Nullable BlobInfo next() {
+    while (true) {
+      Page<Blob> current;
+      synchronized (lock) {
+        if (exhausted || failure != null || result.isCancelled()) {
+          return null;
+        }
+        if (sources != null && sources.hasNext()) {
+          BlobInfo next = sources.next();
+          if (!rejected && activeWorkers < maxWorkers && sources.hasNext()) {
+            activeWorkers++;
+            try {
+              executor.execute(this::work);
+            } catch (RejectedExecutionException e) {
+              // carry on with the workers we already have
+              activeWorkers--;
+              rejected = true;
+            }
+          }
+          return next;
+        }
+        if (fetching) {
+          return null;
+        }
+        if (page != null && !page.hasNextPage()) {
+          exhausted = true;
+          return null;
+        }
+        fetching = true;
+        current = page;
+      }
+      Page<Blob> fetched = null;
+      try {
+        fetched = current == null ? list() : current.getNextPage();
+      } finally {
+        synchronized (lock) {
+          fetching = false;
+          if (fetched == null) {
+            exhausted = true;
+          } else {
+            page = fetched;
+            sources = fetched.getValues().iterator();
+          }
+        }
+      }
+    }
+  }
+
+  private Page<Blob> list() {
+    String prefix = config.getPrefix();
+    BlobListOption[] opts =
+        prefix.isEmpty()
+            ? new BlobListOption[0]
+            : new BlobListOption[] {BlobListOption.prefix(prefix)};
+    return storage.list(config.getSourceBucketName(), opts);
+  }
+
+  private CopyResult copy(BlobInfo source) {
+    String name = source.getName();
+    BlobId destination =
+        BlobId.of(
+            config.getDestinationBucketName(),
+            config.getDestinationPrefix() + name.substring(config.getPrefix().length()));
+
+    Checkpoint checkpoint = checkpoints == null ? null : checkpoints.load(source);
+    if (checkpoint != null && checkpoint.isDone()) {
+      return CopyResult.newBuilder(source, TransferStatus.SKIPPED).build();
+    }
+
+    boolean started = false;
+    try {
+      if (config.isSkipIfIdentical()) {
+        Blob existing = storage.get(destination);
+        if (existing != null && isIdentical(source, existing)) {
+          if (checkpoints != null) {
+            checkpoints.save(Checkpoint.done(source));
+          }
+          return CopyResult.newBuilder(source, TransferStatus.SKIPPED).build();
+        }
+      }
+
+      CopyRequest request = newRequest(source, destination);
+      CopyWriter writer = null;
+      String rewriteToken = checkpoint == null ? null : checkpoint.getRewriteToken(destination);
+      if (rewriteToken != null) {
+        writer = resume(request, rewriteToken);
+      }
+      if (writer == null) {
+        writer = storage.copy(request);
+      }
+      started = true;
+      record(source, destination, writer);
+      while (!writer.isDone()) {
+        writer.copyChunk();
+        record(source, destination, writer);
+      }
+      Blob copied = writer.getResult();
+      if (checkpoints != null) {
+        checkpoints.save(Checkpoint.done(source));
+      }
+      return CopyResult.newBuilder(source, TransferStatus.SUCCESS).setOutput(copied).build();
+    } catch (Exception e) {
+      TransferStatus status =
+          started ? TransferStatus.FAILED_TO_FINISH : TransferStatus.FAILED_TO_START;
+      return CopyResult.newBuilder(source, status).setException(e).build();
+    }
+  }
+
+  /**
+   * Continue a rewrite from its recorded rewrite token. If the token is no longer valid, {@code
+   * null} is returned and the rewrite will start over.
+   */
+  private @Nullable CopyWriter resume(CopyRequest request, String rewriteToken) {
+    try {
+      return RewriteTokens.resume(storage, request, rewriteToken);
+    } catch (StorageException e) {
+      return null;
+    }
+  }
+
+  private void record(BlobInfo source, BlobId destination, CopyWriter writer) throws IOException {
+    if (checkpoints == null || writer.isDone()) {
+      return;
+    }
+    String rewriteToken = RewriteTokens.get(writer);
+    if (rewriteToken != null) {
+      checkpoints.save(Checkpoint.inProgress(source, destination, rewriteToken));
+    }
+  }
+
+  private CopyRequest newRequest(BlobInfo source, BlobId destination) {
+    BlobId sourceId =
+        BlobId.of(config.getSourceBucketName(), source.getName(), source.getGeneration());
+    CopyRequest.Builder b = CopyRequest.newBuilder().setSource(sourceId);
+    StorageClass storageClass = config.getDestinationStorageClass();
+    if (storageClass == null) {
+      b.setTarget(destination);
+    } else {
+      // providing a target resource replaces the metadata of the source, carry over the user
+      // provided metadata along with the new storage class
+      b.setTarget(
+          BlobInfo.newBuilder(destination)
+              .setStorageClass(storageClass)
+              .setContentType(source.getContentType())
+              .setContentEncoding(source.getContentEncoding())
+              .setContentDisposition(source.getContentDisposition())
+              .setContentLanguage(source.getContentLanguage())
+              .setCacheControl(source.getCacheControl())
+              .setCustomTimeOffsetDateTime(source.getCustomTimeOffsetDateTime())
+              .setMetadata(source.getMetadata())
+              .build());
+    }
+    long maxBytesRewrittenPerCall = config.getMaxBytesRewrittenPerCall();
+    if (maxBytesRewrittenPerCall > 0) {
+      b.setMegabytesCopiedPerChunk(maxBytesRewrittenPerCall / ONE_MIB);
+    }
+    return b.build();
+  }
+
+  private boolean isIdentical(BlobInfo source, BlobInfo existing) {
+    StorageClass storageClass = config.getDestinationStorageClass();
+    return source.getCrc32c() != null
+        && source.getCrc32c().equals(existing.getCrc32c())
+        && Objects.equals(source.getSize(), existing.getSize())
+        && (storageClass == null || storageClass.equals(existing.getStorageClass()));
+  }
+
+  private void fail(Throwable t) {
+    synchronized (lock) {
+      if (failure == null) {
+        failure = t;
+      }
+    }
+  }
+
+  private void workerDone() {
+    List<CopyResult> done;
+    synchronized (lock) {
+      if (--activeWorkers > 0) {
+        return;
+      }
+      done = ImmutableList.copyOf(results);
+    }
+    Throwable t = failure;
+    if (t != null) {
+      result.setException(t);
+    } else {
+      result.set(done);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("config", config)
+        .add("maxWorkers", maxWorkers)
+        .add("exhausted", exhausted)
+        .add("failure", failure)
+        .toString();
+  }
+}
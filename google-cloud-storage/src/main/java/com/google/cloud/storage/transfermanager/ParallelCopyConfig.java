@@ -0,0 +1,430 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.StorageClass;
+import com.google.common.base.MoreObjects;
+import java.nio.file.Path;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Configuration for performing a Parallel Copy with {@link TransferManager}.
+ *
+ * @see Builder
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class ParallelCopyConfig {
+
+  private static final long ONE_MIB = 1024 * 1024;
+
+  @NonNull private final String sourceBucketName;
+  @NonNull private final String prefix;
+  @NonNull private final String destinationBucketName;
+  @NonNull private final String destinationPrefix;
+  private final long maxBytesRewrittenPerCall;
+  @Nullable private final StorageClass destinationStorageClass;
+  private final boolean skipIfIdentical;
+  @Nullable private final Path checkpointDirectory;
+
+  private ParallelCopyConfig(
+      @NonNull String sourceBucketName,
+      @NonNull String prefix,
+      @NonNull String destinationBucketName,
+      @NonNull String destinationPrefix,
+      long maxBytesRewrittenPerCall,
+      @Nullable StorageClass destinationStorageClass,
+      boolean skipIfIdentical,
+      @Nullable Path checkpointDirectory) {
+    this.sourceBucketName = sourceBucketName;
+    this.prefix = prefix;
+    this.destinationBucketName = destinationBucketName;
+    this.destinationPrefix = destinationPrefix;
+    this.maxBytesRewrittenPerCall = maxBytesRewrittenPerCall;
+    this.destinationStorageClass = destinationStorageClass;
+    this.skipIfIdentical = skipIfIdentical;
+    this.checkpointDirectory = checkpointDirectory;
+  }
+
+  /**
+   * The bucket objects are being copied from.
+   *
+   * @see Builder#setSourceBucketName(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getSourceBucketName() {
+    return sourceBucketName;
+  }
+
+  /**
+   * Only objects whose names begin with this prefix will be copied.
+   *
+   * @see Builder#setPrefix(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * The bucket objects are being copied to.
+   *
+   * @see Builder#setDestinationBucketName(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getDestinationBucketName() {
+    return destinationBucketName;
+  }
+
+  /**
+   * The prefix which replaces {@link #getPrefix() prefix} in the name of each destination object.
+   *
+   * @see Builder#setDestinationPrefix(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getDestinationPrefix() {
+    return destinationPrefix;
+  }
+
+  /**
+   * The maximum number of bytes which will be rewritten by each RewriteObject call, {@code 0} if
+   * the service default is used.
+   *
+   * @see Builder#setMaxBytesRewrittenPerCall(long)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getMaxBytesRewrittenPerCall() {
+    return maxBytesRewrittenPerCall;
+  }
+
+  /**
+   * The storage class of each destination object, {@code null} if the storage class of the source
+   * object is kept.
+   *
+   * @see Builder#setDestinationStorageClass(StorageClass)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable StorageClass getDestinationStorageClass() {
+    return destinationStorageClass;
+  }
+
+  /**
+   * Whether objects which already exist in the destination with the same size and CRC32C will be
+   * skipped.
+   *
+   * @see Builder#setSkipIfIdentical(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isSkipIfIdentical() {
+    return skipIfIdentical;
+  }
+
+  /**
+   * The directory the progress of each copy is recorded in, allowing an interrupted job to be
+   * resumed. {@code null} if progress is not recorded.
+   *
+   * @see Builder#setCheckpointDirectory(Path)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Path getCheckpointDirectory() {
+    return checkpointDirectory;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ParallelCopyConfig)) {
+      return false;
+    }
+    ParallelCopyConfig that = (ParallelCopyConfig) o;
+    return maxBytesRewrittenPerCall == that.maxBytesRewrittenPerCall
+        && skipIfIdentical == that.skipIfIdentical
+        && sourceBucketName.equals(that.sourceBucketName)
+        && prefix.equals(that.prefix)
+        && destinationBucketName.equals(that.destinationBucketName)
+        && destinationPrefix.equals(that.destinationPrefix)
+        && Objects.equals(destinationStorageClass, that.destinationStorageClass)
+        && Objects.equals(checkpointDirectory, that.checkpointDirectory);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        sourceBucketName,
+        prefix,
+        destinationBucketName,
+        destinationPrefix,
+        maxBytesRewrittenPerCall,
+        destinationStorageClass,
+        skipIfIdentical,
+        checkpointDirectory);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("sourceBucketName", sourceBucketName)
+        .add("prefix", prefix)
+        .add("destinationBucketName", destinationBucketName)
+        .add("destinationPrefix", destinationPrefix)
+        .add("maxBytesRewrittenPerCall", maxBytesRewrittenPerCall)
+        .add("destinationStorageClass", destinationStorageClass)
+        .add("skipIfIdentical", skipIfIdentical)
+        .add("checkpointDirectory", checkpointDirectory)
+        .toString();
+  }
+
+  /**
+   * Builds an instance of ParallelCopyConfig.
+   *
+   * @see ParallelCopyConfig
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds an instance of ParallelCopyConfig.
+   *
+   * @see ParallelCopyConfig
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+
+    @NonNull private String sourceBucketName;
+    @NonNull private String prefix;
+    @NonNull private String destinationBucketName;
+    @Nullable private String destinationPrefix;
+    private long maxBytesRewrittenPerCall;
+    @Nullable private StorageClass destinationStorageClass;
+    private boolean skipIfIdentical;
+    @Nullable private Path checkpointDirectory;
+
+    private Builder() {
+      this.sourceBucketName = "";
+      this.prefix = "";
+      this.destinationBucketName = "";
+      this.destinationPrefix = null;
+      this.maxBytesRewrittenPerCall = 0;
+      this.destinationStorageClass = null;
+      this.skipIfIdentical = true;
+      this.checkpointDirectory = null;
+    }
+
+    /**
+     * Sets the bucket Transfer Manager will copy objects from. This field is required.
+     *
+     * @return the builder instance with the value for sourceBucketName modified.
+     * @see ParallelCopyConfig#getSourceBucketName()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setSourceBucketName(@NonNull String sourceBucketName) {
+      this.sourceBucketName = sourceBucketName;
+      return this;
+    }
+
+    /**
+     * Sets the prefix which the names of all objects to copy must begin with.
+     *
+     * <p><i>Default:</i> {@code ""}
+     *
+     * @return the builder instance with the value for prefix modified.
+     * @see ParallelCopyConfig#getPrefix()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setPrefix(@NonNull String prefix) {
+      this.prefix = prefix;
+      return this;
+    }
+
+    /**
+     * Sets the bucket Transfer Manager will copy objects to. This field is required, and may be the
+     * same as the source bucket, for example to change the storage class of objects.
+     *
+     * @return the builder instance with the value for destinationBucketName modified.
+     * @see ParallelCopyConfig#getDestinationBucketName()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setDestinationBucketName(@NonNull String destinationBucketName) {
+      this.destinationBucketName = destinationBucketName;
+      return this;
+    }
+
+    /**
+     * Sets the prefix which replaces {@link #setPrefix(String) prefix} in the name of each
+     * destination object. For example, copying {@code logs/2024/a.txt} with a prefix of {@code
+     * logs/} and a destination prefix of {@code archive/logs/} will create {@code
+     * archive/logs/2024/a.txt}.
+     *
+     * <p>When copying within the same bucket, the destination prefix must not overlap the source
+     * prefix, that is neither may begin with the other, unless they are equal.
+     *
+     * <p><i>Default:</i> the value of {@link #setPrefix(String) prefix}, object names are not
+     * modified
+     *
+     * @return the builder instance with the value for destinationPrefix modified.
+     * @see ParallelCopyConfig#getDestinationPrefix()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setDestinationPrefix(@NonNull String destinationPrefix) {
+      this.destinationPrefix = destinationPrefix;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes which will be rewritten by each RewriteObject call. Large
+     * objects copied between locations or storage classes take multiple calls, the progress of the
+     * copy is recorded after each call. Must be a multiple of 1 MiB, or {@code 0} to use the
+     * service default.
+     *
+     * <p><i>Default:</i> {@code 0}
+     *
+     * @return the builder instance with the value for maxBytesRewrittenPerCall modified.
+     * @see ParallelCopyConfig#getMaxBytesRewrittenPerCall()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setMaxBytesRewrittenPerCall(long maxBytesRewrittenPerCall) {
+      this.maxBytesRewrittenPerCall = maxBytesRewrittenPerCall;
+      return this;
+    }
+
+    /**
+     * Sets the storage class of each destination object. When set, the other user provided metadata
+     * of the source object (content type, content encoding, content disposition, content language,
+     * cache control, custom time and custom metadata) is carried over to the destination object.
+     *
+     * <p>Setting a storage class allows objects to be rewritten in place, with the same destination
+     * bucket and prefix as the source.
+     *
+     * <p><i>Default:</i> {@code null}, the storage class of the source object is kept
+     *
+     * @return the builder instance with the value for destinationStorageClass modified.
+     * @see ParallelCopyConfig#getDestinationStorageClass()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setDestinationStorageClass(@Nullable StorageClass destinationStorageClass) {
+      this.destinationStorageClass = destinationStorageClass;
+      return this;
+    }
+
+    /**
+     * Sets whether an object which already exists in the destination with the same size and CRC32C
+     * as the source object (and the {@link #setDestinationStorageClass(StorageClass) destination
+     * storage class}, if set) will be {@link TransferStatus#SKIPPED SKIPPED} rather than copied
+     * again.
+     *
+     * <p><i>Default:</i> {@code true}
+     *
+     * @return the builder instance with the value for skipIfIdentical modified.
+     * @see ParallelCopyConfig#isSkipIfIdentical()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setSkipIfIdentical(boolean skipIfIdentical) {
+      this.skipIfIdentical = skipIfIdentical;
+      return this;
+    }
+
+    /**
+     * Sets a directory the progress of each copy will be recorded in. Running a job again with the
+     * same checkpoint directory will skip any source object generation which was already copied,
+     * and when using the JSON transport will resume any partially rewritten object from its last
+     * rewrite token.
+     *
+     * <p><i>Default:</i> {@code null}, progress is not recorded
+     *
+     * @return the builder instance with the value for checkpointDirectory modified.
+     * @see ParallelCopyConfig#getCheckpointDirectory()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setCheckpointDirectory(@Nullable Path checkpointDirectory) {
+      this.checkpointDirectory =
+          checkpointDirectory == null ? null : checkpointDirectory.toAbsolutePath().normalize();
+      return this;
+    }
+
+    /**
+     * Creates a ParallelCopyConfig object.
+     *
+     * @return {@link ParallelCopyConfig}
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public ParallelCopyConfig build() {
+      checkNotNull(sourceBucketName);
+      checkNotNull(prefix);
+      checkNotNull(destinationBucketName);
+      checkArgument(!sourceBucketName.isEmpty(), "sourceBucketName must be non empty");
+      checkArgument(!destinationBucketName.isEmpty(), "destinationBucketName must be non empty");
+      checkArgument(
+          maxBytesRewrittenPerCall >= 0 && maxBytesRewrittenPerCall % ONE_MIB == 0,
+          "maxBytesRewrittenPerCall must be a non-negative multiple of 1 MiB, but was %s",
+          maxBytesRewrittenPerCall);
+      String dstPrefix = destinationPrefix == null ? prefix : destinationPrefix;
+      boolean sameBucket = sourceBucketName.equals(destinationBucketName);
+      checkArgument(
+          !sameBucket || !prefix.equals(dstPrefix) || destinationStorageClass != null,
+          "Copying objects onto themselves requires a destination storage class, otherwise either"
+              + " the destination bucket or destination prefix must differ from the source");
+      // the source is listed as the copy progresses, copies written under the source prefix would
+      // themselves be listed and copied again
+      checkArgument(
+          !sameBucket
+              || prefix.equals(dstPrefix)
+              || !(dstPrefix.startsWith(prefix) || prefix.startsWith(dstPrefix)),
+          "Within the same bucket the destination prefix must not overlap the source prefix"
+              + " (prefix: '%s', destinationPrefix: '%s')",
+          prefix,
+          dstPrefix);
+      return new ParallelCopyConfig(
+          sourceBucketName,
+          prefix,
+          destinationBucketName,
+          dstPrefix,
+          maxBytesRewrittenPerCall,
+          destinationStorageClass,
+          skipIfIdentical,
+          checkpointDirectory);
+    }
+  }
+}
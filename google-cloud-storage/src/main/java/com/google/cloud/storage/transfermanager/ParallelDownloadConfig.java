@@ -16,16 +16,20 @@
 
 package com.google.cloud.storage.transfermanager;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.api.core.BetaApi;
 import com.google.cloud.storage.Storage.BlobSourceOption;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Configuration for performing Parallel Downloads with {@link TransferManager}.
@@ -38,16 +42,22 @@ public final class ParallelDownloadConfig {
   @NonNull private final Path downloadDirectory;
   @NonNull private final String bucketName;
   @NonNull private final List<BlobSourceOption> optionsPerRequest;
+  @Nullable private final TransferProgressListener progressListener;
+  @NonNull private final Duration progressReportInterval;
 
   private ParallelDownloadConfig(
       @NonNull String stripPrefix,
       @NonNull Path downloadDirectory,
       @NonNull String bucketName,
-      @NonNull List<BlobSourceOption> optionsPerRequest) {
+      @NonNull List<BlobSourceOption> optionsPerRequest,
+      @Nullable TransferProgressListener progressListener,
+      @NonNull Duration progressReportInterval) {
     this.stripPrefix = stripPrefix;
     this.downloadDirectory = downloadDirectory;
     this.bucketName = bucketName;
     this.optionsPerRequest = optionsPerRequest;
+    this.progressListener = progressListener;
+    this.progressReportInterval = progressReportInterval;
   }
 
   /**
@@ -87,6 +97,28 @@ public final class ParallelDownloadConfig {
     return optionsPerRequest;
   }
 
+  /**
+   * The listener which will receive periodic progress reports for the download job, if any.
+   *
+   * @see Builder#setProgressListener(TransferProgressListener)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable TransferProgressListener getProgressListener() {
+    return progressListener;
+  }
+
+  /**
+   * How frequently the {@link #getProgressListener() progress listener} is invoked.
+   *
+   * @see Builder#setProgressReportInterval(Duration)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull Duration getProgressReportInterval() {
+    return progressReportInterval;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -99,12 +131,20 @@ public final class ParallelDownloadConfig {
     return stripPrefix.equals(that.stripPrefix)
         && downloadDirectory.equals(that.downloadDirectory)
         && bucketName.equals(that.bucketName)
-        && optionsPerRequest.equals(that.optionsPerRequest);
+        && optionsPerRequest.equals(that.optionsPerRequest)
+        && Objects.equals(progressListener, that.progressListener)
+        && progressReportInterval.equals(that.progressReportInterval);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(stripPrefix, downloadDirectory, bucketName, optionsPerRequest);
+    return Objects.hash(
+        stripPrefix,
+        downloadDirectory,
+        bucketName,
+        optionsPerRequest,
+        progressListener,
+        progressReportInterval);
   }
 
   @Override
@@ -114,6 +154,8 @@ public final class ParallelDownloadConfig {
         .add("downloadDirectory", downloadDirectory)
         .add("bucketName", bucketName)
         .add("optionsPerRequest", optionsPerRequest)
+        .add("progressListener", progressListener)
+        .add("progressReportInterval", progressReportInterval)
         .toString();
   }
 
@@ -132,12 +174,16 @@ public final class ParallelDownloadConfig {
     @NonNull private Path downloadDirectory;
     @NonNull private String bucketName;
     @NonNull private List<BlobSourceOption> optionsPerRequest;
+    @Nullable private TransferProgressListener progressListener;
+    @NonNull private Duration progressReportInterval;
 
     private Builder() {
       this.stripPrefix = "";
       this.downloadDirectory = Paths.get("");
       this.bucketName = "";
       this.optionsPerRequest = ImmutableList.of();
+      this.progressListener = null;
+      this.progressReportInterval = Duration.ofSeconds(1);
     }
 
     /**
@@ -186,6 +232,45 @@ public final class ParallelDownloadConfig {
       return this;
     }
 
+    /**
+     * Sets a listener which will receive a {@link TransferProgress} report every {@link
+     * #setProgressReportInterval(Duration) report interval} while the download job is running, and
+     * once more when every download of the job has completed.
+     *
+     * <p><i>Default:</i> {@code null}, progress remains available from {@link
+     * DownloadJob#getProgress()}
+     *
+     * @return the builder instance with the value for progressListener modified.
+     * @see ParallelDownloadConfig#getProgressListener()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setProgressListener(@Nullable TransferProgressListener progressListener) {
+      this.progressListener = progressListener;
+      return this;
+    }
+
+    /**
+     * Sets how frequently the {@link #setProgressListener(TransferProgressListener) progress
+     * listener} is invoked.
+     *
+     * <p><i>Default:</i> {@code 1s}
+     *
+     * @return the builder instance with the value for progressReportInterval modified.
+     * @see ParallelDownloadConfig#getProgressReportInterval()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setProgressReportInterval(@NonNull Duration progressReportInterval) {
+      checkNotNull(progressReportInterval, "progressReportInterval must be non null");
+      checkArgument(
+          !progressReportInterval.isNegative() && !progressReportInterval.isZero(),
+          "progressReportInterval must be positive, but was %s",
+          progressReportInterval);
+      this.progressReportInterval = progressReportInterval;
+      return this;
+    }
+
     /**
      * Creates a ParallelDownloadConfig object.
      *
@@ -197,7 +282,12 @@ public final class ParallelDownloadConfig {
       checkNotNull(downloadDirectory);
       checkNotNull(optionsPerRequest);
       return new ParallelDownloadConfig(
-          stripPrefix, downloadDirectory, bucketName, optionsPerRequest);
+          stripPrefix,
+          downloadDirectory,
+          bucketName,
+          optionsPerRequest,
+          progressListener,
+          progressReportInterval);
     }
   }
 }
@@ -0,0 +1,353 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.api.core.BetaApi;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.common.base.MoreObjects;
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+
+/**
+ * Configuration for performing a Parallel List with {@link TransferManager}.
+ *
+ * @see Builder
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class ParallelListConfig {
+
+  @NonNull private final String bucketName;
+  @NonNull private final String prefix;
+  @NonNull private final String startOffset;
+  @NonNull private final String endOffset;
+  @NonNull private final List<BlobListOption> optionsPerRequest;
+  private final boolean ordered;
+  private final int queueCapacity;
+
+  private ParallelListConfig(
+      @NonNull String bucketName,
+      @NonNull String prefix,
+      @NonNull String startOffset,
+      @NonNull String endOffset,
+      @NonNull List<BlobListOption> optionsPerRequest,
+      boolean ordered,
+      int queueCapacity) {
+    this.bucketName = bucketName;
+    this.prefix = prefix;
+    this.startOffset = startOffset;
+    this.endOffset = endOffset;
+    this.optionsPerRequest = optionsPerRequest;
+    this.ordered = ordered;
+    this.queueCapacity = queueCapacity;
+  }
+
+  /**
+   * The bucket objects are being listed from.
+   *
+   * @see Builder#setBucketName(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getBucketName() {
+    return bucketName;
+  }
+
+  /**
+   * Only objects whose names begin with this prefix will be listed.
+   *
+   * @see Builder#setPrefix(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getPrefix() {
+    return prefix;
+  }
+
+  /**
+   * Only objects whose names are lexicographically equal to or after this value will be listed. An
+   * empty string means the listing is not bounded below.
+   *
+   * @see Builder#setStartOffset(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getStartOffset() {
+    return startOffset;
+  }
+
+  /**
+   * Only objects whose names are lexicographically before this value will be listed. An empty
+   * string means the listing is not bounded above.
+   *
+   * @see Builder#setEndOffset(String)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull String getEndOffset() {
+    return endOffset;
+  }
+
+  /**
+   * A list of common BlobListOptions that are used for each list request. Note this list of options
+   * will be applied to every single request.
+   *
+   * @see Builder#setOptionsPerRequest(List)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull List<BlobListOption> getOptionsPerRequest() {
+    return optionsPerRequest;
+  }
+
+  /**
+   * Whether results will be returned in lexicographic order.
+   *
+   * @see Builder#setOrdered(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isOrdered() {
+    return ordered;
+  }
+
+  /**
+   * The maximum number of listed objects buffered before list requests pause waiting for the
+   * consumer.
+   *
+   * @see Builder#setQueueCapacity(int)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ParallelListConfig)) {
+      return false;
+    }
+    ParallelListConfig that = (ParallelListConfig) o;
+    return ordered == that.ordered
+        && queueCapacity == that.queueCapacity
+        && bucketName.equals(that.bucketName)
+        && prefix.equals(that.prefix)
+        && startOffset.equals(that.startOffset)
+        && endOffset.equals(that.endOffset)
+        && optionsPerRequest.equals(that.optionsPerRequest);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        bucketName, prefix, startOffset, endOffset, optionsPerRequest, ordered, queueCapacity);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("bucketName", bucketName)
+        .add("prefix", prefix)
+        .add("startOffset", startOffset)
+        .add("endOffset", endOffset)
+        .add("optionsPerRequest", optionsPerRequest)
+        .add("ordered", ordered)
+        .add("queueCapacity", queueCapacity)
+        .toString();
+  }
+
+  /**
+   * Builds an instance of ParallelListConfig.
+   *
+   * @see ParallelListConfig
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static Builder newBuilder() {
+    return new Builder();
+  }
+
+  /**
+   * Builds an instance of ParallelListConfig.
+   *
+   * @see ParallelListConfig
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public static final class Builder {
+
+    @NonNull private String bucketName;
+    @NonNull private String prefix;
+    @NonNull private String startOffset;
+    @NonNull private String endOffset;
+    @NonNull private List<BlobListOption> optionsPerRequest;
+    private boolean ordered;
+    private int queueCapacity;
+
+    private Builder() {
+      this.bucketName = "";
+      this.prefix = "";
+      this.startOffset = "";
+      this.endOffset = "";
+      this.optionsPerRequest = ImmutableList.of();
+      this.ordered = false;
+      this.queueCapacity = 1_000;
+    }
+
+    /**
+     * Sets the bucketName that Transfer Manager will list from. This field is required.
+     *
+     * @return the builder instance with the value for bucketName modified.
+     * @see ParallelListConfig#getBucketName()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setBucketName(@NonNull String bucketName) {
+      this.bucketName = bucketName;
+      return this;
+    }
+
+    /**
+     * Sets the prefix which all listed object names must begin with.
+     *
+     * <p><i>Default:</i> {@code ""}
+     *
+     * @return the builder instance with the value for prefix modified.
+     * @see ParallelListConfig#getPrefix()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setPrefix(@NonNull String prefix) {
+      this.prefix = prefix;
+      return this;
+    }
+
+    /**
+     * Sets the inclusive lower bound of object names to list.
+     *
+     * <p><i>Default:</i> {@code ""}
+     *
+     * @return the builder instance with the value for startOffset modified.
+     * @see ParallelListConfig#getStartOffset()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setStartOffset(@NonNull String startOffset) {
+      this.startOffset = startOffset;
+      return this;
+    }
+
+    /**
+     * Sets the exclusive upper bound of object names to list.
+     *
+     * <p><i>Default:</i> {@code ""}
+     *
+     * @return the builder instance with the value for endOffset modified.
+     * @see ParallelListConfig#getEndOffset()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setEndOffset(@NonNull String endOffset) {
+      this.endOffset = endOffset;
+      return this;
+    }
+
+    /**
+     * Sets the BlobListOptions that will be applied to each list request. Note these options will
+     * be applied to every single list request.
+     *
+     * <p>Transfer Manager controls the prefix, start offset, end offset and page token of each
+     * request, these must be specified via this builder rather than as options.
+     *
+     * <p>When used along with {@link BlobListOption#currentDirectory()} or {@link
+     * BlobListOption#delimiter(String)} a synthetic directory which spans the boundary between two
+     * ranges may be returned more than once.
+     *
+     * @return the builder instance with the value for OptionsPerRequest modified.
+     * @see ParallelListConfig#getOptionsPerRequest()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setOptionsPerRequest(@NonNull List<BlobListOption> optionsPerRequest) {
+      this.optionsPerRequest = ImmutableList.copyOf(optionsPerRequest);
+      return this;
+    }
+
+    /**
+     * Sets whether results must be returned in lexicographic order, the same order a sequential
+     * listing would produce.
+     *
+     * <p>When {@code false} results are returned as soon as any range produces them. When {@code
+     * true} results from a range are held until all preceding ranges have been consumed, which may
+     * reduce the effective parallelism if the consumer is slow.
+     *
+     * <p><i>Default:</i> {@code false}
+     *
+     * @return the builder instance with the value for ordered modified.
+     * @see ParallelListConfig#isOrdered()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setOrdered(boolean ordered) {
+      this.ordered = ordered;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of listed objects which will be buffered ahead of the consumer. When
+     * {@link #setOrdered(boolean) ordered}, this capacity applies to each range being listed.
+     *
+     * <p><i>Default:</i> {@code 1000}
+     *
+     * @return the builder instance with the value for queueCapacity modified.
+     * @see ParallelListConfig#getQueueCapacity()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setQueueCapacity(int queueCapacity) {
+      this.queueCapacity = queueCapacity;
+      return this;
+    }
+
+    /**
+     * Creates a ParallelListConfig object.
+     *
+     * @return {@link ParallelListConfig}
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public ParallelListConfig build() {
+      checkNotNull(bucketName);
+      checkNotNull(prefix);
+      checkNotNull(startOffset);
+      checkNotNull(endOffset);
+      checkNotNull(optionsPerRequest);
+      checkArgument(queueCapacity > 0, "queueCapacity > 0 (%s > 0)", queueCapacity);
+      return new ParallelListConfig(
+          bucketName, prefix, startOffset, endOffset, optionsPerRequest, ordered, queueCapacity);
+    }
+  }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.StorageException;
+import com.google.common.base.MoreObjects;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A listing of objects which is split into ranges of object names, each range being listed
+ * concurrently.
+ *
+ * <p>Listing begins with a single range spanning the whole listing. Each time a range has another
+ * page to fetch it is considered hot, and if fewer than {@code maxRanges} ranges are in flight the
+ * remainder of the range is split in two at {@link KeyRanges#midpoint(String, String) a midpoint}.
+ * The range continues to follow its page tokens up to the split point, while a new range is
+ * submitted for the remainder. At most one page of results is discarded per split.
+ *
+ * <p>Results are handed to the consumer via bounded queues, a single shared queue when unordered or
+ * one queue per range when ordered. Ranges form a linked list in name order, allowing the consumer
+ * to drain them in sequence.
+ *
+ * <p>Producers block while their queue is full, so each listing runs its ranges on its own threads
+ * rather than the shared worker pool of the {@link TransferManager}. Otherwise, a consumer which is
+ * itself running on the worker pool (or which is waiting on work queued there) could be starved by
+ * the producers it is meant to drain.
+ */
+final class ParallelListing implements Iterator<BlobInfo>, AutoCloseable {
+
+  /** Marker placed in a queue when a range, or the whole listing when unordered, is complete. */
+  private static final Object END = new Object();
+
+  /** Marker placed in a queue when the listing has failed or been closed. */
+  private static final Object TERMINATED = new Object();
+
+  private final PageSource source;
+  private final ExecutorService producers;
+  private final int maxRanges;
+  private final int queueCapacity;
+  private final boolean ordered;
+
+  private final AtomicInteger activeRanges;
+  private final AtomicReference<@Nullable Throwable> failure;
+  private final @Nullable BlockingQueue<Object> sharedQueue;
+  private final Range head;
+  private volatile boolean terminated;
+
+  // consumer state, only accessed from the consuming thread
+  private @Nullable Range current;
+  private @Nullable BlobInfo next;
+  private boolean done;
+
+  private ParallelListing(
+      PageSource source,
+      ExecutorService producers,
+      int maxRanges,
+      int queueCapacity,
+      boolean ordered,
+      @Nullable String startOffset,
+      @Nullable String endOffset) {
+    this.source = source;
+    this.maxRanges = Math.max(1, maxRanges);
+    this.producers = producers;
+    this.queueCapacity = queueCapacity;
+    this.ordered = ordered;
+    this.activeRanges = new AtomicInteger(0);
+    this.failure = new AtomicReference<>();
+    this.sharedQueue = ordered ? null : new ArrayBlockingQueue<>(queueCapacity);
+    this.head = new Range(startOffset, endOffset, newRangeQueue());
+    this.current = head;
+  }
+
+  /**
+   * @param producers The executor ranges are listed on, owned by the listing and shut down once it
+   *     is complete. It must be able to run {@code maxRanges} tasks at the same time.
+   */
+  static ParallelListing start(
+      PageSource source, ExecutorService producers, int maxRanges, ParallelListConfig config) {
+    String prefix = config.getPrefix();
+    String startOffset = config.getStartOffset();
+    if (KeyRanges.compare(startOffset, prefix) < 0) {
+      startOffset = prefix;
+    }
+    String endOffset = config.getEndOffset();
+    String prefixUpperBound = KeyRanges.prefixUpperBound(prefix);
+    if (endOffset.isEmpty()
+        || (prefixUpperBound != null && KeyRanges.compare(prefixUpperBound, endOffset) < 0)) {
+      endOffset = prefixUpperBound;
+    }
+    ParallelListing listing =
+        new ParallelListing(
+            source,
+            producers,
+            maxRanges,
+            config.getQueueCapacity(),
+            config.isOrdered(),
+            startOffset.isEmpty() ? null : startOffset,
+            endOffset);
+    listing.activeRanges.incrementAndGet();
+    listing.submit(listing.head);
+    return listing;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (next == null) {
+      if (done) {
+        return false;
+      }
+      Object o = take();
+      if (o == END) {
+        if (ordered) {
+          //noinspection DataFlowIssue
+          current = current.next;
+          done = current == null;
+        } else {
+          done = true;
+        }
+        if (done) {
+          throwIfFailed();
+        }
+      } else if (o == TERMINATED) {
+        done = true;
+        throwIfFailed();
+      } else {
+        next = (BlobInfo) o;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public BlobInfo next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    BlobInfo tmp = next;
+    next = null;
+    return tmp;
+  }
+
+  @Override
+  public void close() {
+    terminate();
+  }
+
+  /** Cancel any outstanding list requests, the consumer fails with {@code cause} */
+  void cancel(Throwable cause) {
+    failure.compareAndSet(null, cause);
+    terminate();
+  }
+
+  /** Whether every range has been listed or the listing has been terminated */
+  boolean isDone() {
+    return producers.isTerminated();
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("maxRanges", maxRanges)
+        .add("queueCapacity", queueCapacity)
+        .add("ordered", ordered)
+        .add("activeRanges", activeRanges.get())
+        .add("terminated", terminated)
+        .toString();
+  }
+
+  private Object take() {
+    //noinspection DataFlowIssue
+    BlockingQueue<Object> q = ordered ? current.queue : sharedQueue;
+    try {
+      return q.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new StorageException(0, "Interrupted while waiting for list results", e);
+    }
+  }
+
+  private void throwIfFailed() {
+    Throwable t = failure.get();
+    if (t != null) {
+      int code = t instanceof StorageException ? ((StorageException) t).getCode() : 0;
+      throw new StorageException(code, t.getMessage(), t);
+    }
+  }
+
+  private void submit(Range r) {
+    producers.execute(() -> list(r));
+  }
+
+  private void list(Range r) {
+    try {
+      Page<? extends BlobInfo> page = source.list(r.startOffset, r.limit);
+      while (!terminated) {
+        String last = null;
+        boolean reachedLimit = false;
+        for (BlobInfo info : page.getValues()) {
+          String limit = r.limit;
+          if (limit != null && KeyRanges.compare(info.getName(), limit) >= 0) {
+            reachedLimit = true;
+            break;
+          }
+          emit(r, info);
+          last = info.getName();
+        }
+        if (reachedLimit || !page.hasNextPage()) {
+          break;
+        }
+        if (last != null) {
+          maybeSplit(r, last);
+        }
+        page = page.getNextPage();
+      }
+      if (!terminated) {
+        complete(r);
+      }
+    } catch (InterruptedException e) {
+      // interrupted by terminate, nothing more to do
+    } catch (Throwable t) {
+      // failures after termination are a consequence of it, not something to report
+      if (!terminated && failure.compareAndSet(null, t)) {
+        terminate();
+      }
+    }
+  }
+
+  private void maybeSplit(Range r, String last) {
+    if (terminated) {
+      return;
+    }
+    int active;
+    do {
+      active = activeRanges.get();
+      if (active >= maxRanges) {
+        return;
+      }
+    } while (!activeRanges.compareAndSet(active, active + 1));
+
+    String limit = r.limit;
+    String mid = KeyRanges.midpoint(last, limit);
+    if (mid == null) {
+      activeRanges.decrementAndGet();
+      return;
+    }
+    Range split = new Range(mid, limit, newRangeQueue());
+    // only the thread listing r modifies r, publish the split before narrowing r so that it is
+    // visible to the consumer by the time it reads END from r
+    split.next = r.next;
+    r.next = split;
+    r.limit = mid;
+    submit(split);
+  }
+
+  private void emit(Range r, BlobInfo info) throws InterruptedException {
+    if (terminated) {
+      throw new InterruptedException();
+    }
+    //noinspection DataFlowIssue
+    (ordered ? r.queue : sharedQueue).put(info);
+  }
+
+  private void complete(Range r) throws InterruptedException {
+    int remaining = activeRanges.decrementAndGet();
+    if (remaining == 0) {
+      // no range is left which could split, allow the producer threads to exit once idle
+      producers.shutdown();
+    }
+    if (ordered) {
+      //noinspection DataFlowIssue
+      r.queue.put(END);
+    } else if (remaining == 0) {
+      //noinspection DataFlowIssue
+      sharedQueue.put(END);
+    }
+  }
+
+  private void terminate() {
+    if (terminated) {
+      return;
+    }
+    terminated = true;
+    producers.shutdownNow();
+    // wake up the consumer, wherever it might be blocked. Producers check terminated before each
+    // put, so at most one more element can race into any queue after it is cleared.
+    if (ordered) {
+      for (Range r = head; r != null; r = r.next) {
+        poison(r.queue);
+      }
+    } else {
+      poison(sharedQueue);
+    }
+  }
+
+  private @Nullable BlockingQueue<Object> newRangeQueue() {
+    return ordered ? new ArrayBlockingQueue<>(queueCapacity) : null;
+  }
+
+  private static void poison(@Nullable BlockingQueue<Object> q) {
+    if (q != null) {
+      while (!q.offer(TERMINATED)) {
+        q.clear();
+      }
+    }
+  }
+
+  /** List a single page of the objects within a range of names */
+  @FunctionalInterface
+  interface PageSource {
+    Page<? extends BlobInfo> list(@Nullable String startOffset, @Nullable String endOffset);
+  }
+
+  private static final class Range {
+    private final @Nullable String startOffset;
+    private final @Nullable BlockingQueue<Object> queue;
+    private volatile @Nullable String limit;
+    private volatile @Nullable Range next;
+
+    private Range(
+        @Nullable String startOffset,
+        @Nullable String limit,
+        @Nullable BlockingQueue<Object> queue) {
+      this.startOffset = startOffset;
+      this.limit = limit;
+      this.queue = queue;
+    }
+  }
+}
@@ -16,16 +16,20 @@
 
 package com.google.cloud.storage.transfermanager;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.api.core.BetaApi;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage.BlobWriteOption;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 /**
  * Configuration for performing Parallel Uploads with {@link TransferManager}.
@@ -39,16 +43,22 @@ public final class ParallelUploadConfig {
   @NonNull private final UploadBlobInfoFactory uploadBlobInfoFactory;
 
   @NonNull private final List<BlobWriteOption> writeOptsPerRequest;
+  @Nullable private final TransferProgressListener progressListener;
+  @NonNull private final Duration progressReportInterval;
 
   private ParallelUploadConfig(
       boolean skipIfExists,
       @NonNull String bucketName,
       @NonNull UploadBlobInfoFactory uploadBlobInfoFactory,
-      @NonNull List<BlobWriteOption> writeOptsPerRequest) {
+      @NonNull List<BlobWriteOption> writeOptsPerRequest,
+      @Nullable TransferProgressListener progressListener,
+      @NonNull Duration progressReportInterval) {
     this.skipIfExists = skipIfExists;
     this.bucketName = bucketName;
     this.uploadBlobInfoFactory = uploadBlobInfoFactory;
     this.writeOptsPerRequest = applySkipIfExists(skipIfExists, writeOptsPerRequest);
+    this.progressListener = progressListener;
+    this.progressReportInterval = progressReportInterval;
   }
 
   /**
@@ -105,6 +115,28 @@ public final class ParallelUploadConfig {
     return writeOptsPerRequest;
   }
 
+  /**
+   * The listener which will receive periodic progress reports for the upload job, if any.
+   *
+   * @see Builder#setProgressListener(TransferProgressListener)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable TransferProgressListener getProgressListener() {
+    return progressListener;
+  }
+
+  /**
+   * How frequently the {@link #getProgressListener() progress listener} is invoked.
+   *
+   * @see Builder#setProgressReportInterval(Duration)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull Duration getProgressReportInterval() {
+    return progressReportInterval;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -117,12 +149,20 @@ public final class ParallelUploadConfig {
     return skipIfExists == that.skipIfExists
         && bucketName.equals(that.bucketName)
         && uploadBlobInfoFactory.equals(that.uploadBlobInfoFactory)
-        && writeOptsPerRequest.equals(that.writeOptsPerRequest);
+        && writeOptsPerRequest.equals(that.writeOptsPerRequest)
+        && Objects.equals(progressListener, that.progressListener)
+        && progressReportInterval.equals(that.progressReportInterval);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(skipIfExists, bucketName, uploadBlobInfoFactory, writeOptsPerRequest);
+    return Objects.hash(
+        skipIfExists,
+        bucketName,
+        uploadBlobInfoFactory,
+        writeOptsPerRequest,
+        progressListener,
+        progressReportInterval);
   }
 
   @Override
@@ -132,6 +172,8 @@ public final class ParallelUploadConfig {
         .add("bucketName", bucketName)
         .add("uploadBlobInfoFactory", uploadBlobInfoFactory)
         .add("writeOptsPerRequest", writeOptsPerRequest)
+        .add("progressListener", progressListener)
+        .add("progressReportInterval", progressReportInterval)
         .toString();
   }
 
@@ -159,11 +201,15 @@ public final class ParallelUploadConfig {
     private @NonNull String bucketName;
     private @NonNull UploadBlobInfoFactory uploadBlobInfoFactory;
     private @NonNull List<BlobWriteOption> writeOptsPerRequest;
+    private @Nullable TransferProgressListener progressListener;
+    private @NonNull Duration progressReportInterval;
 
     private Builder() {
       this.bucketName = "";
       this.uploadBlobInfoFactory = UploadBlobInfoFactory.defaultInstance();
       this.writeOptsPerRequest = ImmutableList.of();
+      this.progressListener = null;
+      this.progressReportInterval = Duration.ofSeconds(1);
     }
 
     /**
@@ -238,6 +284,45 @@ public final class ParallelUploadConfig {
       return this;
     }
 
+    /**
+     * Sets a listener which will receive a {@link TransferProgress} report every {@link
+     * #setProgressReportInterval(Duration) report interval} while the upload job is running, and
+     * once more when every upload of the job has completed.
+     *
+     * <p><i>Default:</i> {@code null}, progress remains available from {@link
+     * UploadJob#getProgress()}
+     *
+     * @return the builder instance with the value for progressListener modified.
+     * @see ParallelUploadConfig#getProgressListener()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setProgressListener(@Nullable TransferProgressListener progressListener) {
+      this.progressListener = progressListener;
+      return this;
+    }
+
+    /**
+     * Sets how frequently the {@link #setProgressListener(TransferProgressListener) progress
+     * listener} is invoked.
+     *
+     * <p><i>Default:</i> {@code 1s}
+     *
+     * @return the builder instance with the value for progressReportInterval modified.
+     * @see ParallelUploadConfig#getProgressReportInterval()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setProgressReportInterval(@NonNull Duration progressReportInterval) {
+      checkNotNull(progressReportInterval, "progressReportInterval must be non null");
+      checkArgument(
+          !progressReportInterval.isNegative() && !progressReportInterval.isZero(),
+          "progressReportInterval must be positive, but was %s",
+          progressReportInterval);
+      this.progressReportInterval = progressReportInterval;
+      return this;
+    }
+
     /**
      * Creates a ParallelUploadConfig object.
      *
@@ -248,7 +333,12 @@ public final class ParallelUploadConfig {
       checkNotNull(uploadBlobInfoFactory);
       checkNotNull(writeOptsPerRequest);
       return new ParallelUploadConfig(
-          skipIfExists, bucketName, uploadBlobInfoFactory, writeOptsPerRequest);
+          skipIfExists,
+          bucketName,
+          uploadBlobInfoFactory,
+          writeOptsPerRequest,
+          progressListener,
+          progressReportInterval);
     }
   }
 
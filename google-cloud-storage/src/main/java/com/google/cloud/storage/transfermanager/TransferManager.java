@@ -16,6 +16,7 @@
 
 package com.google.cloud.storage.transfermanager;
 
+import com.google.api.core.BetaApi;
 import com.google.cloud.storage.BlobInfo;
 import java.io.IOException;
 import java.nio.file.Path;
@@ -25,7 +26,8 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 /**
  * An interface for a Transfer Manager.
  *
- * <p>Transfer Manager handles Parallel Uploads and Parallel Downloads.
+ * <p>Transfer Manager handles Parallel Uploads, Parallel Downloads, Parallel Listing and Parallel
+ * Copies.
  */
 public interface TransferManager extends AutoCloseable {
 
@@ -86,4 +88,68 @@ public interface TransferManager extends AutoCloseable {
    * @return a {@link DownloadJob}
    */
   @NonNull DownloadJob downloadBlobs(List<BlobInfo> blobs, ParallelDownloadConfig config);
+
+  /**
+   * Lists the objects in a bucket in parallel. This operation will not block the invoking thread,
+   * results are consumed by iterating the returned ListJob.
+   *
+   * <p>The range of object names being listed is split into sub-ranges which are listed
+   * concurrently. Splitting is adaptive, a range which has more pages to list is split in two
+   * whenever fewer than {@link TransferManagerConfig#getMaxWorkers() maxWorkers} ranges are being
+   * listed.
+   *
+   * <p>Example of listing all objects with a prefix with Transfer Manager.
+   *
+   * <pre>{@code
+   * ParallelListConfig parallelListConfig =
+   *           ParallelListConfig.newBuilder()
+   *               .setBucketName("my-unique-bucket")
+   *               .setPrefix("logs/")
+   *               .build();
+   *
+   * try (ListJob job = transferManager.listBlobs(parallelListConfig)) {
+   *   for (BlobInfo info : job) {
+   *     // process info
+   *   }
+   * }
+   * }</pre>
+   *
+   * <p>Closing this TransferManager cancels any listing which is still in progress, iterating its
+   * ListJob then fails with a {@link com.google.cloud.storage.StorageException} rather than ending
+   * early.
+   *
+   * @return a {@link ListJob}
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @NonNull ListJob listBlobs(ParallelListConfig config);
+
+  /**
+   * Copies all objects with a prefix from one bucket to another in parallel. This operation will
+   * not block the invoking thread, awaiting results should be done on the returned CopyJob.
+   *
+   * <p>Objects are copied server side using RewriteObject, no object data passes through the
+   * client. The source bucket is listed lazily as the job progresses, and up to {@link
+   * TransferManagerConfig#getMaxWorkers() maxWorkers} objects are rewritten concurrently.
+   *
+   * <p>Example of copying all objects with a prefix to another bucket with Transfer Manager.
+   *
+   * <pre>{@code
+   * ParallelCopyConfig parallelCopyConfig =
+   *           ParallelCopyConfig.newBuilder()
+   *               .setSourceBucketName("my-source-bucket")
+   *               .setPrefix("logs/")
+   *               .setDestinationBucketName("my-destination-bucket")
+   *               .setCheckpointDirectory(Paths.get("/path/to/checkpoints/"))
+   *               .build();
+   *
+   * CopyJob copyJob = transferManager.copyObjects(parallelCopyConfig);
+   * List<CopyResult> results = copyJob.getCopyResults();
+   * }</pre>
+   *
+   * @return a {@link CopyJob}
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  @NonNull CopyJob copyObjects(ParallelCopyConfig config);
 }
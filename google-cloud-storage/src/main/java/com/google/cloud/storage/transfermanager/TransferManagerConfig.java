@@ -18,6 +18,7 @@ package com.google.cloud.storage.transfermanager;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.api.core.BetaApi;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.PartNamingStrategy;
 import com.google.cloud.storage.StorageOptions;
 import com.google.common.base.MoreObjects;
@@ -33,6 +34,7 @@ public final class TransferManagerConfig {
   private final int perWorkerBufferSize;
   private final boolean allowDivideAndConquerDownload;
   private final boolean allowParallelCompositeUpload;
+  private final boolean useVirtualThreads;
 
   private final PartNamingStrategy partNamingStrategy;
 
@@ -43,12 +45,14 @@ public final class TransferManagerConfig {
       int perWorkerBufferSize,
       boolean allowDivideAndConquerDownload,
       boolean allowParallelCompositeUpload,
+      boolean useVirtualThreads,
       PartNamingStrategy partNamingStrategy,
       StorageOptions storageOptions) {
     this.maxWorkers = maxWorkers;
     this.perWorkerBufferSize = perWorkerBufferSize;
     this.allowDivideAndConquerDownload = allowDivideAndConquerDownload;
     this.allowParallelCompositeUpload = allowParallelCompositeUpload;
+    this.useVirtualThreads = useVirtualThreads;
     this.partNamingStrategy = partNamingStrategy;
     this.storageOptions = storageOptions;
   }
@@ -100,6 +104,17 @@ public final class TransferManagerConfig {
     return allowParallelCompositeUpload;
   }
 
+  /**
+   * Whether Transfer Manager workers run on virtual threads rather than platform threads
+   *
+   * @see Builder#setUseVirtualThreads(boolean)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
   /**
    * Storage options that Transfer Manager will use to interact with Google Cloud Storage
    *
@@ -127,6 +142,7 @@ public final class TransferManagerConfig {
     return new Builder()
         .setAllowDivideAndConquerDownload(allowDivideAndConquerDownload)
         .setAllowParallelCompositeUpload(allowParallelCompositeUpload)
+        .setUseVirtualThreads(useVirtualThreads)
         .setMaxWorkers(maxWorkers)
         .setPerWorkerBufferSize(perWorkerBufferSize)
         .setStorageOptions(storageOptions);
@@ -145,6 +161,7 @@ public final class TransferManagerConfig {
         && perWorkerBufferSize == that.perWorkerBufferSize
         && allowDivideAndConquerDownload == that.allowDivideAndConquerDownload
         && allowParallelCompositeUpload == that.allowParallelCompositeUpload
+        && useVirtualThreads == that.useVirtualThreads
         && Objects.equals(storageOptions, that.storageOptions);
   }
 
@@ -155,6 +172,7 @@ public final class TransferManagerConfig {
         perWorkerBufferSize,
         allowDivideAndConquerDownload,
         allowParallelCompositeUpload,
+        useVirtualThreads,
         storageOptions);
   }
 
@@ -165,6 +183,7 @@ public final class TransferManagerConfig {
         .add("perWorkerBufferSize", perWorkerBufferSize)
         .add("allowDivideAndConquerDownload", allowDivideAndConquerDownload)
         .add("allowParallelCompositeUpload", allowParallelCompositeUpload)
+        .add("useVirtualThreads", useVirtualThreads)
         .add("storageOptions", storageOptions)
         .toString();
   }
@@ -184,6 +203,7 @@ public final class TransferManagerConfig {
     private int perWorkerBufferSize;
     private boolean allowDivideAndConquerDownload;
     private boolean allowParallelCompositeUpload;
+    private boolean useVirtualThreads;
 
     private StorageOptions storageOptions;
     private PartNamingStrategy partNamingStrategy;
@@ -193,6 +213,7 @@ public final class TransferManagerConfig {
       this.maxWorkers = 2 * Runtime.getRuntime().availableProcessors();
       this.allowDivideAndConquerDownload = false;
       this.allowParallelCompositeUpload = false;
+      this.useVirtualThreads = false;
       this.storageOptions = StorageOptions.getDefaultInstance();
       this.partNamingStrategy = PartNamingStrategy.noPrefix();
     }
@@ -252,6 +273,28 @@ public final class TransferManagerConfig {
       return this;
     }
 
+    /**
+     * Whether Transfer Manager workers should run on virtual threads rather than platform threads
+     *
+     * <p>Workers spend most of their time blocked waiting on the network or disk. When using
+     * virtual threads {@link #setMaxWorkers(int) maxWorkers} can be raised to many thousands
+     * without a corresponding number of platform threads.
+     *
+     * <p>Virtual threads require Java 21 or newer, if they are not available {@link
+     * TransferManagerConfig#getService()} will throw an {@link UnsupportedOperationException}.
+     *
+     * <p><i>Default Value:</i> false
+     *
+     * @return the instance of Builder with the value for useVirtualThreads modified.
+     * @see TransferManagerConfig#isUseVirtualThreads()
+     * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+     */
+    @BetaApi
+    public Builder setUseVirtualThreads(boolean useVirtualThreads) {
+      this.useVirtualThreads = useVirtualThreads;
+      return this;
+    }
+
     /**
      * Storage options that Transfer Manager will use to interact with Google Cloud Storage
      *
@@ -291,6 +334,7 @@ public final class TransferManagerConfig {
           perWorkerBufferSize,
           allowDivideAndConquerDownload,
           allowParallelCompositeUpload,
+          useVirtualThreads,
           partNamingStrategy,
           storageOptions);
     }
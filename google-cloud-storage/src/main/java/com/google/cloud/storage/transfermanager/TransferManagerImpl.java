@@ -24,28 +24,44 @@ import com.google.api.gax.rpc.FixedHeaderProvider;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BlobWriteSessionConfigs;
+import com.google.cloud.storage.Crc32cAccumulator;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.BufferAllocationStrategy;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ExecutorSupplier;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
 import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.cloud.storage.StorageException;
 import com.google.cloud.storage.StorageOptions;
+import com.google.cloud.storage.VirtualThreads;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BinaryOperator;
+import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
 import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 final class TransferManagerImpl implements TransferManager {
 
@@ -60,12 +76,15 @@ final class TransferManagerImpl implements TransferManager {
   // define a unique object which we can use to synchronize modification of pcuPoller
   private final Object pcuPollerSync = new Object();
   private volatile ApiFuture<?> pcuPoller;
+  // only created once a job with a progress listener is submitted
+  private final Object progressSchedulerSync = new Object();
+  private volatile @MonotonicNonNull ScheduledExecutorService progressScheduler;
+  // listings run on their own producers rather than executor, tracked so close() can cancel them
+  private final Set<ParallelListing> listings = ConcurrentHashMap.newKeySet();
 
   TransferManagerImpl(TransferManagerConfig transferManagerConfig, Qos qos) {
     this.transferManagerConfig = transferManagerConfig;
-    this.executor =
-        MoreExecutors.listeningDecorator(
-            Executors.newFixedThreadPool(transferManagerConfig.getMaxWorkers()));
+    this.executor = MoreExecutors.listeningDecorator(newExecutor(transferManagerConfig));
     this.qos = qos;
     StorageOptions storageOptions = transferManagerConfig.getStorageOptions();
     String userAgent = storageOptions.getUserAgent();
@@ -94,11 +113,51 @@ final class TransferManagerImpl implements TransferManager {
     this.storage = storageOptions.getService();
   }
 
+  private static boolean useVirtualThreads(TransferManagerConfig config) {
+    return config.isUseVirtualThreads() || config.getStorageOptions().isUseVirtualThreads();
+  }
+
+  private static ExecutorService newExecutor(TransferManagerConfig config) {
+    if (useVirtualThreads(config)) {
+      // a new virtual thread per task, maxWorkers continues to bound the number of concurrent
+      // transfers
+      return VirtualThreads.newBoundedExecutor("gcs-tm-worker-", config.getMaxWorkers());
+    }
+    return Executors.newFixedThreadPool(config.getMaxWorkers());
+  }
+
+  private static ExecutorService newListingExecutor(TransferManagerConfig config) {
+    if (useVirtualThreads(config)) {
+      // the number of ranges is bounded by the listing itself
+      return VirtualThreads.newThreadPerTaskExecutor("gcs-tm-list-");
+    }
+    return Executors.newFixedThreadPool(
+        config.getMaxWorkers(),
+        new ThreadFactoryBuilder().setDaemon(true).setNameFormat("gcs-tm-list-%d").build());
+  }
+
   @Override
   public void close() throws Exception {
+    for (ParallelListing listing : listings) {
+      listing.cancel(new CancellationException("TransferManager closed"));
+    }
+    listings.clear();
     // We only want to shutdown the executor service not the provided storage instance
-    executor.shutdownNow();
+    List<Runnable> neverStarted = executor.shutdownNow();
+    // complete the results of transfers which never started, so their jobs complete and deliver
+    // their final progress report
+    for (Runnable r : neverStarted) {
+      if (r instanceof Future) {
+        ((Future<?>) r).cancel(false);
+      }
+    }
     executor.awaitTermination(5, TimeUnit.MINUTES);
+    // final reports are delivered as a job completes, only periodic reports use the scheduler
+    synchronized (progressSchedulerSync) {
+      if (progressScheduler != null) {
+        progressScheduler.shutdownNow();
+      }
+    }
   }
 
   @Override
@@ -107,36 +166,48 @@ final class TransferManagerImpl implements TransferManager {
     Storage.BlobWriteOption[] opts =
         config.getWriteOptsPerRequest().toArray(new BlobWriteOption[0]);
     List<ApiFuture<UploadResult>> uploadTasks = new ArrayList<>();
+    TransferProgressTracker progressTracker = new TransferProgressTracker();
     for (Path file : files) {
       if (Files.isDirectory(file)) throw new IllegalStateException("Directories are not supported");
+      progressTracker.expect(sizeOf(file));
       String bucketName = config.getBucketName();
       BlobInfo blobInfo =
           config.getUploadBlobInfoFactory().apply(bucketName, file.toAbsolutePath().toString());
       if (!blobInfo.getBucket().equals(bucketName)) {
         uploadTasks.add(
-            ApiFutures.immediateFuture(
-                UploadResult.newBuilder(blobInfo, TransferStatus.FAILED_TO_START)
-                    .setException(new BucketNameMismatchException(blobInfo.getBucket(), bucketName))
-                    .build()));
+            progressTracker.track(
+                ApiFutures.immediateFuture(
+                    UploadResult.newBuilder(blobInfo, TransferStatus.FAILED_TO_START)
+                        .setException(
+                            new BucketNameMismatchException(blobInfo.getBucket(), bucketName))
+                        .build())));
         continue;
       }
       if (transferManagerConfig.isAllowParallelCompositeUpload()
           && qos.parallelCompositeUpload(Files.size(file))) {
         ParallelCompositeUploadCallable callable =
-            new ParallelCompositeUploadCallable(storage, blobInfo, file, config, opts);
+            new ParallelCompositeUploadCallable(
+                storage, blobInfo, file, config, opts, progressTracker);
         SettableApiFuture<UploadResult> resultFuture = SettableApiFuture.create();
         pcuQueue.add(new PendingPcuTask(callable, resultFuture));
-        uploadTasks.add(resultFuture);
+        uploadTasks.add(progressTracker.track(resultFuture));
         schedulePcuPoller();
       } else {
         UploadCallable callable =
-            new UploadCallable(transferManagerConfig, storage, blobInfo, file, config, opts);
-        uploadTasks.add(convert(executor.submit(callable)));
+            new UploadCallable(
+                transferManagerConfig, storage, blobInfo, file, config, opts, progressTracker);
+        uploadTasks.add(progressTracker.track(convert(executor.submit(callable))));
       }
     }
+    reportProgress(
+        progressTracker,
+        config.getProgressListener(),
+        config.getProgressReportInterval(),
+        uploadTasks);
     return UploadJob.newBuilder()
         .setParallelUploadConfig(config)
         .setUploadResults(ImmutableList.copyOf(uploadTasks))
+        .setProgressTracker(progressTracker)
         .build();
   }
 
@@ -145,6 +216,7 @@ final class TransferManagerImpl implements TransferManager {
     Storage.BlobSourceOption[] opts =
         config.getOptionsPerRequest().toArray(new Storage.BlobSourceOption[0]);
     List<ApiFuture<DownloadResult>> downloadTasks = new ArrayList<>();
+    TransferProgressTracker progressTracker = new TransferProgressTracker();
     for (BlobInfo blob : blobs) {
       Path destPath = TransferManagerUtils.createAndValidateDestPath(config, blob);
       if (destPath == null) {
@@ -154,12 +226,18 @@ final class TransferManagerImpl implements TransferManager {
                     new PathTraversalBlockedException(
                         blob.getName(), config.getDownloadDirectory()))
                 .build();
-        downloadTasks.add(ApiFutures.immediateFuture(skipped));
+        progressTracker.expect(blob.getSize());
+        downloadTasks.add(progressTracker.track(ApiFutures.immediateFuture(skipped)));
         continue;
       }
+      Long expectedSize = blob.getSize();
       if (transferManagerConfig.isAllowDivideAndConquerDownload()) {
         BlobInfo validatedBlob = retrieveSizeAndGeneration(storage, blob, config.getBucketName());
+        if (validatedBlob != null) {
+          expectedSize = validatedBlob.getSize();
+        }
         if (validatedBlob != null && qos.divideAndConquer(validatedBlob.getSize())) {
+          progressTracker.expect(expectedSize);
           DownloadResult optimisticResult =
               DownloadResult.newBuilder(validatedBlob, TransferStatus.SUCCESS)
                   .setOutputDestination(destPath)
@@ -171,35 +249,87 @@ final class TransferManagerImpl implements TransferManager {
                   .map(
                       r ->
                           new ChunkedDownloadCallable(
-                              storage, validatedBlob, opts, destPath, r.begin, r.end))
+                              storage,
+                              validatedBlob,
+                              opts,
+                              destPath,
+                              r.begin,
+                              r.end,
+                              progressTracker))
                   .map(executor::submit)
                   .map(TransferManagerImpl::convert)
                   .collect(ImmutableList.toImmutableList());
 
           downloadTasks.add(
-              ApiFutures.transform(
-                  ApiFutures.allAsList(downloadSegmentTasks),
-                  segments ->
-                      segments.stream()
-                          .reduce(
-                              optimisticResult,
-                              DownloadSegment::reduce,
-                              BinaryOperator.minBy(DownloadResult.COMPARATOR)),
-                  MoreExecutors.directExecutor()));
+              progressTracker.track(
+                  ApiFutures.transform(
+                      ApiFutures.allAsList(downloadSegmentTasks),
+                      segments ->
+                          validateCrc32c(
+                              validatedBlob,
+                              segments,
+                              segments.stream()
+                                  .reduce(
+                                      optimisticResult,
+                                      DownloadSegment::reduce,
+                                      BinaryOperator.minBy(DownloadResult.COMPARATOR))),
+                      MoreExecutors.directExecutor())));
           continue;
         }
       }
+      progressTracker.expect(expectedSize);
       DirectDownloadCallable callable =
-          new DirectDownloadCallable(storage, blob, config, opts, destPath);
-      downloadTasks.add(convert(executor.submit(callable)));
+          new DirectDownloadCallable(storage, blob, config, opts, destPath, progressTracker);
+      downloadTasks.add(progressTracker.track(convert(executor.submit(callable))));
     }
 
+    reportProgress(
+        progressTracker,
+        config.getProgressListener(),
+        config.getProgressReportInterval(),
+        downloadTasks);
     return DownloadJob.newBuilder()
         .setDownloadResults(downloadTasks)
         .setParallelDownloadConfig(config)
+        .setProgressTracker(progressTracker)
         .build();
   }
 
+  @Override
+  public @NonNull ListJob listBlobs(ParallelListConfig config) {
+    String bucketName = config.getBucketName();
+    List<BlobListOption> optionsPerRequest = config.getOptionsPerRequest();
+    String prefix = config.getPrefix();
+    ParallelListing listing =
+        ParallelListing.start(
+            (startOffset, endOffset) -> {
+              List<BlobListOption> opts = new ArrayList<>(optionsPerRequest);
+              if (!prefix.isEmpty()) {
+                opts.add(BlobListOption.prefix(prefix));
+              }
+              if (startOffset != null) {
+                opts.add(BlobListOption.startOffset(startOffset));
+              }
+              if (endOffset != null) {
+                opts.add(BlobListOption.endOffset(endOffset));
+              }
+              return storage.list(bucketName, opts.toArray(new BlobListOption[0]));
+            },
+            newListingExecutor(transferManagerConfig),
+            transferManagerConfig.getMaxWorkers(),
+            config);
+    listings.removeIf(ParallelListing::isDone);
+    listings.add(listing);
+    return new ListJob(listing, config);
+  }
+
+  @Override
+  public @NonNull CopyJob copyObjects(ParallelCopyConfig config) {
+    return new CopyJob(
+        ParallelCopy.start(storage, config, executor, transferManagerConfig.getMaxWorkers()),
+        config);
+  }
+
   private void schedulePcuPoller() {
     if (pcuPoller == null) {
       synchronized (pcuPollerSync) {
@@ -220,6 +350,38 @@ final class TransferManagerImpl implements TransferManager {
     }
   }
 
+  private static @Nullable Long sizeOf(Path file) {
+    try {
+      return Files.size(file);
+    } catch (IOException e) {
+      // the failure will be reported by the result of the upload
+      return null;
+    }
+  }
+
+  private void reportProgress(
+      TransferProgressTracker progressTracker,
+      @Nullable TransferProgressListener listener,
+      Duration interval,
+      List<? extends ApiFuture<?>> results) {
+    if (listener == null) {
+      return;
+    }
+    if (progressScheduler == null) {
+      synchronized (progressSchedulerSync) {
+        if (progressScheduler == null) {
+          progressScheduler =
+              Executors.newSingleThreadScheduledExecutor(
+                  new ThreadFactoryBuilder()
+                      .setDaemon(true)
+                      .setNameFormat("gcs-tm-progress-%d")
+                      .build());
+        }
+      }
+    }
+    progressTracker.reportTo(listener, interval, results, progressScheduler);
+  }
+
   private static <T> ApiFuture<T> convert(ListenableFuture<T> lf) {
     return new ListenableFutureToApiFuture<>(lf);
   }
@@ -228,12 +390,51 @@ final class TransferManagerImpl implements TransferManager {
       Storage storage, BlobInfo blobInfo, String bucketName) {
     if (blobInfo.getGeneration() == null) {
       return storage.get(BlobId.of(bucketName, blobInfo.getName()));
-    } else if (blobInfo.getSize() == null) {
+    } else if (blobInfo.getSize() == null || blobInfo.getCrc32c() == null) {
+      // the crc32c is needed to validate the segments once they have all been downloaded
       return storage.get(BlobId.of(bucketName, blobInfo.getName(), blobInfo.getGeneration()));
     }
     return blobInfo;
   }
 
+  /**
+   * If all segments succeeded, combine the crc32c of each segment in offset order and compare it
+   * with the crc32c of the object. A mismatch is reported as {@link
+   * TransferStatus#FAILED_TO_FINISH}.
+   *
+   * @param segments The segments of {@code blob}, in offset order
+   */
+  @VisibleForTesting
+  static DownloadResult validateCrc32c(
+      BlobInfo blob, List<DownloadSegment> segments, DownloadResult result) {
+    String expectedCrc32c = blob.getCrc32c();
+    if (result.getStatus() != TransferStatus.SUCCESS || expectedCrc32c == null) {
+      return result;
+    }
+    Crc32cAccumulator actual = Crc32cAccumulator.create();
+    for (DownloadSegment segment : segments) {
+      Crc32cAccumulator crc32c = segment.getCrc32c();
+      if (crc32c == null) {
+        return result;
+      }
+      actual = actual.concat(crc32c);
+    }
+    if (!actual.mismatches(expectedCrc32c)) {
+      return result;
+    }
+    return DownloadResult.newBuilder(blob, TransferStatus.FAILED_TO_FINISH)
+        .setException(
+            new StorageException(
+                0,
+                String.format(
+                    Locale.US,
+                    "Mismatch checksum value. Expected %s actual %s for object %s",
+                    expectedCrc32c,
+                    actual,
+                    blob.getBlobId().toGsUtilUriWithGeneration())))
+        .build();
+  }
+
   private static ImmutableList<Range> computeRanges(long end, long segmentSize) {
     ImmutableList.Builder<Range> b = ImmutableList.builder();
 
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.BetaApi;
+import com.google.common.base.MoreObjects;
+import java.time.Duration;
+import java.util.Objects;
+import org.checkerframework.checker.nullness.qual.NonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * A point-in-time snapshot of the progress of an {@link UploadJob} or {@link DownloadJob}.
+ *
+ * @see UploadJob#getProgress()
+ * @see DownloadJob#getProgress()
+ * @see TransferProgressListener
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+public final class TransferProgress {
+
+  private final long bytesTransferred;
+  private final @Nullable Long totalBytes;
+  private final int transfersCompleted;
+  private final int totalTransfers;
+  private final double bytesPerSecond;
+  @NonNull private final Duration elapsed;
+
+  TransferProgress(
+      long bytesTransferred,
+      @Nullable Long totalBytes,
+      int transfersCompleted,
+      int totalTransfers,
+      double bytesPerSecond,
+      @NonNull Duration elapsed) {
+    this.bytesTransferred = bytesTransferred;
+    this.totalBytes = totalBytes;
+    this.transfersCompleted = transfersCompleted;
+    this.totalTransfers = totalTransfers;
+    this.bytesPerSecond = bytesPerSecond;
+    this.elapsed = elapsed;
+  }
+
+  /**
+   * The number of bytes which have been transferred so far. Bytes written before a transfer failed
+   * are included.
+   *
+   * <p>Uploads which are not performed as parallel composite uploads are counted once the upload of
+   * the file completes.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public long getBytesTransferred() {
+    return bytesTransferred;
+  }
+
+  /**
+   * The total number of bytes of the job, or {@code null} if the size of at least one object or
+   * file was not known when the job was started.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Long getTotalBytes() {
+    return totalBytes;
+  }
+
+  /**
+   * The number of transfers of the job which have completed, regardless of their {@link
+   * TransferStatus}.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getTransfersCompleted() {
+    return transfersCompleted;
+  }
+
+  /**
+   * The number of transfers in the job.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public int getTotalTransfers() {
+    return totalTransfers;
+  }
+
+  /**
+   * The transfer rate of the job, averaged over a moving window of the most recent ten seconds.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public double getBytesPerSecond() {
+    return bytesPerSecond;
+  }
+
+  /**
+   * The amount of time which has elapsed since the job was started.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull Duration getElapsed() {
+    return elapsed;
+  }
+
+  /**
+   * Whether every transfer of the job has completed.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public boolean isDone() {
+    return transfersCompleted >= totalTransfers;
+  }
+
+  /**
+   * An estimate of the time remaining for the job based on the {@link #getBytesPerSecond() current
+   * rate}, or {@code null} if the total size of the job is not known or no bytes are currently
+   * being transferred.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @Nullable Duration getEstimatedTimeRemaining() {
+    if (isDone()) {
+      return Duration.ZERO;
+    }
+    if (totalBytes == null || bytesPerSecond <= 0) {
+      return null;
+    }
+    long remaining = Math.max(0, totalBytes - bytesTransferred);
+    return Duration.ofNanos((long) (remaining / bytesPerSecond * 1_000_000_000L));
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TransferProgress)) {
+      return false;
+    }
+    TransferProgress that = (TransferProgress) o;
+    return bytesTransferred == that.bytesTransferred
+        && transfersCompleted == that.transfersCompleted
+        && totalTransfers == that.totalTransfers
+        && Double.compare(that.bytesPerSecond, bytesPerSecond) == 0
+        && Objects.equals(totalBytes, that.totalBytes)
+        && elapsed.equals(that.elapsed);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(
+        bytesTransferred, totalBytes, transfersCompleted, totalTransfers, bytesPerSecond, elapsed);
+  }
+
+  @Override
+  public String toString() {
+    return MoreObjects.toStringHelper(this)
+        .add("bytesTransferred", bytesTransferred)
+        .add("totalBytes", totalBytes)
+        .add("transfersCompleted", transfersCompleted)
+        .add("totalTransfers", totalTransfers)
+        .add("bytesPerSecond", bytesPerSecond)
+        .add("elapsed", elapsed)
+        .toString();
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.BetaApi;
+
+/**
+ * Receives periodic {@link TransferProgress} reports for a job submitted to {@link
+ * TransferManager}.
+ *
+ * <p>Reports are delivered on an internal thread and are never delivered concurrently for the same
+ * job. Implementations should return quickly; a slow listener delays subsequent reports but does
+ * not slow down the transfers themselves.
+ *
+ * @see ParallelUploadConfig.Builder#setProgressListener(TransferProgressListener)
+ * @see ParallelDownloadConfig.Builder#setProgressListener(TransferProgressListener)
+ * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+ */
+@BetaApi
+@FunctionalInterface
+public interface TransferProgressListener {
+
+  /**
+   * Invoked once per report interval while the job is running, and one final time after every
+   * transfer of the job has completed. If the {@link TransferManager} is closed first, transfers
+   * which had not started are cancelled and the final report is delivered once those in progress
+   * have stopped.
+   *
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  void onProgress(TransferProgress progress);
+}
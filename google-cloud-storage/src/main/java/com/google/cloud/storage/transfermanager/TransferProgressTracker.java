@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Tracks the progress of a single {@link UploadJob} or {@link DownloadJob}.
+ *
+ * <p>Bytes are counted from the copy loop of each transfer into a {@link LongAdder}, allowing many
+ * workers to update the count without contending with one another. The transfer rate is computed
+ * from samples recorded each time a {@link #snapshot() snapshot} is taken, keeping all the
+ * bookkeeping for the moving window out of the copy loops.
+ */
+final class TransferProgressTracker {
+  private static final long RATE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(10);
+  // bounds the number of samples retained for the window, regardless of how often snapshots are
+  // taken
+  private static final long MIN_SAMPLE_SPACING_NANOS = RATE_WINDOW_NANOS / 20;
+
+  private final LongAdder bytesTransferred;
+  private final AtomicInteger transfersCompleted;
+  private final LongSupplier nanoTime;
+  private final long startNanos;
+
+  // all the following fields are guarded by this
+  private final ArrayDeque<Sample> samples;
+  private int totalTransfers;
+  private long totalBytes;
+  private boolean totalBytesUnknown;
+
+  TransferProgressTracker() {
+    this(System::nanoTime);
+  }
+
+  @VisibleForTesting
+  TransferProgressTracker(LongSupplier nanoTime) {
+    this.bytesTransferred = new LongAdder();
+    this.transfersCompleted = new AtomicInteger();
+    this.nanoTime = nanoTime;
+    this.startNanos = nanoTime.getAsLong();
+    this.samples = new ArrayDeque<>();
+    this.samples.add(new Sample(startNanos, 0));
+  }
+
+  /** A tracker which only counts the completion of each of {@code results}. */
+  static TransferProgressTracker completionOf(List<? extends ApiFuture<?>> results) {
+    TransferProgressTracker tracker = new TransferProgressTracker();
+    for (ApiFuture<?> result : results) {
+      tracker.expect(null);
+      tracker.track(result);
+    }
+    return tracker;
+  }
+
+  /**
+   * Register a transfer as part of this job.
+   *
+   * @param size the number of bytes the transfer is expected to move, or {@code null} if unknown
+   */
+  synchronized void expect(@Nullable Long size) {
+    totalTransfers++;
+    if (size == null) {
+      totalBytesUnknown = true;
+    } else {
+      totalBytes += size;
+    }
+  }
+
+  void addBytes(long bytes) {
+    bytesTransferred.add(bytes);
+  }
+
+  /** Count the transfer as completed once {@code result} resolves, regardless of its outcome. */
+  <T> ApiFuture<T> track(ApiFuture<T> result) {
+    result.addListener(transfersCompleted::incrementAndGet, MoreExecutors.directExecutor());
+    return result;
+  }
+
+  /** Wrap {@code delegate} so that every byte written to it is counted. */
+  WritableByteChannel track(WritableByteChannel delegate) {
+    return new CountingWritableByteChannel(this, delegate);
+  }
+
+  synchronized TransferProgress snapshot() {
+    long now = nanoTime.getAsLong();
+    long bytes = bytesTransferred.sum();
+
+    // drop samples which have aged out of the window, while retaining the newest of them as the
+    // base of the window
+    long windowStart = now - RATE_WINDOW_NANOS;
+    Sample base = samples.removeFirst();
+    while (!samples.isEmpty() && samples.getFirst().nanos <= windowStart) {
+      base = samples.removeFirst();
+    }
+    samples.addFirst(base);
+    long elapsedInWindow = now - base.nanos;
+    double bytesPerSecond =
+        elapsedInWindow <= 0
+            ? 0
+            : (bytes - base.bytes) * (double) TimeUnit.SECONDS.toNanos(1) / elapsedInWindow;
+
+    if (now - samples.getLast().nanos >= MIN_SAMPLE_SPACING_NANOS) {
+      samples.addLast(new Sample(now, bytes));
+    }
+
+    return new TransferProgress(
+        bytes,
+        totalBytesUnknown ? null : totalBytes,
+        transfersCompleted.get(),
+        totalTransfers,
+        bytesPerSecond,
+        Duration.ofNanos(now - startNanos));
+  }
+
+  /**
+   * Deliver a report to {@code listener} every {@code interval} until all {@code results} have
+   * resolved, at which point one final report is delivered.
+   */
+  void reportTo(
+      TransferProgressListener listener,
+      Duration interval,
+      List<? extends ApiFuture<?>> results,
+      ScheduledExecutorService scheduler) {
+    Reporter reporter = new Reporter(this, listener);
+    long intervalNanos = interval.toNanos();
+    ScheduledFuture<?> task =
+        scheduler.scheduleAtFixedRate(reporter, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+    ApiFutures.successfulAsList(results)
+        .addListener(
+            () -> {
+              task.cancel(false);
+              reporter.finish();
+            },
+            MoreExecutors.directExecutor());
+  }
+
+  private static final class Sample {
+    private final long nanos;
+    private final long bytes;
+
+    private Sample(long nanos, long bytes) {
+      this.nanos = nanos;
+      this.bytes = bytes;
+    }
+  }
+
+  private static final class Reporter implements Runnable {
+    private final TransferProgressTracker tracker;
+    private final TransferProgressListener listener;
+    private boolean finished;
+
+    private Reporter(TransferProgressTracker tracker, TransferProgressListener listener) {
+      this.tracker = tracker;
+      this.listener = listener;
+    }
+
+    @Override
+    public synchronized void run() {
+      if (!finished) {
+        deliver();
+      }
+    }
+
+    private synchronized void finish() {
+      if (!finished) {
+        finished = true;
+        deliver();
+      }
+    }
+
+    private void deliver() {
+      try {
+        listener.onProgress(tracker.snapshot());
+      } catch (RuntimeException ignore) {
+        // a listener which throws must not prevent the reports which follow it, nor fail the
+        // transfer which happened to complete the job
+      }
+    }
+  }
+
+  private static final class CountingWritableByteChannel implements WritableByteChannel {
+    private final TransferProgressTracker tracker;
+    private final WritableByteChannel delegate;
+
+    private CountingWritableByteChannel(
+        TransferProgressTracker tracker, WritableByteChannel delegate) {
+      this.tracker = tracker;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      int written = delegate.write(src);
+      if (written > 0) {
+        tracker.addBytes(written);
+      }
+      return written;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return delegate.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      delegate.close();
+    }
+  }
+}
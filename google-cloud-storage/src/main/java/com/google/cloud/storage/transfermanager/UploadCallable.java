@@ -16,13 +16,18 @@
 
 package com.google.cloud.storage.transfermanager;
 
-import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.BlobWriteSession;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.Storage.BlobWriteOption;
 import com.google.cloud.storage.StorageException;
+import com.google.common.io.ByteStreams;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
 
 final class UploadCallable implements Callable<UploadResult> {
   private final TransferManagerConfig transferManagerConfig;
@@ -35,6 +40,7 @@ final class UploadCallable implements Callable<UploadResult> {
   private final ParallelUploadConfig parallelUploadConfig;
 
   private final Storage.BlobWriteOption[] opts;
+  private final TransferProgressTracker progressTracker;
 
   public UploadCallable(
       TransferManagerConfig transferManagerConfig,
@@ -42,13 +48,15 @@ final class UploadCallable implements Callable<UploadResult> {
       BlobInfo originalBlob,
       Path sourceFile,
       ParallelUploadConfig parallelUploadConfig,
-      BlobWriteOption[] opts) {
+      BlobWriteOption[] opts,
+      TransferProgressTracker progressTracker) {
     this.transferManagerConfig = transferManagerConfig;
     this.storage = storage;
     this.originalBlob = originalBlob;
     this.sourceFile = sourceFile;
     this.parallelUploadConfig = parallelUploadConfig;
     this.opts = opts;
+    this.progressTracker = progressTracker;
   }
 
   public UploadResult call() throws Exception {
@@ -57,11 +65,12 @@ final class UploadCallable implements Callable<UploadResult> {
   }
 
   private UploadResult uploadWithoutChunking() {
-    try {
-      Blob from = storage.createFrom(originalBlob, sourceFile, opts);
-      return UploadResult.newBuilder(originalBlob, TransferStatus.SUCCESS)
-          .setUploadedBlob(from.asBlobInfo())
-          .build();
+    BlobWriteSession session = storage.blobWriteSession(originalBlob, opts);
+    try (WritableByteChannel writableByteChannel = session.open();
+        FileChannel fc = FileChannel.open(sourceFile, StandardOpenOption.READ)) {
+      // copy rather than createFrom, so progress is reported as bytes are written, not only once
+      // the whole file has been uploaded
+      ByteStreams.copy(fc, progressTracker.track(writableByteChannel));
     } catch (StorageException e) {
       if (parallelUploadConfig.isSkipIfExists() && e.getCode() == 412) {
         return UploadResult.newBuilder(originalBlob, TransferStatus.SKIPPED)
@@ -78,5 +87,16 @@ final class UploadCallable implements Callable<UploadResult> {
           .setException(e)
           .build();
     }
+    try {
+      // the channel has been closed, the result is already available
+      BlobInfo newBlob = session.getResult().get();
+      return UploadResult.newBuilder(originalBlob, TransferStatus.SUCCESS)
+          .setUploadedBlob(newBlob)
+          .build();
+    } catch (InterruptedException | ExecutionException e) {
+      return UploadResult.newBuilder(originalBlob, TransferStatus.FAILED_TO_FINISH)
+          .setException(e)
+          .build();
+    }
   }
 }
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
+import com.google.api.core.BetaApi;
 import com.google.api.gax.rpc.ApiExceptions;
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
@@ -39,11 +40,15 @@ public final class UploadJob {
 
   @NonNull private final ParallelUploadConfig parallelUploadConfig;
 
+  @NonNull private final TransferProgressTracker progressTracker;
+
   private UploadJob(
       @NonNull List<ApiFuture<UploadResult>> uploadResults,
-      @NonNull ParallelUploadConfig parallelUploadConfig) {
+      @NonNull ParallelUploadConfig parallelUploadConfig,
+      @NonNull TransferProgressTracker progressTracker) {
     this.uploadResults = uploadResults;
     this.parallelUploadConfig = parallelUploadConfig;
+    this.progressTracker = progressTracker;
   }
 
   /**
@@ -66,6 +71,18 @@ public final class UploadJob {
     return parallelUploadConfig;
   }
 
+  /**
+   * A snapshot of the progress of this job. This method does not block, and may be called as
+   * frequently as desired while the job is running.
+   *
+   * @see ParallelUploadConfig.Builder#setProgressListener(TransferProgressListener)
+   * @since 2.65.0 This new api is in preview and is subject to breaking changes.
+   */
+  @BetaApi
+  public @NonNull TransferProgress getProgress() {
+    return progressTracker.snapshot();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -106,6 +123,7 @@ public final class UploadJob {
     private @NonNull List<ApiFuture<UploadResult>> uploadResults;
 
     private @MonotonicNonNull ParallelUploadConfig parallelUploadConfig;
+    private @MonotonicNonNull TransferProgressTracker progressTracker;
 
     private Builder() {
       this.uploadResults = ImmutableList.of();
@@ -133,6 +151,11 @@ public final class UploadJob {
       return this;
     }
 
+    Builder setProgressTracker(@NonNull TransferProgressTracker progressTracker) {
+      this.progressTracker = progressTracker;
+      return this;
+    }
+
     /**
      * Creates a UploadJob object.
      *
@@ -141,7 +164,12 @@ public final class UploadJob {
     public UploadJob build() {
       checkNotNull(uploadResults);
       checkNotNull(parallelUploadConfig);
-      return new UploadJob(uploadResults, parallelUploadConfig);
+      TransferProgressTracker tracker = progressTracker;
+      if (tracker == null) {
+        // a job assembled outside of TransferManager can only observe when its transfers complete
+        tracker = TransferProgressTracker.completionOf(uploadResults);
+      }
+      return new UploadJob(uploadResults, parallelUploadConfig, tracker);
     }
   }
 }
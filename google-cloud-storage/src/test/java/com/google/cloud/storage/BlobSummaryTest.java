@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.protobuf.FieldMask;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.Test;
+
+public final class BlobSummaryTest {
+
+  private static final BlobInfo INFO =
+      BlobInfo.newBuilder("bucket", "object", 1234L)
+          .setMetageneration(3L)
+          .setSize(567L)
+          .setCrc32c("AAAAAQ==")
+          .setMd5("1B2M2Y8AsgTpgAmY7PhCfg==")
+          .setUpdateTimeOffsetDateTime(
+              OffsetDateTime.of(2026, 1, 2, 3, 4, 5, 6_000_000, ZoneOffset.UTC))
+          .setContentType("text/plain")
+          .build();
+
+  @Test
+  public void jsonAndGrpcDecodeEquivalently() throws Exception {
+    BlobSummary json =
+        Conversions.json().blobSummary().decode(Conversions.json().blobInfo().encode(INFO));
+    BlobSummary grpc =
+        Conversions.grpc().blobSummary().decode(Conversions.grpc().blobInfo().encode(INFO));
+
+    assertAll(
+        () -> assertThat(json).isEqualTo(grpc),
+        () -> assertThat(json.getBlobId()).isEqualTo(INFO.getBlobId()),
+        () -> assertThat(json.getMetageneration()).isEqualTo(3L),
+        () -> assertThat(json.getSize()).isEqualTo(567L),
+        () -> assertThat(json.getCrc32c()).isEqualTo(INFO.getCrc32c()),
+        () -> assertThat(json.getMd5()).isEqualTo(INFO.getMd5()),
+        () -> assertThat(json.getUpdateTime()).isEqualTo(INFO.getUpdateTimeOffsetDateTime()),
+        () -> assertThat(json.isDirectory()).isFalse());
+  }
+
+  @Test
+  public void grpc_fieldsNotInReadMaskAreAbsent() throws Exception {
+    BlobSummary summary =
+        Conversions.grpc()
+            .blobSummary(
+                FieldMask.newBuilder().addPaths("bucket").addPaths("name").addPaths("size").build())
+            .decode(
+                Conversions.grpc().blobInfo().encode(INFO).toBuilder()
+                    .clearGeneration()
+                    .clearMetageneration()
+                    .build());
+    BlobSummary json =
+        Conversions.json()
+            .blobSummary()
+            .decode(
+                Conversions.json()
+                    .blobInfo()
+                    .encode(INFO)
+                    .setGeneration(null)
+                    .setMetageneration(null));
+    assertAll(
+        () -> assertThat(summary.getGeneration()).isNull(),
+        () -> assertThat(summary.getMetageneration()).isNull(),
+        () -> assertThat(summary.getSize()).isEqualTo(567L),
+        () -> assertThat(summary).isEqualTo(json));
+  }
+
+  @Test
+  public void streamingDecode_sameAsModelDecode() throws Exception {
+    JsonFactory factory = GsonFactory.getDefaultInstance();
+    StorageObject model = Conversions.json().blobInfo().encode(INFO);
+    String json = factory.toString(model);
+
+    JsonParser parser = factory.createJsonParser(json);
+    parser.nextToken();
+    BlobSummary actual = StreamingBlobSummaryDecoder.INSTANCE.decodeObject(parser);
+
+    assertAll(
+        () -> assertThat(actual).isEqualTo(Conversions.json().blobSummary().decode(model)),
+        () -> assertThat(parser.nextToken()).isNull());
+  }
+
+  @Test
+  public void asBlobInfo_onlyCarriesSummaryFields() throws Exception {
+    BlobInfo info =
+        Conversions.json()
+            .blobSummary()
+            .decode(Conversions.json().blobInfo().encode(INFO))
+            .asBlobInfo();
+    assertAll(
+        () -> assertThat(info.getBlobId()).isEqualTo(INFO.getBlobId()),
+        () -> assertThat(info.getSize()).isEqualTo(INFO.getSize()),
+        () -> assertThat(info.getCrc32c()).isEqualTo(INFO.getCrc32c()),
+        () ->
+            assertThat(info.getUpdateTimeOffsetDateTime())
+                .isEqualTo(INFO.getUpdateTimeOffsetDateTime()),
+        () -> assertThat(info.getContentType()).isNull());
+  }
+
+  @Test
+  public void directory() throws Exception {
+    StorageObject prefix =
+        new StorageObject().set("isDirectory", true).setBucket("bucket").setName("dir/");
+    BlobSummary summary = Conversions.json().blobSummary().decode(prefix);
+    assertAll(
+        () -> assertThat(summary).isEqualTo(BlobSummary.directory("bucket", "dir/")),
+        () -> assertThat(summary.isDirectory()).isTrue(),
+        () -> assertThat(summary.getGeneration()).isNull(),
+        () -> assertThat(summary.asBlobInfo().isDirectory()).isTrue());
+  }
+}
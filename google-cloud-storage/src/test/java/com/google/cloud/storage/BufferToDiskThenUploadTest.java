@@ -16,21 +16,41 @@
 
 package com.google.cloud.storage;
 
+import static com.google.cloud.storage.TestUtils.assertAll;
 import static com.google.cloud.storage.TestUtils.xxd;
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
 
 import com.google.cloud.storage.BlobWriteSessionConfig.WriterFactory;
+import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.BufferAllocationStrategy;
+import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ExecutorSupplier;
+import com.google.cloud.storage.Storage.ComposeRequest;
+import com.google.cloud.storage.Storage.ComposeRequest.SourceBlob;
+import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
 import com.google.cloud.storage.UnifiedOpts.ObjectTargetOpt;
 import com.google.cloud.storage.UnifiedOpts.Opts;
 import com.google.cloud.storage.it.ChecksummedTestContent;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
@@ -171,4 +191,237 @@ public final class BufferToDiskThenUploadTest {
       open.write(ByteBuffer.wrap(testContent.getBytes()));
     }
   }
+
+  @Test
+  public void parallelCompositeUpload() throws Exception {
+    Path tempDir = temporaryFolder.newFolder(testName.getMethodName()).toPath();
+
+    BufferToDiskThenUpload btdtu =
+        BlobWriteSessionConfigs.bufferToDiskThenUpload(tempDir)
+            .withParallelCompositeUpload(
+                BlobWriteSessionConfigs.parallelCompositeUpload()
+                    .withBufferAllocationStrategy(BufferAllocationStrategy.simple(32))
+                    .withExecutorSupplier(ExecutorSupplier.fixedPool(2)));
+    TestClock clock = TestClock.tickBy(Instant.EPOCH, Duration.ofSeconds(1));
+    WriterFactory factory = btdtu.createFactory(clock);
+
+    BlobInfo blobInfo = BlobInfo.newBuilder("bucket", "object").build();
+    byte[] bytes = DataGenerator.base64Characters().genBytes(100);
+    ComposingStorageInternal storage = new ComposingStorageInternal();
+    WritableByteChannelSession<?, BlobInfo> writeSession =
+        factory.writeSession(storage, blobInfo, Opts.empty());
+
+    try (WritableByteChannel open = writeSession.open()) {
+      open.write(ByteBuffer.wrap(bytes));
+    }
+    BlobInfo result = writeSession.getResult().get(5, TimeUnit.SECONDS);
+
+    assertAll(
+        () -> assertThat(result.getName()).isEqualTo("object"),
+        () -> assertThat(xxd(storage.objects.get("object"))).isEqualTo(xxd(bytes)),
+        // 32 + 32 + 32 + 4
+        () -> assertThat(storage.partSizes).containsExactly(32, 32, 32, 4),
+        () -> assertThat(storage.deleted).hasSize(4),
+        () -> assertThat(storage.createFromCount.get()).isEqualTo(0),
+        () -> assertThat(Files.list(tempDir).count()).isEqualTo(0));
+  }
+
+  @Test
+  public void parallelCompositeUpload_singlePartUsesSingleStream() throws Exception {
+    Path tempDir = temporaryFolder.newFolder(testName.getMethodName()).toPath();
+
+    BufferToDiskThenUpload btdtu =
+        BlobWriteSessionConfigs.bufferToDiskThenUpload(tempDir)
+            .withParallelCompositeUpload(
+                BlobWriteSessionConfigs.parallelCompositeUpload()
+                    .withBufferAllocationStrategy(BufferAllocationStrategy.simple(256)));
+    TestClock clock = TestClock.tickBy(Instant.EPOCH, Duration.ofSeconds(1));
+    WriterFactory factory = btdtu.createFactory(clock);
+
+    ComposingStorageInternal storage = new ComposingStorageInternal();
+    WritableByteChannelSession<?, BlobInfo> writeSession =
+        factory.writeSession(
+            storage, BlobInfo.newBuilder("bucket", "object").build(), Opts.empty());
+
+    try (WritableByteChannel open = writeSession.open()) {
+      open.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(128)));
+    }
+    writeSession.getResult().get(5, TimeUnit.SECONDS);
+
+    assertAll(
+        () -> assertThat(storage.createFromCount.get()).isEqualTo(1),
+        () -> assertThat(storage.partSizes).isEmpty());
+  }
+
+  @Test
+  public void parallelCompositeUpload_boundsPartsInFlight() throws Exception {
+    Path tempDir = temporaryFolder.newFolder(testName.getMethodName()).toPath();
+
+    BufferToDiskThenUpload btdtu =
+        BlobWriteSessionConfigs.bufferToDiskThenUpload(tempDir)
+            .withParallelCompositeUpload(
+                BlobWriteSessionConfigs.parallelCompositeUpload()
+                    .withBufferAllocationStrategy(BufferAllocationStrategy.simple(8))
+                    .withExecutorSupplier(ExecutorSupplier.fixedPool(64))
+                    .withMaxInFlightFileParts(4));
+    TestClock clock = TestClock.tickBy(Instant.EPOCH, Duration.ofSeconds(1));
+    WriterFactory factory = btdtu.createFactory(clock);
+
+    byte[] bytes = DataGenerator.base64Characters().genBytes(8 * 100);
+    ComposingStorageInternal storage = new ComposingStorageInternal();
+    storage.uploadDelayMillis = 5;
+    WritableByteChannelSession<?, BlobInfo> writeSession =
+        factory.writeSession(
+            storage, BlobInfo.newBuilder("bucket", "object").build(), Opts.empty());
+
+    try (WritableByteChannel open = writeSession.open()) {
+      open.write(ByteBuffer.wrap(bytes));
+    }
+    writeSession.getResult().get(10, TimeUnit.SECONDS);
+
+    assertAll(
+        () -> assertThat(xxd(storage.objects.get("object"))).isEqualTo(xxd(bytes)),
+        () -> assertThat(storage.partSizes).hasSize(100),
+        () -> assertThat(storage.maxConcurrentUploads.get()).isAtMost(4));
+  }
+
+  @Test
+  public void parallelCompositeUpload_fileCorruptedOnDiskFailsUpload() throws Exception {
+    Path tempDir = temporaryFolder.newFolder(testName.getMethodName()).toPath();
+
+    BufferToDiskThenUpload btdtu =
+        BlobWriteSessionConfigs.bufferToDiskThenUpload(tempDir)
+            .withParallelCompositeUpload(
+                BlobWriteSessionConfigs.parallelCompositeUpload()
+                    .withBufferAllocationStrategy(BufferAllocationStrategy.simple(32)));
+    TestClock clock = TestClock.tickBy(Instant.EPOCH, Duration.ofSeconds(1));
+    WriterFactory factory = btdtu.createFactory(clock);
+
+    ComposingStorageInternal storage = new ComposingStorageInternal();
+    WritableByteChannelSession<?, BlobInfo> writeSession =
+        factory.writeSession(
+            storage, BlobInfo.newBuilder("bucket", "object").build(), Opts.empty());
+
+    WritableByteChannel open = writeSession.open();
+    open.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(100)));
+    // flip a byte of the file after it was hashed on its way to disk
+    try (Stream<Path> files = Files.list(tempDir);
+        FileChannel fc = FileChannel.open(files.findFirst().get(), StandardOpenOption.WRITE)) {
+      fc.write(ByteBuffer.wrap(new byte[] {'!'}), 50);
+    }
+    assertThrows(StorageException.class, open::close);
+
+    ExecutionException ee =
+        assertThrows(
+            ExecutionException.class, () -> writeSession.getResult().get(5, TimeUnit.SECONDS));
+    assertAll(
+        () -> assertThat(ee).hasCauseThat().isInstanceOf(StorageException.class),
+        () -> assertThat(ee).hasCauseThat().hasMessageThat().contains("CRC32C Checksum mismatch"),
+        () -> assertThat(storage.composed).isEmpty(),
+        () -> assertThat(storage.objects).isEmpty(),
+        () -> assertThat(Files.list(tempDir).count()).isEqualTo(0));
+  }
+
+  @Test
+  public void parallelCompositeUpload_partFailureCleansUpAndSurfacesOriginalError()
+      throws Exception {
+    Path tempDir = temporaryFolder.newFolder(testName.getMethodName()).toPath();
+
+    BufferToDiskThenUpload btdtu =
+        BlobWriteSessionConfigs.bufferToDiskThenUpload(tempDir)
+            .withParallelCompositeUpload(
+                BlobWriteSessionConfigs.parallelCompositeUpload()
+                    .withBufferAllocationStrategy(BufferAllocationStrategy.simple(8))
+                    .withExecutorSupplier(ExecutorSupplier.fixedPool(4)));
+    TestClock clock = TestClock.tickBy(Instant.EPOCH, Duration.ofSeconds(1));
+    WriterFactory factory = btdtu.createFactory(clock);
+
+    ComposingStorageInternal storage = new ComposingStorageInternal();
+    storage.failUploadNumber = 5;
+    WritableByteChannelSession<?, BlobInfo> writeSession =
+        factory.writeSession(
+            storage, BlobInfo.newBuilder("bucket", "object").build(), Opts.empty());
+
+    WritableByteChannel open = writeSession.open();
+    open.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(8 * 20)));
+    StorageException se = assertThrows(StorageException.class, open::close);
+
+    assertAll(
+        () -> assertThat(se.getCode()).isEqualTo(503),
+        () -> assertThat(storage.composed).doesNotContain("object"),
+        () -> assertThat(storage.objects).isEmpty(),
+        () -> assertThat(Files.list(tempDir).count()).isEqualTo(0));
+  }
+
+  private static final class ComposingStorageInternal implements StorageInternal {
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final List<Integer> partSizes = Collections.synchronizedList(new ArrayList<>());
+    private final List<BlobId> deleted = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger createFromCount = new AtomicInteger();
+    private final AtomicLong generations = new AtomicLong(1);
+    private final AtomicInteger concurrentUploads = new AtomicInteger();
+    private final AtomicInteger maxConcurrentUploads = new AtomicInteger();
+    private final List<String> composed = Collections.synchronizedList(new ArrayList<>());
+    private volatile long uploadDelayMillis = 0;
+    private final AtomicInteger uploadCount = new AtomicInteger();
+    private volatile int failUploadNumber = -1;
+
+    @Override
+    public BlobInfo internalCreateFrom(Path path, BlobInfo info, Opts<ObjectTargetOpt> opts)
+        throws IOException {
+      createFromCount.incrementAndGet();
+      return put(info, Files.readAllBytes(path));
+    }
+
+    @Override
+    public BlobInfo internalDirectUpload(
+        BlobInfo info, Opts<ObjectTargetOpt> opts, ByteBuffer buf) {
+      maxConcurrentUploads.accumulateAndGet(concurrentUploads.incrementAndGet(), Math::max);
+      try {
+        if (uploadDelayMillis > 0) {
+          Thread.sleep(uploadDelayMillis);
+        }
+        if (uploadCount.incrementAndGet() == failUploadNumber) {
+          throw new StorageException(503, "part upload failed");
+        }
+        byte[] bytes = new byte[buf.remaining()];
+        buf.duplicate().get(bytes);
+        partSizes.add(bytes.length);
+        return put(info, bytes);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException(e);
+      } finally {
+        concurrentUploads.decrementAndGet();
+      }
+    }
+
+    @Override
+    public BlobInfo compose(ComposeRequest composeRequest) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      for (SourceBlob source : composeRequest.getSourceBlobs()) {
+        byte[] bytes = objects.get(source.getName());
+        baos.write(bytes, 0, bytes.length);
+      }
+      composed.add(composeRequest.getTarget().getName());
+      return put(composeRequest.getTarget(), baos.toByteArray());
+    }
+
+    @Override
+    public Void internalObjectDelete(BlobId id, Opts<ObjectSourceOpt> opts) {
+      deleted.add(id);
+      objects.remove(id.getName());
+      return null;
+    }
+
+    private BlobInfo put(BlobInfo info, byte[] bytes) {
+      objects.put(info.getName(), bytes);
+      return info.toBuilder()
+          .setBlobId(info.getBlobId().withGeneration(generations.getAndIncrement()))
+          .setSize((long) bytes.length)
+          .setCrc32c(
+              Utils.crc32cCodec.encode(Hasher.enabled().hash(ByteBuffer.wrap(bytes)).getValue()))
+          .build();
+    }
+  }
 }
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class BulkOperationsEngineTest {
+
+  @Test
+  public void allItemsAreProcessed_concurrencyIsBounded() throws Exception {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    List<BulkOperationResult<Integer, Integer>> results = new ArrayList<>();
+
+    BulkOperationSummary summary =
+        BulkOperationsEngine.run(
+                ints(1000),
+                1,
+                BulkOperationsConfig.of().withMaxConcurrency(8),
+                BulkOperationsEngine.<Integer, Integer>perItem(
+                    i -> {
+                      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                      try {
+                        Thread.sleep(1);
+                      } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                      }
+                      inFlight.decrementAndGet();
+                      return i * 2;
+                    }),
+                results::add)
+            .get(10, TimeUnit.SECONDS);
+
+    List<Integer> inputs =
+        results.stream().map(BulkOperationResult::getInput).sorted().collect(Collectors.toList());
+    assertAll(
+        () -> assertThat(maxInFlight.get()).isAtMost(8),
+        () -> assertThat(maxInFlight.get()).isGreaterThan(1),
+        () -> assertThat(inputs).isEqualTo(ints(1000).asList()),
+        () ->
+            assertThat(results.stream().allMatch(r -> r.getResult() == r.getInput() * 2)).isTrue(),
+        () -> assertThat(summary.getSucceeded()).isEqualTo(1000),
+        () -> assertThat(summary.getFailed()).isEqualTo(0),
+        () -> assertThat(summary.getItemsPerSecond()).isGreaterThan(0d));
+  }
+
+  @Test
+  public void itemsAreGroupedIntoUnits() throws Exception {
+    List<Integer> unitSizes = Collections.synchronizedList(new ArrayList<>());
+
+    BulkOperationSummary summary =
+        BulkOperationsEngine.<Integer, Integer>run(
+                ints(250),
+                100,
+                BulkOperationsConfig.of(),
+                inputs -> {
+                  unitSizes.add(inputs.size());
+                  return inputs.stream()
+                      .map(i -> BulkOperationResult.success(i, i))
+                      .collect(Collectors.toList());
+                },
+                r -> {})
+            .get(10, TimeUnit.SECONDS);
+
+    Collections.sort(unitSizes);
+    assertAll(
+        () -> assertThat(unitSizes).isEqualTo(ImmutableList.of(50, 100, 100)),
+        () -> assertThat(summary.getTotal()).isEqualTo(250));
+  }
+
+  @Test
+  public void failedItemsDoNotStopTheOperation() throws Exception {
+    List<BulkOperationResult<Integer, Integer>> failures = new ArrayList<>();
+
+    BulkOperationSummary summary =
+        BulkOperationsEngine.<Integer, Integer>run(
+                ints(100),
+                1,
+                BulkOperationsConfig.of().withMaxConcurrency(4),
+                BulkOperationsEngine.perItem(
+                    i -> {
+                      if (i % 2 == 0) {
+                        throw new StorageException(404, "not found " + i);
+                      }
+                      return i;
+                    }),
+                r -> {
+                  if (!r.isSuccess()) {
+                    failures.add(r);
+                  }
+                })
+            .get(10, TimeUnit.SECONDS);
+
+    assertAll(
+        () -> assertThat(summary.getSucceeded()).isEqualTo(50),
+        () -> assertThat(summary.getFailed()).isEqualTo(50),
+        () -> assertThat(failures).hasSize(50),
+        () -> assertThat(failures.get(0).getException().getCode()).isEqualTo(404),
+        () -> assertThat(failures.get(0).getResult()).isNull());
+  }
+
+  @Test
+  public void listenerExceptionFailsTheOperation() throws Exception {
+    AtomicInteger performed = new AtomicInteger();
+    IllegalStateException boom = new IllegalStateException("boom");
+
+    ExecutionException ee =
+        assertThrows(
+            ExecutionException.class,
+            () ->
+                BulkOperationsEngine.<Integer, Integer>run(
+                        ints(10_000),
+                        1,
+                        BulkOperationsConfig.of().withMaxConcurrency(2),
+                        BulkOperationsEngine.perItem(i -> performed.incrementAndGet()),
+                        r -> {
+                          throw boom;
+                        })
+                    .get(10, TimeUnit.SECONDS));
+
+    assertAll(
+        () -> assertThat(ee).hasCauseThat().isSameInstanceAs(boom),
+        () -> assertThat(performed.get()).isLessThan(10_000));
+  }
+
+  @Test
+  public void emptyInput() throws Exception {
+    BulkOperationSummary summary =
+        BulkOperationsEngine.<Integer, Integer>run(
+                Collections.emptyIterator(),
+                1,
+                BulkOperationsConfig.of(),
+                BulkOperationsEngine.perItem(i -> i),
+                r -> {})
+            .get(10, TimeUnit.SECONDS);
+
+    assertThat(summary.getTotal()).isEqualTo(0);
+  }
+
+  @Test
+  public void providedExecutorIsUsedAndNotShutdown() throws Exception {
+    ExecutorService exec = Executors.newFixedThreadPool(2);
+    try {
+      List<String> threads = Collections.synchronizedList(new ArrayList<>());
+      BulkOperationsEngine.<Integer, Integer>run(
+              ints(20),
+              1,
+              BulkOperationsConfig.of().withExecutor(exec),
+              BulkOperationsEngine.perItem(
+                  i -> {
+                    threads.add(Thread.currentThread().getName());
+                    return i;
+                  }),
+              r -> {})
+          .get(10, TimeUnit.SECONDS);
+
+      assertAll(
+          () -> assertThat(threads).hasSize(20),
+          () -> assertThat(threads.stream().allMatch(n -> n.startsWith("pool-"))).isTrue(),
+          () -> assertThat(exec.isShutdown()).isFalse());
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void config_batchSizeIsBounded() throws Exception {
+    assertAll(
+        () ->
+            assertThrows(
+                IllegalArgumentException.class, () -> BulkOperationsConfig.of().withBatchSize(0)),
+        () ->
+            assertThrows(
+                IllegalArgumentException.class, () -> BulkOperationsConfig.of().withBatchSize(101)),
+        () ->
+            assertThrows(
+                IllegalArgumentException.class,
+                () -> BulkOperationsConfig.of().withMaxConcurrency(0)));
+  }
+
+  private static IntsIterator ints(int count) {
+    return new IntsIterator(count);
+  }
+
+  private static final class IntsIterator implements Iterator<Integer> {
+    private final int count;
+    private int next;
+
+    private IntsIterator(int count) {
+      this.count = count;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return next < count;
+    }
+
+    @Override
+    public Integer next() {
+      return next++;
+    }
+
+    private List<Integer> asList() {
+      return IntStream.range(0, count).boxed().collect(Collectors.toList());
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.SettableApiFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+
+public final class ChannelUploadSubscriberTest {
+
+  private static final BlobInfo INFO = BlobInfo.newBuilder("bucket", "object").build();
+
+  @Test
+  public void happyPath() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(30);
+    FakeChannel channel = new FakeChannel();
+    SettableApiFuture<BlobInfo> sessionResult = SettableApiFuture.create();
+    ChannelUploadSubscriber subscriber =
+        new ChannelUploadSubscriber(
+            () -> channel, FakeChannel::abort, sessionResult, MoreExecutors.directExecutor());
+    FakeSubscription subscription = new FakeSubscription();
+
+    subscriber.onSubscribe(subscription);
+    long initiallyRequested = subscription.requested;
+    for (int i = 0; i < 3; i++) {
+      subscriber.onNext(ByteBuffer.wrap(bytes, i * 10, 10));
+    }
+    boolean closedBeforeComplete = !channel.open;
+    subscriber.onComplete();
+    boolean resultDoneBeforeSession = subscriber.getResult().isDone();
+    sessionResult.set(INFO);
+
+    assertAll(
+        () -> assertThat(initiallyRequested).isEqualTo(ChannelUploadSubscriber.PREFETCH),
+        () -> assertThat(subscription.requested).isEqualTo(ChannelUploadSubscriber.PREFETCH + 3),
+        () -> assertThat(xxd(channel.baos.toByteArray())).isEqualTo(xxd(bytes)),
+        () -> assertThat(closedBeforeComplete).isFalse(),
+        () -> assertThat(channel.open).isFalse(),
+        () -> assertThat(resultDoneBeforeSession).isFalse(),
+        () -> assertThat(subscriber.getResult().get()).isEqualTo(INFO));
+  }
+
+  @Test
+  public void upstreamError_abandonsUpload() throws Exception {
+    FakeChannel channel = new FakeChannel();
+    ChannelUploadSubscriber subscriber =
+        new ChannelUploadSubscriber(
+            () -> channel,
+            FakeChannel::abort,
+            SettableApiFuture.create(),
+            MoreExecutors.directExecutor());
+    subscriber.onSubscribe(new FakeSubscription());
+    subscriber.onNext(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    subscriber.onError(new Kaboom());
+
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> subscriber.getResult().get());
+    assertAll(
+        () -> assertThat(ee).hasCauseThat().isInstanceOf(Kaboom.class),
+        // closing would finalize the object with partial content
+        () -> assertThat(channel.closed).isFalse(),
+        () -> assertThat(channel.aborted).isTrue());
+  }
+
+  @Test
+  public void upstreamError_beforeAnyBytes_opensNothing() throws Exception {
+    ChannelUploadSubscriber subscriber =
+        new ChannelUploadSubscriber(
+            () -> {
+              throw new IllegalStateException("must not be opened");
+            },
+            FakeChannel::abort,
+            SettableApiFuture.create(),
+            MoreExecutors.directExecutor());
+    subscriber.onSubscribe(new FakeSubscription());
+
+    subscriber.onError(new Kaboom());
+
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> subscriber.getResult().get());
+    assertThat(ee).hasCauseThat().isInstanceOf(Kaboom.class);
+  }
+
+  @Test
+  public void writeFailure_cancelsUpstream() throws Exception {
+    FakeChannel channel = new FakeChannel();
+    channel.failure = new IOException("Kaboom");
+    ChannelUploadSubscriber subscriber =
+        new ChannelUploadSubscriber(
+            () -> channel,
+            FakeChannel::abort,
+            SettableApiFuture.create(),
+            MoreExecutors.directExecutor());
+    FakeSubscription subscription = new FakeSubscription();
+    subscriber.onSubscribe(subscription);
+
+    subscriber.onNext(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> subscriber.getResult().get());
+    assertAll(
+        () -> assertThat(subscription.cancelled).isTrue(),
+        () -> assertThat(channel.closed).isFalse(),
+        () -> assertThat(channel.aborted).isTrue(),
+        () -> assertThat(ee).hasCauseThat().isInstanceOf(StorageException.class),
+        () -> assertThat(ee).hasCauseThat().hasCauseThat().isSameInstanceAs(channel.failure));
+  }
+
+  @Test
+  public void onlyOneSubscription() throws Exception {
+    ChannelUploadSubscriber subscriber =
+        new ChannelUploadSubscriber(
+            FakeChannel::new,
+            FakeChannel::abort,
+            SettableApiFuture.create(),
+            MoreExecutors.directExecutor());
+    FakeSubscription subscription1 = new FakeSubscription();
+    FakeSubscription subscription2 = new FakeSubscription();
+
+    subscriber.onSubscribe(subscription1);
+    subscriber.onSubscribe(subscription2);
+
+    assertAll(
+        () -> assertThat(subscription1.cancelled).isFalse(),
+        () -> assertThat(subscription2.cancelled).isTrue(),
+        () -> assertThat(subscription2.requested).isEqualTo(0));
+  }
+
+  private static final class FakeSubscription implements UploadSubscriber.Subscription {
+    private long requested;
+    private boolean cancelled;
+
+    @Override
+    public void request(long n) {
+      requested += n;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+
+  /** Accepts at most 4 bytes per write, similar to a channel with a nearly full outbound queue */
+  private static final class FakeChannel implements WritableByteChannel {
+    private final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    private boolean open = true;
+    private boolean closed = false;
+    private boolean aborted = false;
+    private IOException failure;
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      if (failure != null) {
+        throw failure;
+      }
+      int n = Math.min(4, src.remaining());
+      for (int i = 0; i < n; i++) {
+        baos.write(src.get());
+      }
+      return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+      closed = true;
+    }
+
+    private static void abort(WritableByteChannel channel) {
+      FakeChannel fake = (FakeChannel) channel;
+      fake.open = false;
+      fake.aborted = true;
+    }
+  }
+
+  private static final class Kaboom extends RuntimeException {
+    private Kaboom() {
+      super("Kaboom!!!");
+    }
+  }
+}
@@ -25,11 +25,15 @@ import com.google.api.gax.rpc.ResponseObserver;
 import com.google.api.gax.rpc.ServerStreamingCallable;
 import com.google.cloud.storage.GrpcUtils.ZeroCopyServerStreamingCallable;
 import com.google.cloud.storage.Retrying.Retrier;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
 import com.google.cloud.storage.it.ChecksummedTestContent;
 import com.google.storage.v2.ReadObjectRequest;
 import com.google.storage.v2.ReadObjectResponse;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.Test;
 
@@ -75,4 +79,45 @@ public final class GapicUnbufferedReadableByteChannelTest {
       assertThat(close.get()).isTrue();
     }
   }
+
+  @Test
+  public void phaseListenerNotified() throws IOException {
+    ChecksummedTestContent testContent =
+        ChecksummedTestContent.of(DataGenerator.base64Characters().genBytes(10));
+
+    List<Phase> phases = Collections.synchronizedList(new ArrayList<>());
+    try (GapicUnbufferedReadableByteChannel c =
+        new GapicUnbufferedReadableByteChannel(
+            SettableApiFuture.create(),
+            new ZeroCopyServerStreamingCallable<>(
+                new ServerStreamingCallable<ReadObjectRequest, ReadObjectResponse>() {
+                  @Override
+                  public void call(
+                      ReadObjectRequest request,
+                      ResponseObserver<ReadObjectResponse> respond,
+                      ApiCallContext context) {
+                    respond.onStart(TestUtils.nullStreamController());
+                    respond.onResponse(
+                        ReadObjectResponse.newBuilder()
+                            .setChecksummedData(testContent.asChecksummedData())
+                            .build());
+                    respond.onComplete();
+                  }
+                },
+                ResponseContentLifecycleManager.noop()),
+            ReadObjectRequest.getDefaultInstance(),
+            Hasher.enabled(),
+            Retrier.attemptOnce(),
+            Retrying.neverRetry(),
+            (phase, elapsedNanos) -> phases.add(phase))) {
+
+      ByteBuffer buffer = ByteBuffer.allocate(15);
+      while (c.read(buffer) != -1) {}
+      assertThat(xxd(buffer)).isEqualTo(xxd(testContent.getBytes()));
+    }
+    assertThat(phases)
+        .containsExactly(
+            Phase.READ_OPEN, Phase.READ_FIRST_BYTE, Phase.READ_TRANSFER, Phase.READ_CHECKSUM)
+        .inOrder();
+  }
 }
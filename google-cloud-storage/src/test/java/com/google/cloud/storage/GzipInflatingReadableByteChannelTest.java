@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.gzipBytes;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.TransferPhaseListener.Phase;
+import com.google.common.primitives.Bytes;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.ZipException;
+import org.junit.Test;
+
+public final class GzipInflatingReadableByteChannelTest {
+
+  private static final byte[] DATA = DataGenerator.base64Characters().genBytes(300 * 1024 + 7);
+
+  @Test
+  public void singleMember() throws Exception {
+    byte[] actual = inflateAll(gzipBytes(DATA), Integer.MAX_VALUE, false);
+    assertThat(xxd(actual)).isEqualTo(xxd(DATA));
+  }
+
+  @Test
+  public void singleMember_smallSourceReads() throws Exception {
+    // force every header, trailer and deflate block boundary to straddle source reads
+    byte[] actual = inflateAll(gzipBytes(DATA), 7, false);
+    assertThat(xxd(actual)).isEqualTo(xxd(DATA));
+  }
+
+  @Test
+  public void singleMember_directDestination() throws Exception {
+    byte[] actual = inflateAll(gzipBytes(DATA), 8192, true);
+    assertThat(xxd(actual)).isEqualTo(xxd(DATA));
+  }
+
+  @Test
+  public void multipleMembers() throws Exception {
+    byte[] a = Arrays.copyOfRange(DATA, 0, 1000);
+    byte[] b = Arrays.copyOfRange(DATA, 1000, DATA.length);
+    byte[] compressed = Bytes.concat(gzipBytes(a), gzipBytes(new byte[0]), gzipBytes(b));
+
+    byte[] actual = inflateAll(compressed, 4096, false);
+    assertThat(xxd(actual)).isEqualTo(xxd(DATA));
+  }
+
+  @Test
+  public void trailingGarbageIsIgnored() throws Exception {
+    byte[] compressed = Bytes.concat(gzipBytes(DATA), new byte[] {0, 1, 2, 3, 4, 5, 6, 7, 8, 9});
+
+    byte[] actual = inflateAll(compressed, Integer.MAX_VALUE, false);
+    assertThat(xxd(actual)).isEqualTo(xxd(DATA));
+  }
+
+  @Test
+  public void optionalHeaderFields() throws Exception {
+    byte[] standard = gzipBytes(DATA);
+    // FHCRC | FEXTRA | FNAME | FCOMMENT
+    byte flags = 2 | 4 | 8 | 16;
+    byte[] header =
+        Bytes.concat(
+            new byte[] {(byte) 0x1f, (byte) 0x8b, 8, flags, 0, 0, 0, 0, 0, (byte) 0xff},
+            // XLEN = 3, followed by 3 bytes of extra field
+            new byte[] {3, 0, 'a', 'b', 'c'},
+            // FNAME and FCOMMENT, each zero terminated
+            "name\0comment\0".getBytes(StandardCharsets.US_ASCII),
+            // FHCRC, not validated
+            new byte[] {0, 0});
+    byte[] compressed = Bytes.concat(header, Arrays.copyOfRange(standard, 10, standard.length));
+
+    byte[] actual = inflateAll(compressed, 3, false);
+    assertThat(xxd(actual)).isEqualTo(xxd(DATA));
+  }
+
+  @Test
+  public void notGzip() {
+    assertThrows(
+        ZipException.class,
+        () -> inflateAll(new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10}, 10, false));
+  }
+
+  @Test
+  public void truncated() {
+    byte[] compressed = gzipBytes(DATA);
+    byte[] truncated = Arrays.copyOf(compressed, compressed.length - 4);
+    assertThrows(EOFException.class, () -> inflateAll(truncated, 1024, false));
+  }
+
+  @Test
+  public void corruptTrailer() {
+    byte[] compressed = gzipBytes(DATA);
+    // flip a bit of the crc32 in the trailer
+    compressed[compressed.length - 8] ^= 1;
+    ZipException ze = assertThrows(ZipException.class, () -> inflateAll(compressed, 1024, false));
+    assertThat(ze).hasMessageThat().contains("crc32 mismatch");
+  }
+
+  @Test
+  public void metricsAreTracked() throws Exception {
+    byte[] compressed = gzipBytes(DATA);
+    AtomicLong decompressNanos = new AtomicLong(-1);
+    TransferPhaseListener listener =
+        (phase, elapsedNanos) -> {
+          if (phase == Phase.READ_DECOMPRESS) {
+            decompressNanos.set(elapsedNanos);
+          }
+        };
+
+    GzipInflatingReadableByteChannel c =
+        new GzipInflatingReadableByteChannel(
+            new ChunkedChannel(compressed, 4096), ByteBuffer.allocate(0), listener);
+    ByteBuffer buf = ByteBuffer.allocate(DATA.length + 1);
+    while (c.read(buf) != -1) {}
+    long inflateNanos = c.getInflateNanos();
+    c.close();
+
+    assertAll(
+        () -> assertThat(buf.position()).isEqualTo(DATA.length),
+        () -> assertThat(c.getCompressedBytes()).isEqualTo(compressed.length),
+        () -> assertThat(c.getDecompressedBytes()).isEqualTo(DATA.length),
+        () -> assertThat(inflateNanos).isGreaterThan(0),
+        () -> assertThat(decompressNanos.get()).isEqualTo(inflateNanos));
+  }
+
+  private static byte[] inflateAll(byte[] compressed, int maxReadSize, boolean direct)
+      throws IOException {
+    // the first byte is provided as the prefix, the same as GzipReadableByteChannel does
+    ByteBuffer prefix = ByteBuffer.wrap(compressed, 0, 1);
+    ChunkedChannel source =
+        new ChunkedChannel(Arrays.copyOfRange(compressed, 1, compressed.length), maxReadSize);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (GzipInflatingReadableByteChannel c =
+        new GzipInflatingReadableByteChannel(source, prefix, TransferPhaseListener.noop(), 1024)) {
+      ByteBuffer buf = direct ? ByteBuffer.allocateDirect(5000) : ByteBuffer.allocate(5000);
+      byte[] tmp = new byte[buf.capacity()];
+      while (c.read(buf) != -1) {
+        buf.flip();
+        int n = buf.remaining();
+        buf.get(tmp, 0, n);
+        baos.write(tmp, 0, n);
+        buf.clear();
+      }
+    }
+    return baos.toByteArray();
+  }
+
+  /** A channel which returns at most {@code maxReadSize} bytes per read */
+  private static final class ChunkedChannel implements ReadableByteChannel {
+    private final ByteBuffer content;
+    private final int maxReadSize;
+    private boolean open = true;
+
+    private ChunkedChannel(byte[] content, int maxReadSize) {
+      this.content = ByteBuffer.wrap(content);
+      this.maxReadSize = maxReadSize;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) {
+      if (!content.hasRemaining()) {
+        return -1;
+      }
+      ByteBuffer slice = content.slice();
+      int n = Math.min(Math.min(maxReadSize, dst.remaining()), slice.remaining());
+      slice.limit(n);
+      dst.put(slice);
+      content.position(content.position() + n);
+      return n;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+  }
+}
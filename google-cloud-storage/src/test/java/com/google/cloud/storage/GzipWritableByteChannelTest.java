@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.common.io.ByteStreams;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+public final class GzipWritableByteChannelTest {
+
+  @Test
+  public void roundTrip_heapBuffers() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(3 * 1024 * 1024 + 7);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    GzipWritableByteChannel gzip =
+        new GzipWritableByteChannel(Channels.newChannel(baos), Deflater.DEFAULT_COMPRESSION);
+    try (WritableByteChannel c = gzip) {
+      // write in uneven slices to exercise multiple deflater inputs
+      for (int i = 0; i < bytes.length; i += 100_003) {
+        c.write(ByteBuffer.wrap(bytes, i, Math.min(100_003, bytes.length - i)));
+      }
+    }
+
+    byte[] compressed = baos.toByteArray();
+    Crc32cLengthKnown expectedCrc32c = Hasher.enabled().hash(ByteBuffer.wrap(compressed));
+    assertAll(
+        () -> assertThat(compressed.length).isLessThan(bytes.length),
+        () -> assertThat(xxd(gunzip(compressed))).isEqualTo(xxd(bytes)),
+        () -> assertThat(gzip.getStoredCrc32c()).isEqualTo(expectedCrc32c));
+  }
+
+  @Test
+  public void roundTrip_directBuffer() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(200 * 1024 + 3);
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes);
+    direct.flip();
+
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    GzipWritableByteChannel gzip =
+        new GzipWritableByteChannel(Channels.newChannel(baos), Deflater.BEST_SPEED);
+    int written;
+    try (WritableByteChannel c = gzip) {
+      written = c.write(direct);
+    }
+
+    byte[] compressed = baos.toByteArray();
+    int finalWritten = written;
+    assertAll(
+        () -> assertThat(finalWritten).isEqualTo(bytes.length),
+        () -> assertThat(direct.hasRemaining()).isFalse(),
+        () -> assertThat(xxd(gunzip(compressed))).isEqualTo(xxd(bytes)));
+  }
+
+  @Test
+  public void empty() throws Exception {
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    new GzipWritableByteChannel(Channels.newChannel(baos), Deflater.DEFAULT_COMPRESSION).close();
+
+    assertThat(gunzip(baos.toByteArray())).isEmpty();
+  }
+
+  @Test
+  public void writeAfterClose() throws Exception {
+    GzipWritableByteChannel gzip =
+        new GzipWritableByteChannel(
+            Channels.newChannel(new ByteArrayOutputStream()), Deflater.DEFAULT_COMPRESSION);
+    gzip.close();
+
+    assertAll(
+        () -> assertThat(gzip.isOpen()).isFalse(),
+        () -> assertThrows(ClosedChannelException.class, () -> gzip.write(ByteBuffer.allocate(1))));
+  }
+
+  @Test
+  public void trailerWriteFailure_cancelsThenClosesDelegate() throws Exception {
+    List<String> events = new ArrayList<>();
+    IOException writeFailure = new IOException("write failed");
+    IOException closeFailure = new IOException("close failed");
+    WritableByteChannel failing =
+        new WritableByteChannel() {
+          @Override
+          public int write(ByteBuffer src) throws IOException {
+            throw writeFailure;
+          }
+
+          @Override
+          public boolean isOpen() {
+            return true;
+          }
+
+          @Override
+          public void close() throws IOException {
+            events.add("close");
+            throw closeFailure;
+          }
+        };
+    GzipWritableByteChannel gzip =
+        new GzipWritableByteChannel(
+            failing, Deflater.DEFAULT_COMPRESSION, () -> events.add("cancel"));
+
+    IOException thrown = assertThrows(IOException.class, gzip::close);
+
+    assertAll(
+        () -> assertThat(thrown).isSameInstanceAs(writeFailure),
+        () -> assertThat(thrown.getSuppressed()).asList().containsExactly(closeFailure),
+        () -> assertThat(events).containsExactly("cancel", "close").inOrder());
+  }
+
+  private static byte[] gunzip(byte[] compressed) throws IOException {
+    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+      return ByteStreams.toByteArray(in);
+    }
+  }
+}
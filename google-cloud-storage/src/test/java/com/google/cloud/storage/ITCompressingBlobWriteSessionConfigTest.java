@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.CompressingBlobWriteSessionConfig.CompressingSession;
+import com.google.common.io.ByteStreams;
+import com.google.protobuf.ByteString;
+import com.google.storage.v2.Object;
+import com.google.storage.v2.ObjectChecksums;
+import com.google.storage.v2.StartResumableWriteRequest;
+import com.google.storage.v2.StartResumableWriteResponse;
+import com.google.storage.v2.StorageGrpc;
+import com.google.storage.v2.WriteObjectRequest;
+import com.google.storage.v2.WriteObjectResponse;
+import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntUnaryOperator;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import org.junit.Test;
+
+public final class ITCompressingBlobWriteSessionConfigTest {
+
+  @Test
+  public void bytesAreCompressedAndContentEncodingIsSet() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(5 * 1024 * 1024 + 17);
+    FakeWrites fake = new FakeWrites(IntUnaryOperator.identity());
+
+    try (FakeServer server = FakeServer.of(fake);
+        Storage storage =
+            server.getGrpcStorageOptions().toBuilder()
+                .setBlobWriteSessionConfig(
+                    BlobWriteSessionConfigs.gzip(BlobWriteSessionConfigs.getDefault()))
+                .build()
+                .getService()) {
+      BlobWriteSession session = storage.blobWriteSession(BlobInfo.newBuilder("b", "o").build());
+      try (WritableByteChannel c = session.open()) {
+        c.write(ByteBuffer.wrap(bytes));
+      }
+      BlobInfo info = session.getResult().get(5, TimeUnit.SECONDS);
+
+      byte[] stored = fake.content.get().toByteArray();
+      byte[] decompressed =
+          ByteStreams.toByteArray(new GZIPInputStream(new ByteArrayInputStream(stored)));
+      assertAll(
+          () ->
+              assertThat(fake.start.get().getWriteObjectSpec().getResource().getContentEncoding())
+                  .isEqualTo("gzip"),
+          () -> assertThat(stored.length).isLessThan(bytes.length),
+          () -> assertThat(decompressed).isEqualTo(bytes),
+          () -> assertThat(info.getSize()).isEqualTo(stored.length));
+    }
+  }
+
+  @Test
+  public void crc32cMismatchFailsResult() throws Exception {
+    FakeWrites fake = new FakeWrites(crc32c -> crc32c + 1);
+
+    try (FakeServer server = FakeServer.of(fake);
+        Storage storage =
+            server.getGrpcStorageOptions().toBuilder()
+                .setBlobWriteSessionConfig(
+                    BlobWriteSessionConfigs.gzip(BlobWriteSessionConfigs.getDefault()))
+                .build()
+                .getService()) {
+      BlobWriteSession session = storage.blobWriteSession(BlobInfo.newBuilder("b", "o").build());
+      try (WritableByteChannel c = session.open()) {
+        c.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(1024)));
+      }
+
+      ExecutionException ee =
+          assertThrows(
+              ExecutionException.class, () -> session.getResult().get(5, TimeUnit.SECONDS));
+      assertThat(ee).hasCauseThat().isInstanceOf(StorageException.class);
+      assertThat(ee).hasCauseThat().hasMessageThat().contains("CRC32C Checksum mismatch");
+    }
+  }
+
+  @Test
+  public void crc32cMismatch_http_usesHttpStatusCode() throws Exception {
+    SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+    WritableByteChannelSession<WritableByteChannel, BlobInfo> delegate =
+        new WritableByteChannelSession<WritableByteChannel, BlobInfo>() {
+          @Override
+          public ApiFuture<WritableByteChannel> openAsync() {
+            return ApiFutures.immediateFuture(Channels.newChannel(new ByteArrayOutputStream()));
+          }
+
+          @Override
+          public ApiFuture<BlobInfo> getResult() {
+            return result;
+          }
+        };
+    CompressingSession<WritableByteChannel> session =
+        new CompressingSession<>(delegate, Deflater.DEFAULT_COMPRESSION, false);
+    try (WritableByteChannel c = session.open()) {
+      c.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(1024)));
+    }
+    result.set(BlobInfo.newBuilder("b", "o").setCrc32c("AAAAAA==").build());
+
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> session.getResult().get(5, TimeUnit.SECONDS));
+    assertThat(ee).hasCauseThat().isInstanceOf(StorageException.class);
+    StorageException se = (StorageException) ee.getCause();
+    assertAll(
+        () -> assertThat(se.getCode()).isEqualTo(400),
+        () -> assertThat(se).hasMessageThat().contains("CRC32C Checksum mismatch"));
+  }
+
+  @Test
+  public void nonGzipContentEncodingIsRejected() throws Exception {
+    try (FakeServer server = FakeServer.of(new FakeWrites(IntUnaryOperator.identity()));
+        Storage storage =
+            server.getGrpcStorageOptions().toBuilder()
+                .setBlobWriteSessionConfig(
+                    BlobWriteSessionConfigs.gzip(BlobWriteSessionConfigs.getDefault()))
+                .build()
+                .getService()) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () ->
+              storage.blobWriteSession(
+                  BlobInfo.newBuilder("b", "o").setContentEncoding("br").build()));
+    }
+  }
+
+  /**
+   * Accept a single resumable upload, recording its start request and content. The returned
+   * resource will report a crc32c derived from the actual crc32c of the received content via {@code
+   * reportedCrc32c}.
+   */
+  private static final class FakeWrites extends StorageGrpc.StorageImplBase {
+    private final IntUnaryOperator reportedCrc32c;
+    private final AtomicReference<StartResumableWriteRequest> start = new AtomicReference<>();
+    private final AtomicReference<ByteString> content = new AtomicReference<>(ByteString.empty());
+
+    private FakeWrites(IntUnaryOperator reportedCrc32c) {
+      this.reportedCrc32c = reportedCrc32c;
+    }
+
+    @Override
+    public void startResumableWrite(
+        StartResumableWriteRequest request, StreamObserver<StartResumableWriteResponse> out) {
+      start.set(request);
+      out.onNext(StartResumableWriteResponse.newBuilder().setUploadId("upload-id").build());
+      out.onCompleted();
+    }
+
+    @Override
+    public StreamObserver<WriteObjectRequest> writeObject(StreamObserver<WriteObjectResponse> out) {
+      return new StreamObserver<WriteObjectRequest>() {
+        @Override
+        public void onNext(WriteObjectRequest value) {
+          content.accumulateAndGet(value.getChecksummedData().getContent(), ByteString::concat);
+        }
+
+        @Override
+        public void onError(Throwable t) {}
+
+        @Override
+        public void onCompleted() {
+          ByteString bytes = content.get();
+          int crc32c = Hasher.enabled().hash(bytes).getValue();
+          out.onNext(
+              WriteObjectResponse.newBuilder()
+                  .setResource(
+                      Object.newBuilder()
+                          .setBucket("projects/_/buckets/b")
+                          .setName("o")
+                          .setSize(bytes.size())
+                          .setContentEncoding(
+                              start.get().getWriteObjectSpec().getResource().getContentEncoding())
+                          .setChecksums(
+                              ObjectChecksums.newBuilder()
+                                  .setCrc32C(reportedCrc32c.applyAsInt(crc32c))
+                                  .build())
+                          .build())
+                  .build());
+          out.onCompleted();
+        }
+      };
+    }
+  }
+}
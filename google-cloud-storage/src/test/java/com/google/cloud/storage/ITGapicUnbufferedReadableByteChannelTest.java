@@ -43,16 +43,26 @@ import com.google.storage.v2.StorageClient;
 import com.google.storage.v2.StorageGrpc;
 import io.grpc.Status.Code;
 import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public final class ITGapicUnbufferedReadableByteChannelTest {
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
   private final byte[] bytes = DataGenerator.base64Characters().genBytes(40);
   private final ByteString data1 = ByteString.copyFrom(bytes, 0, 10);
   private final ByteString data2 = ByteString.copyFrom(bytes, 10, 10);
@@ -146,6 +156,47 @@ public final class ITGapicUnbufferedReadableByteChannelTest {
     }
   }
 
+  @Test
+  public void writeTo_fileChannel_retriesAreProperlyOrdered() throws Exception {
+    try (FakeServer server = FakeServer.of(fakeStorage);
+        StorageClient storageClient = StorageClient.create(server.storageSettings())) {
+      Retrier retrier = TestUtils.retrierFromStorageOptions(server.getGrpcStorageOptions());
+
+      UnbufferedReadableByteChannelSession<Object> session = newSession(storageClient, retrier);
+      Path path = temporaryFolder.newFile().toPath();
+      long written;
+      try (UnbufferedReadableByteChannel c = session.open();
+          FileChannel fc = FileChannel.open(path, StandardOpenOption.WRITE)) {
+        written = c.writeTo(fc);
+      }
+      Object actualResult = session.getResult().get(1000, TimeUnit.MILLISECONDS);
+      assertThat(actualResult).isEqualTo(expectedResult);
+      assertThat(written).isEqualTo(bytes.length);
+      assertThat(xxd(Files.readAllBytes(path))).isEqualTo(xxd(bytes));
+    }
+  }
+
+  @Test
+  public void writeTo_afterPartialRead() throws Exception {
+    try (FakeServer server = FakeServer.of(fakeStorage);
+        StorageClient storageClient = StorageClient.create(server.storageSettings())) {
+      Retrier retrier = TestUtils.retrierFromStorageOptions(server.getGrpcStorageOptions());
+
+      UnbufferedReadableByteChannelSession<Object> session = newSession(storageClient, retrier);
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      ByteBuffer first = ByteBuffer.allocate(5);
+      try (UnbufferedReadableByteChannel c = session.open()) {
+        c.read(first);
+        c.writeTo(Channels.newChannel(baos));
+        assertThat(c.read(ByteBuffer.allocate(1))).isEqualTo(-1);
+      }
+      first.flip();
+      ByteString actual =
+          ByteString.copyFrom(first).concat(ByteString.copyFrom(baos.toByteArray()));
+      assertThat(xxd(actual)).isEqualTo(xxd(bytes));
+    }
+  }
+
   @Test
   public void readRetriesAreProperlyOrdered_readSmallerThanMessageSize()
       throws IOException, ExecutionException, InterruptedException, TimeoutException {
@@ -339,4 +390,19 @@ public final class ITGapicUnbufferedReadableByteChannelTest {
       }
     };
   }
+
+  private UnbufferedReadableByteChannelSession<Object> newSession(
+      StorageClient storageClient, Retrier retrier) {
+    return new UnbufferedReadSession<>(
+        ApiFutures.immediateFuture(req1),
+        (start, resultFuture) ->
+            new GapicUnbufferedReadableByteChannel(
+                resultFuture,
+                new ZeroCopyServerStreamingCallable<>(
+                    storageClient.readObjectCallable(), ResponseContentLifecycleManager.noop()),
+                start,
+                Hasher.noop(),
+                retrier,
+                retryOnly(DataLossException.class)));
+  }
 }
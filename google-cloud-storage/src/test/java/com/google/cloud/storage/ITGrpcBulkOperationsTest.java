@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.protobuf.Empty;
+import com.google.storage.v2.DeleteObjectRequest;
+import com.google.storage.v2.StorageGrpc;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class ITGrpcBulkOperationsTest {
+
+  @Test
+  public void delete() throws Exception {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    StorageGrpc.StorageImplBase fake =
+        new StorageGrpc.StorageImplBase() {
+          @Override
+          public void deleteObject(DeleteObjectRequest request, StreamObserver<Empty> out) {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+              Thread.sleep(2);
+            } catch (InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+            inFlight.decrementAndGet();
+            switch (request.getObject()) {
+              case "o-3":
+                out.onError(Status.NOT_FOUND.asRuntimeException());
+                return;
+              case "o-5":
+                out.onError(Status.PERMISSION_DENIED.asRuntimeException());
+                return;
+              default:
+                out.onNext(Empty.getDefaultInstance());
+                out.onCompleted();
+            }
+          }
+        };
+
+    try (FakeServer server = FakeServer.of(fake);
+        Storage storage = server.getGrpcStorageOptions().getService()) {
+      List<BlobId> ids =
+          IntStream.range(0, 40)
+              .mapToObj(i -> BlobId.of("b", "o-" + i))
+              .collect(Collectors.toList());
+      Map<String, BulkOperationResult<BlobId, Boolean>> results = new ConcurrentHashMap<>();
+
+      BulkOperationSummary summary =
+          storage
+              .bulk(BulkOperationsConfig.of().withMaxConcurrency(4))
+              .delete(ids.iterator(), r -> results.put(r.getInput().getName(), r))
+              .get(10, TimeUnit.SECONDS);
+
+      assertAll(
+          () -> assertThat(results).hasSize(40),
+          () -> assertThat(results.get("o-0").getResult()).isTrue(),
+          () -> assertThat(results.get("o-3").getResult()).isFalse(),
+          () -> assertThat(results.get("o-5").getException().getCode()).isEqualTo(403),
+          () -> assertThat(maxInFlight.get()).isAtMost(4),
+          () -> assertThat(summary.getSucceeded()).isEqualTo(39),
+          () -> assertThat(summary.getFailed()).isEqualTo(1));
+    }
+  }
+}
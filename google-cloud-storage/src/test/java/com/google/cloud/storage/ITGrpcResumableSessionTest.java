@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.ByteSizeConstants._16MiB;
+import static com.google.cloud.storage.ByteSizeConstants._1MiB;
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
+import com.google.cloud.storage.it.ChecksummedTestContent;
+import com.google.protobuf.ByteString;
+import com.google.storage.v2.Object;
+import com.google.storage.v2.StartResumableWriteRequest;
+import com.google.storage.v2.StartResumableWriteResponse;
+import com.google.storage.v2.StorageGrpc;
+import com.google.storage.v2.WriteObjectRequest;
+import com.google.storage.v2.WriteObjectResponse;
+import io.grpc.stub.StreamObserver;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ITGrpcResumableSessionTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  /**
+   * Uploading a file larger than a single mapped region should produce the same sequence of
+   * messages, with the same checksums, as any other upload.
+   */
+  @Test
+  public void createFrom_path_mappedRegions() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(_16MiB + _1MiB + 13);
+    ChecksummedTestContent content = ChecksummedTestContent.of(bytes);
+    Path path = temporaryFolder.newFile().toPath();
+    Files.write(path, bytes);
+
+    List<WriteObjectRequest> requests = Collections.synchronizedList(new ArrayList<>());
+    StorageGrpc.StorageImplBase fakeStorage =
+        new StorageGrpc.StorageImplBase() {
+          @Override
+          public void startResumableWrite(
+              StartResumableWriteRequest request, StreamObserver<StartResumableWriteResponse> out) {
+            out.onNext(StartResumableWriteResponse.newBuilder().setUploadId("upload-id").build());
+            out.onCompleted();
+          }
+
+          @Override
+          public StreamObserver<WriteObjectRequest> writeObject(
+              StreamObserver<WriteObjectResponse> out) {
+            return new StreamObserver<WriteObjectRequest>() {
+              private long size = 0;
+
+              @Override
+              public void onNext(WriteObjectRequest value) {
+                requests.add(value);
+                size = value.getWriteOffset() + value.getChecksummedData().getContent().size();
+              }
+
+              @Override
+              public void onError(Throwable t) {}
+
+              @Override
+              public void onCompleted() {
+                out.onNext(
+                    WriteObjectResponse.newBuilder()
+                        .setResource(
+                            Object.newBuilder()
+                                .setBucket("projects/_/buckets/b")
+                                .setName("o")
+                                .setSize(size)
+                                .build())
+                        .build());
+                out.onCompleted();
+              }
+            };
+          }
+        };
+
+    try (FakeServer server = FakeServer.of(fakeStorage);
+        Storage storage = server.getGrpcStorageOptions().getService()) {
+      Blob blob = storage.createFrom(BlobInfo.newBuilder("b", "o").build(), path);
+
+      ByteString uploaded =
+          requests.stream()
+              .map(r -> r.getChecksummedData().getContent())
+              .reduce(ByteString.empty(), ByteString::concat);
+      WriteObjectRequest last = requests.get(requests.size() - 1);
+      assertAll(
+          () -> assertThat(blob.getSize()).isEqualTo(bytes.length),
+          () -> assertThat(uploaded.equals(ByteString.copyFrom(bytes))).isTrue(),
+          () ->
+              assertThat(
+                      requests.stream()
+                          .allMatch(
+                              r -> {
+                                Crc32cLengthKnown crc32c =
+                                    Hasher.enabled().hash(r.getChecksummedData().getContent());
+                                return r.getChecksummedData().getCrc32C() == crc32c.getValue();
+                              }))
+                  .isTrue(),
+          () -> assertThat(last.getFinishWrite()).isTrue(),
+          () -> assertThat(last.getObjectChecksums().getCrc32C()).isEqualTo(content.getCrc32c()));
+    }
+  }
+}
@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.TruthJUnit.assume;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.LOCATION;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.FORBIDDEN;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.WriteChannel;
+import com.google.cloud.http.HttpTransportOptions;
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.Storage.BlobWriteOption;
+import com.google.common.io.ByteStreams;
+import io.grpc.netty.shaded.io.netty.buffer.ByteBufUtil;
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.FullHttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpVersion;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.QueryStringDecoder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ITJavaNetHttpTransportFakeTest {
+
+  private static final GsonFactory GSON = GsonFactory.getDefaultInstance();
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(256 * 1024 + 3);
+
+  @Before
+  public void setUp() {
+    assume().that(JavaNetHttpTransportFactory.isSupported()).isTrue();
+  }
+
+  @Test
+  public void getBlob() throws Exception {
+    StorageObject obj =
+        new StorageObject()
+            .setBucket("b")
+            .setName("o")
+            .setGeneration(1L)
+            .setSize(BigInteger.TEN)
+            .setContentType("text/plain");
+    HttpRequestHandler handler = req -> json(req.protocolVersion(), OK, GSON.toString(obj));
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = storage(server)) {
+      Blob blob = storage.get(BlobId.of("b", "o"));
+
+      assertThat(blob.asBlobInfo()).isEqualTo(Conversions.json().blobInfo().decode(obj));
+    }
+  }
+
+  @Test
+  public void readAllBytes() throws Exception {
+    HttpRequestHandler handler =
+        req -> {
+          DefaultFullHttpResponse resp =
+              new DefaultFullHttpResponse(
+                  req.protocolVersion(), OK, Unpooled.wrappedBuffer(CONTENT));
+          resp.headers().set(CONTENT_TYPE, "application/octet-stream");
+          resp.headers().set("x-goog-generation", "1");
+          resp.headers().set("x-goog-stored-content-length", CONTENT.length);
+          return resp;
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = storage(server)) {
+      byte[] actual = storage.readAllBytes(BlobId.of("b", "o"));
+
+      assertThat(xxd(actual)).isEqualTo(xxd(CONTENT));
+    }
+  }
+
+  @Test
+  public void resumableUpload() throws Exception {
+    List<String> requests = new CopyOnWriteArrayList<>();
+    List<byte[]> received = new CopyOnWriteArrayList<>();
+    StorageObject obj =
+        new StorageObject()
+            .setBucket("b")
+            .setName("o")
+            .setGeneration(1L)
+            .setSize(BigInteger.valueOf(CONTENT.length));
+    HttpRequestHandler handler =
+        req -> {
+          requests.add(req.method() + " " + new QueryStringDecoder(req.uri()).path());
+          if (req.method() == HttpMethod.POST) {
+            DefaultFullHttpResponse resp = new DefaultFullHttpResponse(req.protocolVersion(), OK);
+            resp.headers().set(LOCATION, server(req) + "/upload/session");
+            return resp;
+          }
+          received.add(ByteBufUtil.getBytes(((FullHttpRequest) req).content()));
+          return json(req.protocolVersion(), OK, GSON.toString(obj));
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = storage(server)) {
+      BlobInfo info = BlobInfo.newBuilder("b", "o").build();
+      try (WriteChannel writer = storage.writer(info, BlobWriteOption.doesNotExist())) {
+        writer.setChunkSize(512 * 1024);
+        writer.write(ByteBuffer.wrap(CONTENT));
+      }
+
+      assertAll(
+          () ->
+              assertThat(requests)
+                  .containsExactly("POST /upload/storage/v1/b/b/o", "PUT /upload/session")
+                  .inOrder(),
+          () -> assertThat(received).hasSize(1),
+          () -> assertThat(xxd(received.get(0))).isEqualTo(xxd(CONTENT)));
+    }
+  }
+
+  @Test
+  public void errorResponse() throws Exception {
+    HttpRequestHandler handler =
+        req ->
+            json(
+                req.protocolVersion(),
+                FORBIDDEN,
+                "{\"error\":{\"code\":403,\"message\":\"permission denied\"}}");
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = storage(server)) {
+      StorageException se =
+          assertThrows(StorageException.class, () -> storage.get(BlobId.of("b", "o")));
+
+      assertAll(
+          () -> assertThat(se.getCode()).isEqualTo(403),
+          () -> assertThat(se).hasMessageThat().contains("permission denied"));
+    }
+  }
+
+  @Test
+  public void maxConcurrentRequests_permitReleasedOnceBodyReceived() throws Exception {
+    HttpRequestHandler handler = req -> json(req.protocolVersion(), OK, "{}");
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler)) {
+      JavaNetHttpTransport transport =
+          (JavaNetHttpTransport)
+              new JavaNetHttpTransportFactory().withMaxConcurrentRequests(1).create();
+      String url = server.createUri("/storage/v1/b/b/o/o", Collections.emptyMap()).toString();
+
+      LowLevelHttpResponse response = transport.buildRequest("GET", url).execute();
+      byte[] body;
+      try (InputStream content = response.getContent()) {
+        body = ByteStreams.toByteArray(content);
+      }
+
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(200),
+          () -> assertThat(new String(body, StandardCharsets.UTF_8)).isEqualTo("{}"),
+          () -> assertThat(transport.availablePermits()).isEqualTo(1));
+    }
+  }
+
+  @Test
+  public void maxConcurrentRequests_waitForPermitIsBoundedByConnectTimeout() throws Exception {
+    CountDownLatch respond = new CountDownLatch(1);
+    HttpRequestHandler handler =
+        req -> {
+          respond.await();
+          return json(req.protocolVersion(), OK, "{}");
+        };
+
+    ExecutorService exec = Executors.newSingleThreadExecutor();
+    try (FakeHttpServer server = FakeHttpServer.of(handler)) {
+      JavaNetHttpTransport transport =
+          (JavaNetHttpTransport)
+              new JavaNetHttpTransportFactory()
+                  .withMaxConcurrentRequests(1)
+                  .withConnectTimeout(Duration.ofMillis(100))
+                  .create();
+      String url = server.createUri("/storage/v1/b/b/o/o", Collections.emptyMap()).toString();
+
+      Future<LowLevelHttpResponse> first =
+          exec.submit(() -> transport.buildRequest("GET", url).execute());
+      long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+      while (transport.availablePermits() > 0 && System.nanoTime() < deadline) {
+        Thread.sleep(5);
+      }
+      assertThrows(
+          SocketTimeoutException.class, () -> transport.buildRequest("GET", url).execute());
+      respond.countDown();
+      first.get(5, TimeUnit.SECONDS).disconnect();
+
+      assertThat(transport.availablePermits()).isEqualTo(1);
+    } finally {
+      respond.countDown();
+      exec.shutdownNow();
+    }
+  }
+
+  @Test
+  public void maxConcurrentRequests_permitReleasedOnDisconnect() throws Exception {
+    HttpRequestHandler handler = req -> json(req.protocolVersion(), OK, "{}");
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler)) {
+      JavaNetHttpTransport transport =
+          (JavaNetHttpTransport)
+              new JavaNetHttpTransportFactory().withMaxConcurrentRequests(1).create();
+      String url = server.createUri("/storage/v1/b/b/o/o", Collections.emptyMap()).toString();
+
+      LowLevelHttpResponse response = transport.buildRequest("GET", url).execute();
+      response.disconnect();
+      // a second disconnect must not release an additional permit
+      response.disconnect();
+
+      assertThat(transport.availablePermits()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void requestBody_unknownLength_isStreamed() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(512 * 1024 + 17);
+    List<byte[]> received = new CopyOnWriteArrayList<>();
+    HttpRequestHandler handler =
+        req -> {
+          received.add(ByteBufUtil.getBytes(((FullHttpRequest) req).content()));
+          return json(req.protocolVersion(), OK, "{}");
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler)) {
+      JavaNetHttpTransport transport =
+          (JavaNetHttpTransport) new JavaNetHttpTransportFactory().create();
+      String url = server.createUri("/upload/session", Collections.emptyMap()).toString();
+
+      LowLevelHttpRequest request = transport.buildRequest("PUT", url);
+      request.setContentLength(-1);
+      request.setStreamingContent(
+          out -> {
+            for (int i = 0; i < bytes.length; i += 1000) {
+              out.write(bytes, i, Math.min(1000, bytes.length - i));
+            }
+          });
+      LowLevelHttpResponse response = request.execute();
+      response.disconnect();
+
+      assertAll(
+          () -> assertThat(response.getStatusCode()).isEqualTo(200),
+          () -> assertThat(received).hasSize(1),
+          () -> assertThat(xxd(received.get(0))).isEqualTo(xxd(bytes)),
+          () -> assertThat(transport.availablePermits()).isEqualTo(256));
+    }
+  }
+
+  @Test
+  public void requestBody_writeFailure_failsRequestAndReleasesPermit() throws Exception {
+    HttpRequestHandler handler = req -> json(req.protocolVersion(), OK, "{}");
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler)) {
+      JavaNetHttpTransport transport =
+          (JavaNetHttpTransport)
+              new JavaNetHttpTransportFactory().withMaxConcurrentRequests(1).create();
+      String url = server.createUri("/upload/session", Collections.emptyMap()).toString();
+
+      LowLevelHttpRequest request = transport.buildRequest("PUT", url);
+      request.setContentLength(-1);
+      request.setStreamingContent(
+          out -> {
+            out.write(CONTENT);
+            throw new IOException("kaboom");
+          });
+      IOException ioe = assertThrows(IOException.class, request::execute);
+
+      assertAll(
+          () -> assertThat(ioe).hasMessageThat().isEqualTo("kaboom"),
+          () -> assertThat(transport.availablePermits()).isEqualTo(1));
+    }
+  }
+
+  @Test
+  public void factoryValidation() throws Exception {
+    JavaNetHttpTransportFactory factory = new JavaNetHttpTransportFactory();
+    assertAll(
+        () ->
+            assertThrows(
+                IllegalArgumentException.class, () -> factory.withMaxConcurrentRequests(0)),
+        () ->
+            assertThrows(
+                IllegalArgumentException.class, () -> factory.withConnectTimeout(Duration.ZERO)),
+        () -> assertThat(factory.withHttp2Enabled(true)).isSameInstanceAs(factory),
+        () ->
+            assertThat(factory.withMaxConcurrentRequests(3))
+                .isEqualTo(new JavaNetHttpTransportFactory().withMaxConcurrentRequests(3)));
+  }
+
+  private static Storage storage(FakeHttpServer server) {
+    return server.getHttpStorageOptions().toBuilder()
+        .setTransportOptions(
+            HttpTransportOptions.newBuilder()
+                .setHttpTransportFactory(new JavaNetHttpTransportFactory())
+                .build())
+        .build()
+        .getService();
+  }
+
+  private static String server(io.grpc.netty.shaded.io.netty.handler.codec.http.HttpRequest req) {
+    return "http://" + req.headers().get("host");
+  }
+
+  private static DefaultFullHttpResponse json(
+      HttpVersion version, HttpResponseStatus status, String body) {
+    DefaultFullHttpResponse resp =
+        new DefaultFullHttpResponse(
+            version, status, Unpooled.wrappedBuffer(body.getBytes(StandardCharsets.UTF_8)));
+    resp.headers().set(CONTENT_TYPE, "application/json; charset=utf-8");
+    return resp;
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.NOT_FOUND;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.gax.paging.Page;
+import com.google.api.services.storage.model.Objects;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.Storage.BlobListOption;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpVersion;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+import org.junit.Test;
+
+public final class ITListBlobsStreamingFakeTest {
+
+  private static final GsonFactory GSON = GsonFactory.getDefaultInstance();
+
+  @Test
+  public void itemsPrefixesAndNextPageToken() throws Exception {
+    StorageObject o1 =
+        new StorageObject()
+            .setBucket("b")
+            .setName("a/1")
+            .setGeneration(1L)
+            .setSize(BigInteger.TEN)
+            .setContentType("text/plain")
+            .setMetadata(ImmutableMap.of("k", "v"));
+    StorageObject o2 =
+        new StorageObject().setBucket("b").setName("a/2").setGeneration(2L).setSize(BigInteger.ONE);
+    Objects page =
+        new Objects()
+            .setKind("storage#objects")
+            .setItems(ImmutableList.of(o1, o2))
+            .setPrefixes(ImmutableList.of("a/b/"))
+            .setNextPageToken("next");
+
+    HttpRequestHandler handler = req -> json(req.protocolVersion(), OK, GSON.toString(page));
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      Page<Blob> blobs = storage.list("b", BlobListOption.prefix("a/"));
+
+      List<BlobInfo> actual =
+          StreamSupport.stream(blobs.getValues().spliterator(), false)
+              .map(Blob::asBlobInfo)
+              .collect(Collectors.toList());
+      assertAll(
+          () -> assertThat(blobs.getNextPageToken()).isEqualTo("next"),
+          () ->
+              assertThat(actual)
+                  .containsExactly(
+                      Conversions.json().blobInfo().decode(o1),
+                      Conversions.json().blobInfo().decode(o2),
+                      BlobInfo.newBuilder("b", "a/b/").setSize(0L).setIsDirectory(true).build())
+                  .inOrder());
+    }
+  }
+
+  @Test
+  public void emptyPage() throws Exception {
+    HttpRequestHandler handler =
+        req -> json(req.protocolVersion(), OK, "{\"kind\":\"storage#objects\"}");
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      Page<Blob> blobs = storage.list("b");
+
+      assertAll(
+          () -> assertThat(blobs.getNextPageToken()).isNull(),
+          () -> assertThat(blobs.getValues()).isEmpty());
+    }
+  }
+
+  @Test
+  public void errorResponse() throws Exception {
+    HttpRequestHandler handler =
+        req ->
+            json(
+                req.protocolVersion(),
+                NOT_FOUND,
+                "{\"error\":{\"code\":404,\"message\":\"bucket not found\"}}");
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      StorageException se = assertThrows(StorageException.class, () -> storage.list("b"));
+      assertThat(se.getCode()).isEqualTo(404);
+    }
+  }
+
+  private static DefaultFullHttpResponse json(
+      HttpVersion version, HttpResponseStatus status, String body) {
+    DefaultFullHttpResponse resp =
+        new DefaultFullHttpResponse(
+            version, status, Unpooled.wrappedBuffer(body.getBytes(StandardCharsets.UTF_8)));
+    resp.headers().set(CONTENT_TYPE, "application/json; charset=utf-8");
+    return resp;
+  }
+}
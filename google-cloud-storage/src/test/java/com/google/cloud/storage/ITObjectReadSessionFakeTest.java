@@ -16,6 +16,7 @@
 
 package com.google.cloud.storage;
 
+import static com.google.cloud.storage.ByteSizeConstants._256KiB;
 import static com.google.cloud.storage.ByteSizeConstants._2MiB;
 import static com.google.cloud.storage.PackagePrivateMethodWorkarounds.maybeGetStorageDataClient;
 import static com.google.cloud.storage.TestUtils.GRPC_STATUS_DETAILS_KEY;
@@ -30,6 +31,7 @@ import static org.junit.Assert.fail;
 
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
 import com.google.api.gax.grpc.GrpcCallContext;
 import com.google.api.gax.retrying.RetrySettings;
 import com.google.api.gax.rpc.AbortedException;
@@ -79,6 +81,7 @@ import io.grpc.Status.Code;
 import io.grpc.StatusRuntimeException;
 import io.grpc.stub.StreamObserver;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.ScatteringByteChannel;
@@ -1092,6 +1095,81 @@ public final class ITObjectReadSessionFakeTest {
     }
   }
 
+  @Test
+  public void publisher() throws Exception {
+    ChecksummedTestContent testContent =
+        ChecksummedTestContent.of(DataGenerator.base64Characters().genBytes(3 * _256KiB));
+    BidiReadObjectRequest req2 =
+        BidiReadObjectRequest.newBuilder().addReadRanges(getReadRange(1, 0, 0)).build();
+
+    FakeStorage fake =
+        FakeStorage.of(
+            ImmutableMap.of(
+                REQ_OPEN,
+                respond -> respond.onNext(RES_OPEN),
+                req2,
+                respond -> {
+                  for (int i = 0; i < 3; i++) {
+                    ChecksummedTestContent slice = testContent.slice(i * _256KiB, _256KiB);
+                    respond.onNext(
+                        BidiReadObjectResponse.newBuilder()
+                            .addObjectDataRanges(
+                                ObjectRangeData.newBuilder()
+                                    .setReadRange(getReadRange(1, i * _256KiB, _256KiB))
+                                    .setRangeEnd(i == 2)
+                                    .setChecksummedData(slice.asChecksummedData()))
+                            .build());
+                  }
+                }));
+
+    try (FakeServer fakeServer = FakeServer.of(fake);
+        Storage storage = fakeServer.getGrpcStorageOptions().toBuilder().build().getService()) {
+
+      BlobId id = BlobId.of("b", "o");
+      ApiFuture<BlobReadSession> futureBlobDescriptor = storage.blobReadSession(id);
+
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      SettableApiFuture<Void> done = SettableApiFuture.create();
+      try (BlobReadSession bd = futureBlobDescriptor.get(5, TimeUnit.SECONDS)) {
+        ReadPublisher publisher = bd.readAs(ReadProjectionConfigs.asPublisher());
+        publisher.subscribe(
+            new ReadPublisher.Subscriber() {
+              private ReadPublisher.Subscription subscription;
+
+              @Override
+              public void onSubscribe(ReadPublisher.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+              }
+
+              @Override
+              public void onNext(DisposableByteString item) {
+                try (DisposableByteString it = item) {
+                  it.byteString().writeTo(baos);
+                } catch (IOException e) {
+                  done.setException(e);
+                }
+                subscription.request(1);
+              }
+
+              @Override
+              public void onError(Throwable throwable) {
+                done.setException(throwable);
+              }
+
+              @Override
+              public void onComplete() {
+                done.set(null);
+              }
+            });
+        done.get(5, TimeUnit.SECONDS);
+      }
+
+      byte[] actual = baos.toByteArray();
+      assertThat(xxd(actual)).isEqualTo(xxd(testContent.getBytes()));
+    }
+  }
+
   @Test
   public void retryableErrorWhileOpeningIsRetried() throws Exception {
     AtomicInteger reqCounter = new AtomicInteger(0);
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.LOCATION;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.otel.TestMetricReader;
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.QueryStringDecoder;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.io.ByteArrayOutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ITOtelByteMetricsFakeTest {
+  private static final GsonFactory GSON = GsonFactory.getDefaultInstance();
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(1024);
+
+  @Rule public final TemporaryFolder temp = new TemporaryFolder();
+
+  private TestMetricReader reader;
+  private OpenTelemetrySdk otel;
+
+  @Before
+  public void setUp() {
+    reader = new TestMetricReader();
+    otel =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+            .build();
+  }
+
+  @Test
+  public void createFrom_recordsBytesWritten() throws Exception {
+    Path file = temp.newFile().toPath();
+    Files.write(file, CONTENT);
+    HttpRequestHandler handler =
+        req -> {
+          if (req.method() == HttpMethod.POST) {
+            DefaultFullHttpResponse resp = new DefaultFullHttpResponse(req.protocolVersion(), OK);
+            resp.headers().set(LOCATION, "http://" + req.headers().get("host") + "/upload/session");
+            return resp;
+          }
+          return object(req);
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage =
+            server.getHttpStorageOptions().toBuilder()
+                .setOpenTelemetry(otel)
+                .build()
+                .getService()) {
+      storage.createFrom(BlobInfo.newBuilder("b", "o").build(), file);
+
+      assertThat(sum(reader.collectByName().get("storage.client.write.bytes")))
+          .isEqualTo(CONTENT.length);
+    }
+  }
+
+  @Test
+  public void downloadTo_recordsBytesRead() throws Exception {
+    Path file = temp.getRoot().toPath().resolve("downloaded");
+    HttpRequestHandler handler =
+        req -> {
+          if (!new QueryStringDecoder(req.uri()).parameters().containsKey("alt")) {
+            return object(req);
+          }
+          return new DefaultFullHttpResponse(
+              req.protocolVersion(), OK, Unpooled.wrappedBuffer(CONTENT));
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage =
+            server.getHttpStorageOptions().toBuilder()
+                .setOpenTelemetry(otel)
+                .build()
+                .getService()) {
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      storage.downloadTo(BlobId.of("b", "o"), baos);
+      long afterStream = sum(reader.collectByName().get("storage.client.read.bytes"));
+      storage.downloadTo(BlobId.of("b", "o"), file);
+      long afterPath = sum(reader.collectByName().get("storage.client.read.bytes"));
+
+      assertAll(
+          () -> assertThat(baos.size()).isEqualTo(CONTENT.length),
+          () -> assertThat(afterStream).isEqualTo(CONTENT.length),
+          () -> assertThat(afterPath).isEqualTo(2L * CONTENT.length));
+    }
+  }
+
+  private static DefaultFullHttpResponse object(HttpRequest req) throws Exception {
+    StorageObject obj =
+        new StorageObject()
+            .setBucket("b")
+            .setName("o")
+            .setGeneration(1L)
+            .setSize(BigInteger.valueOf(CONTENT.length));
+    DefaultFullHttpResponse resp =
+        new DefaultFullHttpResponse(
+            req.protocolVersion(),
+            OK,
+            Unpooled.wrappedBuffer(GSON.toString(obj).getBytes(StandardCharsets.UTF_8)));
+    resp.headers().set(CONTENT_TYPE, "application/json; charset=utf-8");
+    return resp;
+  }
+
+  private static long sum(MetricData data) {
+    return data.getLongSumData().getPoints().stream().mapToLong(LongPointData::getValue).sum();
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_ENCODING;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_RANGE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.RANGE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.PARTIAL_CONTENT;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.common.hash.Hashing;
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.QueryStringDecoder;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ITParallelDownloadFakeTest {
+
+  private static final GsonFactory GSON = GsonFactory.getDefaultInstance();
+  private static final Pattern RANGE_PATTERN = Pattern.compile("bytes=(\\d+)-(\\d+)");
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(512 * 1024 + 5);
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void readAllBytes() throws Exception {
+    List<String> ranges = new CopyOnWriteArrayList<>();
+    HttpRequestHandler handler = handler(CONTENT, CONTENT, ranges);
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      byte[] actual =
+          storage.readAllBytes(
+              BlobId.of("b", "o"), BlobSourceOption.parallelDownload(200 * 1024, 2));
+
+      assertAll(
+          () -> assertThat(xxd(actual)).isEqualTo(xxd(CONTENT)),
+          () ->
+              assertThat(ranges)
+                  .containsExactly("bytes=0-204799", "bytes=204800-409599", "bytes=409600-524292"));
+    }
+  }
+
+  @Test
+  public void downloadTo() throws Exception {
+    HttpRequestHandler handler = handler(CONTENT, CONTENT, new CopyOnWriteArrayList<>());
+    Path path = temporaryFolder.newFile().toPath();
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      storage.downloadTo(
+          BlobId.of("b", "o"), path, BlobSourceOption.parallelDownload(100 * 1024, 3));
+
+      assertThat(xxd(Files.readAllBytes(path))).isEqualTo(xxd(CONTENT));
+    }
+  }
+
+  @Test
+  public void crc32cMismatch() throws Exception {
+    byte[] corrupt = CONTENT.clone();
+    corrupt[300 * 1024] ^= 1;
+    HttpRequestHandler handler = handler(CONTENT, corrupt, new CopyOnWriteArrayList<>());
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      StorageException se =
+          assertThrows(
+              StorageException.class,
+              () ->
+                  storage.readAllBytes(
+                      BlobId.of("b", "o"), BlobSourceOption.parallelDownload(200 * 1024, 2)));
+
+      assertThat(se).hasMessageThat().contains("Mismatch checksum value");
+    }
+  }
+
+  @Test
+  public void gzip_decompressed_isReadWhole() throws Exception {
+    byte[] gzipped = TestUtils.gzipBytes(CONTENT);
+    List<String> ranges = new CopyOnWriteArrayList<>();
+    HttpRequestHandler handler = handler(gzipped, gzipped, "gzip", ranges);
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      byte[] actual =
+          storage.readAllBytes(
+              BlobId.of("b", "o"),
+              BlobSourceOption.shouldReturnRawInputStream(false),
+              BlobSourceOption.parallelDownload(200 * 1024, 2));
+
+      assertAll(
+          () -> assertThat(xxd(actual)).isEqualTo(xxd(CONTENT)),
+          () -> assertThat(ranges).hasSize(1));
+    }
+  }
+
+  @Test
+  public void gzip_raw_isSliced() throws Exception {
+    byte[] gzipped = TestUtils.gzipBytes(CONTENT);
+    List<String> ranges = new CopyOnWriteArrayList<>();
+    HttpRequestHandler handler = handler(gzipped, gzipped, "gzip", ranges);
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      byte[] actual =
+          storage.readAllBytes(
+              BlobId.of("b", "o"),
+              BlobSourceOption.shouldReturnRawInputStream(true),
+              BlobSourceOption.parallelDownload(gzipped.length / 2 + 1, 2));
+
+      assertAll(
+          () -> assertThat(xxd(actual)).isEqualTo(xxd(gzipped)),
+          () -> assertThat(ranges).hasSize(2));
+    }
+  }
+
+  /**
+   * Serve object metadata describing {@code content}, and media requests from {@code served}
+   * recording the requested range.
+   */
+  private static HttpRequestHandler handler(byte[] content, byte[] served, List<String> ranges) {
+    return handler(content, served, null, ranges);
+  }
+
+  private static HttpRequestHandler handler(
+      byte[] content, byte[] served, @Nullable String contentEncoding, List<String> ranges) {
+    StorageObject obj =
+        new StorageObject()
+            .setBucket("b")
+            .setName("o")
+            .setGeneration(7L)
+            .setSize(BigInteger.valueOf(content.length))
+            .setContentEncoding(contentEncoding)
+            .setCrc32c(Utils.crc32cCodec.encode(Hashing.crc32c().hashBytes(content).asInt()));
+    return req -> {
+      QueryStringDecoder query = new QueryStringDecoder(req.uri());
+      if (!query.parameters().containsKey("alt")) {
+        byte[] json = GSON.toString(obj).getBytes(StandardCharsets.UTF_8);
+        DefaultFullHttpResponse resp =
+            new DefaultFullHttpResponse(req.protocolVersion(), OK, Unpooled.wrappedBuffer(json));
+        resp.headers().set(CONTENT_TYPE, "application/json; charset=utf-8");
+        return resp;
+      }
+      if (req.headers().contains(RANGE)) {
+        // every slice must read the generation resolved by the metadata request
+        assertThat(query.parameters().get("generation")).containsExactly("7");
+      }
+      DefaultFullHttpResponse resp = media(req, served, ranges);
+      if (contentEncoding != null) {
+        resp.headers().set(CONTENT_ENCODING, contentEncoding);
+      }
+      return resp;
+    };
+  }
+
+  private static DefaultFullHttpResponse media(
+      HttpRequest req, byte[] served, List<String> ranges) {
+    String range = req.headers().get(RANGE, "");
+    ranges.add(range);
+    Matcher m = RANGE_PATTERN.matcher(range);
+    int begin = m.matches() ? Integer.parseInt(m.group(1)) : 0;
+    int end =
+        m.matches() ? Math.min(Integer.parseInt(m.group(2)), served.length - 1) : served.length - 1;
+    DefaultFullHttpResponse resp =
+        new DefaultFullHttpResponse(
+            req.protocolVersion(),
+            PARTIAL_CONTENT,
+            Unpooled.wrappedBuffer(served, begin, end - begin + 1));
+    resp.headers().set(CONTENT_TYPE, "application/octet-stream");
+    resp.headers().set(CONTENT_RANGE, "bytes " + begin + "-" + end + "/" + served.length);
+    resp.headers().set("x-goog-generation", "7");
+    return resp;
+  }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.transfermanager.CopyResult;
+import com.google.cloud.storage.transfermanager.ParallelCopyConfig;
+import com.google.cloud.storage.transfermanager.TransferManager;
+import com.google.cloud.storage.transfermanager.TransferManagerConfig;
+import com.google.cloud.storage.transfermanager.TransferStatus;
+import com.google.common.collect.ImmutableList;
+import com.google.storage.v2.GetObjectRequest;
+import com.google.storage.v2.ListObjectsRequest;
+import com.google.storage.v2.ListObjectsResponse;
+import com.google.storage.v2.Object;
+import com.google.storage.v2.ObjectChecksums;
+import com.google.storage.v2.RewriteObjectRequest;
+import com.google.storage.v2.RewriteResponse;
+import com.google.storage.v2.StorageGrpc;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ITTransferManagerCopyFakeTest {
+  private static final String SRC = "projects/_/buckets/src";
+  private static final String DST = "projects/_/buckets/dst";
+  private static final int TWO_MIB = 2 * 1024 * 1024;
+
+  @Rule public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void copyObjects() throws Exception {
+    FakeBucketCopy fake = new FakeBucketCopy();
+    Path checkpoints = temp.newFolder().toPath();
+    ParallelCopyConfig config =
+        ParallelCopyConfig.newBuilder()
+            .setSourceBucketName("src")
+            .setPrefix("p/")
+            .setDestinationBucketName("dst")
+            .setDestinationPrefix("q/")
+            .setMaxBytesRewrittenPerCall(TWO_MIB)
+            .setCheckpointDirectory(checkpoints)
+            .build();
+
+    try (FakeServer server = FakeServer.of(fake);
+        TransferManager tm =
+            TransferManagerConfig.newBuilder()
+                .setStorageOptions(server.getGrpcStorageOptions())
+                .setMaxWorkers(3)
+                .build()
+                .getService()) {
+      Map<String, CopyResult> first = byName(tm.copyObjects(config).getCopyResults());
+      List<RewriteObjectRequest> firstRewrites = ImmutableList.copyOf(fake.rewrites);
+      fake.rewrites.clear();
+      // the second run should find every successful copy in the checkpoint directory
+      Map<String, CopyResult> second = byName(tm.copyObjects(config).getCopyResults());
+
+      assertAll(
+          () -> assertThat(first.keySet()).containsExactly("p/a", "p/b", "p/big", "p/denied"),
+          () -> assertThat(first.get("p/a").getStatus()).isEqualTo(TransferStatus.SUCCESS),
+          () -> assertThat(first.get("p/a").getOutput().getName()).isEqualTo("q/a"),
+          () -> assertThat(first.get("p/a").getOutput().getBucket()).isEqualTo("dst"),
+          // an identical object already exists in the destination
+          () -> assertThat(first.get("p/b").getStatus()).isEqualTo(TransferStatus.SKIPPED),
+          () -> assertThat(first.get("p/big").getStatus()).isEqualTo(TransferStatus.SUCCESS),
+          () ->
+              assertThat(first.get("p/denied").getStatus())
+                  .isEqualTo(TransferStatus.FAILED_TO_START),
+          () ->
+              assertThat(
+                      firstRewrites.stream()
+                          .filter(r -> r.getSourceObject().equals("p/big"))
+                          .map(RewriteObjectRequest::getRewriteToken)
+                          .collect(Collectors.toList()))
+                  .containsExactly("", "token-1", "token-2")
+                  .inOrder(),
+          () ->
+              assertThat(
+                      firstRewrites.stream()
+                          .allMatch(
+                              r ->
+                                  r.getMaxBytesRewrittenPerCall() == TWO_MIB
+                                      && r.getSourceGeneration() == 7
+                                      && r.getDestinationBucket().equals(DST)))
+                  .isTrue(),
+          () -> assertThat(second.get("p/a").getStatus()).isEqualTo(TransferStatus.SKIPPED),
+          () -> assertThat(second.get("p/big").getStatus()).isEqualTo(TransferStatus.SKIPPED),
+          () ->
+              assertThat(
+                      fake.rewrites.stream()
+                          .map(RewriteObjectRequest::getSourceObject)
+                          .collect(Collectors.toList()))
+                  .containsExactly("p/denied"));
+    }
+  }
+
+  @Test
+  public void copyObjects_resumesFromRecordedRewriteToken() throws Exception {
+    FakeBucketCopy fake = new FakeBucketCopy();
+    fake.failBigAfterToken.set("token-2");
+    ParallelCopyConfig config =
+        ParallelCopyConfig.newBuilder()
+            .setSourceBucketName("src")
+            .setPrefix("p/big")
+            .setDestinationBucketName("dst")
+            .setDestinationPrefix("q/big")
+            .setCheckpointDirectory(temp.newFolder().toPath())
+            .build();
+
+    try (FakeServer server = FakeServer.of(fake);
+        TransferManager tm =
+            TransferManagerConfig.newBuilder()
+                .setStorageOptions(server.getGrpcStorageOptions())
+                .build()
+                .getService()) {
+      List<CopyResult> first = tm.copyObjects(config).getCopyResults();
+      fake.rewrites.clear();
+      List<CopyResult> second = tm.copyObjects(config).getCopyResults();
+
+      assertAll(
+          () -> assertThat(first.get(0).getStatus()).isEqualTo(TransferStatus.FAILED_TO_FINISH),
+          () -> assertThat(second.get(0).getStatus()).isEqualTo(TransferStatus.SUCCESS),
+          // the second run continues from the last recorded token rather than starting over
+          () ->
+              assertThat(
+                      fake.rewrites.stream()
+                          .map(RewriteObjectRequest::getRewriteToken)
+                          .collect(Collectors.toList()))
+                  .containsExactly("token-2"));
+    }
+  }
+
+  private static Map<String, CopyResult> byName(List<CopyResult> results) {
+    return results.stream().collect(Collectors.toMap(r -> r.getInput().getName(), r -> r));
+  }
+
+  private static Object object(String bucket, String name, int crc32c) {
+    return Object.newBuilder()
+        .setBucket(bucket)
+        .setName(name)
+        .setGeneration(7)
+        .setSize(TWO_MIB * 3)
+        .setChecksums(ObjectChecksums.newBuilder().setCrc32C(crc32c).build())
+        .build();
+  }
+
+  /**
+   * A source bucket with four objects under {@code p/}, and a destination bucket which already
+   * contains an identical copy of {@code p/b}. {@code p/big} takes three rewrite calls, {@code
+   * p/denied} can not be rewritten.
+   */
+  private static final class FakeBucketCopy extends StorageGrpc.StorageImplBase {
+    private final Queue<RewriteObjectRequest> rewrites = new ConcurrentLinkedQueue<>();
+    // when set, the first rewrite of p/big continuing from this token fails
+    private final AtomicReference<String> failBigAfterToken = new AtomicReference<>();
+    private final Map<String, Object> destination = new ConcurrentHashMap<>();
+    private final Map<String, Object> source =
+        ImmutableList.of(
+                object(SRC, "p/a", 1),
+                object(SRC, "p/b", 2),
+                object(SRC, "p/big", 3),
+                object(SRC, "p/denied", 4))
+            .stream()
+            .collect(Collectors.toMap(Object::getName, Function.identity()));
+
+    private FakeBucketCopy() {
+      destination.put("q/b", object(DST, "q/b", 2));
+    }
+
+    @Override
+    public void listObjects(ListObjectsRequest request, StreamObserver<ListObjectsResponse> out) {
+      // two pages, to make sure the listing is followed
+      ListObjectsResponse.Builder b = ListObjectsResponse.newBuilder();
+      ImmutableList<String> names;
+      if (request.getPageToken().isEmpty()) {
+        names = ImmutableList.of("p/a", "p/b");
+        b.setNextPageToken("page-2");
+      } else {
+        names = ImmutableList.of("p/big", "p/denied");
+      }
+      names.stream()
+          .filter(n -> n.startsWith(request.getPrefix()))
+          .forEach(n -> b.addObjects(source.get(n)));
+      out.onNext(b.build());
+      out.onCompleted();
+    }
+
+    @Override
+    public void getObject(GetObjectRequest request, StreamObserver<Object> out) {
+      Object o = destination.get(request.getObject());
+      if (o == null) {
+        out.onError(Status.NOT_FOUND.asRuntimeException());
+      } else {
+        out.onNext(o);
+        out.onCompleted();
+      }
+    }
+
+    @Override
+    public void rewriteObject(RewriteObjectRequest request, StreamObserver<RewriteResponse> out) {
+      rewrites.add(request);
+      Object src = source.get(request.getSourceObject());
+      String failAfter = failBigAfterToken.get();
+      if (request.getSourceObject().equals("p/big")
+          && request.getRewriteToken().equals(failAfter)
+          && failBigAfterToken.compareAndSet(failAfter, null)) {
+        out.onError(Status.PERMISSION_DENIED.asRuntimeException());
+        return;
+      }
+      if (request.getSourceObject().equals("p/denied")) {
+        out.onError(Status.PERMISSION_DENIED.asRuntimeException());
+        return;
+      }
+      int call = 3;
+      if (request.getSourceObject().equals("p/big")) {
+        String token = request.getRewriteToken();
+        call = token.isEmpty() ? 1 : Integer.parseInt(token.substring("token-".length())) + 1;
+      }
+      RewriteResponse.Builder b =
+          RewriteResponse.newBuilder()
+              .setObjectSize(src.getSize())
+              .setTotalBytesRewritten((long) TWO_MIB * call);
+      if (call < 3) {
+        b.setDone(false).setRewriteToken("token-" + call);
+      } else {
+        Object copied =
+            src.toBuilder()
+                .setBucket(request.getDestinationBucket())
+                .setName(request.getDestinationName())
+                .build();
+        destination.put(copied.getName(), copied);
+        b.setDone(true).setResource(copied);
+      }
+      out.onNext(b.build());
+      out.onCompleted();
+    }
+  }
+}
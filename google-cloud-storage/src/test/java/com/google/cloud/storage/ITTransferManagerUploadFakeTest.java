@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.CONTENT_TYPE;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.LOCATION;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.transfermanager.ParallelUploadConfig;
+import com.google.cloud.storage.transfermanager.TransferManager;
+import com.google.cloud.storage.transfermanager.TransferManagerConfig;
+import com.google.cloud.storage.transfermanager.TransferProgress;
+import com.google.cloud.storage.transfermanager.TransferProgressListener;
+import com.google.cloud.storage.transfermanager.TransferStatus;
+import com.google.cloud.storage.transfermanager.UploadJob;
+import com.google.cloud.storage.transfermanager.UploadResult;
+import com.google.common.collect.ImmutableList;
+import io.grpc.netty.shaded.io.netty.buffer.Unpooled;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpRequest;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.QueryStringDecoder;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ITTransferManagerUploadFakeTest {
+  private static final GsonFactory GSON = GsonFactory.getDefaultInstance();
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(1024);
+
+  @Rule public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void uploadFiles_progressCountsBytesBeforeTheUploadCompletes() throws Exception {
+    Path file = temp.newFile().toPath();
+    Files.write(file, CONTENT);
+    CompletableFuture<UploadJob> job = new CompletableFuture<>();
+    AtomicReference<TransferProgress> progressAtFinalize = new AtomicReference<>();
+    HttpRequestHandler handler =
+        req -> {
+          if (req.method() == HttpMethod.POST) {
+            return resumableSession(req);
+          }
+          progressAtFinalize.set(job.join().getProgress());
+          return object(req, new QueryStringDecoder(req.uri()).path());
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        TransferManager tm =
+            TransferManagerConfig.newBuilder()
+                .setStorageOptions(server.getHttpStorageOptions())
+                .setMaxWorkers(1)
+                .build()
+                .getService()) {
+      job.complete(tm.uploadFiles(ImmutableList.of(file), config(null)));
+      List<UploadResult> results = job.get().getUploadResults();
+
+      assertAll(
+          () -> assertThat(results.get(0).getStatus()).isEqualTo(TransferStatus.SUCCESS),
+          () ->
+              assertThat(progressAtFinalize.get().getBytesTransferred()).isEqualTo(CONTENT.length),
+          () -> assertThat(progressAtFinalize.get().getTransfersCompleted()).isEqualTo(0));
+    }
+  }
+
+  @Test
+  public void close_deliversFinalProgressReport() throws Exception {
+    Path f1 = temp.newFile().toPath();
+    Path f2 = temp.newFile().toPath();
+    Path f3 = temp.newFile().toPath();
+    for (Path f : ImmutableList.of(f1, f2, f3)) {
+      Files.write(f, CONTENT);
+    }
+    CountDownLatch uploading = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    HttpRequestHandler handler =
+        req -> {
+          if (req.method() == HttpMethod.POST) {
+            return resumableSession(req);
+          }
+          uploading.countDown();
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          return object(req, "o");
+        };
+    CompletableFuture<TransferProgress> finalReport = new CompletableFuture<>();
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler)) {
+      TransferManager tm =
+          TransferManagerConfig.newBuilder()
+              .setStorageOptions(server.getHttpStorageOptions())
+              .setMaxWorkers(1)
+              .build()
+              .getService();
+      tm.uploadFiles(
+          ImmutableList.of(f1, f2, f3),
+          config(
+              p -> {
+                if (p.isDone()) {
+                  finalReport.complete(p);
+                }
+              }));
+      uploading.await(10, TimeUnit.SECONDS);
+
+      CompletableFuture<Void> closed =
+          CompletableFuture.runAsync(
+              () -> {
+                try {
+                  tm.close();
+                } catch (Exception e) {
+                  throw new RuntimeException(e);
+                }
+              });
+      release.countDown();
+      closed.get(10, TimeUnit.SECONDS);
+
+      TransferProgress progress = finalReport.get(10, TimeUnit.SECONDS);
+      assertAll(
+          () -> assertThat(progress.getTotalTransfers()).isEqualTo(3),
+          () -> assertThat(progress.getTransfersCompleted()).isEqualTo(3));
+    }
+  }
+
+  private static ParallelUploadConfig config(TransferProgressListener listener) {
+    ParallelUploadConfig.Builder b = ParallelUploadConfig.newBuilder().setBucketName("b");
+    if (listener != null) {
+      b.setProgressListener(listener).setProgressReportInterval(Duration.ofMillis(10));
+    }
+    return b.build();
+  }
+
+  private static DefaultFullHttpResponse resumableSession(HttpRequest req) {
+    DefaultFullHttpResponse resp = new DefaultFullHttpResponse(req.protocolVersion(), OK);
+    resp.headers().set(LOCATION, "http://" + req.headers().get("host") + "/upload/session");
+    return resp;
+  }
+
+  private static DefaultFullHttpResponse object(HttpRequest req, String name) throws IOException {
+    StorageObject obj =
+        new StorageObject()
+            .setBucket("b")
+            .setName(name)
+            .setGeneration(1L)
+            .setSize(BigInteger.valueOf(CONTENT.length));
+    DefaultFullHttpResponse resp =
+        new DefaultFullHttpResponse(
+            req.protocolVersion(),
+            OK,
+            Unpooled.wrappedBuffer(GSON.toString(obj).getBytes(StandardCharsets.UTF_8)));
+    resp.headers().set(CONTENT_TYPE, "application/json; charset=utf-8");
+    return resp;
+  }
+}
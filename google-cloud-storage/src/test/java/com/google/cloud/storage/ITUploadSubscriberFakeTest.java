@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpHeaderNames.LOCATION;
+import static io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus.OK;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.FakeHttpServer.HttpRequestHandler;
+import com.google.cloud.storage.UploadSubscriber.Subscription;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpMethod;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.HttpResponseStatus;
+import io.grpc.netty.shaded.io.netty.handler.codec.http.QueryStringDecoder;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+public final class ITUploadSubscriberFakeTest {
+
+  @Test
+  public void upstreamError_cancelsResumableSession() throws Exception {
+    List<String> requests = new CopyOnWriteArrayList<>();
+    HttpRequestHandler handler =
+        req -> {
+          requests.add(req.method() + " " + new QueryStringDecoder(req.uri()).path());
+          if (req.method() == HttpMethod.POST) {
+            DefaultFullHttpResponse resp = new DefaultFullHttpResponse(req.protocolVersion(), OK);
+            resp.headers().set(LOCATION, "http://" + req.headers().get("host") + "/upload/session");
+            return resp;
+          }
+          return new DefaultFullHttpResponse(
+              req.protocolVersion(), HttpResponseStatus.valueOf(499));
+        };
+
+    try (FakeHttpServer server = FakeHttpServer.of(handler);
+        Storage storage = server.getHttpStorageOptions().getService()) {
+      UploadSubscriber subscriber =
+          storage.uploadSubscriber(
+              BlobInfo.newBuilder("b", "o").build(), MoreExecutors.directExecutor());
+      subscriber.onSubscribe(new NoopSubscription());
+      subscriber.onNext(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(10)));
+      subscriber.onError(new RuntimeException("upstream failed"));
+
+      ExecutionException ee =
+          assertThrows(
+              ExecutionException.class, () -> subscriber.getResult().get(5, TimeUnit.SECONDS));
+      assertAll(
+          () -> assertThat(ee).hasCauseThat().hasMessageThat().isEqualTo("upstream failed"),
+          () -> assertThat(ee.getCause().getSuppressed()).isEmpty(),
+          () ->
+              assertThat(requests)
+                  .containsExactly("POST /upload/storage/v1/b/b/o", "DELETE /upload/session")
+                  .inOrder());
+    }
+  }
+
+  private static final class NoopSubscription implements Subscription {
+    @Override
+    public void request(long n) {}
+
+    @Override
+    public void cancel() {}
+  }
+}
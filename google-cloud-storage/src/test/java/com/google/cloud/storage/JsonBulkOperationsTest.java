@@ -0,0 +1,206 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.api.client.googleapis.json.GoogleJsonError;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.cloud.storage.spi.StorageRpcFactory;
+import com.google.cloud.storage.spi.v1.RpcBatch;
+import com.google.cloud.storage.spi.v1.StorageRpc;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public final class JsonBulkOperationsTest {
+
+  private StorageRpc rpc;
+  private Storage storage;
+  private List<Integer> batchSizes;
+  private Map<String, AtomicInteger> unaryGets;
+
+  @Before
+  public void setUp() {
+    StorageRpcFactory factory = mock(StorageRpcFactory.class);
+    rpc = mock(StorageRpc.class);
+    doReturn(rpc).when(factory).create(Mockito.any(StorageOptions.class));
+    storage =
+        StorageOptions.http()
+            .setProjectId("projectId")
+            .setServiceRpcFactory(factory)
+            .build()
+            .getService();
+    batchSizes = Collections.synchronizedList(new ArrayList<>());
+    unaryGets = new ConcurrentHashMap<>();
+  }
+
+  @Test
+  public void get_batchesArePipelined_retryableFailuresAreRetriedIndividually() throws Exception {
+    doAnswer(
+            inv ->
+                new FakeBatch(
+                    name -> {
+                      switch (name) {
+                        case "o-7":
+                          return error(503);
+                        case "o-9":
+                          return error(404);
+                        case "o-11":
+                          return error(403);
+                        default:
+                          return null;
+                      }
+                    }))
+        .when(rpc)
+        .createBatch();
+    doAnswer(
+            inv -> {
+              StorageObject o = inv.getArgument(0);
+              unaryGets.computeIfAbsent(o.getName(), k -> new AtomicInteger()).incrementAndGet();
+              return new StorageObject().setBucket(o.getBucket()).setName(o.getName());
+            })
+        .when(rpc)
+        .get(any(StorageObject.class), anyMap());
+
+    List<BlobId> ids =
+        IntStream.range(0, 250)
+            .mapToObj(i -> BlobId.of("b", "o-" + i))
+            .collect(Collectors.toList());
+    Map<String, BulkOperationResult<BlobId, Blob>> results = new ConcurrentHashMap<>();
+
+    BulkOperationSummary summary =
+        storage
+            .bulk(BulkOperationsConfig.of().withMaxConcurrency(2))
+            .get(ids.iterator(), r -> results.put(r.getInput().getName(), r))
+            .get(10, TimeUnit.SECONDS);
+
+    Collections.sort(batchSizes);
+    assertAll(
+        () -> assertThat(batchSizes).containsExactly(50, 100, 100).inOrder(),
+        () -> assertThat(results).hasSize(250),
+        () -> assertThat(results.get("o-0").getResult().getName()).isEqualTo("o-0"),
+        // retryable, performed again as a unary request
+        () -> assertThat(unaryGets.keySet()).containsExactly("o-7"),
+        () -> assertThat(results.get("o-7").getResult().getName()).isEqualTo("o-7"),
+        // not found is a successful null result, the same as Storage#get
+        () -> assertThat(results.get("o-9").isSuccess()).isTrue(),
+        () -> assertThat(results.get("o-9").getResult()).isNull(),
+        // not retryable
+        () -> assertThat(results.get("o-11").getException().getCode()).isEqualTo(403),
+        () -> assertThat(summary.getSucceeded()).isEqualTo(249),
+        () -> assertThat(summary.getFailed()).isEqualTo(1));
+  }
+
+  @Test
+  public void delete_notFoundIsFalse() throws Exception {
+    doAnswer(inv -> new FakeBatch(name -> name.equals("o-1") ? error(404) : null))
+        .when(rpc)
+        .createBatch();
+
+    List<BlobId> ids =
+        IntStream.range(0, 3).mapToObj(i -> BlobId.of("b", "o-" + i)).collect(Collectors.toList());
+    Map<String, Boolean> results = new ConcurrentHashMap<>();
+
+    BulkOperationSummary summary =
+        storage
+            .bulk()
+            .delete(ids.iterator(), r -> results.put(r.getInput().getName(), r.getResult()))
+            .get(10, TimeUnit.SECONDS);
+
+    assertAll(
+        () -> assertThat(batchSizes).containsExactly(3),
+        () -> assertThat(results).containsExactly("o-0", true, "o-1", false, "o-2", true),
+        () -> assertThat(summary.getSucceeded()).isEqualTo(3));
+  }
+
+  private static GoogleJsonError error(int code) {
+    GoogleJsonError error = new GoogleJsonError();
+    error.setCode(code);
+    error.setMessage("error " + code);
+    return error;
+  }
+
+  /**
+   * A batch which completes each request according to {@code errors}, any object for which {@code
+   * errors} returns null succeeds.
+   */
+  private final class FakeBatch implements RpcBatch {
+    private final Function<String, GoogleJsonError> errors;
+    private final List<Runnable> requests = new ArrayList<>();
+
+    private FakeBatch(Function<String, GoogleJsonError> errors) {
+      this.errors = errors;
+    }
+
+    @Override
+    public void addDelete(
+        StorageObject storageObject, Callback<Void> callback, Map<StorageRpc.Option, ?> options) {
+      add(storageObject, callback, null);
+    }
+
+    @Override
+    public void addPatch(
+        StorageObject storageObject,
+        Callback<StorageObject> callback,
+        Map<StorageRpc.Option, ?> options) {
+      add(storageObject, callback, storageObject);
+    }
+
+    @Override
+    public void addGet(
+        StorageObject storageObject,
+        Callback<StorageObject> callback,
+        Map<StorageRpc.Option, ?> options) {
+      add(storageObject, callback, storageObject);
+    }
+
+    private <T> void add(StorageObject o, Callback<T> callback, T success) {
+      requests.add(
+          () -> {
+            GoogleJsonError error = errors.apply(o.getName());
+            if (error == null) {
+              callback.onSuccess(success);
+            } else {
+              callback.onFailure(error);
+            }
+          });
+    }
+
+    @Override
+    public void submit() {
+      batchSizes.add(requests.size());
+      requests.forEach(Runnable::run);
+    }
+  }
+}
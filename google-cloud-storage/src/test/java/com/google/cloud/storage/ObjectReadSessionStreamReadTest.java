@@ -23,6 +23,7 @@ import static org.junit.Assert.assertThrows;
 
 import com.google.api.core.ApiFuture;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.AccumulatingRead;
+import com.google.cloud.storage.BaseObjectReadSessionStreamRead.PublishingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.StreamingRead;
 import com.google.cloud.storage.BaseObjectReadSessionStreamRead.ZeroCopyByteStringAccumulatingRead;
 import com.google.cloud.storage.ObjectReadSessionStreamTest.TestObjectReadSessionStreamRead;
@@ -38,6 +39,8 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ScatteringByteChannel;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -550,9 +553,139 @@ public final class ObjectReadSessionStreamReadTest {
                   1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry());
           ApiFuture<ZeroCopySupport.DisposableByteString> projected = read.project();
           assertThat(projected).isSameInstanceAs(read);
+        },
+        () -> {
+          PublishingRead read =
+              ObjectReadSessionStreamRead.publishingRead(
+                  1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry());
+          ReadPublisher projected = read.project();
+          assertThat(projected).isSameInstanceAs(read);
         });
   }
 
+  @Test
+  public void publishingRead_onlyDeliversWhatHasBeenDemanded() throws Exception {
+    try (PublishingRead read =
+        ObjectReadSessionStreamRead.publishingRead(
+            1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry())) {
+      for (int i = 0; i < 3; i++) {
+        ByteString bytes = ByteString.copyFrom(DataGenerator.base64Characters().genBytes(10));
+        try (ResponseContentLifecycleHandle<ByteString> handle = noopContentHandle(bytes)) {
+          read.accept(handle.borrow(Function.identity()));
+        }
+      }
+      CollectingSubscriber subscriber = new CollectingSubscriber();
+      read.project().subscribe(subscriber);
+      boolean demandsMoreBefore = read.demandsMore();
+
+      subscriber.subscription.request(2);
+      int afterFirstRequest = subscriber.items.size();
+      boolean demandsMoreAfterFirstRequest = read.demandsMore();
+
+      subscriber.subscription.request(2);
+      read.eof();
+
+      assertAll(
+          () -> assertThat(demandsMoreBefore).isFalse(),
+          () -> assertThat(afterFirstRequest).isEqualTo(2),
+          () -> assertThat(demandsMoreAfterFirstRequest).isFalse(),
+          () -> assertThat(subscriber.items).hasSize(3),
+          () -> assertThat(subscriber.complete).isTrue(),
+          () -> assertThat(read.readOffset()).isEqualTo(30));
+    }
+  }
+
+  @Test
+  public void publishingRead_whenDemandsMore_invokedOnRequest() throws Exception {
+    try (PublishingRead read =
+        ObjectReadSessionStreamRead.publishingRead(
+            1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry())) {
+      CollectingSubscriber subscriber = new CollectingSubscriber();
+      read.project().subscribe(subscriber);
+      AtomicBoolean resumed = new AtomicBoolean(false);
+      read.whenDemandsMore(() -> resumed.set(true));
+      boolean resumedBeforeRequest = resumed.get();
+
+      subscriber.subscription.request(1);
+
+      assertAll(
+          () -> assertThat(resumedBeforeRequest).isFalse(),
+          () -> assertThat(resumed.get()).isTrue());
+    }
+  }
+
+  @Test
+  public void publishingRead_cancel_releasesBufferedBytes() throws Exception {
+    PublishingRead read =
+        ObjectReadSessionStreamRead.publishingRead(
+            1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry());
+    AtomicBoolean bytesClosed = new AtomicBoolean(false);
+    ByteString bytes = ByteString.copyFrom(DataGenerator.base64Characters().genBytes(10));
+    try (ResponseContentLifecycleHandle<ByteString> handle =
+        ResponseContentLifecycleHandle.create(bytes, () -> bytesClosed.set(true))) {
+      read.accept(handle.borrow(Function.identity()));
+    }
+    AtomicBoolean resumed = new AtomicBoolean(false);
+    read.whenDemandsMore(() -> resumed.set(true));
+    CollectingSubscriber subscriber = new CollectingSubscriber();
+    read.project().subscribe(subscriber);
+
+    subscriber.subscription.cancel();
+
+    assertAll(
+        () -> assertThat(bytesClosed.get()).isTrue(),
+        () -> assertThat(resumed.get()).isTrue(),
+        () -> assertThat(read.acceptingBytes()).isFalse(),
+        () -> assertThat(subscriber.items).isEmpty(),
+        () -> assertThat(subscriber.complete).isFalse());
+  }
+
+  @Test
+  public void publishingRead_fail() throws Exception {
+    try (PublishingRead read =
+        ObjectReadSessionStreamRead.publishingRead(
+            1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry())) {
+      CollectingSubscriber subscriber = new CollectingSubscriber();
+      read.project().subscribe(subscriber);
+
+      read.fail(new Kaboom());
+
+      assertThat(subscriber.error).isInstanceOf(StorageException.class);
+      assertThat(subscriber.error).hasCauseThat().isInstanceOf(Kaboom.class);
+    }
+  }
+
+  @Test
+  public void publishingRead_nonPositiveRequest() throws Exception {
+    try (PublishingRead read =
+        ObjectReadSessionStreamRead.publishingRead(
+            1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry())) {
+      CollectingSubscriber subscriber = new CollectingSubscriber();
+      read.project().subscribe(subscriber);
+
+      subscriber.subscription.request(0);
+
+      assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  public void publishingRead_onlyOneSubscriber() throws Exception {
+    try (PublishingRead read =
+        ObjectReadSessionStreamRead.publishingRead(
+            1, RangeSpec.all(), Hasher.enabled(), RetryContext.neverRetry())) {
+      CollectingSubscriber subscriber1 = new CollectingSubscriber();
+      CollectingSubscriber subscriber2 = new CollectingSubscriber();
+      read.project().subscribe(subscriber1);
+      read.project().subscribe(subscriber2);
+
+      assertAll(
+          () -> assertThat(subscriber1.error).isNull(),
+          () -> assertThat(subscriber2.subscription).isNotNull(),
+          () -> assertThat(subscriber2.error).isInstanceOf(IllegalStateException.class));
+    }
+  }
+
   private static ResponseContentLifecycleHandle<ByteString> noopContentHandle(
       ByteString byteString) {
     return ResponseContentLifecycleHandle.create(byteString, () -> {});
@@ -563,4 +696,31 @@ public final class ObjectReadSessionStreamReadTest {
       super("Kaboom!!!");
     }
   }
+
+  static final class CollectingSubscriber implements ReadPublisher.Subscriber {
+    private final List<DisposableByteString> items = new ArrayList<>();
+    private ReadPublisher.Subscription subscription;
+    private Throwable error;
+    private boolean complete;
+
+    @Override
+    public void onSubscribe(ReadPublisher.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(DisposableByteString item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.complete = true;
+    }
+  }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.otel.TestExporter;
+import com.google.common.collect.ImmutableList;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class OtelStorageDecoratorListSummariesTest {
+
+  private static final BlobSummary S1 = BlobSummary.directory("b", "a/");
+  private static final BlobSummary S2 = BlobSummary.directory("b", "b/");
+
+  private TestExporter exporter;
+  private OpenTelemetry otel;
+
+  @Before
+  public void setUp() {
+    exporter = new TestExporter();
+    otel =
+        OpenTelemetrySdk.builder()
+            .setTracerProvider(
+                SdkTracerProvider.builder()
+                    .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                    .build())
+            .build();
+  }
+
+  @Test
+  public void spanEndsOnceStreamIsExhausted() throws Exception {
+    Storage delegate = mock(Storage.class);
+    when(delegate.listSummaries("b")).thenReturn(Stream.of(S1, S2));
+    Storage storage = OtelStorageDecorator.decorate(delegate, otel, Transport.HTTP);
+
+    Stream<BlobSummary> stream = storage.listSummaries("b");
+    assertThat(exporter.getExportedSpans()).isEmpty();
+
+    List<BlobSummary> actual = stream.collect(Collectors.toList());
+    List<SpanData> spans = exporter.getExportedSpans();
+    assertAll(
+        () -> assertThat(actual).containsExactly(S1, S2).inOrder(),
+        () -> assertThat(spans).hasSize(1),
+        () -> assertThat(spans.get(0).getName()).endsWith("listSummaries"));
+  }
+
+  @Test
+  public void spanEndsWhenStreamIsClosedEarly() {
+    Storage delegate = mock(Storage.class);
+    when(delegate.listSummaries("b")).thenReturn(Stream.of(S1, S2));
+    Storage storage = OtelStorageDecorator.decorate(delegate, otel, Transport.HTTP);
+
+    try (Stream<BlobSummary> stream = storage.listSummaries("b")) {
+      Iterator<BlobSummary> it = stream.iterator();
+      assertThat(it.next()).isEqualTo(S1);
+      assertThat(exporter.getExportedSpans()).isEmpty();
+    }
+    assertThat(exporter.getExportedSpans()).hasSize(1);
+  }
+
+  @Test
+  public void failureWhileConsumingIsRecorded() {
+    Storage delegate = mock(Storage.class);
+    when(delegate.listSummaries("b"))
+        .thenReturn(
+            ImmutableList.of(S1, S2).stream()
+                .peek(
+                    s -> {
+                      if (s == S2) {
+                        throw new StorageException(503, "unavailable");
+                      }
+                    }));
+    Storage storage = OtelStorageDecorator.decorate(delegate, otel, Transport.HTTP);
+
+    Stream<BlobSummary> stream = storage.listSummaries("b");
+    assertThrows(StorageException.class, () -> stream.collect(Collectors.toList()));
+
+    List<SpanData> spans = exporter.getExportedSpans();
+    assertThat(spans).hasSize(1);
+    assertThat(spans.get(0).getStatus().getStatusCode()).isEqualTo(StatusCode.ERROR);
+  }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.Storage.BlobSourceOption.shouldReturnRawInputStream;
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.ParallelSlicedDownload.RangeReader;
+import com.google.cloud.storage.Storage.BlobSourceOption;
+import com.google.cloud.storage.UnifiedOpts.ObjectSourceOpt;
+import com.google.cloud.storage.UnifiedOpts.Opts;
+import com.google.common.hash.Hashing;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class ParallelSlicedDownloadTest {
+
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(1024 * 1024 + 17);
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final ExecutorService executor = ParallelSlicedDownload.newExecutor(false);
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void slices() {
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT),
+            UnifiedOpts.parallelDownload(400_000, 4),
+            reader(CONTENT),
+            hasher(),
+            executor);
+
+    List<String> slices =
+        download.slices().stream()
+            .map(s -> s.getBegin() + "+" + s.getLength())
+            .collect(Collectors.toList());
+
+    assertThat(slices).containsExactly("0+400000", "400000+400000", "800000+248593").inOrder();
+  }
+
+  @Test
+  public void readAllBytes() throws Exception {
+    Set<String> threads = ConcurrentHashMap.newKeySet();
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    RangeReader reader =
+        (begin, length) -> {
+          threads.add(Thread.currentThread().getName());
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          ReadableByteChannel c = reader(CONTENT).open(begin, length);
+          return new ReadableByteChannel() {
+            @Override
+            public int read(ByteBuffer dst) throws IOException {
+              return c.read(dst);
+            }
+
+            @Override
+            public boolean isOpen() {
+              return c.isOpen();
+            }
+
+            @Override
+            public void close() throws IOException {
+              inFlight.decrementAndGet();
+              c.close();
+            }
+          };
+        };
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT), UnifiedOpts.parallelDownload(100_000, 4), reader, hasher(), executor);
+
+    byte[] actual = download.readAllBytes();
+
+    assertAll(
+        () -> assertThat(xxd(actual)).isEqualTo(xxd(CONTENT)),
+        () -> assertThat(maxInFlight.get()).isAtMost(4),
+        () ->
+            assertThat(
+                    threads.stream().allMatch(t -> t.startsWith("c.g.c:g-c-s:parallel-download")))
+                .isTrue());
+  }
+
+  @Test
+  public void downloadTo() throws Exception {
+    Path path = temporaryFolder.newFile().toPath();
+    // existing content must be truncated
+    Files.write(path, new byte[CONTENT.length * 2]);
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT),
+            UnifiedOpts.parallelDownload(100_000, 3),
+            reader(CONTENT),
+            hasher(),
+            executor);
+
+    download.downloadTo(path);
+
+    assertThat(xxd(Files.readAllBytes(path))).isEqualTo(xxd(CONTENT));
+  }
+
+  @Test
+  public void emptyObject() throws Exception {
+    byte[] empty = new byte[0];
+    Path path = temporaryFolder.newFile().toPath();
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(empty),
+            UnifiedOpts.parallelDownload(100_000, 3),
+            reader(empty),
+            hasher(),
+            executor);
+
+    byte[] actual = download.readAllBytes();
+    download.downloadTo(path);
+
+    assertAll(() -> assertThat(actual).isEmpty(), () -> assertThat(Files.size(path)).isEqualTo(0));
+  }
+
+  @Test
+  public void crc32cMismatch() {
+    byte[] corrupt = CONTENT.clone();
+    corrupt[corrupt.length / 2] ^= 1;
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT),
+            UnifiedOpts.parallelDownload(100_000, 4),
+            reader(corrupt),
+            hasher(),
+            executor);
+
+    StorageException se = assertThrows(StorageException.class, download::readAllBytes);
+    assertThat(se).hasMessageThat().contains("Mismatch checksum value");
+  }
+
+  @Test
+  public void crc32cMismatch_file() throws Exception {
+    byte[] corrupt = CONTENT.clone();
+    corrupt[0] ^= 1;
+    Path path = temporaryFolder.newFile().toPath();
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT),
+            UnifiedOpts.parallelDownload(100_000, 4),
+            reader(corrupt),
+            hasher(),
+            executor);
+
+    StorageException se = assertThrows(StorageException.class, () -> download.downloadTo(path));
+    assertThat(se).hasMessageThat().contains("Mismatch checksum value");
+  }
+
+  @Test
+  public void hashingDisabled_noValidation() {
+    byte[] corrupt = CONTENT.clone();
+    corrupt[0] ^= 1;
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT),
+            UnifiedOpts.parallelDownload(100_000, 4),
+            reader(corrupt),
+            Hasher.noop(),
+            executor);
+
+    assertThat(xxd(download.readAllBytes())).isEqualTo(xxd(corrupt));
+  }
+
+  @Test
+  public void unexpectedEndOfStream() {
+    RangeReader shortReader =
+        (begin, length) -> reader(CONTENT).open(begin, begin == 0 ? length - 1 : length);
+    ParallelSlicedDownload download =
+        new ParallelSlicedDownload(
+            info(CONTENT),
+            UnifiedOpts.parallelDownload(100_000, 4),
+            shortReader,
+            hasher(),
+            executor);
+
+    StorageException se = assertThrows(StorageException.class, download::readAllBytes);
+    assertThat(se).hasMessageThat().contains("Unexpected end of stream");
+  }
+
+  @Test
+  public void isApplicable() throws Exception {
+    BlobInfo plain = info(CONTENT);
+    BlobInfo gzip = plain.toBuilder().setContentEncoding("gzip").build();
+    BlobInfo noSize = BlobInfo.newBuilder("b", "o", 1L).build();
+
+    assertAll(
+        () -> assertThat(isApplicable(plain)).isTrue(),
+        () -> assertThat(isApplicable(plain, shouldReturnRawInputStream(false))).isTrue(),
+        // gzip content is only left compressed when asked for
+        () -> assertThat(isApplicable(gzip)).isTrue(),
+        () -> assertThat(isApplicable(gzip, shouldReturnRawInputStream(true))).isTrue(),
+        () -> assertThat(isApplicable(gzip, shouldReturnRawInputStream(false))).isFalse(),
+        () -> assertThat(isApplicable(noSize)).isFalse());
+  }
+
+  /**
+   * Resolve {@code options} the same way {@link Storage#readAllBytes(BlobId, BlobSourceOption...)}
+   * does
+   */
+  private static boolean isApplicable(BlobInfo info, BlobSourceOption... options) {
+    Opts<ObjectSourceOpt> opts = Opts.unwrap(options).resolveFrom(info.getBlobId());
+    return ParallelSlicedDownload.isApplicable(info, !opts.autoGzipDecompression());
+  }
+
+  private static Hasher hasher() {
+    return Hasher.enabled();
+  }
+
+  private static BlobInfo info(byte[] content) {
+    return BlobInfo.newBuilder("b", "o", 1L)
+        .setSize((long) content.length)
+        .setCrc32c(Utils.crc32cCodec.encode(Hashing.crc32c().hashBytes(content).asInt()))
+        .build();
+  }
+
+  /** Serve ranges of {@code content}, in small reads to exercise the copy loops */
+  private static RangeReader reader(byte[] content) {
+    return (begin, length) -> {
+      ReadableByteChannel c =
+          Channels.newChannel(new ByteArrayInputStream(content, (int) begin, (int) length));
+      return new ReadableByteChannel() {
+        @Override
+        public int read(ByteBuffer dst) throws IOException {
+          ByteBuffer limited = dst.slice();
+          Buffers.limit(limited, Math.min(limited.limit(), 8191));
+          int read = c.read(limited);
+          if (read > 0) {
+            Buffers.position(dst, dst.position() + read);
+          }
+          return read;
+        }
+
+        @Override
+        public boolean isOpen() {
+          return c.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+          c.close();
+        }
+      };
+    };
+  }
+}
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import com.google.cloud.storage.ZeroCopySupport.DisposableByteString;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public final class ReadChannelPublisherTest {
+
+  private static final byte[] CONTENT = DataGenerator.base64Characters().genBytes(25);
+
+  @Test
+  public void onlyReadsWhatHasBeenDemanded() throws Exception {
+    FakeReadChannel channel = new FakeReadChannel(CONTENT);
+    ReadChannelPublisher publisher =
+        new ReadChannelPublisher(channel, MoreExecutors.directExecutor(), 10);
+    Collector subscriber = new Collector();
+    publisher.subscribe(subscriber);
+    int readsBeforeRequest = channel.reads;
+
+    subscriber.subscription.request(1);
+    List<DisposableByteString> afterFirstRequest = new ArrayList<>(subscriber.items);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    ByteString all = ByteString.empty();
+    for (DisposableByteString item : subscriber.items) {
+      all = all.concat(item.byteString());
+    }
+    ByteString actual = all;
+    assertAll(
+        () -> assertThat(readsBeforeRequest).isEqualTo(0),
+        () -> assertThat(afterFirstRequest).hasSize(1),
+        () -> assertThat(subscriber.items).hasSize(3),
+        () -> assertThat(xxd(actual)).isEqualTo(xxd(CONTENT)),
+        () -> assertThat(subscriber.complete).isTrue(),
+        () -> assertThat(channel.open).isFalse());
+  }
+
+  @Test
+  public void completesWithoutFurtherDemand_whenContentIsAMultipleOfChunkSize() throws Exception {
+    FakeReadChannel channel = new FakeReadChannel(DataGenerator.base64Characters().genBytes(20));
+    ReadChannelPublisher publisher =
+        new ReadChannelPublisher(channel, MoreExecutors.directExecutor(), 10);
+    Collector subscriber = new Collector();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+
+    assertAll(
+        () -> assertThat(subscriber.items).hasSize(2),
+        () -> assertThat(subscriber.complete).isTrue(),
+        () -> assertThat(channel.open).isFalse());
+  }
+
+  @Test
+  public void emptyChannel_completesAfterFirstRequest() throws Exception {
+    FakeReadChannel channel = new FakeReadChannel(new byte[0]);
+    ReadChannelPublisher publisher =
+        new ReadChannelPublisher(channel, MoreExecutors.directExecutor(), 10);
+    Collector subscriber = new Collector();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertAll(
+        () -> assertThat(subscriber.items).isEmpty(),
+        () -> assertThat(subscriber.complete).isTrue(),
+        () -> assertThat(channel.open).isFalse());
+  }
+
+  @Test
+  public void cancel_closesChannel() throws Exception {
+    FakeReadChannel channel = new FakeReadChannel(CONTENT);
+    ReadChannelPublisher publisher =
+        new ReadChannelPublisher(channel, MoreExecutors.directExecutor(), 10);
+    Collector subscriber = new Collector();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(1);
+
+    assertAll(
+        () -> assertThat(subscriber.items).hasSize(1),
+        () -> assertThat(subscriber.complete).isFalse(),
+        () -> assertThat(subscriber.error).isNull(),
+        () -> assertThat(channel.open).isFalse());
+  }
+
+  @Test
+  public void readFailure_signaledAsError() throws Exception {
+    FakeReadChannel channel = new FakeReadChannel(CONTENT);
+    channel.failure = new IOException("Kaboom");
+    ReadChannelPublisher publisher =
+        new ReadChannelPublisher(channel, MoreExecutors.directExecutor(), 10);
+    Collector subscriber = new Collector();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertAll(
+        () -> assertThat(subscriber.error).isSameInstanceAs(channel.failure),
+        () -> assertThat(channel.open).isFalse());
+  }
+
+  @Test
+  public void nonPositiveRequest() throws Exception {
+    FakeReadChannel channel = new FakeReadChannel(CONTENT);
+    ReadChannelPublisher publisher =
+        new ReadChannelPublisher(channel, MoreExecutors.directExecutor(), 10);
+    Collector subscriber = new Collector();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(-1);
+
+    assertAll(
+        () -> assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class),
+        () -> assertThat(channel.open).isFalse());
+  }
+
+  private static final class Collector implements ReadPublisher.Subscriber {
+    private final List<DisposableByteString> items = new ArrayList<>();
+    private ReadPublisher.Subscription subscription;
+    private Throwable error;
+    private boolean complete;
+
+    @Override
+    public void onSubscribe(ReadPublisher.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(DisposableByteString item) {
+      items.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      this.error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      this.complete = true;
+    }
+  }
+
+  private static final class FakeReadChannel implements ReadChannel {
+    private final ByteBuffer content;
+    private boolean open = true;
+    private int reads = 0;
+    private IOException failure;
+
+    private FakeReadChannel(byte[] content) {
+      this.content = ByteBuffer.wrap(content);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      reads++;
+      if (failure != null) {
+        throw failure;
+      }
+      if (!content.hasRemaining()) {
+        return -1;
+      }
+      return Math.toIntExact(Buffers.copy(content, dst));
+    }
+
+    @Override
+    public boolean isOpen() {
+      return open;
+    }
+
+    @Override
+    public void close() {
+      open = false;
+    }
+
+    @Override
+    public void seek(long position) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setChunkSize(int chunkSize) {}
+
+    @Override
+    public RestorableState<ReadChannel> capture() {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -109,6 +109,25 @@ public final class ReadProjectionConfigsTest {
     assertThat(config2).isNotSameInstanceAs(config1);
   }
 
+  @Test
+  public void sameInstanceMustBeReturnedIfNoChange_publisher_hasher_true() {
+    ReadAsPublisher config1 = ReadProjectionConfigs.asPublisher();
+
+    assertThat(config1.getCrc32cValidationEnabled()).isEqualTo(true);
+
+    ReadAsPublisher config2 = config1.withCrc32cValidationEnabled(true);
+    assertThat(config2).isSameInstanceAs(config1);
+  }
+
+  @Test
+  public void differentInstanceWhenChanged_publisher_range() {
+    ReadAsPublisher config1 = ReadProjectionConfigs.asPublisher();
+    ReadAsPublisher config2 = config1.withRangeSpec(RangeSpec.of(3, 7));
+
+    assertThat(config2).isNotSameInstanceAs(config1);
+    assertThat(config2.getRange()).isEqualTo(RangeSpec.of(3, 7));
+  }
+
   @Test
   public void sameInstanceMustBeReturnedIfNoChange_channel_hasher_true() {
     ReadAsChannel config1 = ReadProjectionConfigs.asChannel();
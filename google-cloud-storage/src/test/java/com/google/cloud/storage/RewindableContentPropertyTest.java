@@ -20,12 +20,14 @@ import static com.google.cloud.storage.TestUtils.xxd;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.Assert.assertThrows;
 
+import com.google.cloud.storage.Crc32cValue.Crc32cLengthKnown;
 import com.google.common.base.MoreObjects;
 import com.google.protobuf.ByteString;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
 import java.nio.channels.SeekableByteChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -66,6 +68,27 @@ final class RewindableContentPropertyTest {
     }
   }
 
+  @Property
+  void pathMapped(@ForAll("PathScenario") PathScenario pathScenario) throws Exception {
+    try (PathScenario s = pathScenario) {
+      RewindableContent content = RewindableContent.of(s.getPath());
+      assertThat(content.supportsMappedWrites()).isTrue();
+      content.rewindTo(s.getRewindOffset());
+
+      ByteArrayOutputStream baos = new ByteArrayOutputStream();
+      long written = content.writeMappedTo(Channels.newChannel(baos));
+
+      String actual = xxd(baos.toByteArray());
+
+      assertThat(written).isEqualTo(baos.size());
+      assertThat(actual).isEqualTo(s.getExpectedXxd());
+
+      Crc32cLengthKnown expected =
+          Hasher.enabled().hash(ByteBuffer.wrap(Files.readAllBytes(s.getPath())));
+      assertThat(content.getCrc32c()).isEqualTo(expected);
+    }
+  }
+
   @Property
   void byteBuffers(@ForAll("ByteBuffersScenario") ByteBuffersScenario s) throws IOException {
     RewindableContent content = RewindableContent.of(s.getBuffers());
@@ -78,6 +101,7 @@ final class RewindableContentPropertyTest {
             content.writeTo(erroringOutputStream);
           }
         });
+    assertThat(content.supportsMappedWrites()).isFalse();
     content.rewindTo(s.getRewindOffset());
     assertThat(content.getLength()).isEqualTo(s.getPostRewindLength());
 
@@ -87,6 +111,14 @@ final class RewindableContentPropertyTest {
     String actual = xxd(baos.toByteArray());
 
     assertThat(actual).isEqualTo(s.getExpectedXxd());
+
+    // content which can not be mapped falls back to a buffered write
+    content.rewindTo(s.getRewindOffset());
+    ByteArrayOutputStream mapped = new ByteArrayOutputStream();
+    long written = content.writeMappedTo(Channels.newChannel(mapped));
+
+    assertThat(written).isEqualTo(mapped.size());
+    assertThat(xxd(mapped.toByteArray())).isEqualTo(s.getExpectedXxd());
   }
 
   @Provide("PathScenario")
@@ -29,10 +29,12 @@ import com.google.cloud.ReadChannel;
 import com.google.cloud.Restorable;
 import com.google.cloud.RestorableState;
 import com.google.cloud.WriteChannel;
+import com.google.cloud.http.HttpTransportOptions;
 import com.google.cloud.storage.Acl.Project.ProjectRole;
 import com.google.cloud.storage.BlobReadChannelV2.BlobReadChannelContext;
 import com.google.cloud.storage.BlobReadChannelV2.BlobReadChannelV2State;
 import com.google.cloud.storage.BlobWriteChannelV2.BlobWriteChannelV2State;
+import com.google.cloud.storage.JournalingBlobWriteSessionConfig.SyncPolicy;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.BufferAllocationStrategy;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ExecutorSupplier;
 import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.PartCleanupStrategy;
@@ -56,6 +58,8 @@ import java.io.InvalidClassException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.util.Base64;
 import java.util.Collections;
@@ -380,6 +384,60 @@ public class SerializationTest extends BaseSerializationTest {
     }
   }
 
+  @Test
+  public void blobWriteSessionConfig_gzip() throws IOException, ClassNotFoundException {
+    CompressingBlobWriteSessionConfig gzip1 =
+        BlobWriteSessionConfigs.gzip(BlobWriteSessionConfigs.bidiWrite()).withCompressionLevel(1);
+    CompressingBlobWriteSessionConfig gzip1copy = serializeAndDeserialize(gzip1);
+    assertThat(gzip1copy).isEqualTo(gzip1);
+  }
+
+  @Test
+  public void blobWriteSessionConfig_journaling() throws IOException, ClassNotFoundException {
+    Path path = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath();
+    JournalingBlobWriteSessionConfig j1 =
+        BlobWriteSessionConfigs.journaling(ImmutableList.of(path))
+            .withSyncPolicy(SyncPolicy.interval(Duration.ofMillis(50)));
+    JournalingBlobWriteSessionConfig j1copy = serializeAndDeserialize(j1);
+    assertThat(j1copy).isEqualTo(j1);
+    assertThat(j1copy.getSyncPolicy()).isEqualTo(SyncPolicy.interval(Duration.ofMillis(50)));
+  }
+
+  @Test
+  public void blobWriteSessionConfig_spillToDisk() throws IOException, ClassNotFoundException {
+    Path path = Paths.get(System.getProperty("java.io.tmpdir")).toAbsolutePath();
+    SpillToDiskBlobWriteSessionConfig s1 =
+        BlobWriteSessionConfigs.spillToDisk(path).withMemoryBufferSize(1024);
+    SpillToDiskBlobWriteSessionConfig s1copy = serializeAndDeserialize(s1);
+    assertThat(s1copy).isEqualTo(s1);
+  }
+
+  @Test
+  public void httpStorageOptions_javaNetHttpTransportFactory()
+      throws IOException, ClassNotFoundException {
+    JavaNetHttpTransportFactory factory =
+        new JavaNetHttpTransportFactory()
+            .withHttp2Enabled(false)
+            .withConnectTimeout(Duration.ofSeconds(3))
+            .withMaxConcurrentRequests(7);
+    HttpStorageOptions options =
+        StorageOptions.http()
+            .setProjectId("p")
+            .setCredentials(NoCredentials.getInstance())
+            .setTransportOptions(
+                HttpTransportOptions.newBuilder().setHttpTransportFactory(factory).build())
+            .build();
+
+    HttpStorageOptions copy = serializeAndDeserialize(options);
+    HttpStorageOptions rebuilt = copy.toBuilder().setProjectId("p2").build();
+
+    assertThat(copy).isEqualTo(options);
+    assertThat(((HttpTransportOptions) copy.getTransportOptions()).getHttpTransportFactory())
+        .isEqualTo(factory);
+    assertThat(((HttpTransportOptions) rebuilt.getTransportOptions()).getHttpTransportFactory())
+        .isEqualTo(factory);
+  }
+
   @Test
   public void blobWriteSessionConfig_pcu() throws IOException, ClassNotFoundException {
     ParallelCompositeUploadBlobWriteSessionConfig pcu1 =
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+
+final class SignedUrlEncodingHelperPropertyTest {
+
+  @Property(tries = 1000)
+  void sameAsUrlEncoder(@ForAll String segment, @ForAll boolean encodeForwardSlash)
+      throws Exception {
+    String actual = SignedUrlEncodingHelper.Rfc3986UriEncode(segment, encodeForwardSlash);
+    assertThat(actual).isEqualTo(urlEncoderRfc3986(segment, encodeForwardSlash));
+  }
+
+  @Example
+  void unreservedCharactersAreReturnedAsIs() {
+    String segment = "abc/XYZ/0123456789-._~";
+    assertThat(SignedUrlEncodingHelper.Rfc3986UriEncode(segment, false)).isSameInstanceAs(segment);
+  }
+
+  @Example
+  void reservedAndNonAsciiCharactersAreEncoded() {
+    assertThat(SignedUrlEncodingHelper.Rfc3986UriEncode("a b*+/~é😀", true))
+        .isEqualTo("a%20b%2A%2B%2F~%C3%A9%F0%9F%98%80");
+  }
+
+  /** The original implementation, in terms of {@link URLEncoder} */
+  private static String urlEncoderRfc3986(String segment, boolean encodeForwardSlash)
+      throws UnsupportedEncodingException {
+    String encoded =
+        URLEncoder.encode(segment, "UTF-8")
+            .replace("*", "%2A")
+            .replace("+", "%20")
+            .replace("%7E", "~");
+    if (!encodeForwardSlash) {
+      encoded = encoded.replace("%2F", "/");
+    }
+    return encoded;
+  }
+}
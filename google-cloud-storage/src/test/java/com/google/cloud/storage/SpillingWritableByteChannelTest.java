@@ -0,0 +1,256 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.cloud.storage.TestUtils.xxd;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.cloud.storage.ThroughputSink.Record;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class SpillingWritableByteChannelTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private ExecutorService executor;
+  private Path spillPath;
+  private RecoveryFile spillFile;
+  private List<Record> records;
+
+  @Before
+  public void setUp() throws IOException {
+    executor = Executors.newCachedThreadPool();
+    spillPath = temporaryFolder.getRoot().toPath().resolve("spill");
+    spillFile = new RecoveryFile(spillPath, ThroughputSink.nullSink(), () -> {});
+    records = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @After
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void slowUpload_overflowsToDiskInOrder() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(1000);
+    FakeUpload upload = new FakeUpload();
+    SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+    SpillingWritableByteChannel c = newChannel(64, upload, result);
+
+    // the upload is blocked, the first 64 bytes fit in memory and the remainder must spill
+    for (int i = 0; i < bytes.length; i += 100) {
+      c.write(ByteBuffer.wrap(bytes, i, 100));
+    }
+    long spilledWhileBlocked = c.getSpilledBytes();
+    upload.unblock.countDown();
+    c.close();
+    BlobInfo info = result.get(5, TimeUnit.SECONDS);
+
+    assertAll(
+        () -> assertThat(spilledWhileBlocked).isEqualTo(bytes.length - 64),
+        () -> assertThat(xxd(upload.received.toByteArray())).isEqualTo(xxd(bytes)),
+        () -> assertThat(info.getSize()).isEqualTo(bytes.length),
+        () ->
+            assertThat(records.stream().mapToLong(Record::getNumBytes).sum())
+                .isEqualTo(bytes.length),
+        () -> assertThat(Files.exists(spillPath)).isFalse());
+  }
+
+  @Test
+  public void ringWrapsAround() throws Exception {
+    byte[] bytes = DataGenerator.base64Characters().genBytes(10_000);
+    FakeUpload upload = new FakeUpload();
+    upload.unblock.countDown();
+    SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+    SpillingWritableByteChannel c = newChannel(17, upload, result);
+
+    for (int i = 0; i < bytes.length; i += 7) {
+      c.write(ByteBuffer.wrap(bytes, i, Math.min(7, bytes.length - i)));
+    }
+    c.close();
+    result.get(5, TimeUnit.SECONDS);
+
+    assertThat(xxd(upload.received.toByteArray())).isEqualTo(xxd(bytes));
+  }
+
+  @Test
+  public void uploadFailure_failsWritesCloseAndResult() throws Exception {
+    FakeUpload upload = new FakeUpload();
+    upload.failure = new IOException("kaboom");
+    upload.unblock.countDown();
+    SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+    SpillingWritableByteChannel c = newChannel(64, upload, result);
+
+    c.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(10)));
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+
+    IOException writeFailure =
+        assertThrows(
+            IOException.class,
+            () -> c.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(10))));
+    IOException closeFailure = assertThrows(IOException.class, c::close);
+
+    assertAll(
+        () -> assertThat(ee).hasCauseThat().hasMessageThat().isEqualTo("kaboom"),
+        () -> assertThat(writeFailure).hasCauseThat().hasMessageThat().isEqualTo("kaboom"),
+        () -> assertThat(closeFailure).hasCauseThat().isNotNull(),
+        () -> assertThat(upload.cancelled).isTrue(),
+        () -> assertThat(upload.result.isDone()).isFalse(),
+        () -> assertThat(Files.exists(spillPath)).isFalse());
+  }
+
+  @Test
+  public void uploadFailure_cancelFailureIsSuppressed() throws Exception {
+    FakeUpload upload = new FakeUpload();
+    upload.failure = new IOException("kaboom");
+    upload.cancelFailure = new IOException("cancel failed");
+    upload.unblock.countDown();
+    SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+    SpillingWritableByteChannel c = newChannel(64, upload, result);
+
+    c.write(ByteBuffer.wrap(DataGenerator.base64Characters().genBytes(10)));
+    ExecutionException ee =
+        assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+    assertThrows(IOException.class, c::close);
+
+    assertAll(
+        () -> assertThat(ee).hasCauseThat().hasMessageThat().isEqualTo("kaboom"),
+        () -> assertThat(ee.getCause().getSuppressed()).asList().contains(upload.cancelFailure));
+  }
+
+  private SpillingWritableByteChannel newChannel(
+      int memoryBufferSize, FakeUpload upload, SettableApiFuture<BlobInfo> result)
+      throws IOException {
+    return new SpillingWritableByteChannel(
+        memoryBufferSize,
+        spillFile,
+        upload,
+        executor,
+        new RecordingSink(records),
+        Clock.systemUTC(),
+        result);
+  }
+
+  private static final class RecordingSink implements ThroughputSink {
+    private final List<Record> records;
+
+    private RecordingSink(List<Record> records) {
+      this.records = records;
+    }
+
+    @Override
+    public void recordThroughput(Record r) {
+      records.add(r);
+    }
+
+    @Override
+    public WritableByteChannel decorate(WritableByteChannel wbc) {
+      return wbc;
+    }
+
+    @Override
+    public GatheringByteChannel decorate(GatheringByteChannel gbc) {
+      return gbc;
+    }
+  }
+
+  private static final class FakeUpload
+      implements WritableByteChannelSession<WritableByteChannel, BlobInfo> {
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private final ByteArrayOutputStream received = new ByteArrayOutputStream();
+    private final SettableApiFuture<BlobInfo> result = SettableApiFuture.create();
+    private volatile IOException failure;
+    private volatile IOException cancelFailure;
+    private volatile boolean cancelled;
+
+    @Override
+    public ApiFuture<WritableByteChannel> openAsync() {
+      return ApiFutures.immediateFuture(
+          new WritableByteChannel() {
+            private boolean open = true;
+
+            @Override
+            public int write(ByteBuffer src) throws IOException {
+              try {
+                unblock.await();
+              } catch (InterruptedException e) {
+                throw new IOException(e);
+              }
+              if (failure != null) {
+                throw failure;
+              }
+              int remaining = src.remaining();
+              byte[] tmp = new byte[remaining];
+              src.get(tmp);
+              received.write(tmp, 0, remaining);
+              return remaining;
+            }
+
+            @Override
+            public boolean isOpen() {
+              return open;
+            }
+
+            @Override
+            public void close() {
+              open = false;
+              result.set(
+                  BlobInfo.newBuilder("bucket", "object").setSize((long) received.size()).build());
+            }
+          });
+    }
+
+    @Override
+    public ApiFuture<BlobInfo> getResult() {
+      return result;
+    }
+
+    @Override
+    public void cancel() throws IOException {
+      cancelled = true;
+      if (cancelFailure != null) {
+        throw cancelFailure;
+      }
+    }
+  }
+}
@@ -0,0 +1,397 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.gax.grpc.InstantiatingGrpcChannelProvider;
+import com.google.cloud.storage.GrpcChannelPoolConfig.SelectionStrategy;
+import com.google.storage.v2.GetObjectRequest;
+import com.google.storage.v2.Object;
+import com.google.storage.v2.StorageGrpc;
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ClientStreamTracer;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.MethodDescriptor.MethodType;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+
+public final class StorageChannelPoolTest {
+
+  private static final MethodDescriptor<String, String> METHOD =
+      MethodDescriptor.<String, String>newBuilder()
+          .setType(MethodType.BIDI_STREAMING)
+          .setFullMethodName("test/Method")
+          .setRequestMarshaller(StringMarshaller.INSTANCE)
+          .setResponseMarshaller(StringMarshaller.INSTANCE)
+          .build();
+
+  private static final CallOptions STREAM =
+      CallOptions.DEFAULT.withOption(StorageChannelPool.LONG_LIVED_STREAM, true);
+
+  private final List<FakeChannel> channels = new ArrayList<>();
+  private final TestApiClock clock = TestApiClock.of();
+
+  @Test
+  public void streamsAreSpreadAcrossInitialChannels() throws Exception {
+    StorageChannelPool pool = pool(GrpcChannelPoolConfig.of().withInitialChannelCount(3));
+
+    FakeCall a = start(pool, STREAM);
+    FakeCall b = start(pool, STREAM);
+    FakeCall c = start(pool, STREAM);
+
+    assertAll(
+        () -> assertThat(pool.getChannelCount()).isEqualTo(3),
+        () -> assertThat(a.channel).isSameInstanceAs(channels.get(0)),
+        () -> assertThat(b.channel).isSameInstanceAs(channels.get(1)),
+        () -> assertThat(c.channel).isSameInstanceAs(channels.get(2)));
+  }
+
+  @Test
+  public void growsWhenAllChannelsAreSaturatedWithStreams() throws Exception {
+    StorageChannelPool pool =
+        pool(GrpcChannelPoolConfig.of().withMaxChannelCount(2).withMaxStreamsPerChannel(2));
+
+    start(pool, STREAM);
+    start(pool, STREAM);
+    int sizeBeforeGrowth = pool.getChannelCount();
+    FakeCall third = start(pool, STREAM);
+    FakeCall fourth = start(pool, STREAM);
+    FakeCall fifth = start(pool, STREAM);
+
+    assertAll(
+        () -> assertThat(sizeBeforeGrowth).isEqualTo(1),
+        () -> assertThat(pool.getChannelCount()).isEqualTo(2),
+        () -> assertThat(third.channel).isSameInstanceAs(channels.get(1)),
+        () -> assertThat(fourth.channel).isSameInstanceAs(channels.get(1)),
+        // max channel count reached, the least loaded channel is used
+        () -> assertThat(fifth.channel).isSameInstanceAs(channels.get(0)));
+  }
+
+  @Test
+  public void unaryCallsDoNotGrowThePool() throws Exception {
+    StorageChannelPool pool =
+        pool(GrpcChannelPoolConfig.of().withMaxChannelCount(2).withMaxStreamsPerChannel(1));
+
+    for (int i = 0; i < 5; i++) {
+      start(pool, CallOptions.DEFAULT);
+    }
+
+    assertThat(pool.getChannelCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void leastBytesInFlight() throws Exception {
+    StorageChannelPool pool =
+        pool(
+            GrpcChannelPoolConfig.of()
+                .withInitialChannelCount(2)
+                .withSelectionStrategy(SelectionStrategy.LEAST_BYTES_IN_FLIGHT));
+
+    FakeCall big = start(pool, STREAM);
+    FakeCall small = start(pool, STREAM);
+    big.receive(1024 * 1024);
+    small.receive(16);
+
+    FakeCall whileBigIsPending = start(pool, STREAM);
+    whileBigIsPending.close();
+    // once delivered, the bytes are no longer in flight even though the call is still open
+    big.deliver();
+    small.receive(16);
+    FakeCall afterBigDelivered = start(pool, STREAM);
+    afterBigDelivered.close();
+    big.receive(1024);
+    big.close();
+    FakeCall afterBigClosed = start(pool, STREAM);
+
+    assertAll(
+        () -> assertThat(big.channel).isSameInstanceAs(channels.get(0)),
+        () -> assertThat(small.channel).isSameInstanceAs(channels.get(1)),
+        () -> assertThat(whileBigIsPending.channel).isSameInstanceAs(channels.get(1)),
+        () -> assertThat(afterBigDelivered.channel).isSameInstanceAs(channels.get(0)),
+        () -> assertThat(afterBigClosed.channel).isSameInstanceAs(channels.get(0)));
+  }
+
+  @Test
+  public void callCancelledBeforeStartIsReleased() throws Exception {
+    StorageChannelPool pool =
+        pool(GrpcChannelPoolConfig.of().withMaxChannelCount(2).withMaxStreamsPerChannel(1));
+
+    pool.newCall(METHOD, STREAM).cancel("cancelled", null);
+    FakeCall next = start(pool, STREAM);
+
+    assertAll(
+        () -> assertThat(pool.getChannelCount()).isEqualTo(1),
+        () -> assertThat(next.channel).isSameInstanceAs(channels.get(0)));
+  }
+
+  @Test
+  public void providerAcceptsPoolSize() throws Exception {
+    StorageChannelPool.Provider provider =
+        new StorageChannelPool.Provider(
+            InstantiatingGrpcChannelProvider.newBuilder().build(), GrpcChannelPoolConfig.of());
+
+    //noinspection deprecation
+    assertThat(provider.withPoolSize(4)).isInstanceOf(StorageChannelPool.Provider.class);
+  }
+
+  @Test
+  public void idleChannelsBeyondInitialCountAreRetired() throws Exception {
+    StorageChannelPool pool =
+        pool(
+            GrpcChannelPoolConfig.of()
+                .withMaxChannelCount(2)
+                .withMaxStreamsPerChannel(1)
+                .withIdleChannelTimeout(Duration.ofMinutes(1)));
+
+    FakeCall a = start(pool, STREAM);
+    FakeCall b = start(pool, STREAM);
+    int grownSize = pool.getChannelCount();
+    a.close();
+    b.close();
+
+    start(pool, CallOptions.DEFAULT).close();
+    int sizeBeforeTimeout = pool.getChannelCount();
+    clock.advance(Duration.ofMinutes(2));
+    FakeCall c = start(pool, CallOptions.DEFAULT);
+
+    assertAll(
+        () -> assertThat(grownSize).isEqualTo(2),
+        () -> assertThat(sizeBeforeTimeout).isEqualTo(2),
+        () -> assertThat(pool.getChannelCount()).isEqualTo(1),
+        () -> assertThat(channels.get(0).isShutdown()).isFalse(),
+        () -> assertThat(channels.get(1).isShutdown()).isTrue(),
+        () -> assertThat(c.channel).isSameInstanceAs(channels.get(0)));
+  }
+
+  @Test
+  public void busyChannelsAreNotRetired() throws Exception {
+    StorageChannelPool pool =
+        pool(GrpcChannelPoolConfig.of().withMaxChannelCount(2).withMaxStreamsPerChannel(1));
+
+    start(pool, STREAM);
+    start(pool, STREAM);
+    clock.advance(Duration.ofMinutes(2));
+    start(pool, CallOptions.DEFAULT);
+
+    assertAll(
+        () -> assertThat(pool.getChannelCount()).isEqualTo(2),
+        () -> assertThat(channels.get(1).isShutdown()).isFalse());
+  }
+
+  @Test
+  public void shutdownShutsDownAllChannels() throws Exception {
+    StorageChannelPool pool = pool(GrpcChannelPoolConfig.of().withInitialChannelCount(2));
+
+    pool.shutdown();
+
+    assertAll(
+        () -> assertThat(pool.isShutdown()).isTrue(),
+        () -> assertThat(pool.isTerminated()).isTrue(),
+        () -> assertThat(pool.awaitTermination(1, TimeUnit.SECONDS)).isTrue(),
+        () -> assertThat(channels.get(0).isShutdown()).isTrue(),
+        () -> assertThat(channels.get(1).isShutdown()).isTrue());
+  }
+
+  @Test
+  public void rpcsAreRoutedViaThePoolWhenConfigured() throws Exception {
+    StorageGrpc.StorageImplBase service =
+        new StorageGrpc.StorageImplBase() {
+          @Override
+          public void getObject(GetObjectRequest request, StreamObserver<Object> responseObserver) {
+            responseObserver.onNext(
+                Object.newBuilder()
+                    .setBucket(request.getBucket())
+                    .setName(request.getObject())
+                    .setGeneration(1)
+                    .build());
+            responseObserver.onCompleted();
+          }
+        };
+    try (FakeServer fakeServer = FakeServer.of(service)) {
+      GrpcStorageOptions options =
+          fakeServer.getGrpcStorageOptions().toBuilder()
+              .setChannelPoolConfig(GrpcChannelPoolConfig.of().withInitialChannelCount(2))
+              .build();
+      try (Storage storage = options.getService()) {
+        Blob blob = storage.get(BlobId.of("b", "o"));
+
+        assertAll(
+            () -> assertThat(blob.getName()).isEqualTo("o"),
+            () ->
+                assertThat(options.getStorageSettings().getTransportChannelProvider())
+                    .isInstanceOf(StorageChannelPool.Provider.class),
+            () ->
+                assertThat(options.getChannelPoolConfig())
+                    .isEqualTo(GrpcChannelPoolConfig.of().withInitialChannelCount(2)),
+            () -> assertThat(options.toBuilder().build()).isEqualTo(options));
+      }
+    }
+  }
+
+  @Test
+  public void registerStream() throws Exception {
+    assertAll(
+        () ->
+            assertThat(
+                    StorageChannelPool.registerStream(null)
+                        .getCallOptions()
+                        .getOption(StorageChannelPool.LONG_LIVED_STREAM))
+                .isTrue(),
+        () ->
+            assertThat(CallOptions.DEFAULT.getOption(StorageChannelPool.LONG_LIVED_STREAM))
+                .isFalse());
+  }
+
+  private StorageChannelPool pool(GrpcChannelPoolConfig config) throws Exception {
+    return new StorageChannelPool(
+        () -> {
+          FakeChannel c = new FakeChannel();
+          channels.add(c);
+          return c;
+        },
+        config,
+        clock);
+  }
+
+  private static FakeCall start(StorageChannelPool pool, CallOptions callOptions) {
+    ClientCall<String, String> call = pool.newCall(METHOD, callOptions);
+    call.start(new ClientCall.Listener<String>() {}, new Metadata());
+    //noinspection DataFlowIssue
+    return FakeChannel.last;
+  }
+
+  private static final class FakeChannel extends ManagedChannel {
+    private static FakeCall last;
+    private boolean shutdown;
+
+    @Override
+    public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+        MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+      FakeCall call = new FakeCall(this, callOptions);
+      last = call;
+      //noinspection unchecked
+      return (ClientCall<ReqT, RespT>) call;
+    }
+
+    @Override
+    public String authority() {
+      return "fake";
+    }
+
+    @Override
+    public ManagedChannel shutdown() {
+      shutdown = true;
+      return this;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return shutdown;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return shutdown;
+    }
+
+    @Override
+    public ManagedChannel shutdownNow() {
+      return shutdown();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return shutdown;
+    }
+  }
+
+  private static final class FakeCall extends ClientCall<String, String> {
+    private final FakeChannel channel;
+    private final List<ClientStreamTracer> tracers;
+    private @Nullable Listener<String> listener;
+
+    private FakeCall(FakeChannel channel, CallOptions callOptions) {
+      this.channel = channel;
+      this.tracers = new ArrayList<>();
+      for (ClientStreamTracer.Factory f : callOptions.getStreamTracerFactories()) {
+        tracers.add(
+            f.newClientStreamTracer(ClientStreamTracer.StreamInfo.newBuilder().build(), null));
+      }
+    }
+
+    private int seqNo;
+
+    private void receive(long bytes) {
+      int n = seqNo++;
+      tracers.forEach(t -> t.inboundMessageRead(n, bytes, bytes));
+    }
+
+    private void deliver() {
+      //noinspection DataFlowIssue
+      listener.onMessage("message");
+    }
+
+    private void close() {
+      //noinspection DataFlowIssue
+      listener.onClose(Status.OK, new Metadata());
+    }
+
+    @Override
+    public void start(Listener<String> responseListener, Metadata headers) {
+      this.listener = responseListener;
+    }
+
+    @Override
+    public void request(int numMessages) {}
+
+    @Override
+    public void cancel(@Nullable String message, @Nullable Throwable cause) {}
+
+    @Override
+    public void halfClose() {}
+
+    @Override
+    public void sendMessage(String message) {}
+  }
+
+  private enum StringMarshaller implements MethodDescriptor.Marshaller<String> {
+    INSTANCE;
+
+    @Override
+    public InputStream stream(String value) {
+      return new ByteArrayInputStream(value.getBytes());
+    }
+
+    @Override
+    public String parse(InputStream stream) {
+      throw new UnsupportedOperationException();
+    }
+  }
+}
@@ -852,6 +852,34 @@ public class StorageImplMockitoTest {
     assertArrayEquals(blobList.toArray(), Iterables.toArray(page.getValues(), Blob.class));
   }
 
+  @Test
+  public void testListSummaries() {
+    Tuple<String, Iterable<com.google.api.services.storage.model.StorageObject>> page1 =
+        Tuple.of("cursor", ImmutableList.of(Conversions.json().blobInfo().encode(BLOB_INFO1)));
+    Tuple<String, Iterable<com.google.api.services.storage.model.StorageObject>> page2 =
+        Tuple.of(null, ImmutableList.of(Conversions.json().blobInfo().encode(BLOB_INFO2)));
+    ArgumentCaptor<Map<StorageRpc.Option, ?>> captor = ArgumentCaptor.forClass(Map.class);
+    doReturn(page1)
+        .doReturn(page2)
+        .doThrow(UNEXPECTED_CALL_EXCEPTION)
+        .when(storageRpcMock)
+        .list(Mockito.eq(BUCKET_NAME1), captor.capture());
+
+    initializeService();
+    List<BlobSummary> summaries =
+        storage.listSummaries(BUCKET_NAME1).collect(ImmutableList.toImmutableList());
+
+    assertEquals(2, summaries.size());
+    assertEquals(BLOB_INFO1.getBlobId(), summaries.get(0).getBlobId());
+    assertEquals(PAGE_SIZE, (long) summaries.get(0).getMetageneration());
+    assertEquals(BLOB_INFO2.getBlobId(), summaries.get(1).getBlobId());
+    List<Map<StorageRpc.Option, ?>> calls = captor.getAllValues();
+    assertEquals(2, calls.size());
+    assertTrue(((String) calls.get(0).get(StorageRpc.Option.FIELDS)).contains("items/size"));
+    assertNull(calls.get(0).get(StorageRpc.Option.PAGE_TOKEN));
+    assertEquals("cursor", calls.get(1).get(StorageRpc.Option.PAGE_TOKEN));
+  }
+
   @Test
   public void testListBlobsEmpty() {
     doReturn(
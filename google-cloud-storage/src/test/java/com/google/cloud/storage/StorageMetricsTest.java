@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.BufferHandlePool.PooledBuffer;
+import com.google.cloud.storage.ThroughputSink.Record;
+import com.google.cloud.storage.TransferPhaseListener.Phase;
+import com.google.cloud.storage.TransportCompatibility.Transport;
+import com.google.cloud.storage.otel.TestMetricReader;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.metrics.data.HistogramPointData;
+import io.opentelemetry.sdk.metrics.data.LongPointData;
+import io.opentelemetry.sdk.metrics.data.MetricData;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class StorageMetricsTest {
+
+  private TestMetricReader reader;
+  private StorageMetrics metrics;
+
+  @Before
+  public void setUp() {
+    reader = new TestMetricReader();
+    OpenTelemetry otel =
+        OpenTelemetrySdk.builder()
+            .setMeterProvider(SdkMeterProvider.builder().registerMetricReader(reader).build())
+            .build();
+    metrics = StorageMetrics.create(otel, Transport.GRPC);
+  }
+
+  @Test
+  public void noopOpenTelemetry_producesNoopMetrics() throws Exception {
+    BufferHandlePool pool = BufferHandlePool.simple(10);
+    StorageMetrics noop = StorageMetrics.create(OpenTelemetry.noop(), Transport.HTTP);
+    assertAll(
+        () -> assertThat(noop).isSameInstanceAs(StorageMetrics.noop()),
+        () -> assertThat(StorageMetrics.create(null)).isSameInstanceAs(StorageMetrics.noop()),
+        () -> assertThat(noop.isEnabled()).isFalse(),
+        () -> assertThat(noop.meter(pool)).isSameInstanceAs(pool),
+        () ->
+            assertThat(noop.throughputSink("op", Clock.systemUTC()))
+                .isSameInstanceAs(ThroughputSink.nullSink()));
+  }
+
+  @Test
+  public void bytesCounters() throws Exception {
+    metrics.recordBytesRead(10);
+    metrics.recordBytesRead(5);
+    metrics.recordBytesWritten(7);
+
+    Map<String, MetricData> data = reader.collectByName();
+    assertAll(
+        () -> assertThat(sum(data.get("storage.client.read.bytes"))).isEqualTo(15),
+        () -> assertThat(sum(data.get("storage.client.write.bytes"))).isEqualTo(7),
+        () ->
+            assertThat(
+                    data.get("storage.client.read.bytes").getLongSumData().getPoints().stream()
+                        .findFirst()
+                        .get()
+                        .getAttributes()
+                        .asMap()
+                        .values())
+                .containsExactly("grpc"));
+  }
+
+  @Test
+  public void gzipBytes_recordedThroughPhaseListener() throws Exception {
+    TransferPhaseListener listener = metrics.phaseListener(null);
+    TransferPhaseListeners.gzipInflated(listener, 10, 40);
+    // user provided listeners do not receive byte counts
+    TransferPhaseListeners.gzipInflated(TransferPhaseListener.noop(), 1, 1);
+
+    Map<String, Long> bytesByGzip =
+        reader
+            .collectByName()
+            .get("storage.client.read.bytes")
+            .getLongSumData()
+            .getPoints()
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    p -> p.getAttributes().get(AttributeKey.stringKey("gcs.gzip")),
+                    LongPointData::getValue));
+    assertThat(bytesByGzip).containsExactly("compressed", 10L, "decompressed", 40L);
+  }
+
+  @Test
+  public void retries() throws Exception {
+    metrics.recordRetry(2_000_000_000L);
+    metrics.recordRetry(1_000_000_000L);
+    metrics.recordRetryExhausted();
+
+    Map<String, MetricData> data = reader.collectByName();
+    HistogramPointData backoff = histogram(data.get("storage.client.retry.backoff.duration"));
+    assertAll(
+        () -> assertThat(sum(data.get("storage.client.retry.count"))).isEqualTo(3),
+        () -> assertThat(backoff.getCount()).isEqualTo(2),
+        () -> assertThat(backoff.getSum()).isEqualTo(3d));
+  }
+
+  @Test
+  public void pcuParts_recordedWithOutcome() throws Exception {
+    metrics.recordPcuPart(10, false);
+    metrics.recordPcuPart(20, false);
+    metrics.recordPcuPart(5, true);
+
+    Map<String, MetricData> data = reader.collectByName();
+    Map<String, Long> partsByOutcome =
+        data.get("storage.client.pcu.parts").getLongSumData().getPoints().stream()
+            .collect(
+                Collectors.toMap(
+                    p -> p.getAttributes().get(AttributeKey.stringKey("gcs.outcome")),
+                    LongPointData::getValue));
+    assertAll(
+        () -> assertThat(partsByOutcome).containsExactly("ok", 2L, "error", 1L),
+        () ->
+            assertThat(
+                    data.get("storage.client.pcu.part.size").getHistogramData().getPoints().stream()
+                        .mapToDouble(HistogramPointData::getSum)
+                        .sum())
+                .isEqualTo(35d));
+  }
+
+  @Test
+  public void throughputSink() throws Exception {
+    ThroughputSink sink = metrics.throughputSink("test", Clock.systemUTC());
+    sink.recordThroughput(Record.of(1024, Instant.EPOCH, Instant.ofEpochSecond(1), false));
+    // exceptional records are not included in throughput
+    sink.recordThroughput(Record.of(1024, Instant.EPOCH, Instant.ofEpochSecond(1), true));
+
+    HistogramPointData point = histogram(reader.collectByName().get("storage.client.throughput"));
+    assertAll(
+        () -> assertThat(point.getCount()).isEqualTo(1),
+        () -> assertThat(point.getSum()).isEqualTo(1024d));
+  }
+
+  @Test
+  public void bufferUsage_doubleReturnOnlyCountedOnce() {
+    BufferHandlePool pool = metrics.meter(BufferHandlePool.fixedPool(2, 16));
+    PooledBuffer b1 = pool.getBuffer();
+    PooledBuffer b2 = pool.getBuffer();
+    assertThat(sum(reader.collectByName().get("storage.client.buffer.usage"))).isEqualTo(32);
+
+    pool.returnBuffer(b1);
+    pool.returnBuffer(b1);
+    assertThat(sum(reader.collectByName().get("storage.client.buffer.usage"))).isEqualTo(16);
+
+    pool.returnBuffer(b2);
+    assertThat(sum(reader.collectByName().get("storage.client.buffer.usage"))).isEqualTo(0);
+  }
+
+  @Test
+  public void phaseListener() throws Exception {
+    List<Phase> userPhases = new ArrayList<>();
+    TransferPhaseListener listener =
+        metrics.phaseListener((phase, elapsedNanos) -> userPhases.add(phase));
+    listener.onPhase(Phase.READ_OPEN, 2_000_000_000L);
+    listener.onPhase(Phase.READ_FIRST_BYTE, 1_000_000_000L);
+
+    MetricData data = reader.collectByName().get("storage.client.phase.duration");
+    assertAll(
+        () -> assertThat(userPhases).containsExactly(Phase.READ_OPEN, Phase.READ_FIRST_BYTE),
+        () -> assertThat(data.getHistogramData().getPoints()).hasSize(2),
+        () ->
+            assertThat(
+                    data.getHistogramData().getPoints().stream()
+                        .mapToDouble(HistogramPointData::getSum)
+                        .sum())
+                .isEqualTo(3d));
+  }
+
+  @Test
+  public void phaseListener_disabled() throws Exception {
+    TransferPhaseListener user = (phase, elapsedNanos) -> {};
+    assertAll(
+        () ->
+            assertThat(StorageMetrics.noop().phaseListener(TransferPhaseListener.noop()))
+                .isSameInstanceAs(TransferPhaseListener.noop()),
+        () ->
+            assertThat(StorageMetrics.noop().phaseListener(null))
+                .isSameInstanceAs(TransferPhaseListener.noop()),
+        () -> assertThat(StorageMetrics.noop().phaseListener(user)).isNotNull());
+  }
+
+  @Test
+  public void phaseListener_userListenerFailureDoesNotPropagate() {
+    TransferPhaseListener listener =
+        metrics.phaseListener(
+            (phase, elapsedNanos) -> {
+              throw new IllegalStateException("kaboom");
+            });
+    listener.onPhase(Phase.UPLOAD_FINALIZE, 1_000_000_000L);
+
+    HistogramPointData point =
+        histogram(reader.collectByName().get("storage.client.phase.duration"));
+    assertThat(point.getSum()).isEqualTo(1d);
+  }
+
+  private static long sum(MetricData data) {
+    return data.getLongSumData().getPoints().stream().mapToLong(LongPointData::getValue).sum();
+  }
+
+  private static HistogramPointData histogram(MetricData data) {
+    return data.getHistogramData().getPoints().stream().findFirst().get();
+  }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.client.json.JsonFactory;
+import com.google.api.client.json.JsonParser;
+import com.google.api.client.json.gson.GsonFactory;
+import com.google.api.client.json.jackson2.JacksonFactory;
+import com.google.api.services.storage.model.StorageObject;
+import com.google.storage.v2.Object;
+import java.io.IOException;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+
+final class StreamingBlobInfoDecoderPropertyTest {
+
+  private static final JsonFactory GSON = GsonFactory.getDefaultInstance();
+  private static final JsonFactory JACKSON = JacksonFactory.getDefaultInstance();
+
+  @Property
+  void sameAsModelDecode_gson(@ForAll Object message) throws IOException {
+    assertSameAsModelDecode(GSON, GSON.toString(toStorageObject(message)));
+  }
+
+  @Property
+  void sameAsModelDecode_jackson(@ForAll Object message) throws IOException {
+    assertSameAsModelDecode(JACKSON, JACKSON.toString(toStorageObject(message)));
+  }
+
+  @Example
+  void unknownFieldsAreSkipped() throws IOException {
+    String json =
+        "{\"kind\":\"storage#object\",\"bucket\":\"b\",\"unknown\":{\"a\":[1,{\"b\":null}]},"
+            + "\"name\":\"o\",\"generation\":\"7\",\"metadata\":{\"k\":\"v\",\"n\":null},"
+            + "\"owner\":{\"entity\":\"user-me\",\"entityId\":\"1\"},"
+            + "\"acl\":[{\"entity\":\"allUsers\",\"role\":\"READER\",\"projectTeam\":{}}],"
+            + "\"size\":\"10\"}";
+    assertSameAsModelDecode(GSON, json);
+    assertSameAsModelDecode(JACKSON, json);
+  }
+
+  private static StorageObject toStorageObject(Object message) {
+    return Conversions.json().blobInfo().encode(Conversions.grpc().blobInfo().decode(message));
+  }
+
+  private static void assertSameAsModelDecode(JsonFactory factory, String json) throws IOException {
+    BlobInfo expected =
+        Conversions.json().blobInfo().decode(factory.fromString(json, StorageObject.class));
+
+    JsonParser parser = factory.createJsonParser(json);
+    parser.nextToken();
+    BlobInfo actual = StreamingBlobInfoDecoder.INSTANCE.decodeObject(parser);
+
+    assertThat(actual).isEqualTo(expected);
+    assertThat(actual.getModifiedFields()).containsExactlyElementsIn(expected.getModifiedFields());
+    assertThat(parser.nextToken()).isNull();
+  }
+}
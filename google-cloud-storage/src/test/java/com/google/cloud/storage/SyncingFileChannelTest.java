@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.JournalingBlobWriteSessionConfig.SyncPolicy;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class SyncingFileChannelTest {
+
+  private Path path;
+
+  @Before
+  public void setUp() throws IOException {
+    path = Files.createTempFile(SyncingFileChannelTest.class.getName() + "-", ".bin");
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(path);
+  }
+
+  @Test
+  public void everyWrite_syncsEachWrite() throws Exception {
+    try (SyncingFileChannel c = open(SyncPolicy.everyWrite(), Clock.systemUTC())) {
+      c.write(bytes(10));
+      c.write(ByteBuffer.allocate(0));
+      c.write(bytes(10));
+      assertAll(
+          () -> assertThat(c.getSyncCount()).isEqualTo(2),
+          () -> assertThat(c.getSyncedOffset()).isEqualTo(20));
+    }
+  }
+
+  @Test
+  public void everyBytes_syncsOnceThresholdReached() throws Exception {
+    SyncingFileChannel c = open(SyncPolicy.everyBytes(100), Clock.systemUTC());
+    c.write(bytes(40));
+    c.write(bytes(40));
+    long syncsBeforeThreshold = c.getSyncCount();
+    c.write(bytes(40));
+    long syncsAfterThreshold = c.getSyncCount();
+    long syncedAfterThreshold = c.getSyncedOffset();
+    c.write(bytes(40));
+    c.close();
+
+    assertAll(
+        () -> assertThat(syncsBeforeThreshold).isEqualTo(0),
+        () -> assertThat(syncsAfterThreshold).isEqualTo(1),
+        () -> assertThat(syncedAfterThreshold).isEqualTo(120),
+        // the trailing 40 bytes are synced by close
+        () -> assertThat(c.getSyncCount()).isEqualTo(2),
+        () -> assertThat(c.getSyncedOffset()).isEqualTo(160),
+        () -> assertThat(Files.size(path)).isEqualTo(160));
+  }
+
+  @Test
+  public void interval_syncsOnFirstWriteAfterIntervalElapsed() throws Exception {
+    // each call to instant() advances the clock by 1 second
+    TestClock clock = TestClock.tickBy(Instant.EPOCH, Duration.ofSeconds(1));
+    SyncingFileChannel c = open(SyncPolicy.interval(Duration.ofSeconds(3)), clock);
+    c.write(bytes(1));
+    c.write(bytes(1));
+    long syncsBeforeInterval = c.getSyncCount();
+    c.write(bytes(1));
+    long syncsAfterInterval = c.getSyncCount();
+    c.close();
+
+    assertAll(
+        () -> assertThat(syncsBeforeInterval).isEqualTo(0),
+        () -> assertThat(syncsAfterInterval).isEqualTo(1),
+        () -> assertThat(c.getSyncedOffset()).isEqualTo(3));
+  }
+
+  @Test
+  public void onClose_onlySyncsWhenClosedOrExplicitlySynced() throws Exception {
+    SyncingFileChannel c = open(SyncPolicy.onClose(), Clock.systemUTC());
+    for (int i = 0; i < 10; i++) {
+      c.write(bytes(1024));
+    }
+    long syncsBeforeSync = c.getSyncCount();
+    c.sync();
+    long syncedAfterSync = c.getSyncedOffset();
+    // nothing new has been written, sync should be a no-op
+    c.sync();
+    c.close();
+
+    assertAll(
+        () -> assertThat(syncsBeforeSync).isEqualTo(0),
+        () -> assertThat(syncedAfterSync).isEqualTo(10 * 1024),
+        () -> assertThat(c.getSyncCount()).isEqualTo(1),
+        () -> assertThat(c.isOpen()).isFalse());
+  }
+
+  @Test
+  public void concurrentWriters_allBytesSynced() throws Exception {
+    int writers = 8;
+    int writesPerWriter = 50;
+    ExecutorService exec = Executors.newFixedThreadPool(writers);
+    SyncingFileChannel c = open(SyncPolicy.everyWrite(), Clock.systemUTC());
+    try {
+      CountDownLatch go = new CountDownLatch(1);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < writers; i++) {
+        futures.add(
+            exec.submit(
+                () -> {
+                  go.await();
+                  for (int j = 0; j < writesPerWriter; j++) {
+                    c.write(bytes(16));
+                  }
+                  return null;
+                }));
+      }
+      go.countDown();
+      for (Future<?> f : futures) {
+        f.get();
+      }
+    } finally {
+      exec.shutdownNow();
+    }
+    long syncedBeforeClose = c.getSyncedOffset();
+    c.close();
+
+    long total = (long) writers * writesPerWriter * 16;
+    assertAll(
+        () -> assertThat(syncedBeforeClose).isEqualTo(total),
+        // writers which wait on an in progress fsync share it rather than issuing their own
+        () -> assertThat(c.getSyncCount()).isAtMost(writers * writesPerWriter),
+        () -> assertThat(Files.size(path)).isEqualTo(total));
+  }
+
+  private SyncingFileChannel open(SyncPolicy policy, Clock clock) throws IOException {
+    return new SyncingFileChannel(
+        FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING),
+        policy,
+        clock);
+  }
+
+  private static ByteBuffer bytes(int length) {
+    return DataGenerator.base64Characters().genByteBuffer(length);
+  }
+}
@@ -23,6 +23,8 @@ import static java.time.Instant.ofEpochSecond;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.math.LongMath;
+import java.math.RoundingMode;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
@@ -30,6 +32,9 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
@@ -64,6 +69,37 @@ final class ThroughputMovingWindowPropertyTest {
     test(scenario);
   }
 
+  @Example
+  void concurrentAdds() throws Exception {
+    Duration d = Duration.ofSeconds(10);
+    ThroughputMovingWindow window = ThroughputMovingWindow.of(d);
+    int threads = 8;
+    int addsPerThread = 10_000;
+    ExecutorService exec = Executors.newFixedThreadPool(threads);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        futures.add(
+            exec.submit(
+                () -> {
+                  for (int j = 0; j < addsPerThread; j++) {
+                    // spread the values over multiple buckets within the window
+                    window.add(ofEpochSecond(j % 10), 1);
+                  }
+                }));
+      }
+      for (Future<?> f : futures) {
+        f.get();
+      }
+    } finally {
+      exec.shutdownNow();
+    }
+
+    assertWithMessage("avg")
+        .that(window.avg(ofEpochSecond(9)).getNumBytes())
+        .isEqualTo((long) threads * addsPerThread);
+  }
+
   @Property
   void test(@ForAll("Scenarios") ScenarioTimeline scenario) {
     ThroughputMovingWindow window = ThroughputMovingWindow.of(scenario.d);
@@ -142,16 +178,21 @@ final class ThroughputMovingWindowPropertyTest {
       List<Tuple.Tuple2<Instant, Throughput>> tmp =
           pairs.stream().sorted(COMP).collect(Collectors.toList());
 
+      // values are bucketed in time, a value is within the window if its bucket is one of the
+      // bucketCount most recent buckets
+      long resolutionMillis = ThroughputMovingWindow.resolutionMillis(d);
+      long bucketCount = LongMath.divide(d.toMillis(), resolutionMillis, RoundingMode.CEILING);
+
       List<List<Tuple.Tuple2<Instant, Throughput>>> windows = new ArrayList<>();
       int last = tmp.size() - 1;
       for (int i = last; i >= 0; i--) {
         List<Tuple.Tuple2<Instant, Throughput>> window = new ArrayList<>();
         Tuple.Tuple2<Instant, Throughput> t = tmp.get(i);
         window.add(t);
-        Instant min = t.get1().minus(d);
+        long minBucket = Math.floorDiv(t.get1().toEpochMilli(), resolutionMillis) - bucketCount;
         for (int j = i - 1; j >= 0; j--) {
           Tuple.Tuple2<Instant, Throughput> r = tmp.get(j);
-          if (r.get1().isAfter(min)) {
+          if (Math.floorDiv(r.get1().toEpochMilli(), resolutionMillis) > minBucket) {
             window.add(r);
           }
         }
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.assertThrows;
+
+import com.google.auth.ServiceAccountSigner;
+import com.google.auth.oauth2.ServiceAccountCredentials;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class UrlSignerTest {
+
+  private static final String SERVICE_ACCOUNT_JSON_RESOURCE =
+      "com/google/cloud/conformance/storage/v1/test_service_account.not-a-test.json";
+
+  @Test
+  public void identicalPayloadsAreSignedOnce() throws Exception {
+    CountingSigner signer = new CountingSigner();
+    UrlSigner urlSigner = UrlSigner.create();
+
+    byte[] a1 = urlSigner.sign(signer, "a");
+    byte[] a2 = urlSigner.sign(signer, "a");
+    byte[] b = urlSigner.sign(signer, "b");
+    byte[] a3 = urlSigner.sign(new CountingSigner(), "a");
+
+    assertAll(
+        () -> assertThat(a1).isEqualTo("sig:a".getBytes(UTF_8)),
+        () -> assertThat(a2).isSameInstanceAs(a1),
+        () -> assertThat(b).isEqualTo("sig:b".getBytes(UTF_8)),
+        // a different signer never shares a cached signature
+        () -> assertThat(a3).isNotSameInstanceAs(a1),
+        () -> assertThat(signer.count.get()).isEqualTo(2));
+  }
+
+  @Test
+  public void signaturesExpireAfterCacheWindow() {
+    CountingSigner signer = new CountingSigner();
+    UrlSigner urlSigner = new UrlSigner(Duration.ZERO, 10, 1);
+
+    urlSigner.sign(signer, "a");
+    urlSigner.sign(signer, "a");
+
+    assertThat(signer.count.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void localKeyProducesSameSignatureAsCredentials() throws Exception {
+    ServiceAccountCredentials credentials;
+    try (InputStream in =
+        getClass().getClassLoader().getResourceAsStream(SERVICE_ACCOUNT_JSON_RESOURCE)) {
+      credentials = ServiceAccountCredentials.fromStream(in);
+    }
+    byte[] bytes = "GOOG4-RSA-SHA256\n20190201T090000Z\n".getBytes(UTF_8);
+    UrlSigner urlSigner = UrlSigner.create();
+
+    byte[] expected = credentials.sign(bytes);
+    // twice, to ensure the per thread signature is reusable
+    byte[] actual1 = urlSigner.signUncached(credentials, bytes);
+    byte[] actual2 = urlSigner.signUncached(credentials, bytes);
+
+    assertAll(
+        () -> assertThat(actual1).isEqualTo(expected),
+        () -> assertThat(actual2).isEqualTo(expected));
+  }
+
+  @Test
+  public void mapConcurrently_preservesOrderAndBoundsConcurrency() throws Exception {
+    List<Integer> items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+
+    List<String> results =
+        UrlSigner.create()
+            .mapConcurrently(
+                items,
+                4,
+                i -> {
+                  maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                  try {
+                    Thread.sleep(1);
+                  } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                  }
+                  inFlight.decrementAndGet();
+                  return "r" + i;
+                });
+
+    assertAll(
+        () ->
+            assertThat(results)
+                .containsExactlyElementsIn(
+                    items.stream().map(i -> "r" + i).collect(Collectors.toList()))
+                .inOrder(),
+        () -> assertThat(maxInFlight.get()).isAtMost(4));
+  }
+
+  @Test
+  public void mapConcurrently_failureIsThrown() {
+    List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                UrlSigner.create()
+                    .mapConcurrently(
+                        items,
+                        8,
+                        i -> {
+                          if (i == 42) {
+                            throw new IllegalArgumentException("kaboom");
+                          }
+                          return i;
+                        }));
+
+    assertThat(e).hasMessageThat().isEqualTo("kaboom");
+  }
+
+  @Test
+  public void mapConcurrently_threadsAreReusedAcrossCalls() throws Exception {
+    UrlSigner urlSigner = new UrlSigner(UrlSigner.DEFAULT_CACHE_WINDOW, 10, 2);
+    List<Integer> items = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+    for (int i = 0; i < 5; i++) {
+      urlSigner.mapConcurrently(items, 2, item -> threads.add(Thread.currentThread()));
+    }
+
+    assertThat(threads.size()).isAtMost(2);
+  }
+
+  private static final class CountingSigner implements ServiceAccountSigner {
+    private final AtomicInteger count = new AtomicInteger();
+
+    @Override
+    public String getAccount() {
+      return "test@example.com";
+    }
+
+    @Override
+    public byte[] sign(byte[] toSign) {
+      count.incrementAndGet();
+      return ("sig:" + new String(toSign, UTF_8)).getBytes(UTF_8);
+    }
+  }
+}
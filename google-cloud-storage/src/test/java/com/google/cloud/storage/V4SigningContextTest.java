@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.google.cloud.storage.Storage.SignUrlOption.SignatureVersion;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.hash.Hashing;
+import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+
+public final class V4SigningContextTest {
+
+  private static final String QUERY_STRING =
+      "X-Goog-Algorithm=GOOG4-RSA-SHA256&X-Goog-Credential=me%40google.com%2F20010909%2F"
+          + "auto%2Fstorage%2Fgoog4_request&X-Goog-Date=20010909T014640Z&X-Goog-Expires=10"
+          + "&X-Goog-SignedHeaders=host%3Bx-goog-meta-owner";
+
+  private final V4SigningContext ctx =
+      new SignatureInfo.Builder(HttpMethod.PUT, 10L, URI.create("/b/o"))
+          .setSignatureVersion(SignatureVersion.V4)
+          .setAccountEmail("me@google.com")
+          .setTimestamp(1000000000000L)
+          .setCanonicalizedExtensionHeaders(
+              ImmutableMap.of(
+                  "host", "storage.googleapis.com", "x-goog-meta-owner", "  my   self "))
+          .build()
+          .v4SigningContext();
+
+  @Test
+  public void queryString() {
+    assertThat(ctx.getQueryString()).isEqualTo(QUERY_STRING);
+  }
+
+  @Test
+  public void unsignedPayload_differentResources() throws Exception {
+    assertAll(
+        () ->
+            assertThat(ctx.constructUnsignedPayload(URI.create("/b/o")))
+                .isEqualTo(expected("/b/o")),
+        () ->
+            assertThat(ctx.constructUnsignedPayload(URI.create("/b/a/much/longer/object/name")))
+                .isEqualTo(expected("/b/a/much/longer/object/name")),
+        () ->
+            assertThat(ctx.constructUnsignedPayload(URI.create("/b/%C3%A9t%C3%A9")))
+                .isEqualTo(expected("/b/%C3%A9t%C3%A9")),
+        // non-ascii characters of the resource are hashed as utf-8
+        () ->
+            assertThat(ctx.constructUnsignedPayload(URI.create("/b/été😀")))
+                .isEqualTo(expected("/b/été😀")));
+  }
+
+  @Test
+  public void unsignedPayload_concurrentUse() throws Exception {
+    ExecutorService exec = Executors.newFixedThreadPool(4);
+    try {
+      Future<?>[] futures = new Future<?>[8];
+      for (int i = 0; i < futures.length; i++) {
+        String path = "/b/object-" + i;
+        futures[i] =
+            exec.submit(
+                () -> {
+                  for (int j = 0; j < 1000; j++) {
+                    assertThat(ctx.constructUnsignedPayload(URI.create(path)))
+                        .isEqualTo(expected(path));
+                  }
+                });
+      }
+      for (Future<?> f : futures) {
+        f.get();
+      }
+    } finally {
+      exec.shutdownNow();
+    }
+  }
+
+  private static String expected(String path) {
+    String canonicalRequest =
+        "PUT\n"
+            + path
+            + "\n"
+            + QUERY_STRING
+            + "\n"
+            + "host:storage.googleapis.com\n"
+            + "x-goog-meta-owner:my self\n"
+            + "\n"
+            + "host;x-goog-meta-owner\n"
+            + "UNSIGNED-PAYLOAD";
+    return "GOOG4-RSA-SHA256\n"
+        + "20010909T014640Z\n"
+        + "20010909/auto/storage/goog4_request\n"
+        + Hashing.sha256().hashString(canonicalRequest, UTF_8);
+  }
+}
@@ -28,12 +28,14 @@ import com.google.cloud.conformance.storage.v1.UrlStyle;
 import com.google.cloud.storage.Storage.SignUrlOption;
 import com.google.cloud.storage.testing.RemoteStorageHelper;
 import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
 import com.google.protobuf.Timestamp;
 import com.google.protobuf.util.JsonFormat;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -138,6 +140,46 @@ public class V4SigningTest {
     assertThat(actual).isEqualTo(expected);
   }
 
+  @Test
+  public void signUrls() {
+    Storage storage =
+        RemoteStorageHelper.create().getOptions().toBuilder()
+            .setCredentials(serviceAccountCredentials)
+            .setClock(new FakeClock(testData.getTimestamp()))
+            .build()
+            .getService();
+
+    BlobInfo blob = BlobInfo.newBuilder(testData.getBucket(), testData.getObject()).build();
+
+    SignUrlOption style = SignUrlOption.withPathStyle();
+
+    if (testData.getUrlStyle().equals(UrlStyle.VIRTUAL_HOSTED_STYLE)) {
+      style = SignUrlOption.withVirtualHostedStyle();
+    } else if (testData.getUrlStyle().equals(UrlStyle.BUCKET_BOUND_HOSTNAME)) {
+      style =
+          SignUrlOption.withBucketBoundHostname(
+              testData.getBucketBoundHostname(),
+              Storage.UriScheme.valueOf(testData.getScheme().toUpperCase()));
+    }
+
+    List<URL> signedUrls =
+        storage.signUrls(
+            ImmutableList.of(blob, blob, blob),
+            testData.getExpiration(),
+            TimeUnit.SECONDS,
+            SignUrlOption.httpMethod(HttpMethod.valueOf(testData.getMethod())),
+            SignUrlOption.withExtHeaders(testData.getHeadersMap()),
+            SignUrlOption.withV4Signature(),
+            SignUrlOption.withQueryParams(testData.getQueryParametersMap()),
+            style);
+    SmarterUrl expected = SmarterUrl.of(URI.create(testData.getExpectedUrl()));
+    List<SmarterUrl> actual =
+        signedUrls.stream()
+            .map(u -> SmarterUrl.of(URI.create(u.toString())))
+            .collect(Collectors.toList());
+    assertThat(actual).containsExactly(expected, expected, expected).inOrder();
+  }
+
   /**
    * Load all of the tests and return a {@code Collection<Object[]>} representing the set of tests.
    * Each entry in the returned collection is the set of parameters to the constructor of this test
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import com.google.cloud.NoCredentials;
+import com.google.cloud.storage.ParallelCompositeUploadBlobWriteSessionConfig.ExecutorSupplier;
+import com.google.cloud.storage.transfermanager.TransferManager;
+import com.google.cloud.storage.transfermanager.TransferManagerConfig;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public final class VirtualThreadsTest {
+
+  @Test
+  public void newThreadFactory_supported() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+
+    ThreadFactory factory = VirtualThreads.newThreadFactory("test-");
+    Thread t1 = factory.newThread(() -> {});
+    Thread t2 = factory.newThread(() -> {});
+    boolean isVirtual = (boolean) Thread.class.getMethod("isVirtual").invoke(t1);
+
+    assertAll(
+        () -> assertThat(isVirtual).isTrue(),
+        () -> assertThat(t1.getName()).isEqualTo("test-0"),
+        () -> assertThat(t2.getName()).isEqualTo("test-1"));
+  }
+
+  @Test
+  public void newThreadFactory_unsupported() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    assertThrows(
+        UnsupportedOperationException.class, () -> VirtualThreads.newThreadFactory("test-"));
+  }
+
+  @Test
+  public void executorSupplier_supported() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+
+    ExecutorService executor = (ExecutorService) ExecutorSupplier.virtualThreads().get();
+    try {
+      boolean isVirtual =
+          executor
+              .submit(
+                  () ->
+                      (boolean) Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()))
+              .get();
+      assertThat(isVirtual).isTrue();
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void executorSupplier_unsupported() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    assertThrows(
+        UnsupportedOperationException.class, () -> ExecutorSupplier.virtualThreads().get());
+  }
+
+  @Test
+  public void transferManager_supported() throws Exception {
+    assumeTrue(VirtualThreads.isSupported());
+
+    TransferManagerConfig config = transferManagerConfig();
+    try (TransferManager tm = config.getService()) {
+      assertThat(config.isUseVirtualThreads()).isTrue();
+    }
+  }
+
+  @Test
+  public void transferManager_unsupported() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    TransferManagerConfig config = transferManagerConfig();
+    assertThrows(UnsupportedOperationException.class, config::getService);
+  }
+
+  @Test
+  public void transferManagerConfig_toBuilder() {
+    TransferManagerConfig config = transferManagerConfig();
+
+    assertThat(config.toBuilder().build()).isEqualTo(config);
+  }
+
+  @Test
+  public void storageOptions_unsupported() {
+    assumeFalse(VirtualThreads.isSupported());
+
+    StorageOptions http =
+        StorageOptions.http()
+            .setProjectId("proj")
+            .setCredentials(NoCredentials.getInstance())
+            .setUseVirtualThreads(true)
+            .build();
+    assertThrows(UnsupportedOperationException.class, http::getService);
+  }
+
+  @Test
+  public void storageOptions_toBuilder() throws Exception {
+    StorageOptions http = StorageOptions.http().setUseVirtualThreads(true).build();
+    StorageOptions grpc = StorageOptions.grpc().setUseVirtualThreads(true).build();
+
+    assertAll(
+        () -> assertThat(http.isUseVirtualThreads()).isTrue(),
+        () -> assertThat(http.toBuilder().build()).isEqualTo(http),
+        () -> assertThat(grpc.isUseVirtualThreads()).isTrue(),
+        () -> assertThat(grpc.toBuilder().build()).isEqualTo(grpc),
+        () -> assertThat(StorageOptions.http().build().isUseVirtualThreads()).isFalse());
+  }
+
+  @Test
+  public void bounded_limitsConcurrency() throws Exception {
+    ExecutorService executor = VirtualThreads.bounded(Executors.newCachedThreadPool(), 3);
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                  Thread.sleep(1);
+                  inFlight.decrementAndGet();
+                  return null;
+                }));
+      }
+      for (Future<?> f : futures) {
+        f.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(maxInFlight.get()).isEqualTo(3);
+  }
+
+  @Test
+  public void bounded_shutdownNowCancelsWaitingTasks() throws Exception {
+    ExecutorService executor = VirtualThreads.bounded(Executors.newCachedThreadPool(), 1);
+    CountDownLatch running = new CountDownLatch(1);
+    Future<?> blocking =
+        executor.submit(
+            () -> {
+              running.countDown();
+              Thread.sleep(Long.MAX_VALUE);
+              return null;
+            });
+    Future<?> waiting = executor.submit(() -> {});
+    running.await();
+
+    executor.shutdownNow();
+
+    assertAll(
+        () -> assertThrows(CancellationException.class, () -> waiting.get(10, TimeUnit.SECONDS)),
+        () -> assertThrows(ExecutionException.class, () -> blocking.get(10, TimeUnit.SECONDS)),
+        () -> assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue());
+  }
+
+  private static TransferManagerConfig transferManagerConfig() {
+    return TransferManagerConfig.newBuilder()
+        .setUseVirtualThreads(true)
+        .setStorageOptions(
+            StorageOptions.http()
+                .setProjectId("proj")
+                .setCredentials(NoCredentials.getInstance())
+                .build())
+        .build();
+  }
+}
@@ -29,6 +29,7 @@ import com.google.cloud.storage.BlobAppendableUploadConfig;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.BlobReadSession;
+import com.google.cloud.storage.BlobSummary;
 import com.google.cloud.storage.BlobWriteSession;
 import com.google.cloud.storage.Bucket;
 import com.google.cloud.storage.BucketInfo;
@@ -52,6 +53,7 @@ import java.net.URL;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Define a simplistic class which implements {@link Storage} while also delegating all calls to an
@@ -158,6 +160,11 @@ abstract class AbstractStorageProxy implements Storage {
     return delegate.list(bucket, options);
   }
 
+  @Override
+  public Stream<BlobSummary> listSummaries(String bucket, BlobListOption... options) {
+    return delegate.listSummaries(bucket, options);
+  }
+
   @Override
   public Bucket update(BucketInfo bucketInfo, BucketTargetOption... options) {
     return delegate.update(bucketInfo, options);
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.transfermanager.CopyCheckpoints.Checkpoint;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class CopyCheckpointsTest {
+
+  @Rule public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void roundTrip() throws Exception {
+    CopyCheckpoints checkpoints = new CopyCheckpoints(temp.getRoot().toPath().resolve("ckpt"));
+    BlobInfo source = BlobInfo.newBuilder("b", "some/object", 3L).build();
+
+    BlobId destination = BlobId.of("b2", "other/object");
+    checkpoints.save(Checkpoint.inProgress(source, destination, "token-1"));
+    Checkpoint inProgress = checkpoints.load(source);
+    checkpoints.save(Checkpoint.done(source));
+    Checkpoint done = checkpoints.load(source);
+
+    assertAll(
+        () -> assertThat(inProgress.isDone()).isFalse(),
+        () -> assertThat(inProgress.getRewriteToken(destination)).isEqualTo("token-1"),
+        // a token is only valid for the destination it was issued for
+        () -> assertThat(inProgress.getRewriteToken(BlobId.of("b2", "elsewhere"))).isNull(),
+        () -> assertThat(done.isDone()).isTrue(),
+        () -> assertThat(done.getRewriteToken(destination)).isNull(),
+        // only the checkpoint remains, no temporary files
+        () -> assertThat(count(temp.getRoot().toPath().resolve("ckpt"))).isEqualTo(1));
+  }
+
+  @Test
+  public void onlyTokenAndDestinationArePersisted() throws Exception {
+    Path dir = temp.getRoot().toPath();
+    CopyCheckpoints checkpoints = new CopyCheckpoints(dir);
+    BlobInfo source = BlobInfo.newBuilder("b", "o", 3L).build();
+    checkpoints.save(Checkpoint.inProgress(source, BlobId.of("b2", "o2"), "token-1"));
+
+    byte[] bytes;
+    try (Stream<Path> files = Files.list(dir)) {
+      bytes = Files.readAllBytes(files.findFirst().get());
+    }
+    String contents = new String(bytes, StandardCharsets.ISO_8859_1);
+    assertAll(
+        () -> assertThat(contents).contains("token-1"),
+        () -> assertThat(contents).contains("o2"),
+        // not a serialized java object, which could carry the client options
+        () -> assertThat(contents).doesNotContain("java.lang"));
+  }
+
+  @Test
+  public void differentGenerationIsIgnored() throws Exception {
+    CopyCheckpoints checkpoints = new CopyCheckpoints(temp.getRoot().toPath());
+    checkpoints.save(Checkpoint.done(BlobInfo.newBuilder("b", "o", 3L).build()));
+
+    assertAll(
+        () -> assertThat(checkpoints.load(BlobInfo.newBuilder("b", "o", 4L).build())).isNull(),
+        () -> assertThat(checkpoints.load(BlobInfo.newBuilder("b", "o2", 3L).build())).isNull());
+  }
+
+  @Test
+  public void corruptCheckpointIsIgnored() throws Exception {
+    Path dir = temp.getRoot().toPath();
+    CopyCheckpoints checkpoints = new CopyCheckpoints(dir);
+    BlobInfo source = BlobInfo.newBuilder("b", "o", 3L).build();
+    checkpoints.save(Checkpoint.done(source));
+    try (Stream<Path> files = Files.list(dir)) {
+      Path file = files.findFirst().get();
+      Files.write(file, new byte[] {1, 2, 3});
+    }
+
+    assertThat(checkpoints.load(source)).isNull();
+  }
+
+  @Test
+  public void config_validation() throws Exception {
+    assertAll(
+        () ->
+            assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    ParallelCopyConfig.newBuilder()
+                        .setSourceBucketName("a")
+                        .setDestinationBucketName("b")
+                        .setMaxBytesRewrittenPerCall(1000)
+                        .build()),
+        () ->
+            assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    ParallelCopyConfig.newBuilder()
+                        .setSourceBucketName("a")
+                        .setDestinationBucketName("a")
+                        .build()),
+        () ->
+            assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    ParallelCopyConfig.newBuilder()
+                        .setSourceBucketName("a")
+                        .setPrefix("p/")
+                        .setDestinationBucketName("a")
+                        .setDestinationPrefix("p/copy/")
+                        .build()),
+        () ->
+            assertThrows(
+                IllegalArgumentException.class,
+                () ->
+                    ParallelCopyConfig.newBuilder()
+                        .setSourceBucketName("a")
+                        .setPrefix("p/")
+                        .setDestinationBucketName("a")
+                        .setDestinationPrefix("")
+                        .build()),
+        () ->
+            assertThat(
+                    ParallelCopyConfig.newBuilder()
+                        .setSourceBucketName("a")
+                        .setPrefix("p/")
+                        .setDestinationBucketName("a")
+                        .setDestinationPrefix("q/")
+                        .build()
+                        .getDestinationPrefix())
+                .isEqualTo("q/"),
+        () ->
+            assertThat(
+                    ParallelCopyConfig.newBuilder()
+                        .setSourceBucketName("a")
+                        .setPrefix("p/")
+                        .setDestinationBucketName("b")
+                        .build()
+                        .getDestinationPrefix())
+                .isEqualTo("p/"));
+  }
+
+  private static long count(Path dir) throws Exception {
+    try (Stream<Path> files = Files.list(dir)) {
+      return files.count();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+
+import java.nio.charset.StandardCharsets;
+import net.jqwik.api.Arbitraries;
+import net.jqwik.api.Arbitrary;
+import net.jqwik.api.Assume;
+import net.jqwik.api.Example;
+import net.jqwik.api.ForAll;
+import net.jqwik.api.Property;
+import net.jqwik.api.Provide;
+
+final class KeyRangesPropertyTest {
+
+  @Property
+  void compareMatchesUtf8ByteOrder(@ForAll("names") String a, @ForAll("names") String b) {
+    int expected = Integer.signum(compareUtf8(a, b));
+    assertThat(Integer.signum(KeyRanges.compare(a, b))).isEqualTo(expected);
+  }
+
+  @Property
+  void midpointIsStrictlyBetween(@ForAll("names") String a, @ForAll("names") String b) {
+    Assume.that(KeyRanges.compare(a, b) < 0);
+    String mid = KeyRanges.midpoint(a, b);
+    if (mid != null) {
+      assertWithMessage("%s < %s", a, mid).that(KeyRanges.compare(a, mid)).isLessThan(0);
+      assertWithMessage("%s < %s", mid, b).that(KeyRanges.compare(mid, b)).isLessThan(0);
+      assertThat(isValid(mid)).isTrue();
+    }
+  }
+
+  @Property
+  void midpointUnbounded(@ForAll("names") String a) {
+    String mid = KeyRanges.midpoint(a, null);
+    assertThat(mid).isNotNull();
+    assertThat(KeyRanges.compare(a, mid)).isLessThan(0);
+    assertThat(isValid(mid)).isTrue();
+  }
+
+  @Property
+  void prefixUpperBound(@ForAll("names") String prefix, @ForAll("names") String suffix) {
+    String bound = KeyRanges.prefixUpperBound(prefix);
+    if (bound == null) {
+      assertThat(prefix.isEmpty()).isTrue();
+    } else {
+      assertThat(KeyRanges.compare(prefix + suffix, bound)).isLessThan(0);
+      assertThat(KeyRanges.compare(prefix, bound)).isLessThan(0);
+    }
+  }
+
+  @Example
+  void midpoint_splitsAsciiSpace() {
+    assertThat(KeyRanges.midpoint("", null)).isEqualTo("O");
+    assertThat(KeyRanges.midpoint("a", "c")).isEqualTo("b");
+    assertThat(KeyRanges.midpoint("a", "b")).isEqualTo("aO");
+    assertThat(KeyRanges.midpoint("a", "a\u0000")).isNull();
+  }
+
+  @Provide
+  Arbitrary<String> names() {
+    return Arbitraries.oneOf(
+        Arbitraries.strings().withCharRange('a', 'e').ofMaxLength(4),
+        Arbitraries.strings().ascii().ofMaxLength(6),
+        Arbitraries.strings().all().ofMaxLength(4).filter(KeyRangesPropertyTest::isValid));
+  }
+
+  private static boolean isValid(String s) {
+    return StandardCharsets.UTF_8.newEncoder().canEncode(s);
+  }
+
+  private static int compareUtf8(String a, String b) {
+    byte[] x = a.getBytes(StandardCharsets.UTF_8);
+    byte[] y = b.getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < Math.min(x.length, y.length); i++) {
+      int c = Integer.compare(x[i] & 0xff, y[i] & 0xff);
+      if (c != 0) {
+        return c;
+      }
+    }
+    return Integer.compare(x.length, y.length);
+  }
+}
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.Assert.assertThrows;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.StorageException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.checkerframework.checker.nullness.qual.Nullable;
+import org.junit.Test;
+
+public final class ParallelListingTest {
+
+  private static final ImmutableList<String> NAMES =
+      IntStream.range(0, 500)
+          .mapToObj(i -> String.format("%s/%04d", (char) ('a' + i % 7), i))
+          .sorted(KeyRanges::compare)
+          .collect(ImmutableList.toImmutableList());
+
+  @Test
+  public void unordered_returnsEachObjectExactlyOnce() {
+    FakeBucket bucket = new FakeBucket(NAMES, 7);
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder().setBucketName("b").setQueueCapacity(5).build();
+
+    List<String> actual = names(ParallelListing.start(bucket, producers(4), 4, config));
+
+    assertThat(actual).containsExactlyElementsIn(NAMES);
+    // the listing must have been split in order to be performed in parallel
+    assertThat(bucket.rangeRequests.get()).isGreaterThan(1);
+  }
+
+  @Test
+  public void ordered_returnsObjectsInOrder() {
+    FakeBucket bucket = new FakeBucket(NAMES, 7);
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder()
+            .setBucketName("b")
+            .setOrdered(true)
+            .setQueueCapacity(5)
+            .build();
+
+    List<String> actual = names(ParallelListing.start(bucket, producers(4), 4, config));
+
+    assertThat(actual).containsExactlyElementsIn(NAMES).inOrder();
+    assertThat(bucket.rangeRequests.get()).isGreaterThan(1);
+  }
+
+  @Test
+  public void boundsAreHonored() {
+    FakeBucket bucket = new FakeBucket(NAMES, 3);
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder()
+            .setBucketName("b")
+            .setPrefix("c/")
+            .setStartOffset("c/0100")
+            .setEndOffset("c/0400")
+            .setOrdered(true)
+            .build();
+
+    List<String> actual = names(ParallelListing.start(bucket, producers(4), 4, config));
+
+    List<String> expected =
+        NAMES.stream()
+            .filter(n -> n.startsWith("c/"))
+            .filter(n -> KeyRanges.compare(n, "c/0100") >= 0 && KeyRanges.compare(n, "c/0400") < 0)
+            .collect(Collectors.toList());
+    assertThat(actual).containsExactlyElementsIn(expected).inOrder();
+  }
+
+  @Test
+  public void emptyListing() {
+    FakeBucket bucket = new FakeBucket(ImmutableList.of(), 3);
+    ParallelListConfig config = ParallelListConfig.newBuilder().setBucketName("b").build();
+
+    assertThat(names(ParallelListing.start(bucket, producers(4), 4, config))).isEmpty();
+  }
+
+  @Test
+  public void failureIsThrownToConsumer() {
+    FakeBucket bucket = new FakeBucket(NAMES, 7);
+    bucket.failAfterRequests = 3;
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder().setBucketName("b").setQueueCapacity(5).build();
+
+    StorageException e =
+        assertThrows(
+            StorageException.class,
+            () -> names(ParallelListing.start(bucket, producers(4), 4, config)));
+    assertThat(e.getCode()).isEqualTo(503);
+  }
+
+  @Test
+  public void close_stopsListing() {
+    FakeBucket bucket = new FakeBucket(NAMES, 7);
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder()
+            .setBucketName("b")
+            .setOrdered(true)
+            .setQueueCapacity(1)
+            .build();
+
+    ParallelListing listing = ParallelListing.start(bucket, producers(4), 4, config);
+    assertThat(listing.next().getName()).isEqualTo(NAMES.get(0));
+    listing.close();
+
+    List<String> remaining = names(listing);
+    // at most the single result already buffered may be returned after close
+    assertThat(remaining.size()).isAtMost(1);
+  }
+
+  @Test
+  public void cancel_failsConsumer() {
+    FakeBucket bucket = new FakeBucket(NAMES, 7);
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder()
+            .setBucketName("b")
+            .setOrdered(true)
+            .setQueueCapacity(1)
+            .build();
+
+    ParallelListing listing = ParallelListing.start(bucket, producers(4), 4, config);
+    assertThat(listing.next().getName()).isEqualTo(NAMES.get(0));
+    listing.cancel(new CancellationException("closed"));
+
+    StorageException e = assertThrows(StorageException.class, () -> names(listing));
+    assertThat(e).hasCauseThat().isInstanceOf(CancellationException.class);
+  }
+
+  @Test
+  public void consumerOnSaturatedPoolIsNotStarved() throws Exception {
+    FakeBucket bucket = new FakeBucket(NAMES, 7);
+    ParallelListConfig config =
+        ParallelListConfig.newBuilder()
+            .setBucketName("b")
+            .setOrdered(true)
+            .setQueueCapacity(1)
+            .build();
+
+    // the only worker of the pool is the consumer, producers must not need a thread from it
+    ExecutorService pool = Executors.newSingleThreadExecutor();
+    try {
+      Future<List<String>> actual =
+          pool.submit(() -> names(ParallelListing.start(bucket, producers(4), 4, config)));
+      assertThat(actual.get(30, TimeUnit.SECONDS)).containsExactlyElementsIn(NAMES).inOrder();
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static ExecutorService producers(int maxRanges) {
+    return Executors.newFixedThreadPool(
+        maxRanges, new ThreadFactoryBuilder().setDaemon(true).build());
+  }
+
+  private static List<String> names(Iterator<BlobInfo> it) {
+    List<String> names = new ArrayList<>();
+    it.forEachRemaining(i -> names.add(i.getName()));
+    return names;
+  }
+
+  /** An in memory bucket which honors startOffset and endOffset and pages its results */
+  private static final class FakeBucket implements ParallelListing.PageSource {
+    private final List<String> names;
+    private final int pageSize;
+    private final AtomicInteger rangeRequests = new AtomicInteger();
+    private final AtomicInteger pageRequests = new AtomicInteger();
+    private volatile int failAfterRequests = Integer.MAX_VALUE;
+
+    private FakeBucket(List<String> names, int pageSize) {
+      this.names = names;
+      this.pageSize = pageSize;
+    }
+
+    @Override
+    public Page<? extends BlobInfo> list(@Nullable String startOffset, @Nullable String endOffset) {
+      rangeRequests.incrementAndGet();
+      List<BlobInfo> matching =
+          names.stream()
+              .filter(n -> startOffset == null || KeyRanges.compare(n, startOffset) >= 0)
+              .filter(n -> endOffset == null || KeyRanges.compare(n, endOffset) < 0)
+              .map(n -> BlobInfo.newBuilder(BlobId.of("b", n)).build())
+              .collect(Collectors.toList());
+      return page(matching, 0);
+    }
+
+    private FakePage page(List<BlobInfo> matching, int offset) {
+      if (pageRequests.incrementAndGet() > failAfterRequests) {
+        throw new StorageException(503, "Unavailable");
+      }
+      return new FakePage(this, matching, offset);
+    }
+  }
+
+  private static final class FakePage implements Page<BlobInfo> {
+    private final FakeBucket bucket;
+    private final List<BlobInfo> all;
+    private final int offset;
+
+    private FakePage(FakeBucket bucket, List<BlobInfo> all, int offset) {
+      this.bucket = bucket;
+      this.all = all;
+      this.offset = offset;
+    }
+
+    @Override
+    public boolean hasNextPage() {
+      return offset + bucket.pageSize < all.size();
+    }
+
+    @Override
+    public String getNextPageToken() {
+      return hasNextPage() ? Integer.toString(offset + bucket.pageSize) : "";
+    }
+
+    @Override
+    public Page<BlobInfo> getNextPage() {
+      return hasNextPage() ? bucket.page(all, offset + bucket.pageSize) : null;
+    }
+
+    @Override
+    public Iterable<BlobInfo> iterateAll() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Iterable<BlobInfo> getValues() {
+      return all.subList(offset, Math.min(all.size(), offset + bucket.pageSize));
+    }
+  }
+}
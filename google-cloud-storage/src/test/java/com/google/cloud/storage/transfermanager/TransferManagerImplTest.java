@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Crc32cAccumulator;
+import com.google.cloud.storage.StorageException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.google.common.io.BaseEncoding;
+import com.google.common.primitives.Ints;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.Test;
+
+public final class TransferManagerImplTest {
+
+  private static final byte[] CONTENT =
+      "abcdefghijklmnopqrstuvwxyz0123456789".getBytes(StandardCharsets.UTF_8);
+
+  private static final BlobInfo BLOB =
+      BlobInfo.newBuilder("b", "o", 1L).setCrc32c(crc32c(CONTENT, 0, CONTENT.length)).build();
+
+  private static final DownloadResult SUCCESS =
+      DownloadResult.newBuilder(BLOB, TransferStatus.SUCCESS)
+          .setOutputDestination(Paths.get("o"))
+          .build();
+
+  @Test
+  public void validateCrc32c_match() {
+    DownloadResult result =
+        TransferManagerImpl.validateCrc32c(BLOB, segments(CONTENT, 10), SUCCESS);
+
+    assertThat(result).isSameInstanceAs(SUCCESS);
+  }
+
+  @Test
+  public void validateCrc32c_mismatch() {
+    byte[] corrupt = CONTENT.clone();
+    corrupt[17] ^= 1;
+
+    DownloadResult result =
+        TransferManagerImpl.validateCrc32c(BLOB, segments(corrupt, 10), SUCCESS);
+
+    assertThat(result.getStatus()).isEqualTo(TransferStatus.FAILED_TO_FINISH);
+    assertThat(result.getException()).isInstanceOf(StorageException.class);
+    assertThat(result.getException()).hasMessageThat().contains("Mismatch checksum value");
+  }
+
+  @Test
+  public void validateCrc32c_segmentsOutOfOrder() {
+    List<DownloadSegment> segments = segments(CONTENT, 10);
+    List<DownloadSegment> reordered =
+        ImmutableList.of(segments.get(1), segments.get(0), segments.get(2), segments.get(3));
+
+    DownloadResult result = TransferManagerImpl.validateCrc32c(BLOB, reordered, SUCCESS);
+
+    assertThat(result.getStatus()).isEqualTo(TransferStatus.FAILED_TO_FINISH);
+  }
+
+  @Test
+  public void validateCrc32c_failedResultIsNotValidated() {
+    DownloadResult failed =
+        DownloadResult.newBuilder(BLOB, TransferStatus.FAILED_TO_START)
+            .setException(new StorageException(0, "boom"))
+            .build();
+
+    DownloadResult result = TransferManagerImpl.validateCrc32c(BLOB, ImmutableList.of(), failed);
+
+    assertThat(result).isSameInstanceAs(failed);
+  }
+
+  @Test
+  public void validateCrc32c_noCrc32c() {
+    BlobInfo noCrc32c = BLOB.toBuilder().setCrc32c(null).build();
+
+    DownloadResult result =
+        TransferManagerImpl.validateCrc32c(noCrc32c, ImmutableList.of(), SUCCESS);
+
+    assertThat(result).isSameInstanceAs(SUCCESS);
+  }
+
+  /** Split {@code content} into segments of {@code segmentSize}, each with their own crc32c */
+  private static List<DownloadSegment> segments(byte[] content, int segmentSize) {
+    ImmutableList.Builder<DownloadSegment> segments = ImmutableList.builder();
+    for (int begin = 0; begin < content.length; begin += segmentSize) {
+      int length = Math.min(segmentSize, content.length - begin);
+      segments.add(
+          DownloadSegment.newBuilder(BLOB, TransferStatus.SUCCESS)
+              .setCrc32c(Crc32cAccumulator.create().update(ByteBuffer.wrap(content, begin, length)))
+              .setLength(length)
+              .build());
+    }
+    return segments.build();
+  }
+
+  private static String crc32c(byte[] bytes, int offset, int length) {
+    int crc32c = Hashing.crc32c().hashBytes(bytes, offset, length).asInt();
+    return BaseEncoding.base64().encode(Ints.toByteArray(crc32c));
+  }
+}
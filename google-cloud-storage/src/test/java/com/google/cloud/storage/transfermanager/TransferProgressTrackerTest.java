@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.transfermanager;
+
+import static com.google.cloud.storage.TestUtils.assertAll;
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.api.core.ApiFutures;
+import com.google.api.core.SettableApiFuture;
+import com.google.common.collect.ImmutableList;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public final class TransferProgressTrackerTest {
+
+  private static final long ONE_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  @Test
+  public void countsBytesAndCompletedTransfers() throws Exception {
+    AtomicLong clock = new AtomicLong(0);
+    TransferProgressTracker tracker = new TransferProgressTracker(clock::get);
+    SettableApiFuture<String> first = SettableApiFuture.create();
+    SettableApiFuture<String> second = SettableApiFuture.create();
+    tracker.expect(10L);
+    tracker.expect(20L);
+    tracker.track(first);
+    tracker.track(second);
+
+    tracker.addBytes(10);
+    first.set("done");
+    clock.addAndGet(2 * ONE_SECOND);
+    TransferProgress progress = tracker.snapshot();
+
+    assertAll(
+        () -> assertThat(progress.getBytesTransferred()).isEqualTo(10),
+        () -> assertThat(progress.getTotalBytes()).isEqualTo(30),
+        () -> assertThat(progress.getTransfersCompleted()).isEqualTo(1),
+        () -> assertThat(progress.getTotalTransfers()).isEqualTo(2),
+        () -> assertThat(progress.isDone()).isFalse(),
+        () -> assertThat(progress.getBytesPerSecond()).isEqualTo(5.0),
+        () -> assertThat(progress.getElapsed()).isEqualTo(Duration.ofSeconds(2)),
+        () -> assertThat(progress.getEstimatedTimeRemaining()).isEqualTo(Duration.ofSeconds(4)));
+  }
+
+  @Test
+  public void totalBytesUnknown_whenAnySizeUnknown() {
+    TransferProgressTracker tracker = new TransferProgressTracker(() -> 0);
+    tracker.expect(10L);
+    tracker.expect(null);
+
+    TransferProgress progress = tracker.snapshot();
+    assertThat(progress.getTotalBytes()).isNull();
+    assertThat(progress.getEstimatedTimeRemaining()).isNull();
+  }
+
+  @Test
+  public void rateOnlyReflectsTheMovingWindow() throws Exception {
+    AtomicLong clock = new AtomicLong(0);
+    TransferProgressTracker tracker = new TransferProgressTracker(clock::get);
+    tracker.expect(null);
+
+    // a fast start, followed by a slow steady state
+    tracker.addBytes(1_000_000);
+    for (int i = 0; i < 30; i++) {
+      clock.addAndGet(ONE_SECOND);
+      tracker.addBytes(100);
+      tracker.snapshot();
+    }
+    TransferProgress progress = tracker.snapshot();
+
+    assertAll(
+        () -> assertThat(progress.getBytesTransferred()).isEqualTo(1_003_000),
+        () -> assertThat(progress.getBytesPerSecond()).isEqualTo(100.0));
+  }
+
+  @Test
+  public void trackedChannelCountsBytesWritten() throws Exception {
+    TransferProgressTracker tracker = new TransferProgressTracker(() -> 0);
+    ByteArrayOutputStream baos = new ByteArrayOutputStream();
+    try (WritableByteChannel c = tracker.track(Channels.newChannel(baos))) {
+      c.write(ByteBuffer.wrap(new byte[17]));
+      c.write(ByteBuffer.wrap(new byte[5]));
+    }
+
+    assertThat(baos.size()).isEqualTo(22);
+    assertThat(tracker.snapshot().getBytesTransferred()).isEqualTo(22);
+  }
+
+  @Test
+  public void completionOf_countsEachResult() {
+    SettableApiFuture<String> pending = SettableApiFuture.create();
+    TransferProgressTracker tracker =
+        TransferProgressTracker.completionOf(
+            ImmutableList.of(ApiFutures.immediateFuture("done"), pending));
+
+    TransferProgress progress = tracker.snapshot();
+    assertThat(progress.getTransfersCompleted()).isEqualTo(1);
+    assertThat(progress.getTotalTransfers()).isEqualTo(2);
+    assertThat(progress.isDone()).isFalse();
+  }
+
+  @Test
+  public void listenerReceivesPeriodicAndFinalReports() throws Exception {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    try {
+      TransferProgressTracker tracker = new TransferProgressTracker();
+      SettableApiFuture<String> result = SettableApiFuture.create();
+      tracker.expect(4L);
+      tracker.track(result);
+      List<TransferProgress> reports = new CopyOnWriteArrayList<>();
+      SettableApiFuture<TransferProgress> last = SettableApiFuture.create();
+      tracker.reportTo(
+          p -> {
+            reports.add(p);
+            if (p.isDone()) {
+              last.set(p);
+            }
+            // a failing listener must not stop subsequent reports
+            throw new IllegalStateException("kaboom");
+          },
+          Duration.ofMillis(5),
+          ImmutableList.of(result),
+          scheduler);
+
+      tracker.addBytes(4);
+      while (reports.size() < 2) {
+        Thread.sleep(5);
+      }
+      result.set("done");
+      TransferProgress done = last.get(10, TimeUnit.SECONDS);
+      Thread.sleep(50);
+      int reportsAfterDone = reports.size();
+      Thread.sleep(50);
+
+      assertAll(
+          () -> assertThat(done.getBytesTransferred()).isEqualTo(4),
+          () -> assertThat(done.getTransfersCompleted()).isEqualTo(1),
+          () -> assertThat(done.getEstimatedTimeRemaining()).isEqualTo(Duration.ZERO),
+          () -> assertThat(reports.get(reports.size() - 1).isDone()).isTrue(),
+          () -> assertThat(reports).hasSize(reportsAfterDone));
+    } finally {
+      scheduler.shutdownNow();
+    }
+  }
+}
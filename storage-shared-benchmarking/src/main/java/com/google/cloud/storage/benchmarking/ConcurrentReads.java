@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.benchmarking;
+
+import static com.google.cloud.storage.benchmarking.StorageSharedBenchmarkingUtils.generateCloudMonitoringResult;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.DataGenerator;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobTargetOption;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Read a single object with {@code workers} concurrent streams, each blocking its own thread.
+ *
+ * <p>Run with {@code -virtual_threads} on Java 21+ to have each stream run on a virtual thread,
+ * allowing {@code -workers} to scale to 10k or more concurrent streams.
+ */
+class ConcurrentReads implements Callable<String> {
+  private final Storage storageClient;
+  private final ExecutorService executor;
+  private final String bucketName;
+  private final int objectSize;
+  private final PrintWriter pw;
+  private final String api;
+  private final int workers;
+
+  ConcurrentReads(
+      Storage storageClient,
+      ExecutorService executor,
+      String bucketName,
+      int objectSize,
+      PrintWriter pw,
+      String api,
+      int workers) {
+    this.storageClient = storageClient;
+    this.executor = executor;
+    this.bucketName = bucketName;
+    this.objectSize = objectSize;
+    this.pw = pw;
+    this.api = api;
+    this.workers = workers;
+  }
+
+  @Override
+  public String call() throws Exception {
+    String blobName = DataGenerator.base64Characters().genBytes(20).toString();
+    byte[] bytes = DataGenerator.base64Characters().genBytes(objectSize);
+    BlobInfo created =
+        storageClient.create(
+            BlobInfo.newBuilder(bucketName, blobName).build(),
+            bytes,
+            BlobTargetOption.doesNotExist());
+    try {
+      Clock clock = Clock.systemDefaultZone();
+      List<Future<Duration>> reads = new ArrayList<>(workers);
+      Instant startTime = clock.instant();
+      for (int i = 0; i < workers; i++) {
+        reads.add(executor.submit(() -> read(clock, created)));
+      }
+      for (Future<Duration> read : reads) {
+        printResult("CONCURRENT_READ", created, read.get());
+      }
+      Instant endTime = clock.instant();
+      printResult("CONCURRENT_READ_ALL", created, Duration.between(startTime, endTime));
+    } finally {
+      StorageSharedBenchmarkingUtils.cleanupObject(storageClient, created);
+    }
+    return "OK";
+  }
+
+  private Duration read(Clock clock, BlobInfo created) throws Exception {
+    Instant startTime = clock.instant();
+    ByteBuffer buf = ByteBuffer.allocate(64 * 1024);
+    try (ReadChannel r = storageClient.reader(created.getBlobId())) {
+      while (r.read(buf) != -1) {
+        buf.clear();
+      }
+    }
+    return Duration.between(startTime, clock.instant());
+  }
+
+  private void printResult(String op, BlobInfo created, Duration duration) {
+    pw.println(
+        generateCloudMonitoringResult(op, duration.toMillis(), created, api, workers)
+            .formatAsCustomMetric());
+  }
+}
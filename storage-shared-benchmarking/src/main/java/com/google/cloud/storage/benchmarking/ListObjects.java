@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.google.cloud.storage.benchmarking;
+
+import com.google.api.gax.paging.Page;
+import com.google.cloud.storage.Blob;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.BlobListOption;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List every object with {@code prefix}, with full metadata, iterating all pages on the calling
+ * thread.
+ *
+ * <p>Along with the latency and cpu time of the {@code LIST} op, when the JVM supports measuring
+ * thread allocations the average number of bytes allocated per listed object is reported as the
+ * latency of the {@code LIST_ALLOCATED_BYTES} op. Comparing runs against two versions of the
+ * library shows the allocation cost of decoding list responses.
+ */
+class ListObjects implements Callable<String> {
+  private final Storage storageClient;
+  private final String bucketName;
+  private final String prefix;
+  private final PrintWriter pw;
+  private final String api;
+
+  ListObjects(
+      Storage storageClient, String bucketName, String prefix, PrintWriter pw, String api) {
+    this.storageClient = storageClient;
+    this.bucketName = bucketName;
+    this.prefix = prefix;
+    this.pw = pw;
+    this.api = api;
+  }
+
+  @Override
+  public String call() throws Exception {
+    Clock clock = Clock.systemDefaultZone();
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    long startCpuNanos = threads.getCurrentThreadCpuTime();
+    long startAllocatedBytes = ThreadAllocations.allocatedBytes(threads);
+    Instant startTime = clock.instant();
+    long count = 0;
+    Page<Blob> page = storageClient.list(bucketName, BlobListOption.prefix(prefix));
+    while (page != null) {
+      for (Blob ignore : page.getValues()) {
+        count++;
+      }
+      page = page.getNextPage();
+    }
+    Duration elapsed = Duration.between(startTime, clock.instant());
+    long allocated = ThreadAllocations.allocatedBytes(threads) - startAllocatedBytes;
+    long cpuUs = TimeUnit.NANOSECONDS.toMicros(threads.getCurrentThreadCpuTime() - startCpuNanos);
+
+    printResult("LIST", count, elapsed.toMillis(), (int) Math.min(cpuUs, Integer.MAX_VALUE));
+    if (startAllocatedBytes >= 0 && allocated >= 0 && count > 0) {
+      printResult("LIST_ALLOCATED_BYTES", count, (double) allocated / count, -1);
+    }
+    return "OK";
+  }
+
+  private void printResult(String op, long count, double latency, int cpuTimeUs) {
+    pw.println(
+        CloudMonitoringResult.newBuilder()
+            .setLibrary("java")
+            .setApi(api)
+            .setOp(op)
+            .setWorkers(1)
+            .setCpuTimeUs(cpuTimeUs)
+            .setBucketName(bucketName)
+            .setStatus("OK")
+            .setTransferSize(String.valueOf(count))
+            .setLatency(latency)
+            .build()
+            .formatAsCustomMetric());
+  }
+}
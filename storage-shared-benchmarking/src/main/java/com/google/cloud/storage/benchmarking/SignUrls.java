@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.storage.benchmarking;
+
+import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.Storage.SignUrlOption;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URL;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sign a V4 url for each of {@code batchSize} objects, first one at a time with {@link
+ * Storage#signUrl(BlobInfo, long, TimeUnit, SignUrlOption...)} and then all at once with {@link
+ * Storage#signUrls(java.util.List, long, TimeUnit, SignUrlOption...)}.
+ *
+ * <p>{@code storageClient} is expected to be configured with credentials which hold a private key,
+ * so that only the local signing path is measured and no requests are sent.
+ *
+ * <p>When the JVM supports measuring thread allocations, the one at a time pass additionally
+ * reports the average number of bytes allocated to sign a single url as the latency of the {@code
+ * SIGN_URL_ALLOCATED_BYTES} op, along with the cpu time spent signing.
+ */
+class SignUrls implements Callable<String> {
+  private final Storage storageClient;
+  private final String bucketName;
+  private final int batchSize;
+  private final PrintWriter pw;
+  private final String api;
+  private final int workers;
+
+  SignUrls(
+      Storage storageClient,
+      String bucketName,
+      int batchSize,
+      PrintWriter pw,
+      String api,
+      int workers) {
+    this.storageClient = storageClient;
+    this.bucketName = bucketName;
+    this.batchSize = batchSize;
+    this.pw = pw;
+    this.api = api;
+    this.workers = workers;
+  }
+
+  @Override
+  public String call() throws Exception {
+    List<BlobInfo> blobs = new ArrayList<>(batchSize);
+    for (int i = 0; i < batchSize; i++) {
+      blobs.add(BlobInfo.newBuilder(bucketName, "sign-urls/object-" + i).build());
+    }
+    Clock clock = Clock.systemDefaultZone();
+
+    ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    long startCpuNanos = threads.getCurrentThreadCpuTime();
+    long startAllocatedBytes = ThreadAllocations.allocatedBytes(threads);
+    Instant startTime = clock.instant();
+    for (BlobInfo blob : blobs) {
+      storageClient.signUrl(blob, 1, TimeUnit.HOURS, SignUrlOption.withV4Signature());
+    }
+    Duration elapsed = Duration.between(startTime, clock.instant());
+    long allocated = ThreadAllocations.allocatedBytes(threads) - startAllocatedBytes;
+    long cpuUs = TimeUnit.NANOSECONDS.toMicros(threads.getCurrentThreadCpuTime() - startCpuNanos);
+    printResult("SIGN_URL", elapsed.toMillis(), (int) Math.min(cpuUs, Integer.MAX_VALUE));
+    if (startAllocatedBytes >= 0 && allocated >= 0) {
+      printResult("SIGN_URL_ALLOCATED_BYTES", (double) allocated / batchSize, -1);
+    }
+
+    startTime = clock.instant();
+    List<URL> urls =
+        storageClient.signUrls(
+            blobs,
+            1,
+            TimeUnit.HOURS,
+            SignUrlOption.withV4Signature(),
+            SignUrlOption.withSigningConcurrency(workers));
+    printResult("SIGN_URLS", Duration.between(startTime, clock.instant()).toMillis(), -1);
+    if (urls.size() != batchSize) {
+      throw new IllegalStateException("Expected " + batchSize + " urls but was " + urls.size());
+    }
+    return "OK";
+  }
+
+  private void printResult(String op, double latency, int cpuTimeUs) {
+    pw.println(
+        CloudMonitoringResult.newBuilder()
+            .setLibrary("java")
+            .setApi(api)
+            .setOp(op)
+            .setWorkers(workers)
+            .setCpuTimeUs(cpuTimeUs)
+            .setBucketName(bucketName)
+            .setStatus("OK")
+            .setTransferSize(String.valueOf(batchSize))
+            .setLatency(latency)
+            .build()
+            .formatAsCustomMetric());
+  }
+}
@@ -19,17 +19,22 @@ package com.google.cloud.storage.benchmarking;
 import com.google.api.core.ApiFuture;
 import com.google.api.core.ListenableFutureToApiFuture;
 import com.google.api.gax.retrying.RetrySettings;
+import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.cloud.storage.BlobWriteSessionConfigs;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
+import com.google.cloud.storage.VirtualThreads;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import java.io.PrintWriter;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
 import java.util.Random;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.regex.Pattern;
 import picocli.CommandLine;
@@ -91,6 +96,23 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
   @Option(names = "-bidi_enabled", description = "If bidi should be enabled")
   boolean bidiEnabled;
 
+  @Option(
+      names = "-virtual_threads",
+      description = "If concurrent reads should each run on a virtual thread, requires Java 21+")
+  boolean virtualThreads;
+
+  @Option(
+      names = "-sign_batch_size",
+      defaultValue = "10000",
+      description = "Number of urls signed per sample by the sign-urls workload")
+  int signBatchSize;
+
+  @Option(
+      names = "-list_prefix",
+      defaultValue = "",
+      description = "Prefix of the objects listed by the list-objects workload")
+  String listPrefix;
+
   Path tempDir;
 
   PrintWriter printWriter;
@@ -114,6 +136,15 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
       case "write-only":
         runWorkloadWriteOnly();
         break;
+      case "concurrent-read":
+        runWorkloadConcurrentRead();
+        break;
+      case "sign-urls":
+        runWorkloadSignUrls();
+        break;
+      case "list-objects":
+        runWorkloadListObjects();
+        break;
       default:
         throw new IllegalStateException("Specify a workload to run");
     }
@@ -184,6 +215,91 @@ public final class StorageSharedBenchmarkingCli implements Runnable {
     }
   }
 
+  private void runWorkloadConcurrentRead() {
+    StorageOptions options;
+    switch (api) {
+      case "JSON":
+        options = StorageOptions.newBuilder().setProjectId(project).build();
+        break;
+      case "GRPC":
+        options = StorageOptions.grpc().setProjectId(project).build();
+        break;
+      case "DirectPath":
+        options = StorageOptions.grpc().setProjectId(project).setAttemptDirectPath(true).build();
+        break;
+      default:
+        throw new IllegalStateException("Specify an API to use");
+    }
+    ExecutorService readExecutor =
+        virtualThreads
+            ? Executors.newCachedThreadPool(VirtualThreads.newThreadFactory("ssb-read-"))
+            : Executors.newFixedThreadPool(workers);
+    try (Storage storageClient = options.getService()) {
+      for (int i = 0; i < samples; i++) {
+        Range objectSizeRange = Range.of(objectSize);
+        int objectSize = getRandomInt(objectSizeRange.min, objectSizeRange.max);
+        new ConcurrentReads(
+                storageClient, readExecutor, bucket, objectSize, printWriter, api, workers)
+            .call();
+      }
+    } catch (Exception e) {
+      System.err.println("Failed to run workload concurrent-read: " + e.getMessage());
+      System.exit(1);
+    } finally {
+      readExecutor.shutdownNow();
+    }
+  }
+
+  private void runWorkloadSignUrls() {
+    // sign with a freshly generated key, measuring only local signing without any requests
+    ServiceAccountCredentials credentials;
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      credentials =
+          ServiceAccountCredentials.newBuilder()
+              .setClientEmail("ssb-sign-urls@" + project + ".iam.gserviceaccount.com")
+              .setPrivateKey(generator.generateKeyPair().getPrivate())
+              .setPrivateKeyId("ssb-sign-urls")
+              .setProjectId(project)
+              .build();
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+    StorageOptions options =
+        StorageOptions.http().setProjectId(project).setCredentials(credentials).build();
+    try (Storage storageClient = options.getService()) {
+      for (int i = 0; i < samples; i++) {
+        new SignUrls(storageClient, bucket, signBatchSize, printWriter, api, workers).call();
+      }
+    } catch (Exception e) {
+      System.err.println("Failed to run workload sign-urls: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
+  private void runWorkloadListObjects() {
+    StorageOptions options;
+    switch (api) {
+      case "JSON":
+        options = StorageOptions.http().setProjectId(project).build();
+        break;
+      case "GRPC":
+        options = StorageOptions.grpc().setProjectId(project).build();
+        break;
+      default:
+        throw new IllegalStateException("Specify an API to use");
+    }
+    try (Storage storageClient = options.getService()) {
+      for (int i = 0; i < samples; i++) {
+        new ListObjects(storageClient, bucket, listPrefix, printWriter, api).call();
+      }
+    } catch (Exception e) {
+      System.err.println("Failed to run workload list-objects: " + e.getMessage());
+      System.exit(1);
+    }
+  }
+
   private void runW1R3(Storage storageClient) throws ExecutionException, InterruptedException {
     ListeningExecutorService executorService =
         MoreExecutors.listeningDecorator(Executors.newFixedThreadPool(workers));